@@ -0,0 +1,50 @@
+package finergit;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ベンチマークの入力となるJavaファイル群（src/jmh/resources/corpus）を読み込むクラス．
+ */
+public class BenchmarkCorpus {
+
+  /**
+   * 小さい順に並べたファイル名．各ベンチマークの @Param に使う．
+   */
+  public static final String TINY = "Tiny.java";
+  public static final String MEDIUM = "FinerGitConfig.java";
+  public static final String LARGE = "JavaFileVisitor.java";
+  public static final String HUGE = "GeneratedLexer.java";
+
+  public static final String[] FILE_NAMES = {TINY, MEDIUM, LARGE, HUGE};
+
+  public static String read(final String fileName) {
+    try (final InputStream in = BenchmarkCorpus.class.getResourceAsStream("/corpus/" + fileName)) {
+      if (null == in) {
+        throw new IllegalArgumentException("unknown corpus file: " + fileName);
+      }
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * すべてのファイルを読み込む．キーはファイルパス．
+   */
+  public static Map<String, String> readAll() {
+    final Map<String, String> pathToTextMap = new LinkedHashMap<>();
+    for (final String fileName : FILE_NAMES) {
+      pathToTextMap.put(getPath(fileName), read(fileName));
+    }
+    return pathToTextMap;
+  }
+
+  public static String getPath(final String fileName) {
+    return "corpus/" + fileName;
+  }
+}
@@ -0,0 +1,79 @@
+package finergit;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jgit.internal.storage.dfs.DfsRepositoryDescription;
+import org.eclipse.jgit.internal.storage.dfs.InMemoryRepository;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import jp.ac.titech.c.se.stein.core.Context;
+import jp.ac.titech.c.se.stein.entry.AnyColdEntry;
+import jp.ac.titech.c.se.stein.entry.Entry;
+
+/**
+ * インメモリリポジトリ上で1つのJavaファイルのエントリを書き換える処理（読み込み〜書き込みまで）のベンチマーク．
+ * 毎回変換が行われるように，変換結果のキャッシュは無効にしている．
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinerGitRewriterBenchmark {
+
+  @Param({BenchmarkCorpus.TINY, BenchmarkCorpus.MEDIUM, BenchmarkCorpus.LARGE,
+      BenchmarkCorpus.HUGE})
+  public String fileName;
+
+  private InMemoryRepository repository;
+  private FinerGitRewriter rewriter;
+  private Entry entry;
+  private Context context;
+
+  @Setup
+  public void setUp() throws IOException {
+    this.repository = new InMemoryRepository(new DfsRepositoryDescription("benchmark"));
+    final ObjectId blobId;
+    try (final ObjectInserter inserter = this.repository.newObjectInserter()) {
+      blobId = inserter.insert(Constants.OBJ_BLOB, BenchmarkCorpus.read(this.fileName)
+          .getBytes(StandardCharsets.UTF_8));
+      inserter.flush();
+    }
+
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setNumberOfThreads("1");
+    config.setBlobCacheSize(0);
+    config.setModuleCacheSize(0);
+    this.rewriter = new FinerGitRewriter(config);
+    this.rewriter.initialize(this.repository, this.repository);
+    this.entry = Entry.of(FileMode.REGULAR_FILE.getBits(), this.fileName, blobId, "corpus");
+    this.context = Context.init();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.repository.close();
+  }
+
+  @Benchmark
+  public AnyColdEntry rewriteEntry() {
+    return this.rewriter.rewriteEntry(this.entry, this.context);
+  }
+}
@@ -0,0 +1,73 @@
+package finergit.ast;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import finergit.BenchmarkCorpus;
+import finergit.JavaVersion;
+
+/**
+ * 1ファイルの構文解析について，パーザとコンパイラオプションを毎回作る場合と使い回す場合を比べるベンチマーク．
+ * newParserAndOptions が以前の FinerJavaFileBuilder の方法，reusedParser が現在の方法である．
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ASTParserReuseBenchmark {
+
+  @Param({BenchmarkCorpus.TINY, BenchmarkCorpus.MEDIUM, BenchmarkCorpus.LARGE})
+  public String fileName;
+
+  private String path;
+  private char[] source;
+  private ASTParser parser;
+
+  @Setup
+  public void setUp() {
+    this.path = BenchmarkCorpus.getPath(this.fileName);
+    this.source = BenchmarkCorpus.read(this.fileName)
+        .toCharArray();
+    this.parser = ASTParser.newParser(AST.JLS25);
+  }
+
+  @Benchmark
+  public CompilationUnit newParserAndOptions() {
+    return this.parse(ASTParser.newParser(AST.JLS25), JavaVersion.V1_25.createOptions());
+  }
+
+  @Benchmark
+  public CompilationUnit newParser() {
+    return this.parse(ASTParser.newParser(AST.JLS25), JavaVersion.V1_25.getOptions());
+  }
+
+  @Benchmark
+  public CompilationUnit reusedParser() {
+    return this.parse(this.parser, JavaVersion.V1_25.getOptions());
+  }
+
+  private CompilationUnit parse(final ASTParser parser, final Map<String, String> options) {
+    parser.setCompilerOptions(options);
+    parser.setResolveBindings(false);
+    parser.setBindingsRecovery(false);
+    parser.setEnvironment(null, null, null, true);
+    parser.setUnitName(this.path);
+    parser.setSource(this.source);
+    return (CompilationUnit) parser.createAST(null);
+  }
+}
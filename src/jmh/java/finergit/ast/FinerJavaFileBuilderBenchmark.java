@@ -0,0 +1,49 @@
+package finergit.ast;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import finergit.BenchmarkCorpus;
+import finergit.FinerGitConfig;
+
+/**
+ * 1ファイルを細粒度モジュールに変換する処理（構文解析＋JavaFileVisitor）のベンチマーク．
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinerJavaFileBuilderBenchmark {
+
+  @Param({BenchmarkCorpus.TINY, BenchmarkCorpus.MEDIUM, BenchmarkCorpus.LARGE,
+      BenchmarkCorpus.HUGE})
+  public String fileName;
+
+  private FinerJavaFileBuilder builder;
+  private String path;
+  private String text;
+
+  @Setup
+  public void setUp() {
+    this.builder = new FinerJavaFileBuilder(new FinerGitConfig());
+    this.path = BenchmarkCorpus.getPath(this.fileName);
+    this.text = BenchmarkCorpus.read(this.fileName);
+  }
+
+  @Benchmark
+  public List<FinerJavaModule> getFinerJavaModules() {
+    return this.builder.getFinerJavaModules(this.path, this.text);
+  }
+}
@@ -0,0 +1,76 @@
+package finergit.ast;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import finergit.BenchmarkCorpus;
+import finergit.FinerGitConfig;
+import finergit.util.ByteArrayBuilder;
+
+/**
+ * 1ファイルから生成されたすべての細粒度モジュールのシリアライズとファイル名生成のベンチマーク．
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FinerJavaModuleBenchmark {
+
+  @Param({BenchmarkCorpus.TINY, BenchmarkCorpus.MEDIUM, BenchmarkCorpus.LARGE,
+      BenchmarkCorpus.HUGE})
+  public String fileName;
+
+  @Param({"false", "true"})
+  public String tokenTypeIncluded;
+
+  private List<FinerJavaModule> modules;
+  private ByteArrayBuilder buffer;
+
+  @Setup
+  public void setUp() {
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setClassFileGenerated("true");
+    config.setFieldFileGenerated("true");
+    config.setTokenTypeIncluded(this.tokenTypeIncluded);
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(config);
+    this.modules = builder.getFinerJavaModules(BenchmarkCorpus.getPath(this.fileName),
+        BenchmarkCorpus.read(this.fileName));
+    this.buffer = new ByteArrayBuilder();
+  }
+
+  @Benchmark
+  public void getLines(final Blackhole blackhole) {
+    for (final FinerJavaModule module : this.modules) {
+      blackhole.consume(module.getLines());
+    }
+  }
+
+  @Benchmark
+  public void writeTo(final Blackhole blackhole) {
+    for (final FinerJavaModule module : this.modules) {
+      this.buffer.reset();
+      module.writeTo(this.buffer);
+      blackhole.consume(this.buffer.length());
+    }
+  }
+
+  @Benchmark
+  public void getFileName(final Blackhole blackhole) {
+    for (final FinerJavaModule module : this.modules) {
+      blackhole.consume(module.getFileName());
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package finergit.ast;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import finergit.BenchmarkCorpus;
+import finergit.FinerGitConfig;
+
+/**
+ * 構文解析済みのASTに対する JavaFileVisitor の走査のみのベンチマーク．
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JavaFileVisitorBenchmark {
+
+  @Param({BenchmarkCorpus.TINY, BenchmarkCorpus.MEDIUM, BenchmarkCorpus.LARGE,
+      BenchmarkCorpus.HUGE})
+  public String fileName;
+
+  private FinerGitConfig config;
+  private Path path;
+  private CompilationUnit ast;
+
+  @Setup
+  public void setUp() {
+    this.config = new FinerGitConfig();
+    this.path = Paths.get(BenchmarkCorpus.getPath(this.fileName));
+    final ASTParser parser = ASTParser.newParser(AST.JLS25);
+    parser.setCompilerOptions(this.config.getJavaVersion()
+        .getOptions());
+    parser.setUnitName(this.path.toString());
+    parser.setSource(BenchmarkCorpus.read(this.fileName)
+        .toCharArray());
+    this.ast = (CompilationUnit) parser.createAST(null);
+  }
+
+  @Benchmark
+  public List<FinerJavaModule> visit() {
+    final JavaFileVisitor visitor = new JavaFileVisitor(this.path, this.config);
+    this.ast.accept(visitor);
+    return visitor.getFinerJavaModules();
+  }
+}
@@ -0,0 +1,20877 @@
+package corpus;
+
+/**
+ * Generated lexer tables and actions. DO NOT EDIT.
+ */
+public class GeneratedLexer {
+
+  private static final String TABLE_PACKED_0 =
+      "\115\205\63\247\126\15\322\320\46\64\100\243" +
+      "\362\346\322\152\146\242\253\250\332\57\373\317" +
+      "\51\151\174\21\147\60\52\141\201\221\234\203" +
+      "\123\74\13\210\167\160\171\34\6\231\217\106" +
+      "\253\345\116\214\335\120\124\317\75\100\333\260" +
+      "\162\73\32\143\337\130\130\51\72\226\1\241" +
+      "\315\352\33\124\74\351\252\6\45\67\57\252" +
+      "\203\53\232\26\15\143\160\6\120\14\105\237" +
+      "\100\326\214\67\306\62\157\172\145\163\61\232" +
+      "\100\307\107\52\345\371\1\133\140\237\317\60" +
+      "\227\151\272\230\111\62\2\215\37\306\277\220" +
+      "\312\354\62\42\360\154\5\43\256\7\133\216" +
+      "\226\63\1\25\154\151\317\50\270\220\342\31" +
+      "\106\300\313\311\202\1\352\56\373\243\165\146" +
+      "\225\346\254\302\151\32\262\105\56\274\12\74" +
+      "\364\172\110\227\3\107\272\263\113\11\165\335" +
+      "\345\176\310\306\224\227\52\374\211\264\100\356" +
+      "\170\370\102\265\247\110\77\211\23\141\275\310" +
+      "\155\235\361\133\105\101\214\14\47\127\255\214" +
+      "\175\242\53\112\207\204\61\103\233\46\375\24" +
+      "\26\363\361\310\60\104\237\326\127\351\342\367" +
+      "\116\133\141\147\224\74\141\344\315\357\42\234" +
+      "\72\157\151\234\152\223\337\362\60\272\175\136" +
+      "\276\225\115\5\253\301\113\221\101\41\133\22" +
+      "\73\217\325\55\142\342\343\320\26\131\130\60" +
+      "\376\230\121\174\214\167\74\60\344\335\253\171" +
+      "\125\34\347\55\14\222\17\202\267\206\235\315" +
+      "\40\272\7\37\133\120\165\44\341\327\25\0" +
+      "\157\307\354\57\222\355\227\250\65\344\140\114" +
+      "\74\21\264\137\147\134\163\225\0\77\32\162" +
+      "\332\301\215\256\103\243\33\5\57\363\132\113" +
+      "\153\262\100\113\225\63\127\233\356\150\53\74" +
+      "\117\15\117\264\235\272\13\205\15\344\0\243" +
+      "\222\360\350\237\32\14\21\53\12\235\327\217" +
+      "\353\217\53\333\44\14\311\10\204\7\42\2" +
+      "\241\64\375\334\65\252\15\6\74\21\165\347" +
+      "\177\262\276\43\74\41\175\200\346\354\377\26" +
+      "\24\354\52\135\120\156\175\146\172\222\24\103" +
+      "\261\351\240\340\374\0\231\74\270\145\221\113" +
+      "\133\36\167\202\133\21\5\66\140\66\363\352" +
+      "\213\164\36\336\177\221\251\236\175\262\373\332" +
+      "\41\150\150\157\376\357\246\114\351\314\41\14" +
+      "\111\362\157\30\367\203\1\67\354\24\163\74" +
+      "\10\104\45\162\306\16\257\150\203\216\240\157" +
+      "\164\325\30\201\5\171\341\255\327\247\275\51" +
+      "\55\312\362\133\211\100\46\115\26\105\164\74" +
+      "\14\154\56\251\172\26\371\165\106\311\67\353" +
+      "\201\150\31\243\311\44\333\342\331\325\77\161" +
+      "\175\240\60\13\140\2\25\254\126\326\257\31" +
+      "\166\115\205\232\362\221\64\247\45\165\350\161" +
+      "\222\7\156\303\74\152\56\340\316\366\325\153" +
+      "\105\54\105\311\367\35\351\177\57\304\244\43" +
+      "\52\276\102\157\24\24\176\102\17\67\101\204" +
+      "\363\334\202\126\356\137\106\26\142\71\265\357" +
+      "\360\247\31\243\250\304\65\11\341\134\43\342" +
+      "\100\144\242\334\140\123\263\26\113\232\262\206" +
+      "\42\173\307\377\33\5\13\364\271\166\311\50" +
+      "\360\241\151\340\62\315\55\66\136\332\312\112" +
+      "\231\107\222\224\273\132\335\275\256\214\155\173" +
+      "\252\73\2\220\371\104\255\361\157\274\230\160" +
+      "\253\227\343\50\117\205\63\223\153\372\51\214" +
+      "\366\106\302\53\26\21\231\214\117\20\125\252" +
+      "\21\200\14\201\333\374\26\37\104\23\107\124" +
+      "\11\305\215\70\167\35\126\35\63\216\221\113" +
+      "\74\236\321\74\162\64\41\120\21\321\307\16" +
+      "\32\312\264\314\131\102\17\201\246\3\234\370" +
+      "\345\200\237\176\74\73\122\213\57\167\215\352" +
+      "\230\236\174\50\213\23\223\52\233\120\357\216" +
+      "\331\40\51\277\361\166\46\103\364\220\265\43" +
+      "\205\314\156\346\330\242\230\300\4\267\362\121" +
+      "\271\14\350\343\367\342\343\377\242\264\234\36" +
+      "\64\251\6\56\364\263\103\342\133\110\102\73" +
+      "\13\372\200\227\201\227\116\104\156\376\243\121" +
+      "\52\374\330\320\173\333\6\26\213\300\267\33" +
+      "\50\345\133\62\343\201\234\246\147\25\3\157" +
+      "\255\57\24\372\250\114\15\174\352\360\325\17" +
+      "\52\231\353\311\50\235\157\254\167\351\63\234" +
+      "\260\220\307\207\325\351\272\36\252\42\54\377" +
+      "\311\242\133\275\331\230\213\337\355\310\144\34" +
+      "\20\320\34\217\37\127\70\166\112\10\340\73" +
+      "\17\101\261\120\153\31\205\340\206\6\317\67" +
+      "\356\103\335\277\136\67\270\276\232\273\356\224" +
+      "\371\164\330\377\326\223\57\50\14\126\53\267" +
+      "\332\274\33\75\153\316\124\330\71\204\110\207" +
+      "\260\73\173\233\154\153\313\377\367\326\331\32" +
+      "\132\355\75\32\143\170\150\310\173\125\120\175" +
+      "\314\51\156\220\1\163\71\234\377\114\255\136" +
+      "\336\107\25\17\256\372\271\133\370\47\331\274" +
+      "\0\73\42\204\67\223\140\154\224\32\16\162" +
+      "\120\160\222\321\177\332\250\320\107\134\236\70" +
+      "\53\266\22\57\72\301\300\237\46\15\362\201" +
+      "\300\117\120\126\113\161\356\356\222\304\302\21" +
+      "\360\62\311\53\76\27\165\173\166\307\246\30" +
+      "\313\3\167\363\252\153\233\4\261\176\131\222" +
+      "\165\27\341\260\371\337\266\142\310\213\305\275" +
+      "\60\220\126\211\136\331\112\43\176\103\212\261" +
+      "\270\271\17\126\311\345\105\50\112\224\334\312" +
+      "\247\244\65\30\120\265\272\242\164\156\327\141" +
+      "\140\232\15\174\307\62\55\26\313\302\204\101" +
+      "\234\333\72\345\123\305\372\352\165\205\75\205";
+
+  private static final String TABLE_PACKED_1 =
+      "\133\214\353\0\147\220\113\66\23\106\7\273" +
+      "\226\16\361\157\202\125\366\346\136\270\16\163" +
+      "\15\16\207\35\170\15\217\21\234\70\100\52" +
+      "\116\364\161\332\364\72\361\44\37\160\154\157" +
+      "\153\22\301\65\370\205\141\302\365\336\65\267" +
+      "\307\137\2\326\243\262\217\177\300\247\326\164" +
+      "\31\263\127\35\243\61\13\251\77\351\12\241" +
+      "\376\210\352\271\242\335\222\211\353\157\221\75" +
+      "\73\134\366\340\357\201\106\13\243\1\73\42" +
+      "\230\277\327\256\235\146\70\370\116\171\134\324" +
+      "\352\323\227\47\230\140\12\167\123\127\374\51" +
+      "\230\376\52\52\241\0\56\114\110\155\343\305" +
+      "\364\173\377\372\345\137\74\2\353\326\176\357" +
+      "\370\371\73\134\116\111\373\153\341\30\211\374" +
+      "\164\164\67\265\72\373\245\62\15\122\100\5" +
+      "\337\111\114\237\15\10\137\40\232\115\216\10" +
+      "\67\46\215\172\124\334\10\306\342\165\113\47" +
+      "\3\134\337\107\154\216\262\72\32\51\270\107" +
+      "\267\231\222\124\206\164\153\114\370\115\331\245" +
+      "\24\45\312\265\216\251\125\143\107\34\107\212" +
+      "\223\175\134\360\222\227\321\142\50\265\312\0" +
+      "\32\103\111\220\131\356\147\247\65\65\326\71" +
+      "\300\342\353\44\331\147\355\247\77\326\34\145" +
+      "\337\100\313\214\313\27\225\207\45\266\374\203" +
+      "\75\320\222\124\326\361\25\130\305\370\6\45" +
+      "\10\10\327\57\240\110\161\306\5\275\67\357" +
+      "\346\333\373\211\164\222\333\176\213\4\277\247" +
+      "\332\131\355\41\371\7\172\73\251\1\234\2" +
+      "\51\121\241\126\303\17\143\136\60\136\134\1" +
+      "\340\111\337\113\245\21\314\4\321\172\260\203" +
+      "\106\131\257\357\44\25\64\3\105\246\326\375" +
+      "\251\67\357\361\217\241\377\46\160\217\14\234" +
+      "\123\356\2\216\55\254\200\227\1\376\142\122" +
+      "\236\70\243\34\261\120\51\226\160\140\27\244" +
+      "\27\352\35\33\207\200\341\111\15\14\243\76" +
+      "\337\162\336\212\154\112\140\345\35\261\222\24" +
+      "\240\116\262\106\67\157\14\265\31\76\72\322" +
+      "\232\360\357\376\161\31\166\232\34\11\212\131" +
+      "\273\30\211\140\141\207\44\366\130\167\213\261" +
+      "\245\162\201\340\214\233\3\61\23\235\236\164" +
+      "\136\147\142\70\331\173\156\306\74\126\103\307" +
+      "\122\46\303\226\306\144\221\273\123\360\354\200" +
+      "\214\370\105\301\155\302\117\176\127\34\75\160" +
+      "\63\326\4\210\154\74\220\4\167\62\65\377" +
+      "\261\130\66\16\343\274\154\63\141\244\333\153" +
+      "\327\310\116\223\176\362\315\272\251\351\221\364" +
+      "\361\253\112\13\202\113\215\7\41\27\31\307" +
+      "\357\243\205\124\256\325\323\241\204\326\353\234" +
+      "\115\113\343\5\104\201\77\300\113\35\207\72" +
+      "\264\37\2\14\16\244\135\124\360\374\253\244" +
+      "\131\75\213\252\375\346\236\2\127\101\217\55" +
+      "\352\10\143\116\31\16\204\376\103\41\370\63" +
+      "\261\22\32\277\216\44\362\146\45\160\341\354" +
+      "\25\56\124\300\145\124\13\7\270\257\305\33" +
+      "\143\74\13\243\330\132\363\332\114\45\321\226" +
+      "\202\201\45\210\262\251\15\120\3\111\0\333" +
+      "\100\200\342\252\5\361\172\13\44\361\23\74" +
+      "\247\3\160\156\365\212\300\100\315\345\7\244" +
+      "\343\274\56\33\123\341\356\353\40\126\141\144" +
+      "\31\355\166\211\2\74\10\276\215\235\345\324" +
+      "\251\225\125\156\12\131\305\361\14\112\103\336" +
+      "\156\2\53\270\125\262\103\200\37\62\242\5" +
+      "\70\356\164\100\117\1\300\32\370\351\243\166" +
+      "\340\210\65\210\246\113\61\206\44\20\364\112" +
+      "\247\37\212\26\36\17\344\300\235\42\37\252" +
+      "\145\222\372\110\362\252\332\34\236\310\205\74" +
+      "\103\376\317\335\320\227\377\41\223\365\376\300" +
+      "\170\236\260\223\76\14\311\321\163\225\337\171" +
+      "\224\113\232\261\135\245\67\203\36\256\60\47" +
+      "\370\20\335\352\74\143\317\22\160\301\5\253" +
+      "\20\207\126\166\115\163\101\246\25\310\7\363" +
+      "\36\16\176\252\104\307\354\170\313\66\333\73" +
+      "\242\222\354\57\112\112\146\240\161\302\226\245" +
+      "\176\12\356\347\337\246\160\166\256\32\266\242" +
+      "\246\174\163\31\345\241\337\61\147\63\155\42" +
+      "\264\34\256\117\111\312\7\312\376\34\23\346" +
+      "\300\355\211\37\166\212\203\311\257\14\11\54" +
+      "\27\222\337\55\317\315\365\310\303\224\215\356" +
+      "\350\107\53\27\41\300\172\127\226\143\317\125" +
+      "\275\146\64\43\313\274\254\61\42\65\143\325" +
+      "\322\60\4\107\345\334\7\143\16\31\350\131" +
+      "\224\164\312\130\31\370\167\240\355\124\343\330" +
+      "\317\3\177\366\370\152\330\127\31\12\25\36" +
+      "\5\307\76\42\217\334\41\341\141\145\167\206" +
+      "\154\76\146\32\13\52\15\272\104\44\116\360" +
+      "\6\143\227\10\205\135\6\45\240\70\202\224" +
+      "\155\241\131\41\70\161\203\205\171\6\302\44" +
+      "\371\305\306\175\355\220\161\71\305\321\135\334" +
+      "\324\347\106\65\353\270\207\77\344\42\316\234" +
+      "\105\110\133\147\203\246\213\143\277\151\110\140" +
+      "\14\320\223\213\11\240\172\376\317\175\21\25" +
+      "\23\25\256\53\356\246\354\77\246\360\303\67" +
+      "\267\116\366\67\36\317\302\340\23\345\377\45" +
+      "\125\103\350\222\353\140\267\322\377\320\173\115" +
+      "\0\221\376\336\146\337\207\103\245\60\366\313" +
+      "\275\262\215\275\364\31\216\204\244\140\133\360" +
+      "\57\34\41\1\15\242\361\163\177\132\364\303" +
+      "\145\263\276\244\315\335\334\177\321\376\301\105" +
+      "\103\274\363\33\221\342\317\232\53\235\372\346" +
+      "\262\220\2\34\13\203\361\325\277\275\175\214";
+
+  private static final String TABLE_PACKED_2 =
+      "\102\262\53\312\374\132\130\200\127\102\212\70" +
+      "\44\41\211\44\311\212\372\140\321\275\37\260" +
+      "\252\317\244\352\254\332\141\167\50\115\337\300" +
+      "\356\66\54\101\300\370\0\331\215\261\45\142" +
+      "\342\231\254\153\54\313\155\350\11\105\256\241" +
+      "\33\154\77\46\331\320\33\267\150\66\351\336" +
+      "\41\243\350\50\277\35\352\75\47\175\165\216" +
+      "\57\24\162\15\301\237\11\43\207\301\270\334" +
+      "\66\135\7\23\261\63\342\320\267\60\77\157" +
+      "\266\6\345\157\305\67\224\267\370\21\42\221" +
+      "\155\73\300\226\315\307\172\122\125\102\70\203" +
+      "\44\35\70\42\327\273\153\63\331\155\251\46" +
+      "\250\303\147\365\346\312\165\42\155\172\260\173" +
+      "\223\7\261\311\40\237\357\300\140\134\370\11" +
+      "\146\170\357\365\153\36\253\60\306\4\67\350" +
+      "\232\14\53\33\156\174\344\260\253\66\356\217" +
+      "\173\213\375\3\2\313\355\230\371\125\246\356" +
+      "\342\150\24\344\320\17\123\141\7\272\342\125" +
+      "\361\244\40\316\11\0\74\370\206\201\310\272" +
+      "\51\211\65\153\101\305\56\175\115\356\250\353" +
+      "\345\7\374\215\313\6\362\241\241\216\127\370" +
+      "\310\206\123\145\340\201\120\133\4\76\220\22" +
+      "\131\373\55\360\43\46\301\36\54\210\366\215" +
+      "\214\15\37\10\172\2\16\130\224\127\340\372" +
+      "\336\166\307\303\70\255\40\246\211\111\375\220" +
+      "\172\343\10\166\203\42\42\75\66\256\133\72" +
+      "\324\31\357\314\141\177\272\33\32\335\5\40" +
+      "\162\64\31\237\256\170\360\130\361\305\201\335" +
+      "\372\154\56\215\40\121\155\230\130\40\271\62" +
+      "\33\51\32\106\124\301\70\40\336\271\252\266" +
+      "\111\250\151\50\4\16\175\234\251\75\75\237" +
+      "\4\17\121\44\365\372\145\75\103\247\120\366" +
+      "\362\351\274\335\6\322\130\152\222\231\337\312" +
+      "\360\133\260\314\314\340\64\253\352\14\176\66" +
+      "\377\121\260\145\275\54\104\344\172\74\201\275" +
+      "\55\237\254\153\45\226\275\31\330\261\153\260" +
+      "\140\47\161\200\110\141\313\232\106\265\316\16" +
+      "\373\357\322\306\24\321\122\132\277\232\316\215" +
+      "\340\103\205\142\155\331\306\12\335\261\144\304" +
+      "\206\52\315\246\236\203\32\325\206\145\74\164" +
+      "\353\257\341\204\145\237\170\6\215\376\155\45" +
+      "\104\252\264\126\164\365\152\136\134\260\352\175" +
+      "\250\150\2\134\123\324\362\330\373\150\371\310" +
+      "\255\5\42\10\16\322\12\223\243\365\356\72" +
+      "\261\204\75\371\362\176\356\247\322\202\225\250" +
+      "\127\77\325\43\54\232\347\100\302\126\251\151" +
+      "\176\263\43\0\213\123\244\57\175\22\172\264" +
+      "\147\3\143\104\267\167\215\262\355\14\67\165" +
+      "\4\363\247\76\32\321\163\251\51\346\62\211" +
+      "\124\242\213\250\160\117\143\240\160\62\204\10" +
+      "\341\223\213\12\176\14\50\125\172\60\17\241" +
+      "\345\140\3\10\146\271\244\14\306\250\222\211" +
+      "\127\177\54\40\52\75\264\302\346\322\100\360" +
+      "\3\77\301\317\347\60\0\253\76\232\33\36" +
+      "\304\253\250\136\373\220\214\351\276\315\135\233" +
+      "\47\362\330\152\225\117\16\53\225\115\33\154" +
+      "\147\156\165\241\330\67\350\241\137\106\36\125" +
+      "\175\311\63\50\32\300\250\370\250\67\134\116" +
+      "\333\215\151\323\30\143\302\220\227\104\230\255" +
+      "\360\204\237\253\172\266\122\321\355\167\73\102" +
+      "\371\54\353\323\372\164\66\211\243\121\70\310" +
+      "\324\135\372\15\17\343\345\77\332\55\265\117" +
+      "\160\125\247\41\231\31\126\115\5\54\374\74" +
+      "\5\302\256\72\210\262\325\234\216\41\251\22" +
+      "\5\230\167\42\62\215\271\2\121\30\215\226" +
+      "\341\163\345\147\37\221\233\253\106\245\367\336" +
+      "\172\376\354\125\15\257\43\177\202\16\273\137" +
+      "\307\352\160\1\33\10\64\324\240\10\42\74" +
+      "\63\350\147\204\260\127\225\350\56\315\135\176" +
+      "\262\56\376\231\147\240\135\172\235\224\207\65" +
+      "\217\5\36\325\261\55\312\70\17\202\225\76" +
+      "\126\200\346\326\170\367\302\26\261\261\41\235" +
+      "\102\307\236\1\140\52\303\341\76\123\74\12" +
+      "\27\117\371\207\344\354\11\156\166\44\352\342" +
+      "\372\167\122\336\232\225\263\335\41\104\105\306" +
+      "\13\140\366\154\201\202\374\363\32\16\276\310" +
+      "\153\40\61\306\272\112\55\162\5\367\252\304" +
+      "\235\100\53\55\127\310\373\137\205\247\366\56" +
+      "\362\375\314\306\56\116\363\325\234\333\61\123" +
+      "\373\46\236\62\212\231\332\261\111\56\231\310" +
+      "\246\121\103\252\212\313\240\261\143\153\331\176" +
+      "\220\175\120\17\7\162\221\315\203\272\17\255" +
+      "\341\306\143\153\251\265\167\135\331\64\357\103" +
+      "\355\326\164\123\21\44\205\20\256\105\174\33" +
+      "\256\155\343\221\161\256\255\147\131\25\271\235" +
+      "\367\74\370\165\276\206\154\361\337\104\72\320" +
+      "\327\210\227\344\250\326\254\231\37\25\40\370" +
+      "\25\107\257\237\256\260\245\6\330\327\335\161" +
+      "\232\202\120\307\331\322\7\33\330\255\270\135" +
+      "\215\51\26\367\253\255\227\72\12\102\310\105" +
+      "\303\274\44\32\235\265\351\153\337\224\221\311" +
+      "\222\335\123\162\325\301\47\337\130\267\53\47" +
+      "\123\72\165\64\227\152\155\310\355\230\313\32" +
+      "\125\235\66\317\315\373\111\213\73\204\154\276" +
+      "\73\13\170\30\51\72\115\351\325\116\124\110" +
+      "\42\5\102\373\57\160\334\316\351\25\63\21" +
+      "\162\134\334\30\355\223\135\254\166\33\347\12" +
+      "\316\12\277\252\340\256\166\62\352\207\264\357" +
+      "\245\355\10\236\240\365\217\106\24\60\212\32" +
+      "\4\262\141\1\17\145\236\233\325\55\7\113";
+
+  private static final String TABLE_PACKED_3 =
+      "\173\163\322\252\77\114\231\43\156\210\50\171" +
+      "\372\273\356\167\273\150\255\116\237\12\26\124" +
+      "\353\201\243\247\46\361\212\174\33\72\137\74" +
+      "\271\146\102\36\303\41\147\117\306\304\322\234" +
+      "\320\117\174\121\221\154\237\336\331\26\50\332" +
+      "\322\230\361\134\16\73\51\326\212\305\333\37" +
+      "\272\175\55\52\36\117\145\172\75\340\115\246" +
+      "\71\170\52\143\312\156\213\212\374\166\126\226" +
+      "\117\331\157\236\332\51\236\346\56\324\202\21" +
+      "\221\344\300\355\42\372\133\130\63\107\335\51" +
+      "\363\174\127\315\71\14\220\227\303\31\136\1" +
+      "\105\51\115\206\332\211\42\32\347\252\176\247" +
+      "\217\241\162\32\22\365\141\201\107\303\310\302" +
+      "\347\176\161\350\124\237\155\272\54\177\212\122" +
+      "\43\263\314\244\75\204\117\320\311\176\16\353" +
+      "\37\17\252\275\315\157\131\342\164\15\222\227" +
+      "\126\253\310\317\266\34\317\137\322\212\102\150" +
+      "\43\102\262\110\162\256\213\126\365\100\226\226" +
+      "\134\111\212\120\363\325\112\302\232\315\374\37" +
+      "\113\125\360\3\324\53\31\253\140\176\144\224" +
+      "\222\103\7\74\377\371\362\62\354\56\123\336" +
+      "\277\354\203\71\101\151\342\111\265\203\246\25" +
+      "\202\322\106\45\353\107\344\271\124\335\225\324" +
+      "\165\11\257\223\247\142\165\266\176\271\111\233" +
+      "\351\276\325\330\105\127\224\245\327\13\15\42" +
+      "\274\233\343\317\51\253\337\201\43\316\16\326" +
+      "\246\270\107\244\110\314\151\176\41\140\357\62" +
+      "\110\355\124\214\30\121\172\172\144\110\200\232" +
+      "\24\25\71\313\112\357\164\36\56\62\365\73" +
+      "\21\223\323\271\252\61\362\206\315\362\50\131" +
+      "\236\260\107\6\171\327\160\73\262\57\246\314" +
+      "\166\166\0\116\206\73\116\304\145\102\347\174" +
+      "\345\45\41\211\232\270\105\66\1\245\52\74" +
+      "\213\372\120\350\114\37\337\73\113\315\234\151" +
+      "\323\270\1\140\132\366\100\66\246\111\211\150" +
+      "\57\203\157\346\117\112\146\4\235\71\7\203" +
+      "\273\145\326\36\214\277\205\52\25\116\216\76" +
+      "\166\116\362\345\176\110\353\343\133\135\6\272" +
+      "\253\1\254\165\24\112\222\25\331\315\115\320" +
+      "\243\322\105\340\363\111\260\132\154\150\344\244" +
+      "\316\74\0\243\320\323\103\26\37\47\64\234" +
+      "\1\132\375\72\130\162\227\6\337\162\114\350" +
+      "\230\0\227\201\46\344\17\36\256\23\32\147" +
+      "\116\227\230\143\276\164\153\153\312\156\106\13" +
+      "\242\304\16\361\231\127\323\56\372\170\30\26" +
+      "\311\202\122\337\334\342\6\76\1\271\236\63" +
+      "\265\126\155\157\112\354\154\226\166\35\362\323" +
+      "\14\245\250\244\357\307\372\43\66\301\112\130" +
+      "\16\327\120\162\57\26\311\172\352\170\275\7" +
+      "\63\245\44\207\105\307\77\66\372\164\343\70" +
+      "\315\373\177\151\322\133\212\154\14\372\151\327" +
+      "\45\277\133\244\155\132\216\177\32\301\137\232" +
+      "\64\31\147\330\274\15\134\175\300\225\144\114" +
+      "\230\36\274\157\165\266\311\216\252\43\126\260" +
+      "\122\254\160\140\270\261\256\145\110\156\254\52" +
+      "\30\32\223\135\174\105\37\40\250\321\330\27" +
+      "\154\77\62\71\144\376\143\20\272\144\70\230" +
+      "\74\73\120\211\360\122\62\22\170\137\347\134" +
+      "\120\235\26\76\104\377\63\12\216\125\35\132" +
+      "\374\253\311\210\367\7\127\157\160\152\271\131" +
+      "\177\350\101\127\233\51\223\350\75\223\217\266" +
+      "\372\220\310\54\353\50\264\356\321\137\215\215" +
+      "\37\72\135\261\225\206\113\25\214\176\217\224" +
+      "\203\354\25\331\30\150\302\75\257\171\34\325" +
+      "\116\47\175\3\275\25\156\116\121\357\207\235" +
+      "\134\240\17\122\222\356\376\20\327\310\51\354" +
+      "\23\62\143\34\135\100\337\241\142\34\46\334" +
+      "\212\224\214\57\340\116\137\77\146\201\115\20" +
+      "\323\304\74\35\337\146\337\364\114\132\352\43" +
+      "\377\310\123\313\352\267\244\141\351\234\353\312" +
+      "\221\77\27\321\230\63\262\271\110\71\130\324" +
+      "\302\333\263\123\244\310\4\141\372\151\226\33" +
+      "\222\312\115\55\170\350\45\21\17\27\342\240" +
+      "\333\320\123\301\200\127\110\224\336\145\66\211" +
+      "\310\303\41\314\375\366\137\43\232\275\23\15" +
+      "\247\27\244\355\270\326\325\145\243\275\113\34" +
+      "\147\217\321\264\167\24\52\377\42\352\146\324" +
+      "\335\264\167\116\204\223\311\112\243\347\107\117" +
+      "\177\114\215\133\356\273\61\60\111\31\320\227" +
+      "\267\62\204\63\356\200\251\140\13\36\7\43" +
+      "\212\222\2\317\342\311\54\115\205\232\0\115" +
+      "\7\313\170\1\256\65\225\261\212\274\64\202" +
+      "\356\377\344\77\343\214\224\113\40\264\234\104" +
+      "\230\226\171\114\67\242\247\77\310\106\260\102" +
+      "\143\33\34\305\227\367\17\160\137\361\53\25" +
+      "\254\331\241\356\250\310\24\73\245\217\21\364" +
+      "\222\4\151\300\304\13\174\70\106\140\143\62" +
+      "\26\376\127\172\60\66\367\315\355\115\215\174" +
+      "\34\345\162\326\76\16\154\56\51\10\302\336" +
+      "\257\162\200\13\37\306\241\223\156\107\350\365" +
+      "\66\354\44\6\106\21\304\105\311\107\34\62" +
+      "\263\306\41\3\32\21\233\103\226\256\217\10" +
+      "\252\133\164\362\171\275\73\205\40\134\303\243" +
+      "\7\53\166\204\66\335\326\264\156\251\260\132" +
+      "\125\5\135\152\226\257\337\152\53\321\162\303" +
+      "\276\260\205\52\205\342\130\102\256\265\253\105" +
+      "\25\233\177\274\255\376\103\234\120\323\255\177" +
+      "\206\360\210\331\217\137\230\336\111\33\336\65" +
+      "\377\41\157\4\76\276\160\176\54\156\304\74" +
+      "\346\205\200\42\234\324\307\305\260\305\210\2";
+
+  private static final String TABLE_PACKED_4 =
+      "\244\217\234\13\366\73\200\34\355\257\321\257" +
+      "\323\200\205\350\70\314\17\111\24\221\323\100" +
+      "\305\357\331\37\117\367\42\123\355\22\307\376" +
+      "\274\215\347\213\17\56\341\215\66\150\46\74" +
+      "\244\307\344\166\107\250\342\161\363\361\224\210" +
+      "\107\267\173\226\242\144\11\51\213\351\37\26" +
+      "\142\112\336\14\336\211\14\60\144\245\0\61" +
+      "\346\342\251\317\235\142\27\61\255\355\21\131" +
+      "\111\167\17\224\132\112\324\31\201\16\124\76" +
+      "\247\171\73\177\347\257\2\317\352\243\143\110" +
+      "\277\116\121\322\142\134\3\343\33\137\351\267" +
+      "\14\35\17\102\343\32\271\255\302\1\232\357" +
+      "\241\152\11\374\64\326\321\74\243\33\357\235" +
+      "\2\127\121\233\230\377\323\56\37\373\136\24" +
+      "\257\322\137\2\240\357\60\254\210\240\336\146" +
+      "\352\271\326\275\176\61\27\137\40\116\132\310" +
+      "\225\341\41\1\76\132\172\334\260\75\13\56" +
+      "\142\153\123\54\170\275\172\271\55\246\201\317" +
+      "\202\225\51\322\270\56\232\101\301\153\371\162" +
+      "\43\360\25\66\36\176\52\73\223\22\147\326" +
+      "\262\324\163\371\302\335\143\203\53\142\227\374" +
+      "\117\53\30\114\101\64\20\124\231\327\306\304" +
+      "\120\260\150\365\44\3\250\230\374\331\35\46" +
+      "\306\205\330\161\70\15\151\135\252\5\315\73" +
+      "\13\46\267\164\141\50\215\246\252\372\117\20" +
+      "\21\263\165\247\367\32\205\115\326\222\25\61" +
+      "\52\156\364\170\217\10\107\113\365\320\20\337" +
+      "\152\145\307\302\31\61\350\264\373\250\303\104" +
+      "\111\325\101\227\42\141\100\371\363\23\121\136" +
+      "\53\322\100\300\74\140\26\54\74\303\2\133" +
+      "\242\164\316\301\35\346\302\35\310\74\375\163" +
+      "\250\144\131\265\264\262\112\0\346\114\333\262" +
+      "\141\351\314\66\372\137\2\37\117\205\330\244" +
+      "\211\67\132\76\67\353\265\370\332\4\334\44" +
+      "\132\77\41\27\246\56\63\155\31\176\235\104" +
+      "\315\267\241\316\115\313\121\106\325\271\100\361" +
+      "\210\233\120\371\170\264\106\330\12\147\362\141" +
+      "\154\73\0\156\371\370\216\271\377\10\211\41" +
+      "\23\64\323\240\363\12\57\173\177\126\354\60" +
+      "\204\254\205\274\130\120\61\263\135\56\347\371" +
+      "\233\234\201\210\246\227\346\120\172\6\22\125" +
+      "\376\24\12\353\130\132\101\304\363\252\142\353" +
+      "\330\373\55\271\51\255\101\125\24\257\143\357" +
+      "\100\362\305\245\26\20\13\172\102\0\156\165" +
+      "\341\363\204\237\40\143\0\333\100\326\111\352" +
+      "\74\307\42\303\167\244\343\345\56\277\55\37" +
+      "\245\75\156\166\204\175\231\100\62\6\251\160" +
+      "\323\133\214\153\11\252\116\4\56\320\200\230" +
+      "\71\57\0\63\12\36\57\316\2\142\10\110" +
+      "\252\43\5\124\255\225\174\45\45\1\221\17" +
+      "\146\35\275\61\56\254\276\33\73\337\233\5" +
+      "\131\53\5\175\40\351\312\307\174\223\265\266" +
+      "\332\377\237\46\165\213\310\167\102\221\7\1" +
+      "\124\217\227\364\63\173\57\21\154\54\265\300" +
+      "\76\30\340\77\171\147\351\13\73\171\156\77" +
+      "\70\251\4\124\304\12\63\72\376\372\344\37" +
+      "\242\7\336\252\136\11\225\363\315\50\144\32" +
+      "\364\42\170\343\205\304\173\310\207\220\345\274" +
+      "\115\53\377\342\307\177\174\357\61\275\201\163" +
+      "\371\100\214\151\52\254\360\47\202\14\305\233" +
+      "\75\43\222\311\6\321\160\56\322\356\70\35" +
+      "\312\152\313\266\300\170\6\317\220\160\52\150" +
+      "\7\201\366\17\162\132\336\255\73\107\166\116" +
+      "\61\260\141\200\123\244\350\44\330\70\171\126" +
+      "\51\140\133\360\240\251\317\101\205\33\252\305" +
+      "\101\264\334\55\336\320\45\360\346\46\316\271" +
+      "\61\240\203\311\267\172\150\212\264\335\277\147" +
+      "\330\147\75\377\323\316\105\152\3\21\370\21" +
+      "\22\216\50\166\45\257\247\16\137\326\150\242" +
+      "\21\360\375\235\25\44\161\240\161\25\233\104" +
+      "\157\50\365\52\14\351\225\205\235\50\170\311" +
+      "\207\133\54\325\313\23\17\61\337\245\331\277" +
+      "\330\6\377\364\101\102\166\70\340\120\121\376" +
+      "\167\132\45\373\50\54\65\134\102\25\245\44" +
+      "\162\236\331\362\325\307\350\46\263\71\140\101" +
+      "\321\11\214\324\367\35\171\173\123\54\317\170" +
+      "\263\257\132\21\321\21\310\207\355\63\361\142" +
+      "\172\213\154\362\74\234\142\16\262\153\41\362" +
+      "\214\360\35\173\233\33\73\43\23\267\312\117" +
+      "\160\371\16\376\73\305\113\124\337\77\37\213" +
+      "\254\363\363\255\110\374\132\210\105\354\122\252" +
+      "\337\331\27\156\137\115\32\176\3\315\372\101" +
+      "\315\222\353\327\146\240\7\306\163\142\54\32" +
+      "\53\225\126\0\74\317\335\234\377\245\236\45" +
+      "\237\163\70\250\362\330\360\162\153\114\331\0" +
+      "\324\34\73\310\360\34\253\52\32\327\206\320" +
+      "\131\263\371\67\273\353\147\15\176\134\357\267" +
+      "\354\107\13\331\101\370\327\32\307\2\116\173" +
+      "\60\175\131\263\370\5\173\151\214\22\23\351" +
+      "\270\227\27\335\344\17\373\374\130\167\335\310" +
+      "\66\167\246\107\140\126\41\251\236\336\143\312" +
+      "\201\6\177\310\174\222\21\271\325\347\302\275" +
+      "\161\54\130\373\215\202\151\333\47\171\273\52" +
+      "\361\41\5\302\363\200\240\125\173\102\264\202" +
+      "\17\327\3\311\52\120\45\164\145\300\56\120" +
+      "\325\205\141\250\164\156\105\24\64\151\113\50" +
+      "\2\131\30\314\163\202\356\325\137\110\270\245" +
+      "\102\122\321\360\262\376\304\42\127\147\367\374" +
+      "\176\167\50\170\225\104\257\302\146\124\67\271" +
+      "\353\341\101\2\46\350\233\136\50\360\44\11";
+
+  private static final String TABLE_PACKED_5 =
+      "\270\326\102\353\56\210\50\141\231\272\327\105" +
+      "\231\203\226\43\317\17\111\323\205\206\167\114" +
+      "\140\15\223\146\100\334\253\361\251\336\52\355" +
+      "\6\36\131\312\345\2\215\317\62\101\155\215" +
+      "\351\225\25\36\232\375\1\321\0\35\13\170" +
+      "\55\125\216\130\217\215\242\56\326\242\172\313" +
+      "\360\66\363\232\324\375\251\137\70\13\231\160" +
+      "\245\205\171\5\227\13\314\161\244\135\123\236" +
+      "\11\165\67\304\147\266\74\56\354\152\55\265" +
+      "\360\276\360\267\16\47\200\221\346\353\172\324" +
+      "\162\225\327\123\345\362\316\143\112\23\274\52" +
+      "\306\17\146\366\126\166\313\211\120\301\17\43" +
+      "\357\71\241\300\376\332\223\331\263\227\10\152" +
+      "\55\254\13\303\330\260\202\24\246\216\316\226" +
+      "\353\214\344\113\371\310\226\263\70\26\36\50" +
+      "\125\150\255\245\213\63\33\1\74\54\160\112" +
+      "\200\157\306\67\144\240\330\305\301\135\105\112" +
+      "\135\175\377\325\11\256\244\352\256\270\71\60" +
+      "\0\131\274\55\142\133\76\247\272\123\45\107" +
+      "\142\154\230\311\0\42\37\346\131\302\115\313" +
+      "\313\31\351\165\337\160\6\71\372\60\157\336" +
+      "\332\164\41\141\142\13\10\75\213\343\60\2" +
+      "\323\176\277\21\216\67\316\253\111\360\365\271" +
+      "\110\222\373\103\253\345\371\343\342\205\210\40" +
+      "\330\2\326\143\176\216\27\271\312\253\46\275" +
+      "\341\305\63\164\224\14\144\316\377\13\117\1" +
+      "\204\20\20\40\43\321\352\34\22\11\77\106" +
+      "\246\161\317\204\167\350\136\325\162\200\371\311" +
+      "\362\322\74\265\264\5\153\265\116\237\137\140" +
+      "\135\3\31\207\152\277\175\112\332\256\13\124" +
+      "\160\76\135\215\316\160\361\377\226\303\307\76" +
+      "\223\175\301\114\175\130\151\222\74\331\156\41" +
+      "\77\124\240\361\336\337\161\17\213\107\50\145" +
+      "\11\102\37\323\307\45\257\27\165\147\40\367" +
+      "\127\36\15\300\354\33\305\362\371\216\361\307" +
+      "\311\151\250\216\235\60\204\165\107\371\351\165" +
+      "\246\135\54\224\261\204\22\357\23\236\121\137" +
+      "\135\46\335\207\123\11\72\264\345\317\161\106" +
+      "\26\204\16\211\37\10\25\305\102\310\315\33" +
+      "\303\77\143\324\207\0\3\200\30\332\361\14" +
+      "\172\145\244\175\207\301\6\54\361\111\327\253" +
+      "\216\265\347\255\230\161\353\240\26\51\231\164" +
+      "\343\265\200\16\261\7\331\100\145\13\340\221" +
+      "\335\106\112\223\16\31\233\212\61\217\165\25" +
+      "\360\132\165\47\326\202\124\36\323\263\55\71" +
+      "\155\151\162\11\167\326\63\272\105\216\11\130" +
+      "\315\246\40\261\53\322\372\264\335\213\334\373" +
+      "\136\34\275\47\155\14\25\46\126\254\264\207" +
+      "\250\320\121\352\24\23\332\6\337\103\24\111" +
+      "\322\27\206\376\1\122\153\135\220\317\200\127" +
+      "\167\260\256\74\230\264\273\333\260\214\211\176" +
+      "\3\335\203\222\316\75\50\140\227\307\126\222" +
+      "\201\332\163\333\137\321\42\55\265\253\377\32" +
+      "\60\120\237\134\160\32\263\346\3\60\223\254" +
+      "\42\104\262\164\163\237\76\103\376\66\15\46" +
+      "\124\363\133\236\12\65\351\326\115\127\173\374" +
+      "\127\173\230\55\66\16\107\7\152\56\112\73" +
+      "\167\175\2\65\356\323\276\56\217\265\214\31" +
+      "\35\157\313\323\325\43\272\143\277\221\234\162" +
+      "\326\34\241\16\223\174\363\236\21\102\242\134" +
+      "\67\224\6\325\104\175\132\54\333\206\225\53" +
+      "\366\14\300\171\56\133\12\155\75\61\23\356" +
+      "\174\363\205\340\303\374\0\76\66\343\225\61" +
+      "\163\210\220\153\136\45\73\216\157\65\66\35" +
+      "\322\210\246\173\233\47\333\26\7\163\345\107" +
+      "\355\347\71\127\307\135\106\223\374\61\201\60" +
+      "\27\113\301\174\377\5\360\273\154\131\54\51" +
+      "\140\100\152\374\115\206\73\41\76\131\27\375" +
+      "\266\14\204\12\241\307\314\231\214\251\224\137" +
+      "\164\306\312\267\216\262\56\323\136\176\55\326" +
+      "\265\205\240\5\127\70\170\155\332\222\32\231" +
+      "\305\131\134\36\210\227\354\43\152\251\213\121" +
+      "\35\66\151\377\267\335\36\13\136\201\105\204" +
+      "\337\314\334\40\47\220\41\317\241\50\277\202" +
+      "\152\324\173\314\247\243\363\165\334\74\34\13" +
+      "\161\305\125\64\136\251\103\33\64\266\361\25" +
+      "\317\70\173\355\15\236\106\162\272\110\21\323" +
+      "\345\340\107\227\22\316\161\257\350\42\122\62" +
+      "\301\152\257\57\136\63\266\75\70\367\247\176" +
+      "\277\154\17\333\66\314\77\24\164\211\41\123" +
+      "\313\146\71\102\377\336\162\145\230\6\271\145" +
+      "\357\24\174\347\241\343\101\244\364\237\125\214" +
+      "\154\153\234\213\237\112\320\375\134\325\144\126" +
+      "\330\321\237\124\273\175\61\310\174\45\153\70" +
+      "\355\374\355\165\43\232\274\366\321\313\141\243" +
+      "\326\15\267\205\366\145\210\356\62\172\366\2" +
+      "\247\53\201\347\102\277\1\312\336\263\374\62" +
+      "\250\130\103\317\371\32\157\1\271\341\262\313" +
+      "\153\210\310\354\254\375\174\164\34\157\171\167" +
+      "\72\331\150\312\313\312\210\113\360\131\173\145" +
+      "\250\111\366\315\203\307\122\224\221\7\106\140" +
+      "\345\157\245\327\155\174\367\136\347\250\347\200" +
+      "\310\323\51\300\70\276\203\136\117\4\342\246" +
+      "\106\52\146\312\20\214\310\371\171\235\15\341" +
+      "\104\362\55\170\354\210\145\33\27\64\362\73" +
+      "\373\242\112\373\307\324\311\126\251\41\116\124" +
+      "\26\310\237\207\127\306\12\342\171\243\215\374" +
+      "\324\244\334\377\204\12\135\220\35\250\103\50" +
+      "\102\214\220\62\32\246\172\166\34\221\153\127" +
+      "\347\120\1\51\213\315\273\155\237\135\265\17";
+
+  private static final String TABLE_PACKED_6 =
+      "\17\237\262\271\124\115\262\225\25\104\164\165" +
+      "\114\365\375\227\356\0\120\14\236\133\212\172" +
+      "\305\204\247\56\231\330\320\234\337\16\117\264" +
+      "\40\317\74\57\216\107\27\342\4\275\326\371" +
+      "\354\126\372\144\165\200\154\53\217\175\116\335" +
+      "\111\176\21\275\217\105\120\327\152\171\132\331" +
+      "\243\314\264\141\335\207\32\332\265\270\266\233" +
+      "\110\201\17\362\105\43\160\120\42\2\210\334" +
+      "\242\107\344\40\316\60\14\121\346\106\163\3" +
+      "\145\165\275\63\10\170\46\272\272\144\41\20" +
+      "\246\374\247\232\74\376\242\215\137\117\233\267" +
+      "\42\153\47\306\25\317\236\274\310\60\315\277" +
+      "\341\336\100\74\22\374\132\353\122\156\277\255" +
+      "\36\310\233\16\361\11\311\24\367\52\46\126" +
+      "\345\243\163\231\32\323\77\37\364\24\366\21" +
+      "\220\350\365\174\153\120\377\336\71\170\245\2" +
+      "\37\107\254\270\225\240\202\250\50\241\246\52" +
+      "\311\116\321\323\14\134\324\205\20\367\314\374" +
+      "\116\52\125\44\171\255\363\263\244\171\76\375" +
+      "\176\335\267\70\224\60\45\327\247\100\56\332" +
+      "\303\60\73\53\3\271\150\175\74\346\244\122" +
+      "\222\75\141\136\233\122\65\12\103\171\250\225" +
+      "\70\120\50\240\251\367\33\170\245\54\352\242" +
+      "\161\222\126\340\375\335\240\101\267\117\210\314" +
+      "\312\62\36\317\250\1\125\353\214\326\350\74" +
+      "\34\41\156\362\274\320\206\103\40\63\203\70" +
+      "\220\170\10\116\171\357\10\57\227\311\230\340" +
+      "\22\21\206\217\213\125\251\147\13\77\350\27" +
+      "\322\125\65\320\207\277\120\33\113\372\104\165" +
+      "\136\47\310\27\33\147\42\117\366\302\0\167" +
+      "\10\73\255\361\147\251\346\312\342\114\5\327" +
+      "\157\40\126\147\373\130\166\377\263\162\135\135" +
+      "\307\214\204\6\320\375\361\235\4\20\117\252" +
+      "\227\276\335\62\211\173\311\116\312\124\157\233" +
+      "\250\142\116\127\341\151\306\142\357\300\231\321" +
+      "\344\40\214\305\0\237\12\56\71\262\130\113" +
+      "\276\317\165\130\304\315\225\0\341\224\43\173" +
+      "\307\150\275\104\234\146\304\367\157\170\142\203" +
+      "\202\234\355\227\164\362\32\16\57\142\151\67" +
+      "\371\160\55\161\77\277\213\175\166\336\117\261" +
+      "\55\304\7\203\277\35\64\311\13\170\330\243" +
+      "\352\327\167\10\131\333\233\0\221\216\44\270" +
+      "\362\54\177\65\257\311\277\212\200\50\37\32" +
+      "\277\146\326\34\177\124\164\370\375\320\335\47" +
+      "\152\22\332\275\166\356\214\143\115\143\362\303" +
+      "\50\147\376\345\364\216\230\242\72\213\261\200" +
+      "\236\3\144\161\202\365\246\207\71\12\33\70" +
+      "\213\257\25\140\174\36\115\365\24\336\156\135" +
+      "\212\11\241\110\117\116\370\301\305\45\214\33" +
+      "\17\205\17\335\332\342\343\165\153\224\262\317" +
+      "\77\53\34\227\162\213\160\331\177\56\121\154" +
+      "\56\121\221\276\343\46\174\7\203\141\1\205" +
+      "\304\206\77\364\13\40\13\122\357\31\370\332" +
+      "\117\176\136\27\101\41\230\67\172\236\304\305" +
+      "\261\45\127\117\101\226\22\5\340\20\55\252" +
+      "\150\353\32\133\101\30\35\251\173\345\125\121" +
+      "\267\104\334\123\77\256\151\133\140\242\167\110" +
+      "\350\255\53\131\360\132\264\222\103\121\177\111" +
+      "\10\243\341\77\325\220\242\37\266\346\317\73" +
+      "\341\3\207\130\154\32\64\0\364\134\223\257" +
+      "\165\37\367\50\263\302\110\170\271\344\264\140" +
+      "\240\246\350\6\115\42\360\132\62\267\164\332" +
+      "\352\246\214\245\363\252\17\363\315\41\100\34" +
+      "\221\173\251\65\77\257\236\246\370\234\271\360" +
+      "\7\224\25\253\116\317\26\263\47\106\16\12" +
+      "\216\333\201\372\247\236\232\167\157\107\100\43" +
+      "\21\344\271\256\300\304\156\151\326\224\144\231" +
+      "\363\104\161\360\261\146\73\276\264\322\125\156" +
+      "\372\50\5\327\260\14\4\107\115\230\163\262" +
+      "\345\252\162\311\61\277\135\222\163\47\326\102" +
+      "\337\224\27\140\325\174\116\263\337\121\300\300" +
+      "\354\174\306\173\226\263\117\50\70\200\100\264" +
+      "\123\361\242\177\307\253\350\216\120\60\165\371" +
+      "\302\64\241\54\43\340\245\373\46\144\366\131" +
+      "\264\314\6\120\345\101\243\252\56\102\365\267" +
+      "\175\350\217\140\365\122\5\225\366\174\331\376" +
+      "\172\117\320\346\341\356\272\246\202\72\137\67" +
+      "\174\162\344\53\30\165\72\210\203\77\70\205" +
+      "\331\227\12\6\364\354\51\357\161\211\153\344" +
+      "\153\156\225\102\301\53\302\157\375\153\377\37" +
+      "\125\215\312\302\223\134\261\205\361\15\314\345" +
+      "\260\61\354\261\127\144\73\103\370\103\262\10" +
+      "\172\262\302\321\54\341\212\343\273\165\155\54" +
+      "\11\216\360\6\153\141\112\45\354\30\7\371" +
+      "\61\173\17\323\253\112\144\271\137\124\252\226" +
+      "\10\102\161\227\334\306\220\7\24\254\210\254" +
+      "\41\307\237\163\104\161\120\327\36\353\120\52" +
+      "\65\165\226\60\127\47\235\176\143\44\123\164" +
+      "\175\54\361\21\7\67\37\110\15\304\54\142" +
+      "\60\65\146\32\72\226\362\352\273\304\116\167" +
+      "\73\260\340\47\330\227\133\342\74\237\311\222" +
+      "\254\106\320\31\3\161\2\264\300\315\207\203" +
+      "\226\315\120\174\110\22\350\240\137\255\3\165" +
+      "\171\301\50\54\102\23\42\243\310\363\120\10" +
+      "\46\55\45\144\276\176\52\371\122\106\264\24" +
+      "\53\244\72\256\346\203\201\166\150\53\160\132" +
+      "\336\350\364\153\215\31\235\317\64\260\101\321" +
+      "\222\45\327\145\355\204\352\200\343\310\157\307" +
+      "\266\360\147\345\377\136\10\242\144\113\34\16" +
+      "\374\51\50\340\227\317\330\44\64\53\64\136";
+
+  private static final String TABLE_PACKED_7 =
+      "\120\266\115\223\324\320\175\200\121\133\231\366" +
+      "\24\272\10\244\221\15\24\237\254\41\67\310" +
+      "\247\170\222\44\245\52\301\271\277\264\144\271" +
+      "\222\6\215\177\336\43\331\310\340\302\75\322" +
+      "\116\311\322\315\357\135\212\314\277\21\177\326" +
+      "\36\330\136\64\133\202\302\101\327\262\75\107" +
+      "\105\70\360\12\53\325\240\271\145\226\271\74" +
+      "\112\23\210\365\37\220\234\146\61\122\21\76" +
+      "\225\251\320\204\136\177\376\313\135\257\45\123" +
+      "\173\44\241\341\245\313\201\137\67\7\155\350" +
+      "\2\107\173\123\210\343\75\275\30\264\166\25" +
+      "\313\10\305\152\14\343\10\201\164\150\115\222" +
+      "\324\127\307\305\137\123\307\157\116\242\367\35" +
+      "\76\47\32\24\214\22\14\232\22\52\21\230" +
+      "\113\15\373\335\340\125\104\172\372\152\116\221" +
+      "\360\114\101\177\224\317\273\342\142\241\232\26" +
+      "\124\21\105\115\305\173\114\231\4\30\26\321" +
+      "\370\352\153\175\122\221\141\62\127\12\141\25" +
+      "\234\233\173\153\324\43\320\170\377\140\222\263" +
+      "\314\7\353\325\345\177\41\231\305\66\304\21" +
+      "\16\114\122\270\165\215\10\60\65\350\1\333" +
+      "\361\104\12\144\163\274\171\64\42\33\140\337" +
+      "\253\16\375\300\371\132\11\16\103\130\77\142" +
+      "\364\327\56\307\71\102\55\45\30\142\134\224" +
+      "\3\265\227\171\277\45\77\126\271\20\270\352" +
+      "\217\102\301\21\215\247\13\60\10\320\207\74" +
+      "\161\116\66\204\324\67\25\344\237\367\143\155" +
+      "\23\155\331\242\234\146\301\120\324\240\352\57" +
+      "\315\60\252\225\31\6\211\113\256\254\230\40" +
+      "\1\136\44\264\222\305\231\306\21\316\11\60" +
+      "\247\263\41\11\127\27\100\41\336\70\335\57" +
+      "\11\77\316\176\215\12\371\234\117\44\225\312" +
+      "\135\230\354\175\241\136\115\345\77\275\320\107" +
+      "\375\20\171\10\232\43\122\10\12\177\20\265" +
+      "\34\136\43\201\50\76\157\71\203\313\144\370" +
+      "\167\75\325\224\235\261\275\137\51\146\235\130" +
+      "\24\377\250\141\33\7\327\103\343\55\101\174" +
+      "\176\3\23\372\236\264\247\73\245\361\322\4" +
+      "\320\201\57\40\107\53\73\153\362\111\256\156" +
+      "\260\211\100\46\264\231\202\241\15\254\306\235" +
+      "\42\67\200\73\277\204\176\373\335\1\313\221" +
+      "\106\257\242\112\210\74\264\320\212\162\362\270" +
+      "\372\211\333\60\203\146\127\211\20\60\271\315" +
+      "\357\303\176\242\46\274\360\157\64\31\217\56" +
+      "\203\67\314\34\244\145\207\177\16\15\321\262" +
+      "\27\6\341\343\112\174\127\110\274\140\157\163" +
+      "\203\255\162\350\173\351\154\11\342\12\43\156" +
+      "\72\231\222\32\205\262\32\175\270\4\177\106" +
+      "\250\73\176\347\154\246\126\3\300\251\325\70" +
+      "\114\35\317\16\241\344\162\214\10\3\222\143" +
+      "\172\73\21\154\332\167\311\10\370\21\105\113" +
+      "\317\271\20\35\341\365\302\1\166\215\351\53" +
+      "\35\170\331\153\44\53\314\245\53\137\165\343" +
+      "\347\67\226\244\37\21\144\22\174\232\102\147" +
+      "\104\244\21\115\126\123\50\70\325\365\221\12" +
+      "\44\162\346\226\201\344\305\272\366\10\361\147" +
+      "\277\251\335\315\276\136\24\134\20\262\160\12" +
+      "\376\223\254\110\45\167\302\256\305\311\147\364" +
+      "\240\120\241\371\343\227\124\344\77\360\0\14" +
+      "\152\62\177\21\60\17\63\156\112\127\235\135" +
+      "\310\47\125\346\11\25\323\244\271\223\261\162" +
+      "\164\320\353\61\256\155\17\321\167\25\53\13" +
+      "\122\255\51\265\355\214\35\1\232\146\372\117" +
+      "\300\110\50\200\63\264\245\223\224\243\154\216" +
+      "\364\62\145\353\42\143\364\306\322\336\330\305" +
+      "\35\55\13\112\167\327\163\176\52\237\13\101" +
+      "\277\255\115\220\171\252\67\260\350\334\51\222" +
+      "\347\215\121\250\356\154\160\344\73\273\32\44" +
+      "\225\170\355\54\173\13\373\340\244\145\155\145" +
+      "\264\151\206\206\220\357\34\336\10\250\336\127" +
+      "\335\3\362\227\44\247\235\372\73\211\223\322" +
+      "\155\312\374\273\165\256\100\71\76\327\230\75" +
+      "\347\344\42\372\70\15\170\141\267\161\220\310" +
+      "\142\306\345\237\21\120\62\364\72\1\136\60" +
+      "\45\51\140\276\32\272\313\51\120\34\67\60" +
+      "\324\66\352\161\53\347\336\5\300\75\215\217" +
+      "\262\211\257\243\144\260\257\55\52\167\157\11" +
+      "\73\347\170\5\72\243\266\154\10\223\171\320" +
+      "\330\311\76\156\157\271\22\161\257\73\113\363" +
+      "\73\26\205\325\347\251\201\140\256\310\55\346" +
+      "\43\343\132\6\175\231\120\317\175\56\241\235" +
+      "\145\365\36\361\104\102\214\130\321\45\34\246" +
+      "\260\173\36\236\364\327\127\115\240\224\273\23" +
+      "\103\215\23\302\213\126\243\317\110\25\124\147" +
+      "\75\100\167\125\26\157\313\175\117\275\50\220" +
+      "\265\373\363\111\352\103\255\33\366\236\14\102" +
+      "\306\222\113\366\376\230\113\253\361\76\6\106" +
+      "\311\131\234\67\24\147\115\251\70\367\335\317" +
+      "\155\153\12\222\366\254\24\101\206\371\163\223" +
+      "\161\212\356\331\226\32\76\171\346\207\31\312" +
+      "\211\330\170\132\247\347\236\155\16\333\336\2" +
+      "\126\350\356\360\37\230\17\325\323\62\12\42" +
+      "\210\31\350\172\40\61\21\143\310\165\376\176" +
+      "\152\22\34\12\60\133\220\1\306\75\73\260" +
+      "\21\374\61\331\167\161\34\170\133\310\104\57" +
+      "\367\346\25\24\151\47\110\17\134\61\27\266" +
+      "\324\137\154\127\370\220\61\40\302\117\307\117" +
+      "\242\317\7\271\110\134\367\214\122\267\44\231" +
+      "\237\275\154\363\372\143\153\66\31\173\170\156" +
+      "\233\275\32\214\357\213\221\43\214\63\35\57";
+
+  private static final String TABLE_PACKED_8 =
+      "\273\112\77\326\246\1\367\216\203\50\64\70" +
+      "\21\73\206\135\13\163\276\32\121\231\302\130" +
+      "\74\110\225\41\354\142\101\171\310\311\245\343" +
+      "\122\263\316\56\327\361\141\33\201\354\165\54" +
+      "\240\336\375\370\144\345\344\103\44\41\46\1" +
+      "\363\274\335\317\143\271\17\62\352\376\246\117" +
+      "\366\134\374\267\47\10\221\221\216\61\15\202" +
+      "\355\56\301\334\22\46\76\13\6\166\164\213" +
+      "\351\245\5\334\174\37\274\314\301\16\51\204" +
+      "\52\246\200\102\237\165\317\163\163\54\104\323" +
+      "\371\373\56\254\200\266\344\151\236\24\321\136" +
+      "\363\200\244\140\262\274\277\152\115\212\170\203" +
+      "\244\377\134\141\140\72\160\373\13\245\113\101" +
+      "\72\322\243\374\304\74\153\25\67\210\362\15" +
+      "\161\342\221\243\234\340\104\224\255\250\171\302" +
+      "\111\122\270\240\23\61\77\32\43\21\325\124" +
+      "\153\217\102\220\171\210\346\61\377\147\176\32" +
+      "\213\243\256\235\174\353\340\207\211\55\22\134" +
+      "\25\261\163\255\131\11\133\364\42\243\44\171" +
+      "\2\264\363\160\332\211\30\233\251\2\121\231" +
+      "\301\6\337\14\247\230\337\36\317\261\273\313" +
+      "\302\157\320\22\226\162\275\124\313\361\101\140" +
+      "\63\167\332\107\117\220\265\117\370\144\250\366" +
+      "\261\333\162\53\273\172\344\117\130\127\345\66" +
+      "\267\145\47\210\244\371\0\104\163\131\340\364" +
+      "\41\46\177\136\170\45\347\215\100\27\160\132" +
+      "\37\250\251\253\42\266\231\133\357\225\332\123" +
+      "\27\321\52\20\244\100\132\241\302\112\257\55" +
+      "\341\12\143\264\211\221\62\63\42\375\331\306" +
+      "\56\223\262\250\132\136\114\12\115\334\232\106" +
+      "\0\250\256\103\76\350\1\61\202\362\333\153" +
+      "\30\33\347\363\225\64\363\200\370\131\252\346" +
+      "\51\116\277\100\376\236\156\205\15\235\354\265" +
+      "\306\50\241\275\212\246\46\142\63\307\12\356" +
+      "\352\136\323\366\277\22\34\127\240\57\20\375" +
+      "\310\252\265\53\302\46\222\341\103\362\37\75" +
+      "\132\24\157\267\163\345\362\343\337\74\332\277" +
+      "\203\165\120\376\250\243\275\325\202\202\275\255" +
+      "\247\172\106\114\42\6\156\143\216\51\136\311" +
+      "\63\371\116\25\74\50\161\220\314\70\165\113" +
+      "\276\357\157\124\163\226\37\60\230\323\275\31" +
+      "\210\52\60\377\43\360\21\127\141\340\244\236" +
+      "\41\33\41\72\222\74\277\141\16\151\116\205" +
+      "\160\223\123\343\234\155\363\312\214\20\230\53" +
+      "\247\351\132\210\356\311\102\163\11\53\364\42" +
+      "\352\146\45\52\362\113\277\101\377\146\306\60" +
+      "\145\21\14\145\246\121\62\213\162\115\206\243" +
+      "\140\325\220\230\373\245\56\373\334\47\307\251" +
+      "\334\64\23\264\122\151\321\35\120\44\143\230" +
+      "\30\35\152\174\116\244\352\237\240\47\27\162" +
+      "\305\143\310\33\103\147\22\40\137\51\325\233" +
+      "\74\237\370\150\145\324\347\333\214\346\247\221" +
+      "\103\40\73\243\143\134\343\165\353\115\176\203" +
+      "\324\34\275\2\315\27\44\53\350\374\26\77" +
+      "\105\235\236\146\173\205\156\120\371\160\322\305" +
+      "\74\220\31\166\15\213\47\130\240\320\327\105" +
+      "\315\250\222\301\247\145\171\357\41\224\212\205" +
+      "\354\303\47\105\207\234\245\61\300\64\161\350" +
+      "\305\373\40\31\270\73\212\131\202\130\344\175" +
+      "\345\45\104\255\247\306\203\323\251\11\350\43" +
+      "\101\2\117\314\303\375\221\312\57\4\204\113" +
+      "\223\106\322\212\106\200\264\171\332\245\70\1" +
+      "\340\161\300\222\300\362\33\373\167\123\32\360" +
+      "\347\322\261\101\75\353\171\106\373\116\63\25" +
+      "\235\101\175\345\2\140\12\34\24\216\236\101" +
+      "\364\375\211\40\244\165\20\70\101\245\43\357" +
+      "\126\366\367\370\376\211\271\145\126\241\140\221" +
+      "\321\365\341\262\64\360\370\141\37\55\151\64" +
+      "\212\324\60\156\35\125\17\107\251\141\262\221" +
+      "\11\303\365\250\365\244\45\227\257\36\14\177" +
+      "\116\372\266\22\327\350\75\231\235\356\30\6" +
+      "\154\323\56\205\266\47\120\73\241\146\366\253" +
+      "\172\54\137\153\42\13\56\256\17\36\70\233" +
+      "\12\134\107\305\200\233\61\250\74\221\314\43" +
+      "\44\101\341\202\174\245\42\361\6\342\245\116" +
+      "\142\126\252\365\370\155\343\142\330\363\327\164" +
+      "\35\21\266\134\201\33\307\165\275\275\264\116" +
+      "\243\317\117\356\232\325\66\220\274\2\337\305" +
+      "\51\263\353\170\140\111\105\364\130\141\223\27" +
+      "\15\167\110\70\5\142\203\155\153\202\367\371" +
+      "\27\125\326\372\343\21\132\367\34\50\44\137" +
+      "\147\352\144\163\153\126\224\174\51\232\323\242" +
+      "\172\113\173\265\117\242\135\375\17\351\134\323" +
+      "\275\36\163\12\4\223\163\352\54\51\316\216" +
+      "\174\15\141\236\100\207\107\157\351\6\325\207" +
+      "\265\11\115\131\176\153\16\337\337\270\45\215" +
+      "\115\362\17\167\202\230\344\66\256\67\357\46" +
+      "\217\377\165\132\66\2\326\27\275\323\172\247" +
+      "\216\101\340\356\217\52\175\314\300\7\227\31" +
+      "\122\115\312\321\123\274\164\170\102\61\33\376" +
+      "\275\51\160\54\103\230\261\344\123\274\147\215" +
+      "\112\10\201\74\167\3\57\206\272\65\133\356" +
+      "\50\270\213\127\325\14\57\20\247\40\311\241" +
+      "\71\125\177\167\45\111\74\322\232\147\365\202" +
+      "\313\175\346\230\24\304\174\353\233\136\363\132" +
+      "\132\63\66\31\256\357\203\65\164\150\122\145" +
+      "\51\241\203\133\152\235\3\75\276\235\243\47" +
+      "\243\46\132\371\354\250\117\211\140\323\22\24" +
+      "\56\275\231\125\233\321\274\361\40\342\352\241" +
+      "\66\371\336\34\252\213\317\151\24\307\277\304";
+
+  private static final String TABLE_PACKED_9 =
+      "\210\46\242\63\220\361\200\366\64\332\171\35" +
+      "\221\103\314\61\377\122\270\56\201\47\254\67" +
+      "\347\223\43\247\304\32\135\177\202\305\211\36" +
+      "\50\120\325\336\171\71\331\256\120\253\142\325" +
+      "\173\17\146\361\61\323\320\174\270\131\263\214" +
+      "\342\377\11\22\334\17\63\221\373\225\53\262" +
+      "\235\367\143\246\11\117\376\161\337\243\130\175" +
+      "\201\240\205\332\62\205\367\102\122\76\10\35" +
+      "\72\40\353\124\31\20\45\377\334\144\330\317" +
+      "\332\322\26\62\333\332\156\32\56\304\336\54" +
+      "\355\74\275\124\212\240\156\253\145\324\21\1" +
+      "\230\245\155\41\240\21\31\362\316\161\107\366" +
+      "\121\54\62\177\342\163\160\44\335\120\264\145" +
+      "\373\316\376\120\172\146\144\353\107\364\324\164" +
+      "\44\22\34\102\35\174\7\67\205\41\201\362" +
+      "\225\365\144\101\205\112\33\157\371\337\356\111" +
+      "\314\243\355\163\1\271\340\50\223\123\300\251" +
+      "\260\324\260\160\217\317\167\355\157\110\277\323" +
+      "\301\314\273\314\305\76\334\365\335\134\243\271" +
+      "\263\256\301\60\212\273\346\170\135\205\174\154" +
+      "\0\212\213\302\270\363\172\355\202\24\342\214" +
+      "\60\66\316\132\306\131\250\12\101\200\73\320" +
+      "\116\320\243\63\34\12\173\311\325\156\136\314" +
+      "\156\102\255\123\164\165\24\272\63\3\112\345" +
+      "\272\0\22\142\205\110\164\125\144\306\114\100" +
+      "\202\51\222\223\137\47\224\50\201\126\23\105" +
+      "\254\343\102\200\315\22\16\326\62\114\113\6" +
+      "\314\371\13\122\376\177\362\351\103\33\157\3" +
+      "\265\257\376\304\300\223\202\166\171\321\117\324" +
+      "\150\307\104\101\274\114\11\360\177\244\47\105" +
+      "\265\136\251\61\0\333\31\146\347\143\206\232" +
+      "\217\223\36\222\102\3\25\224\377\154\106\310" +
+      "\3\122\165\342\50\26\270\177\320\34\243\270" +
+      "\46\306\120\62\377\254\176\246\351\125\144\101" +
+      "\317\154\36\354\21\52\164\146\354\204\101\313" +
+      "\156\124\126\363\53\143\32\174\120\261\147\26" +
+      "\326\346\327\77\40\304\255\322\106\371\35\301" +
+      "\351\1\72\12\355\246\132\164\56\35\66\271" +
+      "\71\175\342\1\170\365\345\266\231\127\377\46" +
+      "\375\375\144\363\161\152\46\126\320\334\330\75" +
+      "\106\10\11\116\327\256\125\211\47\252\313\171" +
+      "\367\301\103\206\75\31\362\44\366\1\342\101" +
+      "\26\235\25\351\56\126\267\347\374\356\73\152" +
+      "\275\15\33\126\360\321\335\36\152\301\22\256" +
+      "\371\34\72\140\33\137\217\115\100\145\12\366" +
+      "\366\24\307\166\164\277\174\331\37\242\147\162" +
+      "\206\132\166\15\325\155\62\154\144\376\316\1" +
+      "\61\210\206\240\372\367\203\200\221\45\35\351" +
+      "\271\340\137\100\343\173\64\340\135\254\337\26" +
+      "\43\3\357\355\236\130\155\0\11\371\77\130" +
+      "\351\51\240\330\373\363\262\5\114\214\77\132" +
+      "\3\11\15\155\216\265\55\247\113\102\161\370" +
+      "\344\207\353\173\37\364\273\272\25\305\3\162" +
+      "\30\124\324\51\160\16\244\367\210\254\114\154" +
+      "\26\261\314\307\161\33\273\375\131\273\352\356" +
+      "\211\233\271\363\43\12\270\214\126\336\153\222" +
+      "\223\134\163\114\266\310\245\321\65\355\225\30" +
+      "\57\207\301\223\376\153\60\335\104\267\156\225" +
+      "\67\122\20\66\216\346\234\163\365\267\211\354" +
+      "\234\222\224\344\302\74\150\262\57\56\113\123" +
+      "\27\322\342\71\106\316\150\133\352\62\103\17" +
+      "\4\370\371\276\255\70\131\305\320\330\227\207" +
+      "\44\370\203\67\224\237\335\267\204\30\131\47" +
+      "\46\361\317\160\27\104\203\75\345\126\6\124" +
+      "\276\116\146\150\110\103\201\305\360\103\301\33" +
+      "\333\367\257\75\156\342\132\307\10\66\102\312" +
+      "\360\134\67\116\121\112\117\156\143\377\43\117" +
+      "\164\61\313\205\222\251\125\62\17\377\261\37" +
+      "\345\103\177\203\103\61\43\155\340\1\137\31" +
+      "\237\24\135\134\255\242\74\277\376\116\276\347" +
+      "\225\270\216\202\214\7\261\255\245\336\312\176" +
+      "\45\224\22\214\274\125\366\142\53\35\60\12" +
+      "\354\14\346\315\246\10\76\312\271\132\353\215" +
+      "\275\314\314\32\36\352\254\156\357\312\143\264" +
+      "\15\324\216\231\326\320\200\110\207\23\70\374" +
+      "\105\252\216\343\201\64\203\342\303\337\317\272" +
+      "\210\265\255\100\224\345\242\372\345\260\354\103" +
+      "\234\262\374\305\217\350\243\44\163\200\300\213" +
+      "\255\332\246\172\361\371\160\50\112\16\67\55" +
+      "\62\133\223\70\3\236\114\71\314\257\40\240" +
+      "\270\105\215\243\260\43\250\153\215\220\337\142" +
+      "\44\54\100\167\1\161\146\267\347\274\62\10" +
+      "\144\304\53\145\166\253\261\204\73\264\365\223" +
+      "\237\273\13\227\46\206\220\71\353\23\176\332" +
+      "\261\247\10\11\316\167\242\4\72\213\27\126" +
+      "\76\112\40\101\57\65\347\124\135\340\205\377" +
+      "\335\150\151\44\361\35\310\277\140\156\350\126" +
+      "\35\66\325\302\266\346\367\10\210\207\140\51" +
+      "\305\146\275\352\244\352\163\336\11\220\360\153" +
+      "\302\370\172\361\177\114\66\321\357\231\50\334" +
+      "\71\251\230\121\246\305\344\12\51\202\217\151" +
+      "\150\224\105\24\362\65\63\147\372\304\43\264" +
+      "\177\324\142\274\75\326\231\7\103\23\135\230" +
+      "\341\67\200\37\114\330\117\154\333\244\123\71" +
+      "\35\313\137\221\232\335\140\170\252\277\65\142" +
+      "\331\116\361\113\231\220\327\46\32\175\347\114" +
+      "\153\164\74\213\147\354\2\111\267\204\174\264" +
+      "\223\213\124\270\25\6\76\344\116\333\77\70" +
+      "\176\354\173\320\311\330\167\334\377\174\341\137" +
+      "\222\61\26\115\265\17\164\232\251\323\102\346";
+
+  private static final String TABLE_PACKED_10 =
+      "\17\365\306\231\256\303\42\212\311\203\22\173" +
+      "\117\145\256\111\117\51\61\131\314\213\13\337" +
+      "\170\16\111\75\75\33\327\341\213\371\377\340" +
+      "\150\171\254\54\55\23\104\303\356\57\37\62" +
+      "\36\237\62\255\252\271\225\57\273\276\235\373" +
+      "\72\307\225\62\274\340\244\60\110\136\357\362" +
+      "\243\243\266\253\371\304\70\241\133\300\261\332" +
+      "\67\357\42\273\27\307\362\323\221\227\31\17" +
+      "\102\12\76\320\211\177\142\344\25\253\312\237" +
+      "\172\73\237\65\213\325\30\161\330\53\71\143" +
+      "\52\202\344\264\277\67\177\170\262\177\3\64" +
+      "\57\326\155\62\355\133\337\367\241\203\137\74" +
+      "\101\77\121\340\165\50\244\364\123\207\226\102" +
+      "\275\271\214\166\273\212\176\31\172\263\162\164" +
+      "\67\315\144\321\235\324\260\171\250\373\164\160" +
+      "\34\246\176\144\335\220\131\220\221\323\206\42" +
+      "\360\165\46\320\320\204\311\331\101\24\60\3" +
+      "\203\120\6\257\103\5\272\37\51\375\177\235" +
+      "\272\303\13\246\271\327\252\105\166\347\61\71" +
+      "\133\157\53\261\7\204\252\326\225\161\72\176" +
+      "\360\245\102\236\207\274\55\30\331\14\72\254" +
+      "\365\320\1\37\361\170\342\0\353\276\363\207" +
+      "\202\21\43\334\307\26\366\224\177\20\261\214" +
+      "\243\310\301\143\366\337\346\23\351\62\177\105" +
+      "\44\204\272\124\17\365\162\141\303\227\243\44" +
+      "\77\26\361\51\260\103\105\241\315\353\110\210" +
+      "\341\54\313\55\345\6\154\20\346\360\333\310" +
+      "\123\231\27\236\46\276\16\154\275\171\167\16" +
+      "\143\375\177\116\211\136\255\176\35\351\271\331" +
+      "\72\341\43\200\141\377\330\307\67\67\123\152" +
+      "\46\335\23\127\104\12\227\307\231\74\227\353" +
+      "\165\251\47\10\255\220\230\336\371\111\237\63" +
+      "\11\60\256\142\123\72\373\342\31\306\306\336" +
+      "\137\123\41\61\104\232\136\7\60\111\305\156" +
+      "\107\337\63\247\227\47\107\227\37\176\300\10" +
+      "\351\75\347\317\3\77\30\372\146\301\42\100" +
+      "\263\103\117\201\107\75\122\73\7\27\160\47" +
+      "\365\223\56\346\327\313\217\115\264\237\254\104" +
+      "\134\113\64\253\125\13\260\223\356\71\24\114" +
+      "\2\21\30\102\14\33\350\241\12\237\333\234" +
+      "\62\45\314\333\351\24\173\147\172\331\5\131" +
+      "\74\35\307\175\372\305\72\75\264\30\336\227" +
+      "\131\131\231\301\162\240\120\321\205\212\222\223" +
+      "\221\306\16\56\54\234\352\54\374\150\27\346" +
+      "\333\333\67\356\314\44\326\330\53\65\116\137" +
+      "\160\354\344\205\221\163\221\376\263\27\271\241" +
+      "\356\175\263\11\132\113\352\251\113\160\216\240" +
+      "\1\32\352\200\133\76\227\60\322\102\362\44" +
+      "\7\303\353\61\373\307\150\104\167\177\200\251" +
+      "\276\270\157\317\54\175\363\247\122\43\244\47" +
+      "\13\302\23\162\16\3\135\323\142\57\62\342" +
+      "\112\215\357\127\224\205\226\204\364\0\43\326" +
+      "\50\124\110\256\155\325\143\77\317\20\110\47" +
+      "\340\104\27\340\332\70\257\246\136\274\102\132" +
+      "\324\335\377\40\250\173\115\377\333\20\165\303" +
+      "\342\17\257\202\234\243\47\276\240\133\347\56" +
+      "\246\262\51\336\345\143\76\274\376\154\252\170" +
+      "\153\340\116\4\305\363\237\242\374\166\232\165" +
+      "\165\270\354\137\172\221\340\263\206\251\276\20" +
+      "\240\232\76\45\161\100\60\263\12\135\10\333" +
+      "\175\360\240\31\3\301\126\170\243\331\7\355" +
+      "\64\320\176\103\164\153\147\113\101\106\67\75" +
+      "\110\111\245\76\263\213\323\203\5\365\145\144" +
+      "\102\160\345\52\363\223\122\373\360\120\324\120" +
+      "\242\245\106\246\334\16\40\312\153\347\136\231" +
+      "\243\371\145\205\322\12\106\276\204\105\107\116" +
+      "\51\144\31\252\235\303\221\20\35\135\115\67" +
+      "\321\307\165\224\346\361\21\233\347\156\335\15" +
+      "\133\46\7\367\353\33\21\37\40\231\216\13" +
+      "\75\315\77\310\312\210\215\36\310\234\67\276" +
+      "\47\261\103\275\160\25\70\22\123\144\37\175" +
+      "\216\225\45\221\32\72\220\241\110\154\243\127" +
+      "\237\275\206\304\225\26\274\111\342\2\44\326" +
+      "\310\165\304\251\254\1\131\205\113\74\31\112" +
+      "\135\105\130\71\266\350\223\325\123\311\341\261" +
+      "\112\12\154\261\110\26\27\175\342\40\331\246" +
+      "\352\326\177\274\132\345\300\335\73\133\222\116" +
+      "\171\127\376\314\367\137\23\120\201\174\326\274" +
+      "\67\325\350\127\227\305\253\320\223\112\220\153" +
+      "\121\20\47\263\312\70\340\0\140\312\100\305" +
+      "\47\47\13\116\177\35\127\346\37\157\271\116" +
+      "\167\321\117\237\272\21\350\243\165\257\121\360" +
+      "\271\143\354\264\37\240\156\131\242\17\101\26" +
+      "\172\75\156\260\174\4\50\257\345\370\153\315" +
+      "\372\53\122\71\33\330\176\273\44\103\104\331" +
+      "\106\357\317\170\252\372\357\214\33\311\267\36" +
+      "\247\352\207\30\153\276\53\313\160\165\133\345" +
+      "\124\345\134\310\370\374\370\202\376\302\115\50" +
+      "\14\277\162\164\213\10\224\300\371\166\370\34" +
+      "\220\251\355\273\214\146\302\156\251\301\55\57" +
+      "\300\272\363\367\361\172\310\277\373\311\335\224" +
+      "\112\343\203\50\77\355\146\205\171\256\44\324" +
+      "\23\310\302\151\276\42\34\201\272\327\61\55" +
+      "\311\316\106\67\371\222\76\367\35\146\247\261" +
+      "\164\130\47\356\373\2\232\377\43\251\174\104" +
+      "\14\337\153\362\235\31\262\234\172\216\330\45" +
+      "\331\56\342\244\115\0\374\263\75\2\77\227" +
+      "\134\113\111\322\117\173\14\265\32\216\352\4" +
+      "\42\146\207\164\357\206\356\346\211\303\152\333" +
+      "\66\276\220\215\6\252\371\171\5\70\170\251";
+
+  private static final String TABLE_PACKED_11 =
+      "\122\212\61\2\60\260\36\345\331\231\47\304" +
+      "\130\213\61\302\371\43\325\376\2\43\241\303" +
+      "\76\6\37\252\334\274\146\273\112\333\44\77" +
+      "\174\47\275\151\165\313\224\100\161\307\22\366" +
+      "\71\14\46\135\107\271\75\25\253\321\145\13" +
+      "\30\63\245\27\153\145\321\303\67\335\373\57" +
+      "\73\46\207\365\34\333\55\151\243\345\301\140" +
+      "\165\21\260\175\143\136\15\256\255\245\257\266" +
+      "\61\232\313\262\260\251\15\303\305\374\56\146" +
+      "\246\110\324\23\341\112\221\152\377\65\21\210" +
+      "\306\105\63\150\277\252\235\76\117\102\103\4" +
+      "\123\101\342\26\261\315\33\344\102\135\261\260" +
+      "\324\134\226\330\263\173\121\173\210\63\343\270" +
+      "\172\264\204\135\31\31\235\212\120\132\263\11" +
+      "\256\103\247\101\153\234\371\66\122\37\351\126" +
+      "\52\237\374\335\7\372\354\63\246\344\233\166" +
+      "\316\367\373\162\105\125\5\176\34\242\23\134" +
+      "\3\50\215\105\104\254\54\312\373\30\64\307" +
+      "\100\375\330\212\314\136\266\13\372\127\126\325" +
+      "\311\315\21\373\334\252\21\356\276\151\36\324" +
+      "\344\375\341\37\210\23\272\317\16\354\105\374" +
+      "\102\143\235\201\51\327\273\47\315\371\237\132" +
+      "\10\22\325\70\345\206\241\241\30\127\364\24" +
+      "\11\73\214\235\64\345\347\351\375\326\321\31" +
+      "\271\344\364\4\272\125\331\101\161\122\71\362" +
+      "\353\103\244\23\251\167\211\2\143\101\306\212" +
+      "\53\134\21\2\32\24\216\52\361\54\310\63" +
+      "\311\20\127\271\304\23\227\353\207\264\134\25" +
+      "\44\220\22\306\315\13\327\355\234\351\0\243" +
+      "\256\353\361\354\131\153\32\1\34\175\306\65" +
+      "\44\204\357\222\201\264\354\161\322\373\221\175" +
+      "\341\21\252\254\30\212\135\116\337\331\144\236" +
+      "\27\247\34\115\171\260\45\302\356\6\73\71" +
+      "\356\116\274\125\274\25\133\214\365\223\73\172" +
+      "\235\154\213\233\52\355\167\13\253\344\337\160" +
+      "\27\116\255\320\203\245\53\337\6\364\35\374" +
+      "\160\121\61\130\317\20\351\151\300\26\104\63" +
+      "\141\375\217\14\242\306\377\143\126\204\135\77" +
+      "\140\355\366\45\146\27\30\316\350\210\210\342" +
+      "\340\112\17\364\57\206\301\244\153\316\323\211" +
+      "\60\177\6\170\216\366\132\176\276\75\200\240" +
+      "\13\352\351\254\104\156\152\43\204\50\43\143" +
+      "\275\62\101\356\343\175\170\266\50\26\41\6" +
+      "\305\27\34\17\261\25\320\346\37\260\113\275" +
+      "\211\326\114\62\276\103\121\253\213\266\165\354" +
+      "\60\223\267\375\213\345\155\25\332\356\345\17" +
+      "\255\315\16\367\105\165\40\252\14\134\366\301" +
+      "\17\333\137\210\136\212\230\370\374\7\25\212" +
+      "\61\227\256\66\216\363\202\325\347\157\343\213" +
+      "\25\144\225\207\121\26\137\147\303\24\123\205" +
+      "\147\376\153\350\116\277\225\226\324\363\52\160" +
+      "\370\331\1\164\100\262\241\352\142\45\37\325" +
+      "\175\76\223\134\121\121\311\177\124\213\115\270" +
+      "\221\22\47\10\153\232\115\201\353\275\41\244" +
+      "\326\67\144\254\356\221\264\311\242\201\144\117" +
+      "\103\270\76\276\55\44\147\22\23\247\36\41" +
+      "\71\371\4\102\153\321\124\133\211\113\37\172" +
+      "\76\151\42\116\237\134\356\240\215\154\177\202" +
+      "\235\40\271\12\333\316\131\355\63\70\11\25" +
+      "\122\77\245\146\41\160\236\361\362\63\13\61" +
+      "\73\107\231\342\256\172\174\46\26\114\122\146" +
+      "\270\214\366\233\20\11\41\117\205\117\325\71" +
+      "\200\73\102\140\233\373\0\265\371\174\45\337" +
+      "\73\332\244\147\233\325\136\231\304\217\173\173" +
+      "\114\137\46\375\223\357\150\22\276\40\142\376" +
+      "\15\211\75\330\310\53\140\226\130\6\225\206" +
+      "\365\200\112\124\70\16\115\323\135\322\201\212" +
+      "\136\374\333\201\2\161\60\267\226\12\360\23" +
+      "\265\350\311\305\45\211\30\205\77\145\316\140" +
+      "\274\357\160\314\255\174\135\177\357\331\74\340" +
+      "\343\155\227\133\233\345\304\364\30\31\151\232" +
+      "\67\317\240\305\231\75\370\137\126\125\250\326" +
+      "\256\77\141\273\313\34\355\10\243\237\133\162" +
+      "\52\255\125\27\230\246\44\66\356\25\353\153" +
+      "\313\11\262\325\360\273\5\40\107\363\53\340" +
+      "\220\150\256\373\236\323\134\17\236\257\203\74" +
+      "\272\301\172\41\326\20\72\151\164\66\265\372" +
+      "\353\275\312\275\326\243\6\31\73\2\35\367" +
+      "\25\231\272\100\71\143\350\355\113\157\76\212" +
+      "\354\125\357\134\162\356\156\225\253\316\377\14" +
+      "\45\74\102\33\42\146\164\11\322\206\210\21" +
+      "\42\245\103\12\246\63\257\313\254\363\3\130" +
+      "\234\355\214\34\374\160\214\263\220\20\264\213" +
+      "\312\313\165\251\41\147\161\270\115\220\354\216" +
+      "\232\352\67\250\162\22\242\171\303\246\210\257" +
+      "\53\310\367\262\142\307\262\301\235\41\326\117" +
+      "\152\64\175\346\263\111\163\165\237\200\16\342" +
+      "\365\106\223\145\277\307\324\337\52\364\305\25" +
+      "\352\231\254\332\332\235\132\232\64\164\111\105" +
+      "\232\201\7\150\105\260\332\242\133\200\51\74" +
+      "\252\24\140\13\100\315\156\215\157\314\160\77" +
+      "\166\153\335\324\370\337\360\204\260\270\157\27" +
+      "\156\236\335\316\77\113\173\50\254\147\163\111" +
+      "\7\374\312\107\357\115\224\235\73\14\260\261" +
+      "\1\73\331\13\350\313\155\50\334\264\174\133" +
+      "\132\254\31\214\227\151\200\141\204\124\164\10" +
+      "\322\220\236\345\35\325\22\356\361\225\56\67" +
+      "\262\47\121\217\225\267\304\225\35\320\327\363" +
+      "\237\3\217\323\75\107\106\303\171\341\360\252" +
+      "\101\230\367\135\266\175\240\370\14\206\130\0";
+
+  private static final String TABLE_PACKED_12 =
+      "\307\102\352\276\153\202\74\245\153\46\33\361" +
+      "\166\324\126\172\266\325\231\307\53\77\325\14" +
+      "\145\131\365\137\366\46\372\161\177\30\106\357" +
+      "\120\272\15\46\44\117\41\344\373\100\201\40" +
+      "\366\173\157\342\316\43\346\263\132\142\164\335" +
+      "\144\356\372\72\332\352\113\236\7\174\356\314" +
+      "\116\163\41\363\223\137\322\104\25\156\331\220" +
+      "\64\316\107\262\151\260\355\336\266\57\23\3" +
+      "\272\210\224\321\333\233\336\153\114\333\264\21" +
+      "\346\116\165\11\213\160\42\370\170\352\72\264" +
+      "\263\132\150\114\36\10\332\110\107\222\112\365" +
+      "\12\25\207\256\264\132\61\324\241\344\273\374" +
+      "\140\24\342\6\330\167\376\6\155\277\125\144" +
+      "\342\43\23\153\75\127\11\343\246\361\343\21" +
+      "\362\74\51\177\255\15\302\100\342\56\324\243" +
+      "\1\51\74\224\304\347\257\47\0\204\17\205" +
+      "\365\112\316\250\161\51\76\311\366\332\14\46" +
+      "\133\202\164\337\223\35\24\12\13\167\65\224" +
+      "\76\220\37\313\103\13\252\66\140\133\252\362" +
+      "\351\306\32\212\330\226\166\355\12\342\104\152" +
+      "\304\11\202\343\141\323\201\172\231\177\112\316" +
+      "\107\305\204\326\123\56\35\202\231\215\74\213" +
+      "\273\313\227\133\5\232\354\52\306\307\202\257" +
+      "\210\224\134\351\336\52\200\267\146\66\305\375" +
+      "\11\112\30\242\37\31\205\177\131\135\251\174" +
+      "\315\53\113\266\327\237\272\41\325\71\207\72" +
+      "\15\342\254\364\145\227\230\376\31\50\143\355" +
+      "\127\73\210\113\337\232\70\143\155\254\372\335" +
+      "\130\262\113\267\26\23\262\306\201\122\374\154" +
+      "\251\275\141\211\307\156\303\22\246\2\344\137" +
+      "\214\311\343\214\100\63\116\371\116\130\254\261" +
+      "\110\66\356\337\23\301\302\376\106\304\274\254" +
+      "\27\337\147\346\22\133\323\324\314\303\142\17" +
+      "\230\42\101\232\170\2\304\157\255\113\157\300" +
+      "\265\234\67\36\344\122\323\211\124\106\336\112" +
+      "\113\12\217\161\244\333\232\165\336\51\253\262" +
+      "\304\0\355\312\323\32\370\343\206\110\244\102" +
+      "\132\372\344\142\170\272\362\272\102\305\315\77" +
+      "\70\34\203\371\37\11\166\375\207\150\307\111" +
+      "\165\121\213\203\17\42\57\0\115\105\54\73" +
+      "\367\150\142\341\376\134\264\221\171\20\360\240" +
+      "\10\35\50\302\310\3\177\125\221\351\174\75" +
+      "\360\315\265\113\340\310\133\234\121\75\203\236" +
+      "\314\52\171\20\202\144\341\162\11\376\153\76" +
+      "\351\344\21\322\50\101\31\310\374\22\370\263" +
+      "\44\207\307\43\311\44\2\270\127\64\254\4" +
+      "\4\303\250\171\273\173\276\252\113\226\157\344" +
+      "\362\115\124\147\374\35\337\206\223\262\342\254" +
+      "\351\304\327\252\1\373\173\340\142\254\134\320" +
+      "\132\165\355\101\245\274\261\324\160\66\262\365" +
+      "\333\342\350\261\355\121\212\233\45\266\310\326" +
+      "\36\275\303\342\314\74\21\207\313\204\307\107" +
+      "\205\121\214\76\326\135\222\33\244\266\244\107" +
+      "\306\235\224\147\264\164\143\33\25\241\46\247" +
+      "\60\337\13\7\225\312\211\150\240\340\257\374" +
+      "\236\71\117\323\153\116\227\341\331\213\274\205" +
+      "\44\366\156\20\245\137\116\273\342\132\124\352" +
+      "\46\120\105\17\53\302\370\310\30\231\114\135" +
+      "\100\311\112\143\364\161\162\20\45\151\351\250" +
+      "\231\20\61\127\52\52\27\122\327\65\330\263" +
+      "\14\151\4\77\175\62\263\325\67\116\62\14" +
+      "\200\344\42\64\30\50\172\135\302\207\35\336" +
+      "\274\303\205\124\64\115\265\303\141\40\45\31" +
+      "\105\217\155\317\55\341\134\373\176\231\40\223" +
+      "\112\241\130\142\364\23\360\357\275\302\206\370" +
+      "\100\341\274\377\46\146\325\350\345\223\77\315" +
+      "\212\372\161\141\50\62\137\146\100\261\142\267" +
+      "\24\203\254\327\26\116\356\107\220\127\57\106" +
+      "\42\321\300\323\175\144\22\53\270\216\56\253" +
+      "\174\120\112\374\312\20\127\241\200\175\324\330" +
+      "\30\270\61\304\56\126\355\62\46\201\53\206" +
+      "\347\341\105\234\143\161\220\200\254\324\15\45" +
+      "\272\242\26\230\371\117\44\353\37\366\26\64" +
+      "\121\40\331\72\304\172\241\271\155\326\356\301" +
+      "\143\44\154\301\26\147\163\32\232\37\131\222" +
+      "\165\317\54\66\334\101\34\163\370\223\253\76" +
+      "\234\245\50\172\161\101\232\171\367\235\253\64" +
+      "\3\26\34\70\356\63\370\115\315\210\355\254" +
+      "\52\347\172\217\172\364\125\176\133\277\227\127" +
+      "\302\224\43\254\253\362\333\31\67\13\352\336" +
+      "\62\66\112\362\307\127\234\241\306\117\116\375" +
+      "\105\205\115\276\124\350\300\361\75\264\40\354" +
+      "\307\26\264\137\34\125\111\240\50\155\310\247" +
+      "\264\121\33\211\20\75\321\331\327\21\166\144" +
+      "\337\314\313\245\311\330\242\350\63\111\311\265" +
+      "\335\156\360\30\360\10\5\144\205\174\220\262" +
+      "\110\53\275\321\170\165\316\273\242\314\311\361" +
+      "\20\122\170\343\216\57\11\205\330\132\232\237" +
+      "\375\37\322\272\101\314\45\176\134\172\232\102" +
+      "\64\75\47\1\232\76\102\115\315\346\165\241" +
+      "\360\117\366\363\120\46\167\162\267\377\134\244" +
+      "\10\376\52\1\371\112\0\336\301\41\25\66" +
+      "\146\325\31\257\231\135\171\212\30\157\211\101" +
+      "\115\4\241\267\246\302\6\3\123\274\232\263" +
+      "\216\370\174\267\162\21\370\325\103\71\143\276" +
+      "\150\365\256\332\213\300\262\316\315\146\73\270" +
+      "\125\132\226\60\345\277\342\356\214\270\124\305" +
+      "\270\77\72\26\52\237\216\336\242\250\60\122" +
+      "\144\221\372\161\50\163\45\63\163\57\230\13" +
+      "\307\53\46\63\301\300\245\242\367\105\361\142";
+
+  private static final String TABLE_PACKED_13 =
+      "\167\251\140\114\50\50\233\166\205\357\163\371" +
+      "\243\117\110\50\251\101\15\14\255\7\154\367" +
+      "\264\127\165\255\232\215\351\55\57\346\250\17" +
+      "\127\350\226\222\23\275\374\13\202\362\243\172" +
+      "\335\320\223\360\334\257\366\113\70\106\152\327" +
+      "\370\27\75\261\132\27\245\45\57\77\171\40" +
+      "\151\41\174\132\41\113\317\150\336\150\261\161" +
+      "\144\113\267\375\70\65\325\161\365\203\34\43" +
+      "\241\23\27\67\247\234\115\336\76\40\160\324" +
+      "\364\44\133\45\364\43\330\315\105\165\32\30" +
+      "\235\35\353\114\351\220\130\276\132\277\210\314" +
+      "\241\250\172\363\264\126\60\265\303\42\27\373" +
+      "\340\255\213\73\70\326\303\247\46\253\351\272" +
+      "\150\305\342\2\155\302\335\103\33\305\253\375" +
+      "\347\326\357\321\67\11\320\307\57\262\250\32" +
+      "\162\317\131\200\124\350\153\73\222\376\353\323" +
+      "\176\166\301\152\110\117\306\234\350\15\54\136" +
+      "\364\335\206\75\256\20\124\226\135\4\116\133" +
+      "\224\35\143\366\364\41\361\216\341\66\211\370" +
+      "\21\161\235\166\111\126\102\146\216\40\233\140" +
+      "\40\334\41\135\256\140\145\155\174\125\126\210" +
+      "\106\351\272\106\201\361\155\355\350\64\334\331" +
+      "\205\145\274\53\274\245\104\64\102\171\210\333" +
+      "\13\317\146\151\337\230\164\356\315\131\143\342" +
+      "\362\363\330\261\32\176\151\220\260\305\316\320" +
+      "\14\374\363\325\175\350\236\130\352\230\207\345" +
+      "\72\16\266\267\52\360\141\371\222\265\40\361" +
+      "\160\376\23\372\2\43\347\314\301\26\377\276" +
+      "\323\136\77\212\252\214\166\162\373\224\140\244" +
+      "\71\244\130\205\34\35\26\171\22\53\116\64" +
+      "\256\144\120\27\203\236\7\355\360\27\30\125" +
+      "\145\370\100\5\110\105\153\50\74\214\71\273" +
+      "\173\31\374\77\277\200\243\360\326\142\234\306" +
+      "\40\227\166\111\72\273\102\112\316\103\363\140" +
+      "\331\372\132\353\310\42\141\121\132\367\154\104" +
+      "\244\117\167\112\175\175\131\115\27\15\213\113" +
+      "\60\266\174\220\121\212\14\155\363\226\275\213" +
+      "\120\57\173\21\322\275\214\50\351\171\362\70" +
+      "\144\112\316\62\223\273\0\13\203\107\126\107" +
+      "\361\32\334\263\354\131\362\116\103\23\141\17" +
+      "\157\365\167\261\215\166\371\160\367\130\5\322" +
+      "\106\231\344\174\206\50\101\113\362\45\46\166" +
+      "\355\154\260\331\137\167\31\246\137\351\140\122" +
+      "\127\126\16\113\31\332\4\211\340\173\314\255" +
+      "\75\204\74\117\335\242\221\164\342\257\354\251" +
+      "\163\241\64\16\207\212\237\274\122\54\17\16" +
+      "\306\144\147\230\63\67\350\65\136\124\151\202" +
+      "\272\5\214\213\301\31\367\374\63\276\223\7" +
+      "\143\255\6\336\143\233\325\322\103\362\331\353" +
+      "\226\312\316\134\331\266\345\257\73\147\114\362" +
+      "\233\52\202\143\132\10\222\70\161\303\365\256" +
+      "\272\115\306\257\173\336\336\112\172\265\137\162" +
+      "\341\25\155\255\153\52\223\262\341\236\323\121" +
+      "\151\130\31\65\67\254\213\314\240\270\243\372" +
+      "\210\27\107\300\336\57\46\30\52\72\153\367" +
+      "\232\174\233\214\200\260\337\272\173\126\160\16" +
+      "\303\345\270\222\273\367\137\70\56\334\70\147" +
+      "\340\176\117\325\35\326\42\221\66\60\36\345" +
+      "\136\240\75\16\11\32\152\254\0\322\301\175" +
+      "\31\202\243\132\127\214\264\11\272\25\212\332" +
+      "\55\345\246\332\326\147\261\232\32\114\62\13" +
+      "\337\11\7\260\204\156\173\337\74\26\22\354" +
+      "\130\75\62\353\143\52\163\70\40\114\305\351" +
+      "\336\63\262\115\377\366\117\5\154\134\24\162" +
+      "\103\234\235\247\217\331\337\141\352\46\354\347" +
+      "\57\110\331\101\256\16\231\64\142\370\275\345" +
+      "\302\255\142\50\116\212\126\224\60\20\260\201" +
+      "\226\115\53\271\143\75\301\32\126\145\205\75" +
+      "\325\246\300\64\13\170\35\270\172\211\357\216" +
+      "\40\256\37\65\175\240\100\275\251\204\335\317" +
+      "\70\264\322\314\74\113\327\204\13\77\25\136" +
+      "\233\123\362\33\140\30\67\42\263\54\374\302" +
+      "\27\273\354\326\326\374\232\355\266\371\114\4" +
+      "\20\173\305\322\360\126\300\116\330\357\164\240" +
+      "\173\53\250\34\62\327\313\214\125\254\164\133" +
+      "\321\111\341\205\233\350\65\263\267\361\57\226" +
+      "\40\226\260\102\117\232\153\365\64\122\115\241" +
+      "\350\34\114\264\231\56\321\361\147\144\270\214" +
+      "\272\265\313\43\230\306\331\226\274\226\216\300" +
+      "\301\216\326\300\1\367\255\40\247\0\150\212" +
+      "\207\126\6\15\351\152\236\117\30\252\40\16" +
+      "\177\70\367\51\170\244\221\11\201\375\337\36" +
+      "\307\223\113\7\262\322\7\73\34\175\141\302" +
+      "\176\275\342\73\112\63\301\11\136\374\60\351" +
+      "\226\367\253\273\206\371\116\305\175\127\335\147" +
+      "\66\317\236\45\250\60\254\305\274\320\40\351" +
+      "\201\333\271\301\355\357\331\101\202\347\3\230" +
+      "\252\131\227\157\332\131\37\353\273\5\315\17" +
+      "\41\354\377\217\262\217\345\23\252\233\200\121" +
+      "\150\245\145\56\274\146\114\273\50\140\150\263" +
+      "\45\122\134\363\41\112\62\153\240\160\261\272" +
+      "\133\372\140\63\13\307\305\377\61\246\377\305" +
+      "\376\134\173\34\117\325\1\20\121\150\233\103" +
+      "\342\305\134\255\153\140\56\113\301\256\45\103" +
+      "\44\235\307\114\367\67\240\272\125\162\364\253" +
+      "\335\3\232\64\143\260\117\211\130\137\373\137" +
+      "\311\22\2\371\322\337\42\43\350\323\327\71" +
+      "\123\255\335\373\267\125\371\41\267\151\201\210" +
+      "\61\33\355\173\234\234\111\176\211\113\343\166" +
+      "\170\330\360\201\22\262\344\217\140\130\146\206";
+
+  private static final String TABLE_PACKED_14 =
+      "\106\246\323\342\73\220\23\175\361\104\340\274" +
+      "\320\244\356\256\65\320\301\111\322\45\270\163" +
+      "\263\76\45\312\220\300\237\254\362\110\136\207" +
+      "\13\247\160\275\357\314\227\40\213\240\323\7" +
+      "\366\173\173\152\56\123\224\370\352\163\313\44" +
+      "\267\333\151\252\243\31\306\27\331\166\144\216" +
+      "\305\44\123\223\11\77\251\140\4\47\152\210" +
+      "\27\150\306\266\315\15\270\22\135\134\253\217" +
+      "\341\204\140\106\130\313\2\201\126\71\111\327" +
+      "\324\370\32\240\56\354\324\10\240\356\322\306" +
+      "\146\117\61\150\61\37\352\56\134\172\132\146" +
+      "\252\65\70\203\115\52\350\372\322\332\330\55" +
+      "\322\162\214\222\11\357\34\270\307\72\36\331" +
+      "\177\51\152\165\243\240\375\301\274\137\254\101" +
+      "\336\67\32\174\62\202\10\107\275\240\263\12" +
+      "\63\120\226\325\370\235\170\161\345\171\203\337" +
+      "\53\241\223\360\104\2\373\320\217\4\203\300" +
+      "\357\12\152\26\140\302\270\160\310\125\125\130" +
+      "\341\102\243\356\366\342\165\11\207\204\64\343" +
+      "\77\374\222\122\350\104\360\34\142\141\272\372" +
+      "\12\317\262\101\63\375\254\263\44\51\136\350" +
+      "\121\340\4\272\306\347\142\12\104\235\115\110" +
+      "\55\216\340\43\256\23\162\352\317\227\137\255" +
+      "\154\106\66\54\216\265\323\4\237\60\325\323" +
+      "\312\150\241\24\134\10\101\273\176\262\245\125" +
+      "\366\103\371\341\326\155\261\222\140\41\355\53" +
+      "\224\243\314\236\42\343\166\323\60\167\13\237" +
+      "\263\272\200\327\163\327\337\314\315\326\31\33" +
+      "\351\320\342\204\24\324\242\305\25\320\164\161" +
+      "\33\205\237\275\363\352\0\334\55\343\350\157" +
+      "\331\45\120\327\223\16\12\34\201\156\371\240" +
+      "\226\46\143\223\243\304\256\121\120\347\243\54" +
+      "\50\237\205\46\17\326\226\47\253\231\156\63" +
+      "\370\331\342\7\304\65\131\165\372\151\205\336" +
+      "\63\374\320\274\65\177\155\315\212\123\36\352" +
+      "\126\57\20\66\251\115\270\64\200\354\5\354" +
+      "\11\50\76\134\327\205\35\241\151\30\131\347" +
+      "\162\143\45\173\201\307\161\352\242\125\243\302" +
+      "\267\231\157\227\164\66\316\162\156\237\301\16" +
+      "\130\312\355\26\42\126\201\66\310\144\120\25" +
+      "\210\356\102\33\377\141\6\6\205\366\337\211" +
+      "\212\356\342\166\21\45\107\13\305\236\140\114" +
+      "\117\20\251\302\371\235\230\236\215\101\241\122" +
+      "\321\250\244\227\276\300\352\206\54\42\26\202" +
+      "\154\104\201\110\264\233\373\251\20\63\374\327" +
+      "\67\332\353\201\113\113\104\377\355\20\6\307" +
+      "\210\253\66\256\153\225\27\24\303\246\32\252" +
+      "\60\261\112\75\4\325\326\337\341\302\44\233" +
+      "\363\334\153\360\142\171\127\66\63\53\136\75" +
+      "\350\203\372\350\235\112\127\222\216\170\122\153" +
+      "\46\125\222\12\155\157\305\215\252\204\311\72" +
+      "\234\355\15\64\155\332\346\316\115\65\35\77" +
+      "\237\375\240\177\104\135\325\32\15\160\141\324" +
+      "\312\10\171\236\62\171\232\373\142\207\343\357" +
+      "\153\274\14\26\147\306\363\373\215\37\233\325" +
+      "\125\147\234\227\24\257\131\202\137\115\366\107" +
+      "\335\357\113\326\40\356\6\30\225\24\157\221" +
+      "\71\357\116\132\246\300\213\320\26\62\31\11" +
+      "\173\72\27\153\16\33\27\115\60\107\74\253" +
+      "\7\360\24\57\372\166\1\23\5\217\126\305" +
+      "\370\323\302\235\325\346\242\237\370\324\210\325" +
+      "\364\211\177\171\27\237\44\11\331\260\356\25" +
+      "\330\55\202\364\26\220\145\166\4\110\355\376" +
+      "\333\212\271\264\107\375\175\274\104\252\65\343" +
+      "\114\143\32\105\243\174\224\345\320\164\32\23" +
+      "\14\24\270\272\250\353\243\221\102\124\206\134" +
+      "\167\211\60\331\11\351\2\120\125\164\124\15" +
+      "\3\142\352\230\321\30\67\175\362\117\355\70" +
+      "\344\375\252\70\57\171\246\305\237\33\276\61" +
+      "\41\120\250\52\66\275\144\56\362\124\114\46" +
+      "\106\34\210\127\265\210\323\346\172\207\116\116" +
+      "\233\76\100\371\245\125\120\213\344\330\42\177" +
+      "\375\225\154\11\212\311\327\154\324\167\170\162" +
+      "\254\15\371\260\277\15\173\154\103\10\272\266" +
+      "\354\10\23\321\357\326\56\240\30\214\126\113" +
+      "\365\63\122\200\72\211\215\32\352\55\6\317" +
+      "\115\250\252\0\256\264\103\332\32\120\354\330" +
+      "\170\31\150\1\122\271\124\313\142\353\353\164" +
+      "\347\143\371\165\146\316\231\234\145\1\276\327" +
+      "\73\341\11\334\216\307\212\147\134\101\113\361" +
+      "\347\40\277\267\35\332\103\243\50\76\211\40" +
+      "\166\164\54\361\254\376\37\254\225\353\11\206" +
+      "\274\152\250\146\360\355\1\75\53\17\342\10" +
+      "\352\363\234\162\160\104\356\225\332\200\173\216" +
+      "\241\141\343\14\213\261\266\174\61\122\327\170" +
+      "\10\165\165\1\55\336\137\340\150\372\371\360" +
+      "\237\205\60\226\106\262\311\377\341\246\303\26" +
+      "\327\362\356\271\2\366\371\15\200\71\342\120" +
+      "\302\134\72\70\276\10\115\155\40\264\53\45" +
+      "\111\52\350\353\4\302\321\262\111\251\230\37" +
+      "\312\35\245\371\323\232\147\251\326\217\30\263" +
+      "\336\257\166\344\274\26\301\47\327\55\40\33" +
+      "\152\307\253\33\145\376\302\364\143\242\256\206" +
+      "\246\123\100\125\124\236\77\123\166\233\14\150" +
+      "\23\27\13\344\377\131\64\106\332\121\344\72" +
+      "\256\55\332\327\353\56\325\263\255\330\62\320" +
+      "\50\305\225\363\354\207\260\215\156\310\156\373" +
+      "\22\27\66\251\315\157\130\310\21\373\257\5" +
+      "\125\20\304\357\336\146\42\212\254\302\256\270" +
+      "\335\216\317\123\45\161\142\27\235\271\167\303";
+
+  private static final String TABLE_PACKED_15 =
+      "\213\233\127\320\140\210\331\326\371\125\306\55" +
+      "\251\140\143\225\42\356\267\72\323\320\307\125" +
+      "\160\370\242\211\375\363\156\357\15\365\163\315" +
+      "\157\101\26\205\147\63\166\351\336\355\241\64" +
+      "\45\304\145\200\72\14\132\212\340\361\116\160" +
+      "\42\300\36\330\237\47\240\32\273\250\131\112" +
+      "\111\251\13\271\73\57\167\36\365\315\303\42" +
+      "\366\10\147\212\265\345\224\10\254\276\10\25" +
+      "\312\25\42\377\330\316\370\133\176\353\63\127" +
+      "\147\137\52\330\261\374\223\107\307\23\175\76" +
+      "\20\161\32\152\104\265\257\225\167\250\334\11" +
+      "\70\374\154\302\65\354\304\17\136\353\146\351" +
+      "\136\341\117\63\253\57\37\70\101\233\100\63" +
+      "\364\337\133\46\264\135\146\170\200\241\214\210" +
+      "\266\346\310\11\255\331\74\173\353\264\165\27" +
+      "\301\166\133\173\264\11\216\172\15\273\47\12" +
+      "\150\54\223\357\210\3\113\310\127\21\47\20" +
+      "\201\364\167\240\14\311\373\106\2\104\253\41" +
+      "\241\125\273\306\135\330\57\337\227\272\332\61" +
+      "\165\357\131\212\167\272\131\353\113\327\227\150" +
+      "\102\23\15\1\300\16\343\276\363\202\365\75" +
+      "\75\54\171\147\105\153\164\345\264\253\71\172" +
+      "\162\23\321\11\147\114\52\224\224\41\42\120" +
+      "\73\257\23\55\357\261\117\245\132\255\76\256" +
+      "\141\115\164\153\223\111\201\164\377\71\362\161" +
+      "\235\322\15\130\275\377\337\367\247\44\156\251" +
+      "\353\322\134\350\26\211\256\5\363\121\341\107" +
+      "\257\14\110\117\147\37\111\11\121\301\37\1" +
+      "\327\377\224\212\276\66\323\365\317\112\156\2" +
+      "\26\54\125\130\40\351\110\203\210\325\314\263" +
+      "\34\222\160\362\300\371\166\51\265\163\226\345" +
+      "\164\355\222\226\220\263\250\366\334\25\242\145" +
+      "\51\7\351\0\105\374\21\201\273\232\337\237" +
+      "\233\237\17\133\332\232\302\145\131\205\307\243" +
+      "\266\214\13\207\277\326\22\32\107\340\106\274" +
+      "\330\74\205\242\114\146\116\217\335\143\227\153" +
+      "\311\14\333\172\254\374\360\46\375\237\312\262" +
+      "\15\144\101\230\112\46\222\163\35\35\343\315" +
+      "\167\160\107\327\171\275\27\40\134\124\234\371" +
+      "\321\121\322\2\146\157\140\204\17\324\151\347" +
+      "\373\237\274\156\164\274\304\364\343\21\4\263" +
+      "\15\67\247\2\256\111\124\12\333\371\357\61" +
+      "\1\346\350\121\317\311\13\234\72\162\215\60" +
+      "\366\172\301\111\225\261\237\227\166\321\34\330" +
+      "\360\12\47\45\271\321\12\45\305\246\315\62" +
+      "\7\307\162\266\344\276\243\16\367\64\145\154" +
+      "\230\76\363\62\132\3\21\166\46\352\213\115" +
+      "\157\326\2\134\305\3\270\352\124\313\34\347" +
+      "\357\7\164\50\160\30\224\363\24\55\252\111" +
+      "\377\107\112\62\121\311\56\263\37\50\7\312" +
+      "\44\106\202\223\34\232\252\342\175\301\117\130" +
+      "\44\21\355\237\51\65\105\115\172\247\261\326" +
+      "\257\330\145\347\331\246\261\126\140\44\361\5" +
+      "\12\135\222\244\244\104\344\144\352\113\336\65" +
+      "\130\4\51\75\323\220\74\302\343\304\13\156" +
+      "\111\176\100\364\237\22\104\307\376\303\375\74" +
+      "\146\175\234\7\321\15\112\353\354\130\45\243" +
+      "\151\272\53\350\331\340\213\364\275\241\262\65" +
+      "\166\364\241\213\361\344\72\375\170\246\221\245" +
+      "\320\5\242\106\230\374\143\50\77\254\11\146" +
+      "\261\225\271\163\376\274\355\345\76\360\251\31" +
+      "\145\236\372\120\203\265\354\112\150\161\53\227" +
+      "\261\257\267\331\240\271\361\130\271\32\3\142" +
+      "\127\125\53\40\156\323\350\243\24\152\36\226" +
+      "\23\20\167\163\77\200\30\221\301\72\31\202" +
+      "\120\145\332\42\1\273\201\63\173\0\145\350" +
+      "\215\251\307\336\354\327\213\3\375\377\330\141" +
+      "\350\173\136\130\174\215\154\64\335\5\262\251" +
+      "\210\103\347\162\117\250\35\66\251\36\116\354" +
+      "\261\206\143\231\172\323\21\270\57\74\31\25" +
+      "\53\61\100\125\173\227\303\3\64\227\247\347" +
+      "\145\274\26\323\263\107\336\342\234\270\205\352" +
+      "\101\300\324\175\204\101\27\237\24\230\353\236" +
+      "\316\224\307\311\363\234\164\62\154\357\30\167" +
+      "\252\356\216\314\323\306\234\325\310\16\176\353" +
+      "\300\20\240\212\246\54\304\12\172\251\311\370" +
+      "\232\362\230\20\374\174\240\145\220\205\126\216" +
+      "\336\320\260\117\151\217\304\160\221\131\135\102" +
+      "\43\75\340\5\351\115\305\54\60\76\252\203" +
+      "\73\241\142\134\251\375\320\250\177\50\215\23" +
+      "\344\331\240\54\31\253\270\56\260\153\144\211" +
+      "\74\20\340\302\50\360\177\5\140\60\254\336" +
+      "\42\141\304\245\125\325\265\306\10\253\314\50" +
+      "\267\303\165\331\123\53\113\357\73\4\345\322" +
+      "\167\145\20\47\231\130\214\136\307\52\124\125" +
+      "\332\147\271\104\346\16\77\223\254\120\332\154" +
+      "\61\204\355\73\37\72\113\310\136\104\157\364" +
+      "\372\356\316\203\21\11\104\245\21\45\205\301" +
+      "\101\260\174\147\132\366\150\34\273\226\303\373" +
+      "\53\352\44\75\277\127\332\234\141\17\341\112" +
+      "\223\361\154\124\373\316\310\70\127\245\206\217" +
+      "\137\371\236\17\23\270\257\41\257\376\16\227" +
+      "\1\240\155\353\17\47\370\231\172\352\102\123" +
+      "\202\206\313\316\214\372\105\321\37\311\31\52" +
+      "\243\176\252\2\12\42\204\337\35\235\253\7" +
+      "\64\266\162\172\337\21\312\340\233\70\220\251" +
+      "\157\35\231\340\130\250\17\150\306\376\32\326" +
+      "\21\162\221\21\75\6\325\271\217\363\115\345" +
+      "\1\177\274\222\242\143\67\3\153\306\342\354" +
+      "\353\301\75\204\245\22\141\56\270\32\35\254";
+
+  private static final String TABLE_PACKED_16 =
+      "\137\164\171\210\217\205\172\225\375\153\353\163" +
+      "\143\21\301\106\105\347\136\322\37\215\363\111" +
+      "\214\224\73\126\70\237\56\155\166\124\31\51" +
+      "\104\67\345\305\176\175\307\323\242\267\62\233" +
+      "\313\237\0\344\157\12\256\337\44\111\320\233" +
+      "\65\211\30\231\32\34\173\263\113\7\117\310" +
+      "\154\74\362\204\142\370\20\263\171\242\246\322" +
+      "\75\300\163\306\305\334\373\233\305\124\364\374" +
+      "\37\257\57\211\150\243\21\336\172\127\104\360" +
+      "\16\243\375\20\205\56\173\32\70\316\346\175" +
+      "\247\271\127\116\321\160\144\347\215\41\141\357" +
+      "\22\143\377\323\36\244\164\354\22\57\226\72" +
+      "\240\114\276\213\226\204\22\144\375\361\123\260" +
+      "\234\111\64\67\260\310\330\157\255\311\104\73" +
+      "\31\356\246\64\351\121\273\237\345\3\246\41" +
+      "\231\3\4\105\233\326\50\24\102\325\343\261" +
+      "\237\152\252\203\361\23\373\1\267\325\132\3" +
+      "\315\306\17\6\344\145\73\13\327\276\362\76" +
+      "\12\267\7\375\166\52\54\54\273\70\303\44" +
+      "\334\17\25\110\37\326\366\115\232\207\133\373" +
+      "\212\173\231\343\124\53\176\55\337\2\220\2" +
+      "\324\131\215\171\3\20\247\161\5\253\111\174" +
+      "\10\115\221\376\302\33\313\57\150\7\326\72" +
+      "\167\345\31\10\244\36\53\246\215\103\272\311" +
+      "\303\234\335\163\17\304\137\67\43\233\356\50" +
+      "\77\274\344\265\163\204\333\315\107\176\332\162" +
+      "\375\173\104\103\235\75\10\164\241\354\317\222" +
+      "\64\206\106\301\354\17\337\50\174\373\47\352" +
+      "\1\164\235\176\73\52\242\16\272\26\32\14" +
+      "\11\333\121\37\240\110\223\346\102\101\276\207" +
+      "\60\237\266\310\311\40\66\341\327\233\70\117" +
+      "\325\44\301\37\171\155\17\306\41\202\340\347" +
+      "\0\233\220\351\50\177\174\116\75\215\10\276" +
+      "\313\316\150\164\324\36\267\230\204\265\312\21" +
+      "\64\63\113\270\363\352\340\22\311\262\210\204" +
+      "\75\115\302\202\137\364\146\274\65\140\302\320" +
+      "\107\357\324\22\237\251\264\222\42\35\252\154" +
+      "\42\117\36\117\142\245\56\114\163\16\246\233" +
+      "\206\74\54\230\166\4\174\325\112\256\154\65" +
+      "\325\130\345\313\351\262\155\232\113\205\353\106" +
+      "\74\315\101\307\255\155\101\351\155\166\0\362" +
+      "\17\316\130\304\315\133\311\47\274\367\114\237" +
+      "\175\265\362\247\124\312\322\12\77\70\117\200" +
+      "\24\231\264\34\151\266\165\22\20\122\73\175" +
+      "\20\116\54\210\30\126\210\31\142\117\346\267" +
+      "\206\362\45\223\151\107\301\22\106\147\13\341" +
+      "\125\233\2\214\256\342\207\154\347\106\163\310" +
+      "\133\213\306\215\237\313\344\350\235\205\254\141" +
+      "\123\300\350\346\7\155\113\72\57\277\64\141" +
+      "\377\65\74\134\362\205\202\262\250\153\232\37" +
+      "\222\304\251\131\162\314\216\323\257\27\111\141" +
+      "\304\12\341\351\110\60\367\173\320\27\66\373" +
+      "\25\153\207\226\141\320\265\245\123\4\247\157" +
+      "\336\3\321\321\226\16\146\203\16\132\167\207" +
+      "\271\311\31\23\234\170\203\20\130\311\21\264" +
+      "\354\271\156\246\225\21\311\162\10\267\106\326" +
+      "\65\360\145\115\127\261\302\361\124\120\43\360" +
+      "\322\153\26\4\172\5\200\242\145\53\155\274" +
+      "\234\233\324\11\144\373\25\151\362\47\37\11" +
+      "\174\204\360\277\70\344\207\22\340\206\337\255" +
+      "\105\377\362\254\53\100\222\243\142\200\237\37" +
+      "\326\153\24\274\342\372\132\213\356\370\375\345" +
+      "\30\105\105\140\373\261\231\222\43\316\166\201" +
+      "\101\265\12\253\370\121\36\222\2\312\72\5" +
+      "\45\103\176\154\272\34\166\110\144\256\36\246" +
+      "\254\335\207\175\22\167\170\236\222\67\354\263" +
+      "\73\154\274\220\160\123\26\254\120\320\203\155" +
+      "\57\130\224\330\215\42\277\356\316\10\45\51" +
+      "\70\115\304\150\315\377\312\14\161\166\301\246" +
+      "\41\353\225\6\52\54\207\374\245\375\41\34" +
+      "\172\131\14\164\330\23\337\337\13\335\347\345" +
+      "\213\372\130\47\167\372\117\140\235\356\142\355" +
+      "\333\176\210\27\231\343\161\21\125\20\340\215" +
+      "\116\261\373\373\354\102\356\231\260\255\164\10" +
+      "\166\76\23\347\365\266\334\240\216\342\241\371" +
+      "\15\331\165\45\21\374\306\23\174\174\350\356" +
+      "\142\130\312\105\327\236\271\153\125\100\305\210" +
+      "\60\125\253\362\143\130\322\372\306\235\233\322" +
+      "\17\164\253\214\41\150\346\260\107\304\122\60" +
+      "\253\105\130\16\372\105\206\357\331\217\176\114" +
+      "\13\210\323\142\240\264\257\352\117\30\361\170" +
+      "\210\20\266\275\4\136\105\171\122\141\345\116" +
+      "\376\155\177\303\127\236\261\373\34\224\312\356" +
+      "\147\314\264\301\5\105\340\232\26\60\155\270" +
+      "\340\213\352\37\1\50\63\317\17\23\323\357" +
+      "\177\202\164\31\66\340\225\267\207\311\77\361" +
+      "\312\72\12\126\66\15\45\241\65\307\21\66" +
+      "\42\7\366\122\246\115\266\266\44\50\20\273" +
+      "\146\234\273\205\7\125\70\325\200\126\362\363" +
+      "\253\261\44\257\135\215\153\165\163\166\313\317" +
+      "\54\45\357\200\121\62\333\103\241\342\152\11" +
+      "\145\153\307\17\314\341\340\34\363\360\57\134" +
+      "\274\240\221\142\314\36\50\115\163\75\166\212" +
+      "\250\137\145\40\323\73\275\347\354\151\250\243" +
+      "\73\25\35\127\253\317\130\326\103\342\204\116" +
+      "\52\331\347\363\36\227\57\247\257\344\357\162" +
+      "\61\163\210\63\61\132\105\141\115\61\55\275" +
+      "\303\246\271\40\3\341\111\67\344\267\270\141" +
+      "\121\306\241\125\340\107\373\226\20\276\261\131" +
+      "\140\152\106\331\300\321\253\315\144\336\137\151";
+
+  private static final String TABLE_PACKED_17 =
+      "\274\124\302\345\36\342\222\265\20\204\223\57" +
+      "\341\325\302\64\276\30\377\24\75\266\256\73" +
+      "\23\224\324\330\172\342\316\6\101\354\300\366" +
+      "\352\266\240\377\157\300\322\41\222\26\214\134" +
+      "\372\330\50\1\207\172\17\150\51\40\117\55" +
+      "\145\334\303\354\57\65\173\371\175\220\17\275" +
+      "\70\106\270\110\110\207\277\153\370\2\171\41" +
+      "\371\30\305\277\143\5\7\357\165\41\47\213" +
+      "\176\247\171\174\141\104\4\367\134\176\157\230" +
+      "\175\73\253\174\61\55\75\151\31\265\355\341" +
+      "\221\173\335\25\252\254\25\251\234\351\261\331" +
+      "\266\312\343\61\52\213\325\62\131\270\143\200" +
+      "\36\121\227\70\42\240\16\67\13\275\232\272" +
+      "\374\254\340\10\40\370\36\37\65\245\237\123" +
+      "\162\357\117\161\31\231\231\274\324\162\4\116" +
+      "\150\66\315\22\116\67\373\270\272\326\251\141" +
+      "\365\32\346\150\361\347\140\351\252\330\161\23" +
+      "\140\43\102\101\233\342\327\313\13\360\164\365" +
+      "\375\32\321\312\22\375\101\217\145\10\335\65" +
+      "\152\320\66\363\72\115\114\210\171\331\110\245" +
+      "\122\132\311\303\37\240\103\107\254\150\60\257" +
+      "\361\353\71\10\332\3\356\70\251\221\27\33" +
+      "\125\103\34\123\147\260\32\263\162\31\1\11" +
+      "\163\15\6\232\123\245\350\276\71\262\63\376" +
+      "\7\306\320\247\144\214\76\340\170\211\320\50" +
+      "\131\376\317\151\365\74\206\323\16\313\316\161" +
+      "\100\114\40\275\12\204\370\4\215\240\103\326" +
+      "\77\312\122\75\207\161\150\251\67\61\35\122" +
+      "\11\64\154\351\324\14\121\357\361\235\200\115" +
+      "\235\131\214\40\307\156\135\265\270\362\130\247" +
+      "\322\317\140\303\320\221\337\111\326\40\217\202" +
+      "\201\250\350\357\14\157\67\150\2\245\13\347" +
+      "\2\323\37\34\6\45\223\361\374\303\6\210" +
+      "\336\245\57\270\267\116\100\307\154\144\163\133" +
+      "\200\154\166\202\356\243\42\206\325\51\121\173" +
+      "\52\21\40\315\240\232\10\127\254\106\372\132" +
+      "\372\51\324\34\204\370\346\157\242\377\203\3" +
+      "\366\73\347\160\11\23\127\342\334\250\43\326" +
+      "\70\67\344\121\31\103\340\351\323\367\230\315" +
+      "\70\110\211\110\376\65\272\26\42\215\306\104" +
+      "\327\56\265\375\362\310\237\266\355\264\60\315" +
+      "\161\316\171\104\202\154\360\262\13\12\263\55" +
+      "\334\245\52\13\6\173\300\313\272\350\71\31" +
+      "\72\377\372\234\3\225\333\156\322\43\375\325" +
+      "\5\152\356\34\240\157\216\237\204\301\76\361" +
+      "\123\146\230\263\247\274\102\332\314\201\24\173" +
+      "\3\277\306\21\230\352\112\326\217\250\200\116" +
+      "\274\355\116\207\204\327\74\44\323\243\11\3" +
+      "\126\166\16\151\260\33\155\230\374\204\130\361" +
+      "\125\165\176\130\60\235\363\32\371\177\116\254" +
+      "\112\300\306\356\352\264\226\143\335\206\161\342" +
+      "\61\103\252\363\136\277\6\101\37\204\351\65" +
+      "\170\117\147\264\56\104\164\312\202\135\174\60" +
+      "\210\213\227\253\113\257\315\124\233\224\307\235" +
+      "\123\345\267\106\247\305\255\77\235\244\253\355" +
+      "\201\336\251\363\212\316\141\240\16\372\340\37" +
+      "\46\245\306\65\260\317\31\53\320\304\71\50" +
+      "\310\153\156\176\21\43\101\231\302\345\217\321" +
+      "\43\167\63\42\303\240\307\252\275\122\110\75" +
+      "\375\372\332\47\370\355\234\252\54\74\377\372" +
+      "\231\40\54\42\10\352\235\212\324\160\357\311" +
+      "\330\117\67\54\142\33\175\367\32\122\262\152" +
+      "\270\305\45\161\75\65\140\140\223\253\0\146" +
+      "\232\17\26\15\77\27\133\106\351\223\42\164" +
+      "\56\221\117\274\16\267\170\150\225\376\230\34" +
+      "\346\216\131\100\73\67\111\61\247\205\217\205" +
+      "\141\246\332\14\70\342\32\266\115\372\324\123" +
+      "\130\111\45\161\326\244\144\141\333\374\264\253" +
+      "\303\222\247\2\343\317\133\136\63\26\351\111" +
+      "\374\60\370\173\261\272\263\224\117\314\250\22" +
+      "\366\174\0\276\200\125\345\242\165\31\320\45" +
+      "\142\340\67\226\256\242\376\311\334\275\115\246" +
+      "\345\256\53\330\356\171\321\133\155\167\6\206" +
+      "\330\200\47\322\233\22\134\207\374\223\240\200" +
+      "\105\3\203\2\62\223\13\357\107\7\77\67" +
+      "\115\47\62\245\101\247\34\245\374\164\133\237" +
+      "\7\170\275\71\237\53\316\7\63\267\56\171" +
+      "\177\140\370\347\4\34\205\261\330\360\152\163" +
+      "\202\170\203\376\352\303\257\325\327\215\30\364" +
+      "\25\3\77\132\256\275\353\166\373\266\130\232" +
+      "\113\13\331\217\222\6\46\313\340\227\23\144" +
+      "\251\364\217\122\247\235\36\135\260\270\307\226" +
+      "\55\116\342\315\15\165\127\10\201\175\124\200" +
+      "\155\56\21\236\57\375\224\364\27\276\274\2" +
+      "\247\100\140\163\340\15\32\222\47\301\254\232" +
+      "\221\310\105\310\147\263\255\133\306\220\16\46" +
+      "\336\257\324\121\17\351\16\134\20\53\76\60" +
+      "\25\22\13\150\251\314\342\237\256\121\65\127" +
+      "\165\72\375\301\304\73\305\232\7\150\26\355" +
+      "\123\62\160\46\375\261\110\5\214\215\141\112" +
+      "\122\72\257\352\143\310\162\54\245\261\7\214" +
+      "\224\153\264\114\316\302\75\245\23\376\70\335" +
+      "\173\106\35\47\376\46\76\233\160\252\21\103" +
+      "\155\362\17\12\366\366\225\361\264\274\256\342" +
+      "\36\145\161\100\116\77\313\327\251\63\250\25" +
+      "\156\233\17\130\54\111\303\305\104\172\73\214" +
+      "\364\105\153\257\265\234\122\332\332\254\267\337" +
+      "\43\204\46\173\324\225\346\350\63\305\334\22" +
+      "\235\62\114\110\167\376\260\313\167\135\265\171" +
+      "\336\166\152\67\154\140\6\236\146\323\135\326";
+
+  private static final String TABLE_PACKED_18 =
+      "\353\257\340\16\76\150\41\220\301\132\303\171" +
+      "\150\137\217\360\231\142\53\23\362\103\205\340" +
+      "\144\301\302\155\250\56\376\241\112\46\222\61" +
+      "\213\361\340\154\247\4\20\217\360\116\251\122" +
+      "\151\265\133\304\252\331\230\351\356\137\27\105" +
+      "\47\3\246\232\335\254\151\376\303\64\51\116" +
+      "\117\25\75\306\213\366\372\305\277\374\33\251" +
+      "\236\205\116\377\213\165\76\52\1\31\145\242" +
+      "\173\352\111\245\70\72\374\15\275\225\162\230" +
+      "\310\61\73\110\311\136\275\337\257\375\60\326" +
+      "\272\376\63\374\345\172\357\272\165\217\312\141" +
+      "\43\174\11\324\237\115\40\202\305\142\120\317" +
+      "\330\33\377\273\340\271\254\200\203\17\162\322" +
+      "\67\21\270\342\34\265\371\23\223\201\157\265" +
+      "\175\76\234\172\323\236\25\136\47\257\240\62" +
+      "\315\17\313\301\221\243\5\65\7\72\271\226" +
+      "\306\357\331\262\130\233\352\213\345\51\244\203" +
+      "\25\21\241\51\47\326\251\263\137\162\323\32" +
+      "\261\117\261\164\62\176\267\270\253\354\22\277" +
+      "\267\67\212\365\355\32\22\262\123\245\16\262" +
+      "\16\21\317\310\143\220\315\353\210\343\13\35" +
+      "\215\306\235\354\145\135\316\335\165\177\263\0" +
+      "\73\207\267\320\17\33\3\52\151\131\266\172" +
+      "\50\35\332\33\21\374\322\266\304\213\44\143" +
+      "\25\0\301\245\6\313\205\47\130\232\153\230" +
+      "\105\230\336\73\3\120\164\207\276\55\265\62" +
+      "\340\242\54\67\223\144\243\21\44\255\333\161" +
+      "\173\170\324\254\205\25\200\134\240\320\171\373" +
+      "\366\10\312\107\33\137\23\246\272\17\204\275" +
+      "\212\222\360\261\255\174\334\267\117\105\30\33" +
+      "\303\23\150\34\123\114\357\333\331\270\174\347" +
+      "\323\216\122\356\303\270\272\362\64\115\112\365" +
+      "\357\61\252\300\235\206\35\36\230\7\72\157" +
+      "\247\160\366\66\30\0\102\166\350\32\213\306" +
+      "\164\260\55\50\345\236\365\101\132\375\30\52" +
+      "\153\265\273\253\256\304\24\17\56\154\125\372" +
+      "\365\131\26\136\206\203\273\0\232\377\205\153" +
+      "\213\201\13\343\63\115\320\70\175\230\254\273" +
+      "\357\104\262\272\106\366\74\277\341\345\345\223" +
+      "\246\251\117\51\237\237\151\263\367\160\315\252" +
+      "\137\371\221\330\266\115\274\10\101\306\335\235" +
+      "\253\255\315\260\322\316\364\150\273\355\177\55" +
+      "\121\335\322\250\377\103\14\345\222\253\151\130" +
+      "\60\30\54\57\232\355\106\345\344\255\356\117" +
+      "\234\142\207\266\377\243\144\356\272\32\43\266" +
+      "\334\45\73\115\262\202\46\333\321\73\271\255" +
+      "\371\354\163\336\152\315\55\350\343\351\21\7" +
+      "\363\276\25\345\121\31\142\352\333\61\236\236" +
+      "\330\11\5\266\316\161\317\55\223\343\234\204" +
+      "\104\247\203\124\367\215\343\127\246\12\162\262" +
+      "\72\336\47\21\111\163\331\37\253\170\157\155" +
+      "\350\246\76\212\122\344\175\130\216\42\164\27" +
+      "\34\35\176\237\307\314\12\44\273\222\26\325" +
+      "\202\2\102\316\362\6\360\22\26\360\354\207" +
+      "\362\146\102\155\76\73\54\170\14\257\241\60" +
+      "\275\116\167\76\20\15\324\1\137\100\50\57" +
+      "\41\77\100\21\143\230\267\36\272\105\27\224" +
+      "\274\157\14\174\304\105\221\255\15\246\76\57" +
+      "\34\371\124\100\152\333\254\260\300\210\147\22" +
+      "\217\255\41\72\350\254\307\232\230\344\230\60" +
+      "\252\151\321\17\252\62\245\202\322\76\26\252" +
+      "\372\65\220\306\123\127\170\23\345\226\210\314" +
+      "\241\34\220\70\300\61\16\330\360\152\107\47" +
+      "\203\53\237\30\322\7\61\214\374\316\337\141" +
+      "\160\217\367\70\251\210\155\176\17\24\135\320" +
+      "\252\34\274\162\307\207\254\332\325\165\145\53" +
+      "\342\233\333\367\71\223\177\247\352\343\236\62" +
+      "\372\33\315\356\167\231\163\64\57\276\75\100" +
+      "\173\150\350\366\200\321\275\355\155\77\236\210" +
+      "\200\351\66\330\173\120\150\370\370\235\301\323" +
+      "\304\21\141\260\360\174\44\200\306\20\236\24" +
+      "\170\274\220\34\335\342\6\30\12\332\227\171" +
+      "\123\133\164\77\301\77\0\111\140\240\247\145" +
+      "\30\137\170\301\376\240\6\262\20\353\265\372" +
+      "\105\30\225\370\141\115\177\211\344\234\273\12" +
+      "\133\255\234\21\173\360\11\372\310\25\174\322" +
+      "\201\72\345\367\265\267\173\51\10\306\225\271" +
+      "\160\275\161\12\20\11\377\50\21\307\142\150" +
+      "\62\111\131\47\32\46\40\221\63\14\315\224" +
+      "\10\70\201\275\13\127\7\101\46\73\265\151" +
+      "\213\306\201\72\264\343\212\336\207\237\143\261" +
+      "\70\145\10\147\201\171\252\220\6\133\370\141" +
+      "\323\133\164\271\65\325\57\250\364\174\4\15" +
+      "\73\334\203\320\41\130\154\236\75\73\114\227" +
+      "\267\272\13\113\264\337\125\215\316\111\46\123" +
+      "\126\100\102\14\115\252\316\207\341\164\356\203" +
+      "\164\116\107\27\317\11\205\250\210\316\320\17" +
+      "\12\360\337\247\267\124\222\250\42\7\161\163" +
+      "\25\42\144\253\265\177\251\172\123\117\342\314" +
+      "\315\255\116\115\256\136\364\120\367\336\137\53" +
+      "\376\343\201\316\266\210\145\110\124\342\32\267" +
+      "\66\65\143\233\300\127\220\120\50\272\115\223" +
+      "\376\21\305\302\320\202\13\50\204\220\25\101" +
+      "\5\215\36\304\350\14\205\121\223\331\123\225" +
+      "\172\123\365\67\343\50\366\56\32\34\161\246" +
+      "\47\336\216\334\53\24\210\111\343\67\53\7" +
+      "\312\147\227\242\262\331\12\172\152\205\116\256" +
+      "\2\101\322\244\366\232\136\31\210\27\371\147" +
+      "\233\134\344\175\251\365\357\6\375\223\14\145" +
+      "\265\244\304\107\110\71\130\40\5\265\146\160";
+
+  private static final String TABLE_PACKED_19 =
+      "\20\225\43\373\71\36\342\211\333\24\317\214" +
+      "\114\275\75\236\143\307\373\21\30\371\217\251" +
+      "\206\267\74\303\357\237\23\253\375\45\21\255" +
+      "\102\146\154\241\164\305\201\174\137\135\312\260" +
+      "\140\363\325\161\141\46\234\50\75\105\276\353" +
+      "\217\152\144\32\73\22\370\333\103\312\135\231" +
+      "\341\112\20\270\235\143\317\2\221\244\251\363" +
+      "\115\207\110\107\30\41\230\331\153\305\174\123" +
+      "\11\145\324\272\30\30\350\265\253\312\137\150" +
+      "\220\32\167\164\175\33\355\250\104\234\155\173" +
+      "\274\365\277\17\331\70\325\242\10\61\355\216" +
+      "\120\47\250\153\373\147\137\363\116\325\325\7" +
+      "\357\220\266\204\346\372\367\217\375\7\213\13" +
+      "\240\36\2\255\126\164\347\55\161\157\136\43" +
+      "\231\35\257\105\133\261\222\253\6\266\47\40" +
+      "\221\231\57\146\266\212\147\216\362\152\360\254" +
+      "\172\167\377\137\145\126\114\314\65\2\321\177" +
+      "\31\0\27\62\206\263\207\304\211\255\202\336" +
+      "\33\202\272\102\334\330\264\220\325\7\100\122" +
+      "\170\242\116\246\264\70\242\16\177\214\22\47" +
+      "\110\51\0\200\176\200\72\202\54\232\125\130" +
+      "\253\64\320\166\175\75\301\155\251\11\76\332" +
+      "\17\242\24\314\100\77\117\253\377\227\123\43" +
+      "\127\363\314\162\15\5\307\174\67\225\220\144" +
+      "\300\223\74\341\113\273\167\347\232\361\306\137" +
+      "\114\356\225\35\167\240\72\41\200\113\30\211" +
+      "\71\321\42\262\362\173\135\200\103\232\166\370" +
+      "\153\112\270\147\67\150\345\201\144\102\6\250" +
+      "\370\45\325\336\102\3\122\12\224\107\4\323" +
+      "\111\137\163\162\227\231\244\155\366\105\331\45" +
+      "\22\154\200\177\35\5\144\374\104\71\302\40" +
+      "\214\322\233\162\335\60\22\64\305\243\3\7" +
+      "\302\366\167\172\275\156\252\70\151\177\345\177" +
+      "\216\134\140\343\31\275\120\111\245\34\140\225" +
+      "\220\355\243\31\205\231\141\303\12\342\51\36" +
+      "\113\334\311\134\140\247\336\170\16\246\51\364" +
+      "\50\212\165\165\232\54\25\257\314\175\130\22" +
+      "\133\366\126\116\374\310\104\5\15\45\71\347" +
+      "\71\145\276\272\266\36\177\335\214\104\176\124" +
+      "\237\243\66\120\174\105\126\375\5\345\4\302" +
+      "\314\166\112\366\107\311\1\372\56\260\111\351" +
+      "\11\223\110\306\63\2\376\203\100\177\320\375" +
+      "\234\105\15\17\5\311\252\203\64\307\110\275" +
+      "\313\33\30\127\232\245\335\203\215\130\117\263" +
+      "\46\133\17\303\161\130\257\112\226\357\123\162" +
+      "\127\120\62\377\62\302\303\73\104\64\351\300" +
+      "\260\100\330\373\261\125\361\306\324\201\122\346" +
+      "\37\277\130\4\165\375\173\66\364\315\154\110" +
+      "\371\26\237\260\176\102\357\165\257\277\211\154" +
+      "\250\303\334\322\305\73\146\227\347\272\364\311" +
+      "\232\373\163\160\176\154\132\272\26\317\254\23" +
+      "\270\365\317\215\120\112\130\234\235\112\113\1" +
+      "\370\272\17\52\7\66\34\64\316\326\313\147" +
+      "\41\373\143\350\362\337\147\121\375\40\34\376" +
+      "\217\134\100\122\362\346\200\170\10\27\352\211" +
+      "\132\146\243\24\347\234\335\124\23\357\35\22" +
+      "\163\234\31\134\317\205\47\16\220\354\203\261" +
+      "\37\161\314\26\54\12\150\176\301\335\31\63" +
+      "\305\341\325\166\242\272\3\63\344\107\27\116" +
+      "\213\355\210\353\20\30\116\317\106\170\272\207" +
+      "\344\336\230\177\17\314\151\5\231\154\122\345" +
+      "\152\222\356\71\230\53\151\56\104\164\221\137" +
+      "\360\176\207\357\342\305\121\10\223\12\334\337" +
+      "\126\307\34\344\214\261\362\1\324\3\310\102" +
+      "\47\75\21\124\112\252\23\150\160\74\337\123" +
+      "\271\256\151\136\306\246\160\65\66\341\312\362" +
+      "\362\331\272\120\54\347\5\130\363\102\376\241" +
+      "\67\76\65\176\377\363\43\222\73\105\251\220" +
+      "\244\144\51\204\25\255\322\3\262\240\7\117" +
+      "\211\370\67\77\31\100\277\212\146\51\315\52" +
+      "\360\165\207\206\377\245\316\276\266\151\122\217" +
+      "\50\207\151\202\77\100\225\276\324\362\225\353" +
+      "\132\312\161\70\23\323\43\245\361\200\163\364" +
+      "\216\102\345\211\155\253\10\2\310\150\265\310" +
+      "\236\123\251\263\45\364\340\364\372\60\50\177" +
+      "\164\340\152\205\165\72\261\200\154\73\302\60" +
+      "\112\264\23\357\274\300\136\17\176\136\3\20" +
+      "\37\227\7\327\50\146\120\304\7\271\337\113" +
+      "\317\176\375\266\33\103\164\221\76\162\220\73" +
+      "\370\111\21\40\64\204\111\212\304\235\375\17" +
+      "\240\165\331\114\120\167\33\52\313\173\376\30" +
+      "\376\205\42\376\217\146\327\11\137\64\250\171" +
+      "\177\264\71\361\322\66\272\326\342\13\221\43" +
+      "\24\36\277\343\166\42\363\57\123\147\11\374" +
+      "\263\144\334\202\325\326\166\321\4\376\174\366" +
+      "\115\300\246\132\66\343\152\76\2\47\51\40" +
+      "\210\72\105\2\177\123\133\16\253\37\134\16" +
+      "\277\175\314\1\170\211\26\172\117\50\67\17" +
+      "\351\336\36\52\314\216\77\224\42\367\361\173" +
+      "\104\104\205\24\351\143\26\177\357\200\47\64" +
+      "\264\335\46\63\217\31\301\15\253\335\267\362" +
+      "\240\272\267\202\205\64\154\244\15\255\350\142" +
+      "\56\73\137\173\36\171\250\256\333\112\316\240" +
+      "\140\222\353\274\177\264\35\274\42\306\44\242" +
+      "\144\154\352\272\246\233\260\200\155\256\155\54" +
+      "\27\275\210\136\124\362\376\140\63\166\22\44" +
+      "\174\74\240\322\14\156\320\346\6\23\341\24" +
+      "\130\51\271\233\15\26\23\332\303\372\274\227" +
+      "\300\65\370\233\123\3\247\353\66\137\145\42" +
+      "\361\155\203\112\313\340\315\253\57\12\152\154";
+
+  private static final String TABLE_PACKED_20 =
+      "\335\206\164\26\222\303\10\212\333\341\173\373" +
+      "\3\45\300\262\305\177\236\50\347\203\7\4" +
+      "\243\356\77\101\300\311\144\353\325\65\76\146" +
+      "\373\214\143\172\336\201\350\307\64\66\13\361" +
+      "\45\362\171\144\4\155\213\40\276\110\214\332" +
+      "\74\65\37\72\252\165\242\203\303\213\324\42" +
+      "\171\51\23\136\60\12\120\150\362\161\200\270" +
+      "\37\362\102\71\77\323\364\203\222\166\203\235" +
+      "\245\154\10\261\135\321\16\40\326\76\110\120" +
+      "\257\113\111\25\342\155\106\150\247\250\233\306" +
+      "\262\363\47\61\325\233\35\356\226\131\136\55" +
+      "\47\212\212\33\157\12\57\204\27\301\6\351" +
+      "\374\250\57\64\100\275\71\210\103\226\364\147" +
+      "\156\276\172\65\342\316\255\252\245\240\76\334" +
+      "\272\343\56\251\337\157\225\330\246\34\275\123" +
+      "\254\367\312\52\63\130\141\272\327\370\255\262" +
+      "\322\312\160\261\314\344\112\332\277\144\2\103" +
+      "\156\104\232\325\365\143\377\105\271\65\117\376" +
+      "\104\347\24\275\337\374\177\214\210\331\230\205" +
+      "\236\125\233\32\40\316\62\353\261\247\345\247" +
+      "\357\240\3\103\17\262\25\17\354\21\145\50" +
+      "\230\140\126\66\0\75\172\372\363\13\170\235" +
+      "\164\16\346\235\44\66\203\314\243\103\224\203" +
+      "\22\371\175\345\16\337\105\43\267\36\154\245" +
+      "\257\213\36\277\76\130\54\156\316\131\130\323" +
+      "\355\122\40\115\152\103\46\302\212\112\202\111" +
+      "\30\316\17\313\260\270\272\164\20\67\305\116" +
+      "\122\322\210\316\24\3\100\344\44\244\30\167" +
+      "\351\236\237\22\201\365\363\321\304\100\336\115" +
+      "\356\53\72\205\152\52\141\70\163\145\175\151" +
+      "\22\133\112\177\176\211\214\305\47\163\6\53" +
+      "\116\112\153\154\45\315\154\66\60\26\161\366" +
+      "\46\131\357\363\115\17\60\67\212\337\224\214" +
+      "\377\253\252\200\377\242\365\25\230\13\216\266" +
+      "\366\347\343\214\134\11\46\101\172\245\307\362" +
+      "\7\301\127\136\174\336\47\347\56\31\145\147" +
+      "\270\171\142\254\241\174\53\205\265\265\222\175" +
+      "\361\47\111\4\141\137\64\340\370\1\242\234" +
+      "\164\256\10\333\217\67\101\204\11\244\30\157" +
+      "\222\343\375\203\73\102\25\325\235\63\55\235" +
+      "\103\245\44\110\311\4\66\171\102\267\163\175" +
+      "\350\4\346\272\67\135\211\351\133\171\172\171" +
+      "\200\36\302\235\13\242\370\2\354\335\257\154" +
+      "\373\322\377\61\73\243\316\360\165\255\115\241" +
+      "\312\141\32\250\237\36\156\226\346\304\246\174" +
+      "\10\165\365\352\70\143\132\171\347\310\272\15" +
+      "\64\54\66\236\330\252\62\124\333\326\147\20" +
+      "\43\234\246\102\12\261\54\25\75\324\223\374" +
+      "\241\311\102\365\121\36\123\56\52\166\353\221" +
+      "\122\110\17\355\141\140\20\216\345\345\102\316" +
+      "\17\45\27\361\233\156\327\155\122\220\320\133" +
+      "\112\275\111\372\223\313\210\215\343\121\340\122" +
+      "\106\323\73\361\353\132\351\166\150\166\107\272" +
+      "\323\147\161\150\204\250\320\334\46\363\173\56" +
+      "\234\126\135\217\31\62\236\355\10\150\364\252" +
+      "\223\20\327\270\12\17\104\44\341\77\222\243" +
+      "\74\65\252\15\24\250\142\103\77\111\130\31" +
+      "\340\156\273\75\301\110\333\362\367\73\270\251" +
+      "\67\263\202\1\152\364\177\246\66\376\353\232" +
+      "\133\363\203\33\132\313\332\15\263\200\161\276" +
+      "\360\277\223\131\371\42\107\335\325\210\371\110" +
+      "\44\277\254\260\67\65\76\60\52\321\153\357" +
+      "\266\26\265\15\312\22\41\343\234\360\26\306" +
+      "\47\225\357\20\364\177\101\223\161\42\40\227" +
+      "\2\233\277\175\356\354\207\2\165\34\42\203" +
+      "\121\27\60\347\157\256\323\6\241\364\102\27" +
+      "\46\125\221\62\160\110\11\262\121\24\43\25" +
+      "\232\41\307\356\345\255\202\274\245\113\207\54" +
+      "\146\266\104\125\126\357\246\301\17\125\142\174" +
+      "\113\53\106\237\75\213\223\76\244\151\202\156" +
+      "\330\323\31\127\343\326\124\16\40\103\64\304" +
+      "\225\15\245\360\44\123\274\304\304\262\241\36" +
+      "\313\161\232\24\0\205\372\363\302\326\103\30" +
+      "\56\222\133\165\31\273\301\21\245\115\370\221" +
+      "\65\317\316\353\41\355\111\203\305\7\67\307" +
+      "\371\172\225\253\62\334\343\262\74\1\15\240" +
+      "\103\270\134\327\274\46\334\76\243\143\345\272" +
+      "\330\55\127\255\201\11\141\43\174\116\253\51" +
+      "\2\377\303\140\11\25\363\320\153\340\105\215" +
+      "\132\30\52\305\324\306\317\15\161\311\355\254" +
+      "\76\161\15\337\226\316\71\236\55\60\70\345" +
+      "\147\355\371\72\63\160\261\277\240\270\146\31" +
+      "\211\120\47\334\174\17\325\135\100\272\304\35" +
+      "\155\356\175\17\227\346\72\272\276\174\274\73" +
+      "\137\324\54\124\243\360\314\344\143\26\35\125" +
+      "\27\246\52\30\142\17\61\30\24\124\201\61" +
+      "\367\251\26\217\22\370\13\173\175\361\112\252" +
+      "\112\151\313\200\331\345\341\26\176\362\113\176" +
+      "\5\107\305\111\73\362\325\7\270\26\361\273" +
+      "\355\351\55\220\45\324\13\341\232\364\361\76" +
+      "\40\54\76\243\315\174\243\103\230\106\361\221" +
+      "\321\346\200\307\75\362\257\365\272\373\241\214" +
+      "\64\316\121\245\202\125\365\323\31\40\366\114" +
+      "\202\227\243\261\357\133\372\335\275\13\211\357" +
+      "\355\76\62\262\152\13\363\134\314\55\134\364" +
+      "\62\372\332\326\242\131\245\223\272\166\240\160" +
+      "\253\243\70\72\33\313\7\51\253\232\225\22" +
+      "\25\374\3\152\257\233\263\260\41\253\217\334" +
+      "\162\136\127\74\312\361\371\326\44\71\272\311" +
+      "\237\273\5\315\271\110\126\137\215\255\240\7";
+
+  private static final String TABLE_PACKED_21 =
+      "\324\231\23\262\335\101\244\161\141\24\204\264" +
+      "\352\13\263\55\367\112\104\1\317\173\165\217" +
+      "\326\224\151\206\205\42\110\73\131\125\316\222" +
+      "\266\354\271\213\61\204\300\324\262\73\122\361" +
+      "\367\276\52\356\256\75\60\60\173\326\223\171" +
+      "\7\41\242\312\365\227\142\234\327\107\13\367" +
+      "\122\367\360\15\337\246\214\43\124\367\244\30" +
+      "\131\43\264\317\61\70\207\31\115\250\234\140" +
+      "\216\377\143\346\210\51\356\235\35\243\207\327" +
+      "\357\246\16\144\313\55\275\0\245\236\366\131" +
+      "\147\356\124\134\103\114\53\222\15\167\140\15" +
+      "\72\366\34\102\347\306\332\367\44\105\54\315" +
+      "\4\151\136\216\40\336\356\131\23\33\35\23" +
+      "\274\133\122\253\370\56\301\66\217\215\312\276" +
+      "\372\72\6\157\200\15\373\12\134\207\347\70" +
+      "\150\216\76\201\246\377\246\236\145\233\60\200" +
+      "\205\373\32\123\251\267\260\152\204\311\201\304" +
+      "\146\351\260\265\110\63\263\54\335\76\244\305" +
+      "\35\44\133\234\246\40\321\373\47\113\116\227" +
+      "\152\260\351\215\216\252\220\101\34\254\76\176" +
+      "\260\3\253\67\121\126\336\302\244\16\302\57" +
+      "\256\210\160\346\127\263\127\34\272\65\257\216" +
+      "\371\121\360\344\332\25\224\350\332\32\316\50" +
+      "\20\310\60\362\67\261\203\247\253\54\330\300" +
+      "\221\14\75\73\42\227\227\147\132\375\310\63" +
+      "\323\101\164\30\270\277\223\346\107\216\110\24" +
+      "\31\242\25\165\33\157\246\166\222\32\104\47" +
+      "\367\370\63\341\213\113\321\275\103\201\155\326" +
+      "\34\157\305\27\255\155\154\145\141\4\211\73" +
+      "\60\71\312\262\76\122\330\316\144\64\4\105" +
+      "\157\233\26\163\154\242\160\246\5\166\212\50" +
+      "\100\127\332\11\27\31\14\275\163\311\241\61" +
+      "\247\245\47\341\106\137\261\322\171\216\347\210" +
+      "\334\44\2\241\362\54\320\116\152\306\113\364" +
+      "\204\170\245\112\157\250\165\251\261\327\244\237" +
+      "\354\260\31\11\267\102\14\275\355\244\355\76" +
+      "\125\344\3\1\170\317\267\365\324\102\101\373" +
+      "\334\204\113\346\246\77\306\170\310\204\105\106" +
+      "\245\125\107\333\120\5\100\362\202\223\150\31" +
+      "\334\30\216\60\362\12\206\361\324\76\351\246" +
+      "\157\375\150\243\257\165\250\311\77\202\270\234" +
+      "\117\251\204\73\64\0\27\303\205\377\260\256" +
+      "\344\67\11\200\375\4\363\172\243\115\43\325" +
+      "\322\267\134\315\210\106\46\104\347\343\302\63" +
+      "\271\301\104\255\20\204\231\1\322\121\356\347" +
+      "\145\131\42\41\266\365\323\202\117\135\43\121" +
+      "\213\370\144\57\67\337\141\254\107\177\216\215" +
+      "\365\7\310\253\332\134\70\311\136\272\7\322" +
+      "\222\242\376\223\240\5\216\104\121\332\310\333" +
+      "\175\73\250\127\60\27\13\6\204\240\46\344" +
+      "\264\46\31\51\242\30\20\26\67\220\252\255" +
+      "\23\255\160\373\230\310\30\350\317\73\274\165" +
+      "\330\266\163\150\215\353\376\7\17\244\0\21" +
+      "\250\61\10\225\364\232\147\210\45\35\316\221" +
+      "\166\1\170\336\231\54\36\45\156\337\235\323" +
+      "\320\240\302\352\22\176\324\130\264\42\17\51" +
+      "\311\163\144\113\220\73\32\345\121\66\1\37" +
+      "\332\24\343\61\135\135\40\256\253\105\225\234" +
+      "\102\274\167\363\206\301\45\15\134\155\346\307" +
+      "\341\4\46\177\147\305\202\336\35\263\52\223" +
+      "\364\224\246\330\373\165\264\52\340\24\227\101" +
+      "\256\332\366\143\370\175\26\20\104\365\373\175" +
+      "\311\141\325\17\215\317\327\334\161\322\124\1" +
+      "\74\247\371\102\100\40\352\260\205\252\300\75" +
+      "\251\44\100\354\306\220\150\123\346\371\375\350" +
+      "\62\237\64\12\143\272\5\311\356\324\30\370" +
+      "\20\210\344\70\63\363\10\234\206\371\156\307" +
+      "\222\37\263\110\165\262\233\361\72\364\301\210" +
+      "\250\156\52\233\133\325\252\60\142\63\231\361" +
+      "\252\144\164\37\153\205\126\103\53\356\171\231" +
+      "\267\73\127\30\201\142\244\264\310\147\351\7" +
+      "\267\105\66\6\107\47\133\156\237\353\253\100" +
+      "\135\206\262\337\157\307\4\130\302\74\114\103" +
+      "\226\217\237\235\16\377\1\365\73\2\140\354" +
+      "\22\107\144\337\340\71\357\23\10\377\326\165" +
+      "\14\275\102\323\273\245\163\212\115\77\214\326" +
+      "\111\61\2\342\306\363\375\105\10\154\110\103" +
+      "\316\71\6\73\355\57\257\370\251\321\27\155" +
+      "\71\25\70\225\32\240\366\252\277\257\153\175" +
+      "\351\177\333\112\350\150\325\330\373\131\72\45" +
+      "\213\240\315\277\217\52\361\11\125\257\17\113" +
+      "\124\256\251\101\4\357\367\336\321\227\244\120" +
+      "\176\206\44\44\40\42\41\244\111\50\264\156" +
+      "\251\267\147\153\151\112\335\120\330\130\270\103" +
+      "\165\147\321\103\332\156\121\142\147\30\110\54" +
+      "\175\102\312\223\163\140\53\37\16\120\173\116" +
+      "\160\113\4\103\252\121\141\230\176\372\73\2" +
+      "\130\25\103\300\42\315\47\66\376\172\174\31" +
+      "\220\261\213\321\362\105\103\342\11\344\56\254" +
+      "\321\323\346\151\54\177\320\215\203\250\332\310" +
+      "\351\216\132\173\333\60\216\177\156\137\151\73" +
+      "\101\131\26\46\344\34\210\330\367\144\211\16" +
+      "\230\171\101\315\30\320\326\74\200\337\237\153" +
+      "\334\21\144\61\256\30\353\245\54\147\120\117" +
+      "\177\110\53\216\204\265\163\267\256\140\364\64" +
+      "\363\266\375\25\213\267\45\10\172\143\253\360" +
+      "\12\210\42\355\231\355\356\326\303\261\275\142" +
+      "\337\64\315\173\271\104\340\133\45\346\166\217" +
+      "\110\56\47\315\110\5\144\367\304\240\303\56" +
+      "\75\264\47\267\374\363\207\14\154\26\365\60";
+
+  private static final String TABLE_PACKED_22 =
+      "\350\242\304\122\63\237\122\235\202\224\24\323" +
+      "\103\14\176\106\131\33\205\265\214\224\141\72" +
+      "\121\232\101\52\42\272\335\336\117\67\17\250" +
+      "\52\261\174\345\314\221\62\325\4\246\263\13" +
+      "\211\213\253\225\214\330\367\230\350\171\112\27" +
+      "\107\152\115\310\206\174\352\337\141\101\363\116" +
+      "\65\110\262\144\255\203\264\3\43\122\206\251" +
+      "\364\136\122\352\247\325\253\131\26\302\350\122" +
+      "\262\315\371\217\327\106\373\315\104\121\327\254" +
+      "\274\151\231\216\245\135\310\353\204\212\202\307" +
+      "\312\363\163\145\10\162\272\241\271\127\337\356" +
+      "\213\122\245\43\126\46\253\351\262\335\344\322" +
+      "\127\125\141\123\147\346\323\367\115\44\241\213" +
+      "\145\115\323\176\111\104\130\276\104\64\311\372" +
+      "\23\14\255\301\106\43\101\305\176\234\371\47" +
+      "\365\215\53\31\73\135\101\134\176\245\6\233" +
+      "\372\145\63\355\257\364\101\46\236\173\276\265" +
+      "\202\115\351\130\147\163\222\102\301\3\2\221" +
+      "\226\352\240\355\77\113\271\373\51\6\320\46" +
+      "\250\20\251\246\312\323\243\142\57\252\322\252" +
+      "\20\15\174\243\205\131\202\47\353\304\202\310" +
+      "\213\340\173\220\300\232\345\63\110\352\245\373" +
+      "\16\354\7\275\6\261\163\265\32\162\214\104" +
+      "\227\272\57\345\253\324\67\114\227\242\336\106" +
+      "\343\122\72\367\216\237\111\20\60\74\343\40" +
+      "\143\177\352\112\56\241\137\170\31\24\372\56" +
+      "\147\53\61\373\312\331\41\376\51\235\62\362" +
+      "\235\332\243\240\371\47\127\205\214\127\151\161" +
+      "\176\127\355\255\1\303\317\251\217\60\56\144" +
+      "\360\102\371\177\140\311\21\173\337\333\221\367" +
+      "\5\6\67\50\247\135\342\75\263\175\1\277" +
+      "\340\322\314\241\170\44\146\156\202\36\33\210" +
+      "\133\332\141\15\361\140\164\362\116\137\100\342" +
+      "\4\164\57\177\126\202\371\262\124\145\131\232" +
+      "\206\162\120\276\6\114\37\253\245\353\305\203" +
+      "\121\177\373\173\253\2\355\46\307\54\114\360" +
+      "\200\334\321\234\351\314\142\115\77\230\57\130" +
+      "\233\301\20\5\1\366\135\21\244\152\277\315" +
+      "\232\31\342\100\161\200\262\176\267\240\347\163" +
+      "\245\36\172\135\31\75\166\304\117\136\245\346" +
+      "\324\230\106\234\223\54\115\333\211\343\51\211" +
+      "\14\174\267\355\304\331\5\332\263\134\133\320" +
+      "\33\346\244\266\14\123\127\211\217\45\255\132" +
+      "\211\226\53\65\215\7\245\24\353\203\133\237" +
+      "\374\133\341\120\243\77\213\125\262\376\0\346" +
+      "\214\336\54\6\124\224\142\176\224\370\53\366" +
+      "\125\216\371\370\301\242\317\1\375\162\72\212" +
+      "\102\66\34\370\277\253\334\325\145\5\240\303" +
+      "\310\53\314\264\204\345\150\104\221\145\104\212" +
+      "\111\315\30\36\126\105\151\147\316\274\220\240" +
+      "\320\221\201\134\3\136\207\246\31\171\275\37" +
+      "\155\331\172\5\235\212\335\176\150\374\43\221" +
+      "\304\6\353\264\65\157\364\302\151\127\204\136" +
+      "\315\243\233\115\243\210\306\313\172\237\137\157" +
+      "\142\11\131\127\166\252\40\362\363\333\245\46" +
+      "\314\71\153\343\276\305\122\302\40\113\122\146" +
+      "\370\270\232\263\216\370\121\362\144\212\140\172" +
+      "\377\44\101\162\325\26\356\332\120\222\33\373" +
+      "\117\205\75\307\121\6\77\275\71\343\10\345" +
+      "\364\40\203\132\255\36\151\323\121\4\327\340" +
+      "\325\161\361\41\11\324\133\364\124\265\117\47" +
+      "\372\5\361\332\62\274\54\161\161\62\45\315" +
+      "\116\257\243\71\120\320\13\27\116\12\61\106" +
+      "\33\133\305\203\251\211\63\247\230\334\236\121" +
+      "\120\23\105\21\333\146\117\246\132\5\37\54" +
+      "\74\221\221\156\126\156\313\237\111\230\142\254" +
+      "\353\32\127\374\44\116\22\253\26\70\12\151" +
+      "\45\315\57\207\324\267\114\213\303\242\214\0" +
+      "\207\354\131\31\376\311\104\224\361\346\372\261" +
+      "\72\246\2\221\74\375\25\175\322\264\313\3" +
+      "\152\145\345\325\270\134\247\52\263\327\111\110" +
+      "\226\361\63\317\356\162\115\213\222\50\340\315" +
+      "\230\373\111\176\303\325\200\47\270\314\376\115" +
+      "\156\323\62\130\20\307\113\154\222\166\167\320" +
+      "\207\234\334\16\33\174\227\263\121\76\146\237" +
+      "\361\275\143\163\115\376\242\234\41\216\207\136" +
+      "\250\342\340\112\102\363\3\132\353\17\167\44" +
+      "\122\125\245\160\225\165\244\277\200\112\70\14" +
+      "\160\42\71\242\24\105\2\30\377\53\342\133" +
+      "\171\221\321\55\15\64\71\366\310\76\324\302" +
+      "\73\246\162\173\44\37\313\211\270\370\30\33" +
+      "\254\122\157\27\354\253\70\172\10\11\136\304" +
+      "\366\367\232\344\66\365\354\364\217\200\327\27" +
+      "\15\303\6\46\105\10\30\32\247\374\234\54" +
+      "\214\251\42\110\300\162\165\354\366\112\222\122" +
+      "\172\20\120\52\74\174\355\13\11\46\277\303" +
+      "\303\165\61\201\376\334\356\140\3\103\12\260" +
+      "\112\144\131\37\276\31\15\114\71\16\226\254" +
+      "\206\162\305\241\73\226\136\345\360\356\32\223" +
+      "\330\304\146\307\240\252\53\123\352\242\312\175" +
+      "\13\224\53\332\222\240\304\172\160\376\371\227" +
+      "\4\153\371\121\34\210\104\113\252\156\322\126" +
+      "\146\315\74\376\313\274\120\266\6\365\150\143" +
+      "\242\352\264\60\56\247\253\226\244\36\326\30" +
+      "\223\110\60\311\275\130\40\56\241\360\153\304" +
+      "\300\176\346\373\335\121\205\222\55\243\361\246" +
+      "\143\324\22\272\315\212\323\144\151\122\324\54" +
+      "\374\375\324\263\347\206\60\113\47\74\343\14" +
+      "\153\362\120\45\345\250\330\61\262\342\101\66" +
+      "\245\64\247\47\121\106\251\312\275\260\251\205";
+
+  private static final String TABLE_PACKED_23 =
+      "\373\213\53\236\176\254\132\222\61\363\256\352" +
+      "\75\357\270\13\237\202\112\316\64\205\72\251" +
+      "\166\355\223\376\112\200\367\140\151\100\324\175" +
+      "\104\357\306\111\372\311\306\133\60\207\205\251" +
+      "\63\314\241\254\16\223\173\241\15\237\102\34" +
+      "\235\256\21\266\250\244\155\54\364\200\326\205" +
+      "\331\254\1\54\54\226\144\332\110\114\77\156" +
+      "\56\15\10\260\67\377\0\145\202\232\343\40" +
+      "\103\22\157\270\63\214\366\221\330\357\332\174" +
+      "\257\120\216\257\66\157\263\140\216\264\232\245" +
+      "\272\331\231\33\224\101\364\5\235\215\245\114" +
+      "\144\4\170\223\7\354\272\117\57\264\372\320" +
+      "\205\232\23\347\7\106\51\66\203\173\161\120" +
+      "\247\235\267\361\3\175\362\152\224\61\270\204" +
+      "\342\215\256\362\341\375\312\354\357\362\201\30" +
+      "\26\360\260\262\245\104\255\105\247\237\243\43" +
+      "\37\323\257\40\333\44\10\212\154\337\147\263" +
+      "\107\46\11\46\60\45\172\155\107\50\34\155" +
+      "\27\153\5\74\244\223\363\36\337\115\207\331" +
+      "\61\300\145\367\155\15\202\112\74\220\327\241" +
+      "\142\66\237\345\345\262\245\20\2\132\324\241" +
+      "\163\355\113\362\26\252\223\46\251\357\62\122" +
+      "\234\121\60\165\344\75\274\154\243\333\175\365" +
+      "\205\356\35\134\35\37\112\117\234\144\65\375" +
+      "\236\67\72\6\210\66\165\261\276\32\133\171" +
+      "\130\33\342\136\257\301\323\15\245\6\233\373" +
+      "\354\374\27\344\267\362\24\11\307\351\246\363" +
+      "\302\205\274\152\17\101\255\352\374\23\172\74" +
+      "\171\301\227\231\105\232\323\144\71\275\274\114" +
+      "\110\225\20\76\352\32\121\243\205\252\241\210" +
+      "\363\132\35\334\175\122\375\102\331\104\313\213" +
+      "\50\314\123\12\163\302\120\22\56\42\241\266" +
+      "\336\117\253\355\12\316\7\267\237\302\337\134" +
+      "\44\150\244\312\44\261\52\34\14\13\72\254" +
+      "\272\304\323\111\40\307\337\111\320\52\66\102" +
+      "\366\71\224\353\14\250\71\261\124\17\25\75" +
+      "\255\10\10\326\204\202\2\162\261\47\214\157" +
+      "\350\162\30\21\50\275\376\125\40\367\166\225" +
+      "\300\266\5\23\141\272\304\205\356\170\107\130" +
+      "\270\340\11\167\65\350\253\14\250\245\67\340" +
+      "\2\176\341\116\375\74\101\304\336\376\120\213" +
+      "\335\44\62\123\342\215\307\115\12\331\120\116" +
+      "\5\322\164\367\276\131\153\57\207\145\240\333" +
+      "\127\136\233\34\323\152\127\6\376\347\140\332" +
+      "\150\123\314\122\71\356\1\65\13\134\337\102" +
+      "\125\120\100\71\307\23\42\127\210\45\165\213" +
+      "\304\373\137\304\115\272\130\4\267\323\233\60" +
+      "\260\224\235\200\204\63\350\271\273\154\372\23" +
+      "\243\55\165\176\45\162\202\44\305\32\245\115" +
+      "\115\55\202\244\335\7\203\3\141\26\352\342" +
+      "\260\312\314\177\116\276\13\43\243\171\356\250" +
+      "\62\1\13\374\230\110\276\115\363\243\214\240" +
+      "\135\162\27\227\164\65\327\40\231\76\267\16" +
+      "\132\163\131\56\106\31\334\362\320\313\35\174" +
+      "\251\354\364\263\114\3\233\317\250\74\32\55" +
+      "\347\77\371\65\326\116\151\266\55\220\313\12" +
+      "\306\324\176\12\23\362\51\235\12\76\263\156" +
+      "\235\347\237\232\106\117\216\26\226\232\324\377" +
+      "\121\105\76\266\152\327\227\44\320\157\226\216" +
+      "\5\220\331\234\147\275\270\243\131\230\36\352" +
+      "\355\37\33\250\215\136\256\7\252\206\141\110" +
+      "\347\345\37\253\304\10\316\166\217\273\224\176" +
+      "\43\266\321\132\10\257\34\134\126\120\113\310" +
+      "\347\275\333\66\111\162\34\221\112\63\4\273" +
+      "\103\154\233\124\115\66\161\377\360\30\6\235" +
+      "\274\121\152\120\277\257\276\154\143\143\43\57" +
+      "\256\124\120\63\334\272\154\351\320\125\172\30" +
+      "\356\266\207\7\42\245\127\314\16\107\225\225" +
+      "\134\312\145\137\174\316\77\137\200\51\363\305" +
+      "\103\53\322\137\62\51\272\320\133\72\110\305" +
+      "\107\353\125\352\162\166\66\55\57\332\210\60" +
+      "\213\71\255\305\204\212\224\20\2\317\143\243" +
+      "\320\146\200\326\170\266\341\1\201\241\322\370" +
+      "\114\31\337\373\102\322\40\364\216\335\233\55" +
+      "\207\52\157\66\276\347\67\273\54\355\204\255" +
+      "\22\53\303\203\5\343\11\65\43\344\155\155" +
+      "\153\43\256\54\214\20\25\235\205\241\274\52" +
+      "\363\162\331\326\24\263\350\41\121\115\141\203" +
+      "\73\370\213\164\131\13\147\132\214\16\15\357" +
+      "\347\163\375\347\340\4\1\371\12\156\214\107" +
+      "\340\125\34\213\64\173\172\110\0\71\67\64" +
+      "\200\245\36\105\322\3\241\134\123\20\74\151" +
+      "\66\362\215\46\177\261\103\74\372\37\41\47" +
+      "\116\354\237\77\137\266\203\252\27\56\57\112" +
+      "\135\13\341\230\165\66\32\362\354\24\276\155" +
+      "\154\160\74\273\334\300\252\36\131\365\370\122" +
+      "\30\2\263\302\50\121\41\5\343\277\165\245" +
+      "\262\302\242\302\301\123\44\60\330\67\232\301" +
+      "\277\21\115\125\52\63\306\207\103\342\201\272" +
+      "\17\65\343\124\237\334\145\301\72\176\276\136" +
+      "\172\174\7\34\157\252\175\234\11\141\74\336" +
+      "\212\63\173\311\126\356\206\220\216\50\130\37" +
+      "\227\64\374\374\40\72\173\6\72\235\51\31" +
+      "\167\17\154\177\136\32\22\37\174\357\305\250" +
+      "\23\117\105\216\147\351\54\300\153\373\251\66" +
+      "\66\17\50\237\355\341\312\241\265\113\325\131" +
+      "\60\107\20\142\365\303\140\131\152\156\42\151" +
+      "\53\111\67\55\244\233\37\346\346\104\342\315" +
+      "\261\3\154\1\316\177\102\51\33\205\64\265" +
+      "\125\201\270\11\66\332\316\134\22\130\110\317";
+
+  private static final String TABLE_PACKED_24 =
+      "\216\34\374\235\66\22\252\40\164\314\204\26" +
+      "\333\353\371\35\127\350\206\225\117\16\355\243" +
+      "\151\350\305\367\130\57\130\331\274\262\367\41" +
+      "\377\1\322\200\325\35\165\110\104\130\144\330" +
+      "\214\314\46\357\251\147\141\123\140\112\37\151" +
+      "\43\362\167\174\205\173\24\314\165\112\30\325" +
+      "\220\362\117\150\321\321\246\113\11\103\355\316" +
+      "\326\216\174\347\275\353\203\31\325\323\313\171" +
+      "\231\162\122\344\333\10\310\226\151\161\43\267" +
+      "\101\376\223\316\55\142\15\46\220\267\326\61" +
+      "\13\101\307\221\3\56\324\123\5\104\40\230" +
+      "\37\252\255\216\224\310\372\363\372\347\203\347" +
+      "\170\204\117\123\23\266\145\3\35\360\364\177" +
+      "\261\64\145\332\74\305\53\105\226\105\312\274" +
+      "\250\67\324\156\27\41\165\251\155\241\370\64" +
+      "\145\105\47\327\3\227\143\4\242\253\130\1" +
+      "\137\337\161\312\147\175\36\77\247\165\4\110" +
+      "\352\374\167\355\376\113\333\21\72\104\231\361" +
+      "\310\334\211\132\131\50\160\107\252\205\246\262" +
+      "\324\3\276\242\156\314\172\153\273\256\205\165" +
+      "\143\66\133\317\105\23\26\302\372\112\246\255" +
+      "\33\61\72\162\305\164\44\313\301\323\73\117" +
+      "\256\130\106\147\16\203\77\317\71\66\126\351" +
+      "\347\262\6\203\165\27\232\337\133\34\177\40" +
+      "\75\12\242\27\44\70\30\334\272\135\0\243" +
+      "\22\127\26\213\241\366\347\361\75\230\17\51" +
+      "\11\254\35\372\153\177\10\235\372\126\17\223" +
+      "\360\163\271\142\110\52\264\252\254\17\325\106" +
+      "\376\133\162\341\267\65\31\55\356\141\321\242" +
+      "\266\277\123\201\226\354\325\12\145\301\154\105" +
+      "\304\262\130\174\204\233\326\366\123\304\71\76" +
+      "\271\162\2\150\317\56\67\322\210\72\51\43" +
+      "\100\165\204\165\121\52\265\211\236\175\133\354" +
+      "\166\276\224\330\56\137\237\326\6\110\153\136" +
+      "\74\262\370\245\171\22\242\150\231\162\263\366" +
+      "\364\42\40\242\241\307\135\142\320\115\251\137" +
+      "\133\363\303\244\361\143\355\371\67\343\305\305" +
+      "\61\27\301\30\103\200\373\226\41\53\106\173" +
+      "\70\261\303\231\53\223\201\163\214\176\76\155" +
+      "\341\345\11\150\20\113\345\341\34\11\377\47" +
+      "\25\41\37\332\150\146\307\244\52\24\16\315" +
+      "\51\62\46\73\35\327\125\211\10\252\225\325" +
+      "\21\131\362\367\172\172\170\64\177\233\246\156" +
+      "\301\232\253\365\263\261\116\260\345\264\125\136" +
+      "\213\150\325\352\126\16\62\175\233\341\127\313" +
+      "\262\76\262\377\310\315\345\114\25\133\27\7" +
+      "\277\216\336\132\254\130\136\1\215\234\150\253" +
+      "\115\22\20\312\123\177\130\21\362\317\205\62" +
+      "\172\301\127\152\261\251\351\225\121\306\22\21" +
+      "\144\256\147\166\352\330\155\52\307\262\213\106" +
+      "\27\121\330\124\223\73\136\146\223\153\352\201" +
+      "\312\0\33\33\253\26\101\220\7\215\255\260" +
+      "\26\16\270\343\332\17\216\15\210\255\110\127" +
+      "\43\22\261\156\35\12\53\51\122\205\241\350" +
+      "\133\107\324\324\136\125\156\343\322\67\335\372" +
+      "\15\36\263\47\344\2\232\352\235\12\305\14" +
+      "\377\200\220\313\303\50\241\375\214\26\305\56" +
+      "\153\141\120\377\267\11\167\211\333\2\152\141" +
+      "\176\10\37\200\363\310\100\32\264\163\344\171" +
+      "\116\213\275\254\104\15\152\373\132\337\5\313" +
+      "\103\201\363\345\66\121\257\276\120\104\142\303" +
+      "\326\370\67\273\314\321\312\170\75\13\133\150" +
+      "\151\55\106\361\244\215\212\300\175\367\336\121" +
+      "\224\313\73\177\175\166\121\324\141\27\44\52" +
+      "\322\374\75\123\27\216\4\135\27\125\53\360" +
+      "\11\6\122\261\241\301\41\73\340\301\120\315" +
+      "\10\377\127\140\215\313\173\345\177\374\102\270" +
+      "\316\346\236\175\156\130\63\144\373\300\163\257" +
+      "\242\210\307\5\136\212\127\261\154\40\373\220" +
+      "\51\266\303\25\377\274\140\37\314\272\107\11" +
+      "\133\206\254\165\211\36\17\12\250\336\261\66" +
+      "\376\333\234\105\374\267\221\7\312\75\35\370" +
+      "\371\206\155\240\271\223\337\215\61\25\323\52" +
+      "\343\13\360\246\14\136\132\5\111\31\227\147" +
+      "\321\303\203\227\75\235\335\201\343\65\366\13" +
+      "\63\227\101\150\113\66\233\161\352\351\333\71" +
+      "\116\23\202\260\155\300\312\133\103\252\247\4" +
+      "\134\154\72\171\374\144\215\367\110\150\364\336" +
+      "\72\223\327\106\16\262\213\335\164\314\303\356" +
+      "\231\326\114\157\135\213\276\113\121\116\12\307" +
+      "\375\214\35\216\114\73\155\236\67\164\344\37" +
+      "\66\273\63\317\202\26\174\156\64\32\226\345" +
+      "\232\123\3\340\306\134\40\117\343\14\75\354" +
+      "\15\360\361\303\106\327\133\230\56\201\126\174" +
+      "\54\246\30\365\245\30\226\350\353\75\70\362" +
+      "\13\2\62\232\67\32\3\206\201\327\121\165" +
+      "\157\261\342\44\161\63\301\111\270\360\355\26" +
+      "\163\3\353\33\371\363\54\35\200\173\334\21" +
+      "\147\47\74\107\4\55\56\63\74\22\337\66" +
+      "\364\50\23\125\273\315\17\243\370\254\313\233" +
+      "\6\7\152\54\157\103\164\73\350\115\10\66" +
+      "\322\42\257\54\134\127\265\165\153\342\341\7" +
+      "\22\213\110\116\56\375\354\313\212\214\172\46" +
+      "\340\22\247\332\336\44\10\301\142\335\372\333" +
+      "\125\46\175\62\375\117\114\135\5\266\221\224" +
+      "\75\17\325\313\347\154\257\303\16\150\317\274" +
+      "\107\15\375\13\12\10\137\220\163\361\144\65" +
+      "\124\255\170\115\222\123\177\161\31\374\215\224" +
+      "\43\174\305\203\174\336\74\172\204\7\12\63" +
+      "\327\272\62\267\157\315\17\122\51\221\255\367";
+
+  private static final String TABLE_PACKED_25 =
+      "\267\147\17\267\321\375\340\254\225\336\22\72" +
+      "\211\236\306\304\61\13\267\325\315\246\116\153" +
+      "\203\346\11\357\22\5\165\220\205\344\111\230" +
+      "\127\375\325\6\26\237\223\224\124\55\276\172" +
+      "\23\252\46\15\227\267\215\255\163\214\11\57" +
+      "\22\161\62\215\272\236\5\327\321\331\164\51" +
+      "\340\61\234\126\61\112\314\344\127\55\5\115" +
+      "\104\117\31\261\302\116\16\366\77\17\125\216" +
+      "\44\361\266\301\23\223\324\76\206\174\242\121" +
+      "\102\63\222\266\4\247\210\235\216\331\354\110" +
+      "\214\13\7\215\164\346\273\312\11\120\226\226" +
+      "\42\347\340\261\217\163\33\12\61\261\376\355" +
+      "\352\360\156\33\67\352\203\25\65\245\351\330" +
+      "\76\72\364\106\376\122\233\113\116\271\241\316" +
+      "\25\77\146\42\327\50\154\347\164\146\241\314" +
+      "\233\340\74\322\366\245\314\326\337\265\374\321" +
+      "\212\56\362\273\17\167\132\45\77\352\275\133" +
+      "\234\100\210\123\17\145\364\177\247\140\335\11" +
+      "\34\40\73\26\136\132\225\45\112\103\26\20" +
+      "\253\343\31\70\353\327\313\237\343\306\70\226" +
+      "\30\252\50\241\173\247\200\233\23\132\116\246" +
+      "\6\46\100\360\262\302\176\352\250\20\352\213" +
+      "\15\311\136\103\143\202\253\131\162\137\252\41" +
+      "\62\131\345\353\21\267\50\100\20\167\222\43" +
+      "\211\144\113\355\252\171\313\370\21\217\223\272" +
+      "\132\1\155\311\5\174\300\153\376\101\177\304" +
+      "\50\301\75\227\50\334\123\271\305\154\36\151" +
+      "\32\344\2\300\226\66\217\175\260\133\242\257" +
+      "\2\71\221\123\346\334\130\257\203\21\135\212" +
+      "\156\262\354\54\156\175\114\123\157\1\116\310" +
+      "\227\226\13\76\244\135\351\262\342\137\373\50" +
+      "\251\362\156\261\373\50\4\301\263\34\306\335" +
+      "\61\303\74\163\372\270\225\232\354\26\216\10" +
+      "\323\174\37\121\302\253\165\351\10\64\233\222" +
+      "\247\223\272\165\26\222\365\245\116\122\73\26" +
+      "\234\145\111\373\150\344\365\40\13\346\373\230" +
+      "\53\0\256\24\274\251\106\266\332\231\37\71" +
+      "\353\105\225\77\271\53\32\44\306\40\357\136" +
+      "\153\25\37\31\134\145\257\272\231\217\174\144" +
+      "\165\260\50\204\27\156\212\102\161\210\166\132" +
+      "\13\160\304\316\326\355\153\306\312\333\130\343" +
+      "\275\106\127\200\262\303\226\267\241\372\41\155" +
+      "\330\145\226\321\140\374\55\121\55\2\123\231" +
+      "\167\311\361\143\334\105\361\26\21\114\12\42" +
+      "\261\343\13\11\5\133\157\56\36\270\141\0" +
+      "\103\125\311\177\42\21\147\107\13\267\152\373" +
+      "\230\47\246\227\60\350\264\177\56\377\363\230" +
+      "\325\112\50\203\40\0\371\142\342\314\257\245" +
+      "\113\163\146\231\103\116\352\336\357\11\224\27" +
+      "\206\376\101\372\351\227\72\353\34\362\165\166" +
+      "\347\366\312\334\111\15\140\10\200\30\222\66" +
+      "\103\270\100\256\323\43\336\225\111\331\215\347" +
+      "\45\111\232\330\235\361\151\201\27\215\54\172" +
+      "\344\316\163\57\172\167\47\266\327\147\240\155" +
+      "\170\151\106\350\143\267\61\142\47\373\72\312" +
+      "\156\161\176\63\372\146\136\341\106\347\11\115" +
+      "\372\201\225\306\276\107\201\272\333\147\126\22" +
+      "\23\71\235\126\101\340\13\323\43\211\114\26" +
+      "\302\174\71\245\57\33\127\221\4\210\264\202" +
+      "\16\344\175\237\335\321\316\103\362\351\334\61" +
+      "\60\206\325\35\320\211\222\240\265\150\223\274" +
+      "\65\212\102\253\305\236\112\157\267\333\133\164" +
+      "\351\214\166\341\361\57\27\320\221\157\123\272" +
+      "\137\133\66\322\375\240\373\70\177\32\37\150" +
+      "\156\315\33\203\346\0\221\52\157\3\305\111" +
+      "\34\32\177\142\362\274\376\162\345\302\161\255" +
+      "\247\23\106\23\362\334\146\113\370\255\366\320" +
+      "\52\3\71\73\350\72\110\250\344\10\233\2" +
+      "\64\343\26\240\170\236\41\350\272\60\212\255" +
+      "\354\47\125\62\27\20\326\32\30\275\162\261" +
+      "\207\11\135\160\216\34\335\300\57\200\22\344" +
+      "\151\377\0\352\61\353\256\211\154\311\324\152" +
+      "\357\171\306\27\2\21\43\31\203\175\244\273" +
+      "\322\145\331\34\53\334\56\106\40\304\125\274" +
+      "\16\313\204\227\101\163\323\340\114\333\376\115" +
+      "\271\6\133\156\213\175\346\377\54\313\362\355" +
+      "\150\177\275\367\313\45\64\126\337\126\216\247" +
+      "\342\142\356\25\214\21\232\61\216\261\366\325" +
+      "\130\111\157\175\377\63\376\12\371\224\262\66" +
+      "\317\136\363\373\274\333\65\237\205\31\315\65" +
+      "\166\41\241\245\50\1\27\135\327\206\231\152" +
+      "\240\3\157\152\300\311\233\167\312\77\265\316" +
+      "\277\302\147\106\102\327\222\117\121\147\127\215" +
+      "\212\116\245\111\376\123\143\141\75\227\326\207" +
+      "\327\162\5\166\154\212\270\72\275\230\261\325" +
+      "\124\133\220\207\100\43\374\231\77\241\252\47" +
+      "\270\32\12\56\14\176\152\256\340\23\130\330" +
+      "\130\167\210\71\171\203\67\331\306\154\27\252" +
+      "\204\337\217\156\343\270\322\247\320\236\41\341" +
+      "\112\45\15\211\347\34\20\226\11\333\306\210" +
+      "\106\101\14\330\272\206\334\112\36\361\201\332" +
+      "\357\110\0\325\262\0\313\245\146\156\225\175" +
+      "\361\40\327\107\156\216\1\227\22\114\325\250" +
+      "\62\226\77\242\365\26\105\65\340\334\242\14" +
+      "\33\170\212\10\225\235\160\104\332\163\162\137" +
+      "\224\366\217\107\265\142\257\274\173\171\205\64" +
+      "\326\43\121\275\276\61\333\226\36\307\47\272" +
+      "\105\51\271\17\115\301\341\2\326\305\112\202" +
+      "\121\314\125\142\73\272\267\26\315\107\164\207" +
+      "\336\27\377\160\362\76\57\33\2\237\106\340";
+
+  private static final String TABLE_PACKED_26 =
+      "\15\41\12\377\242\32\373\137\176\110\357\230" +
+      "\330\61\355\134\243\116\201\7\77\7\117\310" +
+      "\232\203\374\46\216\22\14\166\361\314\124\35" +
+      "\64\163\301\343\123\314\65\371\205\361\166\255" +
+      "\250\307\146\237\111\20\360\364\245\242\117\352" +
+      "\143\302\356\245\247\223\31\342\241\246\277\42" +
+      "\346\101\126\102\320\364\371\73\2\144\231\6" +
+      "\35\111\155\74\25\275\305\240\70\245\313\337" +
+      "\174\17\151\34\176\211\115\155\110\252\223\44" +
+      "\55\25\160\307\224\64\224\300\46\22\206\117" +
+      "\344\111\214\131\360\157\272\51\77\20\22\45" +
+      "\177\67\240\376\313\306\101\52\313\126\261\346" +
+      "\17\275\103\134\235\60\200\156\106\272\160\325" +
+      "\100\132\322\255\72\204\37\304\366\335\322\144" +
+      "\210\257\254\232\44\22\13\352\76\55\347\270" +
+      "\113\50\205\205\125\6\377\11\165\150\41\311" +
+      "\337\256\173\151\177\162\277\362\43\306\132\134" +
+      "\177\75\167\204\30\54\66\124\361\103\151\350" +
+      "\263\257\131\207\167\166\130\167\34\176\111\132" +
+      "\100\350\45\56\270\347\107\327\150\56\110\6" +
+      "\151\152\174\153\170\7\46\223\112\241\333\174" +
+      "\207\314\47\355\143\0\160\223\217\333\56\130" +
+      "\355\214\121\266\376\42\305\122\365\351\2\10" +
+      "\275\234\105\74\160\333\45\305\326\62\277\362" +
+      "\244\336\116\375\71\101\210\223\105\111\7\334" +
+      "\364\171\263\350\340\221\363\50\121\73\126\351" +
+      "\156\220\40\246\243\173\242\177\123\267\337\250" +
+      "\107\303\100\175\312\273\67\356\233\70\201\346" +
+      "\106\303\221\120\253\170\221\360\271\345\205\342" +
+      "\247\324\64\256\374\215\162\206\371\151\141\341" +
+      "\124\222\142\132\173\245\156\220\12\161\153\26" +
+      "\121\161\66\213\35\345\361\310\222\352\155\274" +
+      "\34\56\12\137\11\142\200\203\315\103\360\271" +
+      "\256\363\155\167\207\116\3\126\143\236\266\300" +
+      "\366\373\277\362\351\123\247\352\362\335\271\336" +
+      "\152\347\15\276\1\107\105\50\2\111\352\112" +
+      "\74\117\16\77\162\125\275\201\215\123\223\2" +
+      "\263\63\231\72\14\37\125\212\40\365\376\36" +
+      "\244\25\334\116\217\331\114\133\21\307\316\116" +
+      "\104\314\0\42\113\11\40\17\252\371\2\202" +
+      "\16\75\70\246\225\107\146\213\7\22\240\44" +
+      "\226\143\66\247\253\140\212\121\75\41\363\333" +
+      "\75\43\224\375\130\102\7\131\115\53\271\40" +
+      "\276\252\7\325\4\155\135\103\22\241\335\266" +
+      "\111\277\171\266\34\367\46\32\121\201\31\104" +
+      "\277\367\132\322\336\220\330\63\355\374\241\111" +
+      "\242\307\71\343\32\3\40\313\207\64\211\272" +
+      "\30\146\240\367\126\223\310\42\0\356\237\156" +
+      "\317\167\137\226\343\26\114\367\227\273\365\252" +
+      "\242\376\342\234\36\324\44\344\30\171\110\224" +
+      "\153\217\162\246\255\335\333\73\12\106\277\76" +
+      "\0\114\122\253\140\10\377\113\145\247\244\157" +
+      "\163\232\260\372\157\313\212\27\301\111\241\205" +
+      "\246\136\113\336\51\64\27\345\215\102\251\60" +
+      "\121\207\45\265\55\161\346\276\160\10\230\206" +
+      "\366\241\250\242\242\222\230\165\316\205\130\126" +
+      "\0\273\4\151\154\23\372\55\222\15\53\44" +
+      "\54\35\10\163\132\112\246\221\155\301\147\27" +
+      "\226\105\14\326\217\125\221\115\244\23\53\265" +
+      "\270\311\134\313\230\135\202\71\200\116\123\344" +
+      "\275\177\175\216\161\123\176\307\230\322\215\347" +
+      "\77\315\271\17\360\246\347\163\336\35\252\146" +
+      "\107\325\347\225\262\205\324\166\367\210\171\26" +
+      "\225\211\22\4\150\350\66\115\301\264\170\126" +
+      "\30\362\307\21\357\362\53\223\47\332\53\116" +
+      "\315\345\63\106\156\107\200\166\226\301\363\104" +
+      "\331\151\247\253\240\167\166\330\361\305\176\103" +
+      "\344\354\76\46\63\273\270\140\107\65\37\106" +
+      "\326\334\144\106\36\76\40\177\42\46\346\173" +
+      "\120\344\270\364\167\341\137\334\3\255\351\373" +
+      "\166\67\176\104\263\26\300\246\171\175\354\105" +
+      "\311\120\215\275\341\57\223\225\1\212\354\2" +
+      "\364\263\53\214\126\103\74\311\23\336\53\226" +
+      "\117\213\206\207\42\124\262\40\157\125\310\335" +
+      "\362\216\366\150\311\261\57\243\276\64\137\271" +
+      "\116\251\332\44\56\340\170\46\376\325\206\275" +
+      "\241\15\133\365\124\75\165\357\72\373\62\123" +
+      "\361\313\325\372\60\226\124\23\233\230\155\113" +
+      "\233\355\35\120\233\146\237\317\20\230\137\172" +
+      "\224\26\11\337\31\351\305\124\301\165\40\323" +
+      "\363\6\46\340\66\155\205\37\36\31\31\365" +
+      "\44\270\61\177\261\255\12\40\131\6\274\265" +
+      "\25\55\167\262\351\206\145\347\253\127\20\152" +
+      "\312\341\33\200\305\250\225\140\25\264\274\233" +
+      "\303\155\337\277\253\154\231\11\270\136\113\311" +
+      "\275\137\36\366\241\250\231\2\346\355\220\72" +
+      "\357\335\134\15\25\304\54\167\366\13\230\331" +
+      "\166\241\125\376\77\254\55\171\376\256\76\245" +
+      "\6\11\160\345\243\217\72\204\270\342\171\216" +
+      "\302\337\57\62\52\107\227\51\12\341\24\336" +
+      "\46\146\242\320\146\27\330\303\162\25\327\176" +
+      "\114\43\255\63\71\373\235\315\227\65\10\353" +
+      "\252\76\120\252\72\230\53\104\1\256\16\21" +
+      "\367\321\62\143\164\317\30\311\220\32\204\134" +
+      "\4\334\357\135\340\274\327\107\37\177\251\115" +
+      "\320\57\232\220\274\350\1\374\154\117\33\1" +
+      "\346\207\210\157\236\350\24\147\121\171\221\130" +
+      "\363\336\64\361\104\136\213\241\362\175\376\264" +
+      "\151\211\256\152\47\237\312\154\2\27\204\57" +
+      "\367\36\210\34\263\103\11\274\172\16\134\170";
+
+  private static final String TABLE_PACKED_27 =
+      "\54\36\343\122\104\266\133\371\370\171\371\165" +
+      "\117\253\53\147\202\300\134\45\146\333\253\131" +
+      "\321\370\220\177\233\73\270\275\56\302\61\360" +
+      "\246\46\110\16\63\116\161\207\340\210\113\105" +
+      "\172\342\233\277\337\106\52\255\301\77\14\245" +
+      "\254\135\115\36\0\177\253\3\356\343\45\201" +
+      "\314\242\222\26\11\136\307\313\274\212\374\10" +
+      "\120\17\213\133\32\211\131\71\363\346\201\214" +
+      "\227\77\35\355\301\160\375\213\336\35\372\20" +
+      "\152\351\332\4\16\207\333\233\111\167\130\312" +
+      "\240\134\243\351\121\1\264\361\30\102\40\320" +
+      "\220\172\31\356\246\143\353\50\54\276\230\232" +
+      "\253\105\102\255\152\221\64\153\336\60\156\374" +
+      "\126\246\22\240\225\173\174\130\323\276\45\320" +
+      "\343\335\347\116\200\2\226\111\125\150\311\27" +
+      "\347\236\267\74\166\237\215\223\254\267\345\234" +
+      "\42\67\331\14\243\160\105\263\341\173\44\216" +
+      "\24\126\55\53\134\217\115\145\204\370\352\222" +
+      "\267\170\135\362\16\112\252\37\226\330\165\372" +
+      "\321\221\362\32\230\235\155\203\76\323\35\147" +
+      "\355\161\163\344\325\124\71\353\143\17\35\371" +
+      "\374\11\222\205\40\165\70\44\114\70\354\326" +
+      "\361\273\253\326\66\324\373\53\254\172\164\376" +
+      "\336\127\156\243\63\161\242\231\50\365\276\154" +
+      "\113\264\52\275\36\4\335\355\144\371\176\114" +
+      "\361\70\326\120\200\110\217\222\235\41\166\125" +
+      "\224\362\45\231\145\235\131\277\26\34\246\167" +
+      "\322\7\150\173\322\235\362\124\71\176\142\112" +
+      "\116\261\103\200\27\174\345\377\134\15\201\16" +
+      "\141\153\361\35\73\230\313\36\352\176\370\314" +
+      "\304\32\264\306\32\121\351\254\6\201\321\354" +
+      "\115\320\134\105\254\276\316\340\52\363\32\237" +
+      "\224\2\75\117\43\14\113\172\335\263\62\257" +
+      "\220\373\315\267\41\122\235\16\71\372\371\76" +
+      "\343\117\130\26\373\60\66\264\102\73\331\346" +
+      "\247\263\125\142\66\41\14\377\257\250\123\62" +
+      "\220\360\210\206\251\45\164\330\174\244\17\111" +
+      "\2\266\274\52\363\263\131\260\373\124\306\100" +
+      "\167\72\121\140\30\251\303\216\147\276\377\251" +
+      "\167\370\240\36\152\253\123\124\251\332\13\320" +
+      "\163\316\217\311\107\156\324\71\106\157\250\376" +
+      "\301\346\42\251\314\357\204\243\151\111\56\56" +
+      "\160\320\343\11\323\343\35\20\157\323\250\335" +
+      "\146\10\233\106\143\301\126\376\376\332\344\254" +
+      "\342\66\105\351\350\12\4\6\260\16\20\202" +
+      "\74\36\73\373\334\244\243\214\276\142\130\12" +
+      "\353\114\126\117\202\32\304\154\115\46\110\204" +
+      "\234\175\13\325\71\4\342\157\41\226\31\203" +
+      "\234\271\301\365\1\227\246\14\263\236\111\356" +
+      "\330\174\302\362\63\374\213\327\274\356\33\115" +
+      "\71\264\367\347\337\232\147\72\332\247\53\115" +
+      "\12\20\140\167\305\170\145\76\123\216\312\270" +
+      "\7\57\14\321\225\250\373\267\104\200\305\222" +
+      "\226\374\16\15\364\300\120\155\257\11\125\350" +
+      "\230\107\216\343\175\252\254\26\255\325\74\145" +
+      "\262\342\255\260\305\350\56\253\103\214\40\360" +
+      "\321\42\315\227\47\313\153\370\64\365\230\73" +
+      "\132\61\256\225\270\306\156\370\67\153\57\351" +
+      "\4\115\301\40\374\156\344\276\307\122\151\32" +
+      "\330\33\202\142\177\346\74\336\317\235\337\150" +
+      "\255\106\230\262\344\363\154\111\233\105\5\112" +
+      "\45\11\302\312\213\211\55\207\375\43\173\243" +
+      "\260\224\216\26\320\162\274\255\142\233\330\100" +
+      "\144\346\356\203\245\62\343\267\234\25\131\330" +
+      "\141\330\247\232\331\126\333\322\6\163\272\33" +
+      "\221\146\314\305\31\7\325\6\362\225\230\11" +
+      "\212\100\56\240\240\355\67\106\337\143\110\105" +
+      "\6\64\101\113\301\345\172\4\107\207\67\77" +
+      "\266\347\255\235\307\350\66\254\307\223\313\27" +
+      "\163\16\253\347\125\43\320\101\44\207\347\123" +
+      "\263\10\225\340\346\11\65\115\40\352\27\232" +
+      "\10\4\351\12\172\14\355\206\176\176\25\317" +
+      "\6\311\71\74\161\222\141\263\67\40\45\115" +
+      "\127\116\104\64\13\314\174\131\237\315\73\116" +
+      "\146\14\160\7\250\202\250\24\202\273\31\141" +
+      "\153\50\221\53\160\263\263\24\53\220\264\141" +
+      "\103\46\147\340\244\170\20\25\235\223\113\71" +
+      "\300\245\12\340\166\274\101\131\37\31\155\46" +
+      "\37\67\52\46\324\73\336\346\251\41\37\334" +
+      "\310\230\156\25\372\166\254\234\204\351\13\326" +
+      "\120\152\207\122\354\35\7\157\225\205\307\266" +
+      "\226\227\2\72\15\131\152\277\13\236\134\65" +
+      "\221\147\100\6\304\311\122\242\303\157\110\105" +
+      "\116\275\177\333\6\201\17\61\53\155\243\352" +
+      "\354\176\355\167\271\154\336\35\36\32\123\343" +
+      "\277\126\71\60\336\323\31\340\352\335\341\263" +
+      "\72\43\100\123\171\245\1\7\103\373\304\105" +
+      "\337\25\220\20\101\172\143\350\367\211\365\376" +
+      "\103\265\277\23\255\176\226\376\120\46\373\54" +
+      "\73\346\340\232\270\50\270\130\117\25\126\201" +
+      "\365\316\174\311\300\316\27\71\106\245\133\251" +
+      "\234\212\12\232\145\54\210\212\252\71\112\151" +
+      "\127\66\50\211\125\5\334\16\27\347\367\327" +
+      "\121\234\207\203\373\107\323\254\31\121\146\165" +
+      "\273\160\237\105\26\367\352\224\46\70\265\265" +
+      "\265\107\352\333\154\25\351\205\364\366\232\365" +
+      "\124\66\216\43\364\147\305\205\145\363\373\34" +
+      "\237\375\40\263\272\106\57\23\145\77\226\347" +
+      "\374\54\44\361\72\312\251\265\351\171\24\173" +
+      "\356\253\212\323\260\273\125\101\66\107\66\205";
+
+  private static final String TABLE_PACKED_28 =
+      "\251\14\134\167\345\126\111\6\170\156\1\12" +
+      "\122\270\54\274\314\335\47\161\335\327\170\105" +
+      "\345\263\141\306\151\217\200\205\73\330\214\222" +
+      "\42\77\47\326\204\67\66\124\376\230\252\333" +
+      "\105\273\245\157\70\104\75\313\366\2\171\175" +
+      "\263\152\101\202\161\167\274\207\160\2\360\75" +
+      "\153\152\4\352\317\212\313\16\55\224\351\340" +
+      "\0\74\154\114\277\204\254\153\303\153\114\302" +
+      "\60\333\101\337\115\324\205\155\374\112\133\156" +
+      "\112\36\110\355\220\5\145\175\224\250\73\11" +
+      "\316\136\154\202\201\150\312\156\252\352\121\26" +
+      "\306\247\55\364\166\222\45\171\135\57\127\255" +
+      "\15\373\165\21\342\5\76\76\347\310\246\55" +
+      "\364\371\154\305\324\20\14\253\323\20\213\67" +
+      "\167\225\113\134\130\160\173\374\322\115\213\145" +
+      "\145\247\53\10\306\5\37\7\115\224\12\102" +
+      "\277\153\203\344\235\347\245\252\361\207\264\43" +
+      "\106\302\252\21\372\12\205\117\7\147\114\222" +
+      "\355\367\275\131\326\310\33\261\227\40\22\175" +
+      "\203\371\130\221\155\151\355\264\252\306\216\77" +
+      "\224\206\375\230\304\5\215\205\5\330\372\21" +
+      "\222\317\200\340\210\11\47\142\262\100\134\223" +
+      "\157\103\223\217\70\252\145\306\253\32\141\236" +
+      "\300\23\117\227\4\362\174\274\152\200\54\337" +
+      "\127\217\232\172\266\225\320\105\352\210\105\311" +
+      "\247\227\217\372\171\353\263\171\217\270\121\164" +
+      "\122\127\57\134\171\311\251\326\204\315\172\266" +
+      "\1\243\213\102\235\246\330\34\220\326\20\370" +
+      "\342\174\342\246\313\42\67\333\172\63\267\325" +
+      "\252\115\247\51\137\77\333\114\205\376\70\213" +
+      "\321\105\362\306\2\134\3\6\146\140\203\71" +
+      "\120\353\150\41\165\355\32\210\4\100\245\3" +
+      "\230\253\216\334\77\177\67\52\151\22\2\114" +
+      "\240\21\273\312\225\376\363\241\155\123\372\210" +
+      "\306\373\46\373\266\241\46\116\57\311\337\221" +
+      "\111\5\317\271\33\242\366\250\350\377\217\20" +
+      "\362\374\53\226\72\157\32\350\261\117\372\41" +
+      "\202\7\357\244\32\333\213\67\313\100\271\305" +
+      "\200\221\122\151\20\25\43\156\125\343\127\43" +
+      "\320\276\254\207\216\234\231\157\126\31\27\113" +
+      "\315\354\124\130\66\37\342\60\376\134\26\367" +
+      "\347\321\44\266\265\353\103\46\323\135\64\100" +
+      "\336\235\230\61\201\340\303\352\34\14\154\344" +
+      "\206\26\174\302\152\167\331\15\304\175\36\244" +
+      "\346\77\74\315\324\130\210\374\264\12\222\317" +
+      "\61\245\106\24\270\172\320\112\360\100\201\214" +
+      "\141\144\173\235\11\65\300\117\101\376\153\204" +
+      "\110\263\306\144\337\210\342\135\313\72\47\375" +
+      "\4\366\325\106\330\264\55\304\101\240\327\376" +
+      "\53\67\356\225\252\361\2\311\102\242\31\144" +
+      "\375\162\363\301\267\106\365\346\60\55\131\170" +
+      "\110\1\132\26\34\105\310\271\371\5\24\222" +
+      "\71\200\70\257\6\333\243\374\165\350\323\55" +
+      "\51\4\357\352\113\273\275\47\316\145\157\40" +
+      "\260\63\101\355\161\154\252\41\110\146\276\127" +
+      "\111\224\52\14\53\304\3\227\6\204\326\261" +
+      "\267\173\124\307\353\216\272\44\227\137\220\270" +
+      "\60\131\70\72\241\53\17\312\331\254\364\250" +
+      "\207\142\267\261\275\42\41\171\324\120\65\63" +
+      "\36\77\116\211\247\221\170\65\165\207\4\102" +
+      "\224\106\104\364\266\251\237\122\362\314\212\334" +
+      "\27\314\171\102\303\137\141\222\174\32\20\5" +
+      "\363\371\273\202\277\152\76\30\64\151\100\167" +
+      "\140\105\171\120\51\44\330\143\221\67\22\110" +
+      "\344\101\315\350\152\301\362\42\211\206\375\177" +
+      "\345\336\174\354\166\302\174\210\246\15\276\363" +
+      "\377\361\52\125\224\310\365\23\60\5\361\112" +
+      "\66\365\307\127\363\310\17\351\151\276\240\256" +
+      "\323\224\334\70\204\7\141\166\174\55\254\226" +
+      "\372\1\161\245\360\335\16\62\40\367\246\142" +
+      "\224\15\123\141\170\152\177\257\22\300\202\42" +
+      "\75\30\261\310\116\206\366\223\62\367\66\167" +
+      "\22\133\15\336\265\227\111\14\122\45\17\313" +
+      "\61\31\144\214\373\104\354\317\276\101\206\40" +
+      "\53\273\162\352\241\176\200\31\41\124\176\6" +
+      "\177\250\101\233\256\122\211\110\361\45\201\47" +
+      "\360\54\10\16\344\270\113\354\307\102\214\126" +
+      "\266\271\320\153\262\127\377\36\311\245\132\311" +
+      "\131\43\131\104\170\133\222\30\342\73\322\70" +
+      "\1\324\17\77\346\245\201\126\151\260\357\62" +
+      "\243\112\103\372\326\27\250\174\37\316\305\336" +
+      "\112\356\236\132\162\6\174\355\174\306\135\144" +
+      "\114\270\172\111\157\266\270\217\22\366\206\247" +
+      "\303\56\35\312\106\204\346\221\126\101\317\206" +
+      "\332\2\333\65\44\207\1\135\70\205\22\112" +
+      "\326\345\355\365\323\137\341\100\220\117\60\71" +
+      "\324\200\32\144\13\11\132\40\67\267\243\342" +
+      "\2\333\35\236\314\76\231\54\257\166\335\33" +
+      "\172\371\6\130\4\157\230\57\334\371\357\371" +
+      "\67\351\266\373\51\240\236\140\202\103\246\327" +
+      "\331\213\3\115\256\354\10\315\345\110\116\163" +
+      "\225\214\256\227\324\153\252\276\71\267\320\16" +
+      "\341\367\262\152\212\17\42\344\117\32\347\12" +
+      "\45\272\122\2\44\360\271\307\326\336\335\133" +
+      "\21\250\322\260\2\367\177\355\321\305\363\31" +
+      "\227\133\336\146\170\242\263\102\67\261\221\106" +
+      "\122\157\150\234\377\366\142\347\33\355\161\56" +
+      "\4\234\260\20\235\141\260\31\304\310\46\257" +
+      "\242\133\351\270\140\222\373\41\274\76\135\100" +
+      "\326\272\22\235\50\107\253\322\364\207\343\224";
+
+  private static final String TABLE_PACKED_29 =
+      "\226\353\321\212\344\11\162\315\260\304\371\21" +
+      "\207\114\216\241\142\353\215\217\254\60\7\132" +
+      "\51\343\146\147\142\322\111\132\267\111\334\144" +
+      "\345\256\27\12\341\225\343\311\210\141\241\110" +
+      "\226\250\245\32\1\76\347\0\151\321\42\361" +
+      "\327\355\223\164\314\74\147\252\343\366\70\250" +
+      "\323\130\41\226\316\121\226\331\71\300\140\321" +
+      "\301\326\207\227\363\364\141\37\105\37\221\106" +
+      "\346\235\20\143\315\31\333\215\204\25\41\76" +
+      "\376\367\205\135\22\242\277\310\356\7\226\223" +
+      "\325\324\6\212\135\225\303\15\140\215\205\62" +
+      "\353\276\337\215\157\44\257\313\16\156\134\361" +
+      "\0\30\321\31\116\46\217\301\136\42\146\356" +
+      "\342\220\304\351\204\221\224\115\132\43\17\20" +
+      "\176\364\253\172\371\364\135\311\165\65\364\22" +
+      "\12\126\135\122\370\6\203\250\274\132\71\170" +
+      "\365\101\231\153\242\41\211\167\222\6\314\266" +
+      "\65\61\243\256\167\123\7\266\364\121\143\303" +
+      "\103\260\316\261\317\234\71\240\221\11\167\56" +
+      "\170\121\112\20\104\31\172\240\32\365\326\44" +
+      "\231\11\214\15\231\151\51\67\73\260\3\147" +
+      "\34\346\213\304\316\120\162\360\210\72\324\154" +
+      "\151\372\354\24\132\164\342\316\127\275\43\61" +
+      "\303\200\25\346\56\224\105\265\224\262\37\254" +
+      "\26\10\42\7\173\330\236\66\150\14\64\232" +
+      "\173\30\240\262\157\6\257\103\134\372\327\364" +
+      "\314\303\170\204\205\317\62\370\16\107\144\204" +
+      "\175\336\267\43\22\362\321\153\350\132\106\333" +
+      "\77\102\334\46\103\367\132\257\311\63\104\17" +
+      "\20\253\344\364\13\364\337\133\376\133\176\310" +
+      "\123\35\111\267\336\20\4\124\361\241\327\27" +
+      "\256\163\123\154\346\255\11\346\204\22\102\72" +
+      "\374\350\12\207\354\43\100\122\202\267\57\240" +
+      "\260\367\340\221\305\70\176\253\271\133\133\31" +
+      "\155\330\14\316\263\327\117\77\267\252\43\302" +
+      "\227\23\231\330\6\13\322\203\221\34\236\173" +
+      "\255\222\106\363\127\262\156\5\74\305\230\250" +
+      "\335\32\271\202\76\337\245\177\126\264\202\246" +
+      "\261\262\136\373\42\0\165\325\250\43\320\73" +
+      "\76\21\243\234\334\173\126\56\50\332\100\22" +
+      "\366\371\270\177\345\5\16\215\355\213\121\201" +
+      "\377\326\0\63\157\133\217\217\160\211\74\333" +
+      "\252\67\41\274\210\332\210\71\143\127\170\157" +
+      "\242\7\237\270\302\245\223\15\26\243\266\43" +
+      "\202\377\335\176\315\320\356\371\221\311\344\331" +
+      "\251\265\206\43\7\35\322\141\103\244\355\304" +
+      "\324\241\77\364\322\306\252\220\2\115\237\154" +
+      "\307\176\152\57\352\167\200\215\6\20\227\44" +
+      "\265\57\64\2\30\233\211\277\73\273\3\232" +
+      "\300\341\3\17\104\272\370\307\277\243\373\143" +
+      "\302\0\322\202\304\127\326\267\320\273\206\45" +
+      "\251\141\213\271\252\234\220\242\367\21\255\253" +
+      "\321\257\137\227\145\41\210\72\152\62\70\270" +
+      "\26\360\35\344\306\157\273\235\74\365\40\171" +
+      "\312\321\41\101\251\353\103\117\13\121\236\102" +
+      "\177\157\363\74\253\27\70\135\1\253\317\106" +
+      "\162\30\113\222\323\110\2\43\312\116\274\103" +
+      "\204\16\332\5\274\45\325\116\177\162\343\315" +
+      "\7\371\175\31\375\345\164\5\27\363\6\260" +
+      "\206\367\54\134\30\302\246\267\161\114\66\117" +
+      "\347\360\74\203\171\363\26\363\51\373\120\236" +
+      "\315\11\102\200\6\166\353\233\12\374\155\303" +
+      "\137\301\237\12\201\276\274\102\101\73\107\240" +
+      "\272\310\215\100\5\161\74\10\266\203\10\60" +
+      "\345\21\61\105\165\343\257\50\261\36\302\171" +
+      "\23\324\76\213\313\363\52\155\41\352\50\44" +
+      "\147\220\161\206\350\143\155\174\305\273\263\56" +
+      "\111\355\2\311\245\2\114\357\337\100\25\46" +
+      "\176\236\310\133\122\266\301\236\271\362\142\133" +
+      "\43\121\371\13\230\344\335\170\163\32\65\311" +
+      "\67\25\167\247\226\250\235\274\30\62\104\135" +
+      "\204\221\203\4\241\21\242\244\164\272\172\177" +
+      "\107\150\302\127\35\134\335\220\61\40\312\202" +
+      "\346\5\30\305\231\5\131\307\134\166\344\3" +
+      "\162\343\202\217\300\173\21\272\106\74\273\352" +
+      "\364\0\63\331\173\245\21\343\363\215\305\250" +
+      "\347\231\117\315\13\211\250\144\105\47\104\370" +
+      "\164\133\174\126\11\242\301\376\237\362\130\244" +
+      "\70\213\0\131\131\373\366\23\356\6\6\240" +
+      "\111\227\337\36\2\117\353\113\336\317\357\206" +
+      "\165\140\177\150\202\165\155\110\365\15\50\171" +
+      "\117\13\214\312\320\75\145\75\300\205\43\171" +
+      "\30\146\154\362\343\122\220\311\264\26\255\34" +
+      "\363\131\125\372\44\106\214\214\336\260\212\17" +
+      "\212\32\366\11\71\103\230\301\7\114\67\233" +
+      "\63\7\356\23\242\12\21\40\177\10\276\43" +
+      "\202\7\363\333\154\13\243\245\127\47\1\207" +
+      "\256\20\267\150\6\261\41\42\235\313\354\321" +
+      "\107\312\113\71\136\332\156\373\217\75\341\341" +
+      "\16\347\377\167\173\214\236\5\7\41\101\220" +
+      "\46\115\116\130\210\256\370\160\376\300\64\205" +
+      "\241\26\320\165\316\134\246\115\374\320\304\207" +
+      "\175\363\363\76\317\315\126\35\152\340\233\220" +
+      "\216\311\61\332\214\7\50\51\72\12\251\251" +
+      "\1\47\261\144\113\374\171\212\256\71\46\304" +
+      "\212\12\103\126\236\352\101\140\103\267\125\207" +
+      "\226\45\265\113\70\341\122\25\67\164\244\101" +
+      "\42\337\200\117\203\210\123\56\11\200\334\302" +
+      "\232\3\277\217\272\265\143\344\73\340\346\331" +
+      "\367\225\135\342\353\326\113\220\270\254\236\377";
+
+  private static final String TABLE_PACKED_30 =
+      "\222\145\40\335\375\6\331\300\244\330\156\55" +
+      "\320\27\332\340\131\20\100\2\151\127\112\107" +
+      "\140\27\246\344\344\70\164\331\345\66\5\316" +
+      "\247\16\307\101\340\306\133\141\212\323\75\137" +
+      "\257\16\140\71\34\23\275\67\5\324\165\202" +
+      "\312\360\34\261\364\37\354\145\214\117\262\367" +
+      "\274\161\114\344\263\211\172\361\75\133\10\215" +
+      "\357\154\317\304\200\303\123\105\216\215\63\237" +
+      "\145\327\264\173\202\2\20\373\207\123\51\244" +
+      "\13\213\242\150\107\153\127\144\224\202\344\304" +
+      "\320\52\360\224\202\301\331\220\100\160\152\112" +
+      "\44\217\72\77\72\132\223\246\272\11\242\217" +
+      "\327\104\325\334\1\45\305\332\250\365\264\321" +
+      "\275\163\256\336\313\102\223\304\34\205\325\53" +
+      "\60\355\374\342\313\21\212\304\122\271\230\45" +
+      "\252\204\157\265\314\300\72\371\262\42\154\313" +
+      "\330\53\335\53\116\271\177\343\207\245\57\127" +
+      "\322\255\143\220\150\201\321\200\100\6\105\265" +
+      "\315\71\162\365\52\240\0\130\151\101\33\46" +
+      "\144\3\177\262\357\114\135\314\131\312\241\15" +
+      "\176\322\271\154\245\155\347\156\1\235\52\167" +
+      "\343\304\363\265\337\51\126\134\321\140\27\167" +
+      "\4\373\336\170\201\130\227\175\312\165\236\105" +
+      "\355\160\70\275\245\201\152\123\264\6\114\345" +
+      "\310\216\53\42\326\241\275\64\141\132\350\347" +
+      "\137\40\160\245\375\267\140\100\353\347\357\32" +
+      "\252\161\16\14\375\120\323\163\276\7\332\123" +
+      "\351\57\166\333\12\156\15\125\107\134\126\360" +
+      "\14\267\72\206\216\124\370\3\151\271\102\233" +
+      "\306\61\136\342\263\152\335\124\35\177\21\231" +
+      "\151\54\305\352\372\336\352\241\334\56\156\211" +
+      "\242\365\373\46\25\63\246\273\254\163\30\13" +
+      "\132\14\76\71\346\214\312\374\244\37\1\276" +
+      "\372\247\335\65\302\162\252\371\351\327\345\366" +
+      "\234\267\201\40\332\352\241\117\375\202\331\203" +
+      "\134\217\373\132\320\65\3\65\323\203\70\0" +
+      "\110\75\152\272\175\71\244\310\233\51\323\56" +
+      "\335\251\11\71\52\112\167\154\366\66\314\230" +
+      "\360\176\63\233\200\315\66\352\246\237\75\70" +
+      "\147\225\322\22\300\336\374\57\147\262\334\321" +
+      "\324\31\137\105\255\154\53\327\113\316\336\37" +
+      "\376\220\33\176\21\73\337\116\35\7\277\325" +
+      "\37\375\132\277\137\313\66\260\267\177\350\51" +
+      "\115\324\223\30\257\377\332\206\174\224\256\221" +
+      "\30\145\344\240\134\20\361\355\105\205\242\300" +
+      "\305\345\113\77\34\55\345\335\250\213\72\317" +
+      "\176\343\356\351\300\144\361\304\26\213\372\230" +
+      "\313\114\140\227\346\260\270\40\50\141\377\316" +
+      "\177\122\115\324\142\35\302\107\153\312\371\271" +
+      "\134\154\141\141\325\130\12\122\61\362\231\26" +
+      "\57\320\77\176\317\30\145\112\45\27\264\212" +
+      "\63\201\116\237\277\72\301\346\172\335\7\20" +
+      "\357\330\263\251\362\147\71\260\76\302\340\120" +
+      "\26\117\221\210\254\7\37\204\124\40\50\215" +
+      "\255\260\217\354\236\75\150\14\70\345\323\270" +
+      "\44\340\142\213\103\165\262\126\216\1\210\223" +
+      "\260\137\307\240\224\11\101\317\212\271\360\25" +
+      "\110\7\26\33\204\64\207\103\227\77\41\200" +
+      "\170\357\42\107\152\275\361\71\272\175\360\171" +
+      "\124\260\322\35\342\341\257\212\120\233\23\156" +
+      "\304\356\274\312\373\45\120\65\10\15\360\312" +
+      "\42\353\41\266\352\231\263\335\56\142\27\23" +
+      "\374\116\151\237\33\114\161\110\5\265\362\127" +
+      "\114\100\235\262\124\45\212\270\64\235\253\216" +
+      "\270\54\315\135\127\113\146\203\171\1\103\36" +
+      "\364\255\67\160\154\4\176\366\220\236\340\254" +
+      "\32\154\174\15\22\330\302\153\257\322\277\365" +
+      "\274\246\60\254\265\231\154\260\306\0\215\5" +
+      "\222\2\125\226\323\210\174\26\202\374\40\325" +
+      "\14\335\145\215\303\355\77\136\332\214\327\365" +
+      "\373\206\230\312\35\165\101\135\170\122\110\175" +
+      "\122\303\123\120\306\7\10\34\334\251\66\364" +
+      "\123\150\247\113\371\200\12\253\253\20\42\352" +
+      "\26\131\260\337\363\54\221\375\327\6\271\374" +
+      "\201\357\143\252\303\325\365\134\332\341\141\31" +
+      "\364\151\373\33\333\364\45\7\176\133\276\15" +
+      "\255\227\65\31\230\306\355\213\125\151\202\264" +
+      "\31\62\273\231\276\205\356\322\172\365\245\142" +
+      "\141\307\271\173\74\365\40\161\127\6\376\124" +
+      "\233\303\110\42\306\56\14\30\177\42\336\11" +
+      "\261\104\333\170\112\351\300\200\247\40\254\377" +
+      "\142\42\104\115\234\341\1\341\114\100\251\250" +
+      "\213\2\246\365\25\254\204\51\316\240\241\243" +
+      "\372\141\222\2\105\346\4\114\126\254\75\33" +
+      "\57\333\357\142\266\26\105\230\70\347\1\272" +
+      "\274\12\164\236\134\331\121\274\212\7\103\7" +
+      "\10\144\23\263\2\61\171\57\62\15\121\55" +
+      "\227\30\17\22\312\20\356\326\66\355\150\313" +
+      "\77\74\345\157\210\354\215\350\300\252\245\247" +
+      "\266\64\105\274\123\216\311\170\46\227\10\214" +
+      "\23\163\303\371\160\240\51\104\223\137\60\363" +
+      "\334\67\222\333\24\223\346\224\30\353\267\356" +
+      "\201\151\365\114\345\125\140\2\57\166\224\101" +
+      "\154\366\40\200\336\43\375\305\172\140\342\201" +
+      "\176\216\234\300\152\44\250\356\137\112\173\317" +
+      "\51\31\167\277\226\360\365\222\44\116\351\200" +
+      "\324\364\24\271\34\121\335\237\324\20\173\311" +
+      "\175\35\60\200\54\315\127\113\316\300\305\131" +
+      "\73\230\326\106\265\3\323\72\171\373\102\3" +
+      "\157\137\75\76\335\150\41\325\26\50\345\150";
+
+  private static final String TABLE_PACKED_31 =
+      "\125\114\5\231\326\101\165\327\77\56\261\304" +
+      "\10\254\364\112\133\241\75\245\225\340\157\212" +
+      "\13\210\245\147\104\313\56\137\341\253\377\126" +
+      "\153\373\277\272\176\207\201\227\243\221\150\265" +
+      "\150\105\71\173\176\350\310\307\16\267\101\44" +
+      "\274\347\112\315\255\160\51\70\207\114\233\266" +
+      "\354\166\130\6\107\270\322\360\137\74\145\77" +
+      "\311\171\320\161\232\341\263\13\332\377\360\207" +
+      "\26\377\271\66\245\57\242\223\207\176\374\263" +
+      "\147\271\116\206\136\54\257\203\271\33\52\20" +
+      "\1\260\307\133\117\262\150\105\14\271\102\34" +
+      "\44\144\26\147\327\370\156\206\45\257\104\105" +
+      "\213\54\53\5\222\327\123\321\171\313\110\214" +
+      "\66\243\44\266\334\225\237\373\312\260\366\376" +
+      "\232\372\232\247\36\165\43\170\355\152\344\272" +
+      "\62\60\133\272\122\230\160\313\172\270\204\251" +
+      "\225\26\255\60\304\124\345\24\116\140\266\170" +
+      "\376\150\257\216\233\137\204\166\234\67\100\234" +
+      "\43\127\110\176\251\77\254\31\107\41\377\376" +
+      "\323\221\246\75\224\105\102\115\42\72\135\372" +
+      "\25\236\75\333\317\367\22\342\3\253\22\37" +
+      "\173\370\113\172\324\220\37\211\331\340\17\34" +
+      "\262\27\307\200\220\312\46\77\237\202\12\104" +
+      "\243\331\176\277\104\255\136\31\45\267\46\313" +
+      "\311\61\212\300\276\100\202\75\333\64\241\70" +
+      "\140\131\316\210\341\155\372\57\331\77\344\302" +
+      "\214\371\262\72\343\27\334\265\211\271\202\353" +
+      "\241\274\226\74\252\225\112\234\56\230\323\25" +
+      "\307\337\243\165\340\224\150\153\371\124\75\376" +
+      "\107\241\43\11\110\353\153\306\207\23\127\0" +
+      "\171\347\376\56\123\147\123\143\274\344\355\260" +
+      "\216\224\57\320\372\46\314\245\64\211\113\320" +
+      "\325\227\130\157\340\3\136\131\201\365\353\56" +
+      "\266\322\275\346\255\63\364\223\115\45\357\121" +
+      "\27\274\220\217\343\47\62\363\17\220\232\116" +
+      "\1\152\274\3\163\151\137\222\73\276\356\205" +
+      "\131\333\112\315\40\43\236\2\111\300\17\14" +
+      "\272\164\206\373\351\264\235\235\334\72\203\60" +
+      "\41\112\25\242\144\304\17\326\200\363\244\274" +
+      "\301\57\132\327\267\255\141\325\237\63\307\110" +
+      "\70\376\206\213\15\224\252\150\1\356\257\36" +
+      "\373\23\64\33\275\261\250\200\41\26\64\142" +
+      "\363\243\61\331\170\170\72\1\271\135\267\102" +
+      "\72\35\253\112\357\162\313\301\351\71\34\65" +
+      "\225\217\315\44\35\207\46\177\113\77\207\2" +
+      "\133\53\170\223\32\36\310\174\265\377\24\36" +
+      "\104\166\104\202\64\32\321\63\41\356\31\4" +
+      "\164\46\343\115\225\121\372\214\210\352\25\303" +
+      "\322\336\336\342\33\325\103\210\131\151\102\101" +
+      "\130\315\54\132\374\41\123\351\347\57\331\313" +
+      "\336\337\253\372\63\363\364\151\346\355\154\112" +
+      "\101\357\232\213\175\306\236\44\357\112\33\134" +
+      "\364\267\104\323\330\252\115\240\211\311\336\322" +
+      "\157\51\41\347\3\222\306\44\50\5\350\53" +
+      "\174\226\177\132\63\302\71\363\343\215\66\65" +
+      "\205\75\222\215\230\150\131\216\123\163\64\146" +
+      "\323\201\36\140\201\24\304\141\252\263\232\360" +
+      "\3\32\134\337\377\124\320\52\113\347\142\153" +
+      "\252\0\14\277\65\341\214\236\164\202\245\264" +
+      "\304\102\140\251\15\151\337\131\306\226\322\156" +
+      "\211\247\274\235\237\376\261\315\221\327\71\357" +
+      "\153\74\60\277\270\270\310\172\137\101\163\57" +
+      "\45\310\174\364\256\64\242\340\11\323\42\4" +
+      "\324\200\23\360\24\137\302\73\235\52\77\245" +
+      "\364\313\214\43\224\340\157\214\271\245\320\5" +
+      "\7\161\350\262\124\22\351\34\146\165\51\327" +
+      "\371\331\140\262\141\314\241\164\212\316\62\22" +
+      "\205\324\60\106\362\355\2\10\267\35\133\24" +
+      "\234\61\260\77\235\245\22\225\35\66\150\313" +
+      "\216\162\206\170\353\42\251\0\317\244\377\60" +
+      "\121\104\1\72\47\13\4\267\367\154\52\77" +
+      "\113\172\173\51\72\21\105\274\325\230\201\350" +
+      "\302\7\34\167\176\337\162\244\53\146\363\322" +
+      "\2\374\376\67\53\7\13\320\253\211\301\342" +
+      "\216\105\15\155\62\205\367\144\67\245\250\173" +
+      "\10\130\46\102\232\355\66\131\176\105\147\13" +
+      "\340\161\43\227\23\300\72\45\340\216\157\216" +
+      "\342\103\265\175\343\123\302\132\354\303\301\230" +
+      "\347\131\321\352\77\53\44\137\276\351\300\264" +
+      "\216\102\137\54\252\26\375\150\215\210\17\165" +
+      "\31\244\240\177\314\117\336\160\44\272\204\142" +
+      "\120\365\337\145\116\356\114\77\316\164\204\352" +
+      "\320\330\277\271\123\260\300\273\277\341\114\205" +
+      "\317\57\112\343\354\137\327\370\370\17\162\126" +
+      "\350\170\127\223\174\106\177\363\227\41\374\276" +
+      "\311\343\17\212\53\176\62\165\54\274\172\324" +
+      "\161\313\303\202\323\37\251\203\236\63\271\52" +
+      "\142\255\265\340\126\35\157\313\27\162\367\310" +
+      "\115\234\335\124\15\121\340\126\10\211\46\274" +
+      "\375\355\17\51\257\261\70\333\71\143\105\125" +
+      "\346\114\256\71\170\220\372\231\355\131\111\243" +
+      "\277\53\134\162\37\144\231\250\350\127\310\175" +
+      "\55\224\226\375\105\272\176\272\210\373\12\233" +
+      "\102\305\170\122\214\223\175\332\63\66\106\62" +
+      "\76\55\175\123\224\160\245\133\175\52\136\324" +
+      "\50\321\262\247\3\144\22\2\371\322\272\265" +
+      "\223\241\372\277\55\200\225\277\53\61\13\162" +
+      "\154\102\276\277\251\344\66\341\141\365\371\124" +
+      "\30\324\205\5\364\150\172\30\171\152\14\227" +
+      "\324\175\310\127\164\21\253\157\116\347\306\1";
+
+  private static final String TABLE_PACKED_32 =
+      "\374\50\36\26\56\146\334\22\102\51\236\260" +
+      "\163\321\333\52\175\173\166\163\337\317\120\167" +
+      "\130\151\215\26\37\156\206\272\45\36\37\160" +
+      "\213\234\67\30\317\240\30\57\77\170\164\336" +
+      "\217\110\202\215\37\115\172\266\273\135\164\75" +
+      "\255\140\263\113\224\226\312\53\355\261\62\250" +
+      "\165\122\326\70\257\42\133\264\254\357\324\10" +
+      "\61\121\112\122\143\367\357\367\115\246\335\363" +
+      "\354\210\203\35\50\141\144\62\1\353\3\75" +
+      "\330\307\374\335\45\146\270\12\310\51\70\351" +
+      "\205\224\12\331\252\224\244\105\321\47\173\264" +
+      "\32\34\244\122\157\116\353\176\154\142\73\231" +
+      "\125\362\161\273\107\64\312\76\231\14\106\7" +
+      "\130\325\272\1\373\172\244\266\76\203\7\173" +
+      "\372\0\237\365\241\301\175\277\247\172\160\24" +
+      "\167\164\146\375\264\153\112\307\62\70\245\114" +
+      "\103\214\77\166\307\12\370\233\230\21\256\66" +
+      "\351\336\256\163\264\105\222\246\25\0\206\106" +
+      "\301\1\13\263\270\305\17\266\364\14\276\242" +
+      "\166\246\207\146\124\344\307\320\305\273\332\12" +
+      "\230\267\65\327\347\357\252\343\374\45\43\347" +
+      "\300\42\177\323\216\72\207\21\345\315\366\11" +
+      "\13\270\5\135\161\142\330\13\206\141\235\40" +
+      "\123\212\207\276\222\52\323\61\314\44\333\30" +
+      "\301\146\365\134\326\341\225\73\55\121\2\261" +
+      "\325\173\350\303\313\171\66\132\273\125\357\40" +
+      "\32\133\212\176\261\120\315\130\326\245\123\330" +
+      "\133\102\10\302\273\315\255\213\77\114\335\63" +
+      "\206\255\304\355\366\161\213\100\114\336\147\127" +
+      "\222\110\37\137\355\105\151\225\127\135\141\257" +
+      "\154\376\171\62\277\162\175\347\366\174\142\357" +
+      "\225\267\77\352\46\14\44\157\2\103\220\330" +
+      "\111\254\132\101\11\163\377\202\277\100\77\171" +
+      "\275\372\317\167\232\376\274\151\303\63\62\46" +
+      "\257\202\121\64\364\133\330\72\304\214\60\64" +
+      "\115\42\150\122\66\230\346\54\274\317\246\152" +
+      "\342\20\245\346\276\343\161\220\356\214\255\106" +
+      "\112\50\102\176\343\277\212\374\342\355\233\257" +
+      "\243\336\254\327\75\337\0\301\112\362\372\102" +
+      "\245\43\302\33\3\70\151\300\217\132\211\105" +
+      "\176\140\120\174\234\72\70\227\77\27\37\204" +
+      "\341\123\127\353\217\131\214\25\70\72\146\340" +
+      "\202\116\257\350\257\276\307\62\13\344\205\370" +
+      "\205\146\55\307\376\277\113\42\240\352\162\233" +
+      "\103\172\357\30\206\54\232\172\107\62\32\333" +
+      "\40\360\101\5\214\131\116\163\251\251\114\4" +
+      "\322\116\155\363\43\62\31\361\114\270\276\365" +
+      "\24\144\164\73\240\373\224\300\236\235\144\265" +
+      "\343\350\300\107\231\212\160\53\67\310\374\327" +
+      "\126\371\151\156\243\257\176\170\107\366\51\225" +
+      "\213\122\30\353\23\3\73\337\147\220\212\270" +
+      "\202\372\37\377\132\116\25\152\104\171\247\64" +
+      "\256\13\111\234\45\60\327\277\70\47\265\102" +
+      "\260\232\325\124\175\362\51\3\264\361\326\107" +
+      "\340\262\13\350\156\301\312\32\60\343\13\243" +
+      "\1\55\341\21\43\215\252\221\115\37\165\365" +
+      "\147\205\341\155\141\142\341\234\150\16\231\12" +
+      "\110\140\121\151\353\125\325\262\16\322\232\325" +
+      "\223\333\252\236\322\117\257\213\113\241\37\1" +
+      "\242\225\123\224\11\140\321\337\133\275\236\56" +
+      "\223\34\3\145\143\32\100\72\253\100\306\260" +
+      "\325\236\276\342\373\253\317\236\16\51\146\126" +
+      "\124\11\172\142\133\17\276\300\142\160\137\5" +
+      "\223\301\312\304\201\101\103\205\161\107\45\336" +
+      "\245\147\313\327\361\152\323\155\121\377\210\23" +
+      "\253\233\327\215\146\223\307\147\231\230\345\306" +
+      "\16\227\106\224\375\213\221\112\342\203\270\266" +
+      "\71\162\253\313\146\135\247\227\271\364\23\66" +
+      "\26\301\17\376\324\60\300\241\222\205\364\353" +
+      "\221\62\242\26\256\375\354\11\151\211\145\241" +
+      "\71\260\260\141\75\262\241\365\212\25\47\123" +
+      "\74\204\107\263\12\237\221\354\214\272\13\107" +
+      "\344\130\42\4\63\16\22\310\30\64\336\326" +
+      "\163\46\311\213\321\67\102\353\264\14\274\355" +
+      "\265\174\70\71\343\310\256\326\171\345\200\323" +
+      "\44\201\236\27\245\172\221\22\122\351\360\255" +
+      "\333\60\345\66\204\214\5\222\323\113\134\374" +
+      "\36\74\124\327\277\33\73\336\150\131\46\151" +
+      "\63\32\231\263\317\244\206\235\355\127\22\312" +
+      "\101\213\276\327\243\263\323\352\166\332\313\66" +
+      "\271\162\60\377\227\37\230\356\204\175\172\41" +
+      "\262\34\317\124\257\344\51\346\156\177\200\2" +
+      "\313\25\267\165\315\136\113\25\44\71\67\363" +
+      "\326\343\144\235\220\265\355\113\20\5\41\103" +
+      "\272\152\3\114\173\324\255\164\326\371\215\316" +
+      "\150\32\71\33\327\155\240\254\234\241\5\77" +
+      "\24\350\301\17\46\326\40\203\266\75\234\4" +
+      "\116\4\66\270\3\302\157\43\155\245\274\125" +
+      "\254\63\342\167\365\216\217\274\207\116\250\35" +
+      "\70\72\42\37\357\305\300\314\205\367\367\213" +
+      "\17\266\162\363\276\374\224\246\142\276\61\171" +
+      "\360\357\335\224\166\221\352\66\203\124\110\360" +
+      "\47\145\232\141\315\323\155\144\41\53\312\3" +
+      "\227\112\331\175\1\217\150\334\5\275\151\365" +
+      "\261\113\241\103\56\307\173\125\300\145\106\332" +
+      "\331\174\255\270\144\207\24\256\322\56\373\247" +
+      "\42\244\54\240\322\46\255\103\203\357\246\107" +
+      "\215\217\55\232\356\236\324\35\354\256\106\365" +
+      "\167\226\130\41\304\134\251\147\55\352\351\341" +
+      "\302\271\130\347\320\337\107\112\177\167\107\114";
+
+  private static final String TABLE_PACKED_33 =
+      "\11\333\233\224\304\167\161\30\27\305\253\306" +
+      "\301\71\175\46\72\50\117\176\274\327\52\220" +
+      "\323\133\257\171\31\311\103\205\141\15\36\66" +
+      "\261\252\114\33\175\52\77\310\211\322\134\113" +
+      "\316\246\162\76\150\52\36\313\257\205\256\175" +
+      "\276\10\243\306\52\46\210\370\304\146\342\176" +
+      "\174\244\220\62\66\251\356\365\360\53\73\155" +
+      "\363\36\104\344\223\204\201\222\160\227\257\307" +
+      "\226\267\115\116\344\104\311\10\156\32\206\225" +
+      "\136\266\117\313\50\161\235\364\204\265\217\300" +
+      "\322\75\234\277\327\33\247\200\264\132\137\75" +
+      "\110\320\64\155\102\157\354\10\351\1\11\255" +
+      "\222\364\21\120\72\335\154\275\360\11\362\242" +
+      "\300\12\310\225\345\21\170\30\154\16\172\204" +
+      "\221\244\100\261\174\42\323\364\165\251\13\324" +
+      "\30\322\103\256\231\356\204\162\224\0\355\173" +
+      "\242\315\111\34\26\56\46\44\45\14\224\355" +
+      "\275\362\261\250\245\24\323\142\270\52\231\264" +
+      "\254\235\115\1\267\372\21\76\367\144\237\136" +
+      "\234\30\23\233\117\261\344\6\166\203\324\41" +
+      "\124\371\343\255\312\364\200\377\265\237\73\34" +
+      "\33\167\64\305\235\1\307\166\120\354\250\51" +
+      "\2\145\113\265\133\167\162\223\133\174\366\114" +
+      "\345\7\77\341\347\174\60\375\162\255\360\240" +
+      "\240\261\177\354\225\12\44\114\17\325\14\356" +
+      "\315\256\250\343\74\101\15\101\115\177\157\170" +
+      "\373\352\307\256\60\131\25\153\174\301\352\261" +
+      "\355\345\270\104\371\124\170\315\316\62\206\157" +
+      "\242\212\277\122\373\127\365\176\327\203\317\345" +
+      "\360\223\254\255\31\243\334\12\226\55\264\126" +
+      "\150\27\310\114\174\153\225\317\172\233\24\146" +
+      "\162\304\371\44\373\276\316\250\310\173\213\27" +
+      "\274\123\232\307\336\153\323\343\31\351\316\346" +
+      "\127\225\372\171\221\213\334\305\154\356\166\112" +
+      "\40\371\356\155\145\262\305\211\174\201\231\33" +
+      "\36\26\104\17\262\13\232\7\75\62\23\315" +
+      "\24\243\354\115\47\163\263\42\24\302\104\156" +
+      "\42\74\373\140\237\314\124\64\62\366\330\272" +
+      "\17\112\325\374\70\27\141\141\250\276\135\262" +
+      "\221\354\231\235\74\352\157\154\165\220\57\143" +
+      "\354\230\320\173\266\17\377\160\164\203\100\277" +
+      "\156\371\13\45\167\237\145\303\152\354\374\256" +
+      "\113\137\273\162\351\367\40\261\67\61\125\270" +
+      "\343\326\303\203\277\110\115\51\326\216\152\160" +
+      "\14\75\340\332\302\317\226\354\25\105\257\64" +
+      "\211\61\247\317\51\345\170\64\267\14\117\4" +
+      "\161\311\61\305\110\162\215\140\201\362\203\72" +
+      "\357\26\107\203\30\354\36\137\156\31\276\45" +
+      "\171\355\154\274\355\345\352\141\252\247\37\150" +
+      "\264\30\46\354\333\244\147\160\372\13\310\324" +
+      "\57\173\303\360\372\142\353\75\230\115\247\127" +
+      "\350\21\272\170\4\7\316\222\336\57\50\241" +
+      "\137\75\127\74\64\226\32\14\172\146\275\41" +
+      "\170\362\241\223\11\333\172\112\377\360\372\133" +
+      "\231\144\60\256\235\6\211\161\211\14\375\374" +
+      "\210\215\102\344\370\70\27\6\27\317\313\377" +
+      "\172\126\15\41\52\357\311\272\24\327\54\102" +
+      "\121\112\51\277\73\62\271\360\123\231\307\70" +
+      "\304\224\142\314\363\321\125\276\10\130\67\12" +
+      "\237\325\23\333\342\345\74\121\276\325\347\103" +
+      "\245\212\341\303\3\244\365\53\260\274\167\255" +
+      "\115\136\45\15\124\100\33\102\31\346\26\245" +
+      "\107\115\243\11\4\377\205\35\173\152\366\144" +
+      "\222\142\154\105\134\114\272\110\163\235\224\146" +
+      "\247\143\4\105\66\147\151\10\212\37\63\175" +
+      "\6\6\352\345\107\124\53\316\264\223\341\235" +
+      "\271\357\72\165\323\127\340\170\303\5\14\235" +
+      "\111\257\334\365\223\45\216\174\223\217\323\11" +
+      "\114\145\307\65\200\157\251\4\206\131\372\26" +
+      "\120\313\301\276\34\324\20\350\126\105\305\240" +
+      "\320\355\241\134\205\267\223\366\214\76\234\233" +
+      "\316\173\357\367\63\330\301\33\231\200\14\250" +
+      "\10\342\137\116\70\207\322\256\114\16\13\22" +
+      "\33\367\147\235\126\106\37\210\113\253\360\112" +
+      "\40\316\43\141\35\371\36\224\317\355\310\232" +
+      "\132\114\15\231\102\332\362\165\156\46\215\236" +
+      "\51\311\250\303\74\30\112\120\236\140\260\362" +
+      "\376\357\16\264\310\176\150\335\356\372\134\355" +
+      "\253\77\134\30\12\164\365\61\274\153\336\214" +
+      "\151\171\231\173\55\102\35\322\1\250\47\20" +
+      "\22\1\152\104\131\251\332\33\14\127\262\203" +
+      "\204\115\334\245\103\140\46\115\61\301\263\20" +
+      "\354\145\137\161\313\217\220\214\335\342\64\116" +
+      "\360\0\70\31\66\374\71\242\255\11\203\163" +
+      "\347\211\326\320\114\144\170\271\167\137\202\225" +
+      "\253\323\143\107\261\43\130\300\171\351\131\54" +
+      "\44\0\42\324\360\220\155\67\122\304\226\346" +
+      "\36\111\265\271\323\146\7\176\234\277\246\103" +
+      "\260\154\371\5\337\26\300\121\147\260\275\242" +
+      "\53\124\146\355\100\3\340\55\26\262\62\253" +
+      "\312\362\170\142\230\133\155\146\312\42\251\364" +
+      "\306\120\242\61\242\145\356\207\107\326\23\0" +
+      "\232\262\317\154\335\327\370\375\35\200\255\56" +
+      "\61\244\346\117\252\154\213\200\67\333\10\7" +
+      "\275\76\155\114\146\223\272\132\273\313\266\140" +
+      "\170\241\273\365\73\374\237\331\324\56\44\122" +
+      "\170\35\47\54\136\114\20\161\55\71\35\367" +
+      "\5\4\25\265\372\62\100\177\111\21\366\165" +
+      "\64\324\270\222\310\164\333\5\235\61\341\103" +
+      "\230\103\64\3\330\276\377\151\255\227\202\116";
+
+  private static final String TABLE_PACKED_34 =
+      "\340\376\370\214\67\362\77\204\171\350\21\50" +
+      "\325\123\5\45\30\37\307\7\316\217\13\354" +
+      "\145\132\374\137\204\301\217\351\102\250\240\223" +
+      "\100\174\117\177\355\321\231\143\261\124\106\202" +
+      "\231\146\120\267\106\73\66\113\167\144\363\265" +
+      "\21\44\220\15\225\126\270\263\360\260\7\161" +
+      "\335\106\13\113\112\304\260\366\217\221\114\345" +
+      "\43\365\74\121\156\114\161\142\373\357\122\322" +
+      "\202\2\161\126\327\156\264\110\372\330\376\41" +
+      "\155\211\220\10\241\11\163\174\117\21\41\173" +
+      "\23\356\7\254\246\273\103\347\31\165\312\53" +
+      "\26\364\211\107\46\221\176\300\142\12\325\267" +
+      "\271\50\101\12\105\251\1\317\101\30\314\177" +
+      "\1\43\52\6\153\254\51\215\140\67\117\46" +
+      "\31\325\355\210\26\201\210\366\3\172\136\45" +
+      "\137\16\111\124\315\117\106\243\300\267\304\123" +
+      "\225\204\324\235\50\34\141\222\42\372\363\222" +
+      "\135\74\124\237\115\205\330\153\373\364\66\251" +
+      "\125\210\310\164\303\260\41\267\322\343\343\106" +
+      "\162\366\65\332\341\241\106\3\22\117\66\340" +
+      "\176\310\166\176\351\210\50\205\331\215\56\145" +
+      "\0\56\54\246\115\55\325\146\154\171\134\41" +
+      "\352\321\347\255\153\321\320\225\61\35\112\174" +
+      "\271\262\110\75\276\55\122\7\62\340\322\222" +
+      "\342\311\241\331\10\66\102\141\144\107\304\254" +
+      "\265\214\126\30\137\110\151\262\123\10\260\306" +
+      "\115\263\320\255\260\177\317\330\36\167\7\221" +
+      "\264\264\61\346\34\350\327\276\113\275\357\45" +
+      "\267\152\20\210\304\114\157\54\31\27\317\172" +
+      "\252\66\364\367\36\175\24\71\233\357\16\326" +
+      "\371\63\320\341\321\306\113\323\56\12\300\45" +
+      "\337\223\351\303\50\104\322\70\170\246\327\207" +
+      "\310\161\65\121\233\370\202\27\54\167\307\174" +
+      "\261\217\221\362\35\4\241\61\230\61\203\354" +
+      "\62\223\144\216\354\223\127\261\25\62\53\71" +
+      "\154\303\367\155\366\254\265\105\211\75\23\50" +
+      "\25\171\15\333\170\210\12\333\37\21\212\246" +
+      "\110\264\111\351\70\327\63\240\67\6\22\362" +
+      "\331\351\242\274\274\160\257\162\21\151\253\342" +
+      "\121\303\373\37\272\65\361\373\157\4\21\105" +
+      "\73\2\44\334\250\274\21\176\62\356\161\254" +
+      "\273\115\162\231\61\253\175\215\226\376\30\224" +
+      "\316\201\241\165\364\130\171\361\56\324\267\250" +
+      "\236\354\234\47\116\276\12\111\324\265\255\377" +
+      "\250\167\342\16\62\30\17\257\340\342\70\10" +
+      "\245\375\121\304\224\123\55\334\142\263\144\215" +
+      "\243\371\16\326\222\67\156\33\264\35\113\143" +
+      "\207\60\110\354\304\356\157\253\135\15\316\26" +
+      "\75\337\224\70\351\142\11\40\234\163\231\212" +
+      "\323\221\313\11\16\303\234\313\330\240\313\176" +
+      "\165\260\46\21\140\66\372\316\244\256\264\253" +
+      "\325\64\371\65\32\270\126\41\55\255\230\373" +
+      "\66\177\145\324\41\54\251\376\146\234\54\212" +
+      "\355\327\105\377\252\100\20\23\114\306\274\351" +
+      "\303\122\140\52\57\236\175\207\165\56\323\73" +
+      "\114\233\256\76\11\43\135\43\203\334\250\234" +
+      "\340\132\215\146\174\26\115\332\240\121\241\140" +
+      "\227\63\272\300\112\2\314\175\363\334\170\26" +
+      "\312\277\2\304\167\376\3\66\136\264\56\336" +
+      "\251\175\356\331\270\113\265\267\334\21\274\203" +
+      "\76\206\205\20\17\344\340\41\0\345\172\272" +
+      "\115\42\324\47\175\37\66\244\25\346\241\357" +
+      "\76\61\240\155\241\241\316\33\143\105\146\300" +
+      "\274\370\154\7\72\212\232\130\154\323\153\271" +
+      "\34\276\152\273\36\356\366\357\234\306\3\67" +
+      "\116\3\140\1\77\306\240\210\360\107\312\74" +
+      "\35\161\251\136\346\352\270\37\163\153\120\236" +
+      "\234\61\155\223\140\307\170\150\355\76\255\54" +
+      "\47\17\302\332\67\222\255\37\46\172\206\303" +
+      "\167\72\176\367\334\36\123\3\60\223\164\22" +
+      "\317\373\325\170\14\243\57\142\217\46\114\275" +
+      "\32\361\230\375\24\332\252\326\141\315\176\50" +
+      "\162\267\72\213\164\120\123\123\332\364\27\166" +
+      "\234\314\316\147\223\55\213\257\327\25\341\242" +
+      "\167\101\252\346\30\45\343\42\332\235\142\176" +
+      "\155\133\14\272\113\203\361\63\355\345\77\275" +
+      "\17\307\327\25\231\131\77\314\134\53\25\43" +
+      "\106\124\70\333\52\16\261\143\117\22\337\121" +
+      "\246\2\253\104\207\176\227\344\237\170\272\137" +
+      "\260\263\34\312\346\14\151\177\33\161\324\304" +
+      "\306\333\231\366\134\27\26\156\17\335\4\252" +
+      "\347\343\351\61\116\365\232\166\141\27\324\333" +
+      "\250\51\35\25\373\106\3\23\160\132\177\233" +
+      "\46\341\361\275\127\242\301\377\30\75\265\36" +
+      "\10\313\133\46\226\330\70\373\206\306\221\342" +
+      "\325\35\255\4\56\31\317\362\115\45\255\5" +
+      "\321\235\334\174\101\166\61\65\2\20\374\142" +
+      "\166\333\342\166\157\133\64\15\133\61\352\13" +
+      "\261\126\137\40\217\230\342\232\122\13\110\356" +
+      "\171\207\173\324\303\115\233\377\160\163\144\53" +
+      "\24\232\331\254\273\365\12\356\147\366\162\373" +
+      "\220\161\160\100\55\362\371\325\250\253\63\333" +
+      "\313\314\253\122\257\246\315\242\304\105\123\63" +
+      "\324\245\334\175\27\264\107\126\251\352\274\255" +
+      "\314\23\37\133\67\31\320\205\153\321\353\4" +
+      "\300\242\274\174\307\275\105\265\211\145\377\53" +
+      "\217\114\44\302\244\247\120\164\157\256\302\350" +
+      "\345\117\67\65\316\324\31\31\12\113\136\25" +
+      "\366\367\130\101\26\3\314\116\163\51\25\242" +
+      "\127\56\362\153\164\174\151\131\272\52\146\267";
+
+  private static final String TABLE_PACKED_35 =
+      "\17\270\165\3\217\66\167\50\73\42\11\142" +
+      "\311\122\263\25\244\265\3\242\314\230\321\240" +
+      "\32\133\216\211\227\114\12\272\124\146\225\74" +
+      "\142\155\127\356\164\177\356\263\221\16\242\56" +
+      "\34\125\270\34\240\247\267\310\350\250\51\23" +
+      "\121\55\12\333\317\55\6\373\355\156\317\273" +
+      "\235\314\141\337\200\127\244\277\132\307\364\363" +
+      "\166\56\361\131\17\170\127\325\20\300\15\6" +
+      "\61\137\217\101\63\127\146\264\57\32\345\56" +
+      "\366\67\102\201\206\372\253\311\143\303\362\201" +
+      "\322\332\114\243\331\54\367\203\256\113\367\210" +
+      "\245\20\375\77\151\251\251\46\56\343\260\340" +
+      "\0\242\367\136\110\134\175\274\30\232\146\216" +
+      "\142\322\54\14\321\262\202\356\203\364\170\171" +
+      "\25\166\343\350\110\264\337\10\22\135\203\176" +
+      "\213\17\357\323\336\157\211\223\256\15\237\100" +
+      "\74\43\107\176\53\376\70\65\320\201\233\266" +
+      "\302\36\66\23\342\122\256\311\45\323\1\236" +
+      "\204\376\161\102\351\320\213\147\146\313\211\257" +
+      "\15\235\331\263\77\354\51\6\261\201\235\307" +
+      "\204\221\241\153\363\46\212\11\26\170\145\162" +
+      "\313\324\254\210\261\270\151\143\346\303\61\141" +
+      "\276\316\210\351\53\316\171\313\164\156\131\177" +
+      "\74\277\46\215\306\147\343\177\17\31\206\47" +
+      "\11\121\221\41\1\331\257\217\137\256\260\25" +
+      "\155\342\376\20\67\267\102\37\114\231\174\365" +
+      "\234\213\62\175\225\316\33\110\57\242\60\271" +
+      "\303\50\31\356\335\344\137\70\25\246\242\57" +
+      "\17\234\105\347\305\101\54\70\266\235\106\11" +
+      "\220\210\241\167\40\376\222\217\7\352\21\337" +
+      "\122\25\122\157\350\110\347\104\123\254\375\4" +
+      "\125\177\130\330\314\255\353\223\364\275\204\377" +
+      "\317\177\6\62\211\340\31\303\202\35\267\235" +
+      "\302\363\50\77\270\177\122\7\230\130\330\244" +
+      "\225\25\223\37\240\2\155\143\306\140\276\355" +
+      "\57\16\152\342\43\154\172\357\24\227\43\277" +
+      "\225\7\54\114\223\313\64\0\327\216\60\360" +
+      "\73\200\157\357\236\52\220\351\164\152\164\365" +
+      "\44\61\262\236\316\61\352\372\313\374\66\144" +
+      "\72\251\216\101\63\350\316\342\46\304\47\214" +
+      "\37\143\45\33\347\331\326\103\30\330\177\25" +
+      "\246\220\5\307\172\275\145\173\36\277\215\205" +
+      "\61\146\354\234\300\137\130\140\102\322\320\306" +
+      "\173\32\150\251\147\225\206\333\6\2\346\332" +
+      "\250\256\277\112\306\313\165\227\236\113\13\134" +
+      "\57\264\211\63\65\101\1\131\27\175\130\356" +
+      "\370\260\235\325\315\237\306\45\121\20\211\316" +
+      "\320\362\123\371\241\101\114\153\353\1\273\277" +
+      "\123\324\317\352\124\201\70\4\17\244\217\136" +
+      "\300\163\22\176\345\150\375\146\353\66\107\116" +
+      "\30\317\216\51\372\106\216\253\363\374\123\155" +
+      "\252\221\67\163\0\23\27\172\215\131\5\157" +
+      "\363\106\101\325\151\73\104\44\355\140\131\106" +
+      "\274\354\326\316\311\130\140\106\322\17\140\120" +
+      "\376\237\235\46\47\121\340\65\303\164\113\277" +
+      "\251\23\302\55\74\105\255\160\263\220\133\146" +
+      "\142\242\131\115\362\314\124\110\303\30\6\127" +
+      "\54\266\6\277\66\151\273\166\123\127\267\146" +
+      "\106\213\17\335\16\354\352\101\166\52\73\374" +
+      "\251\236\11\121\144\102\1\111\143\231\243\34" +
+      "\172\1\315\217\365\222\152\266\132\13\13\314" +
+      "\127\331\27\212\245\113\315\306\75\121\52\263" +
+      "\365\216\311\17\213\174\126\121\25\54\243\352" +
+      "\237\255\235\260\33\110\161\324\173\276\373\126" +
+      "\342\24\204\23\374\133\32\210\155\105\351\20" +
+      "\205\370\233\325\41\244\2\226\212\167\205\62" +
+      "\370\164\56\257\227\332\135\137\225\61\373\361" +
+      "\14\141\41\170\114\75\362\144\361\263\20\231" +
+      "\373\105\234\53\214\222\370\234\23\206\153\76" +
+      "\151\320\17\102\6\103\344\21\264\47\305\250" +
+      "\260\267\156\370\52\334\312\232\111\3\355\101" +
+      "\234\241\365\10\323\31\70\163\21\332\257\317" +
+      "\115\311\47\117\107\241\156\272\124\252\256\104" +
+      "\342\234\112\107\374\304\216\117\31\301\53\64" +
+      "\241\173\115\364\347\223\322\243\162\154\76\126" +
+      "\300\142\306\356\32\333\246\376\142\112\20\233" +
+      "\40\373\47\307\370\133\115\307\273\115\144\207" +
+      "\360\344\224\164\115\100\114\66\232\236\171\257" +
+      "\126\7\71\360\64\20\16\13\32\306\326\102" +
+      "\342\0\243\142\340\151\324\344\226\74\311\367" +
+      "\365\147\15\31\24\15\167\233\163\340\152\333" +
+      "\2\327\361\34\132\371\72\152\124\276\166\320" +
+      "\170\142\123\73\230\241\151\104\323\110\265\156" +
+      "\65\106\57\343\7\137\165\60\161\21\203\264" +
+      "\143\1\11\113\40\271\165\210\7\150\166\50" +
+      "\44\157\32\145\246\366\364\353\17\260\163\105" +
+      "\62\30\42\354\322\346\264\332\373\344\21\46" +
+      "\243\235\100\164\42\21\255\47\377\171\23\264" +
+      "\374\27\243\244\263\121\62\233\324\336\235\151" +
+      "\60\244\142\21\264\50\64\51\73\115\320\353" +
+      "\124\237\12\177\314\131\42\144\172\203\304\225" +
+      "\2\344\77\124\22\252\217\173\53\175\102\30" +
+      "\231\360\132\151\145\277\137\5\201\70\240\230" +
+      "\334\41\5\105\264\137\45\273\14\370\40\365" +
+      "\143\176\5\255\223\356\377\124\323\114\127\24" +
+      "\70\366\171\343\363\323\77\370\132\213\245\236" +
+      "\123\51\215\26\141\261\273\57\164\254\250\170" +
+      "\311\116\307\307\35\114\66\353\47\71\341\252" +
+      "\33\375\336\143\172\217\337\116\260\355\312\262" +
+      "\267\315\355\247\40\174\11\25\42\47\124\27";
+
+  private static final String TABLE_PACKED_36 =
+      "\336\171\244\233\242\177\264\65\311\271\161\341" +
+      "\371\307\226\160\21\113\155\26\66\261\364\32" +
+      "\314\132\17\257\347\101\216\125\100\314\157\345" +
+      "\143\313\321\140\166\261\102\74\162\124\57\272" +
+      "\136\341\42\303\372\304\234\175\360\31\111\114" +
+      "\164\21\332\315\337\246\324\300\302\60\351\347" +
+      "\70\222\344\263\63\125\44\46\137\123\320\247" +
+      "\26\275\166\45\372\145\153\375\342\310\301\355" +
+      "\250\163\333\151\23\324\17\130\63\370\301\72" +
+      "\202\370\54\151\245\262\263\324\55\154\11\25" +
+      "\57\212\27\316\55\157\336\200\115\21\137\127" +
+      "\256\371\22\227\213\342\56\167\204\120\111\22" +
+      "\24\207\367\105\100\154\375\21\163\30\35\362" +
+      "\134\233\173\235\134\366\13\126\266\230\364\105" +
+      "\354\206\42\66\265\127\256\31\100\323\131\223" +
+      "\14\106\333\157\134\72\114\223\5\331\53\332" +
+      "\162\2\350\236\155\64\347\40\54\113\166\12" +
+      "\301\42\66\225\202\351\40\135\52\25\204\342" +
+      "\47\136\266\210\163\26\225\66\106\133\157\206" +
+      "\167\157\30\111\176\142\330\352\70\334\300\207" +
+      "\303\277\56\71\377\351\162\301\200\361\54\343" +
+      "\15\16\264\210\165\107\152\307\370\254\344\313" +
+      "\312\353\366\164\153\42\370\213\346\352\236\107" +
+      "\151\11\311\71\236\166\353\353\37\67\111\363" +
+      "\202\104\272\311\337\350\11\155\265\45\327\122" +
+      "\63\150\117\277\257\374\25\63\61\335\136\106" +
+      "\240\0\351\231\17\136\31\211\342\276\7\43" +
+      "\351\167\222\40\257\26\170\275\273\356\256\223" +
+      "\142\173\320\20\266\132\7\104\47\57\1\246" +
+      "\340\347\67\256\201\250\111\32\143\145\227\223" +
+      "\225\77\23\15\244\226\45\324\52\364\264\14" +
+      "\34\114\40\226\271\32\130\341\312\332\45\173" +
+      "\65\304\255\267\32\73\6\20\262\276\334\107" +
+      "\170\64\70\357\133\5\24\250\262\11\277\241" +
+      "\152\232\243\137\121\133\102\44\166\241\241\234" +
+      "\110\321\14\276\151\371\262\43\222\242\65\43" +
+      "\264\32\43\136\344\307\7\12\52\120\301\314" +
+      "\127\47\167\6\30\113\10\164\355\22\345\15" +
+      "\35\361\44\150\256\43\155\67\202\365\175\237" +
+      "\136\103\211\25\6\374\274\224\47\235\276\257" +
+      "\325\40\11\227\322\26\342\35\221\312\1\325" +
+      "\54\130\134\377\34\65\310\166\251\14\237\214" +
+      "\27\330\43\76\76\104\167\211\121\53\163\113" +
+      "\274\226\270\5\240\312\43\0\251\167\320\107" +
+      "\62\276\332\100\242\76\131\147\231\375\147\326" +
+      "\15\272\10\156\332\355\273\123\214\251\5\54" +
+      "\33\340\7\320\42\2\106\303\255\32\114\174" +
+      "\24\106\66\156\324\365\17\33\226\56\221\46" +
+      "\376\27\303\52\237\22\133\242\342\365\161\154" +
+      "\157\15\305\74\230\311\377\346\3\22\235\163" +
+      "\131\321\262\34\354\204\266\154\107\153\66\242" +
+      "\146\226\340\225\36\75\66\251\74\162\70\137" +
+      "\124\377\301\21\17\25\342\211\341\345\114\364" +
+      "\160\107\376\145\175\323\254\215\133\42\17\212" +
+      "\214\262\155\1\320\144\363\170\164\7\270\65" +
+      "\135\370\376\30\366\241\374\5\22\163\61\44" +
+      "\243\275\65\162\341\232\202\310\245\21\70\122" +
+      "\243\161\376\70\35\373\170\166\20\24\326\267" +
+      "\245\344\337\73\136\20\15\344\350\272\375\304" +
+      "\212\52\126\243\176\6\14\20\352\317\355\100" +
+      "\105\77\364\270\206\252\224\362\67\113\262\126" +
+      "\343\66\134\206\2\272\26\220\320\23\217\314" +
+      "\316\67\314\33\77\140\144\227\14\141\361\101" +
+      "\330\144\304\321\170\142\121\340\120\217\250\2" +
+      "\241\142\104\170\143\247\362\123\45\10\316\76" +
+      "\14\311\67\201\374\117\231\324\116\352\201\24" +
+      "\102\203\231\205\100\351\201\157\32\125\243\143" +
+      "\360\24\67\242\121\22\332\331\310\375\44\111" +
+      "\36\337\154\341\245\226\202\0\132\223\4\201" +
+      "\120\21\306\37\73\226\110\222\271\60\367\371" +
+      "\174\247\205\275\164\364\244\272\327\373\252\153" +
+      "\213\115\103\321\12\227\25\133\222\147\1\15" +
+      "\4\233\140\45\52\372\376\176\331\130\356\225" +
+      "\16\156\270\146\54\140\74\305\247\165\104\121" +
+      "\255\220\33\274\44\325\53\267\25\350\357\2" +
+      "\235\325\11\120\224\47\326\111\357\53\240\200" +
+      "\132\325\111\241\337\312\364\47\136\221\335\361" +
+      "\356\355\276\37\337\273\234\143\173\271\340\45" +
+      "\377\201\104\275\356\102\343\147\67\202\354\341" +
+      "\216\262\42\255\143\336\330\117\67\42\15\165" +
+      "\211\314\0\30\371\44\351\137\34\24\233\357" +
+      "\236\162\52\216\265\41\151\227\321\214\222\73" +
+      "\130\315\176\40\173\101\345\325\115\106\0\60" +
+      "\13\233\356\371\304\112\263\171\104\247\355\67" +
+      "\35\161\367\66\333\347\340\153\223\253\350\337" +
+      "\71\236\365\277\102\42\271\5\22\133\143\205" +
+      "\41\117\351\46\30\70\302\41\34\223\277\30" +
+      "\41\10\5\271\63\171\315\307\257\377\105\273" +
+      "\321\141\344\213\345\346\333\374\352\330\235\41" +
+      "\313\146\273\5\112\61\55\61\162\245\201\161" +
+      "\242\17\335\63\33\45\51\271\102\167\126\311" +
+      "\200\302\102\22\102\132\24\256\44\321\141\167" +
+      "\153\256\133\72\10\302\42\10\111\163\371\231" +
+      "\311\47\144\352\123\265\315\271\267\0\20\140" +
+      "\340\40\226\305\105\300\136\334\112\301\357\56" +
+      "\5\130\267\71\277\201\215\122\320\153\140\314" +
+      "\355\331\223\72\34\115\5\23\253\101\126\113" +
+      "\3\265\124\214\325\305\315\63\334\121\254\63" +
+      "\353\77\202\105\201\317\315\204\373\1\106\317" +
+      "\350\353\230\171\233\23\252\3\223\40\67\307";
+
+  private static final String TABLE_PACKED_37 =
+      "\176\50\135\340\124\33\335\60\221\261\216\12" +
+      "\314\72\200\313\220\26\141\55\72\217\125\257" +
+      "\363\61\32\167\12\230\114\306\256\67\345\67" +
+      "\61\21\31\131\103\3\253\223\32\1\324\273" +
+      "\2\313\112\32\200\144\104\2\275\373\154\150" +
+      "\365\166\316\47\334\14\232\120\215\46\64\331" +
+      "\366\262\40\307\373\361\273\237\300\121\375\214" +
+      "\250\164\170\36\164\7\202\130\231\306\304\20" +
+      "\70\13\332\311\46\60\200\204\372\344\157\150" +
+      "\135\336\270\165\322\146\34\243\130\115\67\377" +
+      "\163\360\277\75\213\211\222\62\245\13\220\46" +
+      "\317\224\67\175\71\45\261\10\271\216\354\316" +
+      "\357\173\131\252\17\101\214\113\126\155\102\37" +
+      "\217\305\227\126\37\365\260\116\37\111\0\44" +
+      "\202\17\12\123\16\144\320\317\1\140\241\232" +
+      "\127\172\175\233\346\361\263\221\332\260\71\125" +
+      "\235\263\51\364\357\243\2\47\215\377\311\44" +
+      "\134\232\13\23\313\200\72\40\176\173\115\264" +
+      "\175\377\114\247\156\237\331\233\226\353\112\67" +
+      "\364\301\67\301\13\61\157\12\352\270\116\54" +
+      "\357\354\213\207\367\102\67\31\233\170\175\64" +
+      "\156\33\270\37\220\364\307\346\122\227\317\46" +
+      "\335\52\364\207\241\224\221\40\372\5\6\127" +
+      "\241\314\141\67\170\246\305\34\20\121\166\306" +
+      "\175\341\174\354\306\154\45\362\243\303\32\224" +
+      "\224\340\225\31\241\127\114\374\211\146\207\305" +
+      "\106\164\42\47\256\116\240\212\141\6\375\275" +
+      "\32\261\256\114\323\161\147\104\231\372\355\52" +
+      "\267\316\303\111\203\351\237\26\332\177\272\324" +
+      "\11\361\374\233\364\130\41\214\254\152\160\355" +
+      "\305\44\56\5\345\177\2\153\63\103\167\112" +
+      "\356\176\360\31\120\212\137\342\60\34\133\163" +
+      "\313\21\342\135\107\250\164\75\51\56\52\46" +
+      "\35\332\337\114\230\260\365\363\136\273\147\355" +
+      "\6\254\111\313\25\143\14\163\217\300\14\340" +
+      "\166\102\362\5\146\150\244\110\3\333\42\347" +
+      "\106\247\145\157\225\61\365\344\305\264\110\52" +
+      "\326\21\357\130\225\246\170\43\147\127\76\133" +
+      "\77\354\254\326\203\72\72\226\233\217\375\107" +
+      "\24\210\150\76\314\212\165\152\352\363\102\343" +
+      "\107\224\251\306\1\101\123\204\205\312\57\313" +
+      "\171\67\111\142\74\160\64\55\13\40\23\127" +
+      "\156\273\74\41\344\145\225\127\73\6\352\34" +
+      "\41\161\27\13\17\6\213\316\247\52\302\124" +
+      "\320\162\216\360\145\361\270\354\75\163\217\354" +
+      "\173\170\231\251\55\44\151\23\362\17\211\7" +
+      "\72\176\127\225\202\72\133\332\212\324\243\307" +
+      "\16\57\44\131\301\104\230\70\133\337\44\315" +
+      "\34\306\377\37\347\12\211\351\251\65\234\114" +
+      "\234\124\110\65\371\31\267\377\122\267\23\216" +
+      "\100\6\152\163\74\44\14\355\26\215\164\252" +
+      "\332\72\253\357\304\352\25\251\162\204\315\67" +
+      "\104\157\42\103\347\241\265\123\30\157\362\257" +
+      "\26\233\106\131\13\321\41\301\163\371\245\162" +
+      "\232\77\323\22\201\276\21\226\262\373\142\373" +
+      "\213\117\254\131\370\135\253\42\54\333\50\75" +
+      "\74\210\267\72\44\247\215\262\57\327\315\157" +
+      "\246\211\23\241\202\315\145\65\306\73\61\166" +
+      "\205\367\150\325\256\132\346\27\364\166\135\231" +
+      "\242\254\66\72\260\155\334\125\150\217\250\44" +
+      "\360\271\327\0\371\351\355\246\21\16\72\46" +
+      "\115\226\257\256\156\23\251\106\102\31\127\214" +
+      "\156\15\117\231\261\114\141\150\213\310\24\26" +
+      "\353\120\113\141\366\201\101\221\314\3\351\42" +
+      "\103\223\77\321\227\154\135\213\260\73\231\154" +
+      "\50\273\326\11\100\6\76\327\116\334\63\25" +
+      "\241\377\60\231\37\340\326\145\130\32\241\227" +
+      "\43\344\361\233\67\340\322\330\240\364\31\102" +
+      "\34\102\376\6\276\11\353\42\2\53\175\341" +
+      "\271\206\361\300\324\233\50\330\302\245\141\7" +
+      "\244\257\17\156\106\220\172\131\250\15\220\50" +
+      "\360\1\243\103\153\127\310\351\255\36\166\375" +
+      "\242\37\173\256\221\220\320\223\311\267\370\361" +
+      "\61\151\44\0\222\51\114\347\327\45\122\172" +
+      "\304\210\335\132\170\253\104\224\62\256\226\331" +
+      "\76\117\77\371\263\264\213\16\204\211\5\317" +
+      "\65\115\245\154\103\206\347\142\335\227\270\34" +
+      "\105\62\220\252\267\363\233\52\227\165\71\247" +
+      "\317\252\322\336\373\257\56\75\306\37\11\262" +
+      "\175\123\101\213\213\141\226\376\106\375\267\130" +
+      "\132\120\262\332\153\114\76\71\344\347\221\273" +
+      "\103\302\263\270\301\36\57\165\237\223\243\52" +
+      "\273\132\252\110\62\270\200\213\331\60\71\10" +
+      "\101\31\100\377\56\237\116\21\202\244\103\31" +
+      "\67\230\153\40\340\152\141\26\34\242\266\71" +
+      "\273\30\173\117\371\27\103\343\263\345\53\326" +
+      "\64\32\23\6\363\216\214\42\301\270\115\70" +
+      "\223\340\312\101\7\112\145\217\325\220\117\361" +
+      "\215\165\327\342\64\161\275\104\26\251\162\242" +
+      "\344\120\172\173\222\340\152\137\370\47\15\354" +
+      "\151\371\303\67\102\316\113\133\47\214\141\167" +
+      "\352\317\236\347\276\206\2\166\251\0\60\305" +
+      "\252\57\365\334\372\17\305\3\34\30\322\255" +
+      "\171\14\342\167\313\300\377\241\363\337\201\261" +
+      "\60\133\347\62\314\77\155\204\353\63\303\32" +
+      "\364\65\253\217\21\105\174\204\162\52\206\301" +
+      "\322\277\223\23\145\54\171\332\67\332\267\12" +
+      "\123\312\122\376\75\161\35\220\144\15\115\7" +
+      "\130\366\221\307\354\276\312\22\273\23\274\20" +
+      "\160\35\37\364\365\241\12\56\254\177\236\6";
+
+  private static final String TABLE_PACKED_38 =
+      "\177\136\316\161\177\261\127\353\337\364\314\261" +
+      "\2\232\240\5\102\46\362\354\116\314\127\306" +
+      "\223\105\371\42\317\50\107\327\253\143\262\56" +
+      "\175\160\30\354\24\113\254\305\232\22\275\45" +
+      "\31\36\247\305\311\245\40\337\14\247\241\137" +
+      "\64\53\103\241\32\303\261\332\133\137\335\115" +
+      "\51\105\76\257\375\35\145\15\30\205\164\237" +
+      "\34\373\76\272\112\355\264\21\137\263\112\10" +
+      "\364\277\333\313\142\311\323\266\2\22\300\21" +
+      "\371\261\47\43\370\50\200\173\350\222\66\274" +
+      "\30\126\67\104\224\233\155\323\55\371\203\307" +
+      "\14\307\164\21\30\157\133\36\27\72\171\355" +
+      "\153\364\221\307\120\347\156\353\124\31\74\47" +
+      "\14\54\117\244\277\205\260\324\221\262\177\246" +
+      "\324\171\145\154\246\72\77\136\30\153\46\244" +
+      "\320\271\234\167\103\72\277\23\276\121\324\154" +
+      "\200\25\156\342\375\51\66\350\17\253\23\51" +
+      "\121\131\7\247\372\105\17\222\334\262\47\256" +
+      "\372\117\235\235\210\177\112\100\363\176\235\150" +
+      "\24\307\245\212\263\352\373\364\272\337\356\265" +
+      "\137\127\150\117\111\127\350\5\61\344\72\373" +
+      "\54\166\244\140\66\152\204\373\235\56\43\216" +
+      "\37\344\306\15\47\171\372\253\346\331\343\207" +
+      "\344\370\337\335\272\66\310\112\236\211\220\152" +
+      "\154\372\362\0\336\170\233\64\133\0\252\52" +
+      "\55\302\253\13\100\204\15\310\235\227\132\345" +
+      "\123\23\176\43\47\366\271\5\151\247\71\241" +
+      "\63\344\70\33\76\54\332\165\330\126\373\11" +
+      "\247\277\356\376\35\42\122\341\265\214\23\377" +
+      "\375\103\270\2\303\245\321\175\4\170\253\217" +
+      "\142\125\265\170\71\203\321\130\31\123\276\51" +
+      "\357\36\303\45\31\22\335\72\175\207\214\146" +
+      "\373\30\257\113\271\301\42\74\217\224\310\304" +
+      "\377\167\246\343\106\216\266\24\220\5\346\274" +
+      "\370\171\104\13\240\211\25\315\111\67\105\307" +
+      "\16\224\364\220\264\146\273\45\351\42\53\340" +
+      "\112\162\117\22\53\311\33\76\50\1\132\243" +
+      "\120\206\301\210\135\315\236\172\33\257\201\273" +
+      "\227\156\22\276\72\42\260\255\332\224\53\104" +
+      "\202\376\166\347\314\136\147\372\374\333\61\322" +
+      "\377\233\155\345\53\261\353\367\35\236\63\337" +
+      "\57\163\112\33\164\305\104\142\250\2\46\150" +
+      "\137\54\254\23\110\26\235\134\215\374\151\104" +
+      "\227\374\116\321\50\0\162\377\237\102\372\247" +
+      "\162\322\262\350\273\56\144\200\140\111\135\213" +
+      "\77\21\305\304\202\125\4\132\323\42\300\314" +
+      "\237\26\111\210\335\365\1\247\333\171\146\133" +
+      "\276\340\313\335\137\172\176\130\217\31\136\363" +
+      "\55\153\222\175\174\150\71\213\136\161\124\141" +
+      "\126\73\105\102\237\137\312\320\52\324\375\367" +
+      "\321\62\312\32\302\50\131\205\47\250\224\163" +
+      "\330\204\262\50\0\354\216\176\313\360\62\357" +
+      "\70\105\252\173\44\116\304\12\113\65\266\254" +
+      "\43\225\226\44\254\212\213\225\246\54\127\323" +
+      "\77\351\222\174\43\74\204\33\235\254\23\251" +
+      "\117\332\356\26\117\125\167\356\355\337\301\356" +
+      "\366\237\53\277\341\172\302\277\110\314\130\36" +
+      "\51\235\232\32\74\62\230\237\341\353\263\202" +
+      "\240\32\336\75\125\242\15\233\200\55\315\330" +
+      "\235\170\32\370\60\132\63\117\127\367\355\302" +
+      "\276\30\312\335\210\23\341\161\247\264\363\177" +
+      "\175\352\131\167\273\145\56\131\202\225\351\144" +
+      "\255\322\226\250\217\41\223\330\14\175\134\4" +
+      "\112\70\134\23\377\274\42\273\6\321\322\2" +
+      "\323\200\321\200\123\274\70\5\147\234\44\110" +
+      "\3\360\2\105\217\342\235\32\226\245\111\25" +
+      "\233\213\153\241\136\100\61\34\212\42\0\370" +
+      "\145\352\206\227\42\134\147\210\147\171\276\156" +
+      "\311\250\231\146\343\260\232\373\316\72\150\225" +
+      "\36\41\162\314\73\45\222\267\321\47\101\46" +
+      "\206\55\211\135\203\246\252\233\353\201\6\327" +
+      "\323\160\127\34\237\252\336\130\33\204\337\112" +
+      "\1\327\370\134\357\30\27\323\207\210\222\145" +
+      "\1\255\76\222\356\67\103\257\107\150\334\74" +
+      "\252\42\216\176\6\32\273\144\121\217\245\370" +
+      "\50\304\114\135\42\60\140\37\252\373\354\331" +
+      "\154\121\322\357\324\170\44\362\152\266\236\76" +
+      "\154\110\253\325\37\130\315\116\307\17\171\16" +
+      "\266\104\226\21\161\103\376\222\170\30\132\140" +
+      "\232\151\17\312\54\122\244\53\252\212\315\22" +
+      "\333\304\277\26\20\264\56\231\363\170\7\250" +
+      "\125\305\357\50\266\6\12\351\44\10\343\50" +
+      "\240\12\76\361\6\107\30\343\116\347\55\231" +
+      "\72\51\17\15\123\10\3\173\242\312\23\374" +
+      "\317\307\366\236\331\233\266\350\362\154\46\347" +
+      "\35\16\370\7\374\221\264\147\365\171\262\57" +
+      "\5\276\252\43\315\375\235\115\44\271\5\337" +
+      "\4\106\356\212\336\157\323\332\171\111\262\360" +
+      "\330\237\104\1\313\113\372\250\252\127\16\271" +
+      "\1\135\212\320\317\106\41\120\3\114\40\176" +
+      "\43\12\222\122\161\155\275\1\220\247\50\346" +
+      "\204\232\53\216\124\247\331\0\172\30\136\115" +
+      "\3\147\215\27\153\345\340\365\232\131\26\244" +
+      "\143\231\113\153\130\104\125\345\0\306\63\351" +
+      "\327\122\132\15\324\310\35\114\244\51\274\272" +
+      "\143\76\203\7\3\53\147\77\52\375\376\172" +
+      "\15\335\153\256\44\110\370\221\154\345\30\346" +
+      "\14\267\373\337\341\333\12\114\265\146\174\140" +
+      "\224\235\243\273\31\265\37\277\273\344\263\7" +
+      "\266\310\206\104\301\74\225\145\304\321\27\304";
+
+  private static final String TABLE_PACKED_39 =
+      "\254\30\34\70\0\242\134\301\10\222\122\373" +
+      "\314\262\121\260\226\21\202\50\30\326\27\57" +
+      "\63\30\275\111\107\316\101\31\267\336\341\224" +
+      "\177\165\340\74\246\314\106\264\201\113\300\133" +
+      "\211\267\141\173\336\326\121\305\70\323\243\360" +
+      "\56\2\63\57\17\377\0\175\43\144\150\375" +
+      "\310\332\252\263\370\211\360\110\242\164\326\365" +
+      "\57\44\174\4\2\55\46\21\355\246\24\134" +
+      "\10\213\361\320\70\223\345\273\34\161\27\321" +
+      "\125\240\162\221\234\176\340\301\364\113\254\256" +
+      "\40\271\300\375\203\144\266\241\150\127\313\326" +
+      "\350\274\155\124\101\147\107\21\173\21\257\72" +
+      "\161\161\155\71\112\55\64\25\304\242\106\326" +
+      "\273\151\53\214\35\20\373\151\52\247\263\374" +
+      "\372\375\233\323\22\260\374\303\277\322\260\22" +
+      "\251\76\264\74\33\370\174\346\262\324\75\263" +
+      "\235\151\261\45\210\132\321\41\33\371\227\324" +
+      "\174\223\110\124\42\347\46\344\13\110\166\334" +
+      "\56\215\221\326\247\127\124\132\272\146\17\375" +
+      "\205\224\174\335\351\131\371\122\104\147\67\350" +
+      "\257\175\251\202\7\262\245\62\147\202\145\231" +
+      "\320\207\64\375\205\332\150\122\37\353\161\117" +
+      "\317\17\161\114\377\234\123\313\253\221\154\347" +
+      "\322\321\300\360\62\231\202\320\360\352\43\370" +
+      "\121\54\57\356\150\211\233\173\313\163\54\147" +
+      "\256\252\244\253\261\314\236\5\160\170\13\10" +
+      "\302\337\21\247\35\265\111\201\232\77\262\170" +
+      "\316\376\131\320\334\323\337\350\50\43\352\133" +
+      "\0\211\233\114\261\327\153\30\164\364\330\107" +
+      "\233\107\311\231\64\134\171\207\363\103\133\35" +
+      "\365\326\213\337\63\127\315\27\257\65\32\326" +
+      "\141\50\343\24\334\153\167\275\160\3\203\105" +
+      "\114\256\213\66\162\240\117\325\220\266\106\35" +
+      "\20\30\271\140\324\27\51\372\372\70\341\74" +
+      "\200\363\164\347\376\332\114\16\101\147\300\220" +
+      "\263\347\150\21\207\2\317\143\167\237\326\226" +
+      "\210\202\152\7\34\34\241\377\237\207\301\27" +
+      "\2\123\177\371\221\114\270\344\231\46\311\311" +
+      "\141\33\220\242\172\121\147\364\252\206\205\257" +
+      "\10\35\54\222\103\105\344\326\26\44\40\174" +
+      "\240\76\141\71\243\227\234\244\164\104\150\300" +
+      "\331\262\200\133\236\0\231\7\312\170\13\123" +
+      "\205\354\55\15\334\300\41\325\326\51\112\251" +
+      "\345\61\106\110\250\371\314\174\205\33\216\275" +
+      "\375\221\157\114\173\365\145\215\354\312\204\341" +
+      "\353\305\146\4\347\55\300\152\113\243\167\361" +
+      "\113\24\171\232\371\23\71\10\235\203\174\303" +
+      "\260\0\263\167\343\325\124\215\304\164\274\11" +
+      "\144\12\322\1\322\374\2\151\313\163\270\204" +
+      "\376\237\262\337\270\351\146\12\334\215\263\53" +
+      "\375\356\305\121\31\350\53\53\116\153\207\53" +
+      "\355\236\233\352\75\3\333\311\202\56\131\77" +
+      "\73\230\353\311\244\265\335\104\227\50\23\356" +
+      "\64\320\367\106\245\262\263\345\31\211\314\275" +
+      "\214\353\54\135\160\222\307\352\122\124\177\62" +
+      "\265\311\271\276\30\121\263\370\220\157\55\210" +
+      "\20\216\353\126\203\140\122\370\364\123\10\127" +
+      "\15\40\13\223\227\170\200\24\143\227\53\225" +
+      "\220\361\121\174\354\323\376\201\211\157\176\277" +
+      "\241\23\132\163\344\271\63\307\257\337\237\274" +
+      "\331\316\242\231\314\247\347\331\175\374\24\300" +
+      "\302\13\200\274\33\230\146\51\53\216\3\17" +
+      "\107\246\71\333\36\327\230\371\230\301\371\223" +
+      "\15\4\351\52\177\237\320\153\171\212\376\42" +
+      "\337\333\166\302\320\312\242\332\27\236\226\342" +
+      "\103\13\232\2\176\153\36\252\6\167\376\376" +
+      "\351\217\67\272\130\53\7\75\345\25\230\203" +
+      "\162\27\66\21\116\22\277\234\154\356\147\126" +
+      "\76\127\272\347\151\7\74\136\366\113\147\46" +
+      "\237\54\145\7\41\372\254\312\277\132\100\40" +
+      "\245\3\310\354\245\65\363\43\115\104\127\57" +
+      "\266\35\246\100\142\136\135\122\155\363\13\25" +
+      "\351\74\5\346\57\161\70\366\230\274\121\320" +
+      "\376\151\273\347\76\376\207\75\110\314\172\43" +
+      "\352\47\211\16\100\321\210\72\213\317\122\366" +
+      "\213\250\2\207\135\46\306\346\134\347\77\302" +
+      "\223\236\31\43\312\3\205\207\305\46\152\300" +
+      "\21\54\75\6\220\366\131\73\110\206\361\311" +
+      "\32\301\340\326\267\156\250\35\252\347\150\115" +
+      "\77\160\230\30\314\264\347\72\22\56\124\246" +
+      "\2\100\131\202\167\151\303\305\125\266\43\125" +
+      "\103\66\121\27\77\36\70\333\215\51\42\332" +
+      "\310\15\357\135\234\330\346\170\75\103\364\240" +
+      "\363\17\146\320\361\15\5\105\240\347\350\172" +
+      "\321\125\155\244\114\67\316\151\70\77\32\57" +
+      "\340\116\67\211\243\341\25\257\55\205\210\317" +
+      "\70\225\271\43\360\366\363\35\167\375\51\204" +
+      "\335\210\60\217\243\75\363\377\244\101\375\67" +
+      "\110\22\366\302\37\247\130\254\112\100\43\313" +
+      "\204\21\212\12\304\62\4\272\143\150\331\30" +
+      "\312\140\171\154\164\33\340\257\273\110\173\250" +
+      "\330\354\330\100\177\166\172\70\125\11\212\211" +
+      "\235\255\327\222\1\166\225\2\32\5\260\374" +
+      "\232\11\17\7\71\136\210\77\63\267\173\102" +
+      "\357\170\314\367\6\156\21\57\233\370\112\274" +
+      "\152\216\301\45\130\120\157\244\70\56\365\145" +
+      "\367\236\256\222\251\27\71\373\251\136\245\372" +
+      "\317\241\370\143\237\334\25\241\270\316\265\216" +
+      "\167\207\337\247\203\42\160\374\216\162\326\345" +
+      "\123\212\320\332\27\231\113\164\0\372\113\373";
+
+  private static final String TABLE_PACKED_40 =
+      "\244\163\247\326\171\307\34\155\201\32\224\340" +
+      "\220\372\155\11\2\25\342\220\51\266\242\267" +
+      "\211\333\135\120\147\201\122\65\157\224\222\246" +
+      "\163\275\0\334\322\262\360\102\27\306\157\115" +
+      "\13\347\231\160\72\343\137\313\46\65\373\64" +
+      "\303\123\207\353\216\207\70\336\367\66\23\17" +
+      "\164\206\342\10\371\37\251\15\47\47\107\244" +
+      "\367\6\232\155\30\61\241\213\25\354\172\74" +
+      "\144\3\47\62\240\150\17\70\21\212\350\106" +
+      "\334\70\244\377\317\213\156\373\352\354\26\50" +
+      "\62\12\61\171\214\40\321\267\7\241\114\27" +
+      "\361\252\105\27\264\70\265\143\26\311\312\57" +
+      "\172\164\343\52\230\351\200\165\44\374\122\353" +
+      "\360\161\322\325\123\314\234\163\321\53\317\22" +
+      "\142\320\245\311\330\70\46\163\40\166\310\316" +
+      "\340\233\146\6\217\225\220\147\250\341\241\336" +
+      "\356\254\252\161\16\353\20\145\176\144\366\45" +
+      "\256\106\4\157\120\267\262\77\171\35\134\143" +
+      "\170\112\263\225\313\23\216\144\140\24\14\67" +
+      "\322\201\246\211\310\130\265\41\41\70\102\32" +
+      "\347\342\63\107\110\326\32\304\247\251\23\226" +
+      "\62\37\170\263\303\367\345\135\240\166\356\220" +
+      "\270\137\306\114\7\241\204\260\343\212\177\317" +
+      "\1\311\364\157\143\61\200\237\200\305\30\160" +
+      "\161\166\275\143\130\123\217\146\33\303\121\323" +
+      "\330\30\116\134\230\322\173\31\3\17\7\342" +
+      "\47\204\10\13\124\36\102\227\376\77\145\2" +
+      "\124\53\13\304\0\267\327\33\124\102\36\13" +
+      "\200\4\115\140\10\235\15\301\40\107\236\271" +
+      "\142\55\330\2\274\54\27\11\71\70\237\350" +
+      "\236\23\151\214\233\211\303\250\105\213\271\142" +
+      "\137\105\31\122\31\214\373\203\354\131\170\123" +
+      "\176\153\376\342\241\60\247\241\150\145\375\224" +
+      "\354\47\63\247\77\7\212\13\156\14\335\22" +
+      "\225\20\144\334\301\155\124\247\364\304\174\141" +
+      "\134\227\303\15\55\313\261\2\315\151\161\360" +
+      "\344\62\0\303\140\346\60\317\32\176\220\341" +
+      "\317\24\55\332\116\247\360\40\132\32\47\3" +
+      "\204\256\63\203\142\50\106\17\364\367\140\340" +
+      "\331\233\225\221\54\236\304\217\105\270\355\251" +
+      "\2\316\72\41\20\330\304\1\65\26\150\261" +
+      "\333\40\25\131\362\352\74\266\25\114\360\33" +
+      "\112\176\115\275\246\271\243\333\240\73\354\155" +
+      "\23\207\126\105\256\232\375\66\274\355\336\115" +
+      "\334\47\153\216\61\253\374\50\343\77\13\323" +
+      "\325\113\240\321\43\101\346\12\365\215\274\304" +
+      "\274\145\221\13\36\144\61\251\317\44\125\302" +
+      "\146\226\225\33\325\326\350\300\157\111\312\336" +
+      "\352\154\133\317\14\56\311\46\77\212\311\322" +
+      "\226\316\60\132\242\177\325\350\145\44\200\237" +
+      "\255\153\130\311\205\321\30\250\335\250\137\312" +
+      "\73\111\265\132\343\130\344\145\344\113\114\360" +
+      "\237\203\361\71\34\6\372\374\342\203\232\41" +
+      "\272\133\174\100\211\32\154\211\300\57\40\213" +
+      "\343\313\206\2\342\302\174\360\334\147\52\161" +
+      "\130\331\100\14\155\71\353\302\62\65\323\217" +
+      "\174\22\22\124\353\370\363\314\55\221\246\323" +
+      "\317\232\342\324\64\144\256\20\110\23\165\330" +
+      "\122\216\70\60\311\223\335\21\346\135\300\261" +
+      "\376\153\374\43\204\206\363\37\335\46\50\242" +
+      "\315\242\54\116\260\261\154\247\376\37\153\165" +
+      "\360\301\176\265\210\264\211\261\64\223\107\372" +
+      "\277\151\7\351\361\65\34\356\242\5\237\23" +
+      "\371\274\346\201\12\210\305\270\224\211\254\231" +
+      "\234\331\157\253\327\312\16\367\333\126\43\325" +
+      "\315\365\114\226\151\101\275\115\257\310\154\244" +
+      "\272\135\303\155\27\5\111\152\142\157\255\226" +
+      "\21\164\236\30\104\25\125\270\347\236\256\54" +
+      "\253\64\12\126\100\163\144\311\237\125\43\137" +
+      "\134\154\46\37\250\25\337\313\60\160\71\231" +
+      "\330\56\262\33\376\65\342\50\146\144\27\306" +
+      "\303\15\333\315\214\337\167\121\177\377\21\115" +
+      "\344\231\362\55\266\61\17\203\251\32\17\246" +
+      "\376\305\65\261\37\37\40\206\221\335\204\104" +
+      "\77\4\245\144\140\142\361\313\150\15\37\222" +
+      "\347\61\264\24\75\365\204\6\137\125\61\246" +
+      "\326\45\273\350\316\352\0\157\375\41\7\341" +
+      "\312\361\360\2\350\307\101\23\313\346\264\123" +
+      "\36\315\334\170\24\15\174\306\275\136\335\117" +
+      "\303\223\66\56\177\125\324\353\125\153\61\34" +
+      "\307\65\315\42\157\324\124\144\320\214\375\164" +
+      "\302\50\55\210\271\151\132\35\316\355\347\331" +
+      "\272\211\37\205\332\115\172\45\337\103\1\51" +
+      "\376\61\265\271\300\274\325\143\131\53\4\16" +
+      "\57\161\223\310\172\114\365\63\234\323\254\265" +
+      "\204\350\357\340\305\16\110\261\136\151\241\265" +
+      "\111\61\127\164\51\244\104\74\156\322\243\273" +
+      "\351\72\30\240\271\121\217\130\276\114\233\104" +
+      "\125\217\331\13\150\201\130\317\176\322\141\62" +
+      "\54\261\203\231\156\110\245\35\164\140\163\161" +
+      "\171\123\234\127\202\200\153\56\377\3\227\350" +
+      "\260\103\250\345\12\36\43\235\307\110\257\54" +
+      "\72\213\130\343\31\236\56\232\355\23\73\227" +
+      "\71\162\2\54\221\71\236\32\171\226\206\5" +
+      "\240\151\371\15\371\203\236\243\243\161\102\145" +
+      "\247\212\64\172\253\331\273\331\111\43\361\357" +
+      "\61\317\25\276\360\340\234\21\201\152\234\376" +
+      "\36\364\144\355\65\156\332\333\7\57\33\304" +
+      "\374\23\31\116\250\261\137\122\34\256\46\72" +
+      "\261\55\355\147\147\247\41\63\212\276\306\337";
+
+  private static final String TABLE_PACKED_41 =
+      "\177\250\41\101\7\255\240\351\343\226\134\131" +
+      "\61\244\161\40\257\250\276\274\44\334\65\51" +
+      "\256\26\10\315\222\72\304\55\367\204\325\132" +
+      "\254\260\245\354\343\60\326\7\75\161\47\115" +
+      "\273\174\235\227\257\327\40\213\65\344\361\222" +
+      "\365\322\103\200\352\52\272\33\137\325\377\72" +
+      "\222\271\66\314\116\273\113\120\340\74\40\34" +
+      "\156\132\122\330\30\376\325\224\107\254\151\332" +
+      "\170\77\250\113\137\57\233\374\170\356\257\104" +
+      "\267\205\334\17\227\252\6\317\122\326\33\337" +
+      "\361\316\313\235\321\175\116\334\126\332\346\76" +
+      "\21\111\151\55\331\43\247\177\264\124\45\356" +
+      "\11\57\23\115\203\230\127\53\323\133\251\320" +
+      "\151\355\247\67\241\105\313\270\205\326\106\335" +
+      "\271\234\24\11\20\165\210\75\236\266\150\216" +
+      "\44\236\173\222\312\221\300\146\104\237\317\341" +
+      "\276\34\40\347\236\101\36\55\20\131\25\44" +
+      "\135\15\341\0\342\270\340\123\140\310\272\40" +
+      "\256\232\105\127\55\215\341\117\262\365\173\52" +
+      "\105\20\236\260\74\365\371\370\322\103\240\276" +
+      "\13\170\136\264\32\154\70\151\352\117\217\207" +
+      "\215\46\4\104\237\262\72\151\44\111\120\45" +
+      "\301\341\4\120\206\101\134\104\266\1\22\156" +
+      "\55\30\223\343\227\42\363\217\266\140\151\270" +
+      "\246\304\372\354\120\261\101\161\244\247\16\13" +
+      "\327\76\21\372\251\50\123\6\331\122\101\140" +
+      "\247\357\112\356\176\257\151\357\366\272\351\115" +
+      "\62\226\200\335\353\227\304\127\103\360\20\143" +
+      "\37\125\210\301\244\136\346\360\267\123\170\260" +
+      "\135\5\117\66\346\45\240\374\121\343\106\212" +
+      "\124\303\324\227\157\373\316\205\341\16\100\154" +
+      "\3\110\354\22\203\333\135\256\125\162\261\127" +
+      "\245\337\146\100\235\203\146\147\122\224\236\1" +
+      "\256\267\3\244\160\22\237\171\110\267\334\135" +
+      "\306\343\41\112\365\255\336\253\223\100\213\75" +
+      "\321\117\307\144\156\216\21\27\252\275\225\103" +
+      "\257\260\366\150\343\244\124\46\11\360\350\202" +
+      "\363\237\23\367\33\110\61\336\55\45\45\342" +
+      "\214\330\14\56\253\135\22\211\100\113\323\337" +
+      "\21\265\275\141\377\42\41\57\21\224\125\315" +
+      "\326\7\213\36\360\162\173\373\137\352\321\126" +
+      "\213\311\303\133\166\230\0\172\253\234\20\33" +
+      "\34\246\142\213\63\160\255\224\165\62\44\266" +
+      "\34\124\24\305\177\13\271\310\266\263\321\273" +
+      "\253\101\330\117\76\261\341\256\126\114\370\262" +
+      "\250\70\14\161\154\66\114\371\263\77\240\347" +
+      "\20\5\22\255\42\65\226\142\206\221\310\336" +
+      "\357\304\325\23\16\307\130\3\124\153\240\76" +
+      "\155\130\276\125\53\116\140\143\355\347\145\12" +
+      "\336\202\63\17\115\42\73\224\320\57\361\144" +
+      "\21\16\202\140\224\300\301\220\60\345\333\63" +
+      "\352\112\234\177\322\27\11\321\310\312\26\122" +
+      "\336\121\111\211\262\72\43\322\105\63\366\121" +
+      "\247\13\203\272\244\233\340\135\135\265\122\227" +
+      "\162\62\24\206\312\73\275\167\142\170\334\124" +
+      "\335\11\57\137\145\71\16\242\153\72\114\41" +
+      "\247\20\176\254\337\371\274\173\203\337\311\12" +
+      "\366\314\174\165\357\16\53\346\122\131\160\152" +
+      "\377\11\60\10\167\246\56\111\300\245\257\255" +
+      "\341\371\240\136\340\251\156\20\260\144\74\310" +
+      "\54\74\54\115\353\304\161\127\253\70\50\223" +
+      "\220\43\335\106\147\30\32\160\70\236\345\16" +
+      "\224\26\40\327\132\344\232\356\311\40\67\324" +
+      "\263\346\30\377\123\330\143\30\310\325\304\317" +
+      "\255\137\66\60\262\332\131\131\60\362\50\112" +
+      "\315\140\236\331\330\332\122\347\103\251\306\230" +
+      "\357\370\22\306\71\22\275\151\233\203\335\166" +
+      "\127\367\275\175\374\30\321\76\156\42\362\62" +
+      "\157\173\234\46\76\227\123\237\114\20\257\40" +
+      "\256\324\207\306\241\155\240\322\121\326\372\377" +
+      "\337\201\15\355\271\361\167\120\210\340\112\124" +
+      "\54\200\341\200\337\41\335\224\366\170\105\272" +
+      "\135\124\346\115\200\127\136\342\263\111\335\273" +
+      "\221\317\70\332\101\217\34\255\163\176\177\334" +
+      "\242\240\323\207\214\212\301\335\256\205\266\2" +
+      "\323\23\62\274\134\7\353\374\51\127\352\247" +
+      "\270\123\372\76\350\160\56\310\340\355\107\177" +
+      "\374\43\213\120\111\164\353\264\31\20\332\205" +
+      "\270\324\306\20\343\373\21\56\340\224\56\201" +
+      "\24\377\130\44\314\344\230\253\150\73\73\70" +
+      "\24\21\56\374\142\132\151\113\16\203\162\122" +
+      "\120\322\74\33\132\243\43\35\162\345\22\142" +
+      "\234\77\323\375\102\275\332\237\360\162\64\106" +
+      "\336\362\172\240\365\373\151\42\124\117\121\234" +
+      "\216\47\16\24\211\163\46\353\265\101\123\323" +
+      "\146\7\174\36\320\51\214\103\173\326\7\111" +
+      "\352\2\324\151\171\357\74\271\10\6\340\317" +
+      "\262\262\131\275\175\50\204\251\112\41\332\203" +
+      "\360\311\272\144\3\161\163\237\172\327\125\177" +
+      "\143\100\364\366\67\66\62\100\17\214\367\31" +
+      "\225\243\67\143\114\320\372\266\321\11\55\225" +
+      "\376\225\146\126\145\206\47\303\255\323\200\223" +
+      "\240\312\7\23\253\215\371\120\327\110\352\254" +
+      "\20\213\166\266\341\41\64\375\230\320\372\366" +
+      "\335\102\263\44\367\111\340\62\13\164\251\130" +
+      "\67\106\21\232\221\170\315\275\51\15\110\12" +
+      "\220\260\346\157\0\321\12\34\337\43\135\313" +
+      "\100\340\317\316\355\152\12\344\202\37\375\327" +
+      "\346\254\140\354\240\163\104\163\276\351\56\220" +
+      "\127\325\354\102\176\322\262\105\174\155\11\225";
+
+  private static final String TABLE_PACKED_42 =
+      "\314\117\105\344\153\375\135\346\200\263\300\174" +
+      "\277\247\246\330\52\112\31\41\146\357\373\211" +
+      "\320\302\235\375\140\353\300\114\306\44\116\207" +
+      "\44\303\262\116\236\164\267\20\331\202\111\125" +
+      "\252\242\4\126\222\255\236\304\143\273\205\247" +
+      "\206\342\345\253\244\317\237\312\134\232\322\42" +
+      "\302\302\202\321\64\221\176\251\142\3\54\74" +
+      "\43\124\304\220\315\252\231\237\64\24\213\115" +
+      "\72\347\31\126\170\335\135\346\72\21\332\115" +
+      "\307\373\302\70\217\122\230\3\134\146\103\63" +
+      "\256\147\260\150\61\242\256\66\334\232\145\300" +
+      "\336\241\131\325\107\262\43\322\122\75\24\133" +
+      "\321\376\337\263\106\336\264\354\5\107\1\355" +
+      "\254\35\223\160\65\35\151\260\113\42\147\115" +
+      "\141\135\146\232\25\114\17\263\353\232\23\336" +
+      "\116\44\264\165\246\340\315\324\16\157\115\211" +
+      "\256\126\253\32\104\234\25\64\345\205\377\101" +
+      "\172\376\230\162\231\220\240\244\367\44\165\111" +
+      "\364\253\345\30\22\275\2\114\173\376\352\24" +
+      "\140\302\104\102\127\41\164\10\105\221\207\17" +
+      "\250\214\165\174\101\75\321\236\334\127\6\101" +
+      "\240\163\32\34\226\112\300\211\216\232\376\273" +
+      "\116\21\234\376\220\342\202\203\173\61\120\204" +
+      "\42\73\57\30\322\202\271\237\163\225\236\155" +
+      "\277\304\126\251\366\25\370\262\103\121\137\277" +
+      "\14\256\7\52\346\7\241\334\265\202\101\201" +
+      "\212\161\137\267\60\340\244\202\126\356\51\352" +
+      "\33\140\130\232\350\374\115\53\334\35\173\175" +
+      "\166\177\344\360\67\253\0\206\1\123\320\55" +
+      "\342\144\317\313\116\63\320\50\226\116\100\57" +
+      "\44\153\56\373\15\177\23\350\345\133\6\25" +
+      "\361\133\243\307\142\1\11\306\305\271\106\123" +
+      "\177\61\114\323\330\253\331\4\224\156\11\266" +
+      "\20\54\167\316\300\240\213\0\207\360\10\11" +
+      "\111\71\247\4\253\261\373\37\30\46\355\344" +
+      "\166\307\51\172\360\22\227\41\176\213\301\354" +
+      "\100\176\66\362\342\124\72\37\16\247\235\353" +
+      "\244\135\176\376\251\64\315\175\160\122\260\121" +
+      "\251\264\247\25\13\156\113\336\177\116\61\233" +
+      "\42\75\7\115\204\336\135\317\7\111\167\360" +
+      "\5\367\325\351\204\2\22\303\110\356\135\176" +
+      "\226\172\40\123\74\265\255\355\126\365\153\233" +
+      "\362\46\143\171\330\77\200\41\242\251\120\127" +
+      "\364\335\114\205\363\106\72\75\176\162\321\103" +
+      "\305\301\146\27\235\273\251\20\206\213\222\315" +
+      "\142\125\213\66\217\65\330\201\25\331\40\224" +
+      "\75\126\364\157\43\51\166\40\7\107\234\137" +
+      "\143\355\265\344\204\321\202\15\57\130\206\72" +
+      "\76\233\136\222\335\63\326\27\210\25\23\53" +
+      "\375\136\241\252\262\321\61\55\260\56\260\356" +
+      "\35\140\156\127\227\36\321\12\251\126\165\333" +
+      "\154\62\54\74\264\171\311\322\334\352\101\310" +
+      "\355\341\127\167\307\27\154\206\16\310\2\131" +
+      "\337\212\171\264\364\371\374\241\107\327\160\351" +
+      "\252\361\356\7\54\115\367\27\224\356\26\122" +
+      "\35\204\300\314\135\125\222\144\141\352\71\311" +
+      "\52\366\42\24\55\302\303\13\55\260\227\37" +
+      "\31\2\100\362\6\141\73\105\111\163\35\71" +
+      "\142\42\150\50\360\342\30\371\354\304\124\52" +
+      "\115\377\240\321\203\345\267\222\255\105\227\116" +
+      "\362\105\203\45\235\323\110\351\203\336\370\175" +
+      "\53\11\20\105\272\35\211\211\107\50\157\263" +
+      "\224\226\371\251\306\224\340\206\24\344\325\61" +
+      "\253\120\130\155\127\330\374\151\263\61\242\216" +
+      "\52\21\245\365\2\130\4\267\314\256\111\305" +
+      "\52\102\160\132\63\234\306\254\325\364\15\347" +
+      "\250\205\252\144\45\26\134\153\67\337\137\36" +
+      "\242\335\10\172\356\366\157\252\276\145\136\121" +
+      "\362\274\143\335\7\63\164\301\342\324\243\75" +
+      "\1\1\340\272\363\147\326\276\123\365\337\57" +
+      "\164\146\224\230\123\366\223\173\50\17\65\300" +
+      "\76\341\347\32\22\350\200\41\360\72\32\367" +
+      "\347\60\234\225\323\57\111\242\3\223\33\26" +
+      "\124\163\266\32\244\306\20\16\367\124\340\244" +
+      "\241\170\103\364\121\15\344\320\232\115\367\173" +
+      "\250\142\145\135\140\163\332\127\355\234\234\151" +
+      "\146\1\166\256\125\27\40\276\73\162\364\145" +
+      "\225\62\173\7\304\357\15\33\43\347\344\322" +
+      "\70\317\276\250\246\332\52\117\156\236\33\2" +
+      "\256\71\373\310\55\173\53\307\361\125\263\350" +
+      "\72\24\24\134\250\124\225\176\243\104\106\351" +
+      "\130\165\360\52\145\67\350\265\242\103\26\371" +
+      "\21\142\73\66\363\153\120\373\326\46\71\362" +
+      "\246\100\204\2\2\104\46\271\266\315\266\160" +
+      "\352\321\172\220\6\316\133\64\231\6\331\323" +
+      "\303\361\137\231\325\217\63\37\104\17\225\331" +
+      "\77\175\315\104\133\107\12\121\265\227\111\201" +
+      "\66\267\265\255\363\274\277\63\166\333\67\15" +
+      "\127\327\76\136\36\163\207\121\0\262\277\145" +
+      "\353\241\113\357\132\36\177\300\313\61\102\4" +
+      "\2\330\335\257\217\236\335\51\205\341\20\111" +
+      "\63\102\303\217\76\273\341\51\14\131\312\204" +
+      "\261\311\351\310\115\51\102\355\114\54\232\300" +
+      "\250\125\246\107\57\343\161\310\250\310\152\167" +
+      "\163\147\336\213\25\174\212\1\224\263\30\350" +
+      "\200\320\376\37\346\113\236\163\153\306\0\105" +
+      "\176\342\133\43\200\275\211\256\261\66\226\343" +
+      "\62\150\364\377\67\151\61\275\174\13\21\236" +
+      "\224\244\17\352\72\77\364\305\326\157\366\23" +
+      "\231\245\215\41\10\200\15\223\201\114\275\243";
+
+  private static final String TABLE_PACKED_43 =
+      "\230\12\331\337\327\211\255\343\271\265\214\332" +
+      "\246\222\25\330\200\241\351\76\357\104\302\11" +
+      "\351\174\153\376\45\171\215\76\306\47\210\215" +
+      "\367\257\25\64\371\71\330\251\130\221\102\174" +
+      "\156\236\166\303\35\0\262\365\27\353\157\67" +
+      "\313\242\42\177\152\222\176\154\142\156\16\141" +
+      "\220\254\344\66\244\341\21\66\312\331\363\272" +
+      "\174\267\263\42\320\245\6\274\22\316\173\314" +
+      "\264\56\210\21\22\157\10\222\317\153\235\310" +
+      "\376\206\242\54\303\125\353\225\31\152\300\112" +
+      "\203\351\272\273\305\263\341\355\44\70\376\274" +
+      "\304\134\316\5\40\32\215\77\327\0\155\325" +
+      "\314\365\156\63\0\151\244\142\326\52\134\264" +
+      "\305\372\312\167\361\227\307\41\162\140\371\164" +
+      "\256\5\63\200\367\353\62\257\60\162\163\153" +
+      "\305\326\170\123\125\226\17\41\60\16\133\362" +
+      "\212\131\310\127\234\14\16\106\320\241\20\54" +
+      "\212\206\162\40\367\374\140\5\361\372\232\156" +
+      "\204\223\44\236\310\264\345\267\121\51\346\217" +
+      "\30\350\6\251\315\107\105\55\302\52\120\55" +
+      "\240\376\0\124\227\24\336\305\206\246\307\365" +
+      "\245\141\231\326\44\355\316\377\145\24\233\220" +
+      "\125\302\111\327\370\234\271\227\30\255\75\167" +
+      "\234\137\26\207\205\47\13\305\45\230\237\2" +
+      "\311\275\364\163\116\207\261\340\312\201\147\72" +
+      "\315\231\223\301\125\40\61\130\321\327\74\252" +
+      "\205\327\256\46\267\230\215\34\234\324\350\325" +
+      "\176\147\105\132\15\247\366\143\105\147\23\251" +
+      "\76\362\271\324\53\365\242\120\252\77\104\23" +
+      "\120\137\137\174\363\24\152\136\206\122\314\77" +
+      "\120\362\216\120\262\72\173\354\374\110\243\252" +
+      "\131\72\52\252\334\122\150\153\217\312\70\246" +
+      "\24\265\353\320\46\355\142\274\137\340\22\246" +
+      "\304\137\241\147\324\256\241\306\150\122\363\310" +
+      "\33\323\201\226\65\202\321\321\165\156\160\331" +
+      "\146\255\35\214\257\334\346\270\213\210\212\26" +
+      "\221\115\23\364\111\203\350\5\2\347\174\274" +
+      "\72\51\246\33\73\260\62\231\216\217\312\220" +
+      "\102\17\132\370\264\273\312\67\176\176\223\124" +
+      "\271\204\246\137\60\55\156\176\313\143\114\165" +
+      "\344\366\267\101\211\217\115\113\121\240\353\175" +
+      "\55\226\244\225\155\117\122\40\237\321\332\144" +
+      "\76\323\130\37\306\363\243\210\155\333\241\7" +
+      "\333\140\134\250\13\262\60\62\56\4\247\270" +
+      "\375\170\231\255\103\236\214\206\121\267\323\233" +
+      "\235\375\134\244\357\14\165\147\310\35\250\237" +
+      "\272\220\211\262\336\126\242\220\252\226\155\146" +
+      "\111\230\102\346\104\242\146\73\120\44\34\214" +
+      "\216\130\55\161\300\207\201\241\4\120\103\250" +
+      "\100\266\154\334\4\115\17\144\176\237\124\52" +
+      "\131\62\60\304\370\366\32\330\134\377\211\334" +
+      "\133\103\247\303\125\331\332\207\257\371\50\227" +
+      "\364\146\12\122\371\46\121\111\236\11\317\364" +
+      "\373\222\77\316\256\342\356\21\3\272\107\10" +
+      "\161\60\104\263\153\6\153\332\170\76\310\65" +
+      "\313\157\77\70\74\340\370\110\55\315\272\215" +
+      "\107\270\150\177\237\224\46\272\326\46\33\202" +
+      "\0\122\202\142\141\125\202\374\313\56\101\73" +
+      "\127\300\255\63\202\20\141\134\277\220\57\307" +
+      "\371\172\376\272\321\6\54\364\340\313\363\110" +
+      "\125\260\136\123\36\146\354\157\274\107\162\176" +
+      "\154\327\331\332\133\212\342\61\310\215\67\41" +
+      "\142\166\263\352\200\43\141\202\222\20\270\156" +
+      "\373\323\354\212\230\264\260\142\141\202\76\146" +
+      "\133\10\336\345\243\137\312\32\202\256\175\220" +
+      "\266\373\21\245\200\150\176\254\245\223\75\113" +
+      "\220\222\65\266\221\201\32\143\155\176\3\113" +
+      "\132\21\231\175\77\162\165\217\134\107\3\376" +
+      "\66\64\323\245\262\224\376\106\47\201\64\301" +
+      "\112\215\363\2\360\70\71\16\333\335\100\143" +
+      "\305\267\164\213\107\251\361\5\331\376\243\155" +
+      "\142\220\361\74\265\66\234\44\171\162\321\204" +
+      "\307\355\160\147\170\63\250\61\350\327\7\115" +
+      "\272\157\211\324\343\120\43\274\100\56\242\263" +
+      "\322\153\240\365\240\15\200\373\364\113\162\131" +
+      "\254\157\261\175\344\226\161\315\367\157\346\205" +
+      "\200\134\45\370\155\246\70\171\14\53\136\40" +
+      "\60\206\155\25\153\60\305\223\357\176\223\125" +
+      "\125\207\136\215\324\342\33\34\240\140\364\274" +
+      "\157\262\157\36\170\104\46\222\200\34\75\100" +
+      "\274\300\161\46\330\172\66\307\334\121\40\120" +
+      "\217\366\325\17\5\135\373\1\141\223\361\167" +
+      "\27\355\144\335\177\4\117\212\102\223\13\16" +
+      "\213\344\261\177\146\365\230\113\304\225\312\144" +
+      "\24\320\44\116\215\334\13\342\12\10\36\231" +
+      "\131\157\362\237\344\6\266\144\11\316\277\174" +
+      "\227\115\33\177\230\173\233\353\300\214\23\42" +
+      "\342\2\327\310\126\20\42\116\175\153\1\145" +
+      "\121\0\254\135\255\6\315\126\127\2\102\100" +
+      "\47\215\365\365\307\322\337\60\11\257\16\34" +
+      "\255\44\152\146\365\176\122\16\331\103\27\277" +
+      "\147\161\255\231\125\174\360\317\15\114\154\235" +
+      "\135\106\171\255\222\226\230\16\245\32\145\104" +
+      "\363\61\247\241\74\177\54\23\327\24\264\103" +
+      "\252\236\217\251\232\333\307\361\27\50\5\225" +
+      "\103\226\175\201\165\121\37\232\225\357\106\105" +
+      "\360\335\262\21\211\262\130\60\312\353\41\352" +
+      "\61\123\42\317\314\346\341\253\265\107\326\242" +
+      "\362\321\260\203\127\361\301\267\61\345\145\361" +
+      "\225\116\265\160\122\20\256\57\160\232\20\104";
+
+  private static final String TABLE_PACKED_44 =
+      "\17\222\222\372\234\170\321\301\217\122\306\130" +
+      "\251\200\345\335\273\311\366\135\22\326\32\323" +
+      "\47\175\56\17\173\361\134\377\177\34\63\157" +
+      "\110\213\200\153\51\244\151\304\262\305\121\103" +
+      "\330\156\334\151\372\326\55\313\110\36\157\327" +
+      "\157\276\36\232\44\51\376\55\250\105\363\304" +
+      "\374\121\262\257\66\330\175\15\221\111\114\257" +
+      "\166\242\131\261\27\230\14\63\377\316\217\323" +
+      "\361\235\121\301\7\314\304\276\340\254\141\267" +
+      "\26\327\113\265\106\137\56\267\342\243\321\77" +
+      "\135\135\332\231\77\10\143\352\145\246\376\246" +
+      "\117\22\52\150\10\62\263\224\323\155\46\216" +
+      "\200\162\336\74\362\136\311\72\334\35\137\73" +
+      "\341\207\116\261\274\23\246\245\215\173\353\247" +
+      "\24\312\321\42\263\212\113\364\17\226\332\151" +
+      "\37\264\166\364\214\246\177\133\323\1\170\307" +
+      "\302\51\245\136\43\312\137\45\255\14\222\103" +
+      "\32\350\35\67\340\161\304\53\25\134\341\30" +
+      "\12\316\257\312\112\350\150\3\267\160\43\3" +
+      "\110\20\16\142\335\121\264\346\164\130\236\24" +
+      "\247\164\351\142\257\25\140\25\110\216\121\166" +
+      "\300\215\304\221\2\302\257\3\260\53\240\273" +
+      "\76\212\246\52\313\270\116\361\62\162\227\374" +
+      "\3\202\151\335\125\247\314\73\245\3\1\24" +
+      "\350\226\377\263\274\152\136\107\221\317\143\177" +
+      "\176\115\323\120\126\132\363\360\313\312\277\21" +
+      "\357\230\254\320\54\13\115\36\364\164\113\372" +
+      "\271\347\115\244\217\252\152\133\372\25\266\316" +
+      "\367\233\146\300\12\333\327\141\52\313\273\71" +
+      "\371\253\33\324\144\54\313\40\54\162\11\63" +
+      "\224\367\77\270\55\4\246\227\153\171\151\65" +
+      "\350\35\260\75\177\160\345\271\42\216\210\135" +
+      "\323\227\363\364\243\327\362\377\101\312\276\363" +
+      "\250\377\145\12\153\375\54\224\10\73\245\41" +
+      "\341\53\154\277\266\57\172\44\202\354\5\74" +
+      "\46\274\377\306\273\154\152\234\22\244\222\343" +
+      "\33\237\176\342\354\222\226\114\276\26\25\172" +
+      "\342\56\325\210\10\354\31\363\227\137\37\100" +
+      "\50\105\330\241\207\22\347\117\145\267\310\301" +
+      "\355\104\310\260\315\51\172\141\11\5\71\172" +
+      "\252\137\102\121\124\324\137\32\207\314\371\230" +
+      "\264\55\162\157\243\30\77\13\205\355\106\306" +
+      "\375\366\305\201\77\207\241\131\257\271\133\11" +
+      "\377\245\15\310\342\155\374\163\372\57\170\306" +
+      "\74\35\120\26\146\134\372\7\206\47\324\262" +
+      "\341\205\332\134\223\256\274\255\332\60\372\264" +
+      "\35\110\233\304\75\23\365\133\320\305\40\333" +
+      "\361\361\236\30\225\147\212\43\305\257\366\63" +
+      "\171\213\145\233\63\311\331\32\6\243\261\57" +
+      "\356\251\305\326\133\26\163\70\122\164\344\212" +
+      "\272\233\311\102\172\201\71\60\344\160\376\347" +
+      "\145\141\116\305\2\246\331\267\21\135\220\353" +
+      "\342\246\112\311\213\205\103\202\47\322\140\102" +
+      "\214\345\75\41\125\326\207\336\151\216\155\345" +
+      "\57\111\56\261\377\52\210\175\351\323\117\12" +
+      "\162\247\120\217\101\340\121\357\171\232\147\33" +
+      "\37\33\2\175\74\346\145\164\163\176\301\64" +
+      "\161\7\171\55\0\3\257\175\131\31\15\350" +
+      "\146\225\334\164\151\117\4\157\257\73\166\360" +
+      "\134\11\316\115\165\315\320\254\5\323\172\321" +
+      "\246\160\67\11\250\140\216\111\155\252\147\273" +
+      "\137\344\316\320\244\311\320\104\110\215\305\303" +
+      "\11\223\71\267\325\360\25\115\132\356\154\216" +
+      "\345\166\245\351\225\221\273\135\134\54\355\131" +
+      "\40\204\113\224\271\131\211\134\221\50\47\326" +
+      "\231\135\335\323\7\74\22\101\133\123\252\233" +
+      "\324\334\124\161\207\103\135\41\176\36\200\153" +
+      "\234\67\323\355\330\264\40\276\206\254\223\151" +
+      "\352\200\24\154\205\325\344\44\354\1\112\220" +
+      "\13\212\225\36\316\226\63\264\21\323\76\246" +
+      "\4\102\157\36\53\151\305\50\104\176\37\172" +
+      "\76\220\231\163\202\216\120\161\36\0\176\217" +
+      "\351\207\331\35\0\327\114\247\44\345\106\0" +
+      "\6\366\127\264\41\14\52\25\313\320\151\157" +
+      "\325\100\51\355\41\140\153\55\212\230\13\224" +
+      "\5\36\142\134\310\244\114\116\61\370\273\5" +
+      "\106\256\342\115\34\221\64\351\224\366\127\174" +
+      "\233\132\374\47\344\202\350\147\334\50\153\140" +
+      "\143\151\126\135\54\152\343\6\327\267\232\362" +
+      "\313\5\363\223\74\360\231\170\145\372\171\122" +
+      "\12\323\231\107\353\110\64\1\327\313\45\203" +
+      "\351\244\102\56\164\224\25\145\302\333\232\31" +
+      "\30\157\160\336\50\363\330\256\320\162\215\214" +
+      "\344\17\21\126\274\75\162\312\60\110\254\22" +
+      "\76\371\25\130\50\352\27\303\310\155\200\367" +
+      "\372\32\313\215\75\316\145\30\240\143\326\361" +
+      "\264\164\222\12\377\20\226\342\75\172\313\302" +
+      "\5\121\371\30\131\373\351\130\205\110\147\340" +
+      "\32\40\40\35\214\305\10\152\324\142\267\111" +
+      "\13\377\277\114\171\345\363\25\137\104\340\255" +
+      "\6\116\123\301\2\365\74\320\147\3\1\226" +
+      "\377\330\173\142\305\336\301\17\374\311\45\30" +
+      "\245\316\212\275\101\1\166\142\210\164\375\44" +
+      "\227\315\367\265\300\61\233\336\255\20\342\217" +
+      "\340\172\356\237\125\14\73\62\217\10\240\116" +
+      "\244\46\77\47\10\176\335\331\357\276\45\341" +
+      "\365\57\352\255\343\203\176\153\153\250\355\256" +
+      "\301\214\126\332\250\147\236\233\30\275\155\61" +
+      "\36\266\312\63\122\113\244\310\332\76\55\164" +
+      "\152\24\250\330\224\143\124\274\257\275\335\114";
+
+  private static final String TABLE_PACKED_45 =
+      "\314\322\207\22\57\216\172\141\11\363\113\246" +
+      "\300\151\153\104\250\273\2\111\133\361\107\344" +
+      "\112\47\46\246\67\204\274\127\200\374\361\102" +
+      "\115\216\23\52\167\161\117\157\250\37\62\17" +
+      "\354\0\216\302\252\27\275\255\364\343\343\64" +
+      "\365\34\63\360\364\265\114\21\147\252\30\171" +
+      "\351\1\365\371\261\111\333\206\102\153\217\167" +
+      "\67\307\222\306\74\107\157\215\260\51\66\356" +
+      "\35\156\136\103\176\35\242\123\257\321\373\344" +
+      "\131\234\42\344\15\151\43\127\336\126\257\5" +
+      "\305\140\364\144\135\342\112\166\233\31\166\115" +
+      "\252\221\215\241\152\72\70\5\350\130\27\366" +
+      "\273\66\321\103\102\325\6\5\113\40\5\255" +
+      "\33\205\235\63\335\124\252\157\13\50\232\330" +
+      "\136\133\256\254\333\151\121\227\241\335\311\317" +
+      "\336\333\250\122\100\332\317\70\372\372\222\132" +
+      "\57\362\106\216\221\272\174\42\147\121\171\47" +
+      "\330\354\270\363\135\217\263\43\32\154\221\317" +
+      "\54\126\300\41\252\145\41\347\366\70\1\63" +
+      "\352\60\161\212\363\302\357\225\327\64\360\241" +
+      "\147\35\355\257\12\74\336\340\307\331\22\62" +
+      "\344\232\111\260\76\145\64\105\270\136\64\10" +
+      "\11\204\145\247\323\163\224\357\262\4\371\262" +
+      "\172\30\264\174\166\215\5\277\56\77\155\67" +
+      "\46\213\343\313\130\310\344\1\170\43\155\360" +
+      "\47\110\166\136\151\6\76\153\50\367\143\114" +
+      "\220\131\303\22\225\124\316\230\355\130\171\3" +
+      "\243\111\256\45\50\246\355\14\72\313\244\44" +
+      "\257\67\367\140\123\342\226\234\315\246\364\55" +
+      "\153\316\346\30\332\336\112\242\114\31\345\253" +
+      "\302\122\46\155\260\317\141\207\172\152\266\262" +
+      "\350\351\162\157\11\333\250\367\1\257\46\107" +
+      "\73\17\141\275\33\301\20\265\373\120\376\203" +
+      "\76\165\114\301\340\274\337\66\320\134\7\334" +
+      "\63\217\26\367\357\342\176\372\123\335\132\355" +
+      "\120\275\234\241\54\312\356\42\43\121\72\162" +
+      "\321\210\171\65\366\15\227\370\370\56\173\25" +
+      "\132\51\2\142\161\352\57\314\317\271\104\32" +
+      "\302\323\174\145\355\346\214\37\305\324\204\56" +
+      "\261\237\143\340\217\370\67\265\12\115\153\64" +
+      "\201\347\204\170\106\46\346\55\17\137\140\162" +
+      "\163\265\126\231\141\251\276\350\56\13\254\54" +
+      "\253\331\352\160\230\177\24\205\165\122\377\321" +
+      "\221\12\111\215\156\316\113\127\313\141\320\336" +
+      "\156\223\203\250\213\271\272\264\0\24\72\270" +
+      "\257\46\204\66\313\51\30\344\106\241\236\54" +
+      "\0\355\263\217\232\366\162\166\100\134\275\67" +
+      "\226\34\250\131\240\214\54\210\142\134\161\42" +
+      "\113\25\23\347\264\24\345\247\302\341\364\264" +
+      "\337\174\230\265\111\360\177\100\256\123\223\44" +
+      "\331\75\307\14\52\6\322\111\43\26\141\10" +
+      "\14\2\251\32\130\125\350\54\224\151\350\361" +
+      "\53\370\314\26\365\47\53\105\355\145\41\264" +
+      "\326\243\346\304\71\3\106\342\255\160\154\370" +
+      "\343\331\320\13\176\27\205\341\224\70\35\376" +
+      "\37\123\250\147\130\256\372\1\377\315\11\247" +
+      "\144\226\175\112\366\115\255\104\175\315\273\344" +
+      "\54\237\165\205\346\106\305\232\307\62\131\274" +
+      "\372\23\333\266\272\317\201\273\34\52\366\75" +
+      "\310\377\152\174\353\0\156\105\333\102\343\231" +
+      "\212\217\343\166\234\30\242\364\62\43\125\23" +
+      "\207\177\100\220\311\11\117\324\133\237\203\200" +
+      "\301\263\77\171\145\144\126\375\75\201\303\125" +
+      "\177\262\376\107\163\352\123\220\163\362\322\171" +
+      "\331\206\171\256\151\36\260\132\370\22\130\3" +
+      "\367\362\310\144\173\51\125\335\245\347\364\157" +
+      "\132\214\374\336\75\303\374\247\363\271\132\117" +
+      "\65\253\102\22\300\24\76\251\351\335\3\363" +
+      "\372\75\345\274\325\24\127\203\377\55\244\237" +
+      "\341\255\101\101\327\173\302\134\341\27\145\313" +
+      "\127\245\121\73\146\351\313\75\136\337\261\25" +
+      "\245\132\165\0\57\211\147\116\370\16\13\314" +
+      "\24\363\344\144\274\34\63\146\222\245\213\24" +
+      "\267\222\276\22\262\154\242\352\103\140\364\314" +
+      "\305\335\43\132\373\323\155\33\251\171\204\265" +
+      "\15\271\127\241\115\100\236\256\267\243\305\357" +
+      "\256\55\56\353\371\364\6\144\11\43\377\13" +
+      "\27\131\134\210\113\2\43\75\130\134\332\71" +
+      "\155\377\173\271\24\66\147\335\171\233\201\312" +
+      "\347\300\264\324\217\335\355\225\362\44\44\62" +
+      "\233\116\360\300\261\0\133\17\25\366\37\314" +
+      "\341\202\200\345\333\240\142\10\72\330\44\356" +
+      "\377\141\141\223\321\276\134\120\163\255\264\62" +
+      "\211\342\340\147\253\31\131\304\315\305\157\110" +
+      "\41\247\311\302\374\51\351\313\211\66\367\173" +
+      "\67\267\54\125\34\122\314\211\67\0\175\244" +
+      "\325\177\377\122\25\7\227\32\230\207\207\37" +
+      "\263\144\142\336\47\326\216\111\250\262\325\32" +
+      "\216\366\256\226\224\23\356\113\40\170\263\337" +
+      "\62\263\27\35\305\163\132\125\172\33\346\73" +
+      "\241\126\310\374\32\141\312\330\76\11\352\262" +
+      "\215\202\221\260\133\276\244\311\266\271\264\244" +
+      "\202\104\363\13\342\220\42\123\272\346\324\376" +
+      "\261\265\231\224\273\167\101\226\20\322\76\271" +
+      "\104\50\304\131\25\272\167\70\175\10\56\324" +
+      "\132\154\131\216\335\30\272\15\221\146\205\251" +
+      "\326\325\311\364\232\3\326\252\150\247\37\277" +
+      "\27\112\253\356\235\177\42\302\165\220\220\142" +
+      "\130\217\321\0\156\154\246\346\32\42\163\254" +
+      "\77\363\314\101\345\64\364\71\160\167\67\313";
+
+  private static final String TABLE_PACKED_46 =
+      "\143\353\322\117\172\235\171\17\234\121\167\23" +
+      "\114\73\133\241\164\301\103\300\124\306\7\136" +
+      "\155\211\306\25\60\57\143\220\176\304\363\272" +
+      "\73\160\141\265\127\316\47\124\230\301\57\372" +
+      "\277\252\134\241\17\210\336\102\12\162\303\257" +
+      "\275\104\267\351\320\341\136\365\277\212\335\370" +
+      "\136\100\5\354\232\333\20\153\331\237\34\274" +
+      "\361\336\222\335\132\375\27\151\173\26\331\43" +
+      "\316\201\310\303\275\244\304\322\15\275\314\160" +
+      "\375\215\270\33\254\232\36\154\6\333\115\356" +
+      "\54\52\12\175\346\262\346\305\360\350\302\2" +
+      "\342\12\350\221\17\173\156\355\304\216\362\11" +
+      "\2\176\30\151\320\161\316\333\2\163\262\314" +
+      "\1\77\324\154\373\331\261\376\123\124\266\244" +
+      "\67\55\152\372\344\21\242\247\231\175\155\57" +
+      "\255\17\133\241\161\256\162\14\333\274\130\161" +
+      "\157\260\143\147\142\63\316\12\13\54\256\152" +
+      "\117\376\241\77\220\241\362\47\15\73\145\54" +
+      "\125\106\50\300\16\110\117\253\177\272\230\25" +
+      "\102\352\314\260\215\44\247\26\5\200\337\256" +
+      "\21\372\371\20\312\117\32\210\43\226\7\255" +
+      "\16\157\256\210\25\1\144\123\225\242\220\165" +
+      "\157\72\150\307\251\272\267\344\45\53\360\112" +
+      "\304\62\175\145\251\36\355\334\41\142\250\332" +
+      "\211\101\252\17\150\246\202\311\365\237\32\160" +
+      "\24\136\260\233\34\165\367\175\33\76\101\41" +
+      "\170\367\104\66\370\53\307\45\301\131\157\321" +
+      "\237\60\50\7\262\206\100\322\102\114\74\62" +
+      "\105\32\227\10\362\61\373\213\52\35\333\306" +
+      "\374\204\303\214\345\214\51\261\112\317\204\302" +
+      "\276\41\203\135\125\263\145\364\114\225\303\61" +
+      "\232\54\306\33\201\314\157\107\231\210\203\12" +
+      "\210\321\305\122\245\264\201\76\211\32\50\272" +
+      "\175\165\233\336\63\66\27\160\227\244\313\265" +
+      "\244\361\140\170\253\307\335\376\134\43\4\27" +
+      "\330\314\344\326\156\35\107\212\117\373\353\61" +
+      "\37\63\311\320\121\241\106\23\100\120\130\51" +
+      "\170\214\6\306\235\373\240\335\360\344\222\34" +
+      "\157\36\336\233\107\10\100\170\173\276\213\100" +
+      "\207\136\264\41\126\62\251\357\330\200\122\301" +
+      "\342\247\235\201\314\214\34\140\111\364\137\126" +
+      "\244\147\134\172\336\212\145\243\144\250\72\211" +
+      "\122\234\270\237\210\310\232\236\20\170\105\117" +
+      "\243\302\147\35\65\7\30\164\113\117\237\203" +
+      "\252\121\126\160\212\271\140\224\201\70\2\276" +
+      "\164\20\52\71\25\246\131\171\364\35\214\336" +
+      "\340\211\276\26\246\340\371\240\51\131\244\345" +
+      "\377\132\3\250\341\370\41\3\166\212\67\227" +
+      "\166\361\222\30\330\371\341\175\17\74\33\117" +
+      "\314\71\70\104\340\174\12\77\254\162\301\234" +
+      "\50\43\367\317\243\330\166\345\221\371\31\0" +
+      "\136\323\130\32\252\200\12\14\120\142\376\321" +
+      "\61\14\107\224\23\50\11\114\151\326\365\312" +
+      "\314\22\300\137\20\241\127\307\305\255\227\147" +
+      "\167\42\263\121\54\103\311\120\243\370\5\126" +
+      "\34\27\73\303\254\307\14\16\32\272\304\250" +
+      "\74\273\73\341\345\67\372\120\260\361\52\304" +
+      "\231\225\235\122\226\10\30\120\135\11\47\307" +
+      "\134\341\143\255\157\63\311\12\24\73\254\373" +
+      "\341\5\151\244\2\126\346\131\303\52\124\121" +
+      "\101\251\44\366\221\111\362\110\70\216\12\66" +
+      "\22\43\340\226\354\221\375\73\372\225\203\240" +
+      "\76\375\23\237\127\175\34\125\166\157\324\222" +
+      "\176\13\13\47\344\305\240\327\57\357\365\305" +
+      "\107\16\35\32\265\301\0\104\102\167\301\353" +
+      "\27\334\130\64\325\351\374\301\0\205\231\112" +
+      "\0\66\306\207\362\275\147\136\76\41\245\231" +
+      "\110\327\310\114\21\114\225\57\376\47\123\256" +
+      "\24\135\61\320\341\324\355\300\312\45\171\354" +
+      "\152\356\171\222\152\264\370\120\145\326\75\273" +
+      "\376\360\102\26\155\316\75\364\46\311\13\111" +
+      "\361\247\350\202\55\47\375\175\373\314\172\137" +
+      "\340\244\70\122\10\102\273\51\107\34\234\233" +
+      "\241\16\310\166\231\114\323\163\244\334\261\242" +
+      "\76\161\267\310\314\272\320\252\254\267\21\37" +
+      "\56\157\262\51\274\355\35\247\211\60\160\203" +
+      "\223\234\273\213\367\41\7\40\260\207\126\375" +
+      "\132\12\317\110\70\326\15\117\250\142\114\142" +
+      "\317\376\314\173\264\217\351\226\13\51\157\233" +
+      "\171\6\337\276\15\33\363\163\330\34\12\300" +
+      "\107\224\251\32\355\336\12\267\155\103\21\374" +
+      "\6\312\177\132\317\43\322\267\43\172\372\244" +
+      "\323\276\166\233\5\241\54\214\127\37\317\77" +
+      "\156\175\240\172\225\102\105\340\14\137\354\357" +
+      "\215\337\66\202\200\250\27\352\136\63\61\204" +
+      "\126\60\315\122\316\262\15\344\17\60\261\174" +
+      "\276\323\363\30\364\354\100\5\262\64\72\223" +
+      "\124\103\12\163\251\351\373\261\1\340\21\112" +
+      "\150\245\315\312\167\331\220\25\15\376\356\266" +
+      "\225\316\351\124\214\61\301\44\222\2\356\223" +
+      "\151\14\337\155\133\12\20\303\123\270\172\170" +
+      "\5\100\201\77\46\341\223\213\365\360\255\31" +
+      "\305\343\203\164\306\332\37\12\306\22\167\230" +
+      "\47\127\371\337\252\116\101\215\144\212\5\65" +
+      "\335\353\364\163\376\111\255\106\175\247\352\161" +
+      "\22\126\42\122\137\100\303\322\273\256\32\164" +
+      "\55\327\151\204\253\343\77\316\152\75\134\302" +
+      "\152\27\166\62\250\40\73\214\313\141\263\155" +
+      "\150\277\317\57\215\54\262\210\333\234\367\45" +
+      "\12\255\333\4\225\240\237\122\136\115\27\54";
+
+  private static final String TABLE_PACKED_47 =
+      "\236\157\6\27\242\252\110\52\21\300\300\44" +
+      "\1\26\360\202\37\204\375\330\236\255\254\302" +
+      "\364\0\4\141\366\341\225\375\112\351\327\15" +
+      "\350\7\363\126\43\30\217\123\157\265\147\16" +
+      "\336\264\163\177\354\70\357\45\266\44\27\16" +
+      "\164\334\41\27\367\367\367\0\134\126\32\141" +
+      "\31\233\207\127\3\236\30\167\105\75\350\255" +
+      "\50\215\336\271\246\215\374\320\155\341\121\240" +
+      "\161\146\34\164\170\1\356\13\102\270\114\303" +
+      "\317\32\127\322\36\74\242\202\325\75\244\373" +
+      "\0\346\207\67\270\47\244\263\163\365\363\226" +
+      "\60\370\24\313\352\17\113\62\14\216\310\145" +
+      "\116\341\167\32\251\263\300\70\160\376\110\175" +
+      "\221\172\144\236\2\124\320\340\303\150\167\354" +
+      "\127\316\36\76\316\337\67\325\252\7\224\330" +
+      "\4\47\215\221\124\36\171\170\262\312\21\374" +
+      "\166\332\206\320\373\337\163\141\110\54\230\260" +
+      "\70\11\255\362\42\25\14\327\372\76\42\341" +
+      "\160\333\223\130\24\106\331\324\302\310\176\352" +
+      "\70\1\346\353\254\164\274\334\142\143\210\242" +
+      "\307\275\367\325\44\201\320\41\272\121\332\362" +
+      "\237\326\167\215\266\4\373\77\257\57\35\122" +
+      "\215\266\176\160\303\62\100\325\66\26\53\17" +
+      "\345\375\353\64\264\357\74\15\131\47\371\21" +
+      "\31\276\220\173\275\260\41\144\21\226\157\166" +
+      "\36\133\272\331\346\102\21\46\67\374\76\165" +
+      "\201\250\121\155\321\270\266\212\343\364\346\171" +
+      "\64\132\300\25\106\225\20\2\76\74\232\120" +
+      "\146\15\106\332\1\312\150\336\332\272\126\113" +
+      "\205\13\353\314\117\271\153\264\376\162\161\173" +
+      "\353\310\1\177\322\72\13\203\215\203\217\37" +
+      "\141\112\304\330\225\7\2\110\104\226\326\110" +
+      "\347\60\75\54\3\235\227\276\337\230\362\227" +
+      "\51\205\60\113\257\307\347\143\213\260\0\362" +
+      "\353\325\53\342\371\316\121\317\223\322\31\166" +
+      "\322\156\77\215\373\155\34\360\2\216\341\166" +
+      "\363\240\242\5\323\65\27\265\231\206\354\112" +
+      "\64\7\215\76\51\142\162\170\5\253\62\77" +
+      "\41\255\330\246\215\320\36\321\332\141\373\64" +
+      "\275\160\311\213\143\264\76\234\317\57\41\270" +
+      "\224\347\235\122\111\206\263\34\70\134\15\253" +
+      "\126\123\163\121\333\224\212\264\321\45\353\4" +
+      "\251\102\157\247\150\55\357\63\117\320\377\376" +
+      "\34\224\262\75\126\217\173\354\106\367\375\72" +
+      "\227\101\210\50\31\232\311\5\176\110\252\54" +
+      "\115\377\345\255\141\261\361\311\364\323\342\372" +
+      "\145\257\73\51\246\247\211\312\137\300\274\162" +
+      "\246\227\230\263\70\250\73\302\131\111\120\155" +
+      "\350\326\16\243\10\167\224\330\311\137\32\13" +
+      "\75\330\16\51\120\10\246\106\273\255\347\233" +
+      "\247\361\345\150\332\220\167\300\135\53\364\273" +
+      "\227\37\343\151\67\135\1\252\74\113\55\344" +
+      "\263\67\250\174\25\63\306\373\304\347\61\331" +
+      "\233\111\46\135\112\270\350\303\134\277\206\360" +
+      "\61\4\215\120\60\25\320\47\364\146\152\234" +
+      "\126\13\352\252\146\11\35\16\142\121\65\271" +
+      "\233\270\204\146\117\346\311\166\225\321\355\25" +
+      "\127\107\225\321\160\55\345\63\237\136\114\160" +
+      "\131\225\17\142\317\143\77\4\166\246\314\12" +
+      "\160\313\57\72\51\11\237\350\74\42\145\375" +
+      "\102\121\57\65\72\316\143\11\154\245\66\77" +
+      "\242\152\367\270\63\100\277\200\163\267\131\223" +
+      "\22\254\241\4\77\36\257\41\317\23\205\310" +
+      "\331\144\223\276\224\153\31\114\217\7\31\363" +
+      "\203\170\141\30\255\117\142\74\361\312\202\20" +
+      "\374\146\102\344\332\324\360\350\301\264\367\217" +
+      "\20\72\235\151\271\374\313\101\363\150\362\325" +
+      "\112\366\256\176\147\52\34\256\203\63\363\312" +
+      "\274\40\302\204\147\3\103\56\74\221\316\370" +
+      "\176\155\105\225\150\61\142\143\210\362\176\151" +
+      "\172\30\45\133\2\241\144\102\24\141\32\315" +
+      "\44\273\127\65\12\276\370\65\325\274\376\47" +
+      "\356\160\173\321\367\333\334\344\147\114\2\35" +
+      "\322\210\250\116\14\313\315\144\17\274\205\245" +
+      "\120\355\134\155\65\375\314\333\337\33\155\264" +
+      "\240\101\230\141\344\1\277\144\264\115\40\160" +
+      "\342\264\42\320\322\251\105\27\315\216\103\146" +
+      "\254\10\225\144\107\30\42\275\70\156\236\264" +
+      "\315\227\334\167\154\0\275\166\364\315\115\316" +
+      "\266\215\33\140\131\155\65\104\215\220\155\140" +
+      "\154\211\154\366\66\227\360\30\331\177\216\152" +
+      "\242\152\66\21\255\65\0\173\41\111\73\335" +
+      "\270\34\332\56\74\111\201\223\353\373\166\34" +
+      "\321\351\303\363\124\341\341\2\151\327\27\2" +
+      "\103\162\214\344\311\242\247\235\210\221\241\204" +
+      "\320\320\216\311\14\204\254\157\161\163\204\376" +
+      "\203\140\374\17\0\304\45\36\44\307\300\250" +
+      "\203\37\334\337\235\343\331\270\5\220\321\122" +
+      "\264\326\216\307\42\233\6\360\336\210\66\130" +
+      "\133\1\154\153\211\144\60\127\151\362\233\222" +
+      "\346\151\110\303\251\20\167\64\164\2\144\344" +
+      "\61\170\76\7\15\7\237\163\17\45\270\144" +
+      "\41\322\11\103\345\164\122\27\357\253\203\263" +
+      "\200\233\364\355\120\356\377\376\340\102\353\353" +
+      "\125\370\227\146\260\311\255\300\251\62\255\260" +
+      "\32\130\355\222\151\151\165\216\376\235\24\275" +
+      "\214\257\332\303\140\242\35\341\160\236\232\277" +
+      "\244\306\142\132\121\54\330\310\200\62\250\50" +
+      "\230\264\136\142\17\321\350\352\151\361\303\73" +
+      "\141\325\23\217\376\171\337\225\165\310\23\154";
+
+  private static final String TABLE_PACKED_48 =
+      "\246\153\317\166\104\53\66\213\114\35\264\104" +
+      "\337\13\165\24\153\367\174\0\370\40\272\203" +
+      "\221\105\362\150\22\100\376\334\31\10\154\4" +
+      "\20\51\172\1\16\263\273\261\164\324\355\321" +
+      "\63\7\141\231\66\70\333\107\271\177\374\316" +
+      "\171\155\266\365\14\152\41\167\120\141\216\222" +
+      "\317\23\213\161\206\357\47\365\13\152\141\52" +
+      "\45\166\0\155\27\216\56\23\123\164\105\103" +
+      "\230\313\222\103\164\225\3\101\71\114\127\24" +
+      "\370\54\130\105\77\306\330\315\255\373\301\12" +
+      "\163\31\326\61\115\144\275\127\321\20\16\375" +
+      "\357\66\35\152\345\241\272\264\314\140\47\57" +
+      "\205\314\6\121\332\67\40\237\32\0\14\43" +
+      "\121\153\221\233\273\273\273\134\152\77\153\6" +
+      "\147\236\351\73\163\364\32\123\330\133\255\317" +
+      "\346\303\52\126\117\70\100\271\313\65\67\227" +
+      "\344\352\220\41\371\205\262\273\236\104\14\103" +
+      "\10\321\111\271\7\202\345\237\343\200\21\332" +
+      "\42\114\12\337\70\71\0\101\202\14\211\41" +
+      "\172\217\31\60\45\175\126\375\33\146\43\263" +
+      "\11\256\234\100\71\372\341\311\126\270\235\164" +
+      "\304\170\355\36\340\345\14\3\365\265\20\341" +
+      "\331\135\17\300\271\172\263\257\26\204\331\346" +
+      "\240\345\300\57\332\365\312\151\316\175\355\136" +
+      "\52\353\60\173\370\325\310\107\312\74\62\55" +
+      "\122\33\330\67\344\27\16\161\42\242\266\317" +
+      "\130\347\321\67\5\340\276\61\74\116\123\234" +
+      "\36\157\210\246\317\124\66\353\221\55\354\161" +
+      "\116\221\320\25\227\320\73\247\15\301\111\165" +
+      "\270\362\276\205\54\125\135\55\57\21\242\253" +
+      "\300\17\22\357\75\274\156\251\170\51\153\323" +
+      "\341\107\104\302\221\3\306\263\16\173\223\121" +
+      "\16\137\336\265\222\356\344\307\220\240\356\3" +
+      "\125\17\152\54\136\324\20\336\1\322\72\202" +
+      "\143\265\34\40\47\172\102\246\242\220\276\254" +
+      "\343\15\1\276\246\42\44\6\257\277\123\321" +
+      "\253\47\275\16\107\242\373\34\343\11\247\214" +
+      "\223\333\137\247\54\315\36\343\341\374\14\11" +
+      "\50\46\362\226\137\274\6\201\332\163\104\201" +
+      "\173\46\336\145\312\336\373\217\214\322\46\63" +
+      "\310\167\262\247\22\246\165\236\200\316\176\134" +
+      "\112\357\142\13\100\213\22\336\301\327\353\113" +
+      "\220\120\350\223\211\314\61\102\145\26\254\67" +
+      "\337\354\317\164\13\155\226\216\34\167\332\230" +
+      "\155\250\215\117\235\20\360\313\225\15\102\254" +
+      "\74\5\72\206\44\167\305\354\202\342\315\12" +
+      "\315\65\146\43\366\0\106\351\202\206\204\222" +
+      "\157\40\241\135\233\143\4\346\21\15\214\335" +
+      "\113\150\200\177\27\353\326\156\161\341\323\72" +
+      "\140\373\353\20\224\212\124\217\66\77\157\12" +
+      "\217\57\366\2\106\0\341\256\330\316\40\335" +
+      "\322\336\213\55\156\355\247\112\275\167\137\361" +
+      "\135\31\314\175\345\332\317\1\105\374\210\122" +
+      "\255\23\10\263\313\37\313\20\172\161\356\201" +
+      "\31\337\151\127\227\303\141\52\152\62\203\351" +
+      "\146\370\353\357\31\261\174\215\243\210\242\360" +
+      "\5\2\220\331\162\137\34\223\271\205\105\11" +
+      "\62\321\214\11\41\307\122\10\66\342\222\302" +
+      "\321\266\330\352\225\37\346\357\127\201\102\362" +
+      "\46\134\62\367\162\162\345\36\272\12\243\376" +
+      "\22\105\47\366\164\225\147\10\37\114\230\152" +
+      "\235\230\237\73\363\155\124\334\226\250\353\236" +
+      "\272\65\244\57\264\224\127\315\355\244\63\117" +
+      "\104\67\216\301\124\315\71\174\240\122\373\54" +
+      "\63\154\306\263\313\22\203\164\34\362\131\353" +
+      "\113\247\42\136\35\212\61\127\223\143\312\270" +
+      "\105\267\7\160\345\55\361\355\374\317\167\20" +
+      "\160\62\25\66\134\107\34\131\110\153\141\345" +
+      "\74\206\332\367\35\30\243\17\216\260\137\353" +
+      "\155\155\331\74\111\5\120\136\36\215\145\270" +
+      "\54\317\257\45\235\253\125\257\36\305\137\42" +
+      "\101\224\244\62\7\373\52\251\73\171\206\215" +
+      "\300\371\352\254\321\257\274\367\333\351\104\170" +
+      "\171\332\304\175\322\252\377\212\7\375\241\256" +
+      "\314\136\315\316\4\237\320\17\156\322\336\264" +
+      "\63\145\146\371\103\357\173\315\257\135\256\112" +
+      "\132\201\10\333\262\150\144\42\232\172\174\127" +
+      "\115\243\37\141\60\171\232\266\76\64\35\370" +
+      "\105\112\127\4\366\301\326\65\126\331\114\340" +
+      "\302\271\126\343\111\170\343\207\70\135\34\206" +
+      "\10\0\151\321\261\21\310\127\350\264\71\122" +
+      "\67\45\323\212\272\354\243\15\121\372\343\0" +
+      "\32\343\61\13\115\332\366\22\306\71\252\52" +
+      "\160\355\301\336\7\335\210\360\124\241\260\374" +
+      "\65\313\1\13\350\231\137\311\132\313\115\130" +
+      "\124\206\327\315\47\265\266\337\77\356\171\30" +
+      "\57\235\350\370\247\113\123\160\332\45\223\236" +
+      "\361\1\26\42\277\332\245\337\23\263\160\254" +
+      "\344\113\13\262\112\135\203\236\160\144\160\213" +
+      "\306\122\206\324\60\50\215\216\217\6\32\23" +
+      "\55\176\40\341\206\241\142\101\231\100\166\312" +
+      "\56\277\324\43\121\344\301\145\71\131\142\242" +
+      "\245\216\155\54\333\165\17\361\261\152\305\110" +
+      "\275\152\50\21\103\201\220\237\270\340\337\373" +
+      "\72\273\34\226\155\126\301\375\135\10\14\300" +
+      "\22\110\202\221\115\35\27\161\371\335\162\250" +
+      "\336\204\342\206\332\352\15\310\53\302\173\255" +
+      "\311\267\30\111\66\302\155\331\107\345\256\361" +
+      "\155\203\21\74\363\354\62\174\252\251\111\142" +
+      "\152\307\321\275\2\246\75\370\152\277\136\335";
+
+  private static final String TABLE_PACKED_49 =
+      "\177\241\150\104\142\274\243\43\220\27\112\311" +
+      "\30\342\132\350\306\241\143\144\57\231\41\247" +
+      "\366\376\313\140\66\351\354\3\177\143\331\307" +
+      "\321\270\275\73\61\375\212\340\334\263\321\271" +
+      "\225\171\53\141\344\222\260\176\344\160\346\260" +
+      "\125\213\107\225\206\41\231\332\51\247\202\221" +
+      "\116\16\365\103\236\232\322\275\226\252\104\140" +
+      "\271\325\2\102\322\267\324\67\25\324\35\210" +
+      "\120\254\131\301\277\370\100\323\166\101\137\266" +
+      "\40\106\246\154\2\110\243\317\244\220\332\20" +
+      "\111\236\254\240\35\32\52\150\67\233\4\36" +
+      "\275\41\266\355\34\226\173\256\214\36\37\140" +
+      "\64\233\42\322\154\160\374\301\102\141\250\140" +
+      "\343\330\334\175\316\317\207\226\0\14\133\154" +
+      "\101\216\20\355\214\245\103\307\311\344\341\351" +
+      "\250\224\167\233\252\373\362\27\21\220\212\24" +
+      "\65\24\366\70\11\146\120\60\150\111\377\334" +
+      "\12\56\143\23\32\306\373\216\275\323\62\341" +
+      "\315\314\360\210\63\26\312\336\326\145\263\321" +
+      "\7\110\164\324\42\76\342\133\351\224\24\246" +
+      "\245\107\137\125\264\67\174\170\300\152\64\45" +
+      "\253\364\42\324\301\337\65\366\317\341\117\252" +
+      "\356\77\223\124\146\320\366\206\256\226\206\16" +
+      "\55\344\140\175\375\346\3\134\274\263\325\40" +
+      "\353\303\325\277\24\347\224\43\116\267\13\352" +
+      "\226\324\271\166\154\177\376\135\307\67\35\60" +
+      "\161\356\135\360\256\307\302\31\302\5\150\313" +
+      "\131\206\220\346\353\300\256\62\51\153\201\357" +
+      "\337\372\204\143\267\56\230\126\133\307\314\174" +
+      "\16\101\103\20\215\74\270\106\365\170\52\60" +
+      "\221\241\356\176\102\350\362\42\201\143\130\140" +
+      "\302\114\145\301\101\212\351\230\46\12\50\124" +
+      "\54\255\45\276\127\150\16\227\300\130\53\30" +
+      "\42\152\350\320\320\125\364\372\174\65\333\36" +
+      "\143\14\7\307\150\266\316\376\326\126\257\144" +
+      "\116\124\253\135\203\341\166\257\367\265\312\225" +
+      "\34\52\170\62\116\326\324\23\12\145\103\150" +
+      "\152\117\362\233\167\334\300\253\1\113\101\252" +
+      "\211\45\44\202\343\10\200\4\252\220\131\177" +
+      "\154\340\152\126\144\273\12\250\126\334\127\245" +
+      "\112\373\377\163\222\176\47\221\70\370\266\320" +
+      "\101\7\356\237\351\326\172\163\363\61\4\247" +
+      "\330\325\216\262\305\136\154\132\100\27\123\133" +
+      "\11\141\246\224\140\111\173\340\321\266\51\362" +
+      "\250\223\241\12\160\77\340\147\67\72\375\10" +
+      "\44\236\66\320\12\212\156\370\333\360\20\364" +
+      "\56\210\342\24\102\117\1\306\262\247\336\377" +
+      "\133\264\237\267\146\317\147\71\143\210\300\366" +
+      "\370\11\117\205\52\60\15\306\252\36\246\212" +
+      "\306\251\332\355\170\151\154\363\250\200\272\63" +
+      "\343\374\235\250\225\255\250\251\116\365\4\140" +
+      "\73\270\305\374\75\57\212\60\240\142\256\173" +
+      "\34\42\323\133\32\107\343\317\241\21\204\376" +
+      "\347\46\363\62\261\341\163\3\342\275\136\264" +
+      "\247\103\357\64\61\120\131\33\232\125\145\5" +
+      "\362\115\257\44\177\273\163\242\15\170\264\123" +
+      "\373\301\47\100\206\360\41\272\260\10\161\332" +
+      "\337\173\245\67\146\157\50\127\304\141\150\57" +
+      "\271\35\300\355\213\154\116\337\112\252\362\200" +
+      "\10\123\14\240\76\243\355\111\230\3\36\41" +
+      "\367\273\150\61\230\52\306\30\252\127\167\35" +
+      "\43\263\52\354\4\212\56\177\306\30\246\373" +
+      "\220\331\204\73\36\137\333\77\13\156\307\345" +
+      "\360\72\37\111\204\370\213\52\265\214\73\232" +
+      "\32\174\111\135\155\153\47\217\205\237\15\4" +
+      "\270\122\113\351\306\315\212\336\204\131\354\251" +
+      "\111\317\356\154\251\157\106\25\242\72\231\241" +
+      "\117\153\65\136\277\151\215\212\202\343\173\65" +
+      "\221\346\364\132\141\304\133\22\141\161\365\277" +
+      "\52\264\163\111\72\140\132\122\1\226\175\361" +
+      "\44\363\300\114\257\345\243\103\335\124\366\342" +
+      "\63\371\253\210\345\312\107\37\323\363\144\375" +
+      "\161\23\104\60\373\170\313\51\357\123\145\221" +
+      "\145\15\237\330\161\241\211\111\107\44\315\273" +
+      "\250\1\353\334\114\22\65\71\24\301\136\246" +
+      "\26\343\44\173\367\107\12\235\13\241\322\204" +
+      "\275\177\231\377\363\123\0\67\115\156\115\135" +
+      "\72\367\14\363\336\121\122\221\116\367\250\306" +
+      "\331\265\104\27\145\371\165\226\135\342\270\20" +
+      "\43\376\126\41\46\6\343\267\54\230\206\147" +
+      "\226\45\110\3\352\223\56\330\70\227\41\72" +
+      "\375\12\43\13\143\73\165\63\262\334\304\141" +
+      "\12\137\363\152\23\20\143\15\60\320\114\332" +
+      "\47\326\337\251\256\221\32\336\303\24\250\107" +
+      "\354\57\226\150\251\7\2\300\206\32\154\25" +
+      "\14\206\314\164\141\204\75\373\150\241\123\371" +
+      "\213\40\204\216\367\163\25\44\262\34\355\171" +
+      "\36\146\316\244\376\344\310\140\246\210\117\345" +
+      "\330\21\201\157\35\76\301\37\225\311\205\374" +
+      "\341\347\43\164\54\371\270\260\210\126\205\212" +
+      "\317\77\255\220\244\247\177\121\225\30\260\15" +
+      "\112\231\351\216\344\175\72\46\37\6\154\43" +
+      "\352\122\104\336\337\212\226\330\324\275\214\354" +
+      "\275\253\363\353\270\345\232\122\320\343\62\235" +
+      "\353\150\232\125\304\106\5\257\31\326\170\224" +
+      "\301\124\35\152\157\56\71\35\333\356\10\147" +
+      "\343\47\266\154\326\16\120\204\307\24\206\21" +
+      "\367\41\46\331\203\350\246\125\227\50\171\273" +
+      "\231\217\312\240\116\177\230\322\351\42\216\64" +
+      "\344\340\236\145\305\121\52\131\161\210\24\177";
+
+  private static final String TABLE_PACKED_50 =
+      "\350\264\271\345\273\53\27\225\160\5\32\67" +
+      "\254\142\303\277\41\303\136\11\22\112\314\226" +
+      "\53\157\310\227\245\104\334\363\316\20\274\25" +
+      "\40\300\50\321\21\354\113\65\310\72\347\343" +
+      "\212\314\116\330\252\125\324\120\357\171\134\263" +
+      "\67\43\107\11\340\74\150\145\200\375\151\207" +
+      "\371\332\122\10\255\174\32\227\236\44\325\323" +
+      "\341\157\120\254\176\64\37\64\320\364\341\230" +
+      "\230\267\331\252\302\316\132\301\277\306\200\164" +
+      "\273\30\124\211\301\267\241\144\155\47\72\45" +
+      "\20\254\201\47\353\20\10\202\111\174\254\230" +
+      "\321\27\103\217\154\314\157\343\343\12\276\356" +
+      "\110\247\6\213\235\377\146\156\15\12\1\264" +
+      "\43\52\127\10\356\356\153\117\234\124\274\336" +
+      "\120\56\30\227\250\267\173\110\312\175\145\3" +
+      "\164\170\241\165\74\104\153\126\377\347\235\301" +
+      "\360\272\100\107\242\176\70\41\320\364\151\341" +
+      "\74\326\205\365\250\164\355\262\241\36\13\203" +
+      "\306\377\75\157\5\276\107\302\362\321\64\372" +
+      "\274\6\113\164\114\126\217\330\236\7\164\255" +
+      "\360\137\55\261\44\161\373\215\244\273\220\274" +
+      "\344\340\236\40\332\254\371\0\257\117\73\67" +
+      "\201\255\305\365\201\227\235\104\136\26\157\72" +
+      "\51\37\110\30\153\65\75\155\165\22\155\114" +
+      "\173\1\276\120\256\363\127\306\174\360\31\54" +
+      "\12\262\331\112\171\117\27\264\205\154\40\40" +
+      "\205\223\213\115\37\326\105\111\303\246\114\12" +
+      "\315\365\336\0\232\37\325\266\302\314\263\34" +
+      "\165\227\163\37\336\361\311\64\1\132\277\117" +
+      "\233\231\147\104\276\127\251\124\216\63\71\265" +
+      "\27\363\42\121\273\210\307\6\33\260\245\273" +
+      "\267\310\376\344\364\316\166\307\52\371\57\243" +
+      "\37\136\270\146\225\223\322\171\123\245\145\256" +
+      "\40\63\136\274\302\202\251\306\145\357\306\310" +
+      "\225\307\364\50\66\213\167\120\212\373\156\216" +
+      "\65\373\113\67\34\156\110\25\145\74\321\50" +
+      "\165\147\117\250\72\212\13\350\241\374\301\376" +
+      "\114\226\77\123\143\302\305\264\346\150\213\262" +
+      "\77\204\351\322\40\377\132\66\270\276\223\330" +
+      "\114\41\73\23\202\55\334\317\307\202\207\371" +
+      "\153\212\273\37\277\63\301\246\146\64\45\205" +
+      "\322\23\200\104\335\66\36\226\103\243\170\47" +
+      "\373\202\253\111\175\333\205\56\17\244\212\210" +
+      "\127\51\274\261\32\113\22\173\130\63\357\355" +
+      "\230\56\45\144\112\360\214\266\202\236\72\212" +
+      "\32\301\100\137\113\64\140\3\252\254\50\153" +
+      "\62\54\42\0\375\47\272\373\135\177\224\16" +
+      "\164\333\126\54\260\273\50\43\114\363\72\366" +
+      "\135\174\361\327\277\246\374\4\177\63\137\174" +
+      "\256\330\344\72\354\105\164\267\225\42\253\106" +
+      "\246\210\112\272\314\323\14\146\133\176\44\137" +
+      "\243\134\360\110\364\274\340\330\306\4\5\137" +
+      "\213\151\274\273\72\57\120\251\16\263\252\277" +
+      "\5\161\357\241\206\307\46\141\223\347\310\145" +
+      "\76\265\215\361\26\170\70\251\255\57\376\125" +
+      "\16\370\150\272\156\161\233\32\265\313\274\72" +
+      "\224\60\270\1\302\105\267\66\41\137\244\336" +
+      "\106\11\265\77\351\43\363\234\303\67\357\370" +
+      "\146\370\222\276\44\74\172\241\32\175\104\340" +
+      "\64\13\106\261\53\123\46\172\237\360\253\171" +
+      "\367\134\202\211\170\125\152\365\134\253\351\156" +
+      "\164\145\72\324\375\105\62\226\303\12\335\76" +
+      "\375\354\37\17\243\22\163\205\274\372\40\132" +
+      "\134\100\251\245\232\61\141\156\336\205\312\346" +
+      "\316\235\161\33\77\107\172\163\171\204\333\163" +
+      "\26\366\141\360\314\57\134\61\217\117\342\63" +
+      "\51\315\46\164\206\251\115\116\130\276\73\251" +
+      "\57\37\107\175\141\70\163\111\145\134\333\46" +
+      "\163\213\247\355\303\300\230\6\320\233\305\50" +
+      "\113\237\337\352\157\244\367\74\2\172\376\343" +
+      "\36\107\106\12\65\2\125\267\364\302\361\307" +
+      "\230\342\255\110\246\240\352\164\63\305\132\131" +
+      "\133\31\41\173\354\214\323\55\162\231\42\131" +
+      "\137\227\15\233\234\327\200\332\116\124\11\56" +
+      "\71\276\147\104\267\71\254\37\101\241\224\55" +
+      "\212\133\326\240\363\370\215\111\16\144\11\74" +
+      "\221\112\316\50\130\224\300\314\355\33\374\144" +
+      "\154\146\221\111\14\10\241\47\271\334\100\101" +
+      "\107\157\56\170\270\326\255\4\347\6\112\133" +
+      "\351\114\34\242\133\243\40\275\23\134\317\316" +
+      "\277\254\317\234\210\173\154\205\375\27\264\374" +
+      "\305\216\165\213\6\205\362\166\165\133\150\154" +
+      "\334\350\62\334\25\116\142\107\0\375\304\217" +
+      "\330\304\126\0\47\240\12\51\37\314\17\125" +
+      "\334\345\55\122\174\305\362\325\66\61\32\210" +
+      "\360\274\33\141\45\304\351\151\120\127\162\221" +
+      "\15\31\163\331\100\114\115\24\265\102\51\126" +
+      "\123\252\225\176\271\165\314\150\2\355\254\157" +
+      "\272\150\131\365\377\262\340\112\301\52\244\334" +
+      "\227\267\277\363\372\7\21\372\336\55\122\164" +
+      "\322\115\371\205\210\323\373\110\171\265\126\340" +
+      "\142\136\50\21\161\300\231\261\5\317\262\205" +
+      "\164\52\120\127\217\111\71\262\117\363\365\335" +
+      "\152\227\355\54\252\103\165\324\303\267\337\330" +
+      "\377\65\306\114\327\30\56\152\223\102\26\205" +
+      "\106\305\266\332\101\255\245\55\325\207\327\271" +
+      "\275\350\113\253\165\133\307\220\237\261\212\207" +
+      "\57\204\130\61\304\362\334\135\275\317\264\37" +
+      "\26\347\342\13\175\365\270\175\317\321\27\23" +
+      "\262\124\75\172\176\22\156\330\23\127\244\333";
+
+  private static final String TABLE_PACKED_51 =
+      "\57\352\354\241\73\45\172\22\146\337\51\245" +
+      "\166\361\214\60\24\26\367\303\346\116\105\103" +
+      "\356\117\226\4\61\226\152\204\122\163\71\262" +
+      "\163\326\234\6\140\200\17\320\53\342\231\265" +
+      "\346\164\164\147\165\167\133\151\136\361\20\107" +
+      "\317\27\135\103\326\331\271\364\257\304\200\331" +
+      "\325\35\342\363\15\367\373\237\26\124\120\20" +
+      "\262\213\124\21\64\330\114\200\156\224\42\172" +
+      "\14\251\55\126\257\323\271\170\303\255\125\130" +
+      "\156\216\2\310\327\23\156\244\207\214\317\224" +
+      "\337\115\225\77\77\56\57\367\253\141\266\45" +
+      "\167\73\214\311\365\336\376\202\76\114\132\125" +
+      "\331\171\275\255\52\45\272\73\302\256\3\35" +
+      "\342\111\166\244\43\40\204\22\264\305\126\340" +
+      "\237\221\143\225\370\136\312\162\11\131\344\146" +
+      "\53\157\305\312\76\314\144\122\144\221\245\214" +
+      "\176\2\341\154\137\47\72\67\321\24\213\201" +
+      "\225\254\332\265\41\164\364\261\164\21\120\7" +
+      "\263\53\200\165\101\35\20\276\173\141\234\366" +
+      "\365\211\110\65\317\123\162\322\174\377\36\35" +
+      "\322\60\201\251\243\50\105\37\127\16\60\141" +
+      "\32\250\316\140\46\72\226\174\377\223\163\361" +
+      "\66\175\206\213\301\276\102\147\73\225\37\273" +
+      "\171\173\11\7\250\304\360\164\233\176\73\343" +
+      "\11\210\25\135\170\337\217\65\56\130\77\146" +
+      "\345\121\41\210\15\11\113\70\107\64\122\263" +
+      "\321\320\332\154\305\14\162\377\134\262\155\56" +
+      "\65\67\345\60\61\35\112\266\56\152\11\165" +
+      "\331\102\353\353\12\157\113\114\127\137\216\252" +
+      "\200\166\110\303\265\15\117\50\0\65\62\262" +
+      "\23\156\53\245\230\105\106\213\233\300\64\232" +
+      "\202\231\231\302\206\20\44\375\167\260\35\272" +
+      "\13\46\371\346\277\341\14\261\153\324\357\354" +
+      "\73\103\343\70\312\241\2\103\172\30\207\71" +
+      "\115\324\344\146\250\327\72\275\302\130\52\252" +
+      "\161\103\231\362\363\17\340\243\154\315\165\302" +
+      "\171\130\317\267\227\236\173\263\301\233\233\171" +
+      "\275\42\143\373\150\73\133\350\132\75\271\27" +
+      "\113\27\273\24\134\321\10\243\174\111\166\335" +
+      "\247\47\22\312\371\316\121\131\216\241\265\175" +
+      "\3\221\364\73\261\161\172\376\242\207\4\246" +
+      "\165\270\63\330\135\373\114\143\223\31\50\331" +
+      "\176\201\107\252\131\100\134\43\352\143\66\130" +
+      "\63\353\302\72\13\332\66\16\42\171\116\373" +
+      "\313\205\211\23\16\371\331\151\277\13\101\337" +
+      "\121\210\234\100\151\252\201\120\35\301\124\237" +
+      "\350\136\253\272\71\205\323\123\334\35\257\335" +
+      "\343\52\11\350\264\62\201\254\50\35\147\124" +
+      "\264\374\221\324\223\350\153\370\365\132\321\5" +
+      "\147\46\47\162\136\354\155\276\270\7\224\136" +
+      "\127\332\111\272\274\3\243\157\25\212\244\246" +
+      "\170\102\245\354\214\324\375\223\376\210\166\177" +
+      "\316\304\31\65\356\62\246\163\363\246\170\246" +
+      "\200\43\174\37\267\47\264\273\52\262\311\111" +
+      "\203\215\147\177\240\100\250\32\110\243\362\330" +
+      "\270\56\250\224\345\100\22\43\237\311\337\116" +
+      "\364\136\252\33\147\71\305\241\336\210\213\12" +
+      "\264\327\216\104\164\110\227\17\214\34\302\21" +
+      "\121\213\267\260\241\322\55\257\341\156\377\103" +
+      "\267\77\227\63\26\134\127\41\133\206\117\360" +
+      "\160\200\151\200\172\163\117\170\230\345\22\346" +
+      "\140\204\243\167\126\37\152\33\132\241\320\240" +
+      "\322\273\313\71\13\346\74\212\364\256\47\72" +
+      "\161\302\304\363\216\224\350\203\217\237\162\233" +
+      "\133\175\341\350\217\251\155\270\33\336\0\57" +
+      "\64\220\102\253\342\265\212\176\265\334\320\134" +
+      "\234\35\173\250\222\370\103\344\300\221\266\320" +
+      "\361\316\142\33\330\351\110\347\12\374\170\334" +
+      "\25\0\126\302\276\124\166\64\164\312\313\314" +
+      "\56\137\234\205\135\341\334\363\120\131\63\304" +
+      "\232\132\45\336\322\342\233\51\122\170\224\253" +
+      "\34\55\256\341\130\365\233\204\350\257\227\120" +
+      "\250\146\174\351\304\114\375\13\152\232\151\40" +
+      "\255\132\26\51\205\344\77\113\6\101\1\163" +
+      "\43\24\125\300\316\263\352\34\347\327\230\337" +
+      "\275\65\327\317\105\67\374\60\207\44\220\346" +
+      "\104\42\62\147\170\141\200\355\107\274\105\253" +
+      "\76\237\336\234\343\224\351\71\363\35\13\60" +
+      "\165\117\374\61\11\71\360\242\173\25\5\20" +
+      "\124\324\14\130\22\343\174\345\140\174\353\215" +
+      "\243\353\262\207\224\143\215\61\7\4\231\257" +
+      "\244\63\201\121\302\51\215\113\136\1\311\45" +
+      "\37\122\360\251\306\43\100\77\40\104\10\134" +
+      "\32\102\46\263\302\363\74\343\250\324\322\346" +
+      "\170\221\154\23\102\143\335\355\237\233\166\371" +
+      "\315\351\217\254\55\35\373\246\63\341\317\262" +
+      "\155\161\333\353\373\205\123\373\265\173\156\45" +
+      "\376\303\364\214\227\141\352\205\223\226\130\335" +
+      "\43\264\1\365\210\244\310\345\30\6\12\273" +
+      "\75\260\62\101\337\102\132\111\177\123\41\303" +
+      "\125\41\173\134\136\340\53\67\6\200\136\232" +
+      "\175\275\157\27\116\56\304\20\264\111\111\321" +
+      "\115\334\322\233\257\165\217\63\74\344\46\56" +
+      "\205\120\33\202\364\153\36\141\254\35\25\252" +
+      "\300\331\315\235\350\304\175\43\103\232\352\204" +
+      "\140\173\334\24\232\106\175\276\41\313\52\13" +
+      "\226\343\277\337\177\54\323\30\225\42\4\214" +
+      "\353\16\324\210\260\367\70\12\264\363\224\76" +
+      "\204\212\316\23\367\112\153\366\201\327\65\52" +
+      "\372\265\376\242\71\56\317\203\242\260\32\344";
+
+  private static final String TABLE_PACKED_52 =
+      "\213\327\223\255\75\244\15\252\265\107\101\264" +
+      "\52\315\272\27\120\6\340\322\153\75\271\361" +
+      "\220\144\206\224\373\46\120\320\345\152\141\322" +
+      "\325\102\217\125\5\234\1\52\327\350\12\205" +
+      "\331\336\237\124\175\354\0\360\7\357\44\122" +
+      "\245\24\107\200\154\0\300\270\275\3\347\123" +
+      "\135\237\345\31\3\66\225\65\61\352\151\132" +
+      "\315\244\327\75\325\123\57\333\375\326\53\366" +
+      "\215\254\140\251\116\15\76\237\277\51\61\165" +
+      "\116\120\114\353\20\315\253\231\223\375\372\300" +
+      "\246\115\72\267\346\350\250\243\310\40\3\175" +
+      "\120\117\125\115\360\262\272\324\66\251\233\371" +
+      "\365\152\361\113\71\10\263\211\354\147\347\232" +
+      "\46\263\104\41\260\111\205\236\370\234\321\113" +
+      "\325\266\52\242\212\143\266\332\246\351\36\203" +
+      "\254\134\41\145\110\220\211\131\164\33\262\213" +
+      "\257\134\304\342\230\157\150\267\274\256\265\103" +
+      "\102\73\171\171\270\137\0\370\201\341\113\24" +
+      "\276\55\137\241\17\51\264\260\36\75\60\22" +
+      "\137\370\300\365\51\10\336\177\324\220\325\166" +
+      "\203\114\234\210\211\100\125\253\51\132\231\360" +
+      "\171\100\346\70\341\176\265\350\173\211\102\203" +
+      "\260\342\224\136\314\257\326\353\107\310\46\105" +
+      "\256\20\201\3\150\360\105\213\342\337\171\362" +
+      "\231\165\261\203\165\125\145\324\223\174\352\337" +
+      "\302\77\234\327\44\67\113\241\321\176\30\142" +
+      "\223\273\22\33\377\26\324\244\325\43\311\313" +
+      "\17\121\270\240\54\246\46\50\366\255\11\320" +
+      "\271\1\54\275\14\46\22\211\263\234\65\230" +
+      "\240\230\72\276\325\263\53\70\131\304\275\14" +
+      "\67\111\177\303\21\157\236\70\106\56\47\223" +
+      "\143\127\210\141\104\50\312\70\304\61\234\135" +
+      "\164\261\231\4\215\325\314\307\4\52\34\205" +
+      "\13\243\332\10\274\174\124\12\125\41\204\42" +
+      "\3\341\163\111\214\376\361\306\334\373\255\231" +
+      "\171\236\256\101\240\31\330\237\302\141\131\250" +
+      "\120\172\304\234\10\324\263\146\61\301\107\112" +
+      "\150\370\273\364\4\223\17\301\2\47\160\263" +
+      "\153\341\126\33\141\57\253\136\172\10\24\332" +
+      "\123\116\172\103\207\270\75\23\212\43\246\22" +
+      "\73\241\27\16\35\170\157\20\206\232\72\132" +
+      "\302\172\210\121\235\125\334\324\60\134\310\0" +
+      "\47\352\137\221\336\271\176\26\157\1\274\65" +
+      "\325\335\140\267\263\147\112\225\245\313\107\343" +
+      "\330\306\276\40\340\342\161\312\207\42\13\26" +
+      "\157\166\235\113\276\143\44\41\230\161\273\33" +
+      "\233\366\215\44\262\200\116\30\103\16\5\207" +
+      "\136\16\231\73\354\272\242\265\324\214\254\121" +
+      "\313\322\55\216\272\121\51\221\76\366\343\77" +
+      "\341\137\341\162\342\232\24\25\325\247\263\364" +
+      "\303\247\335\17\222\242\257\106\260\336\100\54" +
+      "\146\111\314\237\210\146\346\251\325\31\40\246" +
+      "\27\76\211\254\204\362\342\210\74\173\356\271" +
+      "\344\163\247\362\171\32\235\214\76\214\34\55" +
+      "\112\261\374\1\235\227\43\60\177\12\167\364" +
+      "\117\21\235\301\106\112\150\160\71\305\6\323" +
+      "\113\344\160\24\152\250\122\53\333\174\50\74" +
+      "\126\120\233\344\146\207\241\375\305\234\45\241" +
+      "\370\262\363\7\115\14\7\375\300\330\41\205" +
+      "\100\323\344\105\302\167\154\357\160\310\200\155" +
+      "\257\245\266\222\207\350\335\226\222\26\162\372" +
+      "\217\140\175\373\322\110\142\267\343\214\56\356" +
+      "\153\200\56\107\254\172\126\302\302\243\76\25" +
+      "\357\124\376\126\157\112\326\362\61\162\60\152" +
+      "\327\114\17\336\207\67\373\326\34\202\54\12" +
+      "\41\173\300\232\116\371\76\367\206\240\60\327" +
+      "\363\101\43\352\0\221\270\322\32\26\255\301" +
+      "\57\177\7\313\127\320\56\54\65\365\255\172" +
+      "\263\110\311\264\206\34\372\63\253\303\173\172" +
+      "\345\322\0\153\130\171\115\226\4\132\262\71" +
+      "\114\151\14\267\70\220\27\376\356\214\51\103" +
+      "\267\125\273\150\236\35\32\326\54\372\3\264" +
+      "\172\131\231\152\273\162\122\246\236\201\312\375" +
+      "\4\226\302\115\255\45\235\230\310\353\130\100" +
+      "\67\200\252\132\231\314\366\1\301\137\171\3" +
+      "\61\226\57\52\216\320\362\165\144\30\251\54" +
+      "\46\206\230\303\30\140\32\275\62\230\145\10" +
+      "\105\171\305\312\62\136\163\373\137\14\267\143" +
+      "\361\57\322\355\72\222\244\322\217\120\33\47" +
+      "\54\231\43\350\232\244\377\365\272\267\357\37" +
+      "\103\16\223\252\164\3\117\355\137\53\43\20" +
+      "\331\72\45\337\226\215\15\323\355\63\264\345" +
+      "\206\144\175\146\136\253\167\26\63\63\271\277" +
+      "\30\10\364\335\25\204\64\354\151\64\155\123" +
+      "\146\274\65\43\344\2\341\106\173\120\254\246" +
+      "\304\141\44\300\171\53\304\324\270\107\252\216" +
+      "\227\300\123\17\21\372\236\257\15\124\136\222" +
+      "\153\245\77\171\303\216\226\73\23\101\42\327" +
+      "\150\24\7\203\1\65\173\365\353\34\76\262" +
+      "\137\177\203\166\215\326\333\375\117\65\6\176" +
+      "\154\346\174\225\164\145\45\353\67\75\112\360" +
+      "\312\113\76\253\341\347\117\32\55\52\120\50" +
+      "\144\314\264\341\370\351\125\225\363\143\51\63" +
+      "\136\374\122\76\365\71\37\111\11\216\317\241" +
+      "\250\152\267\36\321\256\256\261\2\36\161\3" +
+      "\137\346\273\110\13\240\145\167\27\146\371\123" +
+      "\53\25\152\160\37\167\141\256\373\325\352\200" +
+      "\350\120\11\56\160\107\35\267\241\314\323\242" +
+      "\240\2\165\35\121\20\251\15\222\13\4\3" +
+      "\317\154\153\250\20\11\126\5\357\303\127\226";
+
+  private static final String TABLE_PACKED_53 =
+      "\36\113\210\243\356\52\21\314\141\15\121\52" +
+      "\336\144\245\205\302\100\217\234\41\14\317\367" +
+      "\247\112\347\270\127\6\77\255\107\260\154\10" +
+      "\326\317\243\113\144\47\236\14\341\355\26\127" +
+      "\365\324\50\4\35\120\24\262\20\123\101\164" +
+      "\235\127\272\154\104\353\221\176\371\310\375\331" +
+      "\321\315\274\17\261\333\261\104\130\225\133\323" +
+      "\222\226\167\45\42\367\170\321\202\105\3\246" +
+      "\161\126\151\165\10\134\101\156\21\152\360\170" +
+      "\44\273\133\152\234\255\167\331\326\137\30\314" +
+      "\64\5\204\365\262\25\42\4\351\75\206\210" +
+      "\254\253\166\327\146\121\304\35\224\5\53\124" +
+      "\246\205\62\171\204\341\12\317\57\126\304\371" +
+      "\270\165\326\32\267\35\116\14\217\177\114\155" +
+      "\164\64\327\142\260\227\362\233\324\30\261\172" +
+      "\225\44\22\201\166\356\4\54\150\127\304\323" +
+      "\365\141\33\266\232\253\316\117\216\124\1\214" +
+      "\226\31\122\116\15\44\221\52\226\341\77\342" +
+      "\126\265\76\321\224\345\63\234\100\333\120\322" +
+      "\201\2\67\302\266\273\204\246\370\366\174\120" +
+      "\174\76\211\307\252\147\45\53\347\150\47\152" +
+      "\31\61\230\73\222\315\222\251\322\303\306\140" +
+      "\52\371\350\6\325\270\367\330\364\176\116\261" +
+      "\327\64\320\172\344\153\374\110\74\266\162\266" +
+      "\107\215\153\112\76\302\140\134\362\14\344\22" +
+      "\116\43\130\304\332\50\126\52\311\164\14\356" +
+      "\335\324\143\101\316\245\302\375\75\74\4\66" +
+      "\336\164\114\165\201\133\11\221\267\143\40\177" +
+      "\202\122\324\354\300\233\33\7\265\206\202\165" +
+      "\21\32\22\271\232\17\307\314\114\253\106\175" +
+      "\275\61\135\257\253\232\137\367\110\212\206\144" +
+      "\161\371\116\125\230\337\300\305\313\306\155\324" +
+      "\231\255\257\16\257\343\342\202\322\142\213\111" +
+      "\27\212\356\324\211\257\230\346\206\160\220\3" +
+      "\341\256\141\16\172\232\13\166\303\114\12\33" +
+      "\146\107\125\205\154\116\46\32\70\57\260\156" +
+      "\100\240\275\71\265\65\324\215\352\373\266\324" +
+      "\210\263\325\66\347\140\165\147\13\216\237\245" +
+      "\150\42\61\331\161\307\112\232\336\172\21\247" +
+      "\171\110\36\104\177\134\111\222\133\7\236\151" +
+      "\212\273\227\177\230\141\230\41\206\166\325\275" +
+      "\256\231\160\174\243\274\52\315\352\26\57\312" +
+      "\151\330\327\304\46\355\230\75\372\323\15\73" +
+      "\5\330\162\146\160\200\350\305\367\346\172\173" +
+      "\342\337\271\267\1\0\167\243\120\377\266\341" +
+      "\121\50\305\313\236\251\4\315\163\47\41\252" +
+      "\75\212\164\77\74\64\251\253\60\343\54\375" +
+      "\270\216\346\350\17\42\367\70\244\372\303\233" +
+      "\242\351\155\227\132\177\61\353\332\147\136\2" +
+      "\301\347\167\304\300\45\120\263\141\17\124\203" +
+      "\135\174\27\127\233\101\137\310\345\40\4\115" +
+      "\152\331\245\331\60\6\110\33\212\56\270\162" +
+      "\260\125\116\43\104\143\122\353\51\75\232\71" +
+      "\300\350\375\130\0\11\307\257\201\306\174\322" +
+      "\242\45\155\324\1\156\116\76\116\21\35\276" +
+      "\340\323\30\36\112\243\31\72\265\163\155\134" +
+      "\367\354\27\125\173\75\236\131\204\141\225\42" +
+      "\134\55\36\116\374\127\21\212\5\347\66\62" +
+      "\220\50\275\156\143\346\132\263\142\65\202\276" +
+      "\243\145\343\112\26\50\155\205\307\335\210\267" +
+      "\177\346\54\302\144\72\323\160\107\113\23\54" +
+      "\256\314\74\255\134\122\257\342\52\21\310\73" +
+      "\114\74\264\227\45\103\157\21\160\71\55\174" +
+      "\314\373\327\352\153\151\126\311\125\72\230\201" +
+      "\271\353\274\134\42\271\173\245\267\145\260\126" +
+      "\111\261\146\362\115\150\251\305\307\272\247\366" +
+      "\153\222\271\337\40\307\100\6\115\33\65\116" +
+      "\45\126\363\4\130\215\326\314\105\363\257\63" +
+      "\320\164\231\257\202\361\141\124\361\307\351\33" +
+      "\226\334\77\242\115\167\272\40\46\171\150\72" +
+      "\147\305\40\115\331\171\116\47\311\114\346\343" +
+      "\57\176\234\235\206\102\231\60\36\101\131\56" +
+      "\32\151\300\5\253\57\246\257\225\336\20\124" +
+      "\233\270\175\0\130\32\222\100\142\162\367\265" +
+      "\37\107\166\137\120\306\223\21\355\177\4\46" +
+      "\52\227\33\156\173\151\356\331\245\276\317\372" +
+      "\66\20\40\60\256\46\30\220\220\224\13\337" +
+      "\173\376\201\147\64\137\114\6\140\312\334\261" +
+      "\152\46\361\134\335\27\371\344\365\232\240\224" +
+      "\45\43\363\171\233\324\350\142\24\43\25\320" +
+      "\333\331\106\160\242\27\103\342\23\320\152\215" +
+      "\251\50\217\40\112\215\14\71\124\236\304\33" +
+      "\40\170\266\124\76\341\203\36\233\351\15\263" +
+      "\14\233\272\304\117\355\174\332\20\160\325\216" +
+      "\277\253\245\235\101\337\375\330\227\277\170\232" +
+      "\236\72\316\241\5\134\202\120\344\10\301\303" +
+      "\32\263\166\163\20\120\165\331\260\37\65\256" +
+      "\7\264\303\301\322\167\204\47\15\210\164\130" +
+      "\214\322\233\374\307\223\362\112\135\310\5\206" +
+      "\107\304\3\270\373\37\247\52\331\6\206\265" +
+      "\264\303\170\25\362\13\261\74\200\175\235\232" +
+      "\327\305\275\33\71\321\360\104\122\12\365\170" +
+      "\375\216\262\201\45\1\10\107\321\70\220\366" +
+      "\104\133\272\113\146\227\340\322\100\64\316\257" +
+      "\45\70\374\154\243\313\27\103\26\63\365\150" +
+      "\20\77\252\32\363\54\34\325\203\1\143\160" +
+      "\13\114\345\51\310\325\236\147\210\204\361\53" +
+      "\252\377\332\44\272\7\52\3\320\136\335\333" +
+      "\250\66\102\62\161\203\214\366\360\172\153\227" +
+      "\334\42\160\157\43\266\163\122\361\230\342\231";
+
+  private static final String TABLE_PACKED_54 =
+      "\113\112\167\64\321\215\222\47\304\126\256\353" +
+      "\176\116\170\77\303\273\35\173\201\25\36\333" +
+      "\125\13\362\77\264\4\170\220\271\276\362\346" +
+      "\240\376\101\362\26\163\165\0\372\316\213\352" +
+      "\37\321\244\211\103\240\207\316\62\124\372\64" +
+      "\200\160\250\302\163\367\45\13\135\61\362\360" +
+      "\246\241\16\77\135\44\142\150\214\12\1\200" +
+      "\315\274\152\75\233\143\42\306\164\150\44\265" +
+      "\63\221\217\271\30\131\271\16\204\22\333\375" +
+      "\266\245\40\115\103\247\170\311\100\53\116\343" +
+      "\313\346\157\24\107\100\137\125\234\342\223\327" +
+      "\242\275\25\366\76\377\125\321\31\364\350\325" +
+      "\153\150\252\150\175\223\223\273\332\235\156\361" +
+      "\346\266\35\364\363\341\207\274\141\351\137\262" +
+      "\32\375\1\371\34\23\77\177\226\375\270\276" +
+      "\252\347\3\64\245\203\165\24\35\126\304\226" +
+      "\374\266\234\127\55\316\353\241\331\216\372\377" +
+      "\127\51\246\134\343\304\170\167\212\153\324\301" +
+      "\262\314\314\275\71\204\70\135\317\177\237\373" +
+      "\235\315\17\24\247\242\313\346\37\215\72\21" +
+      "\332\371\103\207\147\66\15\13\310\332\370\60" +
+      "\321\341\15\277\27\204\371\246\42\235\246\170" +
+      "\201\5\100\127\7\17\155\322\130\111\330\351" +
+      "\156\150\110\174\30\306\137\112\206\35\60\216" +
+      "\1\235\200\44\360\323\315\10\65\366\311\174" +
+      "\23\75\304\6\223\343\31\114\255\300\167\216" +
+      "\107\330\376\310\21\175\126\76\271\331\171\375" +
+      "\233\335\371\341\301\113\55\157\275\35\52\164" +
+      "\42\306\107\126\67\214\5\265\337\45\261\244" +
+      "\232\211\160\353\305\253\76\247\225\302\241\10" +
+      "\32\135\227\3\127\230\225\303\121\374\140\61" +
+      "\53\350\101\171\45\375\116\15\51\76\17\210" +
+      "\244\60\356\212\15\76\320\370\223\114\165\136" +
+      "\3\146\23\207\153\45\224\76\66\310\75\124" +
+      "\224\270\241\53\74\307\0\125\57\141\272\350" +
+      "\5\23\315\115\13\63\335\106\15\164\351\357" +
+      "\47\44\244\15\272\137\141\143\114\366\323\105" +
+      "\366\71\357\231\260\63\74\44\257\34\202\376" +
+      "\22\11\361\333\337\301\104\107\57\354\132\254" +
+      "\254\30\304\275\342\75\133\303\267\200\351\353" +
+      "\324\205\160\34\13\320\254\156\24\102\32\170" +
+      "\205\165\305\65\337\371\373\130\276\175\144\112" +
+      "\247\220\325\336\14\150\135\66\30\225\362\164" +
+      "\75\351\321\356\202\132\367\63\23\142\100\317" +
+      "\100\63\10\54\117\25\50\276\113\120\156\315" +
+      "\24\201\312\220\161\21\356\131\64\243\332\236" +
+      "\313\240\76\161\303\334\254\210\26\332\64\335" +
+      "\101\113\144\25\131\372\144\273\66\170\254\24" +
+      "\177\253\302\215\37\277\167\244\277\35\146\1" +
+      "\22\366\127\75\162\373\25\11\216\217\253\147" +
+      "\100\144\46\201\315\222\0\153\220\120\303\145" +
+      "\214\230\327\371\345\51\223\205\155\77\151\320" +
+      "\72\166\344\153\351\112\26\371\200\142\350\137" +
+      "\374\11\325\263\362\154\365\236\143\33\234\316" +
+      "\352\215\261\40\175\310\342\347\252\320\323\345" +
+      "\75\202\55\132\34\336\234\267\305\47\2\126" +
+      "\366\131\70\345\74\201\61\346\165\115\212\264" +
+      "\356\356\254\105\372\247\116\17\115\17\341\234" +
+      "\143\247\34\102\370\61\20\1\347\224\176\60" +
+      "\313\304\143\223\30\232\70\163\32\315\252\261" +
+      "\100\206\231\26\67\340\314\10\113\307\357\136" +
+      "\252\177\264\274\150\230\221\156\10\77\214\341" +
+      "\201\143\141\6\221\367\335\253\267\72\56\11" +
+      "\243\324\106\11\317\47\222\343\375\100\350\356" +
+      "\41\253\75\23\33\124\370\14\123\377\221\265" +
+      "\137\36\133\133\310\252\234\2\111\204\235\1" +
+      "\153\243\340\362\24\23\335\5\74\1\315\163" +
+      "\45\140\136\305\373\61\134\24\324\134\54\67" +
+      "\252\320\33\327\14\147\307\156\33\313\337\126" +
+      "\22\215\70\163\321\153\327\136\224\51\200\132" +
+      "\271\27\51\312\114\262\376\300\335\230\44\141" +
+      "\215\23\303\336\332\23\165\375\371\121\316\222" +
+      "\42\60\153\260\214\110\74\352\111\233\316\100" +
+      "\101\72\27\272\7\376\364\262\216\370\51\354" +
+      "\41\41\163\131\210\326\163\335\26\300\327\60" +
+      "\323\10\337\127\67\40\250\201\46\242\327\170" +
+      "\10\330\343\134\377\72\142\133\53\140\53\11" +
+      "\3\160\63\233\106\271\211\252\154\302\260\224" +
+      "\62\56\331\337\316\264\220\45\264\164\115\373" +
+      "\350\362\257\76\361\265\101\162\131\174\26\365" +
+      "\52\10\147\42\107\361\67\135\35\34\300\311" +
+      "\157\62\216\106\112\315\271\316\317\336\40\15" +
+      "\311\101\324\32\240\137\213\276\254\357\262\232" +
+      "\4\224\126\276\154\331\142\377\224\123\153\224" +
+      "\254\164\356\17\135\75\216\205\175\353\107\352" +
+      "\145\133\150\237\65\351\210\264\150\273\206\3" +
+      "\267\73\126\312\205\12\76\106\374\215\340\350" +
+      "\204\365\206\56\147\132\346\77\340\127\100\33" +
+      "\26\61\236\244\173\26\72\162\200\326\110\107" +
+      "\367\144\272\356\115\33\371\263\337\103\204\314" +
+      "\163\315\3\363\225\220\212\266\311\220\161\256" +
+      "\354\254\40\51\164\166\77\252\136\211\203\27" +
+      "\366\317\114\330\355\63\65\35\373\46\13\343" +
+      "\353\322\146\56\3\336\156\321\246\113\226\176" +
+      "\112\223\341\60\303\204\4\3\274\216\64\13" +
+      "\116\133\154\360\132\47\50\65\132\261\166\230" +
+      "\143\56\103\6\36\213\334\47\153\106\5\360" +
+      "\103\64\120\150\41\333\333\217\133\122\66\171" +
+      "\175\313\240\46\303\346\235\65\17\136\214\341" +
+      "\337\241\167\375\44\261\201\157\6\341\156\226";
+
+  private static final String TABLE_PACKED_55 =
+      "\304\346\135\24\163\4\353\314\377\203\167\1" +
+      "\302\374\252\134\255\233\377\266\246\55\161\306" +
+      "\217\274\166\143\367\352\171\240\164\365\16\174" +
+      "\363\10\202\163\131\1\355\51\40\103\360\333" +
+      "\252\17\371\121\176\45\142\127\44\22\370\124" +
+      "\355\115\213\14\324\250\216\337\107\44\112\331" +
+      "\271\76\130\275\153\235\201\47\30\25\30\167" +
+      "\317\246\61\247\360\41\132\32\146\340\76\220" +
+      "\300\42\102\241\310\52\351\27\147\220\370\100" +
+      "\313\24\26\47\330\211\213\162\113\50\103\173" +
+      "\43\314\244\312\53\50\2\300\127\312\5\6" +
+      "\155\54\352\125\246\151\55\102\350\306\60\113" +
+      "\72\144\140\230\265\127\344\256\217\130\114\322" +
+      "\145\247\116\305\22\137\126\30\154\164\130\6" +
+      "\33\154\341\256\107\236\173\127\206\100\345\71" +
+      "\207\376\166\332\243\337\226\155\120\124\276\103" +
+      "\337\221\21\127\270\112\317\145\113\77\255\34" +
+      "\171\321\15\356\345\6\126\346\114\20\100\1" +
+      "\371\224\311\345\121\37\74\200\226\342\320\17" +
+      "\233\6\212\272\223\253\6\154\221\275\226\55" +
+      "\153\176\154\54\11\51\205\235\371\154\376\264" +
+      "\13\146\50\323\346\106\162\10\44\356\67\13" +
+      "\40\15\377\345\267\61\67\42\361\102\74\332" +
+      "\15\360\46\157\340\44\133\150\124\40\275\204" +
+      "\341\136\342\360\4\61\117\220\77\5\202\314" +
+      "\333\354\34\57\277\157\175\163\350\132\101\275" +
+      "\334\70\266\251\232\62\200\354\172\20\205\152" +
+      "\344\212\50\202\236\60\277\62\117\57\56\17" +
+      "\333\5\242\233\102\106\142\375\267\100\265\166" +
+      "\364\327\343\131\7\177\344\307\325\223\131\376" +
+      "\211\140\10\263\367\313\350\135\223\11\146\150" +
+      "\231\321\322\161\66\72\212\44\221\344\64\352" +
+      "\46\62\72\172\3\135\345\226\326\5\113\144" +
+      "\273\157\20\215\266\234\62\116\241\17\127\251" +
+      "\203\317\113\31\303\332\56\270\45\122\60\72" +
+      "\312\237\166\305\331\11\314\224\73\225\211\4" +
+      "\100\316\134\5\101\6\21\55\24\166\246\117" +
+      "\240\216\103\71\150\157\224\273\67\346\133\103" +
+      "\245\353\176\164\170\12\4\173\265\11\132\361" +
+      "\351\66\366\177\215\301\106\171\73\163\53\117" +
+      "\302\101\261\23\120\40\134\300\72\6\30\304" +
+      "\342\145\166\51\375\175\112\137\26\312\234\305" +
+      "\323\254\141\126\165\370\252\312\131\321\136\272" +
+      "\232\334\335\214\132\200\2\66\144\320\170\35" +
+      "\170\75\237\367\367\372\257\170\266\346\252\3" +
+      "\145\206\215\43\144\25\371\217\266\43\111\145" +
+      "\207\302\176\157\213\51\147\162\254\206\167\54" +
+      "\341\40\224\36\340\360\57\324\115\170\226\222" +
+      "\112\230\362\147\13\41\320\173\317\37\132\130" +
+      "\326\175\17\341\23\355\111\12\47\213\300\213" +
+      "\54\332\142\72\106\175\161\55\334\32\233\113" +
+      "\115\137\37\217\122\161\357\31\54\22\205\310" +
+      "\304\277\43\373\302\326\3\302\102\110\123\312" +
+      "\321\4\155\75\313\206\65\132\64\237\245\242" +
+      "\143\331\267\362\260\162\322\361\255\257\55\157" +
+      "\134\133\244\14\40\53\125\14\207\234\243\354" +
+      "\256\165\107\164\240\153\114\103\350\354\107\126" +
+      "\46\54\104\106\220\314\161\224\234\202\347\40" +
+      "\60\316\230\0\322\327\117\11\224\252\37\107" +
+      "\116\304\360\365\362\42\200\361\313\0\330\332" +
+      "\131\62\257\206\156\213\255\150\70\12\275\322" +
+      "\241\221\120\7\325\276\56\46\264\251\112\171" +
+      "\134\252\27\112\244\141\41\104\67\65\246\324" +
+      "\105\116\134\272\305\277\275\345\324\13\55\121" +
+      "\221\357\163\17\224\44\63\250\132\277\172\200" +
+      "\122\133\115\165\230\356\267\47\104\210\70\53" +
+      "\345\11\263\71\253\77\21\230\353\121\61\272" +
+      "\301\253\104\306\162\144\133\23\116\35\322\116" +
+      "\44\264\363\343\265\12\141\106\116\16\307\335" +
+      "\11\36\323\331\171\357\304\225\362\376\372\120" +
+      "\152\274\224\166\104\165\31\272\272\356\266\105" +
+      "\65\2\263\41\167\344\207\207\75\175\15\326" +
+      "\73\75\323\206\57\125\374\46\315\222\104\141" +
+      "\24\130\307\271\202\22\360\222\223\110\344\160" +
+      "\346\260\130\333\77\15\13\55\50\320\43\217" +
+      "\210\34\116\114\116\324\66\172\222\102\260\341" +
+      "\304\330\370\35\104\105\131\344\107\175\334\141" +
+      "\42\66\146\370\167\260\132\146\235\233\157\141" +
+      "\233\140\360\244\145\266\115\217\34\37\255\114" +
+      "\27\167\234\304\304\210\341\316\77\272\326\10" +
+      "\273\220\71\245\225\341\116\342\101\43\66\367" +
+      "\15\111\51\60\216\220\301\304\46\250\143\13" +
+      "\243\162\363\265\25\202\232\256\11\121\73\316" +
+      "\177\231\177\205\160\267\266\243\166\261\256\133" +
+      "\303\173\63\234\374\364\24\230\212\147\160\246" +
+      "\151\261\146\324\173\121\226\201\75\142\234\61" +
+      "\313\303\347\254\341\107\10\306\361\315\47\376" +
+      "\371\345\46\151\343\227\224\167\3\17\222\61" +
+      "\311\321\306\324\202\152\301\275\235\301\31\353" +
+      "\314\304\122\43\312\322\152\224\114\145\2\316" +
+      "\172\233\325\233\341\324\331\22\341\321\30\160" +
+      "\317\123\376\41\170\252\53\171\154\231\313\262" +
+      "\67\160\362\37\176\347\5\140\72\63\72\73" +
+      "\213\75\61\375\10\360\117\375\114\231\77\64" +
+      "\35\174\335\370\255\340\261\232\225\214\165\375" +
+      "\50\125\321\21\361\274\357\46\26\342\331\151" +
+      "\121\316\62\254\30\127\316\155\342\164\40\257" +
+      "\270\273\122\274\116\62\205\163\15\343\312\147" +
+      "\113\164\250\211\145\330\113\304\273\224\21\26" +
+      "\147\376\352\33\72\245\360\224\245\306\323\223";
+
+  private static final String TABLE_PACKED_56 =
+      "\101\257\151\31\136\136\272\204\342\243\315\62" +
+      "\44\124\317\374\242\7\370\122\54\0\332\50" +
+      "\322\361\135\331\355\154\317\325\223\200\364\307" +
+      "\241\202\21\322\17\326\207\347\307\265\326\357" +
+      "\371\261\120\26\132\56\41\227\266\60\7\306" +
+      "\344\13\26\277\260\61\236\330\265\162\221\252" +
+      "\116\246\216\213\364\202\65\334\31\222\106\33" +
+      "\173\65\226\104\333\330\343\375\112\312\54\57" +
+      "\114\275\136\265\366\114\276\64\306\232\117\316" +
+      "\225\324\262\205\3\17\33\356\34\233\374\173" +
+      "\267\122\134\40\372\135\364\146\65\344\156\120" +
+      "\157\347\321\216\314\234\207\123\245\317\305\334" +
+      "\274\60\57\321\354\23\103\71\53\355\133\234" +
+      "\75\32\106\314\41\161\222\116\34\271\14\350" +
+      "\262\271\263\346\222\236\126\217\372\206\64\315" +
+      "\233\207\211\320\23\350\156\341\317\272\352\364" +
+      "\150\156\357\367\312\71\20\1\377\26\310\325" +
+      "\172\54\34\105\230\207\51\136\237\340\24\61" +
+      "\117\253\233\256\237\132\215\330\3\203\224\77" +
+      "\337\376\20\13\113\123\255\12\346\344\13\42" +
+      "\375\106\5\13\112\171\275\347\214\5\323\133" +
+      "\167\104\254\144\337\376\214\233\123\327\311\13" +
+      "\174\257\121\114\121\100\367\61\141\213\244\243" +
+      "\252\107\311\252\265\304\342\150\226\276\233\115" +
+      "\370\350\31\340\345\104\27\303\26\41\133\150" +
+      "\234\77\247\75\242\334\273\211\312\316\265\116" +
+      "\245\227\133\40\354\167\111\166\30\303\114\127" +
+      "\12\344\257\157\220\271\121\226\322\222\167\12" +
+      "\320\207\207\320\63\214\211\327\105\260\106\54" +
+      "\263\235\333\76\316\316\235\234\53\361\13\56" +
+      "\2\41\25\342\347\204\63\7\252\263\156\165" +
+      "\153\274\307\30\130\261\23\201\221\115\111\140" +
+      "\76\45\37\57\171\234\154\136\153\264\272\273" +
+      "\160\342\150\314\243\374\146\362\0\243\316\275" +
+      "\310\164\171\315\63\147\312\354\337\315\73\143" +
+      "\11\346\30\20\145\200\242\216\324\372\305\247" +
+      "\124\67\327\131\114\137\147\112\22\241\143\50" +
+      "\261\372\70\333\375\353\13\316\46\227\106\323" +
+      "\144\344\1\132\6\322\205\343\177\125\177\110" +
+      "\174\0\325\370\11\133\45\250\367\253\157\111" +
+      "\222\167\150\361\160\125\211\112\161\302\230\324" +
+      "\121\220\51\101\203\113\43\136\272\7\375\273" +
+      "\354\152\255\322\242\352\172\60\300\57\37\275" +
+      "\214\357\242\131\235\42\237\355\357\265\204\21" +
+      "\56\213\160\243\210\264\41\244\137\113\353\16" +
+      "\121\164\40\142\361\106\101\46\63\256\112\102" +
+      "\363\135\363\104\304\136\242\235\324\145\166\317" +
+      "\325\315\120\355\173\272\323\334\171\344\325\22" +
+      "\140\342\76\276\313\127\36\134\42\351\363\361" +
+      "\60\360\55\361\5\237\30\364\34\0\7\377" +
+      "\130\231\374\373\376\45\305\60\257\245\305\341" +
+      "\363\155\65\134\356\156\23\71\110\36\323\15" +
+      "\201\270\150\353\56\230\115\14\366\345\56\171" +
+      "\142\203\374\237\142\176\46\257\153\337\360\251" +
+      "\166\363\33\355\362\246\172\212\333\44\7\64" +
+      "\361\265\25\112\137\120\277\37\176\230\150\137" +
+      "\224\154\153\103\62\376\165\214\333\167\266\202" +
+      "\330\366\43\201\225\123\171\353\16\150\360\75" +
+      "\20\376\161\305\122\306\304\23\70\234\0\334" +
+      "\11\374\367\266\153\222\301\305\346\75\260\153" +
+      "\206\61\231\121\161\3\10\5\330\344\33\72" +
+      "\231\163\354\101\170\300\204\261\165\373\13\274" +
+      "\17\144\37\271\134\226\353\20\141\273\121\322" +
+      "\321\315\0\376\323\214\126\65\72\171\250\165" +
+      "\377\172\117\23\217\4\351\217\250\140\311\125" +
+      "\52\372\257\357\76\113\347\140\137\310\17\374" +
+      "\345\61\176\44\17\220\352\215\272\170\16\104" +
+      "\347\347\242\173\12\272\150\26\54\142\123\203" +
+      "\265\176\325\41\101\111\132\167\31\51\372\243" +
+      "\266\227\60\30\11\211\21\320\62\245\331\144" +
+      "\7\367\44\271\221\54\164\34\137\75\43\346" +
+      "\171\137\20\134\161\256\200\223\2\134\314\41" +
+      "\123\203\327\142\100\67\227\236\147\322\104\40" +
+      "\337\244\74\16\154\211\354\133\156\133\34\40" +
+      "\327\133\214\273\311\217\324\256\110\75\43\147" +
+      "\141\65\270\16\112\101\16\141\363\63\257\260" +
+      "\115\56\133\42\346\62\303\323\361\200\44\212" +
+      "\74\274\76\321\5\236\40\221\54\206\11\265" +
+      "\246\224\307\75\241\116\172\373\66\165\250\44" +
+      "\74\235\201\33\4\333\171\351\270\257\43\16" +
+      "\335\45\315\144\143\376\150\40\214\232\107\301" +
+      "\347\3\176\61\102\210\211\56\277\231\115\345" +
+      "\1\364\302\55\350\21\137\172\375\24\301\163" +
+      "\147\214\206\13\276\72\377\231\300\331\342\213" +
+      "\312\44\125\240\201\125\352\366\244\73\77\367" +
+      "\236\376\3\323\60\346\277\274\132\317\132\253" +
+      "\311\164\330\162\125\163\240\203\363\40\145\335" +
+      "\332\122\1\120\141\200\306\150\311\137\165\254" +
+      "\323\276\351\211\242\7\126\121\171\321\355\12" +
+      "\116\304\102\220\344\3\274\255\133\234\15\206" +
+      "\312\302\377\6\133\225\340\1\123\201\51\276" +
+      "\204\310\270\320\212\235\246\206\217\34\136\352" +
+      "\352\72\216\244\366\246\340\162\26\335\74\364" +
+      "\207\5\330\41\136\317\323\104\6\367\260\122" +
+      "\10\250\174\271\125\243\104\45\26\361\6\106" +
+      "\272\337\120\307\7\150\171\145\352\34\74\0" +
+      "\364\73\213\351\173\231\40\46\341\266\271\3" +
+      "\147\205\343\224\40\161\336\302\162\350\77\351" +
+      "\167\335\55\325\320\327\335\275\206\264\42\357" +
+      "\141\202\162\332\234\1\233\173\151\330\172\71";
+
+  private static final String TABLE_PACKED_57 =
+      "\202\346\252\120\5\26\270\172\135\31\0\134" +
+      "\236\13\132\26\25\262\234\173\160\217\30\262" +
+      "\276\32\40\201\26\55\107\216\377\101\352\4" +
+      "\376\34\132\36\333\304\354\23\270\201\112\111" +
+      "\250\300\150\213\335\136\53\74\323\134\141\356" +
+      "\355\43\200\212\62\133\234\232\244\144\117\11" +
+      "\261\211\346\7\204\34\245\340\227\213\253\361" +
+      "\145\34\66\262\220\306\45\164\304\230\144\234" +
+      "\116\71\5\320\235\167\16\231\346\154\245\333" +
+      "\243\214\210\377\155\135\273\233\234\63\110\322" +
+      "\200\307\26\173\175\365\254\167\14\276\352\54" +
+      "\341\101\214\42\112\32\264\305\56\304\247\167" +
+      "\54\60\312\366\220\336\313\104\65\33\312\172" +
+      "\147\276\371\247\237\262\356\376\266\374\245\56" +
+      "\206\300\206\277\337\60\254\146\316\141\33\225" +
+      "\122\40\267\316\160\312\315\350\121\306\236\271" +
+      "\123\207\224\373\351\115\211\336\41\226\365\30" +
+      "\23\244\240\213\235\301\122\215\272\204\303\310" +
+      "\353\264\173\30\315\45\306\136\257\117\46\4" +
+      "\130\5\216\110\52\77\236\220\261\253\170\113" +
+      "\257\360\0\377\11\116\232\25\7\235\50\371" +
+      "\365\6\33\212\240\354\175\152\112\77\266\16" +
+      "\360\313\37\320\254\217\307\121\114\150\15\302" +
+      "\223\227\266\242\370\232\224\243\101\2\55\317" +
+      "\214\177\315\205\325\127\222\12\116\345\176\154" +
+      "\52\136\256\107\100\7\204\122\0\373\77\377" +
+      "\65\152\363\31\230\266\365\355\337\117\150\11" +
+      "\33\235\21\244\243\260\270\202\264\341\340\123" +
+      "\264\41\132\125\256\340\54\44\213\24\160\221" +
+      "\273\377\151\333\173\220\351\231\264\20\103\116" +
+      "\53\335\344\241\367\20\262\4\20\371\200\124" +
+      "\307\100\305\140\143\1\13\354\204\55\21\214" +
+      "\305\304\133\375\252\274\32\65\170\145\31\270" +
+      "\202\127\145\272\173\72\210\254\100\133\304\375" +
+      "\323\144\356\316\137\25\127\151\324\36\104\135" +
+      "\135\364\104\70\5\17\366\14\147\6\234\363" +
+      "\107\365\43\330\47\217\21\43\346\215\354\374" +
+      "\166\370\56\262\47\273\312\261\40\362\15\30" +
+      "\17\111\77\313\332\374\3\205\73\377\33\233" +
+      "\36\270\173\7\246\167\304\302\224\103\131\16" +
+      "\356\141\210\32\106\256\172\3\330\32\362\174" +
+      "\335\175\374\114\212\101\164\204\272\124\303\62" +
+      "\275\131\202\305\35\127\162\166\71\66\325\305" +
+      "\362\13\60\236\131\133\1\74\76\246\342\132" +
+      "\151\343\37\21\51\236\110\321\372\117\55\224" +
+      "\221\34\273\214\105\125\222\326\77\113\377\301" +
+      "\363\16\4\146\242\327\151\247\44\5\24\215" +
+      "\346\152\344\270\352\62\221\221\327\164\245\262" +
+      "\166\333\203\132\272\320\311\176\52\201\5\305" +
+      "\364\27\41\213\244\267\232\373\222\102\156\156" +
+      "\300\33\11\66\302\236\235\14\313\34\254\40" +
+      "\124\341\57\135\1\42\22\40\246\267\251\157" +
+      "\72\16\374\273\373\113\142\146\34\31\321\274" +
+      "\353\273\220\52\77\351\257\250\21\33\340\347" +
+      "\161\205\246\264\236\342\62\277\44\12\374\20" +
+      "\247\126\113\227\5\55\50\122\103\205\304\7" +
+      "\241\37\214\102\33\323\61\14\273\365\140\330" +
+      "\53\173\201\354\45\211\272\274\207\252\374\73" +
+      "\343\375\244\372\252\231\3\102\157\76\217\15" +
+      "\243\42\133\111\110\135\64\226\57\21\120\36" +
+      "\202\341\126\254\307\310\145\244\307\331\32\307" +
+      "\13\310\67\223\371\107\15\17\44\325\241\335" +
+      "\251\6\363\52\112\341\235\262\52\132\77\106" +
+      "\326\371\264\170\234\230\166\240\257\315\110\247" +
+      "\146\5\302\104\114\37\31\5\106\5\1\344" +
+      "\216\245\120\276\4\153\327\121\106\362\343\115" +
+      "\163\124\73\371\31\162\357\104\136\365\317\206" +
+      "\201\44\212\215\256\45\312\351\43\301\367\40" +
+      "\307\131\66\335\40\357\65\362\253\331\174\26" +
+      "\43\256\373\47\351\307\354\272\332\116\60\47" +
+      "\231\333\346\324\265\123\6\242\200\164\231\231" +
+      "\330\177\200\244\242\75\336\300\202\231\312\250" +
+      "\210\233\111\161\24\275\132\146\140\364\153\300" +
+      "\175\271\112\275\220\223\307\373\200\255\40\14" +
+      "\367\322\244\60\51\160\101\144\316\236\175\316" +
+      "\147\10\111\171\300\327\147\74\162\176\303\200" +
+      "\250\352\373\15\314\120\247\353\140\362\266\23" +
+      "\345\270\316\147\107\211\371\237\237\301\115\327" +
+      "\240\237\212\224\272\4\52\324\146\101\34\374" +
+      "\341\31\344\116\157\65\76\161\165\323\117\253" +
+      "\132\350\21\322\247\75\143\177\30\47\337\274" +
+      "\370\227\157\46\55\235\357\352\251\64\75\306" +
+      "\330\160\300\14\71\312\271\25\26\346\63\247" +
+      "\211\7\141\20\254\50\65\22\133\302\230\211" +
+      "\232\301\132\102\72\330\370\141\42\130\305\106" +
+      "\232\202\123\365\30\142\15\65\221\26\56\210" +
+      "\152\33\340\53\306\270\345\43\135\10\123\335" +
+      "\41\351\370\216\111\222\113\116\230\110\272\30" +
+      "\265\210\376\144\203\106\315\206\212\2\305\76" +
+      "\256\12\263\26\33\303\56\162\360\21\132\52" +
+      "\236\276\121\126\25\257\40\5\242\104\163\360" +
+      "\237\372\64\106\217\74\365\5\344\204\120\144" +
+      "\277\204\131\255\144\360\62\366\314\342\172\132" +
+      "\202\273\102\54\66\351\331\340\254\245\174\146" +
+      "\244\240\375\156\265\346\13\17\300\127\106\371" +
+      "\140\215\236\254\54\166\204\127\216\116\226\73" +
+      "\226\160\251\250\333\273\60\120\360\153\3\157" +
+      "\234\146\15\264\75\142\106\245\314\337\377\376" +
+      "\34\26\311\356\40\21\0\100\104\235\3\261" +
+      "\25\12\373\364\135\143\266\15\163\216\253\151";
+
+  private static final String TABLE_PACKED_58 =
+      "\224\36\104\177\252\303\2\5\134\332\146\354" +
+      "\307\215\364\235\347\146\52\202\106\225\216\116" +
+      "\161\166\154\224\47\52\170\65\12\114\121\350" +
+      "\17\4\130\150\56\2\316\362\51\127\316\210" +
+      "\23\14\276\272\232\120\364\277\27\101\115\252" +
+      "\307\147\341\360\210\317\103\346\237\232\76\266" +
+      "\347\12\54\206\357\353\33\230\146\277\327\327" +
+      "\147\367\130\150\301\131\170\305\30\253\230\1" +
+      "\40\251\140\232\222\154\320\72\110\162\276\310" +
+      "\157\10\217\13\375\34\134\210\220\351\35\312" +
+      "\7\14\372\325\334\106\56\20\260\215\52\13" +
+      "\262\144\5\250\33\27\260\307\123\365\357\117" +
+      "\145\63\257\302\172\215\100\12\176\167\120\362" +
+      "\362\47\307\302\375\66\221\176\43\277\356\175" +
+      "\336\244\17\360\272\27\256\213\42\110\370\305" +
+      "\271\274\260\372\242\2\237\34\207\23\61\54" +
+      "\117\151\43\313\74\370\225\155\322\314\215\53" +
+      "\5\371\307\323\133\105\371\123\125\355\332\27" +
+      "\324\171\313\116\325\311\33\7\240\74\56\157" +
+      "\230\217\71\26\61\336\356\260\254\304\357\113" +
+      "\374\157\346\113\252\237\14\243\126\241\73\364" +
+      "\310\41\325\127\327\355\22\54\42\16\341\321" +
+      "\137\41\144\60\174\17\120\10\116\176\15\250" +
+      "\261\45\171\124\166\324\324\322\40\106\41\244" +
+      "\366\367\233\307\161\116\307\124\125\64\342\354" +
+      "\213\312\247\337\346\153\335\316\341\322\262\330" +
+      "\271\47\273\352\177\141\365\257\314\106\361\200" +
+      "\55\127\172\376\273\167\237\220\64\140\365\223" +
+      "\57\131\245\160\55\145\12\342\212\164\240\53" +
+      "\233\253\365\35\132\63\303\334\366\133\177\153" +
+      "\272\255\3\54\2\244\106\210\177\22\215\262" +
+      "\270\55\51\137\256\176\111\166\65\300\107\361" +
+      "\134\200\202\131\221\102\360\25\237\57\20\310" +
+      "\207\361\372\240\366\260\273\120\226\204\216\27" +
+      "\24\67\47\50\146\67\137\264\103\244\54\75" +
+      "\307\334\245\333\224\266\366\142\162\102\343\315" +
+      "\220\345\231\43\320\12\171\300\300\357\314\220" +
+      "\40\74\60\150\333\242\10\102\16\325\336\104" +
+      "\355\204\346\342\64\2\262\306\203\55\133\233" +
+      "\236\220\75\204\70\132\130\62\142\261\261\76" +
+      "\354\134\170\305\363\32\124\377\261\45\230\240" +
+      "\221\203\1\123\23\5\265\275\62\117\353\376" +
+      "\2\152\132\51\204\341\220\113\142\354\360\141" +
+      "\256\36\326\0\377\74\61\67\61\264\30\366" +
+      "\204\106\66\17\123\10\311\205\124\245\174\62" +
+      "\56\221\211\152\24\17\256\115\261\263\174\112" +
+      "\0\207\110\256\330\234\333\315\145\262\172\26" +
+      "\354\310\231\51\155\364\276\254\355\72\343\45" +
+      "\350\263\21\257\103\127\370\155\31\140\110\331" +
+      "\343\322\160\135\206\373\356\202\227\156\246\7" +
+      "\30\127\202\202\315\2\151\54\162\251\261\65" +
+      "\150\41\254\304\360\0\350\363\73\314\134\315" +
+      "\351\252\313\20\166\123\332\54\330\375\177\11" +
+      "\27\353\34\103\262\126\264\351\265\2\120\150" +
+      "\155\232\54\351\6\204\305\174\10\362\234\330" +
+      "\153\153\25\5\351\65\245\244\266\171\111\64" +
+      "\301\275\204\130\65\360\243\73\372\267\216\321" +
+      "\70\61\147\343\333\336\253\325\224\16\346\113" +
+      "\376\20\142\153\227\172\160\131\75\362\77\25" +
+      "\334\132\256\40\252\34\327\102\107\223\227\2" +
+      "\134\353\167\344\313\314\270\135\112\253\274\312" +
+      "\124\272\362\145\340\253\277\344\112\261\72\375" +
+      "\53\301\150\356\300\121\34\172\223\164\254\25" +
+      "\207\222\25\235\356\170\260\62\332\125\255\42" +
+      "\244\125\210\160\164\302\122\147\255\203\277\365" +
+      "\346\171\361\150\267\206\73\310\311\7\23\325" +
+      "\372\13\201\364\342\346\74\164\307\365\326\11" +
+      "\271\342\136\221\361\30\105\202\206\265\61\370" +
+      "\221\322\107\42\272\56\57\275\375\231\54\53" +
+      "\26\152\306\254\211\331\120\60\300\207\144\242" +
+      "\274\74\150\172\304\261\312\252\353\52\303\317" +
+      "\153\123\7\137\76\72\52\371\207\51\236\44" +
+      "\370\337\201\370\53\263\75\107\51\165\343\254" +
+      "\163\325\331\127\164\132\257\131\70\23\201\350" +
+      "\57\13\111\225\365\237\170\55\6\122\111\65" +
+      "\53\331\216\64\234\236\102\32\147\117\35\65" +
+      "\275\115\271\131\347\316\66\255\311\31\235\222" +
+      "\163\221\24\21\57\54\17\264\254\43\34\226" +
+      "\103\340\42\363\323\5\37\361\212\340\125\315" +
+      "\116\17\352\44\261\206\0\107\265\371\374\125" +
+      "\151\365\207\372\313\141\135\361\17\150\63\6" +
+      "\14\40\221\237\143\267\304\155\127\305\337\111" +
+      "\263\203\173\42\352\122\252\262\315\151\342\156" +
+      "\216\376\301\217\171\346\147\165\307\5\23\302" +
+      "\153\355\13\33\256\321\333\342\114\367\277\212" +
+      "\274\123\331\254\344\346\132\334\124\226\120\65" +
+      "\110\67\12\233\376\227\302\201\372\20\161\277" +
+      "\24\143\362\274\334\107\142\77\274\366\57\332" +
+      "\237\343\255\335\211\247\105\244\200\33\70\256" +
+      "\207\25\2\20\266\270\153\134\53\21\257\137" +
+      "\315\274\165\144\345\353\343\230\215\46\224\322" +
+      "\273\34\344\230\274\153\16\201\24\357\315\63" +
+      "\275\137\266\250\126\14\307\120\374\353\55\214" +
+      "\332\376\40\277\104\112\160\42\375\40\371\22" +
+      "\214\315\122\124\7\41\350\154\306\124\11\233" +
+      "\225\44\56\46\155\352\256\242\74\261\6\55" +
+      "\377\255\26\255\301\62\337\101\233\302\13\23" +
+      "\104\11\374\44\117\172\112\260\204\260\350\67" +
+      "\323\307\124\221\164\213\211\141\7\11\162\112" +
+      "\2\52\230\363\62\147\67\75\235\60\202\145";
+
+  private static final String TABLE_PACKED_59 =
+      "\230\360\364\252\67\114\210\106\165\225\277\201" +
+      "\351\340\157\153\221\27\222\166\215\244\314\106" +
+      "\366\264\112\177\164\141\370\264\55\275\112\122" +
+      "\120\366\55\371\305\244\277\301\145\145\131\261" +
+      "\73\370\74\40\215\14\307\300\36\45\205\223" +
+      "\134\34\331\334\147\62\205\131\130\231\35\150" +
+      "\114\230\62\111\167\157\137\132\261\22\6\133" +
+      "\177\41\216\126\52\163\370\140\203\162\240\57" +
+      "\66\254\72\362\200\371\260\265\210\367\223\275" +
+      "\347\357\76\52\72\210\373\11\41\20\52\321" +
+      "\316\106\361\250\240\355\277\165\63\336\16\54" +
+      "\63\370\221\205\70\25\41\302\163\342\107\247" +
+      "\147\102\337\111\114\44\73\151\217\363\244\344" +
+      "\125\40\114\2\364\206\44\246\303\304\52\251" +
+      "\305\57\224\137\201\43\153\371\142\313\275\160" +
+      "\315\273\33\60\373\37\157\54\264\224\252\35" +
+      "\120\25\65\127\204\332\237\225\211\101\67\45" +
+      "\232\203\230\127\241\10\334\2\216\362\4\105" +
+      "\235\372\374\377\57\55\171\302\4\0\133\242" +
+      "\342\136\214\361\46\24\146\10\120\115\336\75" +
+      "\0\336\104\177\107\225\350\176\375\20\261\66" +
+      "\327\353\361\177\112\374\301\61\237\172\332\13" +
+      "\203\346\172\156\363\330\60\332\23\126\202\332" +
+      "\111\122\47\33\350\116\6\66\131\34\106\337" +
+      "\62\155\74\175\350\22\116\350\23\322\132\72" +
+      "\144\66\60\20\143\247\251\141\56\252\252\313" +
+      "\251\302\144\244\267\21\322\346\233\345\373\225" +
+      "\27\60\210\105\106\32\45\277\243\220\131\170" +
+      "\134\102\121\270\176\341\147\224\326\327\56\222" +
+      "\21\244\126\171\43\217\170\34\317\330\140\260" +
+      "\7\250\33\46\332\356\274\313\274\101\107\361" +
+      "\374\40\163\75\73\152\255\177\173\352\46\45" +
+      "\106\226\341\323\146\300\22\353\24\141\302\257" +
+      "\166\253\302\265\114\311\173\322\357\341\153\233" +
+      "\374\236\262\220\251\350\232\252\275\263\233\177" +
+      "\201\27\207\341\60\271\162\341\106\375\151\35" +
+      "\125\233\337\102\356\232\357\233\154\37\50\266" +
+      "\107\324\207\34\313\246\64\134\65\207\215\323" +
+      "\172\15\64\107\330\1\60\355\234\251\275\27" +
+      "\130\322\104\137\73\164\342\257\23\312\161\353" +
+      "\201\357\55\120\55\55\140\356\211\233\61\116" +
+      "\172\327\51\327\167\362\323\200\247\333\5\370" +
+      "\76\162\271\352\154\303\362\65\360\43\146\231" +
+      "\110\132\63\5\0\331\0\106\134\251\53\373" +
+      "\370\364\312\232\261\377\322\214\1\273\71\55" +
+      "\173\173\154\262\270\134\356\244\376\103\120\10" +
+      "\257\251\332\264\376\40\67\360\72\3\162\317" +
+      "\15\247\271\347\303\203\271\307\233\12\121\175" +
+      "\163\122\106\357\216\76\250\103\220\343\235\142" +
+      "\72\201\376\204\207\50\107\132\265\225\344\117" +
+      "\255\27\274\106\364\232\41\337\66\355\240\326" +
+      "\330\14\76\57\73\217\76\126\236\302\255\205" +
+      "\335\374\135\1\204\344\371\342\234\235\36\20" +
+      "\110\277\165\210\46\126\142\361\30\176\245\364" +
+      "\124\373\103\226\333\231\53\170\30\262\17\2" +
+      "\115\225\203\73\340\111\111\44\75\117\125\106" +
+      "\56\132\15\163\170\252\301\4\33\320\213\340" +
+      "\134\334\3\155\6\137\321\354\332\356\101\147" +
+      "\17\110\272\36\25\334\162\34\140\131\350\346" +
+      "\236\143\316\12\360\10\122\211\210\361\65\161" +
+      "\216\154\311\251\367\21\310\214\367\56\52\300" +
+      "\143\25\161\321\240\52\250\207\6\4\74\140" +
+      "\123\122\271\110\262\101\300\101\71\345\171\224" +
+      "\111\222\77\67\102\331\52\22\355\70\22\34" +
+      "\46\331\15\210\135\333\60\165\177\176\54\334" +
+      "\30\200\115\315\275\6\332\360\223\302\336\200" +
+      "\266\202\321\7\333\135\30\2\343\20\346\251" +
+      "\336\267\226\33\342\142\204\12\155\7\310\264" +
+      "\371\217\367\21\53\233\201\307\137\50\371\317" +
+      "\205\157\274\357\241\60\103\12\241\0\146\26" +
+      "\75\47\353\345\216\125\5\375\155\220\265\232" +
+      "\356\261\301\217\271\161\241\112\264\246\225\321" +
+      "\70\56\64\110\153\27\354\370\100\37\46\127" +
+      "\254\14\20\142\207\11\111\40\234\337\352\24" +
+      "\311\114\341\356\336\130\143\247\62\105\163\6" +
+      "\56\277\244\333\203\214\376\0\347\316\211\232" +
+      "\366\244\132\222\34\165\65\140\60\172\114\166" +
+      "\177\230\207\45\272\173\146\302\45\20\266\13" +
+      "\127\117\3\126\141\173\74\33\152\124\325\121" +
+      "\161\76\206\126\55\41\307\41\360\31\132\143" +
+      "\173\371\303\334\261\74\133\371\54\342\364\232" +
+      "\373\35\167\331\175\324\311\203\34\332\235\31" +
+      "\371\14\10\15\150\145\163\27\173\374\62\151" +
+      "\271\171\205\305\104\262\326\124\42\176\51\361" +
+      "\273\266\134\110\150\377\157\47\156\160\213\165" +
+      "\160\276\120\107\224\224\43\252\350\61\317\176" +
+      "\135\220\267\276\21\10\340\105\233\71\163\121" +
+      "\254\15\277\130\166\11\113\303\203\37\255\306" +
+      "\27\113\344\142\321\20\351\225\240\61\113\47" +
+      "\25\135\141\242\257\235\243\122\67\74\33\245" +
+      "\62\3\236\77\371\371\154\316\135\247\366\45" +
+      "\66\255\65\103\351\156\345\312\50\136\344\321" +
+      "\360\136\372\35\6\206\160\364\234\36\176\16" +
+      "\162\22\134\6\317\346\117\40\37\153\231\216" +
+      "\154\266\40\232\315\217\226\104\46\243\265\336" +
+      "\61\157\371\343\67\357\21\107\123\350\310\112" +
+      "\64\250\267\1\346\300\377\173\333\265\4\26" +
+      "\76\234\325\363\336\225\313\302\75\142\127\315" +
+      "\23\62\274\212\330\44\4\177\52\77\153\157" +
+      "\145\56\116\243\124\154\245\163\155\242\60\272";
+
+  private int state;
+  private final StringBuilder text = new StringBuilder();
+
+  public int next(final int c) {
+    switch (this.state / 300) {
+      case 0:
+        return next0(c);
+      case 1:
+        return next1(c);
+      case 2:
+        return next2(c);
+      case 3:
+        return next3(c);
+      default:
+        throw new IllegalStateException("unexpected state: " + this.state);
+    }
+  }
+
+  private int next0(final int c) {
+    switch (this.state) {
+      case 0:
+        if (c == 74 || c == 115) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action0(c);
+        }
+        this.state = 147;
+        break;
+      case 1:
+        if (c == 114 || c == 84) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action1(c);
+        }
+        this.state = 10;
+        break;
+      case 2:
+        if (c == 78 || c == 59) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action2(c);
+        }
+        this.state = 351;
+        break;
+      case 3:
+        if (c == 82 || c == 76) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action3(c);
+        }
+        this.state = 861;
+        break;
+      case 4:
+        if (c == 86 || c == 103) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action4(c);
+        }
+        this.state = 1109;
+        break;
+      case 5:
+        if (c == 60 || c == 86) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action5(c);
+        }
+        this.state = 659;
+        break;
+      case 6:
+        if (c == 98 || c == 97) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action6(c);
+        }
+        this.state = 1119;
+        break;
+      case 7:
+        if (c == 84 || c == 117) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action7(c);
+        }
+        this.state = 1056;
+        break;
+      case 8:
+        if (c == 110 || c == 103) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action8(c);
+        }
+        this.state = 416;
+        break;
+      case 9:
+        if (c == 38 || c == 97) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action9(c);
+        }
+        this.state = 444;
+        break;
+      case 10:
+        if (c == 94 || c == 33) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action10(c);
+        }
+        this.state = 25;
+        break;
+      case 11:
+        if (c == 85 || c == 72) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action11(c);
+        }
+        this.state = 776;
+        break;
+      case 12:
+        if (c == 101 || c == 67) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action12(c);
+        }
+        this.state = 767;
+        break;
+      case 13:
+        if (c == 109 || c == 49) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action13(c);
+        }
+        this.state = 1114;
+        break;
+      case 14:
+        if (c == 100 || c == 64) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action14(c);
+        }
+        this.state = 255;
+        break;
+      case 15:
+        if (c == 75 || c == 66) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action15(c);
+        }
+        this.state = 704;
+        break;
+      case 16:
+        if (c == 108 || c == 97) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action16(c);
+        }
+        this.state = 215;
+        break;
+      case 17:
+        if (c == 120 || c == 100) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action17(c);
+        }
+        this.state = 63;
+        break;
+      case 18:
+        if (c == 67 || c == 67) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action18(c);
+        }
+        this.state = 715;
+        break;
+      case 19:
+        if (c == 97 || c == 91) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action19(c);
+        }
+        this.state = 984;
+        break;
+      case 20:
+        if (c == 81 || c == 80) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action20(c);
+        }
+        this.state = 29;
+        break;
+      case 21:
+        if (c == 63 || c == 115) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action21(c);
+        }
+        this.state = 388;
+        break;
+      case 22:
+        if (c == 49 || c == 59) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action22(c);
+        }
+        this.state = 586;
+        break;
+      case 23:
+        if (c == 106 || c == 79) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action23(c);
+        }
+        this.state = 719;
+        break;
+      case 24:
+        if (c == 86 || c == 64) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action24(c);
+        }
+        this.state = 396;
+        break;
+      case 25:
+        if (c == 94 || c == 75) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action25(c);
+        }
+        this.state = 184;
+        break;
+      case 26:
+        if (c == 80 || c == 44) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action26(c);
+        }
+        this.state = 699;
+        break;
+      case 27:
+        if (c == 98 || c == 74) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action27(c);
+        }
+        this.state = 967;
+        break;
+      case 28:
+        if (c == 49 || c == 91) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action28(c);
+        }
+        this.state = 758;
+        break;
+      case 29:
+        if (c == 76 || c == 53) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action29(c);
+        }
+        this.state = 1061;
+        break;
+      case 30:
+        if (c == 109 || c == 102) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action30(c);
+        }
+        this.state = 39;
+        break;
+      case 31:
+        if (c == 48 || c == 123) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action31(c);
+        }
+        this.state = 1134;
+        break;
+      case 32:
+        if (c == 60 || c == 96) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action32(c);
+        }
+        this.state = 209;
+        break;
+      case 33:
+        if (c == 52 || c == 126) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action33(c);
+        }
+        this.state = 33;
+        break;
+      case 34:
+        if (c == 68 || c == 98) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action34(c);
+        }
+        this.state = 442;
+        break;
+      case 35:
+        if (c == 120 || c == 49) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action35(c);
+        }
+        this.state = 1074;
+        break;
+      case 36:
+        if (c == 53 || c == 86) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action36(c);
+        }
+        this.state = 502;
+        break;
+      case 37:
+        if (c == 45 || c == 121) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action37(c);
+        }
+        this.state = 367;
+        break;
+      case 38:
+        if (c == 106 || c == 86) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action38(c);
+        }
+        this.state = 331;
+        break;
+      case 39:
+        if (c == 65 || c == 39) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action39(c);
+        }
+        this.state = 133;
+        break;
+      case 40:
+        if (c == 80 || c == 75) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action40(c);
+        }
+        this.state = 886;
+        break;
+      case 41:
+        if (c == 65 || c == 79) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action41(c);
+        }
+        this.state = 874;
+        break;
+      case 42:
+        if (c == 101 || c == 64) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action42(c);
+        }
+        this.state = 97;
+        break;
+      case 43:
+        if (c == 104 || c == 81) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action43(c);
+        }
+        this.state = 111;
+        break;
+      case 44:
+        if (c == 74 || c == 108) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action44(c);
+        }
+        this.state = 317;
+        break;
+      case 45:
+        if (c == 78 || c == 84) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action45(c);
+        }
+        this.state = 527;
+        break;
+      case 46:
+        if (c == 93 || c == 102) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action46(c);
+        }
+        this.state = 494;
+        break;
+      case 47:
+        if (c == 52 || c == 105) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action47(c);
+        }
+        this.state = 770;
+        break;
+      case 48:
+        if (c == 80 || c == 63) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action48(c);
+        }
+        this.state = 343;
+        break;
+      case 49:
+        if (c == 82 || c == 90) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action49(c);
+        }
+        this.state = 411;
+        break;
+      case 50:
+        if (c == 96 || c == 115) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action50(c);
+        }
+        this.state = 838;
+        break;
+      case 51:
+        if (c == 71 || c == 93) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action51(c);
+        }
+        this.state = 788;
+        break;
+      case 52:
+        if (c == 95 || c == 110) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action52(c);
+        }
+        this.state = 375;
+        break;
+      case 53:
+        if (c == 82 || c == 60) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action53(c);
+        }
+        this.state = 222;
+        break;
+      case 54:
+        if (c == 61 || c == 100) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action54(c);
+        }
+        this.state = 608;
+        break;
+      case 55:
+        if (c == 77 || c == 94) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action55(c);
+        }
+        this.state = 222;
+        break;
+      case 56:
+        if (c == 71 || c == 92) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action56(c);
+        }
+        this.state = 546;
+        break;
+      case 57:
+        if (c == 52 || c == 114) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action57(c);
+        }
+        this.state = 886;
+        break;
+      case 58:
+        if (c == 46 || c == 120) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action58(c);
+        }
+        this.state = 554;
+        break;
+      case 59:
+        if (c == 53 || c == 112) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action59(c);
+        }
+        this.state = 594;
+        break;
+      case 60:
+        if (c == 34 || c == 73) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action60(c);
+        }
+        this.state = 830;
+        break;
+      case 61:
+        if (c == 105 || c == 41) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action61(c);
+        }
+        this.state = 667;
+        break;
+      case 62:
+        if (c == 106 || c == 57) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action62(c);
+        }
+        this.state = 478;
+        break;
+      case 63:
+        if (c == 101 || c == 113) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action63(c);
+        }
+        this.state = 693;
+        break;
+      case 64:
+        if (c == 65 || c == 114) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action64(c);
+        }
+        this.state = 663;
+        break;
+      case 65:
+        if (c == 65 || c == 104) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action65(c);
+        }
+        this.state = 1157;
+        break;
+      case 66:
+        if (c == 80 || c == 106) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action66(c);
+        }
+        this.state = 221;
+        break;
+      case 67:
+        if (c == 66 || c == 58) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action67(c);
+        }
+        this.state = 1159;
+        break;
+      case 68:
+        if (c == 80 || c == 115) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action68(c);
+        }
+        this.state = 520;
+        break;
+      case 69:
+        if (c == 98 || c == 111) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action69(c);
+        }
+        this.state = 607;
+        break;
+      case 70:
+        if (c == 92 || c == 100) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action70(c);
+        }
+        this.state = 60;
+        break;
+      case 71:
+        if (c == 113 || c == 80) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action71(c);
+        }
+        this.state = 945;
+        break;
+      case 72:
+        if (c == 37 || c == 35) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action72(c);
+        }
+        this.state = 400;
+        break;
+      case 73:
+        if (c == 116 || c == 119) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action73(c);
+        }
+        this.state = 301;
+        break;
+      case 74:
+        if (c == 125 || c == 48) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action74(c);
+        }
+        this.state = 752;
+        break;
+      case 75:
+        if (c == 89 || c == 100) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action75(c);
+        }
+        this.state = 106;
+        break;
+      case 76:
+        if (c == 40 || c == 33) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action76(c);
+        }
+        this.state = 469;
+        break;
+      case 77:
+        if (c == 124 || c == 80) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action77(c);
+        }
+        this.state = 359;
+        break;
+      case 78:
+        if (c == 89 || c == 68) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action78(c);
+        }
+        this.state = 892;
+        break;
+      case 79:
+        if (c == 79 || c == 63) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action79(c);
+        }
+        this.state = 216;
+        break;
+      case 80:
+        if (c == 56 || c == 122) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action80(c);
+        }
+        this.state = 269;
+        break;
+      case 81:
+        if (c == 71 || c == 56) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action81(c);
+        }
+        this.state = 833;
+        break;
+      case 82:
+        if (c == 104 || c == 69) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action82(c);
+        }
+        this.state = 703;
+        break;
+      case 83:
+        if (c == 69 || c == 121) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action83(c);
+        }
+        this.state = 715;
+        break;
+      case 84:
+        if (c == 55 || c == 91) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action84(c);
+        }
+        this.state = 978;
+        break;
+      case 85:
+        if (c == 50 || c == 75) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action85(c);
+        }
+        this.state = 1133;
+        break;
+      case 86:
+        if (c == 36 || c == 48) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action86(c);
+        }
+        this.state = 520;
+        break;
+      case 87:
+        if (c == 73 || c == 112) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action87(c);
+        }
+        this.state = 1142;
+        break;
+      case 88:
+        if (c == 117 || c == 82) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action88(c);
+        }
+        this.state = 1140;
+        break;
+      case 89:
+        if (c == 53 || c == 83) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action89(c);
+        }
+        this.state = 944;
+        break;
+      case 90:
+        if (c == 69 || c == 112) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action90(c);
+        }
+        this.state = 1050;
+        break;
+      case 91:
+        if (c == 113 || c == 43) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action91(c);
+        }
+        this.state = 1068;
+        break;
+      case 92:
+        if (c == 45 || c == 99) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action92(c);
+        }
+        this.state = 37;
+        break;
+      case 93:
+        if (c == 32 || c == 92) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action93(c);
+        }
+        this.state = 133;
+        break;
+      case 94:
+        if (c == 109 || c == 81) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action94(c);
+        }
+        this.state = 155;
+        break;
+      case 95:
+        if (c == 60 || c == 104) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action95(c);
+        }
+        this.state = 716;
+        break;
+      case 96:
+        if (c == 35 || c == 92) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action96(c);
+        }
+        this.state = 808;
+        break;
+      case 97:
+        if (c == 108 || c == 45) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action97(c);
+        }
+        this.state = 908;
+        break;
+      case 98:
+        if (c == 82 || c == 72) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action98(c);
+        }
+        this.state = 1128;
+        break;
+      case 99:
+        if (c == 78 || c == 35) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action99(c);
+        }
+        this.state = 413;
+        break;
+      case 100:
+        if (c == 82 || c == 124) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action100(c);
+        }
+        this.state = 1165;
+        break;
+      case 101:
+        if (c == 35 || c == 59) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action101(c);
+        }
+        this.state = 290;
+        break;
+      case 102:
+        if (c == 62 || c == 69) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action102(c);
+        }
+        this.state = 456;
+        break;
+      case 103:
+        if (c == 120 || c == 49) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action103(c);
+        }
+        this.state = 961;
+        break;
+      case 104:
+        if (c == 76 || c == 47) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action104(c);
+        }
+        this.state = 852;
+        break;
+      case 105:
+        if (c == 122 || c == 103) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action105(c);
+        }
+        this.state = 1080;
+        break;
+      case 106:
+        if (c == 46 || c == 107) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action106(c);
+        }
+        this.state = 973;
+        break;
+      case 107:
+        if (c == 124 || c == 111) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action107(c);
+        }
+        this.state = 991;
+        break;
+      case 108:
+        if (c == 46 || c == 89) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action108(c);
+        }
+        this.state = 426;
+        break;
+      case 109:
+        if (c == 106 || c == 88) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action109(c);
+        }
+        this.state = 393;
+        break;
+      case 110:
+        if (c == 74 || c == 33) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action110(c);
+        }
+        this.state = 434;
+        break;
+      case 111:
+        if (c == 47 || c == 66) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action111(c);
+        }
+        this.state = 324;
+        break;
+      case 112:
+        if (c == 107 || c == 85) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action112(c);
+        }
+        this.state = 235;
+        break;
+      case 113:
+        if (c == 43 || c == 67) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action113(c);
+        }
+        this.state = 264;
+        break;
+      case 114:
+        if (c == 76 || c == 92) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action114(c);
+        }
+        this.state = 73;
+        break;
+      case 115:
+        if (c == 45 || c == 88) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action115(c);
+        }
+        this.state = 392;
+        break;
+      case 116:
+        if (c == 62 || c == 44) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action116(c);
+        }
+        this.state = 532;
+        break;
+      case 117:
+        if (c == 119 || c == 53) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action117(c);
+        }
+        this.state = 651;
+        break;
+      case 118:
+        if (c == 120 || c == 96) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action118(c);
+        }
+        this.state = 552;
+        break;
+      case 119:
+        if (c == 80 || c == 60) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action119(c);
+        }
+        this.state = 43;
+        break;
+      case 120:
+        if (c == 85 || c == 79) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action120(c);
+        }
+        this.state = 1115;
+        break;
+      case 121:
+        if (c == 105 || c == 87) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action121(c);
+        }
+        this.state = 651;
+        break;
+      case 122:
+        if (c == 62 || c == 46) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action122(c);
+        }
+        this.state = 990;
+        break;
+      case 123:
+        if (c == 104 || c == 53) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action123(c);
+        }
+        this.state = 1078;
+        break;
+      case 124:
+        if (c == 103 || c == 73) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action124(c);
+        }
+        this.state = 952;
+        break;
+      case 125:
+        if (c == 45 || c == 121) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action125(c);
+        }
+        this.state = 501;
+        break;
+      case 126:
+        if (c == 81 || c == 111) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action126(c);
+        }
+        this.state = 838;
+        break;
+      case 127:
+        if (c == 114 || c == 69) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action127(c);
+        }
+        this.state = 337;
+        break;
+      case 128:
+        if (c == 45 || c == 106) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action128(c);
+        }
+        this.state = 1114;
+        break;
+      case 129:
+        if (c == 55 || c == 36) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action129(c);
+        }
+        this.state = 709;
+        break;
+      case 130:
+        if (c == 71 || c == 62) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action130(c);
+        }
+        this.state = 73;
+        break;
+      case 131:
+        if (c == 66 || c == 80) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action131(c);
+        }
+        this.state = 201;
+        break;
+      case 132:
+        if (c == 103 || c == 95) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action132(c);
+        }
+        this.state = 458;
+        break;
+      case 133:
+        if (c == 125 || c == 118) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action133(c);
+        }
+        this.state = 624;
+        break;
+      case 134:
+        if (c == 41 || c == 79) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action134(c);
+        }
+        this.state = 809;
+        break;
+      case 135:
+        if (c == 43 || c == 34) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action135(c);
+        }
+        this.state = 837;
+        break;
+      case 136:
+        if (c == 112 || c == 116) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action136(c);
+        }
+        this.state = 157;
+        break;
+      case 137:
+        if (c == 88 || c == 42) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action137(c);
+        }
+        this.state = 801;
+        break;
+      case 138:
+        if (c == 101 || c == 124) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action138(c);
+        }
+        this.state = 52;
+        break;
+      case 139:
+        if (c == 113 || c == 42) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action139(c);
+        }
+        this.state = 769;
+        break;
+      case 140:
+        if (c == 38 || c == 68) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action140(c);
+        }
+        this.state = 33;
+        break;
+      case 141:
+        if (c == 70 || c == 46) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action141(c);
+        }
+        this.state = 567;
+        break;
+      case 142:
+        if (c == 32 || c == 79) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action142(c);
+        }
+        this.state = 567;
+        break;
+      case 143:
+        if (c == 84 || c == 123) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action143(c);
+        }
+        this.state = 83;
+        break;
+      case 144:
+        if (c == 91 || c == 63) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action144(c);
+        }
+        this.state = 135;
+        break;
+      case 145:
+        if (c == 112 || c == 85) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action145(c);
+        }
+        this.state = 958;
+        break;
+      case 146:
+        if (c == 78 || c == 121) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action146(c);
+        }
+        this.state = 1166;
+        break;
+      case 147:
+        if (c == 74 || c == 84) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action147(c);
+        }
+        this.state = 773;
+        break;
+      case 148:
+        if (c == 48 || c == 107) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action148(c);
+        }
+        this.state = 660;
+        break;
+      case 149:
+        if (c == 123 || c == 99) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action149(c);
+        }
+        this.state = 40;
+        break;
+      case 150:
+        if (c == 125 || c == 100) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action150(c);
+        }
+        this.state = 310;
+        break;
+      case 151:
+        if (c == 50 || c == 68) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action151(c);
+        }
+        this.state = 1172;
+        break;
+      case 152:
+        if (c == 56 || c == 119) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action152(c);
+        }
+        this.state = 99;
+        break;
+      case 153:
+        if (c == 93 || c == 42) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action153(c);
+        }
+        this.state = 260;
+        break;
+      case 154:
+        if (c == 116 || c == 50) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action154(c);
+        }
+        this.state = 410;
+        break;
+      case 155:
+        if (c == 69 || c == 119) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action155(c);
+        }
+        this.state = 154;
+        break;
+      case 156:
+        if (c == 100 || c == 55) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action156(c);
+        }
+        this.state = 1190;
+        break;
+      case 157:
+        if (c == 80 || c == 95) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action157(c);
+        }
+        this.state = 918;
+        break;
+      case 158:
+        if (c == 37 || c == 39) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action158(c);
+        }
+        this.state = 1059;
+        break;
+      case 159:
+        if (c == 35 || c == 117) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action159(c);
+        }
+        this.state = 182;
+        break;
+      case 160:
+        if (c == 50 || c == 37) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action160(c);
+        }
+        this.state = 1137;
+        break;
+      case 161:
+        if (c == 122 || c == 68) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action161(c);
+        }
+        this.state = 23;
+        break;
+      case 162:
+        if (c == 104 || c == 118) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action162(c);
+        }
+        this.state = 750;
+        break;
+      case 163:
+        if (c == 126 || c == 55) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action163(c);
+        }
+        this.state = 512;
+        break;
+      case 164:
+        if (c == 115 || c == 36) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action164(c);
+        }
+        this.state = 600;
+        break;
+      case 165:
+        if (c == 44 || c == 45) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action165(c);
+        }
+        this.state = 271;
+        break;
+      case 166:
+        if (c == 61 || c == 66) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action166(c);
+        }
+        this.state = 1113;
+        break;
+      case 167:
+        if (c == 40 || c == 102) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action167(c);
+        }
+        this.state = 713;
+        break;
+      case 168:
+        if (c == 58 || c == 122) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action168(c);
+        }
+        this.state = 313;
+        break;
+      case 169:
+        if (c == 56 || c == 107) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action169(c);
+        }
+        this.state = 1002;
+        break;
+      case 170:
+        if (c == 64 || c == 35) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action170(c);
+        }
+        this.state = 836;
+        break;
+      case 171:
+        if (c == 48 || c == 104) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action171(c);
+        }
+        this.state = 1022;
+        break;
+      case 172:
+        if (c == 57 || c == 112) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action172(c);
+        }
+        this.state = 36;
+        break;
+      case 173:
+        if (c == 61 || c == 112) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action173(c);
+        }
+        this.state = 1131;
+        break;
+      case 174:
+        if (c == 112 || c == 110) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action174(c);
+        }
+        this.state = 184;
+        break;
+      case 175:
+        if (c == 33 || c == 103) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action175(c);
+        }
+        this.state = 316;
+        break;
+      case 176:
+        if (c == 47 || c == 104) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action176(c);
+        }
+        this.state = 1074;
+        break;
+      case 177:
+        if (c == 89 || c == 85) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action177(c);
+        }
+        this.state = 22;
+        break;
+      case 178:
+        if (c == 66 || c == 93) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action178(c);
+        }
+        this.state = 1083;
+        break;
+      case 179:
+        if (c == 96 || c == 53) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action179(c);
+        }
+        this.state = 830;
+        break;
+      case 180:
+        if (c == 111 || c == 100) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action180(c);
+        }
+        this.state = 933;
+        break;
+      case 181:
+        if (c == 34 || c == 97) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action181(c);
+        }
+        this.state = 149;
+        break;
+      case 182:
+        if (c == 60 || c == 82) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action182(c);
+        }
+        this.state = 486;
+        break;
+      case 183:
+        if (c == 60 || c == 58) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action183(c);
+        }
+        this.state = 67;
+        break;
+      case 184:
+        if (c == 43 || c == 72) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action184(c);
+        }
+        this.state = 717;
+        break;
+      case 185:
+        if (c == 101 || c == 101) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action185(c);
+        }
+        this.state = 554;
+        break;
+      case 186:
+        if (c == 39 || c == 108) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action186(c);
+        }
+        this.state = 986;
+        break;
+      case 187:
+        if (c == 96 || c == 44) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action187(c);
+        }
+        this.state = 42;
+        break;
+      case 188:
+        if (c == 122 || c == 79) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action188(c);
+        }
+        this.state = 496;
+        break;
+      case 189:
+        if (c == 122 || c == 82) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action189(c);
+        }
+        this.state = 135;
+        break;
+      case 190:
+        if (c == 45 || c == 50) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action190(c);
+        }
+        this.state = 826;
+        break;
+      case 191:
+        if (c == 97 || c == 89) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action191(c);
+        }
+        this.state = 0;
+        break;
+      case 192:
+        if (c == 78 || c == 63) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action192(c);
+        }
+        this.state = 83;
+        break;
+      case 193:
+        if (c == 40 || c == 117) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action193(c);
+        }
+        this.state = 356;
+        break;
+      case 194:
+        if (c == 84 || c == 52) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action194(c);
+        }
+        this.state = 1127;
+        break;
+      case 195:
+        if (c == 46 || c == 109) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action195(c);
+        }
+        this.state = 71;
+        break;
+      case 196:
+        if (c == 43 || c == 66) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action196(c);
+        }
+        this.state = 312;
+        break;
+      case 197:
+        if (c == 113 || c == 98) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action197(c);
+        }
+        this.state = 781;
+        break;
+      case 198:
+        if (c == 79 || c == 121) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action198(c);
+        }
+        this.state = 707;
+        break;
+      case 199:
+        if (c == 86 || c == 84) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action199(c);
+        }
+        this.state = 833;
+        break;
+      case 200:
+        if (c == 114 || c == 93) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action200(c);
+        }
+        this.state = 185;
+        break;
+      case 201:
+        if (c == 33 || c == 112) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action201(c);
+        }
+        this.state = 980;
+        break;
+      case 202:
+        if (c == 46 || c == 114) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action202(c);
+        }
+        this.state = 1140;
+        break;
+      case 203:
+        if (c == 108 || c == 121) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action203(c);
+        }
+        this.state = 332;
+        break;
+      case 204:
+        if (c == 77 || c == 34) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action204(c);
+        }
+        this.state = 138;
+        break;
+      case 205:
+        if (c == 101 || c == 121) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action205(c);
+        }
+        this.state = 792;
+        break;
+      case 206:
+        if (c == 67 || c == 64) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action206(c);
+        }
+        this.state = 945;
+        break;
+      case 207:
+        if (c == 41 || c == 48) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action207(c);
+        }
+        this.state = 987;
+        break;
+      case 208:
+        if (c == 88 || c == 63) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action208(c);
+        }
+        this.state = 491;
+        break;
+      case 209:
+        if (c == 85 || c == 97) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action209(c);
+        }
+        this.state = 529;
+        break;
+      case 210:
+        if (c == 40 || c == 38) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action210(c);
+        }
+        this.state = 525;
+        break;
+      case 211:
+        if (c == 91 || c == 94) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action211(c);
+        }
+        this.state = 90;
+        break;
+      case 212:
+        if (c == 88 || c == 107) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action212(c);
+        }
+        this.state = 977;
+        break;
+      case 213:
+        if (c == 72 || c == 37) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action213(c);
+        }
+        this.state = 270;
+        break;
+      case 214:
+        if (c == 121 || c == 34) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action214(c);
+        }
+        this.state = 372;
+        break;
+      case 215:
+        if (c == 32 || c == 112) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action215(c);
+        }
+        this.state = 1055;
+        break;
+      case 216:
+        if (c == 109 || c == 71) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action216(c);
+        }
+        this.state = 1187;
+        break;
+      case 217:
+        if (c == 56 || c == 105) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action217(c);
+        }
+        this.state = 1011;
+        break;
+      case 218:
+        if (c == 90 || c == 55) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action218(c);
+        }
+        this.state = 1092;
+        break;
+      case 219:
+        if (c == 85 || c == 118) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action219(c);
+        }
+        this.state = 551;
+        break;
+      case 220:
+        if (c == 61 || c == 104) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action220(c);
+        }
+        this.state = 292;
+        break;
+      case 221:
+        if (c == 98 || c == 79) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action221(c);
+        }
+        this.state = 242;
+        break;
+      case 222:
+        if (c == 40 || c == 92) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action222(c);
+        }
+        this.state = 1044;
+        break;
+      case 223:
+        if (c == 34 || c == 55) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action223(c);
+        }
+        this.state = 171;
+        break;
+      case 224:
+        if (c == 60 || c == 117) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action224(c);
+        }
+        this.state = 1070;
+        break;
+      case 225:
+        if (c == 113 || c == 95) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action225(c);
+        }
+        this.state = 709;
+        break;
+      case 226:
+        if (c == 94 || c == 47) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action226(c);
+        }
+        this.state = 526;
+        break;
+      case 227:
+        if (c == 36 || c == 97) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action227(c);
+        }
+        this.state = 305;
+        break;
+      case 228:
+        if (c == 47 || c == 74) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action228(c);
+        }
+        this.state = 688;
+        break;
+      case 229:
+        if (c == 87 || c == 42) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action229(c);
+        }
+        this.state = 290;
+        break;
+      case 230:
+        if (c == 74 || c == 44) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action230(c);
+        }
+        this.state = 1168;
+        break;
+      case 231:
+        if (c == 77 || c == 114) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action231(c);
+        }
+        this.state = 394;
+        break;
+      case 232:
+        if (c == 99 || c == 93) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action232(c);
+        }
+        this.state = 649;
+        break;
+      case 233:
+        if (c == 100 || c == 102) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action233(c);
+        }
+        this.state = 211;
+        break;
+      case 234:
+        if (c == 38 || c == 59) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action234(c);
+        }
+        this.state = 395;
+        break;
+      case 235:
+        if (c == 91 || c == 90) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action235(c);
+        }
+        this.state = 604;
+        break;
+      case 236:
+        if (c == 97 || c == 49) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action236(c);
+        }
+        this.state = 463;
+        break;
+      case 237:
+        if (c == 119 || c == 44) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action237(c);
+        }
+        this.state = 841;
+        break;
+      case 238:
+        if (c == 90 || c == 51) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action238(c);
+        }
+        this.state = 592;
+        break;
+      case 239:
+        if (c == 62 || c == 110) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action239(c);
+        }
+        this.state = 150;
+        break;
+      case 240:
+        if (c == 41 || c == 34) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action240(c);
+        }
+        this.state = 859;
+        break;
+      case 241:
+        if (c == 48 || c == 60) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action241(c);
+        }
+        this.state = 1068;
+        break;
+      case 242:
+        if (c == 97 || c == 125) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action242(c);
+        }
+        this.state = 547;
+        break;
+      case 243:
+        if (c == 79 || c == 126) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action243(c);
+        }
+        this.state = 38;
+        break;
+      case 244:
+        if (c == 71 || c == 55) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action244(c);
+        }
+        this.state = 247;
+        break;
+      case 245:
+        if (c == 66 || c == 101) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action245(c);
+        }
+        this.state = 847;
+        break;
+      case 246:
+        if (c == 53 || c == 114) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action246(c);
+        }
+        this.state = 586;
+        break;
+      case 247:
+        if (c == 92 || c == 85) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action247(c);
+        }
+        this.state = 1026;
+        break;
+      case 248:
+        if (c == 35 || c == 80) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action248(c);
+        }
+        this.state = 961;
+        break;
+      case 249:
+        if (c == 50 || c == 44) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action249(c);
+        }
+        this.state = 680;
+        break;
+      case 250:
+        if (c == 74 || c == 75) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action250(c);
+        }
+        this.state = 985;
+        break;
+      case 251:
+        if (c == 90 || c == 126) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action251(c);
+        }
+        this.state = 682;
+        break;
+      case 252:
+        if (c == 101 || c == 40) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action252(c);
+        }
+        this.state = 1025;
+        break;
+      case 253:
+        if (c == 109 || c == 51) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action253(c);
+        }
+        this.state = 595;
+        break;
+      case 254:
+        if (c == 92 || c == 46) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action254(c);
+        }
+        this.state = 112;
+        break;
+      case 255:
+        if (c == 53 || c == 69) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action255(c);
+        }
+        this.state = 979;
+        break;
+      case 256:
+        if (c == 80 || c == 56) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action256(c);
+        }
+        this.state = 117;
+        break;
+      case 257:
+        if (c == 119 || c == 44) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action257(c);
+        }
+        this.state = 1112;
+        break;
+      case 258:
+        if (c == 55 || c == 46) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action258(c);
+        }
+        this.state = 670;
+        break;
+      case 259:
+        if (c == 81 || c == 99) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action259(c);
+        }
+        this.state = 57;
+        break;
+      case 260:
+        if (c == 94 || c == 84) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action260(c);
+        }
+        this.state = 43;
+        break;
+      case 261:
+        if (c == 85 || c == 114) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action261(c);
+        }
+        this.state = 248;
+        break;
+      case 262:
+        if (c == 53 || c == 79) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action262(c);
+        }
+        this.state = 401;
+        break;
+      case 263:
+        if (c == 115 || c == 74) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action263(c);
+        }
+        this.state = 1119;
+        break;
+      case 264:
+        if (c == 54 || c == 56) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action264(c);
+        }
+        this.state = 465;
+        break;
+      case 265:
+        if (c == 111 || c == 63) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action265(c);
+        }
+        this.state = 472;
+        break;
+      case 266:
+        if (c == 109 || c == 80) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action266(c);
+        }
+        this.state = 982;
+        break;
+      case 267:
+        if (c == 48 || c == 62) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action267(c);
+        }
+        this.state = 144;
+        break;
+      case 268:
+        if (c == 102 || c == 122) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action268(c);
+        }
+        this.state = 785;
+        break;
+      case 269:
+        if (c == 43 || c == 65) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action269(c);
+        }
+        this.state = 171;
+        break;
+      case 270:
+        if (c == 122 || c == 90) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action270(c);
+        }
+        this.state = 567;
+        break;
+      case 271:
+        if (c == 114 || c == 33) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action271(c);
+        }
+        this.state = 952;
+        break;
+      case 272:
+        if (c == 63 || c == 121) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action272(c);
+        }
+        this.state = 294;
+        break;
+      case 273:
+        if (c == 94 || c == 77) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action273(c);
+        }
+        this.state = 688;
+        break;
+      case 274:
+        if (c == 78 || c == 59) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action274(c);
+        }
+        this.state = 759;
+        break;
+      case 275:
+        if (c == 111 || c == 45) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action275(c);
+        }
+        this.state = 483;
+        break;
+      case 276:
+        if (c == 122 || c == 41) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action276(c);
+        }
+        this.state = 413;
+        break;
+      case 277:
+        if (c == 61 || c == 61) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action277(c);
+        }
+        this.state = 386;
+        break;
+      case 278:
+        if (c == 34 || c == 45) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action278(c);
+        }
+        this.state = 961;
+        break;
+      case 279:
+        if (c == 83 || c == 113) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action279(c);
+        }
+        this.state = 60;
+        break;
+      case 280:
+        if (c == 52 || c == 71) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action280(c);
+        }
+        this.state = 423;
+        break;
+      case 281:
+        if (c == 63 || c == 52) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action281(c);
+        }
+        this.state = 440;
+        break;
+      case 282:
+        if (c == 102 || c == 120) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action282(c);
+        }
+        this.state = 766;
+        break;
+      case 283:
+        if (c == 117 || c == 72) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action283(c);
+        }
+        this.state = 122;
+        break;
+      case 284:
+        if (c == 83 || c == 94) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action284(c);
+        }
+        this.state = 233;
+        break;
+      case 285:
+        if (c == 63 || c == 37) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action285(c);
+        }
+        this.state = 780;
+        break;
+      case 286:
+        if (c == 50 || c == 42) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action286(c);
+        }
+        this.state = 648;
+        break;
+      case 287:
+        if (c == 108 || c == 63) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action287(c);
+        }
+        this.state = 572;
+        break;
+      case 288:
+        if (c == 60 || c == 117) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action288(c);
+        }
+        this.state = 320;
+        break;
+      case 289:
+        if (c == 53 || c == 53) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action289(c);
+        }
+        this.state = 155;
+        break;
+      case 290:
+        if (c == 122 || c == 89) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action290(c);
+        }
+        this.state = 499;
+        break;
+      case 291:
+        if (c == 84 || c == 44) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action291(c);
+        }
+        this.state = 501;
+        break;
+      case 292:
+        if (c == 47 || c == 95) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action292(c);
+        }
+        this.state = 630;
+        break;
+      case 293:
+        if (c == 52 || c == 97) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action293(c);
+        }
+        this.state = 1169;
+        break;
+      case 294:
+        if (c == 34 || c == 124) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action294(c);
+        }
+        this.state = 655;
+        break;
+      case 295:
+        if (c == 111 || c == 121) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action295(c);
+        }
+        this.state = 655;
+        break;
+      case 296:
+        if (c == 39 || c == 118) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action296(c);
+        }
+        this.state = 511;
+        break;
+      case 297:
+        if (c == 34 || c == 77) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action297(c);
+        }
+        this.state = 800;
+        break;
+      case 298:
+        if (c == 81 || c == 46) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action298(c);
+        }
+        this.state = 710;
+        break;
+      case 299:
+        if (c == 44 || c == 76) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action299(c);
+        }
+        this.state = 879;
+        break;
+      default:
+        break;
+    }
+    return -1;
+  }
+
+  private int next1(final int c) {
+    switch (this.state) {
+      case 300:
+        if (c == 65 || c == 38) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action300(c);
+        }
+        this.state = 290;
+        break;
+      case 301:
+        if (c == 87 || c == 94) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action301(c);
+        }
+        this.state = 334;
+        break;
+      case 302:
+        if (c == 56 || c == 101) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action302(c);
+        }
+        this.state = 843;
+        break;
+      case 303:
+        if (c == 51 || c == 106) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action303(c);
+        }
+        this.state = 135;
+        break;
+      case 304:
+        if (c == 95 || c == 77) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action304(c);
+        }
+        this.state = 750;
+        break;
+      case 305:
+        if (c == 124 || c == 46) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action305(c);
+        }
+        this.state = 1197;
+        break;
+      case 306:
+        if (c == 109 || c == 59) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action306(c);
+        }
+        this.state = 1053;
+        break;
+      case 307:
+        if (c == 101 || c == 95) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action307(c);
+        }
+        this.state = 1049;
+        break;
+      case 308:
+        if (c == 66 || c == 58) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action308(c);
+        }
+        this.state = 876;
+        break;
+      case 309:
+        if (c == 41 || c == 32) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action309(c);
+        }
+        this.state = 743;
+        break;
+      case 310:
+        if (c == 33 || c == 54) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action310(c);
+        }
+        this.state = 794;
+        break;
+      case 311:
+        if (c == 98 || c == 114) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action311(c);
+        }
+        this.state = 646;
+        break;
+      case 312:
+        if (c == 35 || c == 122) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action312(c);
+        }
+        this.state = 973;
+        break;
+      case 313:
+        if (c == 46 || c == 76) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action313(c);
+        }
+        this.state = 95;
+        break;
+      case 314:
+        if (c == 101 || c == 90) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action314(c);
+        }
+        this.state = 636;
+        break;
+      case 315:
+        if (c == 74 || c == 49) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action315(c);
+        }
+        this.state = 276;
+        break;
+      case 316:
+        if (c == 74 || c == 59) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action316(c);
+        }
+        this.state = 549;
+        break;
+      case 317:
+        if (c == 104 || c == 117) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action317(c);
+        }
+        this.state = 206;
+        break;
+      case 318:
+        if (c == 57 || c == 113) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action318(c);
+        }
+        this.state = 991;
+        break;
+      case 319:
+        if (c == 103 || c == 98) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action319(c);
+        }
+        this.state = 76;
+        break;
+      case 320:
+        if (c == 52 || c == 115) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action320(c);
+        }
+        this.state = 149;
+        break;
+      case 321:
+        if (c == 54 || c == 42) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action321(c);
+        }
+        this.state = 49;
+        break;
+      case 322:
+        if (c == 89 || c == 67) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action322(c);
+        }
+        this.state = 1121;
+        break;
+      case 323:
+        if (c == 60 || c == 80) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action323(c);
+        }
+        this.state = 861;
+        break;
+      case 324:
+        if (c == 52 || c == 77) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action324(c);
+        }
+        this.state = 564;
+        break;
+      case 325:
+        if (c == 97 || c == 36) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action325(c);
+        }
+        this.state = 368;
+        break;
+      case 326:
+        if (c == 101 || c == 32) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action326(c);
+        }
+        this.state = 600;
+        break;
+      case 327:
+        if (c == 53 || c == 111) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action327(c);
+        }
+        this.state = 539;
+        break;
+      case 328:
+        if (c == 110 || c == 52) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action328(c);
+        }
+        this.state = 366;
+        break;
+      case 329:
+        if (c == 78 || c == 126) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action329(c);
+        }
+        this.state = 176;
+        break;
+      case 330:
+        if (c == 63 || c == 117) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action330(c);
+        }
+        this.state = 1029;
+        break;
+      case 331:
+        if (c == 89 || c == 34) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action331(c);
+        }
+        this.state = 183;
+        break;
+      case 332:
+        if (c == 74 || c == 60) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action332(c);
+        }
+        this.state = 593;
+        break;
+      case 333:
+        if (c == 60 || c == 87) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action333(c);
+        }
+        this.state = 970;
+        break;
+      case 334:
+        if (c == 61 || c == 75) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action334(c);
+        }
+        this.state = 560;
+        break;
+      case 335:
+        if (c == 84 || c == 92) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action335(c);
+        }
+        this.state = 1171;
+        break;
+      case 336:
+        if (c == 93 || c == 121) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action336(c);
+        }
+        this.state = 675;
+        break;
+      case 337:
+        if (c == 95 || c == 35) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action337(c);
+        }
+        this.state = 1097;
+        break;
+      case 338:
+        if (c == 43 || c == 103) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action338(c);
+        }
+        this.state = 440;
+        break;
+      case 339:
+        if (c == 60 || c == 32) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action339(c);
+        }
+        this.state = 386;
+        break;
+      case 340:
+        if (c == 76 || c == 122) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action340(c);
+        }
+        this.state = 629;
+        break;
+      case 341:
+        if (c == 57 || c == 61) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action341(c);
+        }
+        this.state = 355;
+        break;
+      case 342:
+        if (c == 77 || c == 54) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action342(c);
+        }
+        this.state = 431;
+        break;
+      case 343:
+        if (c == 42 || c == 109) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action343(c);
+        }
+        this.state = 1022;
+        break;
+      case 344:
+        if (c == 115 || c == 108) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action344(c);
+        }
+        this.state = 466;
+        break;
+      case 345:
+        if (c == 100 || c == 58) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action345(c);
+        }
+        this.state = 799;
+        break;
+      case 346:
+        if (c == 46 || c == 78) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action346(c);
+        }
+        this.state = 806;
+        break;
+      case 347:
+        if (c == 78 || c == 114) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action347(c);
+        }
+        this.state = 734;
+        break;
+      case 348:
+        if (c == 84 || c == 38) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action348(c);
+        }
+        this.state = 623;
+        break;
+      case 349:
+        if (c == 43 || c == 99) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action349(c);
+        }
+        this.state = 72;
+        break;
+      case 350:
+        if (c == 119 || c == 94) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action350(c);
+        }
+        this.state = 468;
+        break;
+      case 351:
+        if (c == 69 || c == 78) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action351(c);
+        }
+        this.state = 653;
+        break;
+      case 352:
+        if (c == 111 || c == 49) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action352(c);
+        }
+        this.state = 1181;
+        break;
+      case 353:
+        if (c == 93 || c == 36) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action353(c);
+        }
+        this.state = 841;
+        break;
+      case 354:
+        if (c == 49 || c == 47) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action354(c);
+        }
+        this.state = 51;
+        break;
+      case 355:
+        if (c == 54 || c == 51) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action355(c);
+        }
+        this.state = 370;
+        break;
+      case 356:
+        if (c == 76 || c == 110) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action356(c);
+        }
+        this.state = 366;
+        break;
+      case 357:
+        if (c == 86 || c == 68) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action357(c);
+        }
+        this.state = 836;
+        break;
+      case 358:
+        if (c == 34 || c == 44) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action358(c);
+        }
+        this.state = 264;
+        break;
+      case 359:
+        if (c == 81 || c == 98) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action359(c);
+        }
+        this.state = 166;
+        break;
+      case 360:
+        if (c == 82 || c == 77) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action360(c);
+        }
+        this.state = 1061;
+        break;
+      case 361:
+        if (c == 117 || c == 41) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action361(c);
+        }
+        this.state = 370;
+        break;
+      case 362:
+        if (c == 65 || c == 68) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action362(c);
+        }
+        this.state = 752;
+        break;
+      case 363:
+        if (c == 60 || c == 89) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action363(c);
+        }
+        this.state = 560;
+        break;
+      case 364:
+        if (c == 87 || c == 65) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action364(c);
+        }
+        this.state = 628;
+        break;
+      case 365:
+        if (c == 39 || c == 109) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action365(c);
+        }
+        this.state = 1192;
+        break;
+      case 366:
+        if (c == 74 || c == 60) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action366(c);
+        }
+        this.state = 942;
+        break;
+      case 367:
+        if (c == 95 || c == 103) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action367(c);
+        }
+        this.state = 429;
+        break;
+      case 368:
+        if (c == 118 || c == 102) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action368(c);
+        }
+        this.state = 923;
+        break;
+      case 369:
+        if (c == 83 || c == 86) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action369(c);
+        }
+        this.state = 417;
+        break;
+      case 370:
+        if (c == 60 || c == 100) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action370(c);
+        }
+        this.state = 137;
+        break;
+      case 371:
+        if (c == 69 || c == 88) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action371(c);
+        }
+        this.state = 688;
+        break;
+      case 372:
+        if (c == 108 || c == 103) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action372(c);
+        }
+        this.state = 264;
+        break;
+      case 373:
+        if (c == 68 || c == 67) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action373(c);
+        }
+        this.state = 751;
+        break;
+      case 374:
+        if (c == 72 || c == 88) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action374(c);
+        }
+        this.state = 681;
+        break;
+      case 375:
+        if (c == 50 || c == 45) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action375(c);
+        }
+        this.state = 900;
+        break;
+      case 376:
+        if (c == 70 || c == 83) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action376(c);
+        }
+        this.state = 1023;
+        break;
+      case 377:
+        if (c == 75 || c == 122) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action377(c);
+        }
+        this.state = 519;
+        break;
+      case 378:
+        if (c == 83 || c == 119) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action378(c);
+        }
+        this.state = 813;
+        break;
+      case 379:
+        if (c == 66 || c == 39) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action379(c);
+        }
+        this.state = 244;
+        break;
+      case 380:
+        if (c == 110 || c == 79) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action380(c);
+        }
+        this.state = 744;
+        break;
+      case 381:
+        if (c == 80 || c == 53) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action381(c);
+        }
+        this.state = 774;
+        break;
+      case 382:
+        if (c == 106 || c == 73) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action382(c);
+        }
+        this.state = 806;
+        break;
+      case 383:
+        if (c == 108 || c == 83) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action383(c);
+        }
+        this.state = 892;
+        break;
+      case 384:
+        if (c == 44 || c == 120) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action384(c);
+        }
+        this.state = 860;
+        break;
+      case 385:
+        if (c == 72 || c == 61) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action385(c);
+        }
+        this.state = 27;
+        break;
+      case 386:
+        if (c == 80 || c == 37) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action386(c);
+        }
+        this.state = 270;
+        break;
+      case 387:
+        if (c == 97 || c == 124) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action387(c);
+        }
+        this.state = 308;
+        break;
+      case 388:
+        if (c == 119 || c == 78) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action388(c);
+        }
+        this.state = 373;
+        break;
+      case 389:
+        if (c == 81 || c == 83) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action389(c);
+        }
+        this.state = 414;
+        break;
+      case 390:
+        if (c == 90 || c == 64) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action390(c);
+        }
+        this.state = 40;
+        break;
+      case 391:
+        if (c == 79 || c == 75) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action391(c);
+        }
+        this.state = 857;
+        break;
+      case 392:
+        if (c == 105 || c == 96) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action392(c);
+        }
+        this.state = 1171;
+        break;
+      case 393:
+        if (c == 119 || c == 64) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action393(c);
+        }
+        this.state = 1061;
+        break;
+      case 394:
+        if (c == 63 || c == 81) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action394(c);
+        }
+        this.state = 266;
+        break;
+      case 395:
+        if (c == 85 || c == 109) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action395(c);
+        }
+        this.state = 237;
+        break;
+      case 396:
+        if (c == 49 || c == 114) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action396(c);
+        }
+        this.state = 76;
+        break;
+      case 397:
+        if (c == 67 || c == 44) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action397(c);
+        }
+        this.state = 90;
+        break;
+      case 398:
+        if (c == 61 || c == 98) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action398(c);
+        }
+        this.state = 515;
+        break;
+      case 399:
+        if (c == 34 || c == 47) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action399(c);
+        }
+        this.state = 1194;
+        break;
+      case 400:
+        if (c == 87 || c == 109) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action400(c);
+        }
+        this.state = 178;
+        break;
+      case 401:
+        if (c == 39 || c == 81) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action401(c);
+        }
+        this.state = 529;
+        break;
+      case 402:
+        if (c == 107 || c == 34) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action402(c);
+        }
+        this.state = 702;
+        break;
+      case 403:
+        if (c == 65 || c == 43) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action403(c);
+        }
+        this.state = 751;
+        break;
+      case 404:
+        if (c == 86 || c == 104) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action404(c);
+        }
+        this.state = 174;
+        break;
+      case 405:
+        if (c == 66 || c == 102) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action405(c);
+        }
+        this.state = 720;
+        break;
+      case 406:
+        if (c == 69 || c == 122) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action406(c);
+        }
+        this.state = 333;
+        break;
+      case 407:
+        if (c == 70 || c == 72) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action407(c);
+        }
+        this.state = 675;
+        break;
+      case 408:
+        if (c == 39 || c == 108) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action408(c);
+        }
+        this.state = 329;
+        break;
+      case 409:
+        if (c == 79 || c == 38) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action409(c);
+        }
+        this.state = 1156;
+        break;
+      case 410:
+        if (c == 46 || c == 122) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action410(c);
+        }
+        this.state = 402;
+        break;
+      case 411:
+        if (c == 90 || c == 45) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action411(c);
+        }
+        this.state = 436;
+        break;
+      case 412:
+        if (c == 69 || c == 69) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action412(c);
+        }
+        this.state = 982;
+        break;
+      case 413:
+        if (c == 116 || c == 81) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action413(c);
+        }
+        this.state = 493;
+        break;
+      case 414:
+        if (c == 113 || c == 47) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action414(c);
+        }
+        this.state = 1174;
+        break;
+      case 415:
+        if (c == 116 || c == 92) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action415(c);
+        }
+        this.state = 245;
+        break;
+      case 416:
+        if (c == 39 || c == 98) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action416(c);
+        }
+        this.state = 483;
+        break;
+      case 417:
+        if (c == 122 || c == 90) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action417(c);
+        }
+        this.state = 482;
+        break;
+      case 418:
+        if (c == 55 || c == 68) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action418(c);
+        }
+        this.state = 936;
+        break;
+      case 419:
+        if (c == 40 || c == 64) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action419(c);
+        }
+        this.state = 737;
+        break;
+      case 420:
+        if (c == 77 || c == 70) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action420(c);
+        }
+        this.state = 881;
+        break;
+      case 421:
+        if (c == 55 || c == 47) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action421(c);
+        }
+        this.state = 290;
+        break;
+      case 422:
+        if (c == 95 || c == 85) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action422(c);
+        }
+        this.state = 495;
+        break;
+      case 423:
+        if (c == 47 || c == 63) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action423(c);
+        }
+        this.state = 610;
+        break;
+      case 424:
+        if (c == 64 || c == 39) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action424(c);
+        }
+        this.state = 525;
+        break;
+      case 425:
+        if (c == 108 || c == 56) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action425(c);
+        }
+        this.state = 1189;
+        break;
+      case 426:
+        if (c == 86 || c == 115) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action426(c);
+        }
+        this.state = 910;
+        break;
+      case 427:
+        if (c == 100 || c == 65) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action427(c);
+        }
+        this.state = 606;
+        break;
+      case 428:
+        if (c == 41 || c == 107) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action428(c);
+        }
+        this.state = 538;
+        break;
+      case 429:
+        if (c == 69 || c == 44) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action429(c);
+        }
+        this.state = 215;
+        break;
+      case 430:
+        if (c == 112 || c == 126) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action430(c);
+        }
+        this.state = 70;
+        break;
+      case 431:
+        if (c == 101 || c == 95) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action431(c);
+        }
+        this.state = 137;
+        break;
+      case 432:
+        if (c == 52 || c == 111) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action432(c);
+        }
+        this.state = 757;
+        break;
+      case 433:
+        if (c == 46 || c == 102) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action433(c);
+        }
+        this.state = 1172;
+        break;
+      case 434:
+        if (c == 118 || c == 69) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action434(c);
+        }
+        this.state = 421;
+        break;
+      case 435:
+        if (c == 109 || c == 114) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action435(c);
+        }
+        this.state = 645;
+        break;
+      case 436:
+        if (c == 123 || c == 49) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action436(c);
+        }
+        this.state = 139;
+        break;
+      case 437:
+        if (c == 33 || c == 35) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action437(c);
+        }
+        this.state = 803;
+        break;
+      case 438:
+        if (c == 124 || c == 32) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action438(c);
+        }
+        this.state = 589;
+        break;
+      case 439:
+        if (c == 89 || c == 34) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action439(c);
+        }
+        this.state = 697;
+        break;
+      case 440:
+        if (c == 63 || c == 77) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action440(c);
+        }
+        this.state = 1044;
+        break;
+      case 441:
+        if (c == 105 || c == 122) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action441(c);
+        }
+        this.state = 211;
+        break;
+      case 442:
+        if (c == 55 || c == 101) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action442(c);
+        }
+        this.state = 780;
+        break;
+      case 443:
+        if (c == 101 || c == 102) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action443(c);
+        }
+        this.state = 798;
+        break;
+      case 444:
+        if (c == 77 || c == 34) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action444(c);
+        }
+        this.state = 89;
+        break;
+      case 445:
+        if (c == 91 || c == 85) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action445(c);
+        }
+        this.state = 448;
+        break;
+      case 446:
+        if (c == 111 || c == 73) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action446(c);
+        }
+        this.state = 1198;
+        break;
+      case 447:
+        if (c == 69 || c == 125) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action447(c);
+        }
+        this.state = 2;
+        break;
+      case 448:
+        if (c == 105 || c == 108) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action448(c);
+        }
+        this.state = 935;
+        break;
+      case 449:
+        if (c == 49 || c == 109) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action449(c);
+        }
+        this.state = 105;
+        break;
+      case 450:
+        if (c == 69 || c == 124) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action450(c);
+        }
+        this.state = 925;
+        break;
+      case 451:
+        if (c == 86 || c == 123) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action451(c);
+        }
+        this.state = 712;
+        break;
+      case 452:
+        if (c == 57 || c == 71) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action452(c);
+        }
+        this.state = 246;
+        break;
+      case 453:
+        if (c == 51 || c == 94) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action453(c);
+        }
+        this.state = 869;
+        break;
+      case 454:
+        if (c == 41 || c == 99) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action454(c);
+        }
+        this.state = 228;
+        break;
+      case 455:
+        if (c == 126 || c == 115) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action455(c);
+        }
+        this.state = 882;
+        break;
+      case 456:
+        if (c == 79 || c == 44) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action456(c);
+        }
+        this.state = 503;
+        break;
+      case 457:
+        if (c == 104 || c == 57) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action457(c);
+        }
+        this.state = 643;
+        break;
+      case 458:
+        if (c == 51 || c == 75) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action458(c);
+        }
+        this.state = 570;
+        break;
+      case 459:
+        if (c == 93 || c == 98) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action459(c);
+        }
+        this.state = 351;
+        break;
+      case 460:
+        if (c == 56 || c == 121) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action460(c);
+        }
+        this.state = 1118;
+        break;
+      case 461:
+        if (c == 109 || c == 43) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action461(c);
+        }
+        this.state = 1158;
+        break;
+      case 462:
+        if (c == 65 || c == 126) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action462(c);
+        }
+        this.state = 327;
+        break;
+      case 463:
+        if (c == 77 || c == 63) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action463(c);
+        }
+        this.state = 914;
+        break;
+      case 464:
+        if (c == 33 || c == 98) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action464(c);
+        }
+        this.state = 1170;
+        break;
+      case 465:
+        if (c == 96 || c == 86) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action465(c);
+        }
+        this.state = 626;
+        break;
+      case 466:
+        if (c == 111 || c == 110) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action466(c);
+        }
+        this.state = 537;
+        break;
+      case 467:
+        if (c == 35 || c == 71) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action467(c);
+        }
+        this.state = 175;
+        break;
+      case 468:
+        if (c == 80 || c == 116) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action468(c);
+        }
+        this.state = 411;
+        break;
+      case 469:
+        if (c == 32 || c == 97) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action469(c);
+        }
+        this.state = 393;
+        break;
+      case 470:
+        if (c == 42 || c == 90) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action470(c);
+        }
+        this.state = 109;
+        break;
+      case 471:
+        if (c == 122 || c == 120) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action471(c);
+        }
+        this.state = 164;
+        break;
+      case 472:
+        if (c == 97 || c == 37) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action472(c);
+        }
+        this.state = 71;
+        break;
+      case 473:
+        if (c == 118 || c == 125) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action473(c);
+        }
+        this.state = 713;
+        break;
+      case 474:
+        if (c == 96 || c == 44) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action474(c);
+        }
+        this.state = 764;
+        break;
+      case 475:
+        if (c == 83 || c == 64) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action475(c);
+        }
+        this.state = 653;
+        break;
+      case 476:
+        if (c == 106 || c == 112) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action476(c);
+        }
+        this.state = 268;
+        break;
+      case 477:
+        if (c == 48 || c == 107) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action477(c);
+        }
+        this.state = 1118;
+        break;
+      case 478:
+        if (c == 52 || c == 70) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action478(c);
+        }
+        this.state = 1031;
+        break;
+      case 479:
+        if (c == 96 || c == 98) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action479(c);
+        }
+        this.state = 695;
+        break;
+      case 480:
+        if (c == 39 || c == 40) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action480(c);
+        }
+        this.state = 332;
+        break;
+      case 481:
+        if (c == 83 || c == 109) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action481(c);
+        }
+        this.state = 372;
+        break;
+      case 482:
+        if (c == 37 || c == 84) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action482(c);
+        }
+        this.state = 1110;
+        break;
+      case 483:
+        if (c == 77 || c == 112) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action483(c);
+        }
+        this.state = 153;
+        break;
+      case 484:
+        if (c == 96 || c == 52) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action484(c);
+        }
+        this.state = 1159;
+        break;
+      case 485:
+        if (c == 84 || c == 86) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action485(c);
+        }
+        this.state = 1109;
+        break;
+      case 486:
+        if (c == 120 || c == 63) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action486(c);
+        }
+        this.state = 1199;
+        break;
+      case 487:
+        if (c == 100 || c == 86) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action487(c);
+        }
+        this.state = 652;
+        break;
+      case 488:
+        if (c == 118 || c == 35) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action488(c);
+        }
+        this.state = 48;
+        break;
+      case 489:
+        if (c == 81 || c == 102) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action489(c);
+        }
+        this.state = 754;
+        break;
+      case 490:
+        if (c == 84 || c == 79) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action490(c);
+        }
+        this.state = 356;
+        break;
+      case 491:
+        if (c == 121 || c == 52) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action491(c);
+        }
+        this.state = 1043;
+        break;
+      case 492:
+        if (c == 64 || c == 64) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action492(c);
+        }
+        this.state = 947;
+        break;
+      case 493:
+        if (c == 75 || c == 80) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action493(c);
+        }
+        this.state = 198;
+        break;
+      case 494:
+        if (c == 89 || c == 90) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action494(c);
+        }
+        this.state = 665;
+        break;
+      case 495:
+        if (c == 116 || c == 83) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action495(c);
+        }
+        this.state = 232;
+        break;
+      case 496:
+        if (c == 91 || c == 110) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action496(c);
+        }
+        this.state = 849;
+        break;
+      case 497:
+        if (c == 110 || c == 113) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action497(c);
+        }
+        this.state = 206;
+        break;
+      case 498:
+        if (c == 94 || c == 48) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action498(c);
+        }
+        this.state = 0;
+        break;
+      case 499:
+        if (c == 112 || c == 104) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action499(c);
+        }
+        this.state = 166;
+        break;
+      case 500:
+        if (c == 40 || c == 94) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action500(c);
+        }
+        this.state = 634;
+        break;
+      case 501:
+        if (c == 91 || c == 81) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action501(c);
+        }
+        this.state = 977;
+        break;
+      case 502:
+        if (c == 102 || c == 117) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action502(c);
+        }
+        this.state = 750;
+        break;
+      case 503:
+        if (c == 121 || c == 45) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action503(c);
+        }
+        this.state = 681;
+        break;
+      case 504:
+        if (c == 80 || c == 76) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action504(c);
+        }
+        this.state = 764;
+        break;
+      case 505:
+        if (c == 114 || c == 102) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action505(c);
+        }
+        this.state = 1003;
+        break;
+      case 506:
+        if (c == 97 || c == 65) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action506(c);
+        }
+        this.state = 1053;
+        break;
+      case 507:
+        if (c == 60 || c == 124) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action507(c);
+        }
+        this.state = 1161;
+        break;
+      case 508:
+        if (c == 73 || c == 65) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action508(c);
+        }
+        this.state = 172;
+        break;
+      case 509:
+        if (c == 82 || c == 123) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action509(c);
+        }
+        this.state = 1120;
+        break;
+      case 510:
+        if (c == 40 || c == 74) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action510(c);
+        }
+        this.state = 982;
+        break;
+      case 511:
+        if (c == 123 || c == 113) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action511(c);
+        }
+        this.state = 272;
+        break;
+      case 512:
+        if (c == 90 || c == 88) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action512(c);
+        }
+        this.state = 284;
+        break;
+      case 513:
+        if (c == 96 || c == 62) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action513(c);
+        }
+        this.state = 612;
+        break;
+      case 514:
+        if (c == 49 || c == 109) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action514(c);
+        }
+        this.state = 1072;
+        break;
+      case 515:
+        if (c == 56 || c == 99) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action515(c);
+        }
+        this.state = 328;
+        break;
+      case 516:
+        if (c == 114 || c == 64) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action516(c);
+        }
+        this.state = 1105;
+        break;
+      case 517:
+        if (c == 41 || c == 105) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action517(c);
+        }
+        this.state = 105;
+        break;
+      case 518:
+        if (c == 43 || c == 116) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action518(c);
+        }
+        this.state = 54;
+        break;
+      case 519:
+        if (c == 126 || c == 113) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action519(c);
+        }
+        this.state = 112;
+        break;
+      case 520:
+        if (c == 72 || c == 116) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action520(c);
+        }
+        this.state = 567;
+        break;
+      case 521:
+        if (c == 66 || c == 97) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action521(c);
+        }
+        this.state = 1080;
+        break;
+      case 522:
+        if (c == 77 || c == 118) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action522(c);
+        }
+        this.state = 898;
+        break;
+      case 523:
+        if (c == 34 || c == 59) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action523(c);
+        }
+        this.state = 48;
+        break;
+      case 524:
+        if (c == 35 || c == 38) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action524(c);
+        }
+        this.state = 662;
+        break;
+      case 525:
+        if (c == 38 || c == 94) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action525(c);
+        }
+        this.state = 34;
+        break;
+      case 526:
+        if (c == 70 || c == 59) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action526(c);
+        }
+        this.state = 1132;
+        break;
+      case 527:
+        if (c == 50 || c == 83) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action527(c);
+        }
+        this.state = 278;
+        break;
+      case 528:
+        if (c == 88 || c == 33) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action528(c);
+        }
+        this.state = 510;
+        break;
+      case 529:
+        if (c == 64 || c == 100) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action529(c);
+        }
+        this.state = 299;
+        break;
+      case 530:
+        if (c == 65 || c == 93) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action530(c);
+        }
+        this.state = 835;
+        break;
+      case 531:
+        if (c == 42 || c == 46) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action531(c);
+        }
+        this.state = 456;
+        break;
+      case 532:
+        if (c == 107 || c == 72) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action532(c);
+        }
+        this.state = 40;
+        break;
+      case 533:
+        if (c == 63 || c == 120) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action533(c);
+        }
+        this.state = 329;
+        break;
+      case 534:
+        if (c == 43 || c == 56) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action534(c);
+        }
+        this.state = 833;
+        break;
+      case 535:
+        if (c == 74 || c == 87) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action535(c);
+        }
+        this.state = 234;
+        break;
+      case 536:
+        if (c == 120 || c == 123) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action536(c);
+        }
+        this.state = 765;
+        break;
+      case 537:
+        if (c == 105 || c == 60) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action537(c);
+        }
+        this.state = 272;
+        break;
+      case 538:
+        if (c == 111 || c == 112) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action538(c);
+        }
+        this.state = 908;
+        break;
+      case 539:
+        if (c == 89 || c == 91) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action539(c);
+        }
+        this.state = 224;
+        break;
+      case 540:
+        if (c == 34 || c == 83) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action540(c);
+        }
+        this.state = 583;
+        break;
+      case 541:
+        if (c == 109 || c == 40) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action541(c);
+        }
+        this.state = 195;
+        break;
+      case 542:
+        if (c == 68 || c == 73) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action542(c);
+        }
+        this.state = 879;
+        break;
+      case 543:
+        if (c == 81 || c == 110) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action543(c);
+        }
+        this.state = 45;
+        break;
+      case 544:
+        if (c == 86 || c == 74) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action544(c);
+        }
+        this.state = 316;
+        break;
+      case 545:
+        if (c == 35 || c == 46) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action545(c);
+        }
+        this.state = 395;
+        break;
+      case 546:
+        if (c == 119 || c == 36) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action546(c);
+        }
+        this.state = 625;
+        break;
+      case 547:
+        if (c == 79 || c == 39) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action547(c);
+        }
+        this.state = 422;
+        break;
+      case 548:
+        if (c == 63 || c == 99) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action548(c);
+        }
+        this.state = 356;
+        break;
+      case 549:
+        if (c == 67 || c == 80) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action549(c);
+        }
+        this.state = 1028;
+        break;
+      case 550:
+        if (c == 86 || c == 65) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action550(c);
+        }
+        this.state = 571;
+        break;
+      case 551:
+        if (c == 126 || c == 102) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action551(c);
+        }
+        this.state = 876;
+        break;
+      case 552:
+        if (c == 43 || c == 47) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action552(c);
+        }
+        this.state = 175;
+        break;
+      case 553:
+        if (c == 73 || c == 46) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action553(c);
+        }
+        this.state = 472;
+        break;
+      case 554:
+        if (c == 81 || c == 54) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action554(c);
+        }
+        this.state = 908;
+        break;
+      case 555:
+        if (c == 105 || c == 54) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action555(c);
+        }
+        this.state = 1126;
+        break;
+      case 556:
+        if (c == 79 || c == 71) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action556(c);
+        }
+        this.state = 1025;
+        break;
+      case 557:
+        if (c == 51 || c == 125) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action557(c);
+        }
+        this.state = 911;
+        break;
+      case 558:
+        if (c == 113 || c == 126) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action558(c);
+        }
+        this.state = 1007;
+        break;
+      case 559:
+        if (c == 62 || c == 88) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action559(c);
+        }
+        this.state = 480;
+        break;
+      case 560:
+        if (c == 53 || c == 40) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action560(c);
+        }
+        this.state = 1068;
+        break;
+      case 561:
+        if (c == 85 || c == 39) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action561(c);
+        }
+        this.state = 632;
+        break;
+      case 562:
+        if (c == 108 || c == 106) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action562(c);
+        }
+        this.state = 881;
+        break;
+      case 563:
+        if (c == 44 || c == 56) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action563(c);
+        }
+        this.state = 228;
+        break;
+      case 564:
+        if (c == 98 || c == 124) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action564(c);
+        }
+        this.state = 832;
+        break;
+      case 565:
+        if (c == 69 || c == 78) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action565(c);
+        }
+        this.state = 333;
+        break;
+      case 566:
+        if (c == 78 || c == 48) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action566(c);
+        }
+        this.state = 184;
+        break;
+      case 567:
+        if (c == 60 || c == 72) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action567(c);
+        }
+        this.state = 358;
+        break;
+      case 568:
+        if (c == 32 || c == 91) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action568(c);
+        }
+        this.state = 1197;
+        break;
+      case 569:
+        if (c == 37 || c == 91) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action569(c);
+        }
+        this.state = 521;
+        break;
+      case 570:
+        if (c == 63 || c == 42) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action570(c);
+        }
+        this.state = 547;
+        break;
+      case 571:
+        if (c == 59 || c == 80) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action571(c);
+        }
+        this.state = 540;
+        break;
+      case 572:
+        if (c == 99 || c == 88) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action572(c);
+        }
+        this.state = 154;
+        break;
+      case 573:
+        if (c == 104 || c == 111) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action573(c);
+        }
+        this.state = 74;
+        break;
+      case 574:
+        if (c == 68 || c == 39) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action574(c);
+        }
+        this.state = 332;
+        break;
+      case 575:
+        if (c == 100 || c == 79) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action575(c);
+        }
+        this.state = 223;
+        break;
+      case 576:
+        if (c == 76 || c == 67) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action576(c);
+        }
+        this.state = 1090;
+        break;
+      case 577:
+        if (c == 55 || c == 60) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action577(c);
+        }
+        this.state = 1023;
+        break;
+      case 578:
+        if (c == 124 || c == 53) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action578(c);
+        }
+        this.state = 49;
+        break;
+      case 579:
+        if (c == 52 || c == 42) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action579(c);
+        }
+        this.state = 941;
+        break;
+      case 580:
+        if (c == 90 || c == 81) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action580(c);
+        }
+        this.state = 1182;
+        break;
+      case 581:
+        if (c == 53 || c == 50) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action581(c);
+        }
+        this.state = 748;
+        break;
+      case 582:
+        if (c == 94 || c == 57) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action582(c);
+        }
+        this.state = 1037;
+        break;
+      case 583:
+        if (c == 51 || c == 106) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action583(c);
+        }
+        this.state = 371;
+        break;
+      case 584:
+        if (c == 43 || c == 40) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action584(c);
+        }
+        this.state = 914;
+        break;
+      case 585:
+        if (c == 77 || c == 50) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action585(c);
+        }
+        this.state = 474;
+        break;
+      case 586:
+        if (c == 79 || c == 74) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action586(c);
+        }
+        this.state = 1024;
+        break;
+      case 587:
+        if (c == 56 || c == 104) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action587(c);
+        }
+        this.state = 475;
+        break;
+      case 588:
+        if (c == 48 || c == 63) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action588(c);
+        }
+        this.state = 279;
+        break;
+      case 589:
+        if (c == 48 || c == 97) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action589(c);
+        }
+        this.state = 322;
+        break;
+      case 590:
+        if (c == 47 || c == 52) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action590(c);
+        }
+        this.state = 1189;
+        break;
+      case 591:
+        if (c == 55 || c == 99) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action591(c);
+        }
+        this.state = 422;
+        break;
+      case 592:
+        if (c == 111 || c == 124) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action592(c);
+        }
+        this.state = 399;
+        break;
+      case 593:
+        if (c == 119 || c == 89) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action593(c);
+        }
+        this.state = 374;
+        break;
+      case 594:
+        if (c == 76 || c == 38) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action594(c);
+        }
+        this.state = 684;
+        break;
+      case 595:
+        if (c == 90 || c == 76) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action595(c);
+        }
+        this.state = 343;
+        break;
+      case 596:
+        if (c == 67 || c == 70) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action596(c);
+        }
+        this.state = 1123;
+        break;
+      case 597:
+        if (c == 117 || c == 72) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action597(c);
+        }
+        this.state = 262;
+        break;
+      case 598:
+        if (c == 110 || c == 47) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action598(c);
+        }
+        this.state = 376;
+        break;
+      case 599:
+        if (c == 33 || c == 109) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action599(c);
+        }
+        this.state = 956;
+        break;
+      default:
+        break;
+    }
+    return -1;
+  }
+
+  private int next2(final int c) {
+    switch (this.state) {
+      case 600:
+        if (c == 35 || c == 68) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action600(c);
+        }
+        this.state = 1196;
+        break;
+      case 601:
+        if (c == 57 || c == 89) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action601(c);
+        }
+        this.state = 1028;
+        break;
+      case 602:
+        if (c == 77 || c == 103) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action602(c);
+        }
+        this.state = 464;
+        break;
+      case 603:
+        if (c == 32 || c == 68) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action603(c);
+        }
+        this.state = 1194;
+        break;
+      case 604:
+        if (c == 48 || c == 88) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action604(c);
+        }
+        this.state = 951;
+        break;
+      case 605:
+        if (c == 35 || c == 125) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action605(c);
+        }
+        this.state = 79;
+        break;
+      case 606:
+        if (c == 125 || c == 53) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action606(c);
+        }
+        this.state = 446;
+        break;
+      case 607:
+        if (c == 33 || c == 82) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action607(c);
+        }
+        this.state = 856;
+        break;
+      case 608:
+        if (c == 109 || c == 51) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action608(c);
+        }
+        this.state = 859;
+        break;
+      case 609:
+        if (c == 96 || c == 110) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action609(c);
+        }
+        this.state = 577;
+        break;
+      case 610:
+        if (c == 57 || c == 121) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action610(c);
+        }
+        this.state = 125;
+        break;
+      case 611:
+        if (c == 59 || c == 87) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action611(c);
+        }
+        this.state = 478;
+        break;
+      case 612:
+        if (c == 126 || c == 52) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action612(c);
+        }
+        this.state = 1032;
+        break;
+      case 613:
+        if (c == 108 || c == 52) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action613(c);
+        }
+        this.state = 524;
+        break;
+      case 614:
+        if (c == 37 || c == 46) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action614(c);
+        }
+        this.state = 44;
+        break;
+      case 615:
+        if (c == 34 || c == 67) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action615(c);
+        }
+        this.state = 99;
+        break;
+      case 616:
+        if (c == 104 || c == 34) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action616(c);
+        }
+        this.state = 423;
+        break;
+      case 617:
+        if (c == 56 || c == 69) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action617(c);
+        }
+        this.state = 1041;
+        break;
+      case 618:
+        if (c == 45 || c == 41) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action618(c);
+        }
+        this.state = 219;
+        break;
+      case 619:
+        if (c == 46 || c == 101) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action619(c);
+        }
+        this.state = 213;
+        break;
+      case 620:
+        if (c == 120 || c == 107) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action620(c);
+        }
+        this.state = 1167;
+        break;
+      case 621:
+        if (c == 51 || c == 106) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action621(c);
+        }
+        this.state = 228;
+        break;
+      case 622:
+        if (c == 55 || c == 51) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action622(c);
+        }
+        this.state = 1110;
+        break;
+      case 623:
+        if (c == 50 || c == 86) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action623(c);
+        }
+        this.state = 880;
+        break;
+      case 624:
+        if (c == 111 || c == 87) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action624(c);
+        }
+        this.state = 735;
+        break;
+      case 625:
+        if (c == 60 || c == 71) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action625(c);
+        }
+        this.state = 817;
+        break;
+      case 626:
+        if (c == 126 || c == 71) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action626(c);
+        }
+        this.state = 906;
+        break;
+      case 627:
+        if (c == 98 || c == 121) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action627(c);
+        }
+        this.state = 863;
+        break;
+      case 628:
+        if (c == 102 || c == 100) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action628(c);
+        }
+        this.state = 893;
+        break;
+      case 629:
+        if (c == 95 || c == 87) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action629(c);
+        }
+        this.state = 80;
+        break;
+      case 630:
+        if (c == 41 || c == 101) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action630(c);
+        }
+        this.state = 1007;
+        break;
+      case 631:
+        if (c == 103 || c == 99) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action631(c);
+        }
+        this.state = 635;
+        break;
+      case 632:
+        if (c == 122 || c == 77) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action632(c);
+        }
+        this.state = 271;
+        break;
+      case 633:
+        if (c == 43 || c == 49) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action633(c);
+        }
+        this.state = 1083;
+        break;
+      case 634:
+        if (c == 81 || c == 36) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action634(c);
+        }
+        this.state = 164;
+        break;
+      case 635:
+        if (c == 36 || c == 80) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action635(c);
+        }
+        this.state = 1082;
+        break;
+      case 636:
+        if (c == 44 || c == 98) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action636(c);
+        }
+        this.state = 146;
+        break;
+      case 637:
+        if (c == 88 || c == 94) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action637(c);
+        }
+        this.state = 627;
+        break;
+      case 638:
+        if (c == 104 || c == 104) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action638(c);
+        }
+        this.state = 654;
+        break;
+      case 639:
+        if (c == 58 || c == 35) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action639(c);
+        }
+        this.state = 1091;
+        break;
+      case 640:
+        if (c == 59 || c == 73) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action640(c);
+        }
+        this.state = 1166;
+        break;
+      case 641:
+        if (c == 113 || c == 75) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action641(c);
+        }
+        this.state = 776;
+        break;
+      case 642:
+        if (c == 102 || c == 121) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action642(c);
+        }
+        this.state = 278;
+        break;
+      case 643:
+        if (c == 43 || c == 114) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action643(c);
+        }
+        this.state = 585;
+        break;
+      case 644:
+        if (c == 75 || c == 83) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action644(c);
+        }
+        this.state = 243;
+        break;
+      case 645:
+        if (c == 40 || c == 50) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action645(c);
+        }
+        this.state = 413;
+        break;
+      case 646:
+        if (c == 77 || c == 35) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action646(c);
+        }
+        this.state = 47;
+        break;
+      case 647:
+        if (c == 109 || c == 75) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action647(c);
+        }
+        this.state = 789;
+        break;
+      case 648:
+        if (c == 66 || c == 42) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action648(c);
+        }
+        this.state = 1030;
+        break;
+      case 649:
+        if (c == 84 || c == 102) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action649(c);
+        }
+        this.state = 416;
+        break;
+      case 650:
+        if (c == 114 || c == 122) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action650(c);
+        }
+        this.state = 771;
+        break;
+      case 651:
+        if (c == 93 || c == 76) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action651(c);
+        }
+        this.state = 906;
+        break;
+      case 652:
+        if (c == 89 || c == 104) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action652(c);
+        }
+        this.state = 460;
+        break;
+      case 653:
+        if (c == 106 || c == 48) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action653(c);
+        }
+        this.state = 180;
+        break;
+      case 654:
+        if (c == 114 || c == 32) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action654(c);
+        }
+        this.state = 1059;
+        break;
+      case 655:
+        if (c == 100 || c == 39) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action655(c);
+        }
+        this.state = 230;
+        break;
+      case 656:
+        if (c == 56 || c == 115) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action656(c);
+        }
+        this.state = 172;
+        break;
+      case 657:
+        if (c == 126 || c == 115) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action657(c);
+        }
+        this.state = 598;
+        break;
+      case 658:
+        if (c == 126 || c == 115) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action658(c);
+        }
+        this.state = 376;
+        break;
+      case 659:
+        if (c == 100 || c == 32) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action659(c);
+        }
+        this.state = 267;
+        break;
+      case 660:
+        if (c == 90 || c == 100) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action660(c);
+        }
+        this.state = 857;
+        break;
+      case 661:
+        if (c == 44 || c == 105) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action661(c);
+        }
+        this.state = 443;
+        break;
+      case 662:
+        if (c == 49 || c == 71) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action662(c);
+        }
+        this.state = 698;
+        break;
+      case 663:
+        if (c == 82 || c == 55) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action663(c);
+        }
+        this.state = 348;
+        break;
+      case 664:
+        if (c == 62 || c == 76) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action664(c);
+        }
+        this.state = 578;
+        break;
+      case 665:
+        if (c == 75 || c == 37) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action665(c);
+        }
+        this.state = 491;
+        break;
+      case 666:
+        if (c == 113 || c == 68) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action666(c);
+        }
+        this.state = 677;
+        break;
+      case 667:
+        if (c == 90 || c == 107) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action667(c);
+        }
+        this.state = 124;
+        break;
+      case 668:
+        if (c == 61 || c == 39) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action668(c);
+        }
+        this.state = 243;
+        break;
+      case 669:
+        if (c == 80 || c == 53) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action669(c);
+        }
+        this.state = 440;
+        break;
+      case 670:
+        if (c == 62 || c == 45) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action670(c);
+        }
+        this.state = 1004;
+        break;
+      case 671:
+        if (c == 74 || c == 60) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action671(c);
+        }
+        this.state = 1092;
+        break;
+      case 672:
+        if (c == 107 || c == 58) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action672(c);
+        }
+        this.state = 325;
+        break;
+      case 673:
+        if (c == 110 || c == 80) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action673(c);
+        }
+        this.state = 804;
+        break;
+      case 674:
+        if (c == 86 || c == 111) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action674(c);
+        }
+        this.state = 544;
+        break;
+      case 675:
+        if (c == 119 || c == 109) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action675(c);
+        }
+        this.state = 850;
+        break;
+      case 676:
+        if (c == 57 || c == 37) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action676(c);
+        }
+        this.state = 553;
+        break;
+      case 677:
+        if (c == 97 || c == 121) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action677(c);
+        }
+        this.state = 81;
+        break;
+      case 678:
+        if (c == 78 || c == 114) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action678(c);
+        }
+        this.state = 39;
+        break;
+      case 679:
+        if (c == 97 || c == 87) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action679(c);
+        }
+        this.state = 1048;
+        break;
+      case 680:
+        if (c == 67 || c == 41) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action680(c);
+        }
+        this.state = 873;
+        break;
+      case 681:
+        if (c == 125 || c == 54) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action681(c);
+        }
+        this.state = 1169;
+        break;
+      case 682:
+        if (c == 72 || c == 121) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action682(c);
+        }
+        this.state = 746;
+        break;
+      case 683:
+        if (c == 91 || c == 51) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action683(c);
+        }
+        this.state = 779;
+        break;
+      case 684:
+        if (c == 36 || c == 125) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action684(c);
+        }
+        this.state = 1125;
+        break;
+      case 685:
+        if (c == 116 || c == 59) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action685(c);
+        }
+        this.state = 854;
+        break;
+      case 686:
+        if (c == 78 || c == 126) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action686(c);
+        }
+        this.state = 1165;
+        break;
+      case 687:
+        if (c == 63 || c == 103) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action687(c);
+        }
+        this.state = 824;
+        break;
+      case 688:
+        if (c == 113 || c == 111) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action688(c);
+        }
+        this.state = 1176;
+        break;
+      case 689:
+        if (c == 111 || c == 35) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action689(c);
+        }
+        this.state = 708;
+        break;
+      case 690:
+        if (c == 55 || c == 52) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action690(c);
+        }
+        this.state = 509;
+        break;
+      case 691:
+        if (c == 56 || c == 99) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action691(c);
+        }
+        this.state = 186;
+        break;
+      case 692:
+        if (c == 64 || c == 65) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action692(c);
+        }
+        this.state = 317;
+        break;
+      case 693:
+        if (c == 73 || c == 74) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action693(c);
+        }
+        this.state = 574;
+        break;
+      case 694:
+        if (c == 54 || c == 76) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action694(c);
+        }
+        this.state = 550;
+        break;
+      case 695:
+        if (c == 60 || c == 92) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action695(c);
+        }
+        this.state = 269;
+        break;
+      case 696:
+        if (c == 93 || c == 96) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action696(c);
+        }
+        this.state = 591;
+        break;
+      case 697:
+        if (c == 33 || c == 42) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action697(c);
+        }
+        this.state = 203;
+        break;
+      case 698:
+        if (c == 76 || c == 122) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action698(c);
+        }
+        this.state = 434;
+        break;
+      case 699:
+        if (c == 98 || c == 76) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action699(c);
+        }
+        this.state = 255;
+        break;
+      case 700:
+        if (c == 64 || c == 45) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action0(c);
+        }
+        this.state = 1069;
+        break;
+      case 701:
+        if (c == 63 || c == 103) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action1(c);
+        }
+        this.state = 1098;
+        break;
+      case 702:
+        if (c == 60 || c == 60) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action2(c);
+        }
+        this.state = 396;
+        break;
+      case 703:
+        if (c == 76 || c == 67) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action3(c);
+        }
+        this.state = 280;
+        break;
+      case 704:
+        if (c == 103 || c == 36) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action4(c);
+        }
+        this.state = 273;
+        break;
+      case 705:
+        if (c == 88 || c == 73) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action5(c);
+        }
+        this.state = 800;
+        break;
+      case 706:
+        if (c == 41 || c == 105) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action6(c);
+        }
+        this.state = 863;
+        break;
+      case 707:
+        if (c == 104 || c == 70) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action7(c);
+        }
+        this.state = 1199;
+        break;
+      case 708:
+        if (c == 45 || c == 73) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action8(c);
+        }
+        this.state = 354;
+        break;
+      case 709:
+        if (c == 63 || c == 91) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action9(c);
+        }
+        this.state = 506;
+        break;
+      case 710:
+        if (c == 93 || c == 106) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action10(c);
+        }
+        this.state = 1180;
+        break;
+      case 711:
+        if (c == 80 || c == 49) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action11(c);
+        }
+        this.state = 91;
+        break;
+      case 712:
+        if (c == 45 || c == 111) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action12(c);
+        }
+        this.state = 865;
+        break;
+      case 713:
+        if (c == 90 || c == 109) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action13(c);
+        }
+        this.state = 1040;
+        break;
+      case 714:
+        if (c == 94 || c == 87) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action14(c);
+        }
+        this.state = 1194;
+        break;
+      case 715:
+        if (c == 46 || c == 62) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action15(c);
+        }
+        this.state = 307;
+        break;
+      case 716:
+        if (c == 52 || c == 94) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action16(c);
+        }
+        this.state = 476;
+        break;
+      case 717:
+        if (c == 38 || c == 72) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action17(c);
+        }
+        this.state = 110;
+        break;
+      case 718:
+        if (c == 63 || c == 118) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action18(c);
+        }
+        this.state = 582;
+        break;
+      case 719:
+        if (c == 85 || c == 47) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action19(c);
+        }
+        this.state = 566;
+        break;
+      case 720:
+        if (c == 85 || c == 51) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action20(c);
+        }
+        this.state = 579;
+        break;
+      case 721:
+        if (c == 122 || c == 105) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action21(c);
+        }
+        this.state = 519;
+        break;
+      case 722:
+        if (c == 101 || c == 125) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action22(c);
+        }
+        this.state = 263;
+        break;
+      case 723:
+        if (c == 39 || c == 57) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action23(c);
+        }
+        this.state = 1067;
+        break;
+      case 724:
+        if (c == 67 || c == 58) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action24(c);
+        }
+        this.state = 180;
+        break;
+      case 725:
+        if (c == 119 || c == 117) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action25(c);
+        }
+        this.state = 492;
+        break;
+      case 726:
+        if (c == 41 || c == 50) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action26(c);
+        }
+        this.state = 953;
+        break;
+      case 727:
+        if (c == 43 || c == 94) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action27(c);
+        }
+        this.state = 980;
+        break;
+      case 728:
+        if (c == 33 || c == 62) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action28(c);
+        }
+        this.state = 812;
+        break;
+      case 729:
+        if (c == 93 || c == 94) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action29(c);
+        }
+        this.state = 1176;
+        break;
+      case 730:
+        if (c == 112 || c == 76) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action30(c);
+        }
+        this.state = 123;
+        break;
+      case 731:
+        if (c == 84 || c == 96) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action31(c);
+        }
+        this.state = 779;
+        break;
+      case 732:
+        if (c == 97 || c == 53) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action32(c);
+        }
+        this.state = 66;
+        break;
+      case 733:
+        if (c == 50 || c == 111) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action33(c);
+        }
+        this.state = 403;
+        break;
+      case 734:
+        if (c == 61 || c == 66) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action34(c);
+        }
+        this.state = 117;
+        break;
+      case 735:
+        if (c == 46 || c == 36) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action35(c);
+        }
+        this.state = 1061;
+        break;
+      case 736:
+        if (c == 90 || c == 41) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action36(c);
+        }
+        this.state = 112;
+        break;
+      case 737:
+        if (c == 98 || c == 51) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action37(c);
+        }
+        this.state = 370;
+        break;
+      case 738:
+        if (c == 36 || c == 100) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action38(c);
+        }
+        this.state = 364;
+        break;
+      case 739:
+        if (c == 117 || c == 60) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action39(c);
+        }
+        this.state = 356;
+        break;
+      case 740:
+        if (c == 59 || c == 119) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action40(c);
+        }
+        this.state = 772;
+        break;
+      case 741:
+        if (c == 51 || c == 63) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action41(c);
+        }
+        this.state = 194;
+        break;
+      case 742:
+        if (c == 53 || c == 90) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action42(c);
+        }
+        this.state = 1182;
+        break;
+      case 743:
+        if (c == 83 || c == 63) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action43(c);
+        }
+        this.state = 299;
+        break;
+      case 744:
+        if (c == 126 || c == 95) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action44(c);
+        }
+        this.state = 697;
+        break;
+      case 745:
+        if (c == 58 || c == 83) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action45(c);
+        }
+        this.state = 468;
+        break;
+      case 746:
+        if (c == 107 || c == 92) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action46(c);
+        }
+        this.state = 1038;
+        break;
+      case 747:
+        if (c == 38 || c == 99) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action47(c);
+        }
+        this.state = 83;
+        break;
+      case 748:
+        if (c == 115 || c == 58) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action48(c);
+        }
+        this.state = 842;
+        break;
+      case 749:
+        if (c == 87 || c == 84) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action49(c);
+        }
+        this.state = 454;
+        break;
+      case 750:
+        if (c == 85 || c == 46) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action50(c);
+        }
+        this.state = 1171;
+        break;
+      case 751:
+        if (c == 75 || c == 68) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action51(c);
+        }
+        this.state = 451;
+        break;
+      case 752:
+        if (c == 126 || c == 88) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action52(c);
+        }
+        this.state = 289;
+        break;
+      case 753:
+        if (c == 74 || c == 111) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action53(c);
+        }
+        this.state = 535;
+        break;
+      case 754:
+        if (c == 126 || c == 54) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action54(c);
+        }
+        this.state = 674;
+        break;
+      case 755:
+        if (c == 94 || c == 99) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action55(c);
+        }
+        this.state = 1091;
+        break;
+      case 756:
+        if (c == 72 || c == 47) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action56(c);
+        }
+        this.state = 411;
+        break;
+      case 757:
+        if (c == 72 || c == 37) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action57(c);
+        }
+        this.state = 121;
+        break;
+      case 758:
+        if (c == 60 || c == 115) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action58(c);
+        }
+        this.state = 169;
+        break;
+      case 759:
+        if (c == 52 || c == 39) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action59(c);
+        }
+        this.state = 582;
+        break;
+      case 760:
+        if (c == 36 || c == 120) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action60(c);
+        }
+        this.state = 439;
+        break;
+      case 761:
+        if (c == 104 || c == 58) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action61(c);
+        }
+        this.state = 581;
+        break;
+      case 762:
+        if (c == 74 || c == 97) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action62(c);
+        }
+        this.state = 205;
+        break;
+      case 763:
+        if (c == 89 || c == 85) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action63(c);
+        }
+        this.state = 133;
+        break;
+      case 764:
+        if (c == 40 || c == 70) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action64(c);
+        }
+        this.state = 1196;
+        break;
+      case 765:
+        if (c == 51 || c == 92) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action65(c);
+        }
+        this.state = 348;
+        break;
+      case 766:
+        if (c == 86 || c == 95) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action66(c);
+        }
+        this.state = 488;
+        break;
+      case 767:
+        if (c == 67 || c == 85) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action67(c);
+        }
+        this.state = 415;
+        break;
+      case 768:
+        if (c == 82 || c == 100) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action68(c);
+        }
+        this.state = 703;
+        break;
+      case 769:
+        if (c == 124 || c == 43) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action69(c);
+        }
+        this.state = 617;
+        break;
+      case 770:
+        if (c == 99 || c == 120) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action70(c);
+        }
+        this.state = 861;
+        break;
+      case 771:
+        if (c == 54 || c == 77) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action71(c);
+        }
+        this.state = 314;
+        break;
+      case 772:
+        if (c == 67 || c == 95) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action72(c);
+        }
+        this.state = 465;
+        break;
+      case 773:
+        if (c == 85 || c == 92) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action73(c);
+        }
+        this.state = 445;
+        break;
+      case 774:
+        if (c == 59 || c == 57) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action74(c);
+        }
+        this.state = 271;
+        break;
+      case 775:
+        if (c == 84 || c == 109) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action75(c);
+        }
+        this.state = 720;
+        break;
+      case 776:
+        if (c == 51 || c == 38) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action76(c);
+        }
+        this.state = 502;
+        break;
+      case 777:
+        if (c == 126 || c == 77) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action77(c);
+        }
+        this.state = 1088;
+        break;
+      case 778:
+        if (c == 75 || c == 63) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action78(c);
+        }
+        this.state = 346;
+        break;
+      case 779:
+        if (c == 88 || c == 120) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action79(c);
+        }
+        this.state = 417;
+        break;
+      case 780:
+        if (c == 70 || c == 36) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action80(c);
+        }
+        this.state = 94;
+        break;
+      case 781:
+        if (c == 49 || c == 121) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action81(c);
+        }
+        this.state = 560;
+        break;
+      case 782:
+        if (c == 63 || c == 107) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action82(c);
+        }
+        this.state = 838;
+        break;
+      case 783:
+        if (c == 84 || c == 80) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action83(c);
+        }
+        this.state = 633;
+        break;
+      case 784:
+        if (c == 126 || c == 99) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action84(c);
+        }
+        this.state = 2;
+        break;
+      case 785:
+        if (c == 82 || c == 92) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action85(c);
+        }
+        this.state = 1056;
+        break;
+      case 786:
+        if (c == 102 || c == 95) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action86(c);
+        }
+        this.state = 917;
+        break;
+      case 787:
+        if (c == 110 || c == 90) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action87(c);
+        }
+        this.state = 637;
+        break;
+      case 788:
+        if (c == 79 || c == 32) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action88(c);
+        }
+        this.state = 942;
+        break;
+      case 789:
+        if (c == 89 || c == 66) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action89(c);
+        }
+        this.state = 1109;
+        break;
+      case 790:
+        if (c == 100 || c == 69) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action90(c);
+        }
+        this.state = 794;
+        break;
+      case 791:
+        if (c == 55 || c == 62) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action91(c);
+        }
+        this.state = 202;
+        break;
+      case 792:
+        if (c == 33 || c == 62) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action92(c);
+        }
+        this.state = 814;
+        break;
+      case 793:
+        if (c == 47 || c == 96) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action93(c);
+        }
+        this.state = 1098;
+        break;
+      case 794:
+        if (c == 44 || c == 94) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action94(c);
+        }
+        this.state = 340;
+        break;
+      case 795:
+        if (c == 32 || c == 48) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action95(c);
+        }
+        this.state = 618;
+        break;
+      case 796:
+        if (c == 38 || c == 50) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action96(c);
+        }
+        this.state = 490;
+        break;
+      case 797:
+        if (c == 44 || c == 37) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action97(c);
+        }
+        this.state = 569;
+        break;
+      case 798:
+        if (c == 86 || c == 49) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action98(c);
+        }
+        this.state = 934;
+        break;
+      case 799:
+        if (c == 96 || c == 106) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action99(c);
+        }
+        this.state = 407;
+        break;
+      case 800:
+        if (c == 55 || c == 93) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action100(c);
+        }
+        this.state = 144;
+        break;
+      case 801:
+        if (c == 116 || c == 117) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action101(c);
+        }
+        this.state = 496;
+        break;
+      case 802:
+        if (c == 123 || c == 89) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action102(c);
+        }
+        this.state = 848;
+        break;
+      case 803:
+        if (c == 60 || c == 47) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action103(c);
+        }
+        this.state = 983;
+        break;
+      case 804:
+        if (c == 75 || c == 58) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action104(c);
+        }
+        this.state = 7;
+        break;
+      case 805:
+        if (c == 75 || c == 92) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action105(c);
+        }
+        this.state = 536;
+        break;
+      case 806:
+        if (c == 39 || c == 89) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action106(c);
+        }
+        this.state = 1005;
+        break;
+      case 807:
+        if (c == 107 || c == 112) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action107(c);
+        }
+        this.state = 877;
+        break;
+      case 808:
+        if (c == 114 || c == 120) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action108(c);
+        }
+        this.state = 451;
+        break;
+      case 809:
+        if (c == 93 || c == 121) {
+          this.state = TABLE_PACKED_20.charAt(c & 0x3ff) % 1200;
+          return action109(c);
+        }
+        this.state = 138;
+        break;
+      case 810:
+        if (c == 124 || c == 87) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action110(c);
+        }
+        this.state = 959;
+        break;
+      case 811:
+        if (c == 102 || c == 111) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action111(c);
+        }
+        this.state = 675;
+        break;
+      case 812:
+        if (c == 67 || c == 55) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action112(c);
+        }
+        this.state = 782;
+        break;
+      case 813:
+        if (c == 70 || c == 108) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action113(c);
+        }
+        this.state = 687;
+        break;
+      case 814:
+        if (c == 53 || c == 107) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action114(c);
+        }
+        this.state = 1165;
+        break;
+      case 815:
+        if (c == 125 || c == 107) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action115(c);
+        }
+        this.state = 1082;
+        break;
+      case 816:
+        if (c == 124 || c == 103) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action116(c);
+        }
+        this.state = 117;
+        break;
+      case 817:
+        if (c == 99 || c == 36) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action117(c);
+        }
+        this.state = 868;
+        break;
+      case 818:
+        if (c == 51 || c == 82) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action118(c);
+        }
+        this.state = 147;
+        break;
+      case 819:
+        if (c == 46 || c == 114) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action119(c);
+        }
+        this.state = 236;
+        break;
+      case 820:
+        if (c == 86 || c == 124) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action120(c);
+        }
+        this.state = 374;
+        break;
+      case 821:
+        if (c == 33 || c == 95) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action121(c);
+        }
+        this.state = 88;
+        break;
+      case 822:
+        if (c == 121 || c == 44) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action122(c);
+        }
+        this.state = 1168;
+        break;
+      case 823:
+        if (c == 46 || c == 123) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action123(c);
+        }
+        this.state = 649;
+        break;
+      case 824:
+        if (c == 85 || c == 94) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action124(c);
+        }
+        this.state = 513;
+        break;
+      case 825:
+        if (c == 49 || c == 82) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action125(c);
+        }
+        this.state = 690;
+        break;
+      case 826:
+        if (c == 106 || c == 110) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action126(c);
+        }
+        this.state = 367;
+        break;
+      case 827:
+        if (c == 37 || c == 46) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action127(c);
+        }
+        this.state = 248;
+        break;
+      case 828:
+        if (c == 75 || c == 87) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action128(c);
+        }
+        this.state = 332;
+        break;
+      case 829:
+        if (c == 88 || c == 124) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action129(c);
+        }
+        this.state = 1172;
+        break;
+      case 830:
+        if (c == 89 || c == 110) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action130(c);
+        }
+        this.state = 601;
+        break;
+      case 831:
+        if (c == 77 || c == 53) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action131(c);
+        }
+        this.state = 839;
+        break;
+      case 832:
+        if (c == 114 || c == 71) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action132(c);
+        }
+        this.state = 1055;
+        break;
+      case 833:
+        if (c == 92 || c == 105) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action133(c);
+        }
+        this.state = 367;
+        break;
+      case 834:
+        if (c == 91 || c == 55) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action134(c);
+        }
+        this.state = 851;
+        break;
+      case 835:
+        if (c == 118 || c == 69) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action135(c);
+        }
+        this.state = 314;
+        break;
+      case 836:
+        if (c == 48 || c == 108) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action136(c);
+        }
+        this.state = 1159;
+        break;
+      case 837:
+        if (c == 77 || c == 59) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action137(c);
+        }
+        this.state = 765;
+        break;
+      case 838:
+        if (c == 126 || c == 125) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action138(c);
+        }
+        this.state = 299;
+        break;
+      case 839:
+        if (c == 121 || c == 125) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action139(c);
+        }
+        this.state = 912;
+        break;
+      case 840:
+        if (c == 66 || c == 44) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action140(c);
+        }
+        this.state = 571;
+        break;
+      case 841:
+        if (c == 70 || c == 126) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action141(c);
+        }
+        this.state = 1082;
+        break;
+      case 842:
+        if (c == 123 || c == 91) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action142(c);
+        }
+        this.state = 576;
+        break;
+      case 843:
+        if (c == 41 || c == 51) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action143(c);
+        }
+        this.state = 408;
+        break;
+      case 844:
+        if (c == 65 || c == 85) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action144(c);
+        }
+        this.state = 158;
+        break;
+      case 845:
+        if (c == 65 || c == 72) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action145(c);
+        }
+        this.state = 5;
+        break;
+      case 846:
+        if (c == 81 || c == 94) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action146(c);
+        }
+        this.state = 1008;
+        break;
+      case 847:
+        if (c == 125 || c == 47) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action147(c);
+        }
+        this.state = 767;
+        break;
+      case 848:
+        if (c == 37 || c == 91) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action148(c);
+        }
+        this.state = 738;
+        break;
+      case 849:
+        if (c == 93 || c == 33) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action149(c);
+        }
+        this.state = 265;
+        break;
+      case 850:
+        if (c == 123 || c == 62) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action150(c);
+        }
+        this.state = 118;
+        break;
+      case 851:
+        if (c == 44 || c == 114) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action151(c);
+        }
+        this.state = 994;
+        break;
+      case 852:
+        if (c == 108 || c == 94) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action152(c);
+        }
+        this.state = 586;
+        break;
+      case 853:
+        if (c == 34 || c == 73) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action153(c);
+        }
+        this.state = 1178;
+        break;
+      case 854:
+        if (c == 76 || c == 49) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action154(c);
+        }
+        this.state = 575;
+        break;
+      case 855:
+        if (c == 65 || c == 115) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action155(c);
+        }
+        this.state = 87;
+        break;
+      case 856:
+        if (c == 72 || c == 95) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action156(c);
+        }
+        this.state = 39;
+        break;
+      case 857:
+        if (c == 99 || c == 80) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action157(c);
+        }
+        this.state = 878;
+        break;
+      case 858:
+        if (c == 55 || c == 50) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action158(c);
+        }
+        this.state = 516;
+        break;
+      case 859:
+        if (c == 96 || c == 97) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action159(c);
+        }
+        this.state = 230;
+        break;
+      case 860:
+        if (c == 47 || c == 104) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action160(c);
+        }
+        this.state = 167;
+        break;
+      case 861:
+        if (c == 85 || c == 52) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action161(c);
+        }
+        this.state = 608;
+        break;
+      case 862:
+        if (c == 108 || c == 83) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action162(c);
+        }
+        this.state = 1093;
+        break;
+      case 863:
+        if (c == 60 || c == 85) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action163(c);
+        }
+        this.state = 1181;
+        break;
+      case 864:
+        if (c == 102 || c == 96) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action164(c);
+        }
+        this.state = 1092;
+        break;
+      case 865:
+        if (c == 62 || c == 41) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action165(c);
+        }
+        this.state = 716;
+        break;
+      case 866:
+        if (c == 47 || c == 77) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action166(c);
+        }
+        this.state = 367;
+        break;
+      case 867:
+        if (c == 109 || c == 44) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action167(c);
+        }
+        this.state = 288;
+        break;
+      case 868:
+        if (c == 92 || c == 90) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action168(c);
+        }
+        this.state = 703;
+        break;
+      case 869:
+        if (c == 82 || c == 106) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action169(c);
+        }
+        this.state = 1040;
+        break;
+      case 870:
+        if (c == 119 || c == 94) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action170(c);
+        }
+        this.state = 112;
+        break;
+      case 871:
+        if (c == 55 || c == 88) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action171(c);
+        }
+        this.state = 934;
+        break;
+      case 872:
+        if (c == 44 || c == 125) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action172(c);
+        }
+        this.state = 1132;
+        break;
+      case 873:
+        if (c == 109 || c == 36) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action173(c);
+        }
+        this.state = 634;
+        break;
+      case 874:
+        if (c == 35 || c == 88) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action174(c);
+        }
+        this.state = 125;
+        break;
+      case 875:
+        if (c == 122 || c == 122) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action175(c);
+        }
+        this.state = 1094;
+        break;
+      case 876:
+        if (c == 55 || c == 81) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action176(c);
+        }
+        this.state = 1153;
+        break;
+      case 877:
+        if (c == 41 || c == 78) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action177(c);
+        }
+        this.state = 328;
+        break;
+      case 878:
+        if (c == 72 || c == 37) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action178(c);
+        }
+        this.state = 708;
+        break;
+      case 879:
+        if (c == 122 || c == 65) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action179(c);
+        }
+        this.state = 576;
+        break;
+      case 880:
+        if (c == 71 || c == 51) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action180(c);
+        }
+        this.state = 260;
+        break;
+      case 881:
+        if (c == 89 || c == 117) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action181(c);
+        }
+        this.state = 128;
+        break;
+      case 882:
+        if (c == 50 || c == 63) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action182(c);
+        }
+        this.state = 654;
+        break;
+      case 883:
+        if (c == 69 || c == 104) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action183(c);
+        }
+        this.state = 882;
+        break;
+      case 884:
+        if (c == 78 || c == 41) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action184(c);
+        }
+        this.state = 1112;
+        break;
+      case 885:
+        if (c == 95 || c == 38) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action185(c);
+        }
+        this.state = 1122;
+        break;
+      case 886:
+        if (c == 104 || c == 61) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action186(c);
+        }
+        this.state = 315;
+        break;
+      case 887:
+        if (c == 70 || c == 114) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action187(c);
+        }
+        this.state = 366;
+        break;
+      case 888:
+        if (c == 116 || c == 80) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action188(c);
+        }
+        this.state = 370;
+        break;
+      case 889:
+        if (c == 50 || c == 74) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action189(c);
+        }
+        this.state = 898;
+        break;
+      case 890:
+        if (c == 65 || c == 44) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action190(c);
+        }
+        this.state = 370;
+        break;
+      case 891:
+        if (c == 108 || c == 44) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action191(c);
+        }
+        this.state = 478;
+        break;
+      case 892:
+        if (c == 108 || c == 98) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action192(c);
+        }
+        this.state = 664;
+        break;
+      case 893:
+        if (c == 105 || c == 49) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action193(c);
+        }
+        this.state = 592;
+        break;
+      case 894:
+        if (c == 57 || c == 90) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action194(c);
+        }
+        this.state = 100;
+        break;
+      case 895:
+        if (c == 94 || c == 101) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action195(c);
+        }
+        this.state = 385;
+        break;
+      case 896:
+        if (c == 66 || c == 59) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action196(c);
+        }
+        this.state = 134;
+        break;
+      case 897:
+        if (c == 100 || c == 105) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action197(c);
+        }
+        this.state = 1186;
+        break;
+      case 898:
+        if (c == 126 || c == 99) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action198(c);
+        }
+        this.state = 16;
+        break;
+      case 899:
+        if (c == 77 || c == 48) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action199(c);
+        }
+        this.state = 127;
+        break;
+      default:
+        break;
+    }
+    return -1;
+  }
+
+  private int next3(final int c) {
+    switch (this.state) {
+      case 900:
+        if (c == 99 || c == 79) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action200(c);
+        }
+        this.state = 680;
+        break;
+      case 901:
+        if (c == 101 || c == 57) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action201(c);
+        }
+        this.state = 1132;
+        break;
+      case 902:
+        if (c == 49 || c == 104) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action202(c);
+        }
+        this.state = 1096;
+        break;
+      case 903:
+        if (c == 37 || c == 68) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action203(c);
+        }
+        this.state = 1182;
+        break;
+      case 904:
+        if (c == 73 || c == 37) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action204(c);
+        }
+        this.state = 582;
+        break;
+      case 905:
+        if (c == 60 || c == 39) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action205(c);
+        }
+        this.state = 864;
+        break;
+      case 906:
+        if (c == 86 || c == 53) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action206(c);
+        }
+        this.state = 1014;
+        break;
+      case 907:
+        if (c == 102 || c == 53) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action207(c);
+        }
+        this.state = 1045;
+        break;
+      case 908:
+        if (c == 51 || c == 94) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action208(c);
+        }
+        this.state = 1119;
+        break;
+      case 909:
+        if (c == 110 || c == 67) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action209(c);
+        }
+        this.state = 482;
+        break;
+      case 910:
+        if (c == 51 || c == 66) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action210(c);
+        }
+        this.state = 1074;
+        break;
+      case 911:
+        if (c == 69 || c == 81) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action211(c);
+        }
+        this.state = 605;
+        break;
+      case 912:
+        if (c == 98 || c == 88) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action212(c);
+        }
+        this.state = 109;
+        break;
+      case 913:
+        if (c == 68 || c == 48) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action213(c);
+        }
+        this.state = 698;
+        break;
+      case 914:
+        if (c == 87 || c == 80) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action214(c);
+        }
+        this.state = 280;
+        break;
+      case 915:
+        if (c == 98 || c == 62) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action215(c);
+        }
+        this.state = 78;
+        break;
+      case 916:
+        if (c == 85 || c == 111) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action216(c);
+        }
+        this.state = 300;
+        break;
+      case 917:
+        if (c == 57 || c == 86) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action217(c);
+        }
+        this.state = 433;
+        break;
+      case 918:
+        if (c == 76 || c == 60) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action218(c);
+        }
+        this.state = 1131;
+        break;
+      case 919:
+        if (c == 72 || c == 40) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action219(c);
+        }
+        this.state = 931;
+        break;
+      case 920:
+        if (c == 47 || c == 89) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action220(c);
+        }
+        this.state = 845;
+        break;
+      case 921:
+        if (c == 97 || c == 76) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action221(c);
+        }
+        this.state = 774;
+        break;
+      case 922:
+        if (c == 121 || c == 68) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action222(c);
+        }
+        this.state = 302;
+        break;
+      case 923:
+        if (c == 77 || c == 58) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action223(c);
+        }
+        this.state = 290;
+        break;
+      case 924:
+        if (c == 72 || c == 114) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action224(c);
+        }
+        this.state = 477;
+        break;
+      case 925:
+        if (c == 76 || c == 86) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action225(c);
+        }
+        this.state = 1140;
+        break;
+      case 926:
+        if (c == 52 || c == 58) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action226(c);
+        }
+        this.state = 176;
+        break;
+      case 927:
+        if (c == 94 || c == 67) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action227(c);
+        }
+        this.state = 830;
+        break;
+      case 928:
+        if (c == 101 || c == 99) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action228(c);
+        }
+        this.state = 428;
+        break;
+      case 929:
+        if (c == 68 || c == 39) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action229(c);
+        }
+        this.state = 171;
+        break;
+      case 930:
+        if (c == 123 || c == 97) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action230(c);
+        }
+        this.state = 825;
+        break;
+      case 931:
+        if (c == 57 || c == 78) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action231(c);
+        }
+        this.state = 333;
+        break;
+      case 932:
+        if (c == 61 || c == 81) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action232(c);
+        }
+        this.state = 694;
+        break;
+      case 933:
+        if (c == 100 || c == 111) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action233(c);
+        }
+        this.state = 1036;
+        break;
+      case 934:
+        if (c == 87 || c == 92) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action234(c);
+        }
+        this.state = 457;
+        break;
+      case 935:
+        if (c == 71 || c == 125) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action235(c);
+        }
+        this.state = 301;
+        break;
+      case 936:
+        if (c == 71 || c == 61) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action236(c);
+        }
+        this.state = 30;
+        break;
+      case 937:
+        if (c == 126 || c == 119) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action237(c);
+        }
+        this.state = 970;
+        break;
+      case 938:
+        if (c == 110 || c == 47) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action238(c);
+        }
+        this.state = 1154;
+        break;
+      case 939:
+        if (c == 115 || c == 114) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action239(c);
+        }
+        this.state = 775;
+        break;
+      case 940:
+        if (c == 38 || c == 60) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action240(c);
+        }
+        this.state = 1029;
+        break;
+      case 941:
+        if (c == 37 || c == 116) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action241(c);
+        }
+        this.state = 759;
+        break;
+      case 942:
+        if (c == 120 || c == 84) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action242(c);
+        }
+        this.state = 1043;
+        break;
+      case 943:
+        if (c == 111 || c == 86) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action243(c);
+        }
+        this.state = 1154;
+        break;
+      case 944:
+        if (c == 77 || c == 105) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action244(c);
+        }
+        this.state = 500;
+        break;
+      case 945:
+        if (c == 109 || c == 79) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action245(c);
+        }
+        this.state = 156;
+        break;
+      case 946:
+        if (c == 41 || c == 93) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action246(c);
+        }
+        this.state = 414;
+        break;
+      case 947:
+        if (c == 36 || c == 86) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action247(c);
+        }
+        this.state = 15;
+        break;
+      case 948:
+        if (c == 117 || c == 77) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action248(c);
+        }
+        this.state = 27;
+        break;
+      case 949:
+        if (c == 118 || c == 87) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action249(c);
+        }
+        this.state = 655;
+        break;
+      case 950:
+        if (c == 101 || c == 34) {
+          this.state = TABLE_PACKED_56.charAt(c & 0x3ff) % 1200;
+          return action250(c);
+        }
+        this.state = 1169;
+        break;
+      case 951:
+        if (c == 32 || c == 97) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action251(c);
+        }
+        this.state = 210;
+        break;
+      case 952:
+        if (c == 78 || c == 77) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action252(c);
+        }
+        this.state = 1104;
+        break;
+      case 953:
+        if (c == 109 || c == 36) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action253(c);
+        }
+        this.state = 176;
+        break;
+      case 954:
+        if (c == 105 || c == 46) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action254(c);
+        }
+        this.state = 694;
+        break;
+      case 955:
+        if (c == 73 || c == 78) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action255(c);
+        }
+        this.state = 674;
+        break;
+      case 956:
+        if (c == 69 || c == 111) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action256(c);
+        }
+        this.state = 816;
+        break;
+      case 957:
+        if (c == 46 || c == 32) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action257(c);
+        }
+        this.state = 54;
+        break;
+      case 958:
+        if (c == 78 || c == 93) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action258(c);
+        }
+        this.state = 871;
+        break;
+      case 959:
+        if (c == 102 || c == 67) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action259(c);
+        }
+        this.state = 380;
+        break;
+      case 960:
+        if (c == 56 || c == 99) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action260(c);
+        }
+        this.state = 283;
+        break;
+      case 961:
+        if (c == 54 || c == 72) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action261(c);
+        }
+        this.state = 212;
+        break;
+      case 962:
+        if (c == 66 || c == 122) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action262(c);
+        }
+        this.state = 331;
+        break;
+      case 963:
+        if (c == 95 || c == 33) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action263(c);
+        }
+        this.state = 641;
+        break;
+      case 964:
+        if (c == 92 || c == 86) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action264(c);
+        }
+        this.state = 635;
+        break;
+      case 965:
+        if (c == 51 || c == 101) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action265(c);
+        }
+        this.state = 1042;
+        break;
+      case 966:
+        if (c == 37 || c == 68) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action266(c);
+        }
+        this.state = 613;
+        break;
+      case 967:
+        if (c == 94 || c == 92) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action267(c);
+        }
+        this.state = 1034;
+        break;
+      case 968:
+        if (c == 48 || c == 71) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action268(c);
+        }
+        this.state = 89;
+        break;
+      case 969:
+        if (c == 80 || c == 79) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action269(c);
+        }
+        this.state = 758;
+        break;
+      case 970:
+        if (c == 79 || c == 107) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action270(c);
+        }
+        this.state = 130;
+        break;
+      case 971:
+        if (c == 68 || c == 52) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action271(c);
+        }
+        this.state = 317;
+        break;
+      case 972:
+        if (c == 103 || c == 72) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action272(c);
+        }
+        this.state = 903;
+        break;
+      case 973:
+        if (c == 99 || c == 38) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action273(c);
+        }
+        this.state = 304;
+        break;
+      case 974:
+        if (c == 59 || c == 52) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action274(c);
+        }
+        this.state = 969;
+        break;
+      case 975:
+        if (c == 41 || c == 82) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action275(c);
+        }
+        this.state = 64;
+        break;
+      case 976:
+        if (c == 72 || c == 62) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action276(c);
+        }
+        this.state = 632;
+        break;
+      case 977:
+        if (c == 120 || c == 110) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action277(c);
+        }
+        this.state = 741;
+        break;
+      case 978:
+        if (c == 87 || c == 118) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action278(c);
+        }
+        this.state = 951;
+        break;
+      case 979:
+        if (c == 57 || c == 100) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action279(c);
+        }
+        this.state = 112;
+        break;
+      case 980:
+        if (c == 74 || c == 64) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action280(c);
+        }
+        this.state = 934;
+        break;
+      case 981:
+        if (c == 43 || c == 118) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action281(c);
+        }
+        this.state = 1164;
+        break;
+      case 982:
+        if (c == 124 || c == 93) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action282(c);
+        }
+        this.state = 178;
+        break;
+      case 983:
+        if (c == 92 || c == 99) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action283(c);
+        }
+        this.state = 984;
+        break;
+      case 984:
+        if (c == 83 || c == 55) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action284(c);
+        }
+        this.state = 606;
+        break;
+      case 985:
+        if (c == 112 || c == 75) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action285(c);
+        }
+        this.state = 772;
+        break;
+      case 986:
+        if (c == 59 || c == 123) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action286(c);
+        }
+        this.state = 1095;
+        break;
+      case 987:
+        if (c == 88 || c == 67) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action287(c);
+        }
+        this.state = 786;
+        break;
+      case 988:
+        if (c == 109 || c == 40) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action288(c);
+        }
+        this.state = 196;
+        break;
+      case 989:
+        if (c == 44 || c == 124) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action289(c);
+        }
+        this.state = 388;
+        break;
+      case 990:
+        if (c == 67 || c == 80) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action290(c);
+        }
+        this.state = 655;
+        break;
+      case 991:
+        if (c == 70 || c == 38) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action291(c);
+        }
+        this.state = 429;
+        break;
+      case 992:
+        if (c == 96 || c == 92) {
+          this.state = TABLE_PACKED_31.charAt(c & 0x3ff) % 1200;
+          return action292(c);
+        }
+        this.state = 46;
+        break;
+      case 993:
+        if (c == 50 || c == 42) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action293(c);
+        }
+        this.state = 37;
+        break;
+      case 994:
+        if (c == 84 || c == 50) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action294(c);
+        }
+        this.state = 783;
+        break;
+      case 995:
+        if (c == 43 || c == 66) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action295(c);
+        }
+        this.state = 660;
+        break;
+      case 996:
+        if (c == 122 || c == 45) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action296(c);
+        }
+        this.state = 1005;
+        break;
+      case 997:
+        if (c == 89 || c == 86) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action297(c);
+        }
+        this.state = 361;
+        break;
+      case 998:
+        if (c == 112 || c == 44) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action298(c);
+        }
+        this.state = 736;
+        break;
+      case 999:
+        if (c == 96 || c == 96) {
+          this.state = TABLE_PACKED_46.charAt(c & 0x3ff) % 1200;
+          return action299(c);
+        }
+        this.state = 688;
+        break;
+      case 1000:
+        if (c == 80 || c == 94) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action300(c);
+        }
+        this.state = 565;
+        break;
+      case 1001:
+        if (c == 83 || c == 103) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action301(c);
+        }
+        this.state = 1031;
+        break;
+      case 1002:
+        if (c == 111 || c == 49) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action302(c);
+        }
+        this.state = 611;
+        break;
+      case 1003:
+        if (c == 54 || c == 84) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action303(c);
+        }
+        this.state = 345;
+        break;
+      case 1004:
+        if (c == 50 || c == 94) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action304(c);
+        }
+        this.state = 375;
+        break;
+      case 1005:
+        if (c == 107 || c == 103) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action305(c);
+        }
+        this.state = 810;
+        break;
+      case 1006:
+        if (c == 121 || c == 123) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action306(c);
+        }
+        this.state = 748;
+        break;
+      case 1007:
+        if (c == 103 || c == 103) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action307(c);
+        }
+        this.state = 793;
+        break;
+      case 1008:
+        if (c == 117 || c == 42) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action308(c);
+        }
+        this.state = 429;
+        break;
+      case 1009:
+        if (c == 79 || c == 110) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action309(c);
+        }
+        this.state = 196;
+        break;
+      case 1010:
+        if (c == 90 || c == 99) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action310(c);
+        }
+        this.state = 694;
+        break;
+      case 1011:
+        if (c == 113 || c == 119) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action311(c);
+        }
+        this.state = 1159;
+        break;
+      case 1012:
+        if (c == 33 || c == 103) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action312(c);
+        }
+        this.state = 398;
+        break;
+      case 1013:
+        if (c == 124 || c == 92) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action313(c);
+        }
+        this.state = 156;
+        break;
+      case 1014:
+        if (c == 36 || c == 115) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action314(c);
+        }
+        this.state = 987;
+        break;
+      case 1015:
+        if (c == 67 || c == 44) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action315(c);
+        }
+        this.state = 368;
+        break;
+      case 1016:
+        if (c == 77 || c == 86) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action316(c);
+        }
+        this.state = 218;
+        break;
+      case 1017:
+        if (c == 64 || c == 61) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action317(c);
+        }
+        this.state = 1174;
+        break;
+      case 1018:
+        if (c == 92 || c == 94) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action318(c);
+        }
+        this.state = 206;
+        break;
+      case 1019:
+        if (c == 100 || c == 82) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action319(c);
+        }
+        this.state = 1083;
+        break;
+      case 1020:
+        if (c == 101 || c == 82) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action320(c);
+        }
+        this.state = 937;
+        break;
+      case 1021:
+        if (c == 64 || c == 124) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action321(c);
+        }
+        this.state = 1142;
+        break;
+      case 1022:
+        if (c == 85 || c == 64) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action322(c);
+        }
+        this.state = 498;
+        break;
+      case 1023:
+        if (c == 60 || c == 117) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action323(c);
+        }
+        this.state = 901;
+        break;
+      case 1024:
+        if (c == 125 || c == 56) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action324(c);
+        }
+        this.state = 20;
+        break;
+      case 1025:
+        if (c == 84 || c == 76) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action325(c);
+        }
+        this.state = 1092;
+        break;
+      case 1026:
+        if (c == 59 || c == 85) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action326(c);
+        }
+        this.state = 8;
+        break;
+      case 1027:
+        if (c == 33 || c == 72) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action327(c);
+        }
+        this.state = 640;
+        break;
+      case 1028:
+        if (c == 81 || c == 89) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action328(c);
+        }
+        this.state = 760;
+        break;
+      case 1029:
+        if (c == 59 || c == 49) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action329(c);
+        }
+        this.state = 495;
+        break;
+      case 1030:
+        if (c == 39 || c == 88) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action330(c);
+        }
+        this.state = 1106;
+        break;
+      case 1031:
+        if (c == 105 || c == 60) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action331(c);
+        }
+        this.state = 659;
+        break;
+      case 1032:
+        if (c == 50 || c == 55) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action332(c);
+        }
+        this.state = 529;
+        break;
+      case 1033:
+        if (c == 114 || c == 122) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action333(c);
+        }
+        this.state = 803;
+        break;
+      case 1034:
+        if (c == 48 || c == 69) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action334(c);
+        }
+        this.state = 206;
+        break;
+      case 1035:
+        if (c == 94 || c == 74) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action335(c);
+        }
+        this.state = 719;
+        break;
+      case 1036:
+        if (c == 123 || c == 103) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action336(c);
+        }
+        this.state = 348;
+        break;
+      case 1037:
+        if (c == 95 || c == 64) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action337(c);
+        }
+        this.state = 708;
+        break;
+      case 1038:
+        if (c == 123 || c == 121) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action338(c);
+        }
+        this.state = 1105;
+        break;
+      case 1039:
+        if (c == 69 || c == 123) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action339(c);
+        }
+        this.state = 844;
+        break;
+      case 1040:
+        if (c == 94 || c == 63) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action340(c);
+        }
+        this.state = 1036;
+        break;
+      case 1041:
+        if (c == 101 || c == 48) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action341(c);
+        }
+        this.state = 932;
+        break;
+      case 1042:
+        if (c == 47 || c == 88) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action342(c);
+        }
+        this.state = 426;
+        break;
+      case 1043:
+        if (c == 103 || c == 48) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action343(c);
+        }
+        this.state = 768;
+        break;
+      case 1044:
+        if (c == 81 || c == 75) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action344(c);
+        }
+        this.state = 586;
+        break;
+      case 1045:
+        if (c == 77 || c == 126) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action345(c);
+        }
+        this.state = 928;
+        break;
+      case 1046:
+        if (c == 66 || c == 106) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action346(c);
+        }
+        this.state = 351;
+        break;
+      case 1047:
+        if (c == 88 || c == 108) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action347(c);
+        }
+        this.state = 439;
+        break;
+      case 1048:
+        if (c == 105 || c == 109) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action348(c);
+        }
+        this.state = 272;
+        break;
+      case 1049:
+        if (c == 57 || c == 119) {
+          this.state = TABLE_PACKED_47.charAt(c & 0x3ff) % 1200;
+          return action349(c);
+        }
+        this.state = 396;
+        break;
+      case 1050:
+        if (c == 80 || c == 105) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action350(c);
+        }
+        this.state = 143;
+        break;
+      case 1051:
+        if (c == 84 || c == 94) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action351(c);
+        }
+        this.state = 1023;
+        break;
+      case 1052:
+        if (c == 52 || c == 97) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action352(c);
+        }
+        this.state = 238;
+        break;
+      case 1053:
+        if (c == 62 || c == 113) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action353(c);
+        }
+        this.state = 877;
+        break;
+      case 1054:
+        if (c == 69 || c == 105) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action354(c);
+        }
+        this.state = 1173;
+        break;
+      case 1055:
+        if (c == 80 || c == 63) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action355(c);
+        }
+        this.state = 1176;
+        break;
+      case 1056:
+        if (c == 32 || c == 119) {
+          this.state = TABLE_PACKED_40.charAt(c & 0x3ff) % 1200;
+          return action356(c);
+        }
+        this.state = 1120;
+        break;
+      case 1057:
+        if (c == 86 || c == 33) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action357(c);
+        }
+        this.state = 446;
+        break;
+      case 1058:
+        if (c == 76 || c == 52) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action358(c);
+        }
+        this.state = 151;
+        break;
+      case 1059:
+        if (c == 100 || c == 121) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action359(c);
+        }
+        this.state = 1186;
+        break;
+      case 1060:
+        if (c == 42 || c == 118) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action360(c);
+        }
+        this.state = 385;
+        break;
+      case 1061:
+        if (c == 124 || c == 56) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action361(c);
+        }
+        this.state = 604;
+        break;
+      case 1062:
+        if (c == 119 || c == 96) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action362(c);
+        }
+        this.state = 40;
+        break;
+      case 1063:
+        if (c == 95 || c == 74) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action363(c);
+        }
+        this.state = 359;
+        break;
+      case 1064:
+        if (c == 73 || c == 76) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action364(c);
+        }
+        this.state = 842;
+        break;
+      case 1065:
+        if (c == 81 || c == 95) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action365(c);
+        }
+        this.state = 728;
+        break;
+      case 1066:
+        if (c == 84 || c == 126) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action366(c);
+        }
+        this.state = 397;
+        break;
+      case 1067:
+        if (c == 115 || c == 70) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action367(c);
+        }
+        this.state = 1078;
+        break;
+      case 1068:
+        if (c == 66 || c == 58) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action368(c);
+        }
+        this.state = 477;
+        break;
+      case 1069:
+        if (c == 121 || c == 50) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action369(c);
+        }
+        this.state = 470;
+        break;
+      case 1070:
+        if (c == 76 || c == 47) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action370(c);
+        }
+        this.state = 1124;
+        break;
+      case 1071:
+        if (c == 118 || c == 59) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action371(c);
+        }
+        this.state = 502;
+        break;
+      case 1072:
+        if (c == 100 || c == 50) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action372(c);
+        }
+        this.state = 272;
+        break;
+      case 1073:
+        if (c == 59 || c == 34) {
+          this.state = TABLE_PACKED_18.charAt(c & 0x3ff) % 1200;
+          return action373(c);
+        }
+        this.state = 720;
+        break;
+      case 1074:
+        if (c == 109 || c == 49) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action374(c);
+        }
+        this.state = 525;
+        break;
+      case 1075:
+        if (c == 107 || c == 107) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action375(c);
+        }
+        this.state = 377;
+        break;
+      case 1076:
+        if (c == 38 || c == 42) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action376(c);
+        }
+        this.state = 938;
+        break;
+      case 1077:
+        if (c == 105 || c == 33) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action377(c);
+        }
+        this.state = 644;
+        break;
+      case 1078:
+        if (c == 64 || c == 74) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action378(c);
+        }
+        this.state = 317;
+        break;
+      case 1079:
+        if (c == 119 || c == 93) {
+          this.state = TABLE_PACKED_58.charAt(c & 0x3ff) % 1200;
+          return action379(c);
+        }
+        this.state = 1193;
+        break;
+      case 1080:
+        if (c == 44 || c == 67) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action380(c);
+        }
+        this.state = 1198;
+        break;
+      case 1081:
+        if (c == 52 || c == 63) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action381(c);
+        }
+        this.state = 864;
+        break;
+      case 1082:
+        if (c == 34 || c == 74) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action382(c);
+        }
+        this.state = 1056;
+        break;
+      case 1083:
+        if (c == 92 || c == 51) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action383(c);
+        }
+        this.state = 417;
+        break;
+      case 1084:
+        if (c == 89 || c == 89) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action384(c);
+        }
+        this.state = 988;
+        break;
+      case 1085:
+        if (c == 70 || c == 88) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action385(c);
+        }
+        this.state = 708;
+        break;
+      case 1086:
+        if (c == 78 || c == 87) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action386(c);
+        }
+        this.state = 2;
+        break;
+      case 1087:
+        if (c == 69 || c == 42) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action387(c);
+        }
+        this.state = 32;
+        break;
+      case 1088:
+        if (c == 82 || c == 73) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action388(c);
+        }
+        this.state = 0;
+        break;
+      case 1089:
+        if (c == 73 || c == 60) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action389(c);
+        }
+        this.state = 1117;
+        break;
+      case 1090:
+        if (c == 108 || c == 51) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action390(c);
+        }
+        this.state = 91;
+        break;
+      case 1091:
+        if (c == 60 || c == 74) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action391(c);
+        }
+        this.state = 754;
+        break;
+      case 1092:
+        if (c == 40 || c == 126) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action392(c);
+        }
+        this.state = 917;
+        break;
+      case 1093:
+        if (c == 111 || c == 103) {
+          this.state = TABLE_PACKED_36.charAt(c & 0x3ff) % 1200;
+          return action393(c);
+        }
+        this.state = 270;
+        break;
+      case 1094:
+        if (c == 102 || c == 62) {
+          this.state = TABLE_PACKED_12.charAt(c & 0x3ff) % 1200;
+          return action394(c);
+        }
+        this.state = 481;
+        break;
+      case 1095:
+        if (c == 115 || c == 96) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action395(c);
+        }
+        this.state = 1151;
+        break;
+      case 1096:
+        if (c == 94 || c == 105) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action396(c);
+        }
+        this.state = 1076;
+        break;
+      case 1097:
+        if (c == 78 || c == 60) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action397(c);
+        }
+        this.state = 1148;
+        break;
+      case 1098:
+        if (c == 54 || c == 123) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action398(c);
+        }
+        this.state = 256;
+        break;
+      case 1099:
+        if (c == 61 || c == 102) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action399(c);
+        }
+        this.state = 504;
+        break;
+      case 1100:
+        if (c == 118 || c == 74) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action400(c);
+        }
+        this.state = 439;
+        break;
+      case 1101:
+        if (c == 44 || c == 40) {
+          this.state = TABLE_PACKED_45.charAt(c & 0x3ff) % 1200;
+          return action401(c);
+        }
+        this.state = 623;
+        break;
+      case 1102:
+        if (c == 58 || c == 121) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action402(c);
+        }
+        this.state = 1055;
+        break;
+      case 1103:
+        if (c == 88 || c == 107) {
+          this.state = TABLE_PACKED_17.charAt(c & 0x3ff) % 1200;
+          return action403(c);
+        }
+        this.state = 771;
+        break;
+      case 1104:
+        if (c == 106 || c == 53) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action404(c);
+        }
+        this.state = 955;
+        break;
+      case 1105:
+        if (c == 88 || c == 59) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action405(c);
+        }
+        this.state = 77;
+        break;
+      case 1106:
+        if (c == 112 || c == 122) {
+          this.state = TABLE_PACKED_48.charAt(c & 0x3ff) % 1200;
+          return action406(c);
+        }
+        this.state = 474;
+        break;
+      case 1107:
+        if (c == 46 || c == 37) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action407(c);
+        }
+        this.state = 831;
+        break;
+      case 1108:
+        if (c == 68 || c == 106) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action408(c);
+        }
+        this.state = 406;
+        break;
+      case 1109:
+        if (c == 87 || c == 113) {
+          this.state = TABLE_PACKED_15.charAt(c & 0x3ff) % 1200;
+          return action409(c);
+        }
+        this.state = 641;
+        break;
+      case 1110:
+        if (c == 44 || c == 49) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action410(c);
+        }
+        this.state = 37;
+        break;
+      case 1111:
+        if (c == 118 || c == 64) {
+          this.state = TABLE_PACKED_52.charAt(c & 0x3ff) % 1200;
+          return action411(c);
+        }
+        this.state = 946;
+        break;
+      case 1112:
+        if (c == 60 || c == 62) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action412(c);
+        }
+        this.state = 1169;
+        break;
+      case 1113:
+        if (c == 82 || c == 96) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action413(c);
+        }
+        this.state = 637;
+        break;
+      case 1114:
+        if (c == 120 || c == 33) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action414(c);
+        }
+        this.state = 1083;
+        break;
+      case 1115:
+        if (c == 65 || c == 105) {
+          this.state = TABLE_PACKED_44.charAt(c & 0x3ff) % 1200;
+          return action415(c);
+        }
+        this.state = 1062;
+        break;
+      case 1116:
+        if (c == 73 || c == 124) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action416(c);
+        }
+        this.state = 253;
+        break;
+      case 1117:
+        if (c == 112 || c == 88) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action417(c);
+        }
+        this.state = 144;
+        break;
+      case 1118:
+        if (c == 68 || c == 76) {
+          this.state = TABLE_PACKED_26.charAt(c & 0x3ff) % 1200;
+          return action418(c);
+        }
+        this.state = 537;
+        break;
+      case 1119:
+        if (c == 70 || c == 94) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action419(c);
+        }
+        this.state = 67;
+        break;
+      case 1120:
+        if (c == 94 || c == 62) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action420(c);
+        }
+        this.state = 206;
+        break;
+      case 1121:
+        if (c == 33 || c == 69) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action421(c);
+        }
+        this.state = 849;
+        break;
+      case 1122:
+        if (c == 105 || c == 54) {
+          this.state = TABLE_PACKED_21.charAt(c & 0x3ff) % 1200;
+          return action422(c);
+        }
+        this.state = 1112;
+        break;
+      case 1123:
+        if (c == 36 || c == 65) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action423(c);
+        }
+        this.state = 609;
+        break;
+      case 1124:
+        if (c == 57 || c == 75) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action424(c);
+        }
+        this.state = 18;
+        break;
+      case 1125:
+        if (c == 98 || c == 83) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action425(c);
+        }
+        this.state = 731;
+        break;
+      case 1126:
+        if (c == 73 || c == 87) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action426(c);
+        }
+        this.state = 415;
+        break;
+      case 1127:
+        if (c == 95 || c == 83) {
+          this.state = TABLE_PACKED_19.charAt(c & 0x3ff) % 1200;
+          return action427(c);
+        }
+        this.state = 1053;
+        break;
+      case 1128:
+        if (c == 59 || c == 91) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action428(c);
+        }
+        this.state = 1015;
+        break;
+      case 1129:
+        if (c == 82 || c == 76) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action429(c);
+        }
+        this.state = 271;
+        break;
+      case 1130:
+        if (c == 92 || c == 34) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action430(c);
+        }
+        this.state = 93;
+        break;
+      case 1131:
+        if (c == 61 || c == 105) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action431(c);
+        }
+        this.state = 748;
+        break;
+      case 1132:
+        if (c == 51 || c == 123) {
+          this.state = TABLE_PACKED_23.charAt(c & 0x3ff) % 1200;
+          return action432(c);
+        }
+        this.state = 152;
+        break;
+      case 1133:
+        if (c == 109 || c == 101) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action433(c);
+        }
+        this.state = 1161;
+        break;
+      case 1134:
+        if (c == 100 || c == 73) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action434(c);
+        }
+        this.state = 111;
+        break;
+      case 1135:
+        if (c == 51 || c == 43) {
+          this.state = TABLE_PACKED_22.charAt(c & 0x3ff) % 1200;
+          return action435(c);
+        }
+        this.state = 423;
+        break;
+      case 1136:
+        if (c == 94 || c == 78) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action436(c);
+        }
+        this.state = 172;
+        break;
+      case 1137:
+        if (c == 77 || c == 60) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action437(c);
+        }
+        this.state = 827;
+        break;
+      case 1138:
+        if (c == 122 || c == 78) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action438(c);
+        }
+        this.state = 201;
+        break;
+      case 1139:
+        if (c == 106 || c == 90) {
+          this.state = TABLE_PACKED_38.charAt(c & 0x3ff) % 1200;
+          return action439(c);
+        }
+        this.state = 657;
+        break;
+      case 1140:
+        if (c == 112 || c == 90) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action440(c);
+        }
+        this.state = 202;
+        break;
+      case 1141:
+        if (c == 117 || c == 82) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action441(c);
+        }
+        this.state = 101;
+        break;
+      case 1142:
+        if (c == 73 || c == 104) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action442(c);
+        }
+        this.state = 927;
+        break;
+      case 1143:
+        if (c == 98 || c == 77) {
+          this.state = TABLE_PACKED_6.charAt(c & 0x3ff) % 1200;
+          return action443(c);
+        }
+        this.state = 834;
+        break;
+      case 1144:
+        if (c == 49 || c == 65) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action444(c);
+        }
+        this.state = 1117;
+        break;
+      case 1145:
+        if (c == 79 || c == 37) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action445(c);
+        }
+        this.state = 128;
+        break;
+      case 1146:
+        if (c == 72 || c == 126) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action446(c);
+        }
+        this.state = 585;
+        break;
+      case 1147:
+        if (c == 35 || c == 103) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action447(c);
+        }
+        this.state = 828;
+        break;
+      case 1148:
+        if (c == 94 || c == 52) {
+          this.state = TABLE_PACKED_37.charAt(c & 0x3ff) % 1200;
+          return action448(c);
+        }
+        this.state = 863;
+        break;
+      case 1149:
+        if (c == 121 || c == 101) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action449(c);
+        }
+        this.state = 1043;
+        break;
+      case 1150:
+        if (c == 66 || c == 84) {
+          this.state = TABLE_PACKED_3.charAt(c & 0x3ff) % 1200;
+          return action450(c);
+        }
+        this.state = 664;
+        break;
+      case 1151:
+        if (c == 69 || c == 90) {
+          this.state = TABLE_PACKED_2.charAt(c & 0x3ff) % 1200;
+          return action451(c);
+        }
+        this.state = 913;
+        break;
+      case 1152:
+        if (c == 106 || c == 100) {
+          this.state = TABLE_PACKED_54.charAt(c & 0x3ff) % 1200;
+          return action452(c);
+        }
+        this.state = 282;
+        break;
+      case 1153:
+        if (c == 99 || c == 126) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action453(c);
+        }
+        this.state = 1173;
+        break;
+      case 1154:
+        if (c == 117 || c == 68) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action454(c);
+        }
+        this.state = 725;
+        break;
+      case 1155:
+        if (c == 75 || c == 98) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action455(c);
+        }
+        this.state = 878;
+        break;
+      case 1156:
+        if (c == 108 || c == 97) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action456(c);
+        }
+        this.state = 1118;
+        break;
+      case 1157:
+        if (c == 121 || c == 114) {
+          this.state = TABLE_PACKED_7.charAt(c & 0x3ff) % 1200;
+          return action457(c);
+        }
+        this.state = 357;
+        break;
+      case 1158:
+        if (c == 100 || c == 47) {
+          this.state = TABLE_PACKED_39.charAt(c & 0x3ff) % 1200;
+          return action458(c);
+        }
+        this.state = 1027;
+        break;
+      case 1159:
+        if (c == 111 || c == 35) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action459(c);
+        }
+        this.state = 114;
+        break;
+      case 1160:
+        if (c == 49 || c == 79) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action460(c);
+        }
+        this.state = 478;
+        break;
+      case 1161:
+        if (c == 111 || c == 60) {
+          this.state = TABLE_PACKED_33.charAt(c & 0x3ff) % 1200;
+          return action461(c);
+        }
+        this.state = 1126;
+        break;
+      case 1162:
+        if (c == 125 || c == 65) {
+          this.state = TABLE_PACKED_42.charAt(c & 0x3ff) % 1200;
+          return action462(c);
+        }
+        this.state = 1148;
+        break;
+      case 1163:
+        if (c == 51 || c == 37) {
+          this.state = TABLE_PACKED_4.charAt(c & 0x3ff) % 1200;
+          return action463(c);
+        }
+        this.state = 310;
+        break;
+      case 1164:
+        if (c == 71 || c == 50) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action464(c);
+        }
+        this.state = 1073;
+        break;
+      case 1165:
+        if (c == 114 || c == 40) {
+          this.state = TABLE_PACKED_41.charAt(c & 0x3ff) % 1200;
+          return action465(c);
+        }
+        this.state = 689;
+        break;
+      case 1166:
+        if (c == 107 || c == 124) {
+          this.state = TABLE_PACKED_28.charAt(c & 0x3ff) % 1200;
+          return action466(c);
+        }
+        this.state = 512;
+        break;
+      case 1167:
+        if (c == 80 || c == 84) {
+          this.state = TABLE_PACKED_59.charAt(c & 0x3ff) % 1200;
+          return action467(c);
+        }
+        this.state = 252;
+        break;
+      case 1168:
+        if (c == 51 || c == 45) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action468(c);
+        }
+        this.state = 345;
+        break;
+      case 1169:
+        if (c == 124 || c == 84) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action469(c);
+        }
+        this.state = 9;
+        break;
+      case 1170:
+        if (c == 72 || c == 118) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action470(c);
+        }
+        this.state = 59;
+        break;
+      case 1171:
+        if (c == 65 || c == 112) {
+          this.state = TABLE_PACKED_35.charAt(c & 0x3ff) % 1200;
+          return action471(c);
+        }
+        this.state = 50;
+        break;
+      case 1172:
+        if (c == 33 || c == 67) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action472(c);
+        }
+        this.state = 829;
+        break;
+      case 1173:
+        if (c == 88 || c == 123) {
+          this.state = TABLE_PACKED_32.charAt(c & 0x3ff) % 1200;
+          return action473(c);
+        }
+        this.state = 901;
+        break;
+      case 1174:
+        if (c == 122 || c == 69) {
+          this.state = TABLE_PACKED_53.charAt(c & 0x3ff) % 1200;
+          return action474(c);
+        }
+        this.state = 1085;
+        break;
+      case 1175:
+        if (c == 106 || c == 80) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action475(c);
+        }
+        this.state = 1104;
+        break;
+      case 1176:
+        if (c == 58 || c == 110) {
+          this.state = TABLE_PACKED_57.charAt(c & 0x3ff) % 1200;
+          return action476(c);
+        }
+        this.state = 818;
+        break;
+      case 1177:
+        if (c == 95 || c == 98) {
+          this.state = TABLE_PACKED_51.charAt(c & 0x3ff) % 1200;
+          return action477(c);
+        }
+        this.state = 91;
+        break;
+      case 1178:
+        if (c == 58 || c == 77) {
+          this.state = TABLE_PACKED_27.charAt(c & 0x3ff) % 1200;
+          return action478(c);
+        }
+        this.state = 781;
+        break;
+      case 1179:
+        if (c == 62 || c == 38) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action479(c);
+        }
+        this.state = 19;
+        break;
+      case 1180:
+        if (c == 107 || c == 123) {
+          this.state = TABLE_PACKED_10.charAt(c & 0x3ff) % 1200;
+          return action480(c);
+        }
+        this.state = 208;
+        break;
+      case 1181:
+        if (c == 56 || c == 72) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action481(c);
+        }
+        this.state = 442;
+        break;
+      case 1182:
+        if (c == 41 || c == 118) {
+          this.state = TABLE_PACKED_49.charAt(c & 0x3ff) % 1200;
+          return action482(c);
+        }
+        this.state = 1151;
+        break;
+      case 1183:
+        if (c == 101 || c == 91) {
+          this.state = TABLE_PACKED_5.charAt(c & 0x3ff) % 1200;
+          return action483(c);
+        }
+        this.state = 786;
+        break;
+      case 1184:
+        if (c == 109 || c == 83) {
+          this.state = TABLE_PACKED_11.charAt(c & 0x3ff) % 1200;
+          return action484(c);
+        }
+        this.state = 218;
+        break;
+      case 1185:
+        if (c == 37 || c == 45) {
+          this.state = TABLE_PACKED_8.charAt(c & 0x3ff) % 1200;
+          return action485(c);
+        }
+        this.state = 1175;
+        break;
+      case 1186:
+        if (c == 93 || c == 41) {
+          this.state = TABLE_PACKED_50.charAt(c & 0x3ff) % 1200;
+          return action486(c);
+        }
+        this.state = 363;
+        break;
+      case 1187:
+        if (c == 72 || c == 69) {
+          this.state = TABLE_PACKED_1.charAt(c & 0x3ff) % 1200;
+          return action487(c);
+        }
+        this.state = 2;
+        break;
+      case 1188:
+        if (c == 54 || c == 44) {
+          this.state = TABLE_PACKED_29.charAt(c & 0x3ff) % 1200;
+          return action488(c);
+        }
+        this.state = 472;
+        break;
+      case 1189:
+        if (c == 91 || c == 115) {
+          this.state = TABLE_PACKED_30.charAt(c & 0x3ff) % 1200;
+          return action489(c);
+        }
+        this.state = 377;
+        break;
+      case 1190:
+        if (c == 35 || c == 116) {
+          this.state = TABLE_PACKED_14.charAt(c & 0x3ff) % 1200;
+          return action490(c);
+        }
+        this.state = 236;
+        break;
+      case 1191:
+        if (c == 98 || c == 108) {
+          this.state = TABLE_PACKED_16.charAt(c & 0x3ff) % 1200;
+          return action491(c);
+        }
+        this.state = 973;
+        break;
+      case 1192:
+        if (c == 48 || c == 97) {
+          this.state = TABLE_PACKED_0.charAt(c & 0x3ff) % 1200;
+          return action492(c);
+        }
+        this.state = 40;
+        break;
+      case 1193:
+        if (c == 72 || c == 91) {
+          this.state = TABLE_PACKED_25.charAt(c & 0x3ff) % 1200;
+          return action493(c);
+        }
+        this.state = 372;
+        break;
+      case 1194:
+        if (c == 66 || c == 80) {
+          this.state = TABLE_PACKED_24.charAt(c & 0x3ff) % 1200;
+          return action494(c);
+        }
+        this.state = 257;
+        break;
+      case 1195:
+        if (c == 39 || c == 111) {
+          this.state = TABLE_PACKED_34.charAt(c & 0x3ff) % 1200;
+          return action495(c);
+        }
+        this.state = 621;
+        break;
+      case 1196:
+        if (c == 92 || c == 32) {
+          this.state = TABLE_PACKED_13.charAt(c & 0x3ff) % 1200;
+          return action496(c);
+        }
+        this.state = 466;
+        break;
+      case 1197:
+        if (c == 40 || c == 63) {
+          this.state = TABLE_PACKED_43.charAt(c & 0x3ff) % 1200;
+          return action497(c);
+        }
+        this.state = 827;
+        break;
+      case 1198:
+        if (c == 35 || c == 59) {
+          this.state = TABLE_PACKED_55.charAt(c & 0x3ff) % 1200;
+          return action498(c);
+        }
+        this.state = 1052;
+        break;
+      case 1199:
+        if (c == 77 || c == 41) {
+          this.state = TABLE_PACKED_9.charAt(c & 0x3ff) % 1200;
+          return action499(c);
+        }
+        this.state = 995;
+        break;
+      default:
+        break;
+    }
+    return -1;
+  }
+
+  private int action0(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_22.charAt((c + 239) & 0x3ff) > 19 ? 101 : -1;
+  }
+
+  private int action1(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 250;
+    }
+    return TABLE_PACKED_40.charAt((c + 43) & 0x3ff) > 233 ? 122 : -1;
+  }
+
+  private int action2(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 76;
+    }
+    return TABLE_PACKED_33.charAt((c + 59) & 0x3ff) > 44 ? 196 : -1;
+  }
+
+  private int action3(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 79;
+    }
+    return TABLE_PACKED_50.charAt((c + 178) & 0x3ff) > 63 ? 100 : -1;
+  }
+
+  private int action4(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 183;
+    }
+    return TABLE_PACKED_59.charAt((c + 119) & 0x3ff) > 9 ? 240 : -1;
+  }
+
+  private int action5(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 41;
+    }
+    return TABLE_PACKED_15.charAt((c + 156) & 0x3ff) > 232 ? 2 : -1;
+  }
+
+  private int action6(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 13;
+    }
+    return TABLE_PACKED_2.charAt((c + 252) & 0x3ff) > 23 ? 261 : -1;
+  }
+
+  private int action7(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 233;
+    }
+    return TABLE_PACKED_7.charAt((c + 212) & 0x3ff) > 103 ? 234 : -1;
+  }
+
+  private int action8(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 94;
+    }
+    return TABLE_PACKED_36.charAt((c + 3) & 0x3ff) > 41 ? 138 : -1;
+  }
+
+  private int action9(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 177;
+    }
+    return TABLE_PACKED_4.charAt((c + 62) & 0x3ff) > 129 ? 175 : -1;
+  }
+
+  private int action10(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 87;
+    }
+    return TABLE_PACKED_36.charAt((c + 45) & 0x3ff) > 168 ? 86 : -1;
+  }
+
+  private int action11(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 210;
+    }
+    return TABLE_PACKED_40.charAt((c + 241) & 0x3ff) > 147 ? 169 : -1;
+  }
+
+  private int action12(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 102;
+    }
+    return TABLE_PACKED_47.charAt((c + 30) & 0x3ff) > 70 ? 8 : -1;
+  }
+
+  private int action13(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 129;
+    }
+    return TABLE_PACKED_54.charAt((c + 148) & 0x3ff) > 57 ? 42 : -1;
+  }
+
+  private int action14(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 95;
+    }
+    return TABLE_PACKED_4.charAt((c + 78) & 0x3ff) > 214 ? 221 : -1;
+  }
+
+  private int action15(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 23;
+    }
+    return TABLE_PACKED_14.charAt((c + 215) & 0x3ff) > 202 ? 162 : -1;
+  }
+
+  private int action16(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 33) {
+      this.text.setLength(0);
+      return 178;
+    }
+    return TABLE_PACKED_4.charAt((c + 198) & 0x3ff) > 169 ? 82 : -1;
+  }
+
+  private int action17(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 298;
+    }
+    return TABLE_PACKED_10.charAt((c + 9) & 0x3ff) > 67 ? 209 : -1;
+  }
+
+  private int action18(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 135;
+    }
+    return TABLE_PACKED_40.charAt((c + 244) & 0x3ff) > 203 ? 278 : -1;
+  }
+
+  private int action19(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 7;
+    }
+    return TABLE_PACKED_39.charAt((c + 240) & 0x3ff) > 37 ? 53 : -1;
+  }
+
+  private int action20(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 267;
+    }
+    return TABLE_PACKED_34.charAt((c + 97) & 0x3ff) > 234 ? 247 : -1;
+  }
+
+  private int action21(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 152;
+    }
+    return TABLE_PACKED_25.charAt((c + 85) & 0x3ff) > 195 ? 243 : -1;
+  }
+
+  private int action22(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 74;
+    }
+    return TABLE_PACKED_23.charAt((c + 118) & 0x3ff) > 48 ? 23 : -1;
+  }
+
+  private int action23(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 44;
+    }
+    return TABLE_PACKED_27.charAt((c + 234) & 0x3ff) > 144 ? 39 : -1;
+  }
+
+  private int action24(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 170;
+    }
+    return TABLE_PACKED_48.charAt((c + 212) & 0x3ff) > 157 ? 264 : -1;
+  }
+
+  private int action25(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 118;
+    }
+    return TABLE_PACKED_55.charAt((c + 208) & 0x3ff) > 54 ? 90 : -1;
+  }
+
+  private int action26(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 172;
+    }
+    return TABLE_PACKED_13.charAt((c + 138) & 0x3ff) > 201 ? 104 : -1;
+  }
+
+  private int action27(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 138;
+    }
+    return TABLE_PACKED_35.charAt((c + 210) & 0x3ff) > 237 ? 251 : -1;
+  }
+
+  private int action28(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_49.charAt((c + 16) & 0x3ff) > 213 ? 228 : -1;
+  }
+
+  private int action29(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 114;
+    }
+    return TABLE_PACKED_58.charAt((c + 99) & 0x3ff) > 103 ? 109 : -1;
+  }
+
+  private int action30(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 196;
+    }
+    return TABLE_PACKED_47.charAt((c + 143) & 0x3ff) > 170 ? 4 : -1;
+  }
+
+  private int action31(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 290;
+    }
+    return TABLE_PACKED_37.charAt((c + 219) & 0x3ff) > 149 ? 187 : -1;
+  }
+
+  private int action32(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 123;
+    }
+    return TABLE_PACKED_33.charAt((c + 227) & 0x3ff) > 34 ? 98 : -1;
+  }
+
+  private int action33(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 288;
+    }
+    return TABLE_PACKED_48.charAt((c + 26) & 0x3ff) > 109 ? 25 : -1;
+  }
+
+  private int action34(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 192;
+    }
+    return TABLE_PACKED_3.charAt((c + 49) & 0x3ff) > 218 ? 275 : -1;
+  }
+
+  private int action35(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 112;
+    }
+    return TABLE_PACKED_19.charAt((c + 186) & 0x3ff) > 51 ? 62 : -1;
+  }
+
+  private int action36(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 67;
+    }
+    return TABLE_PACKED_17.charAt((c + 12) & 0x3ff) > 108 ? 116 : -1;
+  }
+
+  private int action37(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 109;
+    }
+    return TABLE_PACKED_44.charAt((c + 137) & 0x3ff) > 210 ? 11 : -1;
+  }
+
+  private int action38(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 66;
+    }
+    return TABLE_PACKED_56.charAt((c + 82) & 0x3ff) > 210 ? 177 : -1;
+  }
+
+  private int action39(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 247;
+    }
+    return TABLE_PACKED_51.charAt((c + 99) & 0x3ff) > 99 ? 87 : -1;
+  }
+
+  private int action40(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 37;
+    }
+    return TABLE_PACKED_45.charAt((c + 110) & 0x3ff) > 72 ? 37 : -1;
+  }
+
+  private int action41(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 115;
+    }
+    return TABLE_PACKED_27.charAt((c + 60) & 0x3ff) > 222 ? 156 : -1;
+  }
+
+  private int action42(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 234;
+    }
+    return TABLE_PACKED_21.charAt((c + 58) & 0x3ff) > 128 ? 191 : -1;
+  }
+
+  private int action43(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 187;
+    }
+    return TABLE_PACKED_59.charAt((c + 96) & 0x3ff) > 93 ? 263 : -1;
+  }
+
+  private int action44(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 124;
+    }
+    return TABLE_PACKED_18.charAt((c + 212) & 0x3ff) > 95 ? 232 : -1;
+  }
+
+  private int action45(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 0;
+    }
+    return TABLE_PACKED_6.charAt((c + 124) & 0x3ff) > 46 ? 194 : -1;
+  }
+
+  private int action46(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 295;
+    }
+    return TABLE_PACKED_33.charAt((c + 4) & 0x3ff) > 174 ? 283 : -1;
+  }
+
+  private int action47(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 82;
+    }
+    return TABLE_PACKED_0.charAt((c + 122) & 0x3ff) > 226 ? 144 : -1;
+  }
+
+  private int action48(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 30;
+    }
+    return TABLE_PACKED_33.charAt((c + 147) & 0x3ff) > 12 ? 274 : -1;
+  }
+
+  private int action49(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 148;
+    }
+    return TABLE_PACKED_4.charAt((c + 113) & 0x3ff) > 154 ? 100 : -1;
+  }
+
+  private int action50(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 103;
+    }
+    return TABLE_PACKED_16.charAt((c + 2) & 0x3ff) > 157 ? 10 : -1;
+  }
+
+  private int action51(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 55;
+    }
+    return TABLE_PACKED_18.charAt((c + 114) & 0x3ff) > 113 ? 97 : -1;
+  }
+
+  private int action52(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 261;
+    }
+    return TABLE_PACKED_46.charAt((c + 229) & 0x3ff) > 47 ? 275 : -1;
+  }
+
+  private int action53(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 189;
+    }
+    return TABLE_PACKED_19.charAt((c + 99) & 0x3ff) > 203 ? 81 : -1;
+  }
+
+  private int action54(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 115;
+    }
+    return TABLE_PACKED_15.charAt((c + 49) & 0x3ff) > 78 ? 299 : -1;
+  }
+
+  private int action55(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 82;
+    }
+    return TABLE_PACKED_48.charAt((c + 34) & 0x3ff) > 150 ? 230 : -1;
+  }
+
+  private int action56(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 97;
+    }
+    return TABLE_PACKED_27.charAt((c + 143) & 0x3ff) > 223 ? 123 : -1;
+  }
+
+  private int action57(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 289;
+    }
+    return TABLE_PACKED_6.charAt((c + 180) & 0x3ff) > 231 ? 123 : -1;
+  }
+
+  private int action58(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 54;
+    }
+    return TABLE_PACKED_16.charAt((c + 214) & 0x3ff) > 77 ? 43 : -1;
+  }
+
+  private int action59(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 81;
+    }
+    return TABLE_PACKED_59.charAt((c + 50) & 0x3ff) > 239 ? 263 : -1;
+  }
+
+  private int action60(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 184;
+    }
+    return TABLE_PACKED_42.charAt((c + 35) & 0x3ff) > 12 ? 124 : -1;
+  }
+
+  private int action61(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 79;
+    }
+    return TABLE_PACKED_22.charAt((c + 26) & 0x3ff) > 99 ? 217 : -1;
+  }
+
+  private int action62(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 35;
+    }
+    return TABLE_PACKED_15.charAt((c + 183) & 0x3ff) > 35 ? 224 : -1;
+  }
+
+  private int action63(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 82;
+    }
+    return TABLE_PACKED_31.charAt((c + 148) & 0x3ff) > 181 ? 166 : -1;
+  }
+
+  private int action64(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 292;
+    }
+    return TABLE_PACKED_4.charAt((c + 20) & 0x3ff) > 254 ? 192 : -1;
+  }
+
+  private int action65(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 129;
+    }
+    return TABLE_PACKED_17.charAt((c + 105) & 0x3ff) > 226 ? 217 : -1;
+  }
+
+  private int action66(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 19;
+    }
+    return TABLE_PACKED_45.charAt((c + 69) & 0x3ff) > 38 ? 25 : -1;
+  }
+
+  private int action67(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 81;
+    }
+    return TABLE_PACKED_38.charAt((c + 80) & 0x3ff) > 90 ? 103 : -1;
+  }
+
+  private int action68(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 37;
+    }
+    return TABLE_PACKED_16.charAt((c + 25) & 0x3ff) > 135 ? 155 : -1;
+  }
+
+  private int action69(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 22;
+    }
+    return TABLE_PACKED_15.charAt((c + 124) & 0x3ff) > 254 ? 34 : -1;
+  }
+
+  private int action70(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 0;
+    }
+    return TABLE_PACKED_11.charAt((c + 186) & 0x3ff) > 15 ? 299 : -1;
+  }
+
+  private int action71(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 4;
+    }
+    return TABLE_PACKED_52.charAt((c + 234) & 0x3ff) > 226 ? 18 : -1;
+  }
+
+  private int action72(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 272;
+    }
+    return TABLE_PACKED_38.charAt((c + 52) & 0x3ff) > 53 ? 250 : -1;
+  }
+
+  private int action73(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 186;
+    }
+    return TABLE_PACKED_33.charAt((c + 83) & 0x3ff) > 70 ? 11 : -1;
+  }
+
+  private int action74(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 136;
+    }
+    return TABLE_PACKED_46.charAt((c + 153) & 0x3ff) > 227 ? 2 : -1;
+  }
+
+  private int action75(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 254;
+    }
+    return TABLE_PACKED_24.charAt((c + 11) & 0x3ff) > 48 ? 114 : -1;
+  }
+
+  private int action76(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 260;
+    }
+    return TABLE_PACKED_3.charAt((c + 26) & 0x3ff) > 117 ? 253 : -1;
+  }
+
+  private int action77(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 152;
+    }
+    return TABLE_PACKED_26.charAt((c + 131) & 0x3ff) > 119 ? 192 : -1;
+  }
+
+  private int action78(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 115;
+    }
+    return TABLE_PACKED_8.charAt((c + 81) & 0x3ff) > 83 ? 220 : -1;
+  }
+
+  private int action79(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 25;
+    }
+    return TABLE_PACKED_55.charAt((c + 150) & 0x3ff) > 168 ? 103 : -1;
+  }
+
+  private int action80(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 78;
+    }
+    return TABLE_PACKED_56.charAt((c + 152) & 0x3ff) > 101 ? 214 : -1;
+  }
+
+  private int action81(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 204;
+    }
+    return TABLE_PACKED_58.charAt((c + 73) & 0x3ff) > 14 ? 187 : -1;
+  }
+
+  private int action82(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 57;
+    }
+    return TABLE_PACKED_22.charAt((c + 104) & 0x3ff) > 152 ? 175 : -1;
+  }
+
+  private int action83(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 221;
+    }
+    return TABLE_PACKED_40.charAt((c + 190) & 0x3ff) > 114 ? 21 : -1;
+  }
+
+  private int action84(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 68;
+    }
+    return TABLE_PACKED_18.charAt((c + 125) & 0x3ff) > 113 ? 258 : -1;
+  }
+
+  private int action85(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 163;
+    }
+    return TABLE_PACKED_39.charAt((c + 135) & 0x3ff) > 170 ? 275 : -1;
+  }
+
+  private int action86(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 230;
+    }
+    return TABLE_PACKED_3.charAt((c + 4) & 0x3ff) > 21 ? 208 : -1;
+  }
+
+  private int action87(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 33) {
+      this.text.setLength(0);
+      return 6;
+    }
+    return TABLE_PACKED_50.charAt((c + 101) & 0x3ff) > 5 ? 2 : -1;
+  }
+
+  private int action88(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 259;
+    }
+    return TABLE_PACKED_11.charAt((c + 129) & 0x3ff) > 124 ? 116 : -1;
+  }
+
+  private int action89(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 99;
+    }
+    return TABLE_PACKED_4.charAt((c + 181) & 0x3ff) > 27 ? 169 : -1;
+  }
+
+  private int action90(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 226;
+    }
+    return TABLE_PACKED_15.charAt((c + 250) & 0x3ff) > 252 ? 53 : -1;
+  }
+
+  private int action91(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 28;
+    }
+    return TABLE_PACKED_12.charAt((c + 96) & 0x3ff) > 32 ? 11 : -1;
+  }
+
+  private int action92(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 9;
+    }
+    return TABLE_PACKED_44.charAt((c + 184) & 0x3ff) > 58 ? 220 : -1;
+  }
+
+  private int action93(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 113;
+    }
+    return TABLE_PACKED_50.charAt((c + 193) & 0x3ff) > 16 ? 278 : -1;
+  }
+
+  private int action94(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 227;
+    }
+    return TABLE_PACKED_53.charAt((c + 21) & 0x3ff) > 147 ? 117 : -1;
+  }
+
+  private int action95(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 118;
+    }
+    return TABLE_PACKED_18.charAt((c + 210) & 0x3ff) > 168 ? 136 : -1;
+  }
+
+  private int action96(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 165;
+    }
+    return TABLE_PACKED_21.charAt((c + 136) & 0x3ff) > 108 ? 218 : -1;
+  }
+
+  private int action97(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 131;
+    }
+    return TABLE_PACKED_14.charAt((c + 153) & 0x3ff) > 35 ? 71 : -1;
+  }
+
+  private int action98(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 134;
+    }
+    return TABLE_PACKED_55.charAt((c + 12) & 0x3ff) > 137 ? 9 : -1;
+  }
+
+  private int action99(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 240;
+    }
+    return TABLE_PACKED_19.charAt((c + 60) & 0x3ff) > 184 ? 164 : -1;
+  }
+
+  private int action100(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 224;
+    }
+    return TABLE_PACKED_11.charAt((c + 218) & 0x3ff) > 166 ? 90 : -1;
+  }
+
+  private int action101(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 156;
+    }
+    return TABLE_PACKED_10.charAt((c + 152) & 0x3ff) > 124 ? 281 : -1;
+  }
+
+  private int action102(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 61;
+    }
+    return TABLE_PACKED_26.charAt((c + 228) & 0x3ff) > 132 ? 117 : -1;
+  }
+
+  private int action103(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 222;
+    }
+    return TABLE_PACKED_22.charAt((c + 66) & 0x3ff) > 143 ? 76 : -1;
+  }
+
+  private int action104(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 286;
+    }
+    return TABLE_PACKED_58.charAt((c + 117) & 0x3ff) > 85 ? 259 : -1;
+  }
+
+  private int action105(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 33) {
+      this.text.setLength(0);
+      return 193;
+    }
+    return TABLE_PACKED_5.charAt((c + 166) & 0x3ff) > 115 ? 200 : -1;
+  }
+
+  private int action106(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 137;
+    }
+    return TABLE_PACKED_51.charAt((c + 31) & 0x3ff) > 7 ? 4 : -1;
+  }
+
+  private int action107(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 222;
+    }
+    return TABLE_PACKED_21.charAt((c + 31) & 0x3ff) > 169 ? 226 : -1;
+  }
+
+  private int action108(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 97;
+    }
+    return TABLE_PACKED_59.charAt((c + 38) & 0x3ff) > 192 ? 46 : -1;
+  }
+
+  private int action109(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 232;
+    }
+    return TABLE_PACKED_44.charAt((c + 4) & 0x3ff) > 20 ? 131 : -1;
+  }
+
+  private int action110(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 260;
+    }
+    return TABLE_PACKED_29.charAt((c + 137) & 0x3ff) > 206 ? 15 : -1;
+  }
+
+  private int action111(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 60) {
+      this.text.setLength(0);
+      return 10;
+    }
+    return TABLE_PACKED_35.charAt((c + 83) & 0x3ff) > 33 ? 234 : -1;
+  }
+
+  private int action112(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 105;
+    }
+    return TABLE_PACKED_14.charAt((c + 39) & 0x3ff) > 200 ? 57 : -1;
+  }
+
+  private int action113(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 109;
+    }
+    return TABLE_PACKED_14.charAt((c + 254) & 0x3ff) > 50 ? 88 : -1;
+  }
+
+  private int action114(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 189;
+    }
+    return TABLE_PACKED_7.charAt((c + 161) & 0x3ff) > 57 ? 282 : -1;
+  }
+
+  private int action115(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 76;
+    }
+    return TABLE_PACKED_38.charAt((c + 99) & 0x3ff) > 49 ? 188 : -1;
+  }
+
+  private int action116(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 63;
+    }
+    return TABLE_PACKED_53.charAt((c + 75) & 0x3ff) > 184 ? 208 : -1;
+  }
+
+  private int action117(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 28;
+    }
+    return TABLE_PACKED_5.charAt((c + 83) & 0x3ff) > 224 ? 228 : -1;
+  }
+
+  private int action118(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 236;
+    }
+    return TABLE_PACKED_42.charAt((c + 178) & 0x3ff) > 206 ? 222 : -1;
+  }
+
+  private int action119(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 236;
+    }
+    return TABLE_PACKED_18.charAt((c + 145) & 0x3ff) > 23 ? 15 : -1;
+  }
+
+  private int action120(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 11;
+    }
+    return TABLE_PACKED_4.charAt((c + 74) & 0x3ff) > 102 ? 176 : -1;
+  }
+
+  private int action121(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 133;
+    }
+    return TABLE_PACKED_53.charAt((c + 29) & 0x3ff) > 233 ? 114 : -1;
+  }
+
+  private int action122(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 195;
+    }
+    return TABLE_PACKED_23.charAt((c + 174) & 0x3ff) > 117 ? 284 : -1;
+  }
+
+  private int action123(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 236;
+    }
+    return TABLE_PACKED_50.charAt((c + 106) & 0x3ff) > 94 ? 141 : -1;
+  }
+
+  private int action124(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 241;
+    }
+    return TABLE_PACKED_41.charAt((c + 43) & 0x3ff) > 234 ? 181 : -1;
+  }
+
+  private int action125(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 168;
+    }
+    return TABLE_PACKED_51.charAt((c + 23) & 0x3ff) > 142 ? 219 : -1;
+  }
+
+  private int action126(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 24;
+    }
+    return TABLE_PACKED_55.charAt((c + 210) & 0x3ff) > 231 ? 36 : -1;
+  }
+
+  private int action127(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 174;
+    }
+    return TABLE_PACKED_13.charAt((c + 234) & 0x3ff) > 54 ? 83 : -1;
+  }
+
+  private int action128(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 263;
+    }
+    return TABLE_PACKED_50.charAt((c + 156) & 0x3ff) > 99 ? 233 : -1;
+  }
+
+  private int action129(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 263;
+    }
+    return TABLE_PACKED_2.charAt((c + 236) & 0x3ff) > 140 ? 43 : -1;
+  }
+
+  private int action130(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 167;
+    }
+    return TABLE_PACKED_40.charAt((c + 7) & 0x3ff) > 195 ? 284 : -1;
+  }
+
+  private int action131(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 205;
+    }
+    return TABLE_PACKED_22.charAt((c + 208) & 0x3ff) > 149 ? 114 : -1;
+  }
+
+  private int action132(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 117;
+    }
+    return TABLE_PACKED_30.charAt((c + 171) & 0x3ff) > 145 ? 112 : -1;
+  }
+
+  private int action133(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 6;
+    }
+    return TABLE_PACKED_43.charAt((c + 130) & 0x3ff) > 237 ? 57 : -1;
+  }
+
+  private int action134(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 214;
+    }
+    return TABLE_PACKED_12.charAt((c + 10) & 0x3ff) > 102 ? 23 : -1;
+  }
+
+  private int action135(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 252;
+    }
+    return TABLE_PACKED_4.charAt((c + 200) & 0x3ff) > 13 ? 106 : -1;
+  }
+
+  private int action136(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 152;
+    }
+    return TABLE_PACKED_57.charAt((c + 70) & 0x3ff) > 17 ? 6 : -1;
+  }
+
+  private int action137(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 15;
+    }
+    return TABLE_PACKED_58.charAt((c + 160) & 0x3ff) > 173 ? 141 : -1;
+  }
+
+  private int action138(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 107;
+    }
+    return TABLE_PACKED_9.charAt((c + 28) & 0x3ff) > 70 ? 74 : -1;
+  }
+
+  private int action139(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 176;
+    }
+    return TABLE_PACKED_13.charAt((c + 76) & 0x3ff) > 53 ? 68 : -1;
+  }
+
+  private int action140(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 13;
+    }
+    return TABLE_PACKED_15.charAt((c + 233) & 0x3ff) > 197 ? 98 : -1;
+  }
+
+  private int action141(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 132;
+    }
+    return TABLE_PACKED_38.charAt((c + 77) & 0x3ff) > 38 ? 163 : -1;
+  }
+
+  private int action142(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 57;
+    }
+    return TABLE_PACKED_35.charAt((c + 64) & 0x3ff) > 70 ? 268 : -1;
+  }
+
+  private int action143(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 224;
+    }
+    return TABLE_PACKED_53.charAt((c + 181) & 0x3ff) > 127 ? 211 : -1;
+  }
+
+  private int action144(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 192;
+    }
+    return TABLE_PACKED_24.charAt((c + 197) & 0x3ff) > 217 ? 0 : -1;
+  }
+
+  private int action145(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 105;
+    }
+    return TABLE_PACKED_52.charAt((c + 114) & 0x3ff) > 139 ? 133 : -1;
+  }
+
+  private int action146(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 190;
+    }
+    return TABLE_PACKED_44.charAt((c + 56) & 0x3ff) > 167 ? 229 : -1;
+  }
+
+  private int action147(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 227;
+    }
+    return TABLE_PACKED_0.charAt((c + 129) & 0x3ff) > 193 ? 176 : -1;
+  }
+
+  private int action148(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 35) {
+      this.text.setLength(0);
+      return 286;
+    }
+    return TABLE_PACKED_10.charAt((c + 79) & 0x3ff) > 27 ? 61 : -1;
+  }
+
+  private int action149(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_33.charAt((c + 103) & 0x3ff) > 112 ? 177 : -1;
+  }
+
+  private int action150(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 60) {
+      this.text.setLength(0);
+      return 23;
+    }
+    return TABLE_PACKED_30.charAt((c + 166) & 0x3ff) > 244 ? 19 : -1;
+  }
+
+  private int action151(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 158;
+    }
+    return TABLE_PACKED_7.charAt((c + 205) & 0x3ff) > 126 ? 176 : -1;
+  }
+
+  private int action152(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 122;
+    }
+    return TABLE_PACKED_51.charAt((c + 233) & 0x3ff) > 70 ? 12 : -1;
+  }
+
+  private int action153(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 21) {
+      this.text.setLength(0);
+      return 205;
+    }
+    return TABLE_PACKED_39.charAt((c + 24) & 0x3ff) > 237 ? 147 : -1;
+  }
+
+  private int action154(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 19;
+    }
+    return TABLE_PACKED_10.charAt((c + 240) & 0x3ff) > 239 ? 182 : -1;
+  }
+
+  private int action155(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 174;
+    }
+    return TABLE_PACKED_56.charAt((c + 172) & 0x3ff) > 5 ? 16 : -1;
+  }
+
+  private int action156(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 29;
+    }
+    return TABLE_PACKED_53.charAt((c + 91) & 0x3ff) > 178 ? 171 : -1;
+  }
+
+  private int action157(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 225;
+    }
+    return TABLE_PACKED_17.charAt((c + 182) & 0x3ff) > 5 ? 117 : -1;
+  }
+
+  private int action158(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 241;
+    }
+    return TABLE_PACKED_6.charAt((c + 89) & 0x3ff) > 45 ? 113 : -1;
+  }
+
+  private int action159(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 129;
+    }
+    return TABLE_PACKED_28.charAt((c + 11) & 0x3ff) > 51 ? 251 : -1;
+  }
+
+  private int action160(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 59;
+    }
+    return TABLE_PACKED_11.charAt((c + 103) & 0x3ff) > 135 ? 126 : -1;
+  }
+
+  private int action161(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 24;
+    }
+    return TABLE_PACKED_16.charAt((c + 179) & 0x3ff) > 231 ? 185 : -1;
+  }
+
+  private int action162(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 291;
+    }
+    return TABLE_PACKED_18.charAt((c + 135) & 0x3ff) > 187 ? 45 : -1;
+  }
+
+  private int action163(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 257;
+    }
+    return TABLE_PACKED_58.charAt((c + 104) & 0x3ff) > 55 ? 83 : -1;
+  }
+
+  private int action164(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 148;
+    }
+    return TABLE_PACKED_39.charAt((c + 147) & 0x3ff) > 117 ? 258 : -1;
+  }
+
+  private int action165(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 231;
+    }
+    return TABLE_PACKED_0.charAt((c + 82) & 0x3ff) > 251 ? 259 : -1;
+  }
+
+  private int action166(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 175;
+    }
+    return TABLE_PACKED_35.charAt((c + 232) & 0x3ff) > 204 ? 243 : -1;
+  }
+
+  private int action167(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 21) {
+      this.text.setLength(0);
+      return 124;
+    }
+    return TABLE_PACKED_17.charAt((c + 199) & 0x3ff) > 207 ? 293 : -1;
+  }
+
+  private int action168(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 299;
+    }
+    return TABLE_PACKED_43.charAt((c + 171) & 0x3ff) > 192 ? 210 : -1;
+  }
+
+  private int action169(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 207;
+    }
+    return TABLE_PACKED_32.charAt((c + 247) & 0x3ff) > 201 ? 192 : -1;
+  }
+
+  private int action170(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 187;
+    }
+    return TABLE_PACKED_31.charAt((c + 55) & 0x3ff) > 48 ? 26 : -1;
+  }
+
+  private int action171(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 206;
+    }
+    return TABLE_PACKED_47.charAt((c + 90) & 0x3ff) > 36 ? 136 : -1;
+  }
+
+  private int action172(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 129;
+    }
+    return TABLE_PACKED_4.charAt((c + 251) & 0x3ff) > 98 ? 209 : -1;
+  }
+
+  private int action173(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 153;
+    }
+    return TABLE_PACKED_42.charAt((c + 215) & 0x3ff) > 59 ? 16 : -1;
+  }
+
+  private int action174(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 197;
+    }
+    return TABLE_PACKED_16.charAt((c + 246) & 0x3ff) > 178 ? 222 : -1;
+  }
+
+  private int action175(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 261;
+    }
+    return TABLE_PACKED_13.charAt((c + 203) & 0x3ff) > 132 ? 151 : -1;
+  }
+
+  private int action176(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 20;
+    }
+    return TABLE_PACKED_8.charAt((c + 221) & 0x3ff) > 15 ? 96 : -1;
+  }
+
+  private int action177(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 144;
+    }
+    return TABLE_PACKED_12.charAt((c + 40) & 0x3ff) > 103 ? 182 : -1;
+  }
+
+  private int action178(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 82;
+    }
+    return TABLE_PACKED_33.charAt((c + 118) & 0x3ff) > 227 ? 0 : -1;
+  }
+
+  private int action179(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 10;
+    }
+    return TABLE_PACKED_10.charAt((c + 151) & 0x3ff) > 178 ? 69 : -1;
+  }
+
+  private int action180(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 242;
+    }
+    return TABLE_PACKED_58.charAt((c + 242) & 0x3ff) > 78 ? 297 : -1;
+  }
+
+  private int action181(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 145;
+    }
+    return TABLE_PACKED_28.charAt((c + 52) & 0x3ff) > 150 ? 152 : -1;
+  }
+
+  private int action182(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 112;
+    }
+    return TABLE_PACKED_35.charAt((c + 225) & 0x3ff) > 249 ? 179 : -1;
+  }
+
+  private int action183(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 227;
+    }
+    return TABLE_PACKED_18.charAt((c + 216) & 0x3ff) > 204 ? 175 : -1;
+  }
+
+  private int action184(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 149;
+    }
+    return TABLE_PACKED_1.charAt((c + 57) & 0x3ff) > 173 ? 140 : -1;
+  }
+
+  private int action185(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 281;
+    }
+    return TABLE_PACKED_16.charAt((c + 3) & 0x3ff) > 238 ? 208 : -1;
+  }
+
+  private int action186(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 184;
+    }
+    return TABLE_PACKED_41.charAt((c + 133) & 0x3ff) > 25 ? 180 : -1;
+  }
+
+  private int action187(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 225;
+    }
+    return TABLE_PACKED_16.charAt((c + 53) & 0x3ff) > 43 ? 264 : -1;
+  }
+
+  private int action188(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 220;
+    }
+    return TABLE_PACKED_23.charAt((c + 109) & 0x3ff) > 19 ? 79 : -1;
+  }
+
+  private int action189(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_13.charAt((c + 76) & 0x3ff) > 184 ? 222 : -1;
+  }
+
+  private int action190(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 103;
+    }
+    return TABLE_PACKED_32.charAt((c + 157) & 0x3ff) > 62 ? 71 : -1;
+  }
+
+  private int action191(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 172;
+    }
+    return TABLE_PACKED_47.charAt((c + 179) & 0x3ff) > 55 ? 260 : -1;
+  }
+
+  private int action192(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 199;
+    }
+    return TABLE_PACKED_52.charAt((c + 10) & 0x3ff) > 152 ? 219 : -1;
+  }
+
+  private int action193(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 163;
+    }
+    return TABLE_PACKED_17.charAt((c + 143) & 0x3ff) > 208 ? 33 : -1;
+  }
+
+  private int action194(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 175;
+    }
+    return TABLE_PACKED_17.charAt((c + 101) & 0x3ff) > 101 ? 102 : -1;
+  }
+
+  private int action195(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 214;
+    }
+    return TABLE_PACKED_50.charAt((c + 34) & 0x3ff) > 248 ? 189 : -1;
+  }
+
+  private int action196(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 49;
+    }
+    return TABLE_PACKED_45.charAt((c + 148) & 0x3ff) > 134 ? 265 : -1;
+  }
+
+  private int action197(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 166;
+    }
+    return TABLE_PACKED_34.charAt((c + 68) & 0x3ff) > 21 ? 247 : -1;
+  }
+
+  private int action198(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 111;
+    }
+    return TABLE_PACKED_26.charAt((c + 178) & 0x3ff) > 140 ? 295 : -1;
+  }
+
+  private int action199(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 176;
+    }
+    return TABLE_PACKED_37.charAt((c + 143) & 0x3ff) > 127 ? 226 : -1;
+  }
+
+  private int action200(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 278;
+    }
+    return TABLE_PACKED_50.charAt((c + 80) & 0x3ff) > 183 ? 222 : -1;
+  }
+
+  private int action201(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 192;
+    }
+    return TABLE_PACKED_35.charAt((c + 91) & 0x3ff) > 110 ? 226 : -1;
+  }
+
+  private int action202(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 15;
+    }
+    return TABLE_PACKED_9.charAt((c + 108) & 0x3ff) > 97 ? 73 : -1;
+  }
+
+  private int action203(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 71;
+    }
+    return TABLE_PACKED_39.charAt((c + 189) & 0x3ff) > 29 ? 86 : -1;
+  }
+
+  private int action204(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 178;
+    }
+    return TABLE_PACKED_40.charAt((c + 193) & 0x3ff) > 20 ? 149 : -1;
+  }
+
+  private int action205(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 181;
+    }
+    return TABLE_PACKED_44.charAt((c + 225) & 0x3ff) > 9 ? 142 : -1;
+  }
+
+  private int action206(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 271;
+    }
+    return TABLE_PACKED_41.charAt((c + 78) & 0x3ff) > 174 ? 29 : -1;
+  }
+
+  private int action207(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 254;
+    }
+    return TABLE_PACKED_51.charAt((c + 171) & 0x3ff) > 77 ? 79 : -1;
+  }
+
+  private int action208(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 70;
+    }
+    return TABLE_PACKED_31.charAt((c + 40) & 0x3ff) > 213 ? 212 : -1;
+  }
+
+  private int action209(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 124;
+    }
+    return TABLE_PACKED_55.charAt((c + 254) & 0x3ff) > 114 ? 283 : -1;
+  }
+
+  private int action210(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 273;
+    }
+    return TABLE_PACKED_1.charAt((c + 43) & 0x3ff) > 27 ? 114 : -1;
+  }
+
+  private int action211(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 220;
+    }
+    return TABLE_PACKED_31.charAt((c + 93) & 0x3ff) > 208 ? 82 : -1;
+  }
+
+  private int action212(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 284;
+    }
+    return TABLE_PACKED_45.charAt((c + 153) & 0x3ff) > 99 ? 16 : -1;
+  }
+
+  private int action213(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 201;
+    }
+    return TABLE_PACKED_8.charAt((c + 76) & 0x3ff) > 195 ? 12 : -1;
+  }
+
+  private int action214(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 276;
+    }
+    return TABLE_PACKED_4.charAt((c + 125) & 0x3ff) > 50 ? 247 : -1;
+  }
+
+  private int action215(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 103;
+    }
+    return TABLE_PACKED_31.charAt((c + 16) & 0x3ff) > 198 ? 44 : -1;
+  }
+
+  private int action216(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 225;
+    }
+    return TABLE_PACKED_51.charAt((c + 164) & 0x3ff) > 178 ? 128 : -1;
+  }
+
+  private int action217(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 62;
+    }
+    return TABLE_PACKED_52.charAt((c + 155) & 0x3ff) > 26 ? 298 : -1;
+  }
+
+  private int action218(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 94;
+    }
+    return TABLE_PACKED_15.charAt((c + 168) & 0x3ff) > 122 ? 269 : -1;
+  }
+
+  private int action219(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 300;
+    }
+    return TABLE_PACKED_18.charAt((c + 158) & 0x3ff) > 226 ? 43 : -1;
+  }
+
+  private int action220(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 177;
+    }
+    return TABLE_PACKED_59.charAt((c + 91) & 0x3ff) > 26 ? 117 : -1;
+  }
+
+  private int action221(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 109;
+    }
+    return TABLE_PACKED_11.charAt((c + 37) & 0x3ff) > 116 ? 266 : -1;
+  }
+
+  private int action222(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 245;
+    }
+    return TABLE_PACKED_7.charAt((c + 246) & 0x3ff) > 201 ? 180 : -1;
+  }
+
+  private int action223(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 66;
+    }
+    return TABLE_PACKED_47.charAt((c + 43) & 0x3ff) > 127 ? 110 : -1;
+  }
+
+  private int action224(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 163;
+    }
+    return TABLE_PACKED_1.charAt((c + 154) & 0x3ff) > 67 ? 33 : -1;
+  }
+
+  private int action225(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 12;
+    }
+    return TABLE_PACKED_47.charAt((c + 32) & 0x3ff) > 44 ? 248 : -1;
+  }
+
+  private int action226(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 246;
+    }
+    return TABLE_PACKED_53.charAt((c + 169) & 0x3ff) > 186 ? 269 : -1;
+  }
+
+  private int action227(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 152;
+    }
+    return TABLE_PACKED_0.charAt((c + 231) & 0x3ff) > 38 ? 6 : -1;
+  }
+
+  private int action228(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 8;
+    }
+    return TABLE_PACKED_6.charAt((c + 154) & 0x3ff) > 140 ? 135 : -1;
+  }
+
+  private int action229(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_28.charAt((c + 75) & 0x3ff) > 24 ? 164 : -1;
+  }
+
+  private int action230(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 201;
+    }
+    return TABLE_PACKED_50.charAt((c + 33) & 0x3ff) > 196 ? 150 : -1;
+  }
+
+  private int action231(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 88;
+    }
+    return TABLE_PACKED_45.charAt((c + 68) & 0x3ff) > 14 ? 98 : -1;
+  }
+
+  private int action232(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_34.charAt((c + 213) & 0x3ff) > 25 ? 249 : -1;
+  }
+
+  private int action233(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 282;
+    }
+    return TABLE_PACKED_17.charAt((c + 254) & 0x3ff) > 235 ? 176 : -1;
+  }
+
+  private int action234(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 297;
+    }
+    return TABLE_PACKED_46.charAt((c + 118) & 0x3ff) > 71 ? 78 : -1;
+  }
+
+  private int action235(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_46.charAt((c + 96) & 0x3ff) > 219 ? 92 : -1;
+  }
+
+  private int action236(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 23;
+    }
+    return TABLE_PACKED_5.charAt((c + 60) & 0x3ff) > 148 ? 151 : -1;
+  }
+
+  private int action237(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 60;
+    }
+    return TABLE_PACKED_5.charAt((c + 202) & 0x3ff) > 218 ? 220 : -1;
+  }
+
+  private int action238(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 271;
+    }
+    return TABLE_PACKED_31.charAt((c + 135) & 0x3ff) > 166 ? 13 : -1;
+  }
+
+  private int action239(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 300;
+    }
+    return TABLE_PACKED_30.charAt((c + 148) & 0x3ff) > 245 ? 236 : -1;
+  }
+
+  private int action240(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 74;
+    }
+    return TABLE_PACKED_34.charAt((c + 15) & 0x3ff) > 109 ? 172 : -1;
+  }
+
+  private int action241(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 23;
+    }
+    return TABLE_PACKED_4.charAt((c + 11) & 0x3ff) > 188 ? 14 : -1;
+  }
+
+  private int action242(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 194;
+    }
+    return TABLE_PACKED_8.charAt((c + 85) & 0x3ff) > 202 ? 128 : -1;
+  }
+
+  private int action243(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 66;
+    }
+    return TABLE_PACKED_54.charAt((c + 82) & 0x3ff) > 187 ? 135 : -1;
+  }
+
+  private int action244(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 141;
+    }
+    return TABLE_PACKED_29.charAt((c + 158) & 0x3ff) > 67 ? 48 : -1;
+  }
+
+  private int action245(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 298;
+    }
+    return TABLE_PACKED_6.charAt((c + 220) & 0x3ff) > 76 ? 282 : -1;
+  }
+
+  private int action246(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 112;
+    }
+    return TABLE_PACKED_13.charAt((c + 20) & 0x3ff) > 168 ? 187 : -1;
+  }
+
+  private int action247(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_45.charAt((c + 8) & 0x3ff) > 115 ? 68 : -1;
+  }
+
+  private int action248(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 119;
+    }
+    return TABLE_PACKED_48.charAt((c + 93) & 0x3ff) > 241 ? 279 : -1;
+  }
+
+  private int action249(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 150;
+    }
+    return TABLE_PACKED_19.charAt((c + 139) & 0x3ff) > 109 ? 87 : -1;
+  }
+
+  private int action250(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 8;
+    }
+    return TABLE_PACKED_37.charAt((c + 35) & 0x3ff) > 182 ? 170 : -1;
+  }
+
+  private int action251(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 20;
+    }
+    return TABLE_PACKED_19.charAt((c + 11) & 0x3ff) > 226 ? 232 : -1;
+  }
+
+  private int action252(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 61;
+    }
+    return TABLE_PACKED_5.charAt((c + 126) & 0x3ff) > 177 ? 35 : -1;
+  }
+
+  private int action253(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 35) {
+      this.text.setLength(0);
+      return 216;
+    }
+    return TABLE_PACKED_49.charAt((c + 58) & 0x3ff) > 195 ? 101 : -1;
+  }
+
+  private int action254(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 280;
+    }
+    return TABLE_PACKED_57.charAt((c + 9) & 0x3ff) > 31 ? 242 : -1;
+  }
+
+  private int action255(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 45;
+    }
+    return TABLE_PACKED_48.charAt((c + 143) & 0x3ff) > 107 ? 242 : -1;
+  }
+
+  private int action256(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 267;
+    }
+    return TABLE_PACKED_1.charAt((c + 100) & 0x3ff) > 16 ? 173 : -1;
+  }
+
+  private int action257(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 289;
+    }
+    return TABLE_PACKED_5.charAt((c + 90) & 0x3ff) > 141 ? 71 : -1;
+  }
+
+  private int action258(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 182;
+    }
+    return TABLE_PACKED_42.charAt((c + 28) & 0x3ff) > 24 ? 141 : -1;
+  }
+
+  private int action259(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 196;
+    }
+    return TABLE_PACKED_28.charAt((c + 108) & 0x3ff) > 109 ? 176 : -1;
+  }
+
+  private int action260(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 109;
+    }
+    return TABLE_PACKED_16.charAt((c + 107) & 0x3ff) > 86 ? 189 : -1;
+  }
+
+  private int action261(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_29.charAt((c + 169) & 0x3ff) > 106 ? 4 : -1;
+  }
+
+  private int action262(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 58;
+    }
+    return TABLE_PACKED_23.charAt((c + 79) & 0x3ff) > 168 ? 156 : -1;
+  }
+
+  private int action263(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 159;
+    }
+    return TABLE_PACKED_19.charAt((c + 207) & 0x3ff) > 47 ? 156 : -1;
+  }
+
+  private int action264(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_41.charAt((c + 19) & 0x3ff) > 190 ? 71 : -1;
+  }
+
+  private int action265(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 107;
+    }
+    return TABLE_PACKED_31.charAt((c + 188) & 0x3ff) > 203 ? 149 : -1;
+  }
+
+  private int action266(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 37;
+    }
+    return TABLE_PACKED_1.charAt((c + 177) & 0x3ff) > 192 ? 60 : -1;
+  }
+
+  private int action267(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 21) {
+      this.text.setLength(0);
+      return 210;
+    }
+    return TABLE_PACKED_16.charAt((c + 177) & 0x3ff) > 126 ? 210 : -1;
+  }
+
+  private int action268(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 204;
+    }
+    return TABLE_PACKED_36.charAt((c + 31) & 0x3ff) > 103 ? 16 : -1;
+  }
+
+  private int action269(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 166;
+    }
+    return TABLE_PACKED_36.charAt((c + 82) & 0x3ff) > 241 ? 50 : -1;
+  }
+
+  private int action270(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 109;
+    }
+    return TABLE_PACKED_55.charAt((c + 181) & 0x3ff) > 228 ? 109 : -1;
+  }
+
+  private int action271(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 288;
+    }
+    return TABLE_PACKED_49.charAt((c + 8) & 0x3ff) > 27 ? 34 : -1;
+  }
+
+  private int action272(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 106;
+    }
+    return TABLE_PACKED_10.charAt((c + 162) & 0x3ff) > 155 ? 103 : -1;
+  }
+
+  private int action273(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 254;
+    }
+    return TABLE_PACKED_31.charAt((c + 80) & 0x3ff) > 228 ? 222 : -1;
+  }
+
+  private int action274(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_35.charAt((c + 128) & 0x3ff) > 16 ? 124 : -1;
+  }
+
+  private int action275(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 77;
+    }
+    return TABLE_PACKED_20.charAt((c + 35) & 0x3ff) > 218 ? 104 : -1;
+  }
+
+  private int action276(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 90;
+    }
+    return TABLE_PACKED_49.charAt((c + 110) & 0x3ff) > 89 ? 100 : -1;
+  }
+
+  private int action277(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 263;
+    }
+    return TABLE_PACKED_30.charAt((c + 48) & 0x3ff) > 39 ? 150 : -1;
+  }
+
+  private int action278(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 65;
+    }
+    return TABLE_PACKED_57.charAt((c + 19) & 0x3ff) > 7 ? 143 : -1;
+  }
+
+  private int action279(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 225;
+    }
+    return TABLE_PACKED_2.charAt((c + 74) & 0x3ff) > 10 ? 146 : -1;
+  }
+
+  private int action280(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 137;
+    }
+    return TABLE_PACKED_30.charAt((c + 54) & 0x3ff) > 253 ? 127 : -1;
+  }
+
+  private int action281(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 117;
+    }
+    return TABLE_PACKED_9.charAt((c + 182) & 0x3ff) > 24 ? 50 : -1;
+  }
+
+  private int action282(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 66;
+    }
+    return TABLE_PACKED_12.charAt((c + 159) & 0x3ff) > 4 ? 206 : -1;
+  }
+
+  private int action283(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 101;
+    }
+    return TABLE_PACKED_26.charAt((c + 238) & 0x3ff) > 248 ? 1 : -1;
+  }
+
+  private int action284(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_11.charAt((c + 9) & 0x3ff) > 155 ? 158 : -1;
+  }
+
+  private int action285(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 147;
+    }
+    return TABLE_PACKED_59.charAt((c + 123) & 0x3ff) > 156 ? 41 : -1;
+  }
+
+  private int action286(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 229;
+    }
+    return TABLE_PACKED_53.charAt((c + 60) & 0x3ff) > 139 ? 152 : -1;
+  }
+
+  private int action287(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 21;
+    }
+    return TABLE_PACKED_43.charAt((c + 196) & 0x3ff) > 215 ? 127 : -1;
+  }
+
+  private int action288(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 203;
+    }
+    return TABLE_PACKED_20.charAt((c + 97) & 0x3ff) > 9 ? 138 : -1;
+  }
+
+  private int action289(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 192;
+    }
+    return TABLE_PACKED_48.charAt((c + 91) & 0x3ff) > 9 ? 61 : -1;
+  }
+
+  private int action290(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 2;
+    }
+    return TABLE_PACKED_33.charAt((c + 35) & 0x3ff) > 53 ? 215 : -1;
+  }
+
+  private int action291(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_12.charAt((c + 168) & 0x3ff) > 74 ? 184 : -1;
+  }
+
+  private int action292(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 135;
+    }
+    return TABLE_PACKED_19.charAt((c + 62) & 0x3ff) > 233 ? 82 : -1;
+  }
+
+  private int action293(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 221;
+    }
+    return TABLE_PACKED_38.charAt((c + 21) & 0x3ff) > 81 ? 28 : -1;
+  }
+
+  private int action294(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 103;
+    }
+    return TABLE_PACKED_44.charAt((c + 110) & 0x3ff) > 250 ? 2 : -1;
+  }
+
+  private int action295(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 66;
+    }
+    return TABLE_PACKED_4.charAt((c + 7) & 0x3ff) > 153 ? 31 : -1;
+  }
+
+  private int action296(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 79;
+    }
+    return TABLE_PACKED_44.charAt((c + 253) & 0x3ff) > 85 ? 245 : -1;
+  }
+
+  private int action297(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 122;
+    }
+    return TABLE_PACKED_55.charAt((c + 245) & 0x3ff) > 13 ? 93 : -1;
+  }
+
+  private int action298(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 202;
+    }
+    return TABLE_PACKED_58.charAt((c + 194) & 0x3ff) > 24 ? 175 : -1;
+  }
+
+  private int action299(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 115;
+    }
+    return TABLE_PACKED_26.charAt((c + 75) & 0x3ff) > 149 ? 151 : -1;
+  }
+
+  private int action300(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 266;
+    }
+    return TABLE_PACKED_21.charAt((c + 203) & 0x3ff) > 38 ? 166 : -1;
+  }
+
+  private int action301(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 220;
+    }
+    return TABLE_PACKED_49.charAt((c + 225) & 0x3ff) > 244 ? 199 : -1;
+  }
+
+  private int action302(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 89;
+    }
+    return TABLE_PACKED_57.charAt((c + 199) & 0x3ff) > 131 ? 71 : -1;
+  }
+
+  private int action303(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 61;
+    }
+    return TABLE_PACKED_21.charAt((c + 93) & 0x3ff) > 86 ? 240 : -1;
+  }
+
+  private int action304(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 271;
+    }
+    return TABLE_PACKED_53.charAt((c + 72) & 0x3ff) > 210 ? 291 : -1;
+  }
+
+  private int action305(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 127;
+    }
+    return TABLE_PACKED_2.charAt((c + 18) & 0x3ff) > 104 ? 272 : -1;
+  }
+
+  private int action306(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 226;
+    }
+    return TABLE_PACKED_37.charAt((c + 168) & 0x3ff) > 28 ? 265 : -1;
+  }
+
+  private int action307(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 120;
+    }
+    return TABLE_PACKED_21.charAt((c + 48) & 0x3ff) > 20 ? 38 : -1;
+  }
+
+  private int action308(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 38;
+    }
+    return TABLE_PACKED_30.charAt((c + 119) & 0x3ff) > 111 ? 213 : -1;
+  }
+
+  private int action309(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_4.charAt((c + 132) & 0x3ff) > 143 ? 170 : -1;
+  }
+
+  private int action310(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 190;
+    }
+    return TABLE_PACKED_5.charAt((c + 71) & 0x3ff) > 10 ? 30 : -1;
+  }
+
+  private int action311(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 199;
+    }
+    return TABLE_PACKED_6.charAt((c + 172) & 0x3ff) > 112 ? 20 : -1;
+  }
+
+  private int action312(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 73;
+    }
+    return TABLE_PACKED_27.charAt((c + 158) & 0x3ff) > 185 ? 121 : -1;
+  }
+
+  private int action313(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 139;
+    }
+    return TABLE_PACKED_23.charAt((c + 50) & 0x3ff) > 27 ? 298 : -1;
+  }
+
+  private int action314(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 45;
+    }
+    return TABLE_PACKED_42.charAt((c + 150) & 0x3ff) > 231 ? 160 : -1;
+  }
+
+  private int action315(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 284;
+    }
+    return TABLE_PACKED_59.charAt((c + 106) & 0x3ff) > 97 ? 41 : -1;
+  }
+
+  private int action316(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 298;
+    }
+    return TABLE_PACKED_38.charAt((c + 6) & 0x3ff) > 144 ? 135 : -1;
+  }
+
+  private int action317(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 180;
+    }
+    return TABLE_PACKED_22.charAt((c + 208) & 0x3ff) > 26 ? 113 : -1;
+  }
+
+  private int action318(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 291;
+    }
+    return TABLE_PACKED_41.charAt((c + 113) & 0x3ff) > 117 ? 224 : -1;
+  }
+
+  private int action319(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 236;
+    }
+    return TABLE_PACKED_27.charAt((c + 198) & 0x3ff) > 238 ? 187 : -1;
+  }
+
+  private int action320(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 14;
+    }
+    return TABLE_PACKED_34.charAt((c + 124) & 0x3ff) > 208 ? 194 : -1;
+  }
+
+  private int action321(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 299;
+    }
+    return TABLE_PACKED_22.charAt((c + 53) & 0x3ff) > 178 ? 75 : -1;
+  }
+
+  private int action322(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 119;
+    }
+    return TABLE_PACKED_16.charAt((c + 251) & 0x3ff) > 255 ? 85 : -1;
+  }
+
+  private int action323(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 204;
+    }
+    return TABLE_PACKED_30.charAt((c + 154) & 0x3ff) > 83 ? 61 : -1;
+  }
+
+  private int action324(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 81;
+    }
+    return TABLE_PACKED_15.charAt((c + 55) & 0x3ff) > 212 ? 39 : -1;
+  }
+
+  private int action325(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 234;
+    }
+    return TABLE_PACKED_39.charAt((c + 247) & 0x3ff) > 247 ? 195 : -1;
+  }
+
+  private int action326(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 276;
+    }
+    return TABLE_PACKED_18.charAt((c + 117) & 0x3ff) > 190 ? 53 : -1;
+  }
+
+  private int action327(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 171;
+    }
+    return TABLE_PACKED_15.charAt((c + 30) & 0x3ff) > 128 ? 180 : -1;
+  }
+
+  private int action328(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 101;
+    }
+    return TABLE_PACKED_18.charAt((c + 174) & 0x3ff) > 9 ? 264 : -1;
+  }
+
+  private int action329(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 272;
+    }
+    return TABLE_PACKED_11.charAt((c + 144) & 0x3ff) > 102 ? 226 : -1;
+  }
+
+  private int action330(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 82;
+    }
+    return TABLE_PACKED_43.charAt((c + 59) & 0x3ff) > 84 ? 139 : -1;
+  }
+
+  private int action331(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 158;
+    }
+    return TABLE_PACKED_54.charAt((c + 82) & 0x3ff) > 52 ? 131 : -1;
+  }
+
+  private int action332(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 80;
+    }
+    return TABLE_PACKED_39.charAt((c + 239) & 0x3ff) > 139 ? 202 : -1;
+  }
+
+  private int action333(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 48;
+    }
+    return TABLE_PACKED_41.charAt((c + 154) & 0x3ff) > 85 ? 240 : -1;
+  }
+
+  private int action334(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 173;
+    }
+    return TABLE_PACKED_31.charAt((c + 148) & 0x3ff) > 209 ? 259 : -1;
+  }
+
+  private int action335(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 59;
+    }
+    return TABLE_PACKED_58.charAt((c + 235) & 0x3ff) > 64 ? 169 : -1;
+  }
+
+  private int action336(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 193;
+    }
+    return TABLE_PACKED_43.charAt((c + 198) & 0x3ff) > 213 ? 43 : -1;
+  }
+
+  private int action337(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 28;
+    }
+    return TABLE_PACKED_9.charAt((c + 37) & 0x3ff) > 145 ? 75 : -1;
+  }
+
+  private int action338(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 44;
+    }
+    return TABLE_PACKED_17.charAt((c + 18) & 0x3ff) > 227 ? 86 : -1;
+  }
+
+  private int action339(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 148;
+    }
+    return TABLE_PACKED_8.charAt((c + 24) & 0x3ff) > 99 ? 240 : -1;
+  }
+
+  private int action340(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 122;
+    }
+    return TABLE_PACKED_54.charAt((c + 80) & 0x3ff) > 98 ? 96 : -1;
+  }
+
+  private int action341(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 106;
+    }
+    return TABLE_PACKED_58.charAt((c + 196) & 0x3ff) > 109 ? 97 : -1;
+  }
+
+  private int action342(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 63;
+    }
+    return TABLE_PACKED_56.charAt((c + 78) & 0x3ff) > 142 ? 234 : -1;
+  }
+
+  private int action343(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 147;
+    }
+    return TABLE_PACKED_48.charAt((c + 4) & 0x3ff) > 33 ? 118 : -1;
+  }
+
+  private int action344(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 62;
+    }
+    return TABLE_PACKED_47.charAt((c + 211) & 0x3ff) > 69 ? 31 : -1;
+  }
+
+  private int action345(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 55;
+    }
+    return TABLE_PACKED_55.charAt((c + 66) & 0x3ff) > 210 ? 100 : -1;
+  }
+
+  private int action346(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 252;
+    }
+    return TABLE_PACKED_2.charAt((c + 92) & 0x3ff) > 112 ? 128 : -1;
+  }
+
+  private int action347(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 263;
+    }
+    return TABLE_PACKED_59.charAt((c + 145) & 0x3ff) > 12 ? 23 : -1;
+  }
+
+  private int action348(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_12.charAt((c + 127) & 0x3ff) > 167 ? 233 : -1;
+  }
+
+  private int action349(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 35) {
+      this.text.setLength(0);
+      return 70;
+    }
+    return TABLE_PACKED_1.charAt((c + 13) & 0x3ff) > 185 ? 110 : -1;
+  }
+
+  private int action350(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 126;
+    }
+    return TABLE_PACKED_44.charAt((c + 208) & 0x3ff) > 130 ? 285 : -1;
+  }
+
+  private int action351(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 113;
+    }
+    return TABLE_PACKED_12.charAt((c + 253) & 0x3ff) > 165 ? 166 : -1;
+  }
+
+  private int action352(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 257;
+    }
+    return TABLE_PACKED_35.charAt((c + 231) & 0x3ff) > 240 ? 240 : -1;
+  }
+
+  private int action353(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 48;
+    }
+    return TABLE_PACKED_2.charAt((c + 77) & 0x3ff) > 39 ? 284 : -1;
+  }
+
+  private int action354(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 216;
+    }
+    return TABLE_PACKED_50.charAt((c + 146) & 0x3ff) > 235 ? 256 : -1;
+  }
+
+  private int action355(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 59;
+    }
+    return TABLE_PACKED_29.charAt((c + 145) & 0x3ff) > 222 ? 198 : -1;
+  }
+
+  private int action356(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_26.charAt((c + 28) & 0x3ff) > 9 ? 254 : -1;
+  }
+
+  private int action357(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 163;
+    }
+    return TABLE_PACKED_23.charAt((c + 64) & 0x3ff) > 81 ? 235 : -1;
+  }
+
+  private int action358(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 35) {
+      this.text.setLength(0);
+      return 224;
+    }
+    return TABLE_PACKED_51.charAt((c + 243) & 0x3ff) > 187 ? 54 : -1;
+  }
+
+  private int action359(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 136;
+    }
+    return TABLE_PACKED_52.charAt((c + 168) & 0x3ff) > 132 ? 129 : -1;
+  }
+
+  private int action360(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 110;
+    }
+    return TABLE_PACKED_13.charAt((c + 238) & 0x3ff) > 57 ? 167 : -1;
+  }
+
+  private int action361(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 209;
+    }
+    return TABLE_PACKED_58.charAt((c + 232) & 0x3ff) > 115 ? 84 : -1;
+  }
+
+  private int action362(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 104;
+    }
+    return TABLE_PACKED_50.charAt((c + 26) & 0x3ff) > 178 ? 294 : -1;
+  }
+
+  private int action363(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 150;
+    }
+    return TABLE_PACKED_51.charAt((c + 27) & 0x3ff) > 157 ? 204 : -1;
+  }
+
+  private int action364(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 88;
+    }
+    return TABLE_PACKED_57.charAt((c + 143) & 0x3ff) > 134 ? 294 : -1;
+  }
+
+  private int action365(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 25;
+    }
+    return TABLE_PACKED_19.charAt((c + 25) & 0x3ff) > 215 ? 178 : -1;
+  }
+
+  private int action366(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 18;
+    }
+    return TABLE_PACKED_54.charAt((c + 239) & 0x3ff) > 203 ? 297 : -1;
+  }
+
+  private int action367(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 71;
+    }
+    return TABLE_PACKED_8.charAt((c + 205) & 0x3ff) > 100 ? 143 : -1;
+  }
+
+  private int action368(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 234;
+    }
+    return TABLE_PACKED_32.charAt((c + 82) & 0x3ff) > 88 ? 277 : -1;
+  }
+
+  private int action369(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 254;
+    }
+    return TABLE_PACKED_13.charAt((c + 183) & 0x3ff) > 91 ? 44 : -1;
+  }
+
+  private int action370(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 128;
+    }
+    return TABLE_PACKED_15.charAt((c + 153) & 0x3ff) > 127 ? 48 : -1;
+  }
+
+  private int action371(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 298;
+    }
+    return TABLE_PACKED_40.charAt((c + 253) & 0x3ff) > 89 ? 288 : -1;
+  }
+
+  private int action372(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 41;
+    }
+    return TABLE_PACKED_59.charAt((c + 128) & 0x3ff) > 122 ? 20 : -1;
+  }
+
+  private int action373(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 110;
+    }
+    return TABLE_PACKED_37.charAt((c + 146) & 0x3ff) > 227 ? 114 : -1;
+  }
+
+  private int action374(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 190;
+    }
+    return TABLE_PACKED_4.charAt((c + 34) & 0x3ff) > 4 ? 87 : -1;
+  }
+
+  private int action375(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 181;
+    }
+    return TABLE_PACKED_13.charAt((c + 2) & 0x3ff) > 168 ? 249 : -1;
+  }
+
+  private int action376(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 228;
+    }
+    return TABLE_PACKED_51.charAt((c + 12) & 0x3ff) > 170 ? 281 : -1;
+  }
+
+  private int action377(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 257;
+    }
+    return TABLE_PACKED_57.charAt((c + 59) & 0x3ff) > 252 ? 11 : -1;
+  }
+
+  private int action378(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 280;
+    }
+    return TABLE_PACKED_43.charAt((c + 240) & 0x3ff) > 24 ? 100 : -1;
+  }
+
+  private int action379(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 184;
+    }
+    return TABLE_PACKED_5.charAt((c + 51) & 0x3ff) > 84 ? 222 : -1;
+  }
+
+  private int action380(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 276;
+    }
+    return TABLE_PACKED_9.charAt((c + 34) & 0x3ff) > 10 ? 129 : -1;
+  }
+
+  private int action381(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 236;
+    }
+    return TABLE_PACKED_53.charAt((c + 191) & 0x3ff) > 106 ? 158 : -1;
+  }
+
+  private int action382(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 87;
+    }
+    return TABLE_PACKED_52.charAt((c + 175) & 0x3ff) > 72 ? 164 : -1;
+  }
+
+  private int action383(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 107;
+    }
+    return TABLE_PACKED_44.charAt((c + 239) & 0x3ff) > 139 ? 67 : -1;
+  }
+
+  private int action384(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 76;
+    }
+    return TABLE_PACKED_18.charAt((c + 197) & 0x3ff) > 13 ? 65 : -1;
+  }
+
+  private int action385(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 114;
+    }
+    return TABLE_PACKED_42.charAt((c + 66) & 0x3ff) > 168 ? 218 : -1;
+  }
+
+  private int action386(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 89;
+    }
+    return TABLE_PACKED_3.charAt((c + 226) & 0x3ff) > 90 ? 101 : -1;
+  }
+
+  private int action387(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 268;
+    }
+    return TABLE_PACKED_33.charAt((c + 20) & 0x3ff) > 63 ? 39 : -1;
+  }
+
+  private int action388(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 198;
+    }
+    return TABLE_PACKED_37.charAt((c + 27) & 0x3ff) > 95 ? 65 : -1;
+  }
+
+  private int action389(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 146;
+    }
+    return TABLE_PACKED_58.charAt((c + 200) & 0x3ff) > 80 ? 87 : -1;
+  }
+
+  private int action390(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 21) {
+      this.text.setLength(0);
+      return 57;
+    }
+    return TABLE_PACKED_51.charAt((c + 136) & 0x3ff) > 107 ? 182 : -1;
+  }
+
+  private int action391(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 139;
+    }
+    return TABLE_PACKED_50.charAt((c + 58) & 0x3ff) > 35 ? 19 : -1;
+  }
+
+  private int action392(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_44.charAt((c + 189) & 0x3ff) > 238 ? 228 : -1;
+  }
+
+  private int action393(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 151;
+    }
+    return TABLE_PACKED_44.charAt((c + 147) & 0x3ff) > 95 ? 265 : -1;
+  }
+
+  private int action394(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 285;
+    }
+    return TABLE_PACKED_36.charAt((c + 22) & 0x3ff) > 66 ? 217 : -1;
+  }
+
+  private int action395(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 120;
+    }
+    return TABLE_PACKED_36.charAt((c + 8) & 0x3ff) > 34 ? 161 : -1;
+  }
+
+  private int action396(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 27;
+    }
+    return TABLE_PACKED_10.charAt((c + 190) & 0x3ff) > 40 ? 156 : -1;
+  }
+
+  private int action397(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 210;
+    }
+    return TABLE_PACKED_55.charAt((c + 240) & 0x3ff) > 11 ? 192 : -1;
+  }
+
+  private int action398(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 300;
+    }
+    return TABLE_PACKED_25.charAt((c + 226) & 0x3ff) > 150 ? 97 : -1;
+  }
+
+  private int action399(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 228;
+    }
+    return TABLE_PACKED_26.charAt((c + 236) & 0x3ff) > 251 ? 55 : -1;
+  }
+
+  private int action400(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 299;
+    }
+    return TABLE_PACKED_57.charAt((c + 72) & 0x3ff) > 223 ? 116 : -1;
+  }
+
+  private int action401(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 293;
+    }
+    return TABLE_PACKED_24.charAt((c + 194) & 0x3ff) > 137 ? 226 : -1;
+  }
+
+  private int action402(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 214;
+    }
+    return TABLE_PACKED_31.charAt((c + 58) & 0x3ff) > 103 ? 45 : -1;
+  }
+
+  private int action403(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 220;
+    }
+    return TABLE_PACKED_53.charAt((c + 247) & 0x3ff) > 30 ? 217 : -1;
+  }
+
+  private int action404(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 105;
+    }
+    return TABLE_PACKED_56.charAt((c + 159) & 0x3ff) > 167 ? 188 : -1;
+  }
+
+  private int action405(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 35) {
+      this.text.setLength(0);
+      return 134;
+    }
+    return TABLE_PACKED_13.charAt((c + 185) & 0x3ff) > 86 ? 209 : -1;
+  }
+
+  private int action406(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_48.charAt((c + 168) & 0x3ff) > 133 ? 10 : -1;
+  }
+
+  private int action407(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 167;
+    }
+    return TABLE_PACKED_6.charAt((c + 158) & 0x3ff) > 234 ? 197 : -1;
+  }
+
+  private int action408(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 66;
+    }
+    return TABLE_PACKED_36.charAt((c + 198) & 0x3ff) > 240 ? 122 : -1;
+  }
+
+  private int action409(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 128;
+    }
+    return TABLE_PACKED_5.charAt((c + 117) & 0x3ff) > 79 ? 254 : -1;
+  }
+
+  private int action410(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 178;
+    }
+    return TABLE_PACKED_57.charAt((c + 187) & 0x3ff) > 166 ? 2 : -1;
+  }
+
+  private int action411(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 247;
+    }
+    return TABLE_PACKED_33.charAt((c + 255) & 0x3ff) > 206 ? 199 : -1;
+  }
+
+  private int action412(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 97;
+    }
+    return TABLE_PACKED_7.charAt((c + 214) & 0x3ff) > 229 ? 167 : -1;
+  }
+
+  private int action413(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 107;
+    }
+    return TABLE_PACKED_50.charAt((c + 172) & 0x3ff) > 70 ? 46 : -1;
+  }
+
+  private int action414(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 205;
+    }
+    return TABLE_PACKED_40.charAt((c + 186) & 0x3ff) > 65 ? 211 : -1;
+  }
+
+  private int action415(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 225;
+    }
+    return TABLE_PACKED_47.charAt((c + 179) & 0x3ff) > 107 ? 74 : -1;
+  }
+
+  private int action416(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 59;
+    }
+    return TABLE_PACKED_57.charAt((c + 95) & 0x3ff) > 179 ? 290 : -1;
+  }
+
+  private int action417(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 279;
+    }
+    return TABLE_PACKED_28.charAt((c + 62) & 0x3ff) > 171 ? 228 : -1;
+  }
+
+  private int action418(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_8.charAt((c + 97) & 0x3ff) > 224 ? 122 : -1;
+  }
+
+  private int action419(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 180;
+    }
+    return TABLE_PACKED_0.charAt((c + 83) & 0x3ff) > 175 ? 116 : -1;
+  }
+
+  private int action420(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 240;
+    }
+    return TABLE_PACKED_6.charAt((c + 161) & 0x3ff) > 209 ? 104 : -1;
+  }
+
+  private int action421(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_17.charAt((c + 197) & 0x3ff) > 94 ? 111 : -1;
+  }
+
+  private int action422(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 297;
+    }
+    return TABLE_PACKED_42.charAt((c + 149) & 0x3ff) > 149 ? 113 : -1;
+  }
+
+  private int action423(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 294;
+    }
+    return TABLE_PACKED_20.charAt((c + 35) & 0x3ff) > 85 ? 226 : -1;
+  }
+
+  private int action424(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 18;
+    }
+    return TABLE_PACKED_48.charAt((c + 148) & 0x3ff) > 251 ? 170 : -1;
+  }
+
+  private int action425(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 71;
+    }
+    return TABLE_PACKED_21.charAt((c + 105) & 0x3ff) > 52 ? 206 : -1;
+  }
+
+  private int action426(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 77;
+    }
+    return TABLE_PACKED_43.charAt((c + 164) & 0x3ff) > 63 ? 282 : -1;
+  }
+
+  private int action427(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 61;
+    }
+    return TABLE_PACKED_6.charAt((c + 251) & 0x3ff) > 200 ? 4 : -1;
+  }
+
+  private int action428(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 79;
+    }
+    return TABLE_PACKED_35.charAt((c + 221) & 0x3ff) > 177 ? 176 : -1;
+  }
+
+  private int action429(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 62;
+    }
+    return TABLE_PACKED_16.charAt((c + 58) & 0x3ff) > 16 ? 255 : -1;
+  }
+
+  private int action430(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 60) {
+      this.text.setLength(0);
+      return 89;
+    }
+    return TABLE_PACKED_57.charAt((c + 208) & 0x3ff) > 6 ? 252 : -1;
+  }
+
+  private int action431(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 53;
+    }
+    return TABLE_PACKED_29.charAt((c + 8) & 0x3ff) > 193 ? 170 : -1;
+  }
+
+  private int action432(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 87;
+    }
+    return TABLE_PACKED_48.charAt((c + 198) & 0x3ff) > 14 ? 175 : -1;
+  }
+
+  private int action433(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 120;
+    }
+    return TABLE_PACKED_6.charAt((c + 58) & 0x3ff) > 77 ? 59 : -1;
+  }
+
+  private int action434(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 264;
+    }
+    return TABLE_PACKED_59.charAt((c + 49) & 0x3ff) > 123 ? 87 : -1;
+  }
+
+  private int action435(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 204;
+    }
+    return TABLE_PACKED_49.charAt((c + 208) & 0x3ff) > 113 ? 277 : -1;
+  }
+
+  private int action436(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 189;
+    }
+    return TABLE_PACKED_4.charAt((c + 134) & 0x3ff) > 211 ? 3 : -1;
+  }
+
+  private int action437(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 199;
+    }
+    return TABLE_PACKED_35.charAt((c + 7) & 0x3ff) > 54 ? 64 : -1;
+  }
+
+  private int action438(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 80;
+    }
+    return TABLE_PACKED_13.charAt((c + 102) & 0x3ff) > 204 ? 105 : -1;
+  }
+
+  private int action439(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 150;
+    }
+    return TABLE_PACKED_54.charAt((c + 187) & 0x3ff) > 61 ? 298 : -1;
+  }
+
+  private int action440(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 45;
+    }
+    return TABLE_PACKED_36.charAt((c + 93) & 0x3ff) > 177 ? 202 : -1;
+  }
+
+  private int action441(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 209;
+    }
+    return TABLE_PACKED_43.charAt((c + 145) & 0x3ff) > 86 ? 117 : -1;
+  }
+
+  private int action442(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 25;
+    }
+    return TABLE_PACKED_59.charAt((c + 246) & 0x3ff) > 142 ? 213 : -1;
+  }
+
+  private int action443(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 122;
+    }
+    return TABLE_PACKED_5.charAt((c + 6) & 0x3ff) > 97 ? 7 : -1;
+  }
+
+  private int action444(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_56.charAt((c + 222) & 0x3ff) > 226 ? 41 : -1;
+  }
+
+  private int action445(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 156;
+    }
+    return TABLE_PACKED_20.charAt((c + 144) & 0x3ff) > 41 ? 275 : -1;
+  }
+
+  private int action446(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 144;
+    }
+    return TABLE_PACKED_21.charAt((c + 248) & 0x3ff) > 54 ? 160 : -1;
+  }
+
+  private int action447(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 218;
+    }
+    return TABLE_PACKED_21.charAt((c + 225) & 0x3ff) > 109 ? 135 : -1;
+  }
+
+  private int action448(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 260;
+    }
+    return TABLE_PACKED_8.charAt((c + 64) & 0x3ff) > 199 ? 128 : -1;
+  }
+
+  private int action449(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 239;
+    }
+    return TABLE_PACKED_44.charAt((c + 91) & 0x3ff) > 137 ? 110 : -1;
+  }
+
+  private int action450(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_42.charAt((c + 185) & 0x3ff) > 103 ? 242 : -1;
+  }
+
+  private int action451(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 83;
+    }
+    return TABLE_PACKED_36.charAt((c + 138) & 0x3ff) > 222 ? 152 : -1;
+  }
+
+  private int action452(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 157;
+    }
+    return TABLE_PACKED_7.charAt((c + 52) & 0x3ff) > 182 ? 240 : -1;
+  }
+
+  private int action453(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 149;
+    }
+    return TABLE_PACKED_29.charAt((c + 10) & 0x3ff) > 251 ? 213 : -1;
+  }
+
+  private int action454(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 263;
+    }
+    return TABLE_PACKED_35.charAt((c + 9) & 0x3ff) > 45 ? 249 : -1;
+  }
+
+  private int action455(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 274;
+    }
+    return TABLE_PACKED_39.charAt((c + 129) & 0x3ff) > 190 ? 188 : -1;
+  }
+
+  private int action456(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 202;
+    }
+    return TABLE_PACKED_16.charAt((c + 60) & 0x3ff) > 127 ? 154 : -1;
+  }
+
+  private int action457(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 295;
+    }
+    return TABLE_PACKED_43.charAt((c + 34) & 0x3ff) > 62 ? 279 : -1;
+  }
+
+  private int action458(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 139;
+    }
+    return TABLE_PACKED_36.charAt((c + 128) & 0x3ff) > 85 ? 139 : -1;
+  }
+
+  private int action459(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 255;
+    }
+    return TABLE_PACKED_35.charAt((c + 190) & 0x3ff) > 52 ? 207 : -1;
+  }
+
+  private int action460(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 31;
+    }
+    return TABLE_PACKED_2.charAt((c + 11) & 0x3ff) > 93 ? 78 : -1;
+  }
+
+  private int action461(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 76;
+    }
+    return TABLE_PACKED_6.charAt((c + 195) & 0x3ff) > 205 ? 113 : -1;
+  }
+
+  private int action462(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_11.charAt((c + 187) & 0x3ff) > 147 ? 231 : -1;
+  }
+
+  private int action463(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 79;
+    }
+    return TABLE_PACKED_11.charAt((c + 109) & 0x3ff) > 0 ? 29 : -1;
+  }
+
+  private int action464(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 23;
+    }
+    return TABLE_PACKED_51.charAt((c + 53) & 0x3ff) > 195 ? 213 : -1;
+  }
+
+  private int action465(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 39;
+    }
+    return TABLE_PACKED_36.charAt((c + 48) & 0x3ff) > 56 ? 77 : -1;
+  }
+
+  private int action466(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 287;
+    }
+    return TABLE_PACKED_42.charAt((c + 217) & 0x3ff) > 19 ? 116 : -1;
+  }
+
+  private int action467(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 132;
+    }
+    return TABLE_PACKED_47.charAt((c + 105) & 0x3ff) > 251 ? 198 : -1;
+  }
+
+  private int action468(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 53;
+    }
+    return TABLE_PACKED_14.charAt((c + 0) & 0x3ff) > 75 ? 107 : -1;
+  }
+
+  private int action469(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 288;
+    }
+    return TABLE_PACKED_12.charAt((c + 167) & 0x3ff) > 119 ? 10 : -1;
+  }
+
+  private int action470(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 64;
+    }
+    return TABLE_PACKED_36.charAt((c + 153) & 0x3ff) > 172 ? 17 : -1;
+  }
+
+  private int action471(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 9;
+    }
+    return TABLE_PACKED_58.charAt((c + 160) & 0x3ff) > 130 ? 269 : -1;
+  }
+
+  private int action472(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 129;
+    }
+    return TABLE_PACKED_55.charAt((c + 241) & 0x3ff) > 162 ? 207 : -1;
+  }
+
+  private int action473(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 261;
+    }
+    return TABLE_PACKED_4.charAt((c + 13) & 0x3ff) > 79 ? 142 : -1;
+  }
+
+  private int action474(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 243;
+    }
+    return TABLE_PACKED_2.charAt((c + 43) & 0x3ff) > 253 ? 233 : -1;
+  }
+
+  private int action475(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 99;
+    }
+    return TABLE_PACKED_58.charAt((c + 182) & 0x3ff) > 203 ? 90 : -1;
+  }
+
+  private int action476(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 182;
+    }
+    return TABLE_PACKED_3.charAt((c + 50) & 0x3ff) > 98 ? 203 : -1;
+  }
+
+  private int action477(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 276;
+    }
+    return TABLE_PACKED_55.charAt((c + 54) & 0x3ff) > 248 ? 116 : -1;
+  }
+
+  private int action478(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 85;
+    }
+    return TABLE_PACKED_41.charAt((c + 190) & 0x3ff) > 140 ? 126 : -1;
+  }
+
+  private int action479(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_58.charAt((c + 200) & 0x3ff) > 207 ? 146 : -1;
+  }
+
+  private int action480(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 90;
+    }
+    return TABLE_PACKED_55.charAt((c + 136) & 0x3ff) > 207 ? 242 : -1;
+  }
+
+  private int action481(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 0;
+    }
+    return TABLE_PACKED_43.charAt((c + 41) & 0x3ff) > 83 ? 138 : -1;
+  }
+
+  private int action482(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 184;
+    }
+    return TABLE_PACKED_42.charAt((c + 189) & 0x3ff) > 167 ? 122 : -1;
+  }
+
+  private int action483(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 99;
+    }
+    return TABLE_PACKED_41.charAt((c + 86) & 0x3ff) > 63 ? 15 : -1;
+  }
+
+  private int action484(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 299;
+    }
+    return TABLE_PACKED_48.charAt((c + 240) & 0x3ff) > 232 ? 228 : -1;
+  }
+
+  private int action485(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 89;
+    }
+    return TABLE_PACKED_51.charAt((c + 237) & 0x3ff) > 46 ? 43 : -1;
+  }
+
+  private int action486(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 28;
+    }
+    return TABLE_PACKED_44.charAt((c + 2) & 0x3ff) > 67 ? 15 : -1;
+  }
+
+  private int action487(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 186;
+    }
+    return TABLE_PACKED_9.charAt((c + 127) & 0x3ff) > 26 ? 166 : -1;
+  }
+
+  private int action488(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 71;
+    }
+    return TABLE_PACKED_8.charAt((c + 147) & 0x3ff) > 90 ? 109 : -1;
+  }
+
+  private int action489(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 94;
+    }
+    return TABLE_PACKED_13.charAt((c + 142) & 0x3ff) > 52 ? 86 : -1;
+  }
+
+  private int action490(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 64;
+    }
+    return TABLE_PACKED_39.charAt((c + 249) & 0x3ff) > 219 ? 25 : -1;
+  }
+
+  private int action491(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 250;
+    }
+    return TABLE_PACKED_26.charAt((c + 111) & 0x3ff) > 31 ? 235 : -1;
+  }
+
+  private int action492(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 70;
+    }
+    return TABLE_PACKED_45.charAt((c + 129) & 0x3ff) > 240 ? 255 : -1;
+  }
+
+  private int action493(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 281;
+    }
+    return TABLE_PACKED_55.charAt((c + 186) & 0x3ff) > 130 ? 116 : -1;
+  }
+
+  private int action494(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 33;
+    }
+    return TABLE_PACKED_21.charAt((c + 158) & 0x3ff) > 121 ? 270 : -1;
+  }
+
+  private int action495(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 190;
+    }
+    return TABLE_PACKED_46.charAt((c + 92) & 0x3ff) > 6 ? 70 : -1;
+  }
+
+  private int action496(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 242;
+    }
+    return TABLE_PACKED_27.charAt((c + 246) & 0x3ff) > 34 ? 290 : -1;
+  }
+
+  private int action497(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 162;
+    }
+    return TABLE_PACKED_31.charAt((c + 78) & 0x3ff) > 110 ? 156 : -1;
+  }
+
+  private int action498(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 90;
+    }
+    return TABLE_PACKED_19.charAt((c + 90) & 0x3ff) > 89 ? 152 : -1;
+  }
+
+  private int action499(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 239;
+    }
+    return TABLE_PACKED_9.charAt((c + 242) & 0x3ff) > 163 ? 68 : -1;
+  }
+
+  private int action500(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 133;
+    }
+    return TABLE_PACKED_15.charAt((c + 111) & 0x3ff) > 65 ? 68 : -1;
+  }
+
+  private int action501(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 37) {
+      this.text.setLength(0);
+      return 180;
+    }
+    return TABLE_PACKED_31.charAt((c + 240) & 0x3ff) > 195 ? 237 : -1;
+  }
+
+  private int action502(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 170;
+    }
+    return TABLE_PACKED_1.charAt((c + 20) & 0x3ff) > 74 ? 224 : -1;
+  }
+
+  private int action503(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 131;
+    }
+    return TABLE_PACKED_0.charAt((c + 63) & 0x3ff) > 74 ? 115 : -1;
+  }
+
+  private int action504(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_46.charAt((c + 157) & 0x3ff) > 200 ? 115 : -1;
+  }
+
+  private int action505(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 59;
+    }
+    return TABLE_PACKED_45.charAt((c + 121) & 0x3ff) > 136 ? 110 : -1;
+  }
+
+  private int action506(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 83;
+    }
+    return TABLE_PACKED_56.charAt((c + 31) & 0x3ff) > 164 ? 43 : -1;
+  }
+
+  private int action507(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 8;
+    }
+    return TABLE_PACKED_45.charAt((c + 66) & 0x3ff) > 93 ? 36 : -1;
+  }
+
+  private int action508(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 26;
+    }
+    return TABLE_PACKED_10.charAt((c + 63) & 0x3ff) > 20 ? 124 : -1;
+  }
+
+  private int action509(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 165;
+    }
+    return TABLE_PACKED_33.charAt((c + 114) & 0x3ff) > 41 ? 141 : -1;
+  }
+
+  private int action510(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 106;
+    }
+    return TABLE_PACKED_6.charAt((c + 192) & 0x3ff) > 26 ? 167 : -1;
+  }
+
+  private int action511(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 225;
+    }
+    return TABLE_PACKED_45.charAt((c + 64) & 0x3ff) > 43 ? 177 : -1;
+  }
+
+  private int action512(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 41;
+    }
+    return TABLE_PACKED_29.charAt((c + 96) & 0x3ff) > 209 ? 230 : -1;
+  }
+
+  private int action513(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 18;
+    }
+    return TABLE_PACKED_6.charAt((c + 153) & 0x3ff) > 185 ? 227 : -1;
+  }
+
+  private int action514(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 71;
+    }
+    return TABLE_PACKED_23.charAt((c + 238) & 0x3ff) > 127 ? 296 : -1;
+  }
+
+  private int action515(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 170;
+    }
+    return TABLE_PACKED_12.charAt((c + 225) & 0x3ff) > 167 ? 77 : -1;
+  }
+
+  private int action516(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 274;
+    }
+    return TABLE_PACKED_35.charAt((c + 243) & 0x3ff) > 123 ? 84 : -1;
+  }
+
+  private int action517(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 42;
+    }
+    return TABLE_PACKED_3.charAt((c + 106) & 0x3ff) > 227 ? 259 : -1;
+  }
+
+  private int action518(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 142;
+    }
+    return TABLE_PACKED_28.charAt((c + 148) & 0x3ff) > 112 ? 228 : -1;
+  }
+
+  private int action519(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 37;
+    }
+    return TABLE_PACKED_28.charAt((c + 111) & 0x3ff) > 164 ? 154 : -1;
+  }
+
+  private int action520(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 112;
+    }
+    return TABLE_PACKED_2.charAt((c + 13) & 0x3ff) > 56 ? 195 : -1;
+  }
+
+  private int action521(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 20;
+    }
+    return TABLE_PACKED_33.charAt((c + 30) & 0x3ff) > 1 ? 62 : -1;
+  }
+
+  private int action522(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 228;
+    }
+    return TABLE_PACKED_50.charAt((c + 180) & 0x3ff) > 194 ? 13 : -1;
+  }
+
+  private int action523(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 51;
+    }
+    return TABLE_PACKED_34.charAt((c + 70) & 0x3ff) > 86 ? 28 : -1;
+  }
+
+  private int action524(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 82;
+    }
+    return TABLE_PACKED_52.charAt((c + 218) & 0x3ff) > 142 ? 153 : -1;
+  }
+
+  private int action525(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 45) {
+      this.text.setLength(0);
+      return 294;
+    }
+    return TABLE_PACKED_59.charAt((c + 66) & 0x3ff) > 114 ? 48 : -1;
+  }
+
+  private int action526(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 0;
+    }
+    return TABLE_PACKED_50.charAt((c + 155) & 0x3ff) > 53 ? 42 : -1;
+  }
+
+  private int action527(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 49;
+    }
+    return TABLE_PACKED_52.charAt((c + 5) & 0x3ff) > 222 ? 189 : -1;
+  }
+
+  private int action528(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 69;
+    }
+    return TABLE_PACKED_52.charAt((c + 62) & 0x3ff) > 48 ? 202 : -1;
+  }
+
+  private int action529(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 122;
+    }
+    return TABLE_PACKED_9.charAt((c + 198) & 0x3ff) > 144 ? 21 : -1;
+  }
+
+  private int action530(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 131;
+    }
+    return TABLE_PACKED_22.charAt((c + 114) & 0x3ff) > 189 ? 6 : -1;
+  }
+
+  private int action531(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 283;
+    }
+    return TABLE_PACKED_28.charAt((c + 195) & 0x3ff) > 146 ? 70 : -1;
+  }
+
+  private int action532(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 15;
+    }
+    return TABLE_PACKED_15.charAt((c + 134) & 0x3ff) > 2 ? 280 : -1;
+  }
+
+  private int action533(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 58;
+    }
+    return TABLE_PACKED_19.charAt((c + 109) & 0x3ff) > 133 ? 221 : -1;
+  }
+
+  private int action534(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 43;
+    }
+    return TABLE_PACKED_6.charAt((c + 69) & 0x3ff) > 180 ? 86 : -1;
+  }
+
+  private int action535(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 103;
+    }
+    return TABLE_PACKED_43.charAt((c + 85) & 0x3ff) > 216 ? 4 : -1;
+  }
+
+  private int action536(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 2;
+    }
+    return TABLE_PACKED_32.charAt((c + 248) & 0x3ff) > 74 ? 58 : -1;
+  }
+
+  private int action537(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 186;
+    }
+    return TABLE_PACKED_43.charAt((c + 102) & 0x3ff) > 118 ? 120 : -1;
+  }
+
+  private int action538(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 275;
+    }
+    return TABLE_PACKED_51.charAt((c + 250) & 0x3ff) > 105 ? 152 : -1;
+  }
+
+  private int action539(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 33) {
+      this.text.setLength(0);
+      return 234;
+    }
+    return TABLE_PACKED_49.charAt((c + 121) & 0x3ff) > 75 ? 229 : -1;
+  }
+
+  private int action540(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_46.charAt((c + 171) & 0x3ff) > 218 ? 176 : -1;
+  }
+
+  private int action541(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 215;
+    }
+    return TABLE_PACKED_31.charAt((c + 204) & 0x3ff) > 36 ? 97 : -1;
+  }
+
+  private int action542(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 197;
+    }
+    return TABLE_PACKED_19.charAt((c + 126) & 0x3ff) > 33 ? 17 : -1;
+  }
+
+  private int action543(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 33) {
+      this.text.setLength(0);
+      return 143;
+    }
+    return TABLE_PACKED_36.charAt((c + 242) & 0x3ff) > 5 ? 0 : -1;
+  }
+
+  private int action544(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_35.charAt((c + 254) & 0x3ff) > 107 ? 242 : -1;
+  }
+
+  private int action545(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 274;
+    }
+    return TABLE_PACKED_26.charAt((c + 140) & 0x3ff) > 148 ? 108 : -1;
+  }
+
+  private int action546(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 137;
+    }
+    return TABLE_PACKED_5.charAt((c + 74) & 0x3ff) > 177 ? 290 : -1;
+  }
+
+  private int action547(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 300;
+    }
+    return TABLE_PACKED_35.charAt((c + 51) & 0x3ff) > 244 ? 205 : -1;
+  }
+
+  private int action548(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 77;
+    }
+    return TABLE_PACKED_31.charAt((c + 173) & 0x3ff) > 182 ? 192 : -1;
+  }
+
+  private int action549(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 224;
+    }
+    return TABLE_PACKED_34.charAt((c + 214) & 0x3ff) > 105 ? 136 : -1;
+  }
+
+  private int action550(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 14) {
+      this.text.setLength(0);
+      return 162;
+    }
+    return TABLE_PACKED_18.charAt((c + 156) & 0x3ff) > 223 ? 29 : -1;
+  }
+
+  private int action551(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 94;
+    }
+    return TABLE_PACKED_22.charAt((c + 89) & 0x3ff) > 38 ? 225 : -1;
+  }
+
+  private int action552(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_4.charAt((c + 213) & 0x3ff) > 141 ? 30 : -1;
+  }
+
+  private int action553(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 111;
+    }
+    return TABLE_PACKED_16.charAt((c + 215) & 0x3ff) > 132 ? 191 : -1;
+  }
+
+  private int action554(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 51) {
+      this.text.setLength(0);
+      return 259;
+    }
+    return TABLE_PACKED_14.charAt((c + 104) & 0x3ff) > 32 ? 104 : -1;
+  }
+
+  private int action555(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 248;
+    }
+    return TABLE_PACKED_54.charAt((c + 62) & 0x3ff) > 97 ? 212 : -1;
+  }
+
+  private int action556(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 90;
+    }
+    return TABLE_PACKED_20.charAt((c + 28) & 0x3ff) > 223 ? 213 : -1;
+  }
+
+  private int action557(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 75;
+    }
+    return TABLE_PACKED_12.charAt((c + 46) & 0x3ff) > 57 ? 286 : -1;
+  }
+
+  private int action558(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 19;
+    }
+    return TABLE_PACKED_25.charAt((c + 15) & 0x3ff) > 195 ? 49 : -1;
+  }
+
+  private int action559(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 99;
+    }
+    return TABLE_PACKED_7.charAt((c + 14) & 0x3ff) > 89 ? 1 : -1;
+  }
+
+  private int action560(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 39) {
+      this.text.setLength(0);
+      return 126;
+    }
+    return TABLE_PACKED_18.charAt((c + 8) & 0x3ff) > 175 ? 191 : -1;
+  }
+
+  private int action561(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 50;
+    }
+    return TABLE_PACKED_57.charAt((c + 17) & 0x3ff) > 15 ? 54 : -1;
+  }
+
+  private int action562(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 43;
+    }
+    return TABLE_PACKED_13.charAt((c + 16) & 0x3ff) > 21 ? 239 : -1;
+  }
+
+  private int action563(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 0;
+    }
+    return TABLE_PACKED_59.charAt((c + 158) & 0x3ff) > 11 ? 271 : -1;
+  }
+
+  private int action564(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 5;
+    }
+    return TABLE_PACKED_5.charAt((c + 220) & 0x3ff) > 48 ? 28 : -1;
+  }
+
+  private int action565(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 70;
+    }
+    return TABLE_PACKED_52.charAt((c + 215) & 0x3ff) > 195 ? 257 : -1;
+  }
+
+  private int action566(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 192;
+    }
+    return TABLE_PACKED_3.charAt((c + 188) & 0x3ff) > 202 ? 123 : -1;
+  }
+
+  private int action567(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 93;
+    }
+    return TABLE_PACKED_16.charAt((c + 139) & 0x3ff) > 142 ? 229 : -1;
+  }
+
+  private int action568(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 167;
+    }
+    return TABLE_PACKED_9.charAt((c + 13) & 0x3ff) > 156 ? 117 : -1;
+  }
+
+  private int action569(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 18;
+    }
+    return TABLE_PACKED_42.charAt((c + 172) & 0x3ff) > 154 ? 88 : -1;
+  }
+
+  private int action570(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 28) {
+      this.text.setLength(0);
+      return 127;
+    }
+    return TABLE_PACKED_40.charAt((c + 47) & 0x3ff) > 102 ? 258 : -1;
+  }
+
+  private int action571(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 131;
+    }
+    return TABLE_PACKED_32.charAt((c + 180) & 0x3ff) > 191 ? 53 : -1;
+  }
+
+  private int action572(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 181;
+    }
+    return TABLE_PACKED_16.charAt((c + 42) & 0x3ff) > 14 ? 228 : -1;
+  }
+
+  private int action573(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 151;
+    }
+    return TABLE_PACKED_17.charAt((c + 158) & 0x3ff) > 248 ? 35 : -1;
+  }
+
+  private int action574(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 184;
+    }
+    return TABLE_PACKED_40.charAt((c + 185) & 0x3ff) > 82 ? 33 : -1;
+  }
+
+  private int action575(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 200;
+    }
+    return TABLE_PACKED_56.charAt((c + 184) & 0x3ff) > 203 ? 161 : -1;
+  }
+
+  private int action576(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 64;
+    }
+    return TABLE_PACKED_49.charAt((c + 126) & 0x3ff) > 200 ? 170 : -1;
+  }
+
+  private int action577(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 21) {
+      this.text.setLength(0);
+      return 118;
+    }
+    return TABLE_PACKED_42.charAt((c + 175) & 0x3ff) > 242 ? 273 : -1;
+  }
+
+  private int action578(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 59) {
+      this.text.setLength(0);
+      return 281;
+    }
+    return TABLE_PACKED_42.charAt((c + 83) & 0x3ff) > 211 ? 173 : -1;
+  }
+
+  private int action579(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 33;
+    }
+    return TABLE_PACKED_46.charAt((c + 70) & 0x3ff) > 61 ? 126 : -1;
+  }
+
+  private int action580(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 295;
+    }
+    return TABLE_PACKED_45.charAt((c + 87) & 0x3ff) > 131 ? 117 : -1;
+  }
+
+  private int action581(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_16.charAt((c + 50) & 0x3ff) > 101 ? 241 : -1;
+  }
+
+  private int action582(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 279;
+    }
+    return TABLE_PACKED_47.charAt((c + 203) & 0x3ff) > 46 ? 161 : -1;
+  }
+
+  private int action583(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 45;
+    }
+    return TABLE_PACKED_24.charAt((c + 70) & 0x3ff) > 76 ? 244 : -1;
+  }
+
+  private int action584(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 101;
+    }
+    return TABLE_PACKED_53.charAt((c + 233) & 0x3ff) > 237 ? 217 : -1;
+  }
+
+  private int action585(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 16) {
+      this.text.setLength(0);
+      return 261;
+    }
+    return TABLE_PACKED_51.charAt((c + 170) & 0x3ff) > 125 ? 32 : -1;
+  }
+
+  private int action586(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 167;
+    }
+    return TABLE_PACKED_24.charAt((c + 94) & 0x3ff) > 97 ? 62 : -1;
+  }
+
+  private int action587(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 81;
+    }
+    return TABLE_PACKED_2.charAt((c + 69) & 0x3ff) > 61 ? 113 : -1;
+  }
+
+  private int action588(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 103;
+    }
+    return TABLE_PACKED_22.charAt((c + 6) & 0x3ff) > 188 ? 99 : -1;
+  }
+
+  private int action589(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 54) {
+      this.text.setLength(0);
+      return 167;
+    }
+    return TABLE_PACKED_43.charAt((c + 138) & 0x3ff) > 25 ? 133 : -1;
+  }
+
+  private int action590(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 9;
+    }
+    return TABLE_PACKED_54.charAt((c + 49) & 0x3ff) > 174 ? 268 : -1;
+  }
+
+  private int action591(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 214;
+    }
+    return TABLE_PACKED_17.charAt((c + 64) & 0x3ff) > 60 ? 50 : -1;
+  }
+
+  private int action592(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 34) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_13.charAt((c + 201) & 0x3ff) > 100 ? 206 : -1;
+  }
+
+  private int action593(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 152;
+    }
+    return TABLE_PACKED_51.charAt((c + 248) & 0x3ff) > 132 ? 291 : -1;
+  }
+
+  private int action594(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 7;
+    }
+    return TABLE_PACKED_21.charAt((c + 213) & 0x3ff) > 107 ? 12 : -1;
+  }
+
+  private int action595(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 146;
+    }
+    return TABLE_PACKED_42.charAt((c + 216) & 0x3ff) > 228 ? 123 : -1;
+  }
+
+  private int action596(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 89;
+    }
+    return TABLE_PACKED_17.charAt((c + 162) & 0x3ff) > 64 ? 278 : -1;
+  }
+
+  private int action597(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 250;
+    }
+    return TABLE_PACKED_15.charAt((c + 76) & 0x3ff) > 201 ? 79 : -1;
+  }
+
+  private int action598(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 200;
+    }
+    return TABLE_PACKED_57.charAt((c + 147) & 0x3ff) > 164 ? 213 : -1;
+  }
+
+  private int action599(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 138;
+    }
+    return TABLE_PACKED_37.charAt((c + 72) & 0x3ff) > 227 ? 253 : -1;
+  }
+
+  private int action600(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 109;
+    }
+    return TABLE_PACKED_10.charAt((c + 82) & 0x3ff) > 165 ? 122 : -1;
+  }
+
+  private int action601(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 200;
+    }
+    return TABLE_PACKED_31.charAt((c + 254) & 0x3ff) > 139 ? 38 : -1;
+  }
+
+  private int action602(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 58) {
+      this.text.setLength(0);
+      return 162;
+    }
+    return TABLE_PACKED_42.charAt((c + 10) & 0x3ff) > 63 ? 41 : -1;
+  }
+
+  private int action603(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 143;
+    }
+    return TABLE_PACKED_53.charAt((c + 205) & 0x3ff) > 211 ? 286 : -1;
+  }
+
+  private int action604(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 51;
+    }
+    return TABLE_PACKED_17.charAt((c + 209) & 0x3ff) > 221 ? 139 : -1;
+  }
+
+  private int action605(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_38.charAt((c + 146) & 0x3ff) > 22 ? 207 : -1;
+  }
+
+  private int action606(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 37;
+    }
+    return TABLE_PACKED_23.charAt((c + 247) & 0x3ff) > 230 ? 30 : -1;
+  }
+
+  private int action607(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 31) {
+      this.text.setLength(0);
+      return 203;
+    }
+    return TABLE_PACKED_14.charAt((c + 178) & 0x3ff) > 215 ? 218 : -1;
+  }
+
+  private int action608(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 61) {
+      this.text.setLength(0);
+      return 38;
+    }
+    return TABLE_PACKED_5.charAt((c + 188) & 0x3ff) > 117 ? 31 : -1;
+  }
+
+  private int action609(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 131;
+    }
+    return TABLE_PACKED_29.charAt((c + 191) & 0x3ff) > 122 ? 240 : -1;
+  }
+
+  private int action610(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 37;
+    }
+    return TABLE_PACKED_31.charAt((c + 52) & 0x3ff) > 146 ? 153 : -1;
+  }
+
+  private int action611(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 47;
+    }
+    return TABLE_PACKED_50.charAt((c + 163) & 0x3ff) > 107 ? 199 : -1;
+  }
+
+  private int action612(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 215;
+    }
+    return TABLE_PACKED_46.charAt((c + 219) & 0x3ff) > 228 ? 117 : -1;
+  }
+
+  private int action613(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 104;
+    }
+    return TABLE_PACKED_36.charAt((c + 140) & 0x3ff) > 22 ? 278 : -1;
+  }
+
+  private int action614(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 281;
+    }
+    return TABLE_PACKED_50.charAt((c + 176) & 0x3ff) > 33 ? 130 : -1;
+  }
+
+  private int action615(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 49) {
+      this.text.setLength(0);
+      return 145;
+    }
+    return TABLE_PACKED_28.charAt((c + 106) & 0x3ff) > 144 ? 169 : -1;
+  }
+
+  private int action616(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 204;
+    }
+    return TABLE_PACKED_31.charAt((c + 17) & 0x3ff) > 31 ? 162 : -1;
+  }
+
+  private int action617(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 283;
+    }
+    return TABLE_PACKED_43.charAt((c + 47) & 0x3ff) > 69 ? 96 : -1;
+  }
+
+  private int action618(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 44) {
+      this.text.setLength(0);
+      return 265;
+    }
+    return TABLE_PACKED_46.charAt((c + 177) & 0x3ff) > 157 ? 159 : -1;
+  }
+
+  private int action619(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 140;
+    }
+    return TABLE_PACKED_23.charAt((c + 200) & 0x3ff) > 46 ? 80 : -1;
+  }
+
+  private int action620(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 265;
+    }
+    return TABLE_PACKED_32.charAt((c + 26) & 0x3ff) > 160 ? 107 : -1;
+  }
+
+  private int action621(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 13;
+    }
+    return TABLE_PACKED_6.charAt((c + 21) & 0x3ff) > 54 ? 6 : -1;
+  }
+
+  private int action622(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 203;
+    }
+    return TABLE_PACKED_14.charAt((c + 113) & 0x3ff) > 185 ? 53 : -1;
+  }
+
+  private int action623(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 256;
+    }
+    return TABLE_PACKED_39.charAt((c + 169) & 0x3ff) > 179 ? 6 : -1;
+  }
+
+  private int action624(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 246;
+    }
+    return TABLE_PACKED_2.charAt((c + 240) & 0x3ff) > 226 ? 43 : -1;
+  }
+
+  private int action625(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 21) {
+      this.text.setLength(0);
+      return 131;
+    }
+    return TABLE_PACKED_30.charAt((c + 24) & 0x3ff) > 182 ? 133 : -1;
+  }
+
+  private int action626(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 160;
+    }
+    return TABLE_PACKED_8.charAt((c + 51) & 0x3ff) > 203 ? 189 : -1;
+  }
+
+  private int action627(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 189;
+    }
+    return TABLE_PACKED_56.charAt((c + 169) & 0x3ff) > 183 ? 260 : -1;
+  }
+
+  private int action628(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 33) {
+      this.text.setLength(0);
+      return 134;
+    }
+    return TABLE_PACKED_26.charAt((c + 210) & 0x3ff) > 129 ? 9 : -1;
+  }
+
+  private int action629(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 190;
+    }
+    return TABLE_PACKED_2.charAt((c + 159) & 0x3ff) > 27 ? 80 : -1;
+  }
+
+  private int action630(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 266;
+    }
+    return TABLE_PACKED_23.charAt((c + 78) & 0x3ff) > 76 ? 226 : -1;
+  }
+
+  private int action631(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 155;
+    }
+    return TABLE_PACKED_57.charAt((c + 132) & 0x3ff) > 231 ? 88 : -1;
+  }
+
+  private int action632(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 125;
+    }
+    return TABLE_PACKED_15.charAt((c + 118) & 0x3ff) > 100 ? 27 : -1;
+  }
+
+  private int action633(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 63) {
+      this.text.setLength(0);
+      return 279;
+    }
+    return TABLE_PACKED_23.charAt((c + 190) & 0x3ff) > 41 ? 129 : -1;
+  }
+
+  private int action634(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 153;
+    }
+    return TABLE_PACKED_3.charAt((c + 47) & 0x3ff) > 253 ? 50 : -1;
+  }
+
+  private int action635(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 154;
+    }
+    return TABLE_PACKED_50.charAt((c + 71) & 0x3ff) > 82 ? 238 : -1;
+  }
+
+  private int action636(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 53) {
+      this.text.setLength(0);
+      return 120;
+    }
+    return TABLE_PACKED_55.charAt((c + 182) & 0x3ff) > 117 ? 265 : -1;
+  }
+
+  private int action637(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 203;
+    }
+    return TABLE_PACKED_2.charAt((c + 203) & 0x3ff) > 231 ? 262 : -1;
+  }
+
+  private int action638(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 119;
+    }
+    return TABLE_PACKED_9.charAt((c + 243) & 0x3ff) > 57 ? 70 : -1;
+  }
+
+  private int action639(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 161;
+    }
+    return TABLE_PACKED_35.charAt((c + 217) & 0x3ff) > 200 ? 285 : -1;
+  }
+
+  private int action640(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 11) {
+      this.text.setLength(0);
+      return 212;
+    }
+    return TABLE_PACKED_38.charAt((c + 51) & 0x3ff) > 115 ? 174 : -1;
+  }
+
+  private int action641(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 25) {
+      this.text.setLength(0);
+      return 262;
+    }
+    return TABLE_PACKED_35.charAt((c + 23) & 0x3ff) > 85 ? 263 : -1;
+  }
+
+  private int action642(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 23) {
+      this.text.setLength(0);
+      return 61;
+    }
+    return TABLE_PACKED_56.charAt((c + 16) & 0x3ff) > 160 ? 61 : -1;
+  }
+
+  private int action643(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 171;
+    }
+    return TABLE_PACKED_37.charAt((c + 122) & 0x3ff) > 100 ? 185 : -1;
+  }
+
+  private int action644(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 59;
+    }
+    return TABLE_PACKED_29.charAt((c + 148) & 0x3ff) > 135 ? 115 : -1;
+  }
+
+  private int action645(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 264;
+    }
+    return TABLE_PACKED_47.charAt((c + 251) & 0x3ff) > 237 ? 143 : -1;
+  }
+
+  private int action646(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 29;
+    }
+    return TABLE_PACKED_49.charAt((c + 136) & 0x3ff) > 28 ? 288 : -1;
+  }
+
+  private int action647(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 201;
+    }
+    return TABLE_PACKED_12.charAt((c + 144) & 0x3ff) > 223 ? 82 : -1;
+  }
+
+  private int action648(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 240;
+    }
+    return TABLE_PACKED_45.charAt((c + 222) & 0x3ff) > 40 ? 185 : -1;
+  }
+
+  private int action649(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 21;
+    }
+    return TABLE_PACKED_44.charAt((c + 128) & 0x3ff) > 100 ? 155 : -1;
+  }
+
+  private int action650(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 219;
+    }
+    return TABLE_PACKED_17.charAt((c + 172) & 0x3ff) > 219 ? 272 : -1;
+  }
+
+  private int action651(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 18) {
+      this.text.setLength(0);
+      return 11;
+    }
+    return TABLE_PACKED_8.charAt((c + 1) & 0x3ff) > 181 ? 170 : -1;
+  }
+
+  private int action652(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 272;
+    }
+    return TABLE_PACKED_50.charAt((c + 171) & 0x3ff) > 26 ? 135 : -1;
+  }
+
+  private int action653(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 24) {
+      this.text.setLength(0);
+      return 174;
+    }
+    return TABLE_PACKED_22.charAt((c + 227) & 0x3ff) > 162 ? 9 : -1;
+  }
+
+  private int action654(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 2;
+    }
+    return TABLE_PACKED_55.charAt((c + 139) & 0x3ff) > 254 ? 193 : -1;
+  }
+
+  private int action655(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 64) {
+      this.text.setLength(0);
+      return 258;
+    }
+    return TABLE_PACKED_46.charAt((c + 171) & 0x3ff) > 120 ? 123 : -1;
+  }
+
+  private int action656(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 274;
+    }
+    return TABLE_PACKED_26.charAt((c + 26) & 0x3ff) > 194 ? 285 : -1;
+  }
+
+  private int action657(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 48) {
+      this.text.setLength(0);
+      return 217;
+    }
+    return TABLE_PACKED_3.charAt((c + 18) & 0x3ff) > 130 ? 171 : -1;
+  }
+
+  private int action658(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 223;
+    }
+    return TABLE_PACKED_16.charAt((c + 128) & 0x3ff) > 137 ? 49 : -1;
+  }
+
+  private int action659(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 209;
+    }
+    return TABLE_PACKED_17.charAt((c + 209) & 0x3ff) > 163 ? 66 : -1;
+  }
+
+  private int action660(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 194;
+    }
+    return TABLE_PACKED_28.charAt((c + 231) & 0x3ff) > 93 ? 0 : -1;
+  }
+
+  private int action661(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 17) {
+      this.text.setLength(0);
+      return 156;
+    }
+    return TABLE_PACKED_26.charAt((c + 2) & 0x3ff) > 227 ? 81 : -1;
+  }
+
+  private int action662(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 19) {
+      this.text.setLength(0);
+      return 93;
+    }
+    return TABLE_PACKED_56.charAt((c + 245) & 0x3ff) > 85 ? 210 : -1;
+  }
+
+  private int action663(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 213;
+    }
+    return TABLE_PACKED_43.charAt((c + 88) & 0x3ff) > 57 ? 149 : -1;
+  }
+
+  private int action664(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 29) {
+      this.text.setLength(0);
+      return 74;
+    }
+    return TABLE_PACKED_17.charAt((c + 14) & 0x3ff) > 109 ? 66 : -1;
+  }
+
+  private int action665(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 13) {
+      this.text.setLength(0);
+      return 147;
+    }
+    return TABLE_PACKED_24.charAt((c + 135) & 0x3ff) > 95 ? 143 : -1;
+  }
+
+  private int action666(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 26) {
+      this.text.setLength(0);
+      return 31;
+    }
+    return TABLE_PACKED_20.charAt((c + 137) & 0x3ff) > 94 ? 246 : -1;
+  }
+
+  private int action667(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 220;
+    }
+    return TABLE_PACKED_5.charAt((c + 155) & 0x3ff) > 46 ? 272 : -1;
+  }
+
+  private int action668(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 244;
+    }
+    return TABLE_PACKED_35.charAt((c + 32) & 0x3ff) > 222 ? 298 : -1;
+  }
+
+  private int action669(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 55) {
+      this.text.setLength(0);
+      return 8;
+    }
+    return TABLE_PACKED_20.charAt((c + 254) & 0x3ff) > 116 ? 97 : -1;
+  }
+
+  private int action670(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 286;
+    }
+    return TABLE_PACKED_44.charAt((c + 246) & 0x3ff) > 50 ? 163 : -1;
+  }
+
+  private int action671(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 52) {
+      this.text.setLength(0);
+      return 230;
+    }
+    return TABLE_PACKED_26.charAt((c + 160) & 0x3ff) > 114 ? 131 : -1;
+  }
+
+  private int action672(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 10) {
+      this.text.setLength(0);
+      return 233;
+    }
+    return TABLE_PACKED_38.charAt((c + 121) & 0x3ff) > 123 ? 191 : -1;
+  }
+
+  private int action673(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 57) {
+      this.text.setLength(0);
+      return 92;
+    }
+    return TABLE_PACKED_51.charAt((c + 106) & 0x3ff) > 180 ? 45 : -1;
+  }
+
+  private int action674(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 8) {
+      this.text.setLength(0);
+      return 27;
+    }
+    return TABLE_PACKED_36.charAt((c + 8) & 0x3ff) > 105 ? 298 : -1;
+  }
+
+  private int action675(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 38) {
+      this.text.setLength(0);
+      return 25;
+    }
+    return TABLE_PACKED_33.charAt((c + 179) & 0x3ff) > 180 ? 40 : -1;
+  }
+
+  private int action676(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 46;
+    }
+    return TABLE_PACKED_17.charAt((c + 59) & 0x3ff) > 34 ? 262 : -1;
+  }
+
+  private int action677(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 231;
+    }
+    return TABLE_PACKED_40.charAt((c + 157) & 0x3ff) > 87 ? 30 : -1;
+  }
+
+  private int action678(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 219;
+    }
+    return TABLE_PACKED_20.charAt((c + 70) & 0x3ff) > 15 ? 162 : -1;
+  }
+
+  private int action679(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 41) {
+      this.text.setLength(0);
+      return 202;
+    }
+    return TABLE_PACKED_31.charAt((c + 5) & 0x3ff) > 126 ? 280 : -1;
+  }
+
+  private int action680(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 60) {
+      this.text.setLength(0);
+      return 145;
+    }
+    return TABLE_PACKED_43.charAt((c + 247) & 0x3ff) > 165 ? 129 : -1;
+  }
+
+  private int action681(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 47) {
+      this.text.setLength(0);
+      return 201;
+    }
+    return TABLE_PACKED_1.charAt((c + 214) & 0x3ff) > 74 ? 244 : -1;
+  }
+
+  private int action682(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 29;
+    }
+    return TABLE_PACKED_41.charAt((c + 84) & 0x3ff) > 249 ? 130 : -1;
+  }
+
+  private int action683(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 32) {
+      this.text.setLength(0);
+      return 23;
+    }
+    return TABLE_PACKED_45.charAt((c + 32) & 0x3ff) > 4 ? 155 : -1;
+  }
+
+  private int action684(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 42) {
+      this.text.setLength(0);
+      return 178;
+    }
+    return TABLE_PACKED_4.charAt((c + 226) & 0x3ff) > 171 ? 258 : -1;
+  }
+
+  private int action685(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 22) {
+      this.text.setLength(0);
+      return 147;
+    }
+    return TABLE_PACKED_54.charAt((c + 74) & 0x3ff) > 2 ? 219 : -1;
+  }
+
+  private int action686(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 9) {
+      this.text.setLength(0);
+      return 56;
+    }
+    return TABLE_PACKED_20.charAt((c + 122) & 0x3ff) > 177 ? 103 : -1;
+  }
+
+  private int action687(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 27) {
+      this.text.setLength(0);
+      return 234;
+    }
+    return TABLE_PACKED_8.charAt((c + 91) & 0x3ff) > 160 ? 260 : -1;
+  }
+
+  private int action688(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 50) {
+      this.text.setLength(0);
+      return 102;
+    }
+    return TABLE_PACKED_6.charAt((c + 146) & 0x3ff) > 110 ? 280 : -1;
+  }
+
+  private int action689(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 62) {
+      this.text.setLength(0);
+      return 199;
+    }
+    return TABLE_PACKED_55.charAt((c + 112) & 0x3ff) > 205 ? 26 : -1;
+  }
+
+  private int action690(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 201;
+    }
+    return TABLE_PACKED_51.charAt((c + 225) & 0x3ff) > 26 ? 99 : -1;
+  }
+
+  private int action691(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 46) {
+      this.text.setLength(0);
+      return 190;
+    }
+    return TABLE_PACKED_56.charAt((c + 188) & 0x3ff) > 216 ? 166 : -1;
+  }
+
+  private int action692(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 15) {
+      this.text.setLength(0);
+      return 181;
+    }
+    return TABLE_PACKED_56.charAt((c + 203) & 0x3ff) > 52 ? 136 : -1;
+  }
+
+  private int action693(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 36) {
+      this.text.setLength(0);
+      return 96;
+    }
+    return TABLE_PACKED_4.charAt((c + 4) & 0x3ff) > 94 ? 8 : -1;
+  }
+
+  private int action694(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 43) {
+      this.text.setLength(0);
+      return 73;
+    }
+    return TABLE_PACKED_57.charAt((c + 172) & 0x3ff) > 201 ? 198 : -1;
+  }
+
+  private int action695(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 12) {
+      this.text.setLength(0);
+      return 104;
+    }
+    return TABLE_PACKED_41.charAt((c + 164) & 0x3ff) > 10 ? 103 : -1;
+  }
+
+  private int action696(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 20) {
+      this.text.setLength(0);
+      return 291;
+    }
+    return TABLE_PACKED_40.charAt((c + 26) & 0x3ff) > 73 ? 97 : -1;
+  }
+
+  private int action697(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 30) {
+      this.text.setLength(0);
+      return 15;
+    }
+    return TABLE_PACKED_40.charAt((c + 167) & 0x3ff) > 148 ? 209 : -1;
+  }
+
+  private int action698(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 40) {
+      this.text.setLength(0);
+      return 44;
+    }
+    return TABLE_PACKED_1.charAt((c + 104) & 0x3ff) > 39 ? 174 : -1;
+  }
+
+  private int action699(final int c) {
+    this.text.append((char) c);
+    if (this.text.length() > 56) {
+      this.text.setLength(0);
+      return 219;
+    }
+    return TABLE_PACKED_14.charAt((c + 8) & 0x3ff) > 90 ? 92 : -1;
+  }
+}
@@ -0,0 +1,14 @@
+package corpus;
+
+public class Tiny {
+
+  private int count;
+
+  public Tiny(final int count) {
+    this.count = count;
+  }
+
+  public int increment() {
+    return ++this.count;
+  }
+}
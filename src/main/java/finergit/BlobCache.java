@@ -0,0 +1,213 @@
+package finergit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import org.eclipse.jgit.lib.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Javaファイルの blob から生成された細粒度モジュールを記憶しておくキャッシュ．
+ * キーは (blob ID, ファイル名, 設定のハッシュ値) であり，値は (モジュールのファイル名, 生成された blob ID) のリストである．
+ * 生成されるモジュールのファイル名と内容はディレクトリに依存しないため，キーにはパスではなくファイル名を用いる．
+ * 設定のハッシュ値ごとに別のファイルに保存されるため，キャッシュ内の各エントリは同じハッシュ値をもつ．
+ */
+public class BlobCache {
+
+  private static final Logger log = LoggerFactory.getLogger(BlobCache.class);
+
+  public record Module(String fileName, ObjectId id) {
+  }
+
+  // 以前の実行で保存されたエントリは，生成された blob が出力先リポジトリにあることを確認するまで verified が false
+  private static class Value {
+
+    final List<Module> modules;
+    volatile boolean verified;
+
+    Value(final List<Module> modules, final boolean verified) {
+      this.modules = modules;
+      this.verified = verified;
+    }
+  }
+
+  private final String fingerprint;
+  private final Path path;
+  private final int maxSize;
+  private final Map<String, Value> entries;
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+
+  /**
+   * @param directory キャッシュを保存するディレクトリ．null の場合は保存しない．
+   * @param fingerprint 設定のハッシュ値
+   * @param maxSize キャッシュに保持する blob の最大数
+   */
+  public BlobCache(final Path directory, final String fingerprint, final int maxSize) {
+    this.fingerprint = fingerprint;
+    this.path = null == directory ? null : directory.resolve(fingerprint);
+    this.maxSize = maxSize;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<String, Value> eldest) {
+        return BlobCache.this.maxSize < size();
+      }
+    };
+    this.hits = new AtomicLong();
+    this.misses = new AtomicLong();
+  }
+
+  /**
+   * キャッシュされたモジュールを返す．キャッシュにない場合と，以前の実行で保存されたモジュールが出力先にない場合は null を返す．
+   *
+   * @param isAvailable 生成された blob が出力先リポジトリにあるかどうかを判定する
+   */
+  public List<Module> get(final ObjectId blobId, final String fileName,
+      final Predicate<ObjectId> isAvailable) {
+    final String key = getKey(blobId, fileName);
+    final Value value;
+    synchronized (this.entries) {
+      value = this.entries.get(key);
+    }
+    if (null != value && !value.verified) {
+      if (value.modules.stream()
+          .map(Module::id)
+          .allMatch(isAvailable)) {
+        value.verified = true;
+      } else {
+        synchronized (this.entries) {
+          this.entries.remove(key);
+        }
+        this.misses.incrementAndGet();
+        return null;
+      }
+    }
+    (null == value ? this.misses : this.hits).incrementAndGet();
+    return null == value ? null : value.modules;
+  }
+
+  /**
+   * キャッシュにあるかどうかを返す．ヒット率の計算には含めない．
+   */
+  public boolean contains(final ObjectId blobId, final String fileName) {
+    synchronized (this.entries) {
+      return this.entries.containsKey(getKey(blobId, fileName));
+    }
+  }
+
+  public void put(final ObjectId blobId, final String fileName, final List<Module> modules) {
+    this.put(blobId, fileName, modules, true);
+  }
+
+  private void put(final ObjectId blobId, final String fileName, final List<Module> modules,
+      final boolean verified) {
+    final Value value = new Value(Collections.unmodifiableList(new ArrayList<>(modules)), verified);
+    synchronized (this.entries) {
+      this.entries.put(getKey(blobId, fileName), value);
+    }
+  }
+
+  public long getHits() {
+    return this.hits.get();
+  }
+
+  public long getMisses() {
+    return this.misses.get();
+  }
+
+  public double getHitRate() {
+    final long hits = this.hits.get();
+    final long total = hits + this.misses.get();
+    return 0 == total ? 0d : (double) hits / total;
+  }
+
+  public void load() throws IOException {
+    log.trace("enter load()");
+    if (null == this.path || !Files.isRegularFile(this.path)) {
+      return;
+    }
+    this.read(this.path);
+    log.debug("{} blobs are loaded from {}", this.entries.size(), this.path);
+  }
+
+  /**
+   * 別のディレクトリに同じ設定で保存されたキャッシュ（シャードの変換結果など）を読み込み，このキャッシュに加える．
+   *
+   * @return 読み込んだエントリの数
+   */
+  public int merge(final Path directory) throws IOException {
+    log.trace("enter merge(Path)");
+    final Path file = directory.resolve(this.fingerprint);
+    if (!Files.isRegularFile(file)) {
+      log.warn("no cache with the same generation options in {}", directory);
+      return 0;
+    }
+    return this.read(file);
+  }
+
+  // 読み込んだエントリは，生成された blob が出力先リポジトリにあることを確認するまで使わない
+  private int read(final Path file) throws IOException {
+    int count = 0;
+    try (final BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      String line;
+      while (null != (line = reader.readLine())) {
+        final String[] items = line.split("\t");
+        if (items.length < 2 || 0 != items.length % 2 || !ObjectId.isId(items[0])) {
+          log.warn("ignore broken line in {}: \"{}\"", file, line);
+          continue;
+        }
+        final List<Module> modules = new ArrayList<>();
+        for (int index = 2; index < items.length; index += 2) {
+          modules.add(new Module(items[index], ObjectId.fromString(items[index + 1])));
+        }
+        this.put(ObjectId.fromString(items[0]), items[1], modules, false);
+        count++;
+      }
+    }
+    return count;
+  }
+
+  public void store() throws IOException {
+    log.trace("enter store()");
+    if (null == this.path) {
+      return;
+    }
+    Files.createDirectories(this.path.getParent());
+    final Path tmpPath = this.path.resolveSibling(this.path.getFileName() + ".tmp");
+    synchronized (this.entries) {
+      try (final BufferedWriter writer = Files.newBufferedWriter(tmpPath, StandardCharsets.UTF_8)) {
+        for (final Map.Entry<String, Value> e : this.entries.entrySet()) {
+          writer.write(e.getKey());
+          for (final Module module : e.getValue().modules) {
+            writer.write('\t');
+            writer.write(module.fileName());
+            writer.write('\t');
+            writer.write(module.id()
+                .name());
+          }
+          writer.newLine();
+        }
+      }
+    }
+    Files.move(tmpPath, this.path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    log.debug("{} blobs are stored to {}", this.entries.size(), this.path);
+  }
+
+  private static String getKey(final ObjectId blobId, final String fileName) {
+    return blobId.name() + "\t" + fileName;
+  }
+}
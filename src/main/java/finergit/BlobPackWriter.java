@@ -0,0 +1,133 @@
+package finergit;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
+import org.eclipse.jgit.internal.storage.file.PackInserter;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 細粒度モジュールの blob を，ルーズオブジェクトではなく出力先リポジトリの pack に直接書き込むクラス．
+ * 書き込むスレッドごとに PackInserter を貸し出すため，圧縮は並行に行われる．
+ * 1つの pack に書き込んだ内容の合計が上限に達すると，その pack と索引を書き出して次の pack に移る．
+ * 書き込んだ blob は close() で pack と索引が書き出されるまで読めないため，変換後にまとめて close() を呼ぶこと．
+ */
+public class BlobPackWriter implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(BlobPackWriter.class);
+
+  // 書き込み中の pack と，その pack に書き込んだ内容の合計（バイト）
+  private static class Pack {
+
+    final PackInserter inserter;
+    long size;
+
+    Pack(final PackInserter inserter) {
+      this.inserter = inserter;
+    }
+  }
+
+  private final ObjectDirectory directory;
+  private final long maxPackSize;
+  private final Deque<Pack> idlePacks;
+  private int writtenPacks;
+  private boolean isClosed;
+
+  /**
+   * @param repository 出力先リポジトリ
+   * @param maxPackSize 1つの pack に書き込む内容の合計（圧縮前のバイト数）の上限
+   */
+  public BlobPackWriter(final Repository repository, final long maxPackSize) {
+    this.directory = (ObjectDirectory) repository.getObjectDatabase();
+    this.maxPackSize = maxPackSize;
+    this.idlePacks = new ArrayDeque<>();
+    this.writtenPacks = 0;
+    this.isClosed = false;
+  }
+
+  public ObjectId write(final byte[] content) throws IOException {
+    final Pack pack = this.borrow();
+    final ObjectId id;
+    try {
+      id = pack.inserter.insert(Constants.OBJ_BLOB, content);
+      pack.size += content.length;
+    } catch (final IOException e) {
+      pack.inserter.close();
+      throw e;
+    }
+    if (this.maxPackSize <= pack.size) {
+      this.flush(pack);
+    } else {
+      this.giveBack(pack);
+    }
+    return id;
+  }
+
+  private Pack borrow() throws IOException {
+    synchronized (this.idlePacks) {
+      if (this.isClosed) {
+        throw new IOException("pack writer is already closed");
+      }
+      final Pack pack = this.idlePacks.pollFirst();
+      if (null != pack) {
+        return pack;
+      }
+    }
+    return new Pack(this.directory.newPackInserter());
+  }
+
+  private void giveBack(final Pack pack) throws IOException {
+    synchronized (this.idlePacks) {
+      if (!this.isClosed) {
+        this.idlePacks.addFirst(pack);
+        return;
+      }
+    }
+    this.flush(pack);
+  }
+
+  private void flush(final Pack pack) throws IOException {
+    try (final PackInserter inserter = pack.inserter) {
+      inserter.flush();
+    }
+    synchronized (this.idlePacks) {
+      this.writtenPacks++;
+    }
+    log.debug("Write pack of finer modules ({} bytes)", pack.size);
+  }
+
+  public int getWrittenPacks() {
+    synchronized (this.idlePacks) {
+      return this.writtenPacks;
+    }
+  }
+
+  /**
+   * 書き込み中のすべての pack と索引を書き出す．
+   */
+  @Override
+  public void close() throws IOException {
+    final Deque<Pack> packs;
+    synchronized (this.idlePacks) {
+      this.isClosed = true;
+      packs = new ArrayDeque<>(this.idlePacks);
+      this.idlePacks.clear();
+    }
+    IOException exception = null;
+    for (final Pack pack : packs) {
+      try {
+        this.flush(pack);
+      } catch (final IOException e) {
+        exception = null == exception ? e : exception;
+      }
+    }
+    if (null != exception) {
+      throw exception;
+    }
+  }
+}
@@ -0,0 +1,79 @@
+package finergit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import org.eclipse.jgit.lib.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 元リポジトリのコミットIDと細粒度リポジトリのコミットIDの対応を，細粒度リポジトリ内のファイルに保存するクラス．
+ * ファイルの各行は "元のコミットID 細粒度コミットID" の形式である．
+ */
+public class CommitMapping {
+
+  private static final Logger log = LoggerFactory.getLogger(CommitMapping.class);
+
+  static final String FILE_NAME = "commit-mapping";
+
+  public final Path path;
+
+  /**
+   * @param gitDir 細粒度リポジトリの .git ディレクトリ
+   */
+  public CommitMapping(final Path gitDir) {
+    this.path = gitDir.resolve("finergit")
+        .resolve(FILE_NAME);
+  }
+
+  public boolean exists() {
+    return Files.isRegularFile(this.path);
+  }
+
+  public Map<ObjectId, ObjectId> read() throws IOException {
+    log.trace("enter read()");
+    final Map<ObjectId, ObjectId> mapping = new HashMap<>();
+    try (final BufferedReader reader = Files.newBufferedReader(this.path, StandardCharsets.UTF_8)) {
+      String line;
+      while (null != (line = reader.readLine())) {
+        final String[] ids = line.split(" ");
+        if (2 != ids.length || !ObjectId.isId(ids[0]) || !ObjectId.isId(ids[1])) {
+          log.warn("ignore broken line in {}: \"{}\"", this.path, line);
+          continue;
+        }
+        mapping.put(ObjectId.fromString(ids[0]), ObjectId.fromString(ids[1]));
+      }
+    }
+    log.debug("{} commit mappings are loaded from {}", mapping.size(), this.path);
+    return mapping;
+  }
+
+  /**
+   * 対応を書き出す．書き出し途中で失敗しても以前のファイルが壊れないように，一時ファイルに書いてから置き換える．
+   */
+  public void write(final Map<ObjectId, ObjectId> mapping) throws IOException {
+    log.trace("enter write(Map)");
+    Files.createDirectories(this.path.getParent());
+    final Path tmpPath = this.path.resolveSibling(FILE_NAME + ".tmp");
+    try (final BufferedWriter writer = Files.newBufferedWriter(tmpPath, StandardCharsets.UTF_8)) {
+      for (final Map.Entry<ObjectId, ObjectId> e : mapping.entrySet()) {
+        writer.write(e.getKey()
+            .name());
+        writer.write(' ');
+        writer.write(e.getValue()
+            .name());
+        writer.newLine();
+      }
+    }
+    Files.move(tmpPath, this.path, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    log.debug("{} commit mappings are stored to {}", mapping.size(), this.path);
+  }
+}
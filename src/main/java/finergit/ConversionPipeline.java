@@ -0,0 +1,182 @@
+package finergit;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eclipse.jgit.lib.ObjectId;
+import finergit.ast.FinerJavaModule;
+import finergit.util.ByteArrayBuilder;
+
+/**
+ * Javaファイルの変換を「blob の読み込み」「構文解析と細粒度モジュールの生成」「blob の書き込み」の3段階に分けて並行に実行するパイプライン．
+ * 読み込みと書き込みは仮想スレッドで，構文解析はコア数のプラットフォームスレッドで行うため，pack の読み込みで待たされている間も全コアで構文解析を進められる．
+ * 同時に処理中のファイル数には上限があり，上限に達した場合は投入側が待たされる．
+ */
+public class ConversionPipeline implements AutoCloseable {
+
+  /**
+   * blob を読み込む処理
+   */
+  public interface BlobReader {
+
+    byte[] read(ObjectId id) throws Exception;
+  }
+
+  /**
+   * Javaファイルを細粒度モジュールに変換する処理．変換しない場合は null を返す．
+   */
+  public interface Converter {
+
+    List<FinerJavaModule> convert(String path, String text) throws Exception;
+  }
+
+  /**
+   * blob を書き込み，その ID を返す処理
+   */
+  public interface BlobWriter {
+
+    ObjectId write(byte[] content) throws Exception;
+  }
+
+  // 同じ字句列のモジュールの blob を再利用する場合は，bytes が null で id がその blob ID
+  private record Content(String fileName, byte[] bytes, FinerJavaModule.TokenHash hash,
+      ObjectId id) {
+  }
+
+  // 構文解析を行うスレッドごとのバッファ
+  private static final ThreadLocal<ByteArrayBuilder> BUFFER =
+      ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+  private final BlobReader reader;
+  private final Converter converter;
+  private final ConversionStats stats;
+  private final ModuleCache moduleCache;
+  private final ExecutorService ioExecutor;
+  private final ExecutorService parseExecutor;
+  private final Semaphore inFlight;
+  private final Semaphore reads;
+
+  /**
+   * @param moduleCache 同じファイル名で同じ字句列のモジュールの blob を再利用するためのキャッシュ
+   * @param parseThreads 構文解析を行うスレッド数
+   * @param capacity 同時に処理中のファイル数の上限
+   */
+  public ConversionPipeline(final BlobReader reader, final Converter converter,
+      final ConversionStats stats, final ModuleCache moduleCache, final int parseThreads,
+      final int capacity) {
+    this.reader = reader;
+    this.converter = converter;
+    this.stats = stats;
+    this.moduleCache = moduleCache;
+    this.ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadFactory factory = r -> {
+      final Thread thread = new Thread(r, "finergit-pipeline-" + count.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    };
+    this.parseExecutor = Executors.newFixedThreadPool(parseThreads, factory);
+    this.inFlight = new Semaphore(capacity);
+    // 構文解析が読み込みを待たないよう，構文解析スレッドの2倍の読み込みを先行させる
+    this.reads = new Semaphore(parseThreads * 2);
+  }
+
+  /**
+   * Javaファイルをパイプラインに投入する．処理中のファイル数が上限に達している場合は空きが出るまで待つ．
+   *
+   * @param id Javaファイルの blob ID
+   * @param path Javaファイルのパス
+   * @param writer 生成したモジュールを書き込む処理
+   * @return 生成したモジュール．変換しなかった場合は null
+   */
+  public CompletableFuture<List<BlobCache.Module>> submit(final ObjectId id, final String path,
+      final BlobWriter writer) {
+    this.inFlight.acquireUninterruptibly();
+    final CompletableFuture<List<BlobCache.Module>> future =
+        CompletableFuture.supplyAsync(() -> this.read(id), this.ioExecutor)
+            .thenApplyAsync(text -> this.convert(path, text), this.parseExecutor)
+            .thenApplyAsync(contents -> this.write(contents, writer), this.ioExecutor);
+    future.whenComplete((modules, e) -> this.inFlight.release());
+    return future;
+  }
+
+  private String read(final ObjectId id) {
+    this.reads.acquireUninterruptibly();
+    try {
+      return new String(this.reader.read(id), StandardCharsets.UTF_8);
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    } finally {
+      this.reads.release();
+    }
+  }
+
+  // 最終行に改行を入れないと途中行とのマッチングが正しく行われないため，writeTo で書き出す
+  private List<Content> convert(final String path, final String text) {
+    final List<FinerJavaModule> modules;
+    try {
+      modules = this.converter.convert(path, text);
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+    if (null == modules) {
+      return null;
+    }
+    final long startTime = System.nanoTime();
+    final List<Content> contents = new ArrayList<>(modules.size());
+    final ByteArrayBuilder buffer = BUFFER.get();
+    for (final FinerJavaModule module : modules) {
+      final String fileName = module.getFileName();
+      final FinerJavaModule.TokenHash hash = module.getTokenHash();
+      final ObjectId cachedId = this.moduleCache.get(fileName, hash);
+      if (null != cachedId) {
+        contents.add(new Content(fileName, null, hash, cachedId));
+        continue;
+      }
+      buffer.reset();
+      module.writeTo(buffer);
+      contents.add(new Content(fileName, buffer.toByteArray(), hash, null));
+    }
+    this.stats.serializeTime.add(System.nanoTime() - startTime);
+    return contents;
+  }
+
+  private List<BlobCache.Module> write(final List<Content> contents, final BlobWriter writer) {
+    if (null == contents) {
+      return null;
+    }
+    final long startTime = System.nanoTime();
+    final List<BlobCache.Module> modules = new ArrayList<>(contents.size());
+    try {
+      for (final Content content : contents) {
+        this.stats.modules.increment();
+        if (null != content.id()) {
+          modules.add(new BlobCache.Module(content.fileName(), content.id()));
+          this.stats.cachedModules.increment();
+          continue;
+        }
+        final ObjectId id = writer.write(content.bytes());
+        this.moduleCache.put(content.fileName(), content.hash(), id);
+        modules.add(new BlobCache.Module(content.fileName(), id));
+        this.stats.bytesWritten.add(content.bytes().length);
+      }
+    } catch (final Exception e) {
+      throw new CompletionException(e);
+    }
+    this.stats.insertTime.add(System.nanoTime() - startTime);
+    return modules;
+  }
+
+  @Override
+  public void close() {
+    this.parseExecutor.shutdownNow();
+    this.ioExecutor.shutdownNow();
+  }
+}
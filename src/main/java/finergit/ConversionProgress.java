@@ -0,0 +1,196 @@
+package finergit;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 変換中の進捗を一定間隔で集計し，ログに出力するクラス．JMX の MBean としても公開できる．
+ * スループットは直前の集計からの差分で求めるため，長時間の変換でも現在の速度を反映する．
+ */
+public class ConversionProgress implements ConversionProgressMBean, AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ConversionProgress.class);
+
+  static final String OBJECT_NAME = "finergit:type=ConversionProgress";
+
+  // ログを出力しない場合の集計間隔（秒）
+  private static final int DEFAULT_SAMPLING_INTERVAL = 10;
+
+  private final ConversionStats stats;
+  private final BlobCache blobCache;
+  private final long commitsTotal;
+  private final ScheduledExecutorService scheduler;
+  private ObjectName objectName;
+
+  private long lastTime;
+  private long lastCommits;
+  private long lastBlobs;
+  private volatile double commitsPerSecond;
+  private volatile double blobsPerSecond;
+
+  /**
+   * @param commitsTotal 変換対象のコミット数．不明な場合は -1
+   */
+  public ConversionProgress(final ConversionStats stats, final BlobCache blobCache,
+      final long commitsTotal) {
+    this.stats = stats;
+    this.blobCache = blobCache;
+    this.commitsTotal = commitsTotal;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+      final Thread thread = new Thread(r, "finergit-progress");
+      thread.setDaemon(true);
+      return thread;
+    });
+    this.lastTime = System.nanoTime();
+  }
+
+  /**
+   * 集計を開始する．
+   *
+   * @param interval ログを出力する間隔（秒）．0 の場合はログを出力しない
+   * @param isJmxEnabled MBean として登録するかどうか
+   */
+  public void start(final int interval, final boolean isJmxEnabled) {
+    if (isJmxEnabled) {
+      this.register();
+    }
+    if (0 < interval) {
+      this.scheduler.scheduleAtFixedRate(() -> {
+        this.sample();
+        log.info(this.toString());
+      }, interval, interval, TimeUnit.SECONDS);
+    } else if (isJmxEnabled) {
+      this.scheduler.scheduleAtFixedRate(this::sample, DEFAULT_SAMPLING_INTERVAL,
+          DEFAULT_SAMPLING_INTERVAL, TimeUnit.SECONDS);
+    }
+  }
+
+  @Override
+  public void close() {
+    this.scheduler.shutdownNow();
+    if (null != this.objectName) {
+      try {
+        ManagementFactory.getPlatformMBeanServer()
+            .unregisterMBean(this.objectName);
+      } catch (final JMException e) {
+        log.warn("failed to unregister MBean {}: {}", this.objectName, e.getMessage());
+      }
+      this.objectName = null;
+    }
+  }
+
+  private void register() {
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      final ObjectName name = new ObjectName(OBJECT_NAME);
+      if (!server.isRegistered(name)) {
+        server.registerMBean(this, name);
+        this.objectName = name;
+        log.info("Register MBean: {}", name);
+      }
+    } catch (final JMException e) {
+      log.warn("failed to register MBean {}: {}", OBJECT_NAME, e.getMessage());
+    }
+  }
+
+  /**
+   * 直前の集計からの差分で現在のスループットを更新する．
+   */
+  synchronized void sample() {
+    final long time = System.nanoTime();
+    final long commits = this.stats.commits.sum();
+    final long blobs = this.stats.blobs.sum();
+    final double seconds = (time - this.lastTime) / 1_000_000_000d;
+    if (0d < seconds) {
+      this.commitsPerSecond = (commits - this.lastCommits) / seconds;
+      this.blobsPerSecond = (blobs - this.lastBlobs) / seconds;
+    }
+    this.lastTime = time;
+    this.lastCommits = commits;
+    this.lastBlobs = blobs;
+  }
+
+  @Override
+  public long getCommitsDone() {
+    return this.stats.commits.sum();
+  }
+
+  @Override
+  public long getCommitsTotal() {
+    return this.commitsTotal;
+  }
+
+  @Override
+  public long getEtaSeconds() {
+    final double rate = this.commitsPerSecond;
+    if (this.commitsTotal < 0 || rate <= 0d) {
+      return -1;
+    }
+    final long remaining = Math.max(0, this.commitsTotal - this.getCommitsDone());
+    return (long) Math.ceil(remaining / rate);
+  }
+
+  @Override
+  public double getCommitsPerSecond() {
+    return this.commitsPerSecond;
+  }
+
+  @Override
+  public double getBlobsPerSecond() {
+    return this.blobsPerSecond;
+  }
+
+  @Override
+  public long getActiveEntries() {
+    return this.stats.activeEntries.sum();
+  }
+
+  @Override
+  public long getHeapUsedBytes() {
+    final Runtime runtime = Runtime.getRuntime();
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  @Override
+  public long getHeapMaxBytes() {
+    return Runtime.getRuntime()
+        .maxMemory();
+  }
+
+  @Override
+  public double getBlobCacheHitRate() {
+    return this.blobCache.getHitRate();
+  }
+
+  @Override
+  public String toString() {
+    final long commitsDone = this.getCommitsDone();
+    final StringBuilder text = new StringBuilder("progress: ");
+    text.append(commitsDone);
+    if (0 <= this.commitsTotal) {
+      text.append('/')
+          .append(this.commitsTotal)
+          .append(String.format(" commits (%.1f%%)",
+              0 == this.commitsTotal ? 100d : commitsDone * 100d / this.commitsTotal));
+    } else {
+      text.append(" commits");
+    }
+    text.append(String.format(", %.1f commits/s, %.1f blobs/s", this.commitsPerSecond,
+        this.blobsPerSecond));
+    final long eta = this.getEtaSeconds();
+    if (0 <= eta) {
+      text.append(String.format(", ETA %d:%02d:%02d", eta / 3600, (eta % 3600) / 60, eta % 60));
+    }
+    text.append(String.format(", %d active entries, heap %d/%d MB, cache hit rate %.1f%%",
+        this.getActiveEntries(), this.getHeapUsedBytes() >> 20, this.getHeapMaxBytes() >> 20,
+        this.getBlobCacheHitRate() * 100d));
+    return text.toString();
+  }
+}
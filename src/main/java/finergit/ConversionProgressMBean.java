@@ -0,0 +1,31 @@
+package finergit;
+
+/**
+ * 変換の進捗を JMX で公開するためのインタフェース．
+ */
+public interface ConversionProgressMBean {
+
+  long getCommitsDone();
+
+  /**
+   * @return 変換対象のコミット数．不明な場合は -1
+   */
+  long getCommitsTotal();
+
+  /**
+   * @return 残りの変換にかかると見込まれる秒数．不明な場合は -1
+   */
+  long getEtaSeconds();
+
+  double getCommitsPerSecond();
+
+  double getBlobsPerSecond();
+
+  long getActiveEntries();
+
+  long getHeapUsedBytes();
+
+  long getHeapMaxBytes();
+
+  double getBlobCacheHitRate();
+}
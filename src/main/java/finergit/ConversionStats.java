@@ -0,0 +1,169 @@
+package finergit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 変換処理の統計情報（処理したオブジェクト数と各段階の累積時間）を集計するクラス．
+ * 複数のスレッドから同時に更新されるため，各値は LongAdder で保持する．
+ */
+public class ConversionStats {
+
+  public final LongAdder commits = new LongAdder();
+  public final LongAdder trees = new LongAdder();
+  public final LongAdder blobs = new LongAdder();
+
+  // パスのフィルタにより読み込まずに除外したファイルとディレクトリ
+  public final LongAdder excludedEntries = new LongAdder();
+
+  // Javaファイルのうち，構文解析したもの・構文エラーにより変換しなかったもの・キャッシュを再利用したもの
+  public final LongAdder javaBlobs = new LongAdder();
+  public final LongAdder parsedBlobs = new LongAdder();
+  public final LongAdder problemBlobs = new LongAdder();
+  public final LongAdder cachedBlobs = new LongAdder();
+
+  // 構文エラーを含むメソッドを除いて変換したJavaファイル
+  public final LongAdder recoveredBlobs = new LongAdder();
+
+  // サイズや複雑さの上限を超えたため，通常の変換を行わなかったJavaファイル
+  public final LongAdder oversizedBlobs = new LongAdder();
+
+  // 変換が時間切れになった，または変換中にエラーが起きたJavaファイル
+  public final LongAdder failedBlobs = new LongAdder();
+
+  public final LongAdder modules = new LongAdder();
+  public final LongAdder bytesWritten = new LongAdder();
+
+  // 出力したモジュールのうち，同じ字句列のモジュールの blob を再利用したもの
+  public final LongAdder cachedModules = new LongAdder();
+
+  // 各段階の累積時間（ナノ秒）
+  public final LongAdder parseTime = new LongAdder();
+  public final LongAdder visitTime = new LongAdder();
+  public final LongAdder serializeTime = new LongAdder();
+  public final LongAdder insertTime = new LongAdder();
+
+  // ワーカースレッドがエントリの書き換えに費やした時間（ナノ秒）
+  public final LongAdder busyTime = new LongAdder();
+
+  // 現在書き換え中のエントリ数
+  public final LongAdder activeEntries = new LongAdder();
+
+  /**
+   * 統計情報を名前と値の対応として返す．値は数値のみで，時間はミリ秒，割合は 0 から 1 の値である．
+   *
+   * @param elapsedTime 変換全体にかかった時間（ナノ秒）
+   * @param nthreads ワーカースレッド数
+   */
+  public Map<String, Number> toMap(final long elapsedTime, final int nthreads) {
+    final double seconds = Math.max(elapsedTime, 1L) / 1_000_000_000d;
+    final Map<String, Number> map = new LinkedHashMap<>();
+    map.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(elapsedTime));
+    map.put("threads", nthreads);
+    map.put("commits", this.commits.sum());
+    map.put("trees", this.trees.sum());
+    map.put("blobs", this.blobs.sum());
+    map.put("commitsPerSecond", this.commits.sum() / seconds);
+    map.put("treesPerSecond", this.trees.sum() / seconds);
+    map.put("blobsPerSecond", this.blobs.sum() / seconds);
+    map.put("excludedEntries", this.excludedEntries.sum());
+    map.put("javaBlobs", this.javaBlobs.sum());
+    map.put("parsedBlobs", this.parsedBlobs.sum());
+    map.put("problemBlobs", this.problemBlobs.sum());
+    map.put("cachedBlobs", this.cachedBlobs.sum());
+    map.put("recoveredBlobs", this.recoveredBlobs.sum());
+    map.put("oversizedBlobs", this.oversizedBlobs.sum());
+    map.put("failedBlobs", this.failedBlobs.sum());
+    map.put("modules", this.modules.sum());
+    map.put("bytesWritten", this.bytesWritten.sum());
+    map.put("cachedModules", this.cachedModules.sum());
+    map.put("parseMillis", TimeUnit.NANOSECONDS.toMillis(this.parseTime.sum()));
+    map.put("visitMillis", TimeUnit.NANOSECONDS.toMillis(this.visitTime.sum()));
+    map.put("serializeMillis", TimeUnit.NANOSECONDS.toMillis(this.serializeTime.sum()));
+    map.put("insertMillis", TimeUnit.NANOSECONDS.toMillis(this.insertTime.sum()));
+    map.put("busyMillis", TimeUnit.NANOSECONDS.toMillis(this.busyTime.sum()));
+    map.put("threadUtilization", this.getThreadUtilization(elapsedTime, nthreads));
+    return map;
+  }
+
+  /**
+   * ワーカースレッドの稼働率を返す．全スレッドの稼働時間の和を，経過時間とスレッド数の積で割った値である．
+   */
+  public double getThreadUtilization(final long elapsedTime, final int nthreads) {
+    if (elapsedTime <= 0 || nthreads <= 0) {
+      return 0d;
+    }
+    return Math.min(1d, (double) this.busyTime.sum() / ((double) elapsedTime * nthreads));
+  }
+
+  /**
+   * 人が読むための複数行の文字列を返す．
+   */
+  public String toText(final long elapsedTime, final int nthreads) {
+    final Map<String, Number> map = this.toMap(elapsedTime, nthreads);
+    final StringBuilder text = new StringBuilder();
+    text.append(String.format("elapsed time: %d ms (%d threads, %.1f%% utilized)%n",
+        map.get("elapsedMillis"), nthreads, map.get("threadUtilization")
+            .doubleValue() * 100d));
+    text.append(String.format(
+        "visited: %d commits (%.1f/s), %d trees (%.1f/s), %d blobs (%.1f/s), %d excluded%n",
+        map.get("commits"), map.get("commitsPerSecond"), map.get("trees"),
+        map.get("treesPerSecond"), map.get("blobs"), map.get("blobsPerSecond"),
+        map.get("excludedEntries")));
+    text.append(String.format("java files: %d (%d parsed, %d skipped by problems, %d recovered, "
+        + "%d cached, %d oversized, %d failed)%n", map.get("javaBlobs"), map.get("parsedBlobs"),
+        map.get("problemBlobs"), map.get("recoveredBlobs"), map.get("cachedBlobs"),
+        map.get("oversizedBlobs"), map.get("failedBlobs")));
+    text.append(String.format("output: %d modules (%d reused), %d bytes%n", map.get("modules"),
+        map.get("cachedModules"), map.get("bytesWritten")));
+    text.append(String.format("time: parse %d ms, visit %d ms, serialize %d ms, insert %d ms",
+        map.get("parseMillis"), map.get("visitMillis"), map.get("serializeMillis"),
+        map.get("insertMillis")));
+    return text.toString();
+  }
+
+  /**
+   * 統計情報をJSON形式でファイルに書き出す．
+   */
+  public void writeJson(final Path path, final long elapsedTime, final int nthreads)
+      throws IOException {
+    final Path parent = path.toAbsolutePath()
+        .getParent();
+    if (null != parent) {
+      Files.createDirectories(parent);
+    }
+    try (final BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+      writer.write(toJson(this.toMap(elapsedTime, nthreads)));
+      writer.newLine();
+    }
+  }
+
+  static String toJson(final Map<String, Number> map) {
+    final StringBuilder json = new StringBuilder("{");
+    for (final Map.Entry<String, Number> e : map.entrySet()) {
+      if (1 < json.length()) {
+        json.append(',');
+      }
+      json.append("\n  \"")
+          .append(e.getKey())
+          .append("\": ");
+      final Number value = e.getValue();
+      if (value instanceof Double) {
+        final double d = value.doubleValue();
+        json.append(Double.isFinite(d) ? String.format(Locale.ROOT, "%.3f", d) : "0");
+      } else {
+        json.append(value.longValue());
+      }
+    }
+    return json.append("\n}")
+        .toString();
+  }
+}
@@ -0,0 +1,35 @@
+package finergit;
+
+/**
+ * 通常どおりに変換できないJavaファイル（サイズや複雑さの上限を超えたもの，変換がタイムアウトしたもの，変換中にエラーが起きたもの）の扱い方．
+ */
+public enum FallbackAction {
+
+  /**
+   * 変換せずに元のJavaファイルをそのまま出力する
+   */
+  PASSTHROUGH,
+
+  /**
+   * 構文解析せずに，元のファイルの各行をそのまま1行とするファイルモジュール（.pjava）のみを出力する
+   */
+  UNTOKENIZED,
+
+  /**
+   * 何も出力しない
+   */
+  SKIP;
+
+  public static FallbackAction get(final String text) {
+    switch (text.toLowerCase()) {
+      case "passthrough":
+        return PASSTHROUGH;
+      case "untokenized":
+        return UNTOKENIZED;
+      case "skip":
+        return SKIP;
+      default:
+        return null;
+    }
+  }
+}
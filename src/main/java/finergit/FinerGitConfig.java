@@ -3,12 +3,18 @@ package finergit;
 import static java.lang.System.exit;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
 import org.kohsuke.args4j.Option;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ch.qos.logback.classic.Level;
 
-public class FinerGitConfig {
+public class FinerGitConfig implements Cloneable {
 
   private Path srcPath = null;
   private Path desPath = null;
@@ -30,11 +36,40 @@ public class FinerGitConfig {
   private boolean isFieldFileGenerated = false;
   private int maxFileNameLength = 255;
   private int hashLength = 7;
+  private boolean isIncremental = false;
+  private boolean isObjectStoreShared = false;
+  private boolean isCheckedOut = true;
+  private boolean isPipelined = false;
+  private int parseThreads;
+  private boolean isTwoPhase = false;
+  private boolean isMethodIndexed = false;
+  private boolean isPackOutput = false;
+  private int packSize = 1024;
+  private int shardIndex = 0;
+  private int shardCount = 0;
+  private List<Path> shardPaths = new ArrayList<>();
+  private List<String> targetSpecs = new ArrayList<>();
+  private Path blobCachePath = null;
+  private int blobCacheSize = 100000;
+  private int moduleCacheSize = 1000000;
+  private Path reportPath = null;
+  private int progressInterval = 60;
+  private boolean isJmxEnabled = false;
+  private List<String> includePatterns = new ArrayList<>();
+  private List<String> excludePatterns = new ArrayList<>();
+  private long maxFileSize = 0;
+  private int maxTokens = 0;
+  private int maxNestingDepth = 0;
+  private FallbackAction oversizeAction = FallbackAction.PASSTHROUGH;
+  private int parseTimeout = 0;
+  private FallbackAction parseFailureAction = FallbackAction.SKIP;
+  private boolean isSyntaxErrorRecovered = false;
 
   public FinerGitConfig() {
     final int cpu = Runtime.getRuntime()
         .availableProcessors();
     this.nthreads = 1 < cpu ? cpu - 1 : 1;
+    this.parseThreads = cpu;
   }
   // ===== "-s" =====
 
@@ -67,7 +102,8 @@ public class FinerGitConfig {
     return this.headCommitId;
   }
 
-  @Option(name = "--head", metaVar = "<commitId>", usage = "commitId for HEAD of finer repository")
+  @Option(name = "--head", metaVar = "<commit|ref|A..B>",
+      usage = "convert only history reachable from the given commit, ref or range")
   public void setHeadCommit(final String headCommitId) {
     this.headCommitId = headCommitId;
   }
@@ -214,6 +250,273 @@ public class FinerGitConfig {
     this.nthreads = getIntValue(nthreads, errorMessage);
   }
 
+  // ===== "--incremental" =====
+
+  public boolean isIncremental() {
+    return this.isIncremental;
+  }
+
+  @Option(name = "--incremental", metaVar = "<true|false>)",
+      usage = "rewrite only commits added since the last run on the output repository")
+  public void setIncremental(final String flag) {
+    final String errorMessage = "\"--incremental\" option can take only true or false";
+    this.isIncremental = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--shared-objects" =====
+
+  public boolean isObjectStoreShared() {
+    return this.isObjectStoreShared;
+  }
+
+  @Option(name = "--shared-objects", metaVar = "<true|false>)",
+      usage = "create output repository sharing objects with input repository instead of copying")
+  public void setObjectStoreShared(final String flag) {
+    final String errorMessage = "\"--shared-objects\" option can take only true or false";
+    this.isObjectStoreShared = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--checkout" =====
+
+  public boolean isCheckedOut() {
+    return this.isCheckedOut;
+  }
+
+  @Option(name = "--checkout", metaVar = "<true|false>)",
+      usage = "check out HEAD of output repository after conversion")
+  public void setCheckedOut(final String flag) {
+    final String errorMessage = "\"--checkout\" option can take only true or false";
+    this.isCheckedOut = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--pipeline" =====
+
+  public boolean isPipelined() {
+    return this.isPipelined;
+  }
+
+  @Option(name = "--pipeline", metaVar = "<true|false>)",
+      usage = "read, parse and write Java files in a pipeline independent of -n threads")
+  public void setPipelined(final String flag) {
+    final String errorMessage = "\"--pipeline\" option can take only true or false";
+    this.isPipelined = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--parse-threads" =====
+
+  public int getParseThreads() {
+    return this.parseThreads;
+  }
+
+  @Option(name = "--parse-threads", metaVar = "<num>",
+      usage = "number of threads to parse Java files in the pipeline")
+  public void setParseThreads(final int parseThreads) {
+    if (parseThreads < 1) {
+      System.err.println("option \"--parse-threads\" must be 1 or more");
+      exit(0);
+    }
+    this.parseThreads = parseThreads;
+  }
+
+  // ===== "--two-phase" =====
+
+  public boolean isTwoPhase() {
+    return this.isTwoPhase;
+  }
+
+  @Option(name = "--two-phase", metaVar = "<true|false>)",
+      usage = "convert all Java files in history in parallel before rewriting commits")
+  public void setTwoPhase(final String flag) {
+    final String errorMessage = "\"--two-phase\" option can take only true or false";
+    this.isTwoPhase = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--method-index" =====
+
+  public boolean isMethodIndexed() {
+    return this.isMethodIndexed;
+  }
+
+  @Option(name = "--method-index", metaVar = "<true|false>)",
+      usage = "write an index of changes to method files into .git/finergit/method-index")
+  public void setMethodIndexed(final String flag) {
+    final String errorMessage = "\"--method-index\" option can take only true or false";
+    this.isMethodIndexed = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--pack-output" =====
+
+  public boolean isPackOutput() {
+    return this.isPackOutput;
+  }
+
+  @Option(name = "--pack-output", metaVar = "<true|false>)",
+      usage = "write finer modules directly into packfiles instead of loose objects")
+  public void setPackOutput(final String flag) {
+    final String errorMessage = "\"--pack-output\" option can take only true or false";
+    this.isPackOutput = getBooleanValue(flag, errorMessage);
+  }
+
+  // ===== "--pack-size" =====
+
+  /**
+   * "--pack-output" で1つの pack に書き込む内容の合計（圧縮前，MB）の上限を返す．
+   */
+  public int getPackSize() {
+    return this.packSize;
+  }
+
+  @Option(name = "--pack-size", metaVar = "<MB>",
+      usage = "max uncompressed size of finer modules written into a single pack")
+  public void setPackSize(final int packSize) {
+    if (packSize < 1) {
+      System.err.println("option \"--pack-size\" must be 1 or more");
+      exit(0);
+    }
+    this.packSize = packSize;
+  }
+
+  // ===== "--shard" =====
+
+  /**
+   * シャードのワーカとして実行する（"--shard" が指定された）場合に true を返す．
+   */
+  public boolean isShardWorker() {
+    return 0 < this.shardCount;
+  }
+
+  public int getShardIndex() {
+    return this.shardIndex;
+  }
+
+  public int getShardCount() {
+    return this.shardCount;
+  }
+
+  @Option(name = "--shard", metaVar = "<index>/<count>",
+      usage = "convert only Java files of the shard (0-origin) into the output repository")
+  public void setShard(final String shard) {
+    final String errorMessage = "option \"--shard\" must be <index>/<count> (0 <= index < count)";
+    final String[] items = shard.split("/");
+    try {
+      if (2 == items.length) {
+        this.shardIndex = Integer.parseInt(items[0]);
+        this.shardCount = Integer.parseInt(items[1]);
+      }
+    } catch (final NumberFormatException e) {
+      this.shardCount = 0;
+    }
+    if (2 != items.length || this.shardIndex < 0 || this.shardCount <= this.shardIndex) {
+      System.err.println(errorMessage);
+      exit(0);
+    }
+  }
+
+  // ===== "--merge-shard" =====
+
+  public List<Path> getShardPaths() {
+    return this.shardPaths;
+  }
+
+  @Option(name = "--merge-shard", metaVar = "<path>",
+      usage = "reuse Java files converted by a shard worker (can be specified multiple times)")
+  public void addShardPath(final String path) {
+    this.shardPaths.add(Paths.get(path)
+        .toAbsolutePath());
+  }
+
+  // ===== "--target" =====
+
+  @Option(name = "--target", metaVar = "\"<path> [<option> ...]\"",
+      usage = "also generate a finer repository at <path> with different options (repeatable)")
+  public void addTargetSpec(final String spec) {
+    if (spec.isBlank()) {
+      System.err.println("option \"--target\" must start with a path");
+      exit(0);
+    }
+    this.targetSpecs.add(spec.trim());
+  }
+
+  /**
+   * "--target" で指定された出力先ごとの設定を返す．各設定はこの設定の出力先と指定されたオプションのみを変えたものである．
+   * 構文解析の結果を共有するため，Javaのバージョンと構文エラーの復元は変えられない．
+   * 統計情報の出力先とシャードの取り込みは出力先ごとのものなので引き継がず，指定された場合のみ設定する．
+   */
+  public List<FinerGitConfig> getTargetConfigs() {
+    final List<FinerGitConfig> configs = new ArrayList<>();
+    for (final String spec : this.targetSpecs) {
+      final List<String> items = splitTargetSpec(spec);
+      if (items.isEmpty()) {
+        System.err.println("option \"--target\" must start with a path");
+        exit(0);
+      }
+      final FinerGitConfig config = this.copy();
+      config.targetSpecs = new ArrayList<>();
+      config.shardPaths = new ArrayList<>();
+      config.reportPath = null;
+      final List<String> args =
+          new ArrayList<>(Arrays.asList("-s", this.srcPath.toString(), "-d", items.get(0)));
+      args.addAll(items.subList(1, items.size()));
+      try {
+        new CmdLineParser(config).parseArgument(args);
+      } catch (final CmdLineException e) {
+        System.err.println("inappropriate option in \"--target\": " + e.getMessage());
+        exit(0);
+      }
+      if (this.javaVersion != config.javaVersion
+          || this.isSyntaxErrorRecovered != config.isSyntaxErrorRecovered
+          || !config.targetSpecs.isEmpty()) {
+        System.err.println("option \"--target\" cannot change \"--java-version\", "
+            + "\"--recover-syntax-errors\" or \"--target\"");
+        exit(0);
+      }
+      configs.add(config);
+    }
+    return configs;
+  }
+
+  /**
+   * "--target" の値を空白で区切る．空白を含むパスやオプションの値は ' か " で囲んで指定できる．
+   * Windows のパスを扱えるように，\ によるエスケープは行わない．
+   */
+  static List<String> splitTargetSpec(final String spec) {
+    final List<String> items = new ArrayList<>();
+    final StringBuilder item = new StringBuilder();
+    boolean isInItem = false;
+    char quote = 0;
+    for (int index = 0; index < spec.length(); index++) {
+      final char c = spec.charAt(index);
+      if (0 != quote) {
+        if (c == quote) {
+          quote = 0;
+        } else {
+          item.append(c);
+        }
+      } else if (Character.isWhitespace(c)) {
+        if (isInItem) {
+          items.add(item.toString());
+          item.setLength(0);
+          isInItem = false;
+        }
+      } else {
+        isInItem = true;
+        if ('\'' == c || '"' == c) {
+          quote = c;
+        } else {
+          item.append(c);
+        }
+      }
+    }
+    if (0 != quote) {
+      System.err.println("unterminated quote in \"--target\": " + spec);
+      exit(0);
+    }
+    if (isInItem) {
+      items.add(item.toString());
+    }
+    return items;
+  }
+
   // ===== "--max-file-name-length" =====
 
   public int getMaxFileNameLength() {
@@ -298,6 +601,256 @@ public class FinerGitConfig {
     this.isFieldFileGenerated = getBooleanValue(flag, errorMessage);
   }
 
+  // ===== "--blob-cache" =====
+
+  public Path getBlobCachePath() {
+    return this.blobCachePath;
+  }
+
+  @Option(name = "--blob-cache", metaVar = "<path>",
+      usage = "directory to keep converted Java files across runs")
+  public void setBlobCachePath(final String path) {
+    this.blobCachePath = Paths.get(path)
+        .toAbsolutePath();
+  }
+
+  // ===== "--blob-cache-size" =====
+
+  public int getBlobCacheSize() {
+    return this.blobCacheSize;
+  }
+
+  @Option(name = "--blob-cache-size", metaVar = "<num>",
+      usage = "max number of Java files kept in the blob cache")
+  public void setBlobCacheSize(final int blobCacheSize) {
+    if (blobCacheSize < 0) {
+      System.err.println("option \"--blob-cache-size\" must be 0 or more");
+      exit(0);
+    }
+    this.blobCacheSize = blobCacheSize;
+  }
+
+  // ===== "--module-cache-size" =====
+
+  public int getModuleCacheSize() {
+    return this.moduleCacheSize;
+  }
+
+  @Option(name = "--module-cache-size", metaVar = "<num>",
+      usage = "max number of finer modules whose blob IDs are reused for the same tokens")
+  public void setModuleCacheSize(final int moduleCacheSize) {
+    if (moduleCacheSize < 0) {
+      System.err.println("option \"--module-cache-size\" must be 0 or more");
+      exit(0);
+    }
+    this.moduleCacheSize = moduleCacheSize;
+  }
+
+  // ===== "--include" =====
+
+  public List<String> getIncludePatterns() {
+    return this.includePatterns;
+  }
+
+  @Option(name = "--include", metaVar = "<glob>",
+      usage = "convert only files matching the glob (can be specified multiple times)")
+  public void addIncludePattern(final String glob) {
+    this.includePatterns.add(glob);
+  }
+
+  // ===== "--exclude" =====
+
+  public List<String> getExcludePatterns() {
+    return this.excludePatterns;
+  }
+
+  @Option(name = "--exclude", metaVar = "<glob>",
+      usage = "skip files and directories matching the glob (can be specified multiple times)")
+  public void addExcludePattern(final String glob) {
+    this.excludePatterns.add(glob);
+  }
+
+  // ===== "--max-file-size" =====
+
+  public long getMaxFileSize() {
+    return this.maxFileSize;
+  }
+
+  @Option(name = "--max-file-size", metaVar = "<bytes>",
+      usage = "max size of Java files to be converted (0 for no limit)")
+  public void setMaxFileSize(final long maxFileSize) {
+    if (maxFileSize < 0) {
+      System.err.println("option \"--max-file-size\" must be 0 or more");
+      exit(0);
+    }
+    this.maxFileSize = maxFileSize;
+  }
+
+  // ===== "--max-tokens" =====
+
+  public int getMaxTokens() {
+    return this.maxTokens;
+  }
+
+  @Option(name = "--max-tokens", metaVar = "<num>",
+      usage = "max number of tokens in Java files to be converted (0 for no limit)")
+  public void setMaxTokens(final int maxTokens) {
+    if (maxTokens < 0) {
+      System.err.println("option \"--max-tokens\" must be 0 or more");
+      exit(0);
+    }
+    this.maxTokens = maxTokens;
+  }
+
+  // ===== "--max-nesting-depth" =====
+
+  public int getMaxNestingDepth() {
+    return this.maxNestingDepth;
+  }
+
+  @Option(name = "--max-nesting-depth", metaVar = "<num>",
+      usage = "max nesting depth of brackets in Java files to be converted (0 for no limit)")
+  public void setMaxNestingDepth(final int maxNestingDepth) {
+    if (maxNestingDepth < 0) {
+      System.err.println("option \"--max-nesting-depth\" must be 0 or more");
+      exit(0);
+    }
+    this.maxNestingDepth = maxNestingDepth;
+  }
+
+  // ===== "--oversize-action" =====
+
+  public FallbackAction getOversizeAction() {
+    return this.oversizeAction;
+  }
+
+  @Option(name = "--oversize-action", metaVar = "<passthrough|untokenized|skip>",
+      usage = "how to treat Java files over the size limits")
+  public void setOversizeAction(final String action) {
+    final FallbackAction oversizeAction = FallbackAction.get(action);
+    if (null == oversizeAction) {
+      System.err.println("inappropriate value for \"--oversize-action\" option");
+      exit(0);
+    }
+    this.oversizeAction = oversizeAction;
+  }
+
+  // ===== "--parse-timeout" =====
+
+  public int getParseTimeout() {
+    return this.parseTimeout;
+  }
+
+  @Option(name = "--parse-timeout", metaVar = "<sec>",
+      usage = "time limit in seconds to convert a Java file (0 for no limit)")
+  public void setParseTimeout(final int parseTimeout) {
+    if (parseTimeout < 0) {
+      System.err.println("option \"--parse-timeout\" must be 0 or more");
+      exit(0);
+    }
+    this.parseTimeout = parseTimeout;
+  }
+
+  // ===== "--parse-failure-action" =====
+
+  public FallbackAction getParseFailureAction() {
+    return this.parseFailureAction;
+  }
+
+  @Option(name = "--parse-failure-action", metaVar = "<passthrough|skip>",
+      usage = "how to treat Java files whose conversion timed out or crashed")
+  public void setParseFailureAction(final String action) {
+    final FallbackAction parseFailureAction = FallbackAction.get(action);
+    if (null == parseFailureAction || FallbackAction.UNTOKENIZED == parseFailureAction) {
+      System.err.println("inappropriate value for \"--parse-failure-action\" option");
+      exit(0);
+    }
+    this.parseFailureAction = parseFailureAction;
+  }
+
+  // ===== "--recover-syntax-errors" =====
+
+  public boolean isSyntaxErrorRecovered() {
+    return this.isSyntaxErrorRecovered;
+  }
+
+  @Option(name = "--recover-syntax-errors", metaVar = "<true|false>",
+      usage = "convert Java files with syntax errors except for broken methods")
+  public void setSyntaxErrorRecovered(final String flag) {
+    final String errorMessage = "\"--recover-syntax-errors\" option can take only true or false";
+    this.isSyntaxErrorRecovered = getBooleanValue(flag, errorMessage);
+  }
+
+  // リストを共有しない複製を返す
+  private FinerGitConfig copy() {
+    try {
+      final FinerGitConfig config = (FinerGitConfig) super.clone();
+      config.includePatterns = new ArrayList<>(this.includePatterns);
+      config.excludePatterns = new ArrayList<>(this.excludePatterns);
+      config.shardPaths = new ArrayList<>(this.shardPaths);
+      config.targetSpecs = new ArrayList<>(this.targetSpecs);
+      return config;
+    } catch (final CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * シャードのワーカ用に，変換結果を引数のディレクトリに件数の上限なく保存する設定を返す．
+   */
+  public FinerGitConfig getShardWorkerConfig(final Path mappingDirectory) {
+    try {
+      final FinerGitConfig config = (FinerGitConfig) super.clone();
+      config.blobCachePath = mappingDirectory;
+      config.blobCacheSize = Integer.MAX_VALUE;
+      return config;
+    } catch (final CloneNotSupportedException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  // ===== "--report" =====
+
+  public Path getReportPath() {
+    return this.reportPath;
+  }
+
+  @Option(name = "--report", metaVar = "<path>",
+      usage = "file to write performance statistics of the conversion in JSON")
+  public void setReportPath(final String path) {
+    this.reportPath = Paths.get(path)
+        .toAbsolutePath();
+  }
+
+  // ===== "--progress-interval" =====
+
+  public int getProgressInterval() {
+    return this.progressInterval;
+  }
+
+  @Option(name = "--progress-interval", metaVar = "<sec>",
+      usage = "interval in seconds to log progress of the conversion (0 to disable)")
+  public void setProgressInterval(final int progressInterval) {
+    if (progressInterval < 0) {
+      System.err.println("option \"--progress-interval\" must be 0 or more");
+      exit(0);
+    }
+    this.progressInterval = progressInterval;
+  }
+
+  // ===== "--jmx" =====
+
+  public boolean isJmxEnabled() {
+    return this.isJmxEnabled;
+  }
+
+  @Option(name = "--jmx", metaVar = "<true|false>",
+      usage = "expose progress of the conversion as a JMX MBean")
+  public void setJmxEnabled(final String flag) {
+    final String errorMessage = "\"--jmx\" option can take only true or false";
+    this.isJmxEnabled = getBooleanValue(flag, errorMessage);
+  }
+
   // ===== "-l" =====
   @Option(name = "-l", aliases = "--log-level", metaVar = "<level>",
       usage = "log level (trace, debug, info, warn, error)")
@@ -332,6 +885,51 @@ public class FinerGitConfig {
     }
   }
 
+  /**
+   * 生成されるファイルの名前と内容に影響する設定から算出したハッシュ値を返す．この値が同じ設定同士では変換結果も同じになる．
+   *
+   * @return
+   */
+  public String getFingerprint() {
+    final StringBuilder text = new StringBuilder();
+    text.append(this.javaVersion.name())
+        .append(',')
+        .append(this.isTokenized)
+        .append(',')
+        .append(this.isAccessModifierIncluded)
+        .append(',')
+        .append(this.isMethodTypeErasureIncluded)
+        .append(',')
+        .append(this.isReturnTypeIncluded)
+        .append(',')
+        .append(this.isTokenTypeIncluded)
+        .append(',')
+        .append(this.isMethodTokenIncluded)
+        .append(',')
+        .append(this.isPeripheralFileGenerated)
+        .append(',')
+        .append(this.isClassFileGenerated)
+        .append(',')
+        .append(this.isMethodFileGenerated)
+        .append(',')
+        .append(this.isFieldFileGenerated)
+        .append(',')
+        .append(this.maxFileNameLength)
+        .append(',')
+        .append(this.hashLength)
+        .append(',')
+        .append(this.maxFileSize)
+        .append(',')
+        .append(this.maxTokens)
+        .append(',')
+        .append(this.maxNestingDepth)
+        .append(',')
+        .append(this.oversizeAction.name())
+        .append(',')
+        .append(this.isSyntaxErrorRecovered);
+    return DigestUtils.sha1Hex(text.toString());
+  }
+
   private boolean getBooleanValue(final String flag, final String message) {
     switch (flag.toLowerCase()) {
       case "true": {
@@ -38,10 +38,13 @@ public class FinerGitMain {
     timer.start();
 
     final FinerGitMain finerGitMain = new FinerGitMain(config);
-    finerGitMain.exec();
+    final boolean succeeded = finerGitMain.exec();
 
     timer.stop();
     log.info("elapsed time: {}", timer.toString());
+    if (!succeeded) {
+      System.exit(1);
+    }
   }
 
   private final FinerGitConfig config;
@@ -58,9 +61,12 @@ public class FinerGitMain {
     windowCacheConfig.install();
   }
 
-  public void exec() {
+  /**
+   * @return 細粒度リポジトリを生成できた場合は true
+   */
+  public boolean exec() {
     log.trace("enter exec()");
     final FinerRepoBuilder builder = new FinerRepoBuilder(this.config);
-    builder.exec();
+    return null != builder.exec();
   }
 }
@@ -1,12 +1,38 @@
 package finergit;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.errors.MissingObjectException;
+import org.eclipse.jgit.internal.storage.file.ObjectDirectory;
+import org.eclipse.jgit.internal.storage.file.PackInserter;
+import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import finergit.ast.FinerJavaFileBuilder;
 import finergit.ast.FinerJavaModule;
+import finergit.ast.OversizeGuard;
+import finergit.util.ByteArrayBuilder;
 import finergit.util.RevCommitUtil;
 import jp.ac.titech.c.se.stein.core.Context;
 import jp.ac.titech.c.se.stein.entry.AnyColdEntry;
@@ -17,13 +43,87 @@ public class FinerGitRewriter extends RepositoryRewriter {
 
   private static final Logger log = LoggerFactory.getLogger(FinerGitRewriter.class);
 
+  // 細粒度モジュールの内容を書き込むためのスレッドごとのバッファ
+  private static final ThreadLocal<ByteArrayBuilder> BUFFER =
+      ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+  // パイプラインで同時に処理中とするファイル数の，構文解析スレッドあたりの上限
+  private static final int PIPELINE_CAPACITY_PER_THREAD = 4;
+
+  // 事前変換の対象とするJavaファイルとそのサイズ
+  private record SizedBlob(Entry entry, long size) {
+  }
+
   private final FinerGitConfig config;
 
   private final FinerJavaFileBuilder builder;
 
+  private final OversizeGuard oversizeGuard;
+
+  // 変換に時間の上限を課すための専用のスレッド（上限が設定された場合のみ）
+  private final ParseExecutor parseExecutor;
+
+  // 1ファイルの変換の時間の上限（ミリ秒）
+  private final long parseTimeout;
+
+  // 読み込み・構文解析・書き込みを並行に行うパイプライン（"--pipeline" が指定された場合のみ）
+  private final ConversionPipeline pipeline;
+
+  private final BlobCache blobCache;
+
+  // 同じ字句列のモジュールについて書き込んだ blob ID
+  private final ModuleCache moduleCache;
+
+  // モジュールの blob を pack に直接書き込む（"--pack-output" が指定された場合のみ）
+  private BlobPackWriter packWriter;
+
+  private final PathFilter pathFilter;
+
+  private final ConversionStats stats;
+
+  private Repository sourceRepository;
+
+  private Repository targetRepository;
+
+  // パイプラインに投入された変換（キーは BlobCache と同じく blob ID とファイル名）
+  private final Map<String, CompletableFuture<List<BlobCache.Module>>> pendingModules;
+
+  // 事前変換で変換に失敗したファイルとその理由（キーは pendingModules と同じ）
+  private final Map<String, String> failedModules;
+
+  // "--target" で指定された別の出力先と，それらを含むすべての設定（先頭はこの書き換えの設定）
+  private final List<OutputTarget> outputTargets;
+  private final List<FinerGitConfig> targetConfigs;
+
+  // 以前の実行で変換済みのコミット（インクリメンタル変換時のみ）
+  private final List<ObjectId> convertedCommits;
+
+  // 変換対象の履歴（"--head" が指定された場合のみ）
+  private HeadSelection headSelection;
+
   public FinerGitRewriter(final FinerGitConfig config) {
     this.config = config;
-    this.builder = new FinerJavaFileBuilder(config);
+    this.stats = new ConversionStats();
+    this.builder = new FinerJavaFileBuilder(config, this.stats);
+    this.oversizeGuard = new OversizeGuard(config);
+    this.parseTimeout = config.getParseTimeout() * 1000L;
+    this.parseExecutor = 0 < this.parseTimeout ? new ParseExecutor(config.isPipelined()
+        ? config.getParseThreads()
+        : config.getNumberOfThreads()) : null;
+    this.blobCache = new BlobCache(config.getBlobCachePath(), config.getFingerprint(),
+        config.getBlobCacheSize());
+    this.moduleCache = new ModuleCache(config.getModuleCacheSize());
+    this.pathFilter = new PathFilter(config.getIncludePatterns(), config.getExcludePatterns());
+    this.convertedCommits = new ArrayList<>();
+    this.pendingModules = new ConcurrentHashMap<>();
+    this.failedModules = new ConcurrentHashMap<>();
+    this.outputTargets = new ArrayList<>();
+    this.targetConfigs = new ArrayList<>(List.of(config));
+    this.pipeline = config.isPipelined()
+        ? new ConversionPipeline(id -> source.readBlob(id), this::convertInPipeline, this.stats,
+            this.moduleCache, config.getParseThreads(),
+            PIPELINE_CAPACITY_PER_THREAD * config.getParseThreads())
+        : null;
     final jp.ac.titech.c.se.stein.Application.Config steinConfig =
         new jp.ac.titech.c.se.stein.Application.Config();
     steinConfig.nthreads = config.getNumberOfThreads();
@@ -31,42 +131,620 @@ public class FinerGitRewriter extends RepositoryRewriter {
     this.isPathSensitive = true;
   }
 
+  @Override
+  public void initialize(final Repository sourceRepo, final Repository targetRepo) {
+    super.initialize(sourceRepo, targetRepo);
+    this.sourceRepository = sourceRepo;
+    this.targetRepository = targetRepo;
+    if (config.isPackOutput()) {
+      this.packWriter = new BlobPackWriter(targetRepo, config.getPackSize() * 1024L * 1024L);
+    }
+  }
+
+  public BlobCache getBlobCache() {
+    return this.blobCache;
+  }
+
+  public ModuleCache getModuleCache() {
+    return this.moduleCache;
+  }
+
+  public ConversionStats getStats() {
+    return this.stats;
+  }
+
+  /**
+   * 以前の実行で得られたコミットの対応を登録する．登録されたコミットは再変換されず，新しいコミットの親として使われる．
+   *
+   * @param mapping 元のコミットIDから細粒度コミットIDへの対応
+   */
+  public void addCommitMapping(final Map<ObjectId, ObjectId> mapping) {
+    this.commitMapping.putAll(mapping);
+    this.convertedCommits.addAll(mapping.keySet());
+  }
+
+  public Map<ObjectId, ObjectId> getCommitMapping() {
+    return this.commitMapping;
+  }
+
+  /**
+   * 同じ構文解析の結果から，別の設定の出力先のためのモジュールも生成する．
+   */
+  public void addOutputTarget(final OutputTarget target) {
+    this.outputTargets.add(target);
+    this.targetConfigs.add(target.getConfig());
+  }
+
+  /**
+   * 変換対象をすべての参照ではなく，指定されたコミットから辿れる履歴に限定する．
+   */
+  public void setHeadSelection(final HeadSelection headSelection) {
+    this.headSelection = headSelection;
+  }
+
+  @Override
+  protected Collection<ObjectId> collectStarts(final Context c) {
+    if (null == this.headSelection) {
+      return super.collectStarts(c);
+    }
+    return Collections.singletonList(this.headSelection.start);
+  }
+
+  @Override
+  protected Collection<ObjectId> collectUninterestings(final Context c) {
+    final List<ObjectId> uninterestings = new ArrayList<>(super.collectUninterestings(c));
+    uninterestings.addAll(this.convertedCommits);
+    if (null != this.headSelection && null != this.headSelection.exclude) {
+      uninterestings.add(this.headSelection.exclude);
+    }
+    return uninterestings;
+  }
+
   @Override
   protected String rewriteCommitMessage(final String message, final Context c) {
+    this.stats.commits.increment();
     return "<OriginalCommitID:" + RevCommitUtil.getAbbreviatedID(c.getCommit()) + "> " + message;
   }
 
   @Override
   protected AnyColdEntry rewriteEntry(final Entry entry, final Context c) {
+    // 対象外のパスは読み込まずに除外する．ディレクトリの場合は部分木ごと除外する
+    if (!this.pathFilter.isEmpty()) {
+      final String path = getPath(entry);
+      if (entry.isTree() ? !this.pathFilter.acceptsDirectory(path)
+          : !this.pathFilter.accepts(path)) {
+        log.debug("Exclude {} {}", entry, c);
+        this.stats.excludedEntries.increment();
+        return AnyColdEntry.empty();
+      }
+    }
+
     if (entry.isTree()) {
+      this.stats.trees.increment();
+      if (null != this.pipeline) {
+        final List<String> keys = submitFinerModules(entry, c);
+        try {
+          return super.rewriteEntry(entry, c);
+        } finally {
+          keys.forEach(this.pendingModules::remove);
+        }
+      }
       return super.rewriteEntry(entry, c);
     }
 
+    this.stats.blobs.increment();
+    this.stats.activeEntries.increment();
+    final long startTime = System.nanoTime();
+    try {
+      return rewriteBlobEntry(entry, c);
+    } finally {
+      this.stats.busyTime.add(System.nanoTime() - startTime);
+      this.stats.activeEntries.decrement();
+    }
+  }
+
+  private AnyColdEntry rewriteBlobEntry(final Entry entry, final Context c) {
+
     // Treats non-java files
     if (!entry.name.endsWith(".java")) {
       return config.isOtherFilesIncluded() ? super.rewriteEntry(entry, c) : AnyColdEntry.empty();
     }
 
     // Convert to finer modules
+    this.stats.javaBlobs.increment();
     final AnyColdEntry.Set result = AnyColdEntry.set();
     if (config.isOriginalJavaIncluded()) {
       log.debug("Keep original file: {} {}", entry, c);
       result.add(entry);
     }
-    for (final FinerJavaModule m : extractFinerModules(entry, c)) {
-      final String finerSource = // 最終行に改行を入れないと途中行とのマッチングが正しく行われない
-          String.join(System.lineSeparator(), m.getLines()) + System.lineSeparator();
-      final ObjectId newId = target.writeBlob(finerSource.getBytes(StandardCharsets.UTF_8), c);
+
+    // 同じファイル名・同じ内容のJavaファイルを変換済みの場合は，その結果を再利用する
+    final List<BlobCache.Module> cachedModules = getCachedModules(entry);
+    if (null != cachedModules) {
+      this.stats.cachedBlobs.increment();
+      for (final BlobCache.Module m : cachedModules) {
+        log.debug("Reuse finer module: {} -> {} {} {}", entry, m.fileName(), m.id()
+            .name(), c);
+        result.add(Entry.of(entry.mode, m.fileName(), m.id(), entry.directory));
+      }
+      return result;
+    }
+
+    // 事前変換で失敗したファイルは変換し直さない
+    final String failure = this.failedModules.get(getPrefetchKey(entry.id, entry.name));
+    if (null != failure) {
+      return parseFailure(entry, new ParseExecutor.ParseFailure(failure), result, c);
+    }
+
+    // パイプラインで変換済みの場合はその結果を使う．変換されなかった場合は以下で1ファイルずつ変換し直す
+    final CompletableFuture<List<BlobCache.Module>> pending =
+        this.pendingModules.remove(getPrefetchKey(entry.id, entry.name));
+    if (null != pending) {
+      try {
+        final List<BlobCache.Module> pipelinedModules = pending.join();
+        if (null != pipelinedModules) {
+          for (final BlobCache.Module m : pipelinedModules) {
+            log.debug("Generate finer module: {} -> {} {} {}", entry, m.fileName(), m.id()
+                .name(), c);
+            result.add(Entry.of(entry.mode, m.fileName(), m.id(), entry.directory));
+          }
+          this.blobCache.put(entry.id, entry.name, pipelinedModules);
+          return result;
+        }
+      } catch (final CompletionException e) {
+        if (e.getCause() instanceof ParseExecutor.ParseFailure pipelineFailure) {
+          return parseFailure(entry, pipelineFailure, result, c);
+        }
+        log.debug("Failed to convert Java file in pipeline ({}): {} {}", e.getCause(), entry, c);
+      }
+    }
+
+    List<FinerJavaModule> modules = null;
+    String text = null;
+
+    // サイズや複雑さの上限を超えたファイルは，設定に応じて変換せずに出力するか，構文解析せずに各行を字句として出力するか，何も出力しない
+    if (this.oversizeGuard.isEnabled()) {
+      String reason = this.oversizeGuard.checkSize(getBlobSize(entry));
+      if (null == reason) {
+        text = readText(entry);
+        reason = this.oversizeGuard.checkText(text);
+      }
+      if (null != reason) {
+        final FallbackAction action = config.getOversizeAction();
+        log.info("Oversized Java file ({}): {} -> {} {}", reason, entry, action, c);
+        this.stats.oversizedBlobs.increment();
+        if (FallbackAction.UNTOKENIZED != action) {
+          return fallback(entry, action, result);
+        }
+        modules = this.builder.getUnparsedModules(getPath(entry),
+            null != text ? text : readText(entry));
+      }
+    }
+
+    // 変換が時間切れになった場合やエラーが起きた場合も，設定に応じて元のファイルを出力するか何も出力しない
+    if (null == modules) {
+      try {
+        modules = this.outputTargets.isEmpty()
+            ? extractFinerModules(this.builder, getPath(entry),
+                null != text ? text : readText(entry))
+            : extractTargetModules(entry, null != text ? text : readText(entry));
+      } catch (final ParseExecutor.ParseFailure e) {
+        return parseFailure(entry, e, result, c);
+      }
+    }
+
+    final List<BlobCache.Module> newModules = new ArrayList<>();
+    for (final FinerJavaModule m : modules) {
+      // 同じ字句列のモジュールを書き込み済みの場合は，内容を作らずにその blob を再利用する
       final String name = m.getFileName();
+      final FinerJavaModule.TokenHash hash = m.getTokenHash();
+      ObjectId newId = this.moduleCache.get(name, hash);
+      if (null != newId) {
+        this.stats.cachedModules.increment();
+      } else {
+        // 最終行に改行を入れないと途中行とのマッチングが正しく行われない
+        final long serializeStartTime = System.nanoTime();
+        final ByteArrayBuilder finerSource = BUFFER.get();
+        finerSource.reset();
+        m.writeTo(finerSource);
+        final byte[] content = finerSource.toByteArray();
+        final long insertStartTime = System.nanoTime();
+        newId = this.writeBlob(content, c);
+        this.stats.serializeTime.add(insertStartTime - serializeStartTime);
+        this.stats.insertTime.add(System.nanoTime() - insertStartTime);
+        this.stats.bytesWritten.add(content.length);
+        this.moduleCache.put(name, hash, newId);
+      }
+      this.stats.modules.increment();
       log.debug("Generate finer module: {} -> {} {} {}", entry, name, newId.name(), c);
       result.add(Entry.of(entry.mode, name, newId, entry.directory));
+      newModules.add(new BlobCache.Module(name, newId));
+    }
+    this.blobCache.put(entry.id, entry.name, newModules);
+    return result;
+  }
+
+  private AnyColdEntry.Set parseFailure(final Entry entry, final ParseExecutor.ParseFailure e,
+      final AnyColdEntry.Set result, final Context c) {
+    final FallbackAction action = config.getParseFailureAction();
+    log.warn("Failed to convert Java file ({}): {} -> {} {}", e.getMessage(), entry, action, c);
+    this.stats.failedBlobs.increment();
+    return fallback(entry, action, result);
+  }
+
+  private AnyColdEntry.Set fallback(final Entry entry, final FallbackAction action,
+      final AnyColdEntry.Set result) {
+    if (FallbackAction.PASSTHROUGH == action && !config.isOriginalJavaIncluded()) {
+      result.add(entry);
     }
     return result;
   }
 
-  protected List<FinerJavaModule> extractFinerModules(final Entry entry, final Context c) {
-    final String base = entry.directory + "/" + entry.name;
-    final String body = new String(source.readBlob(entry.id), StandardCharsets.UTF_8);
-    return builder.getFinerJavaModules(base, body);
+  private ObjectId writeBlob(final byte[] content, final Context c) {
+    if (null == this.packWriter) {
+      return target.writeBlob(content, c);
+    }
+    try {
+      return this.packWriter.write(content);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private String readText(final Entry entry) {
+    return new String(source.readBlob(entry.id), StandardCharsets.UTF_8);
+  }
+
+  private long getBlobSize(final Entry entry) {
+    try (final ObjectReader reader = this.sourceRepository.newObjectReader()) {
+      return reader.getObjectSize(entry.id, Constants.OBJ_BLOB);
+    } catch (final IOException e) {
+      log.warn("failed to get size of blob {}: {}", entry.id.name(), e.getMessage());
+      return 0;
+    }
+  }
+
+  private static String getPath(final Entry entry) {
+    return entry.directory + "/" + entry.name;
+  }
+
+  /**
+   * キャッシュからモジュールを取り出す．以前の実行で保存されたキャッシュには，出力先リポジトリに存在しない blob が含まれうるので確認する．
+   */
+  private List<BlobCache.Module> getCachedModules(final Entry entry) {
+    return this.blobCache.get(entry.id, entry.name, id -> {
+      try {
+        return this.targetRepository.getObjectDatabase()
+            .has(id);
+      } catch (final IOException e) {
+        log.warn("failed to check cached blob {}: {}", id.name(), e.getMessage());
+        return false;
+      }
+    });
+  }
+
+  /**
+   * 変換対象の履歴に含まれる未変換のJavaファイルを，コミットの順序によらず大きいものから並行に変換し，結果をキャッシュに登録する．
+   * この後の書き換えでは，各コミットはキャッシュされた変換結果からツリーを組み立てるだけになる．
+   */
+  public void preconvert(final Context c) throws IOException {
+    final long startTime = System.nanoTime();
+    final List<Entry> blobs;
+    try {
+      blobs = collectHistoryJavaBlobs(c);
+    } catch (final IOException e) {
+      log.warn("failed to collect Java files in history: {}", e.getMessage());
+      return;
+    }
+    log.info("Convert {} Java files in history before rewriting commits", blobs.size());
+    if (config.getBlobCacheSize() < blobs.size()) {
+      log.warn("{} Java files exceed blob cache size {}; evicted ones are converted again",
+          blobs.size(), config.getBlobCacheSize());
+    }
+
+    // pack に書き込む場合を除き，1つの inserter で書き込んで最後に一度だけ flush する
+    if (null != this.packWriter) {
+      convertAll(blobs, this.packWriter::write);
+    } else {
+      try (final ObjectInserter inserter = this.targetRepository.newObjectInserter()) {
+        convertAll(blobs, content -> {
+          synchronized (inserter) {
+            return inserter.insert(Constants.OBJ_BLOB, content);
+          }
+        });
+        inserter.flush();
+      }
+    }
+    log.info("Converted {} Java files in {} ms", blobs.size(),
+        (System.nanoTime() - startTime) / 1_000_000L);
+  }
+
+  /**
+   * 変換対象の履歴に含まれる未変換のJavaファイルのうち，blob ID によってこのシャードに割り当てられたものだけを変換する．
+   * 生成した blob は出力先リポジトリの1つの pack にまとめて書き込み，変換結果はキャッシュに登録する．
+   *
+   * @param index このシャードの番号（0 始まり）
+   * @param count シャードの数
+   */
+  public void convertShard(final Context c, final int index, final int count)
+      throws IOException {
+    final long startTime = System.nanoTime();
+    final List<Entry> allBlobs = collectHistoryJavaBlobs(c);
+    final List<Entry> blobs = allBlobs.stream()
+        .filter(blob -> index == Math.floorMod(blob.id.hashCode(), count))
+        .toList();
+    log.info("Convert {} of {} Java files in history as shard {}/{}", blobs.size(),
+        allBlobs.size(), index, count);
+
+    try (final PackInserter inserter =
+        ((ObjectDirectory) this.targetRepository.getObjectDatabase()).newPackInserter()) {
+      convertAll(blobs, content -> {
+        synchronized (inserter) {
+          return inserter.insert(Constants.OBJ_BLOB, content);
+        }
+      });
+      inserter.flush();
+    }
+    log.info("Converted {} Java files in {} ms", blobs.size(),
+        (System.nanoTime() - startTime) / 1_000_000L);
+  }
+
+  // 引数のJavaファイルを大きいものから並行に変換し，結果をキャッシュに登録する
+  private void convertAll(final List<Entry> blobs, final ConversionPipeline.BlobWriter writer) {
+    try (final ConversionPipeline preconverter = new ConversionPipeline(id -> source.readBlob(
+        id), this::convertInPipeline, this.stats, this.moduleCache, config.getParseThreads(),
+        PIPELINE_CAPACITY_PER_THREAD * config.getParseThreads())) {
+      final List<CompletableFuture<Void>> futures = new ArrayList<>();
+      for (final Entry blob : blobs) {
+        futures.add(preconverter.submit(blob.id, getPath(blob), writer)
+            .handle((modules, e) -> {
+              if (null != modules) {
+                this.blobCache.put(blob.id, blob.name, modules);
+              } else if (null != e && e.getCause() instanceof ParseExecutor.ParseFailure) {
+                this.failedModules.put(getPrefetchKey(blob.id, blob.name), e.getCause()
+                    .getMessage());
+              }
+              // 上限を超えたファイルや書き込みに失敗したファイルはコミットの書き換え時に扱う
+              return null;
+            }));
+      }
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+          .join();
+    }
+  }
+
+  /**
+   * 変換対象の履歴に含まれる未変換のJavaファイルを，重複を除いてサイズの大きい順に列挙する．同じ場所の同じツリーは一度だけ辿る．
+   */
+  private List<Entry> collectHistoryJavaBlobs(final Context c) throws IOException {
+    final Map<String, SizedBlob> blobs = new HashMap<>();
+    final Set<String> visitedTrees = new HashSet<>();
+    try (final RevWalk revWalk = new RevWalk(this.sourceRepository)) {
+      revWalk.setRetainBody(false);
+      for (final ObjectId id : collectStarts(c)) {
+        try {
+          revWalk.markStart(revWalk.parseCommit(id));
+        } catch (final IncorrectObjectTypeException | MissingObjectException e) {
+          // コミットを指していない参照は無視する
+        }
+      }
+      for (final ObjectId id : collectUninterestings(c)) {
+        try {
+          revWalk.markUninteresting(revWalk.parseCommit(id));
+        } catch (final IncorrectObjectTypeException | MissingObjectException e) {
+          // コミットを指していない参照は無視する
+        }
+      }
+      for (RevCommit commit = revWalk.next(); null != commit; commit = revWalk.next()) {
+        collectJavaBlobs(revWalk.getObjectReader(), commit.getTree(), "", visitedTrees, blobs);
+      }
+    }
+    final List<SizedBlob> sortedBlobs = new ArrayList<>(blobs.values());
+    sortedBlobs.sort(Comparator.comparingLong(SizedBlob::size)
+        .reversed());
+    return sortedBlobs.stream()
+        .map(SizedBlob::entry)
+        .toList();
+  }
+
+  private void collectJavaBlobs(final ObjectReader reader, final ObjectId treeId,
+      final String directory, final Set<String> visitedTrees, final Map<String, SizedBlob> blobs)
+      throws IOException {
+    if (!visitedTrees.add(treeId.name() + "\t" + directory)) {
+      return;
+    }
+    try (final TreeWalk walk = new TreeWalk(reader)) {
+      walk.addTree(treeId);
+      walk.setRecursive(false);
+      while (walk.next()) {
+        final String name = walk.getNameString();
+        final String path = directory + "/" + name;
+        final int type = walk.getFileMode(0)
+            .getObjectType();
+        if (Constants.OBJ_TREE == type) {
+          if (this.pathFilter.acceptsDirectory(path)) {
+            collectJavaBlobs(reader, walk.getObjectId(0), path, visitedTrees, blobs);
+          }
+          continue;
+        }
+        if (Constants.OBJ_BLOB != type || !name.endsWith(".java")) {
+          continue;
+        }
+        final ObjectId id = walk.getObjectId(0);
+        final String key = getPrefetchKey(id, name);
+        if (blobs.containsKey(key) || this.blobCache.contains(id, name)
+            || !this.pathFilter.accepts(path)) {
+          continue;
+        }
+        final long size = reader.getObjectSize(id, Constants.OBJ_BLOB);
+        if (this.oversizeGuard.isEnabled() && null != this.oversizeGuard.checkSize(size)) {
+          continue;
+        }
+        blobs.put(key, new SizedBlob(Entry.of(walk.getRawMode(0), name, id, directory), size));
+      }
+    }
+  }
+
+  /**
+   * ツリー直下にある未変換のJavaファイルのうち，変換対象でサイズの上限を超えていないものを列挙する．
+   */
+  private List<Entry> collectJavaBlobs(final Entry tree) throws IOException {
+    final List<Entry> blobs = new ArrayList<>();
+    final String directory = tree.directory + "/" + tree.name;
+    try (final TreeWalk walk = new TreeWalk(this.sourceRepository)) {
+      walk.addTree(tree.id);
+      walk.setRecursive(false);
+      while (walk.next()) {
+        final String name = walk.getNameString();
+        if (Constants.OBJ_BLOB != walk.getFileMode(0)
+            .getObjectType() || !name.endsWith(".java")) {
+          continue;
+        }
+        final ObjectId id = walk.getObjectId(0);
+        if (this.blobCache.contains(id, name)
+            || !this.pathFilter.accepts(directory + "/" + name)) {
+          continue;
+        }
+        // 上限を超えるファイルは各エントリの書き換え時に扱う
+        if (this.oversizeGuard.isEnabled() && null != this.oversizeGuard.checkSize(walk
+            .getObjectReader()
+            .getObjectSize(id, Constants.OBJ_BLOB))) {
+          continue;
+        }
+        blobs.add(Entry.of(walk.getRawMode(0), name, id, directory));
+      }
+    }
+    return blobs;
+  }
+
+  /**
+   * ツリー直下にある未変換のJavaファイルをパイプラインに投入する．変換結果は各エントリの書き換え時に使われる．
+   *
+   * @return 投入した変換のキーのリスト
+   */
+  private List<String> submitFinerModules(final Entry tree, final Context c) {
+    final List<Entry> blobs;
+    try {
+      blobs = collectJavaBlobs(tree);
+    } catch (final IOException e) {
+      log.warn("failed to read tree {}: {}", tree, e.getMessage());
+      return Collections.emptyList();
+    }
+    final List<String> keys = new ArrayList<>();
+    for (final Entry blob : blobs) {
+      // 別のツリーで同じファイルを変換中の場合は投入しない
+      final String key = getPrefetchKey(blob.id, blob.name);
+      if (this.pendingModules.containsKey(key)) {
+        continue;
+      }
+      final CompletableFuture<List<BlobCache.Module>> future = this.pipeline.submit(blob.id,
+          getPath(blob), content -> this.writeBlob(content, c));
+      if (null == this.pendingModules.putIfAbsent(key, future)) {
+        keys.add(key);
+      }
+    }
+    log.debug("Submit {} Java files to pipeline: {} {}", keys.size(), tree, c);
+    return keys;
+  }
+
+  // 上限を超えるファイルはパイプラインでは変換せず，各エントリの書き換え時に扱う
+  private List<FinerJavaModule> convertInPipeline(final String path, final String text)
+      throws ParseExecutor.ParseFailure {
+    if (this.oversizeGuard.isEnabled() && null != this.oversizeGuard.checkText(text)) {
+      return null;
+    }
+    return extractFinerModules(this.builder, path, text);
+  }
+
+  private static String getPrefetchKey(final ObjectId blobId, final String fileName) {
+    return blobId.name() + "\t" + fileName;
+  }
+
+  /**
+   * Javaファイルを細粒度モジュールに変換する．時間の上限が設定されている場合は専用のスレッドで変換する．
+   *
+   * @throws ParseExecutor.ParseFailure 時間切れになった場合，または変換中にエラーが起きた場合
+   */
+  protected List<FinerJavaModule> extractFinerModules(final FinerJavaFileBuilder fileBuilder,
+      final String path, final String text) throws ParseExecutor.ParseFailure {
+    if (null != this.parseExecutor) {
+      return this.parseExecutor.call(() -> fileBuilder.getFinerJavaModules(path, text),
+          this.parseTimeout);
+    }
+    try {
+      return fileBuilder.getFinerJavaModules(path, text);
+    } catch (final StackOverflowError e) {
+      throw new ParseExecutor.ParseFailure(e.toString());
+    }
+  }
+
+  /**
+   * Javaファイルを1回だけ構文解析し，この書き換えと "--target" で指定された各出力先のモジュールを生成する．各出力先のモジュールはここで書き込む．
+   *
+   * @return この書き換えのためのモジュール
+   * @throws ParseExecutor.ParseFailure 時間切れになった場合，または変換中にエラーが起きた場合
+   */
+  private List<FinerJavaModule> extractTargetModules(final Entry entry, final String text)
+      throws ParseExecutor.ParseFailure {
+    final String path = getPath(entry);
+    final List<List<FinerJavaModule>> modules;
+    if (null != this.parseExecutor) {
+      modules = this.parseExecutor.call(
+          () -> this.builder.getFinerJavaModules(path, text, this.targetConfigs),
+          this.parseTimeout);
+    } else {
+      try {
+        modules = this.builder.getFinerJavaModules(path, text, this.targetConfigs);
+      } catch (final StackOverflowError e) {
+        throw new ParseExecutor.ParseFailure(e.toString());
+      }
+    }
+    writeTargetModules(entry, modules);
+    return modules.get(0);
+  }
+
+  // 先頭（この書き換えのためのモジュール）以外を各出力先に書き込む
+  private void writeTargetModules(final Entry entry, final List<List<FinerJavaModule>> modules) {
+    for (int index = 0; index < this.outputTargets.size(); index++) {
+      final OutputTarget target = this.outputTargets.get(index);
+      try {
+        target.put(entry.id, entry.name, modules.get(index + 1));
+      } catch (final IOException e) {
+        log.warn("failed to write finer modules of {} for {}: {}", entry, target.getConfig()
+            .getDesPath(), e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * 専用のスレッドとパイプラインを停止し，別の出力先のモジュールと pack を書き出す．
+   *
+   * @throws IOException pack を書き出せなかった場合
+   */
+  public void shutdown() throws IOException {
+    if (null != this.pipeline) {
+      this.pipeline.close();
+    }
+    if (null != this.parseExecutor) {
+      this.parseExecutor.close();
+    }
+    for (final OutputTarget target : this.outputTargets) {
+      try {
+        target.close();
+      } catch (final IOException e) {
+        log.warn("failed to write finer modules to {}: {}", target.getStagingPath(),
+            e.getMessage());
+      }
+    }
+    // pack に書き込んだ blob は，pack と索引を書き出すまで出力先リポジトリから読めない．
+    // 書き出せなかった場合は，それらを参照するコミットを残さないように呼び出し元を失敗させる
+    if (null != this.packWriter) {
+      try {
+        this.packWriter.close();
+      } catch (final IOException e) {
+        throw new IOException("failed to write packs of finer modules", e);
+      }
+      log.info("Wrote finer modules into {} packs", this.packWriter.getWrittenPacks());
+    }
   }
 }
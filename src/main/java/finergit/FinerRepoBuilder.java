@@ -1,12 +1,20 @@
 package finergit;
 
 import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+import org.eclipse.jgit.lib.ObjectId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import jp.ac.titech.c.se.stein.core.Context;
@@ -18,6 +26,12 @@ public class FinerRepoBuilder {
 
   private static final Logger log = LoggerFactory.getLogger(FinerRepoBuilder.class);
 
+  // シャードのワーカが変換結果の対応を書き出すディレクトリ（.git からの相対パス）
+  static final String SHARD_MAPPING_DIRECTORY = "finergit-shard";
+
+  // 別の出力先のためのモジュールを書き溜めるディレクトリ（.git からの相対パス）
+  private static final String TARGET_STAGING_DIRECTORY = "finergit-targets";
+
   private final FinerGitConfig config;
 
   public FinerRepoBuilder(final FinerGitConfig config) {
@@ -27,32 +41,289 @@ public class FinerRepoBuilder {
 
   public GitRepo exec() {
     log.trace("enter exec()");
+    if (this.config.isShardWorker()) {
+      return this.execShard();
+    }
     GitRepo repo = null;
     try {
-      // duplicate repository
-      copyDirectory(this.config.getSrcPath(), this.config.getDesPath());
-      repo = new GitRepo(this.config.getDesPath());
-      repo.initialize();
-      repo.setIgnoreCase(false);
-
+      GitRepo srcRepo = null;
+      final CommitMapping commitMapping = new CommitMapping(this.config.getDesPath()
+          .resolve(".git"));
       final FinerGitRewriter rewriter = new FinerGitRewriter(config);
-      rewriter.initialize(repo.getRepository(), repo.getRepository());
-      rewriter.rewrite(Context.init());
+
+      // 以前に変換したリポジトリがある場合は，新しいコミットのみを変換する
+      if (this.config.isIncremental() && commitMapping.exists()) {
+        log.info("Update finer repository incrementally: {}", this.config.getDesPath());
+        srcRepo = new GitRepo(this.config.getSrcPath());
+        srcRepo.initialize();
+        repo = new GitRepo(this.config.getDesPath());
+        repo.addAlternateObjectDirectory(srcRepo.getGitDirectory()
+            .resolve("objects"));
+        repo.initialize();
+        repo.setIgnoreCase(false);
+
+        rewriter.initialize(srcRepo.getRepository(), repo.getRepository());
+        rewriter.addCommitMapping(commitMapping.read());
+      }
+
+      // 元リポジトリのオブジェクトを alternates で参照する新しいリポジトリを作る
+      else if (this.config.isObjectStoreShared()) {
+        log.info("Create finer repository sharing objects: {}", this.config.getDesPath());
+        srcRepo = new GitRepo(this.config.getSrcPath());
+        srcRepo.initialize();
+        repo = new GitRepo(this.config.getDesPath());
+        // 複製する場合と同じく，既存のリポジトリには書き込まずに失敗させる
+        if (Files.exists(repo.getGitDirectory())) {
+          throw new FileAlreadyExistsException(repo.getGitDirectory()
+              .toString());
+        }
+        repo.addAlternateObjectDirectory(srcRepo.getGitDirectory()
+            .resolve("objects"));
+        if (!repo.create()) {
+          throw new IOException("cannot create repository: " + repo.getGitDirectory());
+        }
+        repo.linkHead(srcRepo);
+        repo.setIgnoreCase(false);
+
+        rewriter.initialize(srcRepo.getRepository(), repo.getRepository());
+      }
+
+      else {
+        // duplicate repository
+        copyDirectory(this.config.getSrcPath(), this.config.getDesPath());
+        repo = new GitRepo(this.config.getDesPath());
+        repo.initialize();
+        repo.setIgnoreCase(false);
+        srcRepo = repo;
+
+        rewriter.initialize(repo.getRepository(), repo.getRepository());
+      }
+
+      // 別の出力先のためのモジュールも，同じ構文解析の結果から生成して書き溜める
+      final List<OutputTarget> targets = new ArrayList<>();
+      for (final FinerGitConfig targetConfig : this.config.getTargetConfigs()) {
+        final OutputTarget target = new OutputTarget(targetConfig, repo.getGitDirectory()
+            .resolve(TARGET_STAGING_DIRECTORY)
+            .resolve(String.valueOf(targets.size())));
+        rewriter.addOutputTarget(target);
+        targets.add(target);
+      }
+
+      // 変換対象の履歴が指定されている場合は，そこから辿れるコミットのみを変換する
+      HeadSelection headSelection = null;
+      final List<ObjectId> excludes = new ArrayList<>(rewriter.getCommitMapping()
+          .keySet());
+      if (null != this.config.getHeadCommitId()) {
+        headSelection = HeadSelection.resolve(srcRepo.getRepository(),
+            this.config.getHeadCommitId());
+        log.info("Convert only history of {}", headSelection);
+        rewriter.setHeadSelection(headSelection);
+        if (null != headSelection.exclude) {
+          excludes.add(headSelection.exclude);
+        }
+      }
+
+      final BlobCache blobCache = rewriter.getBlobCache();
+      blobCache.load();
+
+      // シャードのワーカが変換した blob を取り込み，変換結果をキャッシュに加える
+      for (final Path shardPath : this.config.getShardPaths()) {
+        this.mergeShard(repo, shardPath, blobCache);
+      }
+
+      final long commitsTotal = null == headSelection ? srcRepo.countCommits(excludes)
+          : srcRepo.countCommits(Collections.singletonList(headSelection.start), excludes);
+      final long startTime = System.nanoTime();
+      try (final ConversionProgress progress =
+          new ConversionProgress(rewriter.getStats(), blobCache, commitsTotal)) {
+        progress.start(this.config.getProgressInterval(), this.config.isJmxEnabled());
+        final Context context = Context.init();
+        // 先にすべてのJavaファイルを並行に変換しておき，コミットの書き換えではその結果を使う
+        if (this.config.isTwoPhase()) {
+          rewriter.preconvert(context);
+        }
+        rewriter.rewrite(context);
+      } finally {
+        rewriter.shutdown();
+      }
+      final long elapsedTime = System.nanoTime() - startTime;
+      blobCache.store();
+      log.info("blob cache: {} hits, {} misses (hit rate {})", blobCache.getHits(),
+          blobCache.getMisses(), String.format("%.1f%%", blobCache.getHitRate() * 100d));
+      final ModuleCache moduleCache = rewriter.getModuleCache();
+      log.info("module cache: {} hits, {} misses (hit rate {})", moduleCache.getHits(),
+          moduleCache.getMisses(), String.format("%.1f%%", moduleCache.getHitRate() * 100d));
+      this.report(rewriter.getStats(), elapsedTime);
+
+      if (this.config.isIncremental()) {
+        commitMapping.write(rewriter.getCommitMapping());
+      }
+
+      // 変換対象以外の参照を削除する
+      if (null != headSelection) {
+        final ObjectId newHead = rewriter.getCommitMapping()
+            .get(headSelection.start);
+        if (null == newHead) {
+          log.warn("{} was not converted; refs are left as they are", headSelection);
+        } else {
+          final boolean pruneSucceeded = repo.pruneRefs(headSelection, newHead);
+          log.debug("prune refs: {}", pruneSucceeded ? "succeeded" : "failed");
+        }
+      }
 
       // clean up working copy
-      final boolean resetSucceeded = repo.resetHard();
-      log.debug("git reset --hard: {}", resetSucceeded ? "succeeded" : "failed");
-      final boolean cleanSucceeded = repo.clean();
-      log.debug("git clean -fd: {}", cleanSucceeded ? "succeeded" : "failed");
+      if (this.config.isCheckedOut()) {
+        final boolean resetSucceeded = repo.resetHard();
+        log.debug("git reset --hard: {}", resetSucceeded ? "succeeded" : "failed");
+        final boolean cleanSucceeded = repo.clean();
+        log.debug("git clean -fd: {}", cleanSucceeded ? "succeeded" : "failed");
+      }
+
+      // 細粒度リポジトリの履歴から，メソッドファイルごとの変更の索引を作る
+      if (this.config.isMethodIndexed()) {
+        final int changes = MethodIndex.build(repo.getRepository(), repo.getGitDirectory()
+            .resolve(MethodIndex.PATH));
+        log.info("method index: {} changes", changes);
+      }
+
+      // 別の出力先は，書き溜めたモジュールを取り込んでそれぞれ変換する
+      for (final OutputTarget target : targets) {
+        final FinerGitConfig targetConfig = target.getConfig();
+        log.info("Generate finer repository: {}", targetConfig.getDesPath());
+        targetConfig.addShardPath(target.getStagingPath()
+            .toString());
+        if (null == new FinerRepoBuilder(targetConfig).exec()) {
+          throw new IOException("failed to generate finer repository: "
+              + targetConfig.getDesPath());
+        }
+      }
+      if (!targets.isEmpty()) {
+        deleteDirectory(repo.getGitDirectory()
+            .resolve(TARGET_STAGING_DIRECTORY));
+      }
 
     } catch (final Exception e) {
+      // 変換結果を書き出せなかった場合は，参照の更新や作業ツリーの展開を行わずに失敗させる
+      log.error("failed to generate finer repository: {}", this.config.getDesPath());
       e.printStackTrace();
+      return null;
     }
 
     log.trace("exit exec()");
     return repo;
   }
 
+  /**
+   * シャードのワーカとして，担当するJavaファイルのみを変換する．生成した blob は出力先リポジトリの pack に，
+   * 変換結果の対応は出力先リポジトリの .git/finergit-shard に書き出され，"--merge-shard" で取り込める．
+   */
+  private GitRepo execShard() {
+    log.trace("enter execShard()");
+    GitRepo repo = null;
+    try {
+      final GitRepo srcRepo = new GitRepo(this.config.getSrcPath());
+      srcRepo.initialize();
+      repo = new GitRepo(this.config.getDesPath());
+      if (Files.isDirectory(repo.getGitDirectory())) {
+        repo.initialize();
+      } else {
+        repo.create();
+      }
+
+      final FinerGitRewriter rewriter = new FinerGitRewriter(this.config.getShardWorkerConfig(
+          repo.getGitDirectory()
+              .resolve(SHARD_MAPPING_DIRECTORY)));
+      rewriter.initialize(srcRepo.getRepository(), repo.getRepository());
+      if (null != this.config.getHeadCommitId()) {
+        rewriter.setHeadSelection(HeadSelection.resolve(srcRepo.getRepository(),
+            this.config.getHeadCommitId()));
+      }
+
+      // 以前の実行で変換済みのものは変換し直さない
+      final BlobCache blobCache = rewriter.getBlobCache();
+      blobCache.load();
+      final long startTime = System.nanoTime();
+      try {
+        rewriter.convertShard(Context.init(), this.config.getShardIndex(),
+            this.config.getShardCount());
+      } finally {
+        rewriter.shutdown();
+      }
+      final long elapsedTime = System.nanoTime() - startTime;
+      blobCache.store();
+      this.report(rewriter.getStats(), elapsedTime);
+    } catch (final Exception e) {
+      log.error("failed to convert shard {} of {}", this.config.getShardIndex(),
+          this.config.getShardCount());
+      e.printStackTrace();
+      return null;
+    }
+
+    log.trace("exit execShard()");
+    return repo;
+  }
+
+  /**
+   * シャードのワーカが書き出した pack を出力先リポジトリにコピーし，変換結果の対応をキャッシュに加える．
+   */
+  private void mergeShard(final GitRepo repo, final Path shardPath, final BlobCache blobCache)
+      throws IOException {
+    final Path shardGitDirectory = new GitRepo(shardPath).getGitDirectory();
+    final Path packDirectory = shardGitDirectory.resolve("objects")
+        .resolve("pack");
+    final Path targetDirectory = repo.getGitDirectory()
+        .resolve("objects")
+        .resolve("pack");
+    if (Files.isDirectory(packDirectory)) {
+      Files.createDirectories(targetDirectory);
+      // .idx があると pack が揃っているものとして読まれるため，.pack を先にコピーする
+      final List<Path> files;
+      try (final Stream<Path> stream = Files.list(packDirectory)) {
+        files = stream.sorted((p1, p2) -> Boolean.compare(!isPackFile(p1), !isPackFile(p2)))
+            .toList();
+      }
+      for (final Path file : files) {
+        Files.copy(file, targetDirectory.resolve(file.getFileName()),
+            StandardCopyOption.REPLACE_EXISTING);
+      }
+    }
+    final int merged = blobCache.merge(shardGitDirectory.resolve(SHARD_MAPPING_DIRECTORY));
+    log.info("Merge {} converted Java files from shard {}", merged, shardPath);
+  }
+
+  private static boolean isPackFile(final Path file) {
+    return file.getFileName()
+        .toString()
+        .endsWith(".pack");
+  }
+
+  /**
+   * 変換処理の統計情報をログに出力し，指定されている場合はJSON形式でファイルにも書き出す．
+   */
+  private void report(final ConversionStats stats, final long elapsedTime) throws IOException {
+    final int nthreads = this.config.getNumberOfThreads();
+    log.info("conversion statistics:{}{}", System.lineSeparator(),
+        stats.toText(elapsedTime, nthreads));
+    final Path reportPath = this.config.getReportPath();
+    if (null != reportPath) {
+      stats.writeJson(reportPath, elapsedTime, nthreads);
+      log.info("Write conversion statistics: {}", reportPath);
+    }
+  }
+
+  /**
+   * Delete a directory recursively.
+   */
+  protected void deleteDirectory(final Path directory) throws IOException {
+    log.debug("Delete directory: {}", directory);
+    try (final Stream<Path> stream = Files.walk(directory)) {
+      for (final Path path : stream.sorted(Comparator.reverseOrder())
+          .toList()) {
+        Files.delete(path);
+      }
+    }
+  }
+
   /**
    * Copy a directory recursively.
    */
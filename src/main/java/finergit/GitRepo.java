@@ -1,8 +1,13 @@
 package finergit;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import org.eclipse.jgit.api.CleanCommand;
 import org.eclipse.jgit.api.Git;
 import org.eclipse.jgit.api.ResetCommand;
@@ -10,11 +15,14 @@ import org.eclipse.jgit.api.ResetCommand.ResetType;
 import org.eclipse.jgit.api.errors.GitAPIException;
 import org.eclipse.jgit.errors.AmbiguousObjectException;
 import org.eclipse.jgit.errors.IncorrectObjectTypeException;
+import org.eclipse.jgit.errors.MissingObjectException;
 import org.eclipse.jgit.errors.RevisionSyntaxException;
 import org.eclipse.jgit.internal.storage.file.FileRepository;
 import org.eclipse.jgit.lib.AnyObjectId;
 import org.eclipse.jgit.lib.Constants;
 import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
 import org.eclipse.jgit.lib.StoredConfig;
 import org.eclipse.jgit.revwalk.RevCommit;
 import org.eclipse.jgit.revwalk.RevWalk;
@@ -40,6 +48,10 @@ public class GitRepo {
     return repository;
   }
 
+  public Path getGitDirectory() {
+    return this.path.resolve(".git");
+  }
+
   public boolean initialize() {
     log.trace("enter initialize()");
 
@@ -61,6 +73,51 @@ public class GitRepo {
     return true;
   }
 
+  /**
+   * 新しいリポジトリを作成する．
+   */
+  public boolean create() {
+    log.trace("enter create()");
+
+    final Path configPath = this.getGitDirectory();
+    try {
+      this.repository = new FileRepository(configPath.toFile());
+      this.repository.create(false);
+    } catch (final IOException | IllegalStateException e) {
+      log.error("repository \"" + configPath.toString() + "\" cannot be created");
+      log.error(e.getMessage());
+      return false;
+    }
+
+    return true;
+  }
+
+  /**
+   * HEAD を引数で与えられたリポジトリの HEAD と同じブランチに向ける．引数のリポジトリの HEAD がブランチを指していない場合は何もしない．
+   */
+  public boolean linkHead(final GitRepo other) {
+    log.trace("enter linkHead(GitRepo)");
+
+    try {
+      final Ref head = other.getRepository()
+          .exactRef(Constants.HEAD);
+      if (null == head || !head.isSymbolic()) {
+        log.warn("HEAD of \"{}\" is not a branch", other.path.toString());
+        return false;
+      }
+      final RefUpdate.Result result = this.repository.updateRef(Constants.HEAD)
+          .link(head.getTarget()
+              .getName());
+      log.debug("link HEAD to {}: {}", head.getTarget()
+          .getName(), result);
+      return true;
+    } catch (final IOException e) {
+      log.error("failed to update HEAD");
+      log.error(e.getMessage());
+      return false;
+    }
+  }
+
   public void setIgnoreCase(final boolean ignore) {
     log.trace("enter setIgnoreCase(boolean={})", ignore);
 
@@ -75,6 +132,32 @@ public class GitRepo {
     }
   }
 
+  /**
+   * 引数で与えられたオブジェクトディレクトリを objects/info/alternates に登録し，そのオブジェクトを参照できるようにする．
+   * JGit は alternates を最初のオブジェクト参照時に読み込むため，initialize() よりも前に呼び出すこと．
+   *
+   * @param objectsDirectory 参照したいリポジトリの objects ディレクトリ
+   */
+  public void addAlternateObjectDirectory(final Path objectsDirectory) throws IOException {
+    log.trace("enter addAlternateObjectDirectory(Path=\"{}\")", objectsDirectory.toString());
+
+    final Path alternatesPath = this.getGitDirectory()
+        .resolve("objects")
+        .resolve("info")
+        .resolve("alternates");
+    final String line = objectsDirectory.toAbsolutePath()
+        .toString();
+    if (Files.exists(alternatesPath)) {
+      final List<String> lines = Files.readAllLines(alternatesPath, StandardCharsets.UTF_8);
+      if (lines.contains(line)) {
+        return;
+      }
+    }
+    Files.createDirectories(alternatesPath.getParent());
+    Files.writeString(alternatesPath, line + "\n", StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+  }
+
   public RevCommit getHeadCommit() {
     log.trace("enter getHeadCommit()");
     return this.getCommit(Constants.HEAD);
@@ -136,6 +219,128 @@ public class GitRepo {
     }
   }
 
+  /**
+   * すべての参照から辿れるコミットの数を返す．数えられなかった場合は -1 を返す．
+   *
+   * @param excludes 数えないコミット（これらの祖先も数えない）
+   */
+  public long countCommits(final Collection<ObjectId> excludes) {
+    log.trace("enter countCommits(Collection)");
+
+    final List<ObjectId> starts = new ArrayList<>();
+    try {
+      for (final Ref ref : this.repository.getRefDatabase()
+          .getRefs()) {
+        final ObjectId id = null != ref.getPeeledObjectId() ? ref.getPeeledObjectId()
+            : ref.getObjectId();
+        if (null != id) {
+          starts.add(id);
+        }
+      }
+    } catch (final IOException e) {
+      log.warn("failed to count commits: {}", e.getMessage());
+      return -1;
+    }
+    return this.countCommits(starts, excludes);
+  }
+
+  /**
+   * 引数で与えられたコミットから辿れるコミットの数を返す．数えられなかった場合は -1 を返す．
+   *
+   * @param starts 数え始めるコミット．コミットでないオブジェクトは無視する
+   * @param excludes 数えないコミット（これらの祖先も数えない）
+   */
+  public long countCommits(final Collection<ObjectId> starts, final Collection<ObjectId> excludes) {
+    log.trace("enter countCommits(Collection, Collection)");
+
+    try (final RevWalk revWalk = new RevWalk(this.repository)) {
+      revWalk.setRetainBody(false);
+      for (final ObjectId id : starts) {
+        try {
+          revWalk.markStart(revWalk.parseCommit(id));
+        } catch (final IncorrectObjectTypeException | MissingObjectException e) {
+          // コミットを指していない参照は無視する
+        }
+      }
+      for (final ObjectId id : excludes) {
+        revWalk.markUninteresting(revWalk.parseCommit(id));
+      }
+      long count = 0;
+      while (null != revWalk.next()) {
+        count++;
+      }
+      return count;
+    } catch (final IOException e) {
+      log.warn("failed to count commits: {}", e.getMessage());
+      return -1;
+    }
+  }
+
+  /**
+   * 変換対象として選ばれた参照のみを残し，他の参照を削除する．
+   * 選ばれた参照（コミットIDで指定された場合は HEAD が指すブランチ，または切り離された HEAD）は変換後のコミットに向ける．
+   * ただし，選ばれた参照がタグを辿ると既に変換後のコミットを指している場合は，その参照を変更しない．
+   *
+   * @param selection 変換対象の履歴
+   * @param newHead 変換後の先頭のコミット
+   */
+  public boolean pruneRefs(final HeadSelection selection, final ObjectId newHead) {
+    log.trace("enter pruneRefs(HeadSelection, ObjectId)");
+
+    try {
+      final Ref head = this.repository.exactRef(Constants.HEAD);
+      final String keptName = null != selection.refName ? selection.refName
+          : null != head && head.isSymbolic() ? head.getTarget()
+              .getName() : null;
+
+      // 選ばれた参照と HEAD を更新する．
+      // 注釈付きタグなど，書き換えで作られた参照が既に変換後のコミットを指している場合は，タグのオブジェクトを残すためにそのままにする
+      final Ref keptRef = null != keptName ? this.repository.exactRef(keptName) : null;
+      if (null != keptRef && null != keptRef.getObjectId()
+          && newHead.equals(this.peel(keptRef.getObjectId()))) {
+        log.debug("keep {} at {}", keptName, keptRef.getObjectId()
+            .name());
+      } else if (null != keptName) {
+        final RefUpdate update = this.repository.updateRef(keptName);
+        update.setNewObjectId(newHead);
+        log.debug("update {} to {}: {}", keptName, newHead.name(), update.forceUpdate());
+      }
+      if (null != keptName && keptName.startsWith(Constants.R_HEADS)) {
+        log.debug("link HEAD to {}: {}", keptName, this.repository.updateRef(Constants.HEAD)
+            .link(keptName));
+      } else {
+        final RefUpdate update = this.repository.updateRef(Constants.HEAD, true);
+        update.setNewObjectId(newHead);
+        log.debug("detach HEAD at {}: {}", newHead.name(), update.forceUpdate());
+      }
+
+      // その他の参照を削除する
+      for (final Ref ref : this.repository.getRefDatabase()
+          .getRefs()) {
+        final String name = ref.getName();
+        if (Constants.HEAD.equals(name) || name.equals(keptName)) {
+          continue;
+        }
+        final RefUpdate update = this.repository.updateRef(name);
+        update.setForceUpdate(true);
+        log.debug("delete {}: {}", name, update.delete());
+      }
+      return true;
+    } catch (final IOException e) {
+      log.error("failed to prune refs");
+      log.error(e.getMessage());
+      return false;
+    }
+  }
+
+  // タグを辿り，タグでないオブジェクトの ID を返す
+  private ObjectId peel(final ObjectId id) throws IOException {
+    try (final RevWalk revWalk = new RevWalk(this.repository)) {
+      return revWalk.peel(revWalk.parseAny(id))
+          .getId();
+    }
+  }
+
   /**
    * `git reset --hard (HEAD)` を適用する．
    */
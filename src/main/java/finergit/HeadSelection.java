@@ -0,0 +1,78 @@
+package finergit;
+
+import java.io.IOException;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevWalk;
+
+/**
+ * "--head" オプションで指定された変換対象の履歴．コミットID，参照名，"A..B" 形式の範囲のいずれかで指定する．
+ * 範囲の場合は B から辿れて A からは辿れないコミットのみが対象となる．
+ */
+public class HeadSelection {
+
+  /**
+   * 変換対象の参照の完全な名前（例: refs/heads/main）．コミットIDで指定された場合は null．
+   */
+  public final String refName;
+
+  /**
+   * 変換対象の履歴の先頭のコミット
+   */
+  public final ObjectId start;
+
+  /**
+   * 変換対象から除外するコミット（このコミットの祖先も除外する）．範囲で指定されなかった場合は null．
+   */
+  public final ObjectId exclude;
+
+  HeadSelection(final String refName, final ObjectId start, final ObjectId exclude) {
+    this.refName = refName;
+    this.start = start;
+    this.exclude = exclude;
+  }
+
+  /**
+   * 指定された文字列をリポジトリ内で解決する．
+   *
+   * @throws IllegalArgumentException コミットとして解決できなかった場合
+   */
+  public static HeadSelection resolve(final Repository repository, final String spec)
+      throws IOException {
+    final int index = spec.indexOf("..");
+    final String startSpec = 0 <= index ? spec.substring(index + 2) : spec;
+    final String excludeSpec = 0 <= index ? spec.substring(0, index) : null;
+    if (startSpec.isEmpty() || (null != excludeSpec && excludeSpec.isEmpty())) {
+      throw new IllegalArgumentException("invalid range: " + spec);
+    }
+
+    // シンボリック参照（HEAD など）は指している参照に置き換える．切り離された HEAD はコミットIDとして扱う
+    final Ref ref = repository.findRef(startSpec);
+    final String targetName = null == ref ? null
+        : ref.getTarget()
+            .getName();
+    final String refName = Constants.HEAD.equals(targetName) ? null : targetName;
+    return new HeadSelection(refName, resolveCommit(repository, startSpec),
+        null == excludeSpec ? null : resolveCommit(repository, excludeSpec));
+  }
+
+  private static ObjectId resolveCommit(final Repository repository, final String spec)
+      throws IOException {
+    final ObjectId id = repository.resolve(spec + "^{commit}");
+    if (null == id) {
+      throw new IllegalArgumentException("cannot resolve \"" + spec + "\" to a commit");
+    }
+    try (final RevWalk revWalk = new RevWalk(repository)) {
+      return revWalk.parseCommit(id)
+          .getId();
+    }
+  }
+
+  @Override
+  public String toString() {
+    final String head = null != this.refName ? this.refName : this.start.name();
+    return null == this.exclude ? head : this.exclude.name() + ".." + head;
+  }
+}
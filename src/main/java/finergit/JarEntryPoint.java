@@ -20,6 +20,10 @@ public class JarEntryPoint {
         className = "finergit.FinerGitMain";
         break;
       }
+      case "history": {
+        className = "finergit.MethodHistoryMain";
+        break;
+      }
       default: {
         System.err.println("undefined task: " + args[0]);
         return;
@@ -1,5 +1,6 @@
 package finergit;
 
+import java.util.Collections;
 import java.util.Map;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
@@ -186,7 +187,25 @@ public enum JavaVersion {
     }
   }
 
+  // 構文解析のたびに作り直さないよう，バージョンごとに一度だけ作って共有する
+  private volatile Map<String, String> options;
+
+  /**
+   * このバージョンのコンパイラオプションを返す．返される対応は共有されているため変更できない．
+   */
   public Map<String, String> getOptions() {
+    Map<String, String> options = this.options;
+    if (null == options) {
+      options = Collections.unmodifiableMap(this.createOptions());
+      this.options = options;
+    }
+    return options;
+  }
+
+  /**
+   * このバージョンのコンパイラオプションを新しく作って返す．
+   */
+  public Map<String, String> createOptions() {
     @SuppressWarnings("unchecked")
     final Map<String, String> options = DefaultCodeFormatterConstants.getEclipseDefaultSettings();
     final String javaCore = this.getJavaCore();
@@ -0,0 +1,84 @@
+package finergit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import org.kohsuke.args4j.Argument;
+import org.kohsuke.args4j.CmdLineException;
+import org.kohsuke.args4j.CmdLineParser;
+import org.kohsuke.args4j.Option;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * "--method-index" で生成した索引を使い，git の履歴を辿らずにメソッドファイルの変更履歴を表示するクラス
+ */
+public class MethodHistoryMain {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHistoryMain.class);
+
+  @Option(name = "-r", aliases = "--repo", metaVar = "<path>",
+      usage = "path to a finer repository generated with \"--method-index true\"")
+  private Path repoPath = Paths.get(".");
+
+  @Option(name = "-f", aliases = "--follow",
+      usage = "continue listing the history beyond renames and moves of methods")
+  private boolean isFollowed = false;
+
+  @Argument(metaVar = "<path> ...", required = true,
+      usage = "paths of .mjava files from the root of the finer repository")
+  private List<String> modulePaths = new ArrayList<>();
+
+  /**
+   * メソッドファイルごとに，変更したコミット，変更の種類，変更後の blob を新しい順に表示するためのメインメソッド
+   *
+   * @param args
+   */
+  public static void main(final String[] args) {
+    final MethodHistoryMain main = new MethodHistoryMain();
+    final CmdLineParser cmdLineParser = new CmdLineParser(main);
+    try {
+      cmdLineParser.parseArgument(args);
+    } catch (final CmdLineException e) {
+      System.err.println(e.getMessage());
+      cmdLineParser.printUsage(System.err);
+      return;
+    }
+    main.exec();
+  }
+
+  public void exec() {
+    final Path indexFile = this.repoPath.resolve(".git")
+        .resolve(MethodIndex.PATH);
+    if (!Files.isRegularFile(indexFile)) {
+      System.err.println("method index was not found: " + indexFile);
+      return;
+    }
+
+    try {
+      for (final String modulePath : this.modulePaths) {
+        final List<MethodIndex.Change> changes = this.isFollowed
+            ? MethodIndex.queryFollowingRenames(indexFile, modulePath)
+            : MethodIndex.query(indexFile, modulePath);
+        if (1 < this.modulePaths.size()) {
+          System.out.println(modulePath);
+        }
+        for (int index = changes.size() - 1; 0 <= index; index--) {
+          final MethodIndex.Change change = changes.get(index);
+          System.out.println(change.commit()
+              .name() + " " + change.kind()
+                  .name()
+              + " " + change.blob()
+                  .name()
+              + (null == change.source() ? "" : " " + change.source()));
+        }
+      }
+    } catch (final IOException e) {
+      log.error("cannot read method index {}", indexFile);
+      log.error(e.getMessage());
+    }
+  }
+}
@@ -0,0 +1,355 @@
+package finergit;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.eclipse.jgit.diff.DiffEntry.ChangeType;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevSort;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.AndTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 細粒度リポジトリのメソッドファイル（.mjava）ごとの変更履歴の索引．
+ * 各行は "パス\t通し番号\tコミットID\tblob ID\t変更の種類[\t変更前のパス]" であり，パス，通し番号（古いコミットほど小さい）の順に整列して保存する．
+ * 整列されているため，git の履歴を辿らずに二分探索で1つのメソッドの履歴を取り出せる．
+ * マージコミットは，すべての親と内容が異なるメソッドのみを変更したものとして扱う．
+ * 同じコミットで削除されたメソッドと追加されたメソッドは，メソッド名を除いたトークン列が一致すれば名前の変更または移動（RENAME）として記録するため，
+ * 履歴を遡る際に内容の類似度による名前の変更の検出を行う必要がない．
+ */
+public class MethodIndex {
+
+  private static final Logger log = LoggerFactory.getLogger(MethodIndex.class);
+
+  /**
+   * 索引ファイルの .git からの相対パス
+   */
+  public static final String PATH = "finergit/method-index";
+
+  private static final String EXTENSION = ".mjava";
+
+  // 二分探索をやめて先頭から読み進める範囲（バイト）
+  private static final long SCAN_SIZE = 8192L;
+
+  /**
+   * メソッドファイルの1回の変更
+   *
+   * @param sequence コミットの通し番号．古いコミットほど小さい
+   * @param commit 変更したコミット
+   * @param blob 変更後の blob．削除の場合は zeroId
+   * @param source 名前の変更または移動（RENAME）の場合は変更前のパス，それ以外は null
+   */
+  public record Change(String path, long sequence, ObjectId commit, ObjectId blob,
+      ChangeType kind, String source) {
+  }
+
+  /**
+   * リポジトリのすべての参照から辿れる履歴を走査し，索引ファイルを作り直す．
+   *
+   * @return 索引に含まれる変更の数
+   */
+  public static int build(final Repository repository, final Path file) throws IOException {
+    log.trace("enter build(Repository, Path)");
+
+    final List<String> lines = new ArrayList<>();
+    try (final RevWalk revWalk = new RevWalk(repository)) {
+      revWalk.setRetainBody(false);
+      revWalk.sort(RevSort.TOPO, true);
+      revWalk.sort(RevSort.REVERSE, true);
+      for (final Ref ref : repository.getRefDatabase()
+          .getRefs()) {
+        final ObjectId id = null != ref.getPeeledObjectId() ? ref.getPeeledObjectId()
+            : ref.getObjectId();
+        if (null == id) {
+          continue;
+        }
+        final Object object = revWalk.parseAny(id);
+        if (object instanceof RevCommit commit) {
+          revWalk.markStart(commit);
+        }
+      }
+
+      final ObjectReader reader = revWalk.getObjectReader();
+      long sequence = 0;
+      for (RevCommit commit = revWalk.next(); null != commit; commit = revWalk.next()) {
+        collectChanges(reader, revWalk, commit, sequence++, lines);
+      }
+    }
+
+    Collections.sort(lines);
+    Files.createDirectories(file.getParent());
+    final Path tmpFile = file.resolveSibling(file.getFileName() + ".tmp");
+    try (final BufferedWriter writer = Files.newBufferedWriter(tmpFile, StandardCharsets.UTF_8)) {
+      for (final String line : lines) {
+        writer.write(line);
+        writer.write('\n');
+      }
+    }
+    Files.move(tmpFile, file, StandardCopyOption.REPLACE_EXISTING,
+        StandardCopyOption.ATOMIC_MOVE);
+    return lines.size();
+  }
+
+  private static void collectChanges(final ObjectReader reader, final RevWalk revWalk,
+      final RevCommit commit, final long sequence, final List<String> lines) throws IOException {
+    final String prefix = "\t" + String.format("%010d", sequence) + "\t" + commit.name() + "\t";
+    final Map<String, ObjectId> added = new LinkedHashMap<>();
+    final Map<String, ObjectId> deleted = new HashMap<>();
+    try (final TreeWalk walk = new TreeWalk(reader)) {
+      walk.addTree(commit.getTree());
+      for (final RevCommit parent : commit.getParents()) {
+        walk.addTree(revWalk.parseCommit(parent)
+            .getTree());
+      }
+      walk.setRecursive(true);
+      walk.setFilter(1 < walk.getTreeCount()
+          ? AndTreeFilter.create(PathSuffixFilter.create(EXTENSION), TreeFilter.ANY_DIFF)
+          : PathSuffixFilter.create(EXTENSION));
+      while (walk.next()) {
+        if (!isChangedFromAllParents(walk)) {
+          continue;
+        }
+        final String path = walk.getPathString();
+        if (FileMode.MISSING.getBits() == walk.getRawMode(0)) {
+          deleted.put(path, getParentObjectId(walk));
+          lines.add(path + prefix + ObjectId.zeroId()
+              .name() + "\t" + ChangeType.DELETE.name());
+        } else if (ObjectId.zeroId()
+            .equals(getParentObjectId(walk))) {
+          added.put(path, walk.getObjectId(0));
+        } else {
+          lines.add(path + prefix + walk.getObjectId(0)
+              .name() + "\t" + ChangeType.MODIFY.name());
+        }
+      }
+    }
+
+    final Map<String, String> sources = deleted.isEmpty() || added.isEmpty()
+        ? Collections.emptyMap()
+        : findRenames(reader, deleted, added);
+    for (final Map.Entry<String, ObjectId> entry : added.entrySet()) {
+      final String source = sources.get(entry.getKey());
+      lines.add(entry.getKey() + prefix + entry.getValue()
+          .name() + "\t"
+          + (null == source ? ChangeType.ADD.name() : ChangeType.RENAME.name() + "\t" + source));
+    }
+  }
+
+  // 削除されたファイルの内容は，最初に見つかった，そのファイルを含む親のものとする．
+  // どの親にも含まれない場合は zeroId を返すため，マージで一部の親にのみ含まれるファイルは追加ではなく変更となる
+  private static ObjectId getParentObjectId(final TreeWalk walk) {
+    for (int index = 1; index < walk.getTreeCount(); index++) {
+      if (FileMode.MISSING.getBits() != walk.getRawMode(index)) {
+        return walk.getObjectId(index);
+      }
+    }
+    return ObjectId.zeroId();
+  }
+
+  /**
+   * 同じコミットで削除されたメソッドファイルと追加されたメソッドファイルを，メソッド名を除いたトークン列で対応付ける．
+   * 同じトークン列を持つファイルが削除側と追加側にそれぞれ1つしかない場合のみ，名前の変更または移動とみなす．
+   *
+   * @return 追加されたファイルのパスから，対応する削除されたファイルのパスへの対応
+   */
+  private static Map<String, String> findRenames(final ObjectReader reader,
+      final Map<String, ObjectId> deleted, final Map<String, ObjectId> added) throws IOException {
+    final Map<String, List<String>> deletedPaths = groupByFingerprint(reader, deleted);
+    final Map<String, List<String>> addedPaths = groupByFingerprint(reader, added);
+    final Map<String, String> sources = new HashMap<>();
+    for (final Map.Entry<String, List<String>> entry : addedPaths.entrySet()) {
+      final List<String> sourcePaths = deletedPaths.get(entry.getKey());
+      if (1 == entry.getValue()
+          .size() && null != sourcePaths && 1 == sourcePaths.size()) {
+        sources.put(entry.getValue()
+            .get(0), sourcePaths.get(0));
+      }
+    }
+    return sources;
+  }
+
+  private static Map<String, List<String>> groupByFingerprint(final ObjectReader reader,
+      final Map<String, ObjectId> files) throws IOException {
+    final Map<String, List<String>> paths = new HashMap<>();
+    for (final Map.Entry<String, ObjectId> entry : files.entrySet()) {
+      final String text = new String(reader.open(entry.getValue(), Constants.OBJ_BLOB)
+          .getBytes(), StandardCharsets.UTF_8);
+      paths.computeIfAbsent(getFingerprint(text), k -> new ArrayList<>())
+          .add(entry.getKey());
+    }
+    return paths;
+  }
+
+  /**
+   * メソッドファイル（1行1トークン）のトークン列から，メソッド名を除いたものを返す．
+   * メソッド名は，アノテーションを除いて最初に "(" の直前に現れるトークンとする．
+   * トークンの種類が含まれている（"--token-type-included"）場合は，それも除く．
+   */
+  private static String getFingerprint(final String text) {
+    final String[] tokens = text.split("\n");
+    for (int index = 0; index < tokens.length; index++) {
+      final int tab = tokens[index].indexOf('\t');
+      if (0 <= tab) {
+        tokens[index] = tokens[index].substring(0, tab);
+      }
+    }
+
+    int index = 0;
+    while (index + 1 < tokens.length) {
+      if (tokens[index].equals("@") && !tokens[index + 1].equals("interface")) {
+        index = skipAnnotation(tokens, index + 1);
+      } else if (tokens[index + 1].equals("(")) {
+        tokens[index] = "";
+        break;
+      } else {
+        index++;
+      }
+    }
+    return String.join("\n", tokens);
+  }
+
+  // アノテーションの名前と引数を読み飛ばし，その次のトークンの位置を返す
+  private static int skipAnnotation(final String[] tokens, final int start) {
+    int index = start + 1;
+    while (index + 1 < tokens.length && tokens[index].equals(".")) {
+      index += 2;
+    }
+    if (index < tokens.length && tokens[index].equals("(")) {
+      int depth = 0;
+      for (; index < tokens.length; index++) {
+        if (tokens[index].equals("(")) {
+          depth++;
+        } else if (tokens[index].equals(")") && 0 == --depth) {
+          return index + 1;
+        }
+      }
+    }
+    return index;
+  }
+
+  // 親のいずれかと同じ内容であれば，その親の側での変更として扱う
+  private static boolean isChangedFromAllParents(final TreeWalk walk) {
+    for (int index = 1; index < walk.getTreeCount(); index++) {
+      if (walk.getRawMode(0) == walk.getRawMode(index) && walk.idEqual(0, index)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 索引ファイルから，引数のパスのメソッドファイルの変更を古い順に返す．
+   *
+   * @param path リポジトリのルートからのパス（例: src/Foo#void_bar().mjava）
+   */
+  public static List<Change> query(final Path file, final String path) throws IOException {
+    final List<Change> changes = new ArrayList<>();
+    try (final RandomAccessFile raf = new RandomAccessFile(file.toFile(), "r")) {
+
+      // 対象のパスの最初の行より前にある位置まで二分探索で絞り込む
+      long low = 0;
+      long high = raf.length();
+      while (SCAN_SIZE < high - low) {
+        final long middle = (low + high) >>> 1;
+        raf.seek(middle);
+        raf.readLine();
+        final String line = readUtf8Line(raf);
+        if (null != line && getPath(line).compareTo(path) < 0) {
+          low = middle;
+        } else {
+          high = middle;
+        }
+      }
+
+      raf.seek(low);
+      final BufferedReader reader = new BufferedReader(
+          new InputStreamReader(Channels.newInputStream(raf.getChannel()),
+              StandardCharsets.UTF_8));
+      if (0 < low) {
+        reader.readLine();
+      }
+      for (String line = reader.readLine(); null != line; line = reader.readLine()) {
+        final int order = getPath(line).compareTo(path);
+        if (0 < order) {
+          break;
+        } else if (0 == order) {
+          final String[] items = line.split("\t");
+          changes.add(new Change(items[0], Long.parseLong(items[1]),
+              ObjectId.fromString(items[2]), ObjectId.fromString(items[3]),
+              ChangeType.valueOf(items[4]), 5 < items.length ? items[5] : null));
+        }
+      }
+    }
+    return changes;
+  }
+
+  /**
+   * 索引ファイルから，引数のパスのメソッドファイルの変更を，名前の変更や移動を遡って古い順に返す．
+   */
+  public static List<Change> queryFollowingRenames(final Path file, final String path)
+      throws IOException {
+    final List<Change> history = new ArrayList<>();
+    String currentPath = path;
+    long limit = Long.MAX_VALUE;
+    while (null != currentPath) {
+      final List<Change> changes = query(file, currentPath);
+      int start = changes.size();
+      String source = null;
+      long sourceLimit = limit;
+      while (0 < start && limit <= changes.get(start - 1)
+          .sequence()) {
+        start--;
+      }
+      final int end = start;
+      while (0 < start) {
+        final Change change = changes.get(--start);
+        if (ChangeType.ADD == change.kind()) {
+          break;
+        } else if (ChangeType.RENAME == change.kind()) {
+          source = change.source();
+          sourceLimit = change.sequence();
+          break;
+        }
+      }
+      history.addAll(0, changes.subList(start, end));
+      currentPath = source;
+      limit = sourceLimit;
+    }
+    return history;
+  }
+
+  private static String readUtf8Line(final RandomAccessFile raf) throws IOException {
+    final String line = raf.readLine();
+    return null == line ? null
+        : new String(line.getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
+  }
+
+  private static String getPath(final String line) {
+    final int index = line.indexOf('\t');
+    return 0 <= index ? line.substring(0, index) : line;
+  }
+}
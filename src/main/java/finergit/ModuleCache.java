@@ -0,0 +1,83 @@
+package finergit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.eclipse.jgit.lib.ObjectId;
+import finergit.ast.FinerJavaModule;
+
+/**
+ * 細粒度モジュールのファイル名と字句列のハッシュ値から，そのモジュールについて書き込んだ blob ID を記憶しておくキャッシュ．
+ * Javaファイルが変更されても，多くのメソッドは変更されていないため，それらの内容の生成と blob の SHA-1 の計算を省ける．
+ * モジュールの内容は字句列と出力形式の設定のみで決まるため，キャッシュは1つの書き換え（1つの設定と1つの出力先）の中でのみ使う．
+ */
+public class ModuleCache {
+
+  // ファイル名も含めることで，ハッシュ値が衝突しても別のモジュールの内容を取り違えるのは同名のモジュールに限られる
+  private record Key(String fileName, FinerJavaModule.TokenHash hash) {
+  }
+
+  private final int maxSize;
+  private final Map<Key, ObjectId> entries;
+  private final AtomicLong hits;
+  private final AtomicLong misses;
+
+  /**
+   * @param maxSize キャッシュに保持するモジュールの最大数．0 の場合は何も保持しない．
+   */
+  public ModuleCache(final int maxSize) {
+    this.maxSize = maxSize;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+
+      @Override
+      protected boolean removeEldestEntry(final Map.Entry<Key, ObjectId> eldest) {
+        return ModuleCache.this.maxSize < size();
+      }
+    };
+    this.hits = new AtomicLong();
+    this.misses = new AtomicLong();
+  }
+
+  public boolean isEnabled() {
+    return 0 < this.maxSize;
+  }
+
+  /**
+   * 同じファイル名で同じ字句列のモジュールについて書き込んだ blob ID を返す．ない場合は null を返す．
+   */
+  public ObjectId get(final String fileName, final FinerJavaModule.TokenHash hash) {
+    if (!this.isEnabled()) {
+      return null;
+    }
+    final ObjectId id;
+    synchronized (this.entries) {
+      id = this.entries.get(new Key(fileName, hash));
+    }
+    (null == id ? this.misses : this.hits).incrementAndGet();
+    return id;
+  }
+
+  public void put(final String fileName, final FinerJavaModule.TokenHash hash,
+      final ObjectId id) {
+    if (!this.isEnabled()) {
+      return;
+    }
+    synchronized (this.entries) {
+      this.entries.put(new Key(fileName, hash), id);
+    }
+  }
+
+  public long getHits() {
+    return this.hits.get();
+  }
+
+  public long getMisses() {
+    return this.misses.get();
+  }
+
+  public double getHitRate() {
+    final long hits = this.hits.get();
+    final long total = hits + this.misses.get();
+    return 0 == total ? 0d : (double) hits / total;
+  }
+}
@@ -0,0 +1,99 @@
+package finergit;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.eclipse.jgit.internal.storage.file.PackInserter;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import finergit.ast.FinerJavaModule;
+import finergit.util.ByteArrayBuilder;
+
+/**
+ * "--target" で指定された別の出力先のために，主の変換と同じ構文解析の結果から生成したモジュールを書き溜めるクラス．
+ * 書き出す形式はシャードのワーカと同じ（1つの pack と .git/finergit-shard の対応）であり，その出力先の変換で "--merge-shard" として取り込まれる．
+ */
+public class OutputTarget implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(OutputTarget.class);
+
+  // 細粒度モジュールの内容を書き込むためのスレッドごとのバッファ
+  private static final ThreadLocal<ByteArrayBuilder> BUFFER =
+      ThreadLocal.withInitial(ByteArrayBuilder::new);
+
+  private final FinerGitConfig config;
+  private final Path stagingPath;
+  private final GitRepo stagingRepo;
+  private final PackInserter inserter;
+  private final BlobCache mapping;
+
+  /**
+   * @param config この出力先の設定
+   * @param stagingPath モジュールを書き溜めるリポジトリのパス
+   */
+  public OutputTarget(final FinerGitConfig config, final Path stagingPath) throws IOException {
+    this.config = config;
+    this.stagingPath = stagingPath;
+    this.stagingRepo = new GitRepo(stagingPath);
+    final boolean isReady = Files.isDirectory(this.stagingRepo.getGitDirectory())
+        ? this.stagingRepo.initialize()
+        : this.stagingRepo.create();
+    if (!isReady) {
+      throw new IOException("cannot prepare " + stagingPath);
+    }
+    this.inserter = this.stagingRepo.getRepository()
+        .getObjectDatabase()
+        .newPackInserter();
+    this.mapping = new BlobCache(this.stagingRepo.getGitDirectory()
+        .resolve(FinerRepoBuilder.SHARD_MAPPING_DIRECTORY), config.getFingerprint(),
+        Integer.MAX_VALUE);
+    this.mapping.load();
+  }
+
+  public FinerGitConfig getConfig() {
+    return this.config;
+  }
+
+  public Path getStagingPath() {
+    return this.stagingPath;
+  }
+
+  /**
+   * Javaファイルから生成されたモジュールを，この出力先の設定で書き込む．
+   */
+  public void put(final ObjectId blobId, final String fileName,
+      final List<FinerJavaModule> modules) throws IOException {
+    if (this.mapping.contains(blobId, fileName)) {
+      return;
+    }
+    final List<BlobCache.Module> newModules = new ArrayList<>(modules.size());
+    final ByteArrayBuilder buffer = BUFFER.get();
+    for (final FinerJavaModule m : modules) {
+      buffer.reset();
+      m.writeTo(buffer, this.config);
+      final ObjectId newId;
+      synchronized (this.inserter) {
+        newId = this.inserter.insert(Constants.OBJ_BLOB, buffer.toByteArray());
+      }
+      newModules.add(new BlobCache.Module(m.getFileName(this.config), newId));
+    }
+    this.mapping.put(blobId, fileName, newModules);
+  }
+
+  /**
+   * 書き溜めたモジュールを pack に書き出し，対応を保存する．
+   */
+  @Override
+  public void close() throws IOException {
+    synchronized (this.inserter) {
+      this.inserter.flush();
+      this.inserter.close();
+    }
+    this.mapping.store();
+    log.debug("Write finer modules for {} to {}", this.config.getDesPath(), this.stagingPath);
+  }
+}
@@ -0,0 +1,191 @@
+package finergit;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Javaファイルの変換を専用のスレッドで実行し，時間の上限を課すクラス．
+ * JDT の構文解析は割り込みに応答しないため，時間切れになった変換は放棄し，その変換が終わるまでの間はスレッドを1つ追加して処理能力を保つ．
+ * 時間は変換が始まってから数えるため，スレッドが空くのを待っている変換が時間切れになることはない．
+ * 深い再帰に耐えられるように，各スレッドには大きなスタックを割り当てる．
+ */
+public class ParseExecutor implements AutoCloseable {
+
+  private static final Logger log = LoggerFactory.getLogger(ParseExecutor.class);
+
+  private static final long STACK_SIZE = 256L * 1024L * 1024L;
+
+  private static final int PENDING = 0;
+  private static final int RUNNING = 1;
+  private static final int DONE = 2;
+  private static final int ABANDONED = 3;
+
+  /**
+   * 変換が時間切れになった，または変換中にエラーが起きたことを表す例外．
+   */
+  public static class ParseFailure extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    public ParseFailure(final String message) {
+      super(message);
+    }
+  }
+
+  private final int nthreads;
+  private final ThreadPoolExecutor executor;
+  private int abandoned;
+
+  /**
+   * @param nthreads 同時に実行する変換の数
+   */
+  public ParseExecutor(final int nthreads) {
+    this.nthreads = nthreads;
+    final AtomicInteger count = new AtomicInteger();
+    final ThreadFactory factory = r -> {
+      final Thread thread =
+          new Thread(null, r, "finergit-parser-" + count.incrementAndGet(), STACK_SIZE);
+      thread.setDaemon(true);
+      return thread;
+    };
+    this.executor = new ThreadPoolExecutor(nthreads, nthreads, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), factory);
+    this.executor.allowCoreThreadTimeOut(true);
+    this.abandoned = 0;
+  }
+
+  // 待ち行列に入れる変換．終了時に未着手のまま取り除かれた場合は cancel() で呼び出し側に知らせる
+  private class Task<T> implements Runnable {
+
+    final Callable<T> callable;
+    final AtomicInteger state;
+    final CompletableFuture<Long> started;
+    final CompletableFuture<T> result;
+
+    Task(final Callable<T> callable) {
+      this.callable = callable;
+      this.state = new AtomicInteger(PENDING);
+      this.started = new CompletableFuture<>();
+      this.result = new CompletableFuture<>();
+    }
+
+    @Override
+    public void run() {
+      if (!this.state.compareAndSet(PENDING, RUNNING)) {
+        return;
+      }
+      this.started.complete(System.nanoTime());
+      try {
+        this.result.complete(this.callable.call());
+      } catch (final Throwable e) {
+        this.result.completeExceptionally(e);
+      } finally {
+        if (!this.state.compareAndSet(RUNNING, DONE)) {
+          ParseExecutor.this.resize(-1);
+        }
+      }
+    }
+
+    void cancel() {
+      this.state.compareAndSet(PENDING, ABANDONED);
+      this.started.cancel(false);
+      this.result.cancel(false);
+    }
+  }
+
+  /**
+   * 引数の処理を実行し，その結果を返す．時間は処理が始まってから数えるため，待ち行列で待たされた時間は含まない．
+   *
+   * @param timeout 時間の上限（ミリ秒）．0 以下の場合は上限なし
+   * @throws ParseFailure 時間切れになった場合，または処理中に例外やエラーが起きた場合
+   */
+  public <T> T call(final Callable<T> callable, final long timeout) throws ParseFailure {
+    final Task<T> task = new Task<>(callable);
+    try {
+      this.executor.execute(task);
+    } catch (final RejectedExecutionException e) {
+      throw new ParseFailure("parse executor is closed");
+    }
+
+    try {
+      if (timeout <= 0) {
+        return task.result.get();
+      }
+      final long startTime = task.started.get();
+      final long remaining =
+          TimeUnit.MILLISECONDS.toNanos(timeout) - (System.nanoTime() - startTime);
+      return task.result.get(Math.max(0L, remaining), TimeUnit.NANOSECONDS);
+    } catch (final TimeoutException e) {
+      // 実行中の場合は放棄した分のスレッドを追加する．直前に終わっていた場合はその結果を返す
+      if (task.state.compareAndSet(RUNNING, ABANDONED)) {
+        this.resize(1);
+        throw new ParseFailure("timed out after " + timeout + " ms");
+      }
+      return this.getNow(task);
+    } catch (final ExecutionException e) {
+      throw new ParseFailure(e.getCause()
+          .toString());
+    } catch (final CancellationException e) {
+      throw new ParseFailure("parse executor is closed");
+    } catch (final InterruptedException e) {
+      // 未着手の場合は実行させず，実行中の場合は放棄する
+      if (task.state.compareAndSet(RUNNING, ABANDONED)) {
+        this.resize(1);
+      } else {
+        task.state.compareAndSet(PENDING, ABANDONED);
+      }
+      Thread.currentThread()
+          .interrupt();
+      throw new ParseFailure("interrupted");
+    }
+  }
+
+  private <T> T getNow(final Task<T> task) throws ParseFailure {
+    try {
+      return task.result.join();
+    } catch (final CompletionException e) {
+      throw new ParseFailure(e.getCause()
+          .toString());
+    }
+  }
+
+  /**
+   * 現在のスレッド数（同時に実行する変換の数と，放棄された変換の数の和）を返す．
+   */
+  int getPoolSize() {
+    return this.executor.getCorePoolSize();
+  }
+
+  // 放棄した変換の数に応じてスレッド数を増減させる
+  private synchronized void resize(final int delta) {
+    this.abandoned += delta;
+    final int size = this.nthreads + this.abandoned;
+    if (0 < delta) {
+      this.executor.setMaximumPoolSize(size);
+      this.executor.setCorePoolSize(size);
+      log.warn("{} abandoned parses are still running", this.abandoned);
+    } else {
+      this.executor.setCorePoolSize(size);
+      this.executor.setMaximumPoolSize(size);
+    }
+  }
+
+  @Override
+  public void close() {
+    for (final Runnable task : this.executor.shutdownNow()) {
+      ((Task<?>) task).cancel();
+    }
+  }
+}
@@ -0,0 +1,194 @@
+package finergit;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 変換対象とするファイルをパスの glob パターンで絞り込むフィルタ．パスはリポジトリのルートからの相対パス（例: src/main/Foo.java）である．
+ * include が1つ以上指定された場合はいずれかに一致するファイルのみを対象とし，exclude のいずれかに一致するファイルは対象外とする．
+ * glob では "*" と "?" はディレクトリの区切りをまたがず，"**" はまたぐ．"**" の直後の "/" は省略可能なものとして扱う．
+ * exclude がディレクトリ自身，または "dir/**" の "dir" に一致するディレクトリは，その下のファイルを読まずに丸ごと除外する．
+ */
+public class PathFilter {
+
+  private static class Glob {
+
+    final Pattern pattern;
+
+    // 先頭からワイルドカードを含まないディレクトリ名の列（ディレクトリの枝刈りに使う）
+    final List<String> literalPrefix;
+
+    // "dir/**" の形式の場合の "dir" 部分（ディレクトリ全体の除外に使う）
+    final Pattern directoryPattern;
+
+    Glob(final String glob) {
+      this.pattern = toPattern(glob);
+      this.literalPrefix = new ArrayList<>();
+      final String[] segments = glob.split("/");
+      for (int index = 0; index < segments.length - 1; index++) {
+        if (hasWildcard(segments[index])) {
+          break;
+        }
+        this.literalPrefix.add(segments[index]);
+      }
+      this.directoryPattern =
+          glob.endsWith("/**") ? toPattern(glob.substring(0, glob.length() - 3)) : null;
+    }
+  }
+
+  private final List<Glob> includes;
+  private final List<Glob> excludes;
+
+  public PathFilter(final List<String> includes, final List<String> excludes) {
+    this.includes = new ArrayList<>();
+    for (final String glob : includes) {
+      this.includes.add(new Glob(normalize(glob)));
+    }
+    this.excludes = new ArrayList<>();
+    for (final String glob : excludes) {
+      this.excludes.add(new Glob(normalize(glob)));
+    }
+  }
+
+  public PathFilter() {
+    this(Collections.emptyList(), Collections.emptyList());
+  }
+
+  /**
+   * すべてのファイルを対象とする（パターンが指定されていない）場合に true を返す．
+   */
+  public boolean isEmpty() {
+    return this.includes.isEmpty() && this.excludes.isEmpty();
+  }
+
+  /**
+   * 引数のファイルが変換対象の場合に true を返す．
+   */
+  public boolean accepts(final String path) {
+    final String normalizedPath = normalize(path);
+    if (!this.includes.isEmpty() && this.includes.stream()
+        .noneMatch(g -> g.pattern.matcher(normalizedPath)
+            .matches())) {
+      return false;
+    }
+    return this.excludes.stream()
+        .noneMatch(g -> g.pattern.matcher(normalizedPath)
+            .matches());
+  }
+
+  /**
+   * 引数のディレクトリ以下に変換対象のファイルが存在しうる場合に true を返す．false の場合はディレクトリごと読み飛ばしてよい．
+   */
+  public boolean acceptsDirectory(final String path) {
+    final String normalizedPath = normalize(path);
+    if (normalizedPath.isEmpty()) {
+      return true;
+    }
+    for (final Glob g : this.excludes) {
+      if (g.pattern.matcher(normalizedPath)
+          .matches()
+          || (null != g.directoryPattern && g.directoryPattern.matcher(normalizedPath)
+              .matches())) {
+        return false;
+      }
+    }
+    if (this.includes.isEmpty()) {
+      return true;
+    }
+    final String[] segments = normalizedPath.split("/");
+    for (final Glob g : this.includes) {
+      if (isCompatible(segments, g.literalPrefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // ディレクトリのパスと glob の先頭の固定部分のどちらかが他方の接頭辞になっているかどうか
+  private static boolean isCompatible(final String[] segments, final List<String> literalPrefix) {
+    final int length = Math.min(segments.length, literalPrefix.size());
+    for (int index = 0; index < length; index++) {
+      if (!segments[index].equals(literalPrefix.get(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasWildcard(final String segment) {
+    return segment.contains("*") || segment.contains("?") || segment.contains("[")
+        || segment.contains("{");
+  }
+
+  private static String normalize(final String path) {
+    String normalizedPath = path.replace('\\', '/');
+    while (normalizedPath.startsWith("/")) {
+      normalizedPath = normalizedPath.substring(1);
+    }
+    while (normalizedPath.endsWith("/")) {
+      normalizedPath = normalizedPath.substring(0, normalizedPath.length() - 1);
+    }
+    return normalizedPath;
+  }
+
+  static Pattern toPattern(final String glob) {
+    final StringBuilder regex = new StringBuilder();
+    boolean inGroup = false;
+    for (int index = 0; index < glob.length(); index++) {
+      final char c = glob.charAt(index);
+      switch (c) {
+        case '*': {
+          if (index + 1 < glob.length() && '*' == glob.charAt(index + 1)) {
+            index++;
+            if (index + 1 < glob.length() && '/' == glob.charAt(index + 1)) {
+              index++;
+              regex.append("(?:.*/)?");
+            } else {
+              regex.append(".*");
+            }
+          } else {
+            regex.append("[^/]*");
+          }
+          break;
+        }
+        case '?': {
+          regex.append("[^/]");
+          break;
+        }
+        case '{': {
+          inGroup = true;
+          regex.append("(?:");
+          break;
+        }
+        case '}': {
+          inGroup = false;
+          regex.append(')');
+          break;
+        }
+        case ',': {
+          regex.append(inGroup ? "|" : ",");
+          break;
+        }
+        case '[': {
+          final int end = glob.indexOf(']', index);
+          if (end < 0) {
+            regex.append("\\[");
+          } else {
+            final String chars = glob.substring(index + 1, end);
+            regex.append('[')
+                .append(chars.startsWith("!") ? "^" + chars.substring(1) : chars)
+                .append(']');
+            index = end;
+          }
+          break;
+        }
+        default: {
+          regex.append(Pattern.quote(String.valueOf(c)));
+        }
+      }
+    }
+    return Pattern.compile(regex.toString());
+  }
+}
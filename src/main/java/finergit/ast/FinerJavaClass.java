@@ -29,7 +29,7 @@ public class FinerJavaClass extends FinerJavaModule {
    * @return
    */
   @Override
-  public String getBaseName() {
+  protected String createBaseName() {
 
     final StringBuilder builder = new StringBuilder();
 
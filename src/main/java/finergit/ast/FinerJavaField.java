@@ -29,7 +29,7 @@ public class FinerJavaField extends FinerJavaModule {
    * @return
    */
   @Override
-  public String getBaseName() {
+  protected String createBaseName() {
     return this.outerModule.getBaseName() + FIELD_DELIMITER + this.name;
   }
 }
@@ -42,7 +42,7 @@ public class FinerJavaFile extends FinerJavaModule {
    * @return
    */
   @Override
-  public String getBaseName() {
+  protected String createBaseName() {
     return this.name;
   }
 }
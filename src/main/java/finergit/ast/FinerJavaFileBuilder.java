@@ -4,22 +4,54 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import org.apache.commons.io.FilenameUtils;
 import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTVisitor;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.FileASTRequestor;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import finergit.ConversionStats;
 import finergit.FinerGitConfig;
 import finergit.JavaVersion;
+import finergit.ast.token.LineToken;
 
 public class FinerJavaFileBuilder {
 
+  // AST の走査に影響する設定．これが同じ設定同士は1回の走査の結果を共有できる
+  private record VisitOptions(boolean isTokenized, boolean isAccessModifierIncluded,
+      boolean isMethodTypeErasureIncluded, boolean isReturnTypeIncluded) {
+
+    static VisitOptions of(final FinerGitConfig config) {
+      return new VisitOptions(config.isTokenized(), config.isAccessModifierIncluded(),
+          config.isMethodTypeErasureIncluded(), config.isReturnTypeIncluded());
+    }
+  }
+
+  // JDT のパーザはスレッドごとに1つだけ作って使い回す．createAST の後は状態が初期化されるので，使うたびに設定し直す
+  private static final ThreadLocal<ASTParser> PARSER =
+      ThreadLocal.withInitial(() -> ASTParser.newParser(AST.JLS25));
+
   private final FinerGitConfig config;
 
+  private final ConversionStats stats;
+
   public FinerJavaFileBuilder(final FinerGitConfig config) {
+    this(config, new ConversionStats());
+  }
+
+  /**
+   * @param stats 構文解析とASTの走査にかかった時間などを記録する統計情報
+   */
+  public FinerJavaFileBuilder(final FinerGitConfig config, final ConversionStats stats) {
     this.config = config;
+    this.stats = stats;
   }
 
   public List<FinerJavaModule> getFinerJavaModules(final Map<String, String> pathToTextMap) {
@@ -48,7 +80,7 @@ public class FinerJavaFileBuilder {
       }
     };
 
-    final ASTParser parser = createNewParser();
+    final ASTParser parser = getParser();
     final String[] filePaths = pathToTextMap.keySet()
         .toArray(new String[0]);
     parser.createASTs(filePaths, null, new String[] {}, requestor, null);
@@ -57,33 +89,135 @@ public class FinerJavaFileBuilder {
   }
 
   public List<FinerJavaModule> getFinerJavaModules(final String path, final String text) {
-    final ASTParser parser = createNewParser();
+    return this.getFinerJavaModules(path, text, List.of(this.config))
+        .get(0);
+  }
+
+  /**
+   * 構文解析を行わずに，Javaファイルの各行をそのまま1つの字句とするファイルモジュール（.pjava）のみを返す．
+   * サイズや複雑さの上限を超えたファイルを，構文解析に時間をかけずに出力するために用いる．
+   */
+  public List<FinerJavaModule> getUnparsedModules(final String path, final String text) {
+    final FinerJavaFile finerJavaFile = new FinerJavaFile(Paths.get(path)
+        .getParent(), FilenameUtils.getBaseName(path), this.config);
+    // 空行も字句として残し，最後の改行の後の空文字列のみを除く
+    final String[] lines = text.split("(\\r\\n|\\r|\\n)", -1);
+    final int length = lines[lines.length - 1].isEmpty() ? lines.length - 1 : lines.length;
+    for (int index = 0; index < length; index++) {
+      finerJavaFile.addToken(new LineToken(lines[index]));
+    }
+    return List.of(finerJavaFile);
+  }
+
+  /**
+   * Javaファイルを1回だけ構文解析し，引数の設定ごとに細粒度モジュールに変換する．AST の走査は走査に影響する設定が同じもの同士で共有される．
+   * 共有されたモジュールは走査に用いた設定を保持するため，書き出す際は writeTo(out, config) と getFileName(config) を用いる．
+   *
+   * @param configs 生成に用いる設定．構文解析に関わる設定（Javaのバージョンと構文エラーの復元）はこのビルダの設定と同じでなければならない
+   * @return 引数の設定と同じ順序の，設定ごとの細粒度モジュール
+   */
+  public List<List<FinerJavaModule>> getFinerJavaModules(final String path, final String text,
+      final List<FinerGitConfig> configs) {
+    final ASTParser parser = getParser();
     parser.setUnitName(path);
     parser.setSource(text.toCharArray());
+    final CompilationUnit ast = this.parse(parser);
+    return this.getFinerJavaModules(path, ast, configs);
+  }
+
+  private CompilationUnit parse(final ASTParser parser) {
+    final long startTime = System.nanoTime();
     final CompilationUnit ast = (CompilationUnit) parser.createAST(null);
+    this.stats.parseTime.add(System.nanoTime() - startTime);
+    this.stats.parsedBlobs.increment();
+    return ast;
+  }
+
+  private List<List<FinerJavaModule>> getFinerJavaModules(final String path,
+      final CompilationUnit ast, final List<FinerGitConfig> configs) {
 
     // 与えられたASTに問題があるときは何もしない
+    // ただし，復元モードではすべての問題がメソッド内にある場合に限り，問題を含むメソッドを除いて変換する
     final IProblem[] problems = ast.getProblems();
     if (null == problems || 0 < problems.length) {
-      return Collections.emptyList();
+      if (null == problems || !this.config.isSyntaxErrorRecovered()
+          || !removeBrokenMethods(ast, problems)) {
+        this.stats.problemBlobs.increment();
+        return Collections.nCopies(configs.size(), Collections.emptyList());
+      }
+      this.stats.recoveredBlobs.increment();
     }
 
-    final JavaFileVisitor visitor = new JavaFileVisitor(Paths.get(path), this.config);
-    ast.accept(visitor);
-    return visitor.getFinerJavaModules();
+    final List<List<FinerJavaModule>> modules = new ArrayList<>(configs.size());
+    final Map<VisitOptions, JavaFileVisitor> visitors = new HashMap<>();
+    for (final FinerGitConfig c : configs) {
+      JavaFileVisitor visitor = visitors.get(VisitOptions.of(c));
+      if (null == visitor) {
+        final long startTime = System.nanoTime();
+        visitor = new JavaFileVisitor(Paths.get(path), c);
+        ast.accept(visitor);
+        this.stats.visitTime.add(System.nanoTime() - startTime);
+        visitors.put(VisitOptions.of(c), visitor);
+      }
+      modules.add(visitor.getFinerJavaModules(c));
+    }
+    return modules;
+  }
+
+  /**
+   * 問題の位置を含むメソッドをASTから取り除く．メソッドの外に問題がある場合は何もせずに false を返す．
+   */
+  static boolean removeBrokenMethods(final CompilationUnit ast, final IProblem[] problems) {
+    final List<MethodDeclaration> methods = new ArrayList<>();
+    ast.accept(new ASTVisitor() {
+
+      @Override
+      public boolean visit(final MethodDeclaration node) {
+        methods.add(node);
+        return true;
+      }
+    });
+
+    // 外側のメソッドから順に並ぶ
+    final Set<MethodDeclaration> brokenMethods = new LinkedHashSet<>();
+    for (final IProblem problem : problems) {
+      final int position = problem.getSourceStart();
+      boolean isInMethod = false;
+      for (final MethodDeclaration method : methods) {
+        final int start = method.getStartPosition();
+        if (start <= position && position < start + method.getLength()) {
+          brokenMethods.add(method);
+          isInMethod = true;
+        }
+      }
+      if (!isInMethod) {
+        return false;
+      }
+    }
+
+    for (final MethodDeclaration method : brokenMethods) {
+      if (null != method.getParent()) {
+        method.delete();
+      }
+    }
+    return true;
   }
 
-  private ASTParser createNewParser() {
-    ASTParser parser = ASTParser.newParser(AST.JLS25);
+  private ASTParser getParser() {
+    final ASTParser parser = PARSER.get();
     final JavaVersion javaVersion = this.config.getJavaVersion();
     final Map<String, String> options = javaVersion.getOptions();
+    this.configure(parser, options);
+    return parser;
+  }
+
+  private void configure(final ASTParser parser, final Map<String, String> options) {
     parser.setCompilerOptions(options);
+    parser.setStatementsRecovery(this.config.isSyntaxErrorRecovered());
 
     // TODO: Bindingが必要か検討
     parser.setResolveBindings(false);
     parser.setBindingsRecovery(false);
     parser.setEnvironment(null, null, null, true);
-
-    return parser;
   }
 }
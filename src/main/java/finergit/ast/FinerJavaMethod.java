@@ -29,7 +29,7 @@ public class FinerJavaMethod extends FinerJavaModule {
    * @return
    */
   @Override
-  public String getBaseName() {
+  protected String createBaseName() {
     return this.outerModule.getBaseName() + METHOD_DELIMITER + this.name;
   }
 }
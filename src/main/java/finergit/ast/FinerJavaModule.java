@@ -1,7 +1,9 @@
 package finergit.ast;
 
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.apache.commons.codec.digest.DigestUtils;
@@ -9,20 +11,42 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import finergit.FinerGitConfig;
 import finergit.ast.token.JavaToken;
-import finergit.ast.token.LEFTMETHODBRACKET;
-import finergit.ast.token.LEFTMETHODPAREN;
-import finergit.ast.token.METHODDECLARATIONSEMICOLON;
-import finergit.ast.token.RIGHTMETHODBRACKET;
-import finergit.ast.token.RIGHTMETHODPAREN;
+import finergit.util.ByteArrayBuilder;
 
 public abstract class FinerJavaModule {
 
   private static final Logger log = LoggerFactory.getLogger(FinerJavaModule.class);
+  private static final byte[] LINE_SEPARATOR = System.lineSeparator()
+      .getBytes(StandardCharsets.UTF_8);
+
+  // 字句列のハッシュ値の2つのレーンの初期値と乗数（xxHash64 の1文字ごとの混合を，独立な定数で2つ行う）
+  private static final long FIRST_HASH_SEED = 0x9e3779b97f4a7c15L;
+  private static final long SECOND_HASH_SEED = 0x60bee2bee120fc15L;
+  private static final long PRIME64_1 = 0x9e3779b185ebca87L;
+  private static final long PRIME64_2 = 0xc2b2ae3d27d4eb4fL;
+  private static final long PRIME64_3 = 0x165667b19e3779f9L;
+  private static final long PRIME64_4 = 0x85ebca77c2b2ae63L;
+
+  // 字句の値と種類の区切りに使う，文字としては現れない値
+  private static final int TOKEN_SEPARATOR = 0x10000;
+
+  /**
+   * 字句列の128ビットのハッシュ値．2つのレーンは字句を加えるたびに更新され，最後に互いを混ぜ合わせて求める．
+   */
+  public record TokenHash(long first, long second) {
+  }
 
   public final String name;
   public final FinerJavaModule outerModule;
   protected final FinerGitConfig config;
   private final List<JavaToken> tokens;
+  private long firstHash;
+  private long secondHash;
+
+  // 名前と外側のモジュールは変わらないため，ベースネームとこのモジュールの設定でのファイル名は一度だけ求める．
+  // どちらも不変な文字列なので，複数のスレッドから同時に求められても同じ値になる
+  private String baseName;
+  private String fileName;
 
   FinerJavaModule(final String name, final FinerJavaModule outerModule,
       final FinerGitConfig config) {
@@ -30,33 +54,122 @@ public abstract class FinerJavaModule {
     this.outerModule = outerModule;
     this.config = config;
     this.tokens = new ArrayList<>();
+    this.firstHash = FIRST_HASH_SEED;
+    this.secondHash = SECOND_HASH_SEED;
   }
 
   public boolean addToken(final JavaToken token) {
+    final String value = token.value;
+    for (int index = 0; index < value.length(); index++) {
+      this.updateHash(value.charAt(index));
+    }
+    this.updateHash(TOKEN_SEPARATOR);
+    this.updateHash(token.kind()
+        .label()
+        .hashCode());
+    this.updateHash(TOKEN_SEPARATOR);
     return this.tokens.add(token);
   }
 
+  private void updateHash(final int value) {
+    this.firstHash = Long.rotateLeft(this.firstHash + value * PRIME64_2, 31) * PRIME64_1;
+    this.secondHash = Long.rotateLeft(this.secondHash + value * PRIME64_4, 27) * PRIME64_3;
+  }
+
+  /**
+   * 別のモジュール（ダミーのモジュール）の字句をすべてこのモジュールに移す．
+   * 字句を持たないモジュールに移す場合は，字句ごとにハッシュ値を計算し直さず，そのハッシュ値も引き継ぐ．
+   *
+   * @param module 字句の移動元．移動後は字句を持たない．
+   */
+  public void moveTokensFrom(final FinerJavaModule module) {
+    if (this.tokens.isEmpty()) {
+      this.tokens.addAll(module.tokens);
+      this.firstHash = module.firstHash;
+      this.secondHash = module.secondHash;
+    } else {
+      module.tokens.forEach(this::addToken);
+    }
+    module.clearTokens();
+  }
+
   public void clearTokens() {
     this.tokens.clear();
+    this.firstHash = FIRST_HASH_SEED;
+    this.secondHash = SECOND_HASH_SEED;
   }
 
+  /**
+   * 字句の列を返す．ハッシュ値を字句列と一致させるため，字句の追加は addToken で行う．
+   */
   public List<JavaToken> getTokens() {
-    return this.tokens;
+    return Collections.unmodifiableList(this.tokens);
+  }
+
+  /**
+   * 字句列のハッシュ値を返す．同じ設定で書き込まれる内容は字句列のみで決まるため，内容を作らずに同一性を判定できる．
+   */
+  public TokenHash getTokenHash() {
+    // MurmurHash3 (x64, 128ビット) の最終処理と同じく，2つのレーンを混ぜ合わせてから攪拌する
+    long first = this.firstHash + this.secondHash;
+    long second = this.secondHash + first;
+    first = mix(first);
+    second = mix(second);
+    first += second;
+    second += first;
+    return new TokenHash(first, second);
+  }
+
+  private static long mix(long value) {
+    value ^= value >>> 33;
+    value *= 0xff51afd7ed558ccdL;
+    value ^= value >>> 33;
+    value *= 0xc4ceb9fe1a85ec53L;
+    value ^= value >>> 33;
+    return value;
   }
 
   public List<String> getLines() {
     final boolean isMethodTokenIncluded = this.config.isMethodTokenIncluded();
     final boolean isTokenTypeIncluded = this.config.isTokenTypeIncluded();
     return this.tokens.stream()
-        .filter(t -> isMethodTokenIncluded || LEFTMETHODPAREN.class != t.getClass())
-        .filter(t -> isMethodTokenIncluded || RIGHTMETHODPAREN.class != t.getClass())
-        .filter(t -> isMethodTokenIncluded || LEFTMETHODBRACKET.class != t.getClass())
-        .filter(t -> isMethodTokenIncluded || RIGHTMETHODBRACKET.class != t.getClass())
-        .filter(t -> isMethodTokenIncluded || METHODDECLARATIONSEMICOLON.class != t.getClass())
+        .filter(t -> isMethodTokenIncluded || !t.is(JavaToken.METHOD_BOUNDARY))
         .map(t -> t.toLine(isTokenTypeIncluded))
         .collect(Collectors.toList());
   }
 
+  /**
+   * getLines() の各行に改行を付けたものを，中間の文字列を作らずに UTF-8 で書き込む．
+   *
+   * @param out 書き込み先
+   */
+  public void writeTo(final ByteArrayBuilder out) {
+    this.writeTo(out, this.config);
+  }
+
+  /**
+   * 引数の設定で書き込む．生成時と出力形式（トークンの種類やメソッドの境界を含めるか）のみが異なる設定を与えることもできる．
+   *
+   * @param out 書き込み先
+   * @param config 出力形式を決める設定
+   */
+  public void writeTo(final ByteArrayBuilder out, final FinerGitConfig config) {
+    final boolean isMethodTokenIncluded = config.isMethodTokenIncluded();
+    final boolean isTokenTypeIncluded = config.isTokenTypeIncluded();
+    for (final JavaToken t : this.tokens) {
+      if (!isMethodTokenIncluded && t.is(JavaToken.METHOD_BOUNDARY)) {
+        continue;
+      }
+      out.appendUtf8(t.value);
+      if (isTokenTypeIncluded) {
+        out.append((byte) '\t');
+        out.appendUtf8(t.kind()
+            .label());
+      }
+      out.append(LINE_SEPARATOR);
+    }
+  }
+
   public abstract Path getDirectory();
 
   /**
@@ -66,18 +179,39 @@ public abstract class FinerJavaModule {
    * @return
    */
   public final String getFileName() {
+    String fileName = this.fileName;
+    if (null == fileName) {
+      fileName = this.createFileName(this.config);
+      this.fileName = fileName;
+    }
+    return fileName;
+  }
+
+  /**
+   * 引数の設定でのファイル名（ファイル名の長さの上限とハッシュ値の長さのみが設定に依存する）を返す．
+   */
+  public final String getFileName(final FinerGitConfig config) {
+    if (config == this.config
+        || (config.getMaxFileNameLength() == this.config.getMaxFileNameLength()
+            && config.getHashLength() == this.config.getHashLength())) {
+      return this.getFileName();
+    }
+    return this.createFileName(config);
+  }
+
+  private String createFileName(final FinerGitConfig config) {
     String name = this.getBaseName() + this.getExtension();
-    final int maxFileNameLength = this.config.getMaxFileNameLength();
+    final int maxFileNameLength = config.getMaxFileNameLength();
     if (maxFileNameLength < name.length()) {
       //log.info("\"{}\" is shrinked to {} characters due to too long name", name, maxFileNameLength);
-      name = this.shrink(name);
+      name = this.shrink(name, config);
     }
     return name;
   }
 
-  private String shrink(final String name) {
-    final int maxFileNameLength = this.config.getMaxFileNameLength();
-    final int hashLength = this.config.getHashLength();
+  private String shrink(final String name, final FinerGitConfig config) {
+    final int maxFileNameLength = config.getMaxFileNameLength();
+    final int hashLength = config.getHashLength();
     final String sha1 = DigestUtils.sha1Hex(name)
         .substring(0, hashLength);
     return name.substring(0, maxFileNameLength - (hashLength + getExtension().length() + 1))
@@ -99,9 +233,23 @@ public abstract class FinerJavaModule {
   public abstract String getExtension();
 
   /**
-   * ベースネーム（拡張子がないファイル名）を返す．
+   * ベースネーム（拡張子がないファイル名）を返す．内側のモジュールからも使われるため，一度だけ求めて使い回す．
+   *
+   * @return
+   */
+  public final String getBaseName() {
+    String baseName = this.baseName;
+    if (null == baseName) {
+      baseName = this.createBaseName();
+      this.baseName = baseName;
+    }
+    return baseName;
+  }
+
+  /**
+   * ベースネームを求める．
    *
    * @return
    */
-  abstract public String getBaseName();
+  abstract protected String createBaseName();
 }
@@ -30,7 +30,7 @@ public class FinerJavaRecord extends FinerJavaModule {
    * @return
    */
   @Override
-  public String getBaseName() {
+  protected String createBaseName() {
 
     final StringBuilder builder = new StringBuilder();
 
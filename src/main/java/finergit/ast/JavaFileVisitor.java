@@ -243,6 +243,13 @@ public class JavaFileVisitor extends ASTVisitor {
   }
 
   public List<FinerJavaModule> getFinerJavaModules() {
+    return this.getFinerJavaModules(this.config);
+  }
+
+  /**
+   * 引数の設定で生成対象となっている種類のモジュールを返す．走査時と生成するファイルの種類のみが異なる設定を与えることもできる．
+   */
+  public List<FinerJavaModule> getFinerJavaModules(final FinerGitConfig config) {
     return this.moduleList.stream()
         .filter(m -> (FinerJavaFile.class == m.getClass() && config.isPeripheralFileGenerated())
             || (FinerJavaClass.class == m.getClass() && config.isClassFileGenerated())
@@ -275,7 +282,7 @@ public class JavaFileVisitor extends ASTVisitor {
     assert CLASSNAME.class
         == context : "error happened at JavaFileVisitor#visit(AnnotationTypeDeclaration)";
 
-    this.addToPeekModule(new LEFTANNOTATIONBRACKET());
+    this.addToPeekModule(LEFTANNOTATIONBRACKET.INSTANCE);
 
     // ボディの処理
     for (final Object o : node.bodyDeclarations()) {
@@ -283,7 +290,7 @@ public class JavaFileVisitor extends ASTVisitor {
       body.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTANNOTATIONBRACKET());
+    this.addToPeekModule(RIGHTANNOTATIONBRACKET.INSTANCE);
 
     this.classNestLevel--;
 
@@ -318,11 +325,11 @@ public class JavaFileVisitor extends ASTVisitor {
 
     final Expression defaultValue = node.getDefault();
     if (null != defaultValue) {
-      this.addToPeekModule(new ASSIGN());
+      this.addToPeekModule(ASSIGN.INSTANCE);
       defaultValue.accept(this);
     }
 
-    this.addToPeekModule(new ANNOTATIONTYPEMEMBERDECLARATIONSEMICOLON());
+    this.addToPeekModule(ANNOTATIONTYPEMEMBERDECLARATIONSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -332,14 +339,14 @@ public class JavaFileVisitor extends ASTVisitor {
 
     this.classNestLevel++;
 
-    this.addToPeekModule(new LEFTANONYMOUSCLASSBRACKET());
+    this.addToPeekModule(LEFTANONYMOUSCLASSBRACKET.INSTANCE);
 
     for (final Object o : node.bodyDeclarations()) {
       final BodyDeclaration body = (BodyDeclaration) o;
       body.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTANONYMOUSCLASSBRACKET());
+    this.addToPeekModule(RIGHTANONYMOUSCLASSBRACKET.INSTANCE);
 
     this.classNestLevel--;
 
@@ -352,12 +359,12 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getArray()
         .accept(this);
 
-    this.addToPeekModule(new LEFTSQUAREBRACKET());
+    this.addToPeekModule(LEFTSQUAREBRACKET.INSTANCE);
 
     node.getIndex()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTSQUAREBRACKET());
+    this.addToPeekModule(RIGHTSQUAREBRACKET.INSTANCE);
 
     return false;
   }
@@ -365,7 +372,7 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ArrayCreation node) {
 
-    this.addToPeekModule(new NEW());
+    this.addToPeekModule(NEW.INSTANCE);
 
     node.getType()
         .accept(this);
@@ -381,18 +388,18 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ArrayInitializer node) {
 
-    this.addToPeekModule(new LEFTARRAYINITIALIZERBRACKET());
+    this.addToPeekModule(LEFTARRAYINITIALIZERBRACKET.INSTANCE);
 
     final List<?> expressions = node.expressions();
     if (null != expressions && !expressions.isEmpty()) {
       ((Expression) expressions.getFirst()).accept(this);
       for (int index = 1; index < expressions.size(); index++) {
-        this.addToPeekModule(new ARRAYINITIALIZERCOMMA());
+        this.addToPeekModule(ARRAYINITIALIZERCOMMA.INSTANCE);
         ((Expression) expressions.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTARRAYINITIALIZERBRACKET());
+    this.addToPeekModule(RIGHTARRAYINITIALIZERBRACKET.INSTANCE);
 
     return false;
   }
@@ -406,19 +413,19 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final AssertStatement node) {
 
-    this.addToPeekModule(new ASSERT());
+    this.addToPeekModule(ASSERT.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new COLON());
+    this.addToPeekModule(COLON.INSTANCE);
 
     final Expression message = node.getMessage();
     if (null != message) {
       message.accept(this);
     }
 
-    this.addToPeekModule(new ASSERTSTATEMENTSEMICOLON());
+    this.addToPeekModule(ASSERTSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -429,7 +436,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getLeftHandSide()
         .accept(this);
 
-    this.addToPeekModule(new ASSIGN());
+    this.addToPeekModule(ASSIGN.INSTANCE);
 
     node.getRightHandSide()
         .accept(this);
@@ -467,38 +474,38 @@ public class JavaFileVisitor extends ASTVisitor {
       // 匿名class宣言のときにはここには来ないはず
       log.error("unexpected state at anonymous type declaration.");
     } else if (MethodDeclaration.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTMETHODBRACKET() : new RIGHTMETHODBRACKET());
+      this.addToPeekModule(left ? LEFTMETHODBRACKET.INSTANCE : RIGHTMETHODBRACKET.INSTANCE);
     } else if (Initializer.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTINITIALIZERBRACKET() : new RIGHTINITIALIZERBRACKET());
+      this.addToPeekModule(left ? LEFTINITIALIZERBRACKET.INSTANCE : RIGHTINITIALIZERBRACKET.INSTANCE);
     } else if (DoStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTDOBRACKET() : new RIGHTDOBRACKET());
+      this.addToPeekModule(left ? LEFTDOBRACKET.INSTANCE : RIGHTDOBRACKET.INSTANCE);
     } else if (ForStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTFORBRACKET() : new RIGHTFORBRACKET());
+      this.addToPeekModule(left ? LEFTFORBRACKET.INSTANCE : RIGHTFORBRACKET.INSTANCE);
     } else if (EnhancedForStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTENHANCEDFORBRACKET() : new RIGHTENHANCEDFORBRACKET());
+      this.addToPeekModule(left ? LEFTENHANCEDFORBRACKET.INSTANCE : RIGHTENHANCEDFORBRACKET.INSTANCE);
     } else if (IfStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTIFBRACKET() : new RIGHTIFBRACKET());
+      this.addToPeekModule(left ? LEFTIFBRACKET.INSTANCE : RIGHTIFBRACKET.INSTANCE);
     } else if (LambdaExpression.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTLAMBDABRACKET() : new RIGHTLAMBDABRACKET());
+      this.addToPeekModule(left ? LEFTLAMBDABRACKET.INSTANCE : RIGHTLAMBDABRACKET.INSTANCE);
     } else if (Block.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTSIMPLEBLOCKBRACKET() : new RIGHTSIMPLEBLOCKBRACKET());
+      this.addToPeekModule(left ? LEFTSIMPLEBLOCKBRACKET.INSTANCE : RIGHTSIMPLEBLOCKBRACKET.INSTANCE);
     } else if (SynchronizedStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTSYNCHRONIZEDBRACKET() : new RIGHTSYNCHRONIZEDBRACKET());
+      this.addToPeekModule(left ? LEFTSYNCHRONIZEDBRACKET.INSTANCE : RIGHTSYNCHRONIZEDBRACKET.INSTANCE);
     } else if (SwitchStatement.class == parent.getClass()) {
       // switch文のときには，ここにくるのはswitch文内部のシンプルブロックのはず
-      this.addToPeekModule(left ? new LEFTSIMPLEBLOCKBRACKET() : new RIGHTSIMPLEBLOCKBRACKET());
+      this.addToPeekModule(left ? LEFTSIMPLEBLOCKBRACKET.INSTANCE : RIGHTSIMPLEBLOCKBRACKET.INSTANCE);
     } else if (SwitchExpression.class == parent.getClass()) {
       // switch式のときには，ここにくるのはswitch式内部のシンプルブロックのはず
-      this.addToPeekModule(left ? new LEFTSIMPLEBLOCKBRACKET() : new RIGHTSIMPLEBLOCKBRACKET());
+      this.addToPeekModule(left ? LEFTSIMPLEBLOCKBRACKET.INSTANCE : RIGHTSIMPLEBLOCKBRACKET.INSTANCE);
     } else if (TryStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTTRYBRACKET() : new RIGHTTRYBRACKET());
+      this.addToPeekModule(left ? LEFTTRYBRACKET.INSTANCE : RIGHTTRYBRACKET.INSTANCE);
     } else if (CatchClause.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTCATCHCLAUSEBRACKET() : new RIGHTCATCHCLAUSEBRACKET());
+      this.addToPeekModule(left ? LEFTCATCHCLAUSEBRACKET.INSTANCE : RIGHTCATCHCLAUSEBRACKET.INSTANCE);
     } else if (WhileStatement.class == parent.getClass()) {
-      this.addToPeekModule(left ? new LEFTWHILEBRACKET() : new RIGHTWHILEBRACKET());
+      this.addToPeekModule(left ? LEFTWHILEBRACKET.INSTANCE : RIGHTWHILEBRACKET.INSTANCE);
     } else if (LabeledStatement.class == parent.getClass()) {
       // ラベル文のときには，ここにくるのはラベル文の文の部分がシンプルブロックのはず
-      this.addToPeekModule(left ? new LEFTSIMPLEBLOCKBRACKET() : new RIGHTSIMPLEBLOCKBRACKET());
+      this.addToPeekModule(left ? LEFTSIMPLEBLOCKBRACKET.INSTANCE : RIGHTSIMPLEBLOCKBRACKET.INSTANCE);
     } else {
       System.err.println("unexpected parent type: " + parent.getClass()
           .getName());
@@ -520,7 +527,7 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final BreakStatement node) {
 
-    this.addToPeekModule(new BREAK());
+    this.addToPeekModule(BREAK.INSTANCE);
 
     final SimpleName label = node.getLabel();
     if (null != label) {
@@ -530,7 +537,7 @@ public class JavaFileVisitor extends ASTVisitor {
       assert LABELNAME.class == context : "error happened at visit(BreakStatement)";
     }
 
-    this.addToPeekModule(new BREAKSTATEMENTSEMICOLON());
+    this.addToPeekModule(BREAKSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -538,12 +545,12 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final CastExpression node) {
 
-    this.addToPeekModule(new LEFTCASTPAREN());
+    this.addToPeekModule(LEFTCASTPAREN.INSTANCE);
 
     node.getType()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTCASTPAREN());
+    this.addToPeekModule(RIGHTCASTPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
@@ -554,12 +561,12 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final CatchClause node) {
 
-    this.addToPeekModule(new CATCH(), new LEFTCATCHCLAUSEPAREN());
+    this.addToPeekModule(CATCH.INSTANCE, LEFTCATCHCLAUSEPAREN.INSTANCE);
 
     node.getException()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTCATCHCLAUSEPAREN());
+    this.addToPeekModule(RIGHTCATCHCLAUSEPAREN.INSTANCE);
 
     node.getBody()
         .accept(this);
@@ -582,26 +589,26 @@ public class JavaFileVisitor extends ASTVisitor {
     final Expression expression = node.getExpression();
     if (null != expression) {
       expression.accept(this);
-      this.addToPeekModule(new DOT());
+      this.addToPeekModule(DOT.INSTANCE);
     }
 
-    this.addToPeekModule(new NEW());
+    this.addToPeekModule(NEW.INSTANCE);
 
     node.getType()
         .accept(this);
 
-    this.addToPeekModule(new LEFTCLASSINSTANCECREATIONPAREN());
+    this.addToPeekModule(LEFTCLASSINSTANCECREATIONPAREN.INSTANCE);
 
     final List<?> arguments = node.arguments();
     if (null != arguments && !arguments.isEmpty()) {
       ((Expression) arguments.getFirst()).accept(this);
       for (int index = 1; index < arguments.size(); index++) {
-        this.addToPeekModule(new CLASSINSTANCECREATIONCOMMA());
+        this.addToPeekModule(CLASSINSTANCECREATIONCOMMA.INSTANCE);
         ((Expression) arguments.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTCLASSINSTANCECREATIONPAREN());
+    this.addToPeekModule(RIGHTCLASSINSTANCECREATIONPAREN.INSTANCE);
 
     final AnonymousClassDeclaration acd = node.getAnonymousClassDeclaration();
     if (null != acd) {
@@ -623,12 +630,12 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new QUESTION());
+    this.addToPeekModule(QUESTION.INSTANCE);
 
     node.getThenExpression()
         .accept(this);
 
-    this.addToPeekModule(new COLON());
+    this.addToPeekModule(COLON.INSTANCE);
 
     node.getElseExpression()
         .accept(this);
@@ -639,19 +646,19 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ConstructorInvocation node) {
 
-    this.addToPeekModule(new THIS(), new LEFTCONSTRUCTORINVOCATIONPAREN());
+    this.addToPeekModule(THIS.INSTANCE, LEFTCONSTRUCTORINVOCATIONPAREN.INSTANCE);
 
     final List<?> arguments = node.arguments();
     if (null != arguments && !arguments.isEmpty()) {
       ((Expression) arguments.getFirst()).accept(this);
       for (int index = 1; index < arguments.size(); index++) {
-        this.addToPeekModule(new CONSTRUCTORINVOCATIONCOMMA());
+        this.addToPeekModule(CONSTRUCTORINVOCATIONCOMMA.INSTANCE);
         ((Expression) arguments.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTCONSTRUCTORINVOCATIONPAREN(),
-        new CONSTRUCTORINVOCATIONSEMICOLON());
+    this.addToPeekModule(RIGHTCONSTRUCTORINVOCATIONPAREN.INSTANCE,
+        CONSTRUCTORINVOCATIONSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -659,7 +666,7 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ContinueStatement node) {
 
-    this.addToPeekModule(new CONTINUE());
+    this.addToPeekModule(CONTINUE.INSTANCE);
 
     final SimpleName label = node.getLabel();
     if (null != label) {
@@ -669,7 +676,7 @@ public class JavaFileVisitor extends ASTVisitor {
       assert LABELNAME.class == context : "error happened at visit(ContinueStatement)";
     }
 
-    this.addToPeekModule(new CONTINUESTATEMENTSEMICOLON());
+    this.addToPeekModule(CONTINUESTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -680,7 +687,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getType()
         .accept(this);
 
-    this.addToPeekModule(new METHODREFERENCE(), new NEW());
+    this.addToPeekModule(METHODREFERENCE.INSTANCE, NEW.INSTANCE);
 
     return false;
   }
@@ -688,18 +695,18 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final Dimension node) {
 
-    this.addToPeekModule(new LEFTSQUAREBRACKET());
+    this.addToPeekModule(LEFTSQUAREBRACKET.INSTANCE);
 
     final List<?> annotations = node.annotations();
     if (null != annotations && !annotations.isEmpty()) {
       ((Annotation) annotations.getFirst()).accept(this);
       for (int index = 1; index < annotations.size(); index++) {
-        this.addToPeekModule(new DIMENSIONCOMMA());
+        this.addToPeekModule(DIMENSIONCOMMA.INSTANCE);
         ((Annotation) annotations.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTSQUAREBRACKET());
+    this.addToPeekModule(RIGHTSQUAREBRACKET.INSTANCE);
 
     return false;
   }
@@ -707,41 +714,41 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final DoStatement node) {
 
-    this.addToPeekModule(new DO());
+    this.addToPeekModule(DO.INSTANCE);
 
     node.getBody()
         .accept(this);
 
-    this.addToPeekModule(new WHILE(), new LEFTDOPAREN());
+    this.addToPeekModule(WHILE.INSTANCE, LEFTDOPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTDOPAREN(), new DOSTATEMENTSEMICOLON());
+    this.addToPeekModule(RIGHTDOPAREN.INSTANCE, DOSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
 
   @Override
   public boolean visit(final EmptyStatement node) {
-    this.addToPeekModule(new EMPTYSTATEMENTSEMICOLON());
+    this.addToPeekModule(EMPTYSTATEMENTSEMICOLON.INSTANCE);
     return false;
   }
 
   @Override
   public boolean visit(final EnhancedForStatement node) {
 
-    this.addToPeekModule(new FOR(), new LEFTENHANCEDFORPAREN());
+    this.addToPeekModule(FOR.INSTANCE, LEFTENHANCEDFORPAREN.INSTANCE);
 
     node.getParameter()
         .accept(this);
 
-    this.addToPeekModule(new COLON());
+    this.addToPeekModule(COLON.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTENHANCEDFORPAREN());
+    this.addToPeekModule(RIGHTENHANCEDFORPAREN.INSTANCE);
 
     node.getBody()
         .accept(this);
@@ -775,15 +782,15 @@ public class JavaFileVisitor extends ASTVisitor {
     final List<?> arguments = node.arguments();
     if (null != arguments && !arguments.isEmpty()) {
 
-      this.addToPeekModule(new LEFTENUMPAREN());
+      this.addToPeekModule(LEFTENUMPAREN.INSTANCE);
 
       ((Expression) arguments.getFirst()).accept(this);
       for (int index = 1; index < arguments.size(); index++) {
-        this.addToPeekModule(new ENUMCOMMA());
+        this.addToPeekModule(ENUMCOMMA.INSTANCE);
         ((Expression) arguments.get(index)).accept(this);
       }
 
-      this.addToPeekModule(new RIGHTENUMPAREN());
+      this.addToPeekModule(RIGHTENUMPAREN.INSTANCE);
     }
 
     final AnonymousClassDeclaration acd = node.getAnonymousClassDeclaration();
@@ -823,7 +830,7 @@ public class JavaFileVisitor extends ASTVisitor {
     }
 
     // "class"の処理
-    this.addToPeekModule(new ENUM());
+    this.addToPeekModule(ENUM.INSTANCE);
 
     this.contexts.push(CLASSNAME.class);
     node.getName()
@@ -831,14 +838,14 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> context = this.contexts.pop();
     assert CLASSNAME.class == context : "error happened at JavaFileVisitor#visit(EnumDeclaration)";
 
-    this.addToPeekModule(new LEFTCLASSBRACKET());
+    this.addToPeekModule(LEFTCLASSBRACKET.INSTANCE);
 
     for (final Object o : node.bodyDeclarations()) {
       final BodyDeclaration body = (BodyDeclaration) o;
       body.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTCLASSBRACKET());
+    this.addToPeekModule(RIGHTCLASSBRACKET.INSTANCE);
 
     this.classNestLevel--;
 
@@ -854,7 +861,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final ExportsDirective node) {
-    this.addToPeekModule(new EXPORTS());
+    this.addToPeekModule(EXPORTS.INSTANCE);
 
     this.contexts.push(PACKAGENAME.class);
     node.getName()
@@ -863,7 +870,7 @@ public class JavaFileVisitor extends ASTVisitor {
     assert PACKAGENAME.class == nameContext : "error happened at visit(ExportsDirective)";
 
     this.addTargetModules(node.modules());
-    this.addToPeekModule(new SEMICOLON());
+    this.addToPeekModule(SEMICOLON.INSTANCE);
 
     return false;
   }
@@ -874,7 +881,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new METHODREFERENCE());
+    this.addToPeekModule(METHODREFERENCE.INSTANCE);
 
     this.contexts.push(INVOKEDMETHODNAME.class);
     node.getName()
@@ -892,7 +899,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new EXPRESSIONSTATEMENTSEMICOLON());
+    this.addToPeekModule(EXPRESSIONSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -903,7 +910,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new DOT());
+    this.addToPeekModule(DOT.INSTANCE);
 
     this.contexts.push(VARIABLENAME.class);
     node.getName()
@@ -945,12 +952,12 @@ public class JavaFileVisitor extends ASTVisitor {
     final List<?> fragments = node.fragments();
     ((VariableDeclarationFragment) fragments.getFirst()).accept(this);
     for (int index = 1; index < fragments.size(); index++) {
-      this.addToPeekModule(new FIELDDECLARATIONCOMMA());
+      this.addToPeekModule(FIELDDECLARATIONCOMMA.INSTANCE);
       ((VariableDeclarationFragment) fragments.get(index)).accept(this);
     }
 
     // フィールド宣言の最後にあるセミコロンの処理
-    this.addToPeekModule(new FIELDDECLARATIONSEMICOLON());
+    this.addToPeekModule(FIELDDECLARATIONSEMICOLON.INSTANCE);
 
     // フィールドモジュールの名前を生成
     final StringBuilder fieldFileName = new StringBuilder();
@@ -988,8 +995,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
       // 一行一トークンの場合は，ダミーフィールド内のトークンを抽出し，methodModule に移行
       if (this.config.isTokenized()) {
-        dummyField.getTokens()
-            .forEach(javaField::addToken);
+        javaField.moveTokensFrom(dummyField);
         this.addToPeekModule(
             new FinerJavaFieldToken("FieldToken[" + javaField.name + "]", javaField));
       }
@@ -1009,19 +1015,19 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ForStatement node) {
 
-    this.addToPeekModule(new FOR(), new LEFTFORPAREN());
+    this.addToPeekModule(FOR.INSTANCE, LEFTFORPAREN.INSTANCE);
 
     // 初期化子の処理
     final List<?> initializers = node.initializers();
     if (null != initializers && !initializers.isEmpty()) {
       ((Expression) initializers.getFirst()).accept(this);
       for (int index = 1; index < initializers.size(); index++) {
-        this.addToPeekModule(new FORINITIALIZERCOMMA());
+        this.addToPeekModule(FORINITIALIZERCOMMA.INSTANCE);
         ((Expression) initializers.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new FORINITIALIZERSEMICOLON());
+    this.addToPeekModule(FORINITIALIZERSEMICOLON.INSTANCE);
 
     // 条件節の処理
     final Expression condition = node.getExpression();
@@ -1029,19 +1035,19 @@ public class JavaFileVisitor extends ASTVisitor {
       condition.accept(this);
     }
 
-    this.addToPeekModule(new FORCONDITIONSEMICOLON());
+    this.addToPeekModule(FORCONDITIONSEMICOLON.INSTANCE);
 
     // 更新子の処理
     final List<?> updaters = node.updaters();
     if (null != updaters && !updaters.isEmpty()) {
       ((Expression) updaters.getFirst()).accept(this);
       for (int index = 1; index < updaters.size(); index++) {
-        this.addToPeekModule(new FORUPDATERCOMMA());
+        this.addToPeekModule(FORUPDATERCOMMA.INSTANCE);
         ((Expression) updaters.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTFORPAREN());
+    this.addToPeekModule(RIGHTFORPAREN.INSTANCE);
 
     final Statement body = node.getBody();
     if (null != body) {
@@ -1055,12 +1061,12 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final IfStatement node) {
 
-    this.addToPeekModule(new IF(), new LEFTIFPAREN());
+    this.addToPeekModule(IF.INSTANCE, LEFTIFPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTIFPAREN());
+    this.addToPeekModule(RIGHTIFPAREN.INSTANCE);
 
     final Statement thenStatement = node.getThenStatement();
     if (null != thenStatement) {
@@ -1069,7 +1075,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
     final Statement elseStatement = node.getElseStatement();
     if (null != elseStatement) {
-      this.addToPeekModule(new ELSE());
+      this.addToPeekModule(ELSE.INSTANCE);
       elseStatement.accept(this);
     }
 
@@ -1080,10 +1086,10 @@ public class JavaFileVisitor extends ASTVisitor {
   public boolean visit(final ImportDeclaration node) {
 
     if (node.isStatic()) {
-      this.addToPeekModule(new STATIC());
+      this.addToPeekModule(STATIC.INSTANCE);
     }
 
-    this.addToPeekModule(new IMPORT());
+    this.addToPeekModule(IMPORT.INSTANCE);
 
     this.contexts.push(IMPORTNAME.class);
     node.getName()
@@ -1143,7 +1149,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getLeftOperand()
         .accept(this);
 
-    this.addToPeekModule(new INSTANCEOF());
+    this.addToPeekModule(INSTANCEOF.INSTANCE);
 
     node.getRightOperand()
         .accept(this);
@@ -1158,7 +1164,7 @@ public class JavaFileVisitor extends ASTVisitor {
     ((Type) types.getFirst()).accept(this);
 
     for (int index = 1; index < types.size(); index++) {
-      this.addToPeekModule(new AND());
+      this.addToPeekModule(AND.INSTANCE);
       ((Type) types.get(index)).accept(this);
     }
 
@@ -1180,7 +1186,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> context = this.contexts.pop();
     assert LABELNAME.class == context : "error happened at JavaFileVisitor#visit(LabeledStatement)";
 
-    this.addToPeekModule(new COLON());
+    this.addToPeekModule(COLON.INSTANCE);
 
     node.getBody()
         .accept(this);
@@ -1192,23 +1198,23 @@ public class JavaFileVisitor extends ASTVisitor {
   public boolean visit(final LambdaExpression node) {
 
     if (node.hasParentheses()) {
-      this.addToPeekModule(new LEFTLAMBDAEXPRESSIONPAREN());
+      this.addToPeekModule(LEFTLAMBDAEXPRESSIONPAREN.INSTANCE);
     }
 
     final List<?> parameters = node.parameters();
     if (null != parameters && !parameters.isEmpty()) {
       ((VariableDeclaration) parameters.getFirst()).accept(this);
       for (int index = 1; index < parameters.size(); index++) {
-        this.addToPeekModule(new LAMBDAEXPRESSIONCOMMA());
+        this.addToPeekModule(LAMBDAEXPRESSIONCOMMA.INSTANCE);
         ((VariableDeclaration) parameters.get(index)).accept(this);
       }
     }
 
     if (node.hasParentheses()) {
-      this.addToPeekModule(new RIGHTLAMBDAEXPRESSIONPAREN());
+      this.addToPeekModule(RIGHTLAMBDAEXPRESSIONPAREN.INSTANCE);
     }
 
-    this.addToPeekModule(new RIGHTARROW());
+    this.addToPeekModule(RIGHTARROW.INSTANCE);
 
     node.getBody()
         .accept(this);
@@ -1238,7 +1244,7 @@ public class JavaFileVisitor extends ASTVisitor {
       assert TYPENAME.class == qualifierContext : "error happened at visit(MemberRef)";
     }
 
-    this.addToPeekModule(new SHARP());
+    this.addToPeekModule(SHARP.INSTANCE);
 
     this.contexts.push(VARIABLENAME.class);
     node.getName()
@@ -1253,7 +1259,7 @@ public class JavaFileVisitor extends ASTVisitor {
   public boolean visit(final MemberValuePair node) {
     final String variableName = node.getName()
         .getIdentifier();
-    this.addToPeekModule(new VARIABLENAME(variableName), new ASSIGN());
+    this.addToPeekModule(new VARIABLENAME(variableName), ASSIGN.INSTANCE);
 
     node.getValue()
         .accept(this);
@@ -1271,7 +1277,7 @@ public class JavaFileVisitor extends ASTVisitor {
       assert TYPENAME.class == qualifierContext : "error happened at visit(MethodRef)";
     }
 
-    this.addToPeekModule(new SHARP());
+    this.addToPeekModule(SHARP.INSTANCE);
 
     this.contexts.push(INVOKEDMETHODNAME.class);
     node.getName()
@@ -1279,18 +1285,18 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> nameContext = this.contexts.pop();
     assert INVOKEDMETHODNAME.class == nameContext : "error happened at visit(MethodRef)";
 
-    this.addToPeekModule(new LEFTMETHODPAREN());
+    this.addToPeekModule(LEFTMETHODPAREN.INSTANCE);
 
     final List<?> parameters = node.parameters();
     if (null != parameters && !parameters.isEmpty()) {
       ((MethodRefParameter) parameters.getFirst()).accept(this);
       for (int index = 1; index < parameters.size(); index++) {
-        this.addToPeekModule(new COMMA());
+        this.addToPeekModule(COMMA.INSTANCE);
         ((MethodRefParameter) parameters.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTMETHODPAREN());
+    this.addToPeekModule(RIGHTMETHODPAREN.INSTANCE);
 
     return false;
   }
@@ -1301,7 +1307,7 @@ public class JavaFileVisitor extends ASTVisitor {
         .accept(this);
 
     if (node.isVarargs()) {
-      this.addToPeekModule(new VariableArity());
+      this.addToPeekModule(VariableArity.INSTANCE);
     }
 
     final SimpleName name = node.getName();
@@ -1342,13 +1348,13 @@ public class JavaFileVisitor extends ASTVisitor {
     @SuppressWarnings("rawtypes")
     final List typeParameters = node.typeParameters();
     if (null != typeParameters && !typeParameters.isEmpty()) {
-      this.addToPeekModule(new LESS());
+      this.addToPeekModule(LESS.INSTANCE);
       ((TypeParameter) typeParameters.getFirst()).accept(this);
       for (int index = 1; index < typeParameters.size(); index++) {
-        this.addToPeekModule(new METHODDECLARATIONPARAMETERCOMMA());
+        this.addToPeekModule(METHODDECLARATIONPARAMETERCOMMA.INSTANCE);
         ((TypeParameter) typeParameters.get(index)).accept(this);
       }
-      this.addToPeekModule(new GREAT());
+      this.addToPeekModule(GREAT.INSTANCE);
     }
 
     // 返り値の処理（ダミーメソッドに追加）
@@ -1369,29 +1375,29 @@ public class JavaFileVisitor extends ASTVisitor {
     }
 
     // "(" の処理（ダミーメソッドに追加）
-    this.addToPeekModule(new LEFTMETHODPAREN());
+    this.addToPeekModule(LEFTMETHODPAREN.INSTANCE);
 
     // 引数の処理（ダミーメソッドに追加）
     final List<?> parameters = node.parameters();
     if (null != parameters && !parameters.isEmpty()) {
       ((SingleVariableDeclaration) parameters.getFirst()).accept(this);
       for (int index = 1; index < parameters.size(); index++) {
-        this.addToPeekModule(new METHODDECLARATIONPARAMETERCOMMA());
+        this.addToPeekModule(METHODDECLARATIONPARAMETERCOMMA.INSTANCE);
         ((SingleVariableDeclaration) parameters.get(index)).accept(this);
       }
     }
 
     // ")" の処理（ダミーメソッドに追加）
-    this.addToPeekModule(new RIGHTMETHODPAREN());
+    this.addToPeekModule(RIGHTMETHODPAREN.INSTANCE);
 
     // throws 節の処理
     final List<?> exceptions = node.thrownExceptionTypes();
     if (null != exceptions && !exceptions.isEmpty()) {
-      this.addToPeekModule(new THROWS());
+      this.addToPeekModule(THROWS.INSTANCE);
       this.contexts.push(TYPENAME.class);
       ((Type) exceptions.getFirst()).accept(this);
       for (int index = 1; index < exceptions.size(); index++) {
-        this.addToPeekModule(new METHODDECLARATIONTHROWSCOMMA());
+        this.addToPeekModule(METHODDECLARATIONTHROWSCOMMA.INSTANCE);
         ((Type) exceptions.get(index)).accept(this);
       }
       final Class<?> context = this.contexts.pop();
@@ -1473,8 +1479,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
       // 一行一トークンの場合は，ダミーメソッド内のトークンを抽出し，methodModule に移行
       if (this.config.isTokenized()) {
-        dummyMethod.getTokens()
-            .forEach(javaMethod::addToken);
+        javaMethod.moveTokensFrom(dummyMethod);
       }
 
       // 一行一トークンでない場合は，メソッドの文字列表現からトークンを作り出し，それらをメソッドモジュールに追加し，処理を終了する
@@ -1493,7 +1498,7 @@ public class JavaFileVisitor extends ASTVisitor {
     if (null != body) {
       body.accept(this);
     } else {
-      this.addToPeekModule(new METHODDECLARATIONSEMICOLON());
+      this.addToPeekModule(METHODDECLARATIONSEMICOLON.INSTANCE);
     }
 
     // 内部クラス内のメソッドではない場合は，メソッドモジュールをスタックから取り出す
@@ -1512,7 +1517,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Expression qualifier = node.getExpression();
     if (null != qualifier) {
       qualifier.accept(this);
-      this.addToPeekModule(new DOT());
+      this.addToPeekModule(DOT.INSTANCE);
     }
 
     this.contexts.push(INVOKEDMETHODNAME.class);
@@ -1521,18 +1526,18 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> context = this.contexts.pop();
     assert INVOKEDMETHODNAME.class == context : "error happened at visit(MethodInvocation)";
 
-    this.addToPeekModule(new LEFTMETHODINVOCATIONPAREN());
+    this.addToPeekModule(LEFTMETHODINVOCATIONPAREN.INSTANCE);
 
     final List<?> arguments = node.arguments();
     if (null != arguments && !arguments.isEmpty()) {
       ((Expression) arguments.getFirst()).accept(this);
       for (int index = 1; index < arguments.size(); index++) {
-        this.addToPeekModule(new METHODINVOCATIONCOMMA());
+        this.addToPeekModule(METHODINVOCATIONCOMMA.INSTANCE);
         ((Expression) arguments.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTMETHODINVOCATIONPAREN());
+    this.addToPeekModule(RIGHTMETHODINVOCATIONPAREN.INSTANCE);
 
     return false;
   }
@@ -1556,10 +1561,10 @@ public class JavaFileVisitor extends ASTVisitor {
     }
 
     if (node.isOpen()) {
-      this.addToPeekModule(new OPEN());
+      this.addToPeekModule(OPEN.INSTANCE);
     }
 
-    this.addToPeekModule(new MODULE());
+    this.addToPeekModule(MODULE.INSTANCE);
 
     this.contexts.push(PACKAGENAME.class);
     node.getName()
@@ -1567,13 +1572,13 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> nameContext = this.contexts.pop();
     assert PACKAGENAME.class == nameContext : "error happened at visit(ModuleDeclaration)";
 
-    this.addToPeekModule(new LEFTBRACKET());
+    this.addToPeekModule(LEFTBRACKET.INSTANCE);
 
     for (final Object directive : node.moduleStatements()) {
       ((ModuleDirective) directive).accept(this);
     }
 
-    this.addToPeekModule(new RIGHTBRACKET());
+    this.addToPeekModule(RIGHTBRACKET.INSTANCE);
 
     return false;
   }
@@ -1583,9 +1588,9 @@ public class JavaFileVisitor extends ASTVisitor {
     final String keyword = node.getKeyword()
         .toString();
     if ("static".equals(keyword)) {
-      this.addToPeekModule(new STATIC());
+      this.addToPeekModule(STATIC.INSTANCE);
     } else if ("transitive".equals(keyword)) {
-      this.addToPeekModule(new TRANSITIVE());
+      this.addToPeekModule(TRANSITIVE.INSTANCE);
     } else {
       this.addToPeekModule(new VARIABLENAME(keyword));
     }
@@ -1608,7 +1613,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> qualifierText = this.contexts.pop();
     assert INVOKEDMETHODNAME.class == qualifierText : "error happened at visit(NameQualifiedType)";
 
-    this.addToPeekModule(new DOT());
+    this.addToPeekModule(DOT.INSTANCE);
 
     for (final Object o : node.annotations()) {
       final Annotation annotation = (Annotation) o;
@@ -1628,7 +1633,7 @@ public class JavaFileVisitor extends ASTVisitor {
   public boolean visit(final NormalAnnotation node) {
 
     final String annotationName = "@" + node.getTypeName();
-    this.addToPeekModule(new ANNOTATION(annotationName), new LEFTANNOTATIONPAREN());
+    this.addToPeekModule(new ANNOTATION(annotationName), LEFTANNOTATIONPAREN.INSTANCE);
 
     @SuppressWarnings("unchecked")
     final List<MemberValuePair> nodes = node.values();
@@ -1636,20 +1641,20 @@ public class JavaFileVisitor extends ASTVisitor {
       nodes.getFirst()
           .accept(this);
       for (int index = 1; index < nodes.size(); index++) {
-        this.addToPeekModule(new ANNOTATIONCOMMA());
+        this.addToPeekModule(ANNOTATIONCOMMA.INSTANCE);
         nodes.get(index)
             .accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTANNOTATIONPAREN());
+    this.addToPeekModule(RIGHTANNOTATIONPAREN.INSTANCE);
 
     return false;
   }
 
   @Override
   public boolean visit(final NullLiteral node) {
-    this.addToPeekModule(new NULL());
+    this.addToPeekModule(NULL.INSTANCE);
     return false;
   }
 
@@ -1661,7 +1666,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final OpensDirective node) {
-    this.addToPeekModule(new OPENS());
+    this.addToPeekModule(OPENS.INSTANCE);
 
     this.contexts.push(PACKAGENAME.class);
     node.getName()
@@ -1670,7 +1675,7 @@ public class JavaFileVisitor extends ASTVisitor {
     assert PACKAGENAME.class == nameContext : "error happened at visit(OpensDirective)";
 
     this.addTargetModules(node.modules());
-    this.addToPeekModule(new SEMICOLON());
+    this.addToPeekModule(SEMICOLON.INSTANCE);
 
     return false;
   }
@@ -1678,7 +1683,7 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final PackageDeclaration node) {
 
-    this.addToPeekModule(new PACKAGE());
+    this.addToPeekModule(PACKAGE.INSTANCE);
 
     this.contexts.push(PACKAGENAME.class);
     node.getName()
@@ -1696,18 +1701,18 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getType()
         .accept(this);
 
-    this.addToPeekModule(new LESS());
+    this.addToPeekModule(LESS.INSTANCE);
 
     final List<?> typeArguments = node.typeArguments();
     if (null != typeArguments && !typeArguments.isEmpty()) {
       ((Type) typeArguments.getFirst()).accept(this);
       for (int index = 1; index < typeArguments.size(); index++) {
-        this.addToPeekModule(new PARAMETERIZEDTYPECOMMA());
+        this.addToPeekModule(PARAMETERIZEDTYPECOMMA.INSTANCE);
         ((Type) typeArguments.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new GREAT());
+    this.addToPeekModule(GREAT.INSTANCE);
 
     return false;
   }
@@ -1715,12 +1720,12 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ParenthesizedExpression node) {
 
-    this.addToPeekModule(new LEFTPARENTHESIZEDEXPRESSIONPAREN());
+    this.addToPeekModule(LEFTPARENTHESIZEDEXPRESSIONPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTPARENTHESIZEDEXPRESSIONPAREN());
+    this.addToPeekModule(RIGHTPARENTHESIZEDEXPRESSIONPAREN.INSTANCE);
 
     return false;
   }
@@ -1759,7 +1764,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final ProvidesDirective node) {
-    this.addToPeekModule(new PROVIDES());
+    this.addToPeekModule(PROVIDES.INSTANCE);
 
     this.contexts.push(TYPENAME.class);
     node.getName()
@@ -1767,21 +1772,21 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> nameContext = this.contexts.pop();
     assert TYPENAME.class == nameContext : "error happened at visit(ProvidesDirective)";
 
-    this.addToPeekModule(new WITH());
+    this.addToPeekModule(WITH.INSTANCE);
 
     final List<?> implementations = node.implementations();
     if (null != implementations && !implementations.isEmpty()) {
       this.contexts.push(TYPENAME.class);
       ((Name) implementations.getFirst()).accept(this);
       for (int index = 1; index < implementations.size(); index++) {
-        this.addToPeekModule(new COMMA());
+        this.addToPeekModule(COMMA.INSTANCE);
         ((Name) implementations.get(index)).accept(this);
       }
       final Class<?> implementationContext = this.contexts.pop();
       assert TYPENAME.class == implementationContext : "error happened at visit(ProvidesDirective)";
     }
 
-    this.addToPeekModule(new SEMICOLON());
+    this.addToPeekModule(SEMICOLON.INSTANCE);
 
     return false;
   }
@@ -1802,7 +1807,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Name qualifier = node.getQualifier();
     qualifier.accept(this);
 
-    this.addToPeekModule(new DOT());
+    this.addToPeekModule(DOT.INSTANCE);
 
     final SimpleName name = node.getName();
     name.accept(this);
@@ -1816,7 +1821,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getQualifier()
         .accept(this);
 
-    this.addToPeekModule(new DOT());
+    this.addToPeekModule(DOT.INSTANCE);
 
     for (final Object o : node.annotations()) {
       final Annotation annotation = (Annotation) o;
@@ -1862,7 +1867,7 @@ public class JavaFileVisitor extends ASTVisitor {
     }
 
     // "record"の処理
-    this.addToPeekModule(new RECORD());
+    this.addToPeekModule(RECORD.INSTANCE);
 
     // レコード名の処理
     this.contexts.push(RECORDNAME.class);
@@ -1871,7 +1876,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> nameContext = this.contexts.pop();
     assert RECORDNAME.class == nameContext : "error happened at visit(RecordDeclaration)";
 
-    this.addToPeekModule(new LEFTRECORDPAREN());
+    this.addToPeekModule(LEFTRECORDPAREN.INSTANCE);
 
     // コンポーネントの処理
     final List<?> components = node.recordComponents();
@@ -1879,12 +1884,12 @@ public class JavaFileVisitor extends ASTVisitor {
       ((SingleVariableDeclaration)components.getFirst()).accept(this);
 
       for(int index = 1; index < components.size() ; index++){
-        this.addToPeekModule(new RECORDCOMPONENTCOMMA());
+        this.addToPeekModule(RECORDCOMPONENTCOMMA.INSTANCE);
         ((SingleVariableDeclaration)components.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTRECORDPAREN());
+    this.addToPeekModule(RIGHTRECORDPAREN.INSTANCE);
 
     // implements 節の処理
     @SuppressWarnings("rawtypes")
@@ -1893,11 +1898,11 @@ public class JavaFileVisitor extends ASTVisitor {
 
       this.contexts.push(TYPENAME.class);
 
-      this.addToPeekModule(new IMPLEMENTS());
+      this.addToPeekModule(IMPLEMENTS.INSTANCE);
       ((Type) interfaces.getFirst()).accept(this);
 
       for (int index = 1; index < interfaces.size(); index++) {
-        this.addToPeekModule(new TYPEDECLARATIONCOMMA());
+        this.addToPeekModule(TYPEDECLARATIONCOMMA.INSTANCE);
         ((Type) interfaces.get(index)).accept(this);
       }
 
@@ -1905,7 +1910,7 @@ public class JavaFileVisitor extends ASTVisitor {
       assert TYPENAME.class == implementsContext : "error happened at visit(RecordDeclaration)";
     }
 
-    this.addToPeekModule(new LEFTRECORDBRACKET());
+    this.addToPeekModule(LEFTRECORDBRACKET.INSTANCE);
 
     // 中身の処理
     for (final Object o : node.bodyDeclarations()) {
@@ -1913,7 +1918,7 @@ public class JavaFileVisitor extends ASTVisitor {
       bodyDeclaration.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTRECORDBRACKET());
+    this.addToPeekModule(RIGHTRECORDBRACKET.INSTANCE);
 
     this.classNestLevel--;
 
@@ -1929,7 +1934,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final RequiresDirective node) {
-    this.addToPeekModule(new REQUIRES());
+    this.addToPeekModule(REQUIRES.INSTANCE);
 
     for (final Object modifier : node.modifiers()) {
       ((ModuleModifier) modifier).accept(this);
@@ -1941,7 +1946,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> nameContext = this.contexts.pop();
     assert PACKAGENAME.class == nameContext : "error happened at visit(RequiresDirective)";
 
-    this.addToPeekModule(new SEMICOLON());
+    this.addToPeekModule(SEMICOLON.INSTANCE);
 
     return false;
   }
@@ -1949,14 +1954,14 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final ReturnStatement node) {
 
-    this.addToPeekModule(new RETURN());
+    this.addToPeekModule(RETURN.INSTANCE);
 
     final Expression expression = node.getExpression();
     if (null != expression) {
       expression.accept(this);
     }
 
-    this.addToPeekModule(new RETURNSTATEMENTSEMICOLON());
+    this.addToPeekModule(RETURNSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -2032,7 +2037,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
     // 可変長引数なら"..."を追加
     if (node.isVarargs()) {
-      this.addToPeekModule(new VariableArity());
+      this.addToPeekModule(VariableArity.INSTANCE);
     }
 
     {// 変数名の処理
@@ -2059,22 +2064,22 @@ public class JavaFileVisitor extends ASTVisitor {
     final Expression qualifier = node.getExpression();
     if (null != qualifier) {
       qualifier.accept(this);
-      this.addToPeekModule(new DOT());
+      this.addToPeekModule(DOT.INSTANCE);
     }
 
-    this.addToPeekModule(new SUPER(), new LEFTSUPERCONSTRUCTORINVOCATIONPAREN());
+    this.addToPeekModule(SUPER.INSTANCE, LEFTSUPERCONSTRUCTORINVOCATIONPAREN.INSTANCE);
 
     final List<?> arguments = node.arguments();
     if (null != arguments && !arguments.isEmpty()) {
       ((Expression) arguments.getFirst()).accept(this);
       for (int index = 1; index < arguments.size(); index++) {
-        this.addToPeekModule(new SUPERCONSTRUCTORINVOCATIONCOMMA());
+        this.addToPeekModule(SUPERCONSTRUCTORINVOCATIONCOMMA.INSTANCE);
         ((Expression) arguments.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTSUPERCONSTRUCTORINVOCATIONPAREN(),
-        new SUPERCONSTRUCTORINVOCATIONSEMICOLON());
+    this.addToPeekModule(RIGHTSUPERCONSTRUCTORINVOCATIONPAREN.INSTANCE,
+        SUPERCONSTRUCTORINVOCATIONSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -2082,7 +2087,7 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final SuperFieldAccess node) {
 
-    this.addToPeekModule(new SUPER(), new DOT());
+    this.addToPeekModule(SUPER.INSTANCE, DOT.INSTANCE);
 
     this.contexts.push(VARIABLENAME.class);
     node.getName()
@@ -2099,10 +2104,10 @@ public class JavaFileVisitor extends ASTVisitor {
     final Name qualifier = node.getQualifier();
     if (null != qualifier) {
       qualifier.accept(this);
-      this.addToPeekModule(new DOT());
+      this.addToPeekModule(DOT.INSTANCE);
     }
 
-    this.addToPeekModule(new SUPER(), new DOT());
+    this.addToPeekModule(SUPER.INSTANCE, DOT.INSTANCE);
 
     this.contexts.push(INVOKEDMETHODNAME.class);
     node.getName()
@@ -2112,18 +2117,18 @@ public class JavaFileVisitor extends ASTVisitor {
     assert INVOKEDMETHODNAME.class
         == context : "error happened at JavaFileVisitor#visit(SuperMethodInvocation)";
 
-    this.addToPeekModule(new LEFTMETHODINVOCATIONPAREN());
+    this.addToPeekModule(LEFTMETHODINVOCATIONPAREN.INSTANCE);
 
     final List<?> arguments = node.arguments();
     if (null != arguments && !arguments.isEmpty()) {
       ((Expression) arguments.getFirst()).accept(this);
       for (int index = 1; index < arguments.size(); index++) {
-        this.addToPeekModule(new METHODINVOCATIONCOMMA());
+        this.addToPeekModule(METHODINVOCATIONCOMMA.INSTANCE);
         ((Expression) arguments.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTMETHODINVOCATIONPAREN());
+    this.addToPeekModule(RIGHTMETHODINVOCATIONPAREN.INSTANCE);
 
     return false;
   }
@@ -2137,10 +2142,10 @@ public class JavaFileVisitor extends ASTVisitor {
       qualifier.accept(this);
       final Class<?> qualifierContext = this.contexts.pop();
       assert TYPENAME.class == qualifierContext : "error happened at visit(SuperMethodReference)";
-      this.addToPeekModule(new DOT());
+      this.addToPeekModule(DOT.INSTANCE);
     }
 
-    this.addToPeekModule(new SUPER(), new METHODREFERENCE());
+    this.addToPeekModule(SUPER.INSTANCE, METHODREFERENCE.INSTANCE);
 
     this.contexts.push(INVOKEDMETHODNAME.class);
     node.getName()
@@ -2156,26 +2161,26 @@ public class JavaFileVisitor extends ASTVisitor {
 
     // default のとき
     if (node.isDefault()) {
-      this.addToPeekModule(new DEFAULT());
+      this.addToPeekModule(DEFAULT.INSTANCE);
     }
 
     // case ... のとき
     else {
-      this.addToPeekModule(new CASE());
+      this.addToPeekModule(CASE.INSTANCE);
 
       final List<?> expressions = node.expressions();
       ((Expression) expressions.getFirst()).accept(this);
 
       for (int index = 1; index < expressions.size(); index++) {
-        this.addToPeekModule(new SWITCHCASECOMMA());
+        this.addToPeekModule(SWITCHCASECOMMA.INSTANCE);
         ((Expression) expressions.get(index)).accept(this);
       }
     }
 
     if (node.isSwitchLabeledRule()) {
-      this.addToPeekModule(new SWITCHCASEARROW());
+      this.addToPeekModule(SWITCHCASEARROW.INSTANCE);
     } else {
-      this.addToPeekModule(new COLON());
+      this.addToPeekModule(COLON.INSTANCE);
     }
 
     return false;
@@ -2185,19 +2190,19 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(SwitchExpression node) {
 
-    this.addToPeekModule(new SWITCH(), new LEFTSWITCHPAREN());
+    this.addToPeekModule(SWITCH.INSTANCE, LEFTSWITCHPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTSWITCHPAREN(), new LEFTSWITCHBRACKET());
+    this.addToPeekModule(RIGHTSWITCHPAREN.INSTANCE, LEFTSWITCHBRACKET.INSTANCE);
 
     for (final Object o : node.statements()) {
       final Statement statement = (Statement) o;
       statement.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTSWITCHBRACKET());
+    this.addToPeekModule(RIGHTSWITCHBRACKET.INSTANCE);
 
     return false;
   }
@@ -2205,19 +2210,19 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final SwitchStatement node) {
 
-    this.addToPeekModule(new SWITCH(), new LEFTSWITCHPAREN());
+    this.addToPeekModule(SWITCH.INSTANCE, LEFTSWITCHPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTSWITCHPAREN(), new LEFTSWITCHBRACKET());
+    this.addToPeekModule(RIGHTSWITCHPAREN.INSTANCE, LEFTSWITCHBRACKET.INSTANCE);
 
     for (final Object o : node.statements()) {
       final Statement statement = (Statement) o;
       statement.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTSWITCHBRACKET());
+    this.addToPeekModule(RIGHTSWITCHBRACKET.INSTANCE);
 
     return false;
   }
@@ -2225,12 +2230,12 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final SynchronizedStatement node) {
 
-    this.addToPeekModule(new SYNCHRONIZED(), new LEFTSYNCHRONIZEDPAREN());
+    this.addToPeekModule(SYNCHRONIZED.INSTANCE, LEFTSYNCHRONIZEDPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTSYNCHRONIZEDPAREN());
+    this.addToPeekModule(RIGHTSYNCHRONIZEDPAREN.INSTANCE);
 
     node.getBody()
         .accept(this);
@@ -2241,7 +2246,7 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final TagElement node) {
     if (node.isNested()) {
-      this.addToPeekModule(new LEFTBRACKET());
+      this.addToPeekModule(LEFTBRACKET.INSTANCE);
     }
 
     final String tagName = node.getTagName();
@@ -2258,7 +2263,7 @@ public class JavaFileVisitor extends ASTVisitor {
     }
 
     if (node.isNested()) {
-      this.addToPeekModule(new RIGHTBRACKET());
+      this.addToPeekModule(RIGHTBRACKET.INSTANCE);
     }
 
     return false;
@@ -2279,19 +2284,19 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final ThisExpression node) {
-    this.addToPeekModule(new THIS());
+    this.addToPeekModule(THIS.INSTANCE);
     return false;
   }
 
   @Override
   public boolean visit(final ThrowStatement node) {
 
-    this.addToPeekModule(new THROW());
+    this.addToPeekModule(THROW.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new THROWSTATEMENTSEMICOLON());
+    this.addToPeekModule(THROWSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -2299,20 +2304,20 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final TryStatement node) {
 
-    this.addToPeekModule(new TRY());
+    this.addToPeekModule(TRY.INSTANCE);
 
     final List<?> resources = node.resources();
     if (null != resources && !resources.isEmpty()) {
-      this.addToPeekModule(new LEFTTRYPAREN());
+      this.addToPeekModule(LEFTTRYPAREN.INSTANCE);
 
       ((Expression) resources.getFirst()).accept(this);
 
       for (int index = 1; index < resources.size(); index++) {
-        this.addToPeekModule(new TRYRESOURCESEMICOLON());
+        this.addToPeekModule(TRYRESOURCESEMICOLON.INSTANCE);
         ((Expression) resources.get(index)).accept(this);
       }
 
-      this.addToPeekModule(new RIGHTTRYPAREN());
+      this.addToPeekModule(RIGHTTRYPAREN.INSTANCE);
     }
 
     node.getBody()
@@ -2326,7 +2331,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
     final Block finallyBlock = node.getFinally();
     if (null != finallyBlock) {
-      this.addToPeekModule(new FINALLY());
+      this.addToPeekModule(FINALLY.INSTANCE);
       finallyBlock.accept(this);
     }
 
@@ -2361,7 +2366,7 @@ public class JavaFileVisitor extends ASTVisitor {
     }
 
     // "class"の処理
-    this.addToPeekModule(new CLASS());
+    this.addToPeekModule(CLASS.INSTANCE);
 
     // クラス名の処理
     this.contexts.push(CLASSNAME.class);
@@ -2373,7 +2378,7 @@ public class JavaFileVisitor extends ASTVisitor {
     // extends 節の処理
     final Type superType = node.getSuperclassType();
     if (null != superType) {
-      this.addToPeekModule(new EXTENDS());
+      this.addToPeekModule(EXTENDS.INSTANCE);
       this.contexts.push(TYPENAME.class);
       superType.accept(this);
       final Class<?> extendsContext = this.contexts.pop();
@@ -2387,11 +2392,11 @@ public class JavaFileVisitor extends ASTVisitor {
 
       this.contexts.push(TYPENAME.class);
 
-      this.addToPeekModule(new IMPLEMENTS());
+      this.addToPeekModule(IMPLEMENTS.INSTANCE);
       ((Type) interfaces.getFirst()).accept(this);
 
       for (int index = 1; index < interfaces.size(); index++) {
-        this.addToPeekModule(new TYPEDECLARATIONCOMMA());
+        this.addToPeekModule(TYPEDECLARATIONCOMMA.INSTANCE);
         ((Type) interfaces.get(index)).accept(this);
       }
 
@@ -2399,7 +2404,7 @@ public class JavaFileVisitor extends ASTVisitor {
       assert TYPENAME.class == implementsContext : "error happened at visit(TypeDeclaration)";
     }
 
-    this.addToPeekModule(new LEFTCLASSBRACKET());
+    this.addToPeekModule(LEFTCLASSBRACKET.INSTANCE);
 
     // 中身の処理
     for (final Object o : node.bodyDeclarations()) {
@@ -2407,7 +2412,7 @@ public class JavaFileVisitor extends ASTVisitor {
       bodyDeclaration.accept(this);
     }
 
-    this.addToPeekModule(new RIGHTCLASSBRACKET());
+    this.addToPeekModule(RIGHTCLASSBRACKET.INSTANCE);
 
     this.classNestLevel--;
 
@@ -2433,7 +2438,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getType()
         .accept(this);
 
-    this.addToPeekModule(new DOT(), new CLASS());
+    this.addToPeekModule(DOT.INSTANCE, CLASS.INSTANCE);
 
     return false;
   }
@@ -2444,7 +2449,7 @@ public class JavaFileVisitor extends ASTVisitor {
     node.getType()
         .accept(this);
 
-    this.addToPeekModule(new METHODREFERENCE());
+    this.addToPeekModule(METHODREFERENCE.INSTANCE);
 
     this.contexts.push(INVOKEDMETHODNAME.class);
     node.getName()
@@ -2476,10 +2481,10 @@ public class JavaFileVisitor extends ASTVisitor {
     @SuppressWarnings("rawtypes")
     List typeBounds = node.typeBounds();
     if (null != typeBounds && !typeBounds.isEmpty()) {
-      this.addToPeekModule(new EXTENDS());
+      this.addToPeekModule(EXTENDS.INSTANCE);
       ((Type) typeBounds.getFirst()).accept(this);
       for (int index = 1; index < typeBounds.size(); index++) {
-        this.addToPeekModule(new AND());
+        this.addToPeekModule(AND.INSTANCE);
         ((Type) typeBounds.get(index)).accept(this);
       }
     }
@@ -2494,7 +2499,7 @@ public class JavaFileVisitor extends ASTVisitor {
     ((Type) types.getFirst()).accept(this);
 
     for (int index = 1; index < types.size(); index++) {
-      this.addToPeekModule(new OR());
+      this.addToPeekModule(OR.INSTANCE);
       ((Type) types.get(index)).accept(this);
     }
 
@@ -2503,7 +2508,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final UsesDirective node) {
-    this.addToPeekModule(new USES());
+    this.addToPeekModule(USES.INSTANCE);
 
     this.contexts.push(TYPENAME.class);
     node.getName()
@@ -2511,7 +2516,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Class<?> nameContext = this.contexts.pop();
     assert TYPENAME.class == nameContext : "error happened at visit(UsesDirective)";
 
-    this.addToPeekModule(new SEMICOLON());
+    this.addToPeekModule(SEMICOLON.INSTANCE);
 
     return false;
   }
@@ -2531,7 +2536,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final List<?> fragments = node.fragments();
     ((VariableDeclarationFragment) fragments.getFirst()).accept(this);
     for (int index = 1; index < fragments.size(); index++) {
-      this.addToPeekModule(new VARIABLEDECLARATIONCOMMA());
+      this.addToPeekModule(VARIABLEDECLARATIONCOMMA.INSTANCE);
       ((VariableDeclarationFragment) fragments.get(index)).accept(this);
     }
 
@@ -2553,11 +2558,11 @@ public class JavaFileVisitor extends ASTVisitor {
     final List<?> fragments = node.fragments();
     ((VariableDeclarationFragment) fragments.getFirst()).accept(this);
     for (int index = 1; index < fragments.size(); index++) {
-      this.addToPeekModule(new VARIABLEDECLARATIONCOMMA());
+      this.addToPeekModule(VARIABLEDECLARATIONCOMMA.INSTANCE);
       ((VariableDeclarationFragment) fragments.get(index)).accept(this);
     }
 
-    this.addToPeekModule(new VARIABLEDECLARATIONSTATEMENTSEMICOLON());
+    this.addToPeekModule(VARIABLEDECLARATIONSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
@@ -2574,7 +2579,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
     final Expression initializer = node.getInitializer();
     if (null != initializer) {
-      this.addToPeekModule(new ASSIGN());
+      this.addToPeekModule(ASSIGN.INSTANCE);
       initializer.accept(this);
     }
 
@@ -2584,12 +2589,12 @@ public class JavaFileVisitor extends ASTVisitor {
   @Override
   public boolean visit(final WhileStatement node) {
 
-    this.addToPeekModule(new WHILE(), new LEFTWHILEPAREN());
+    this.addToPeekModule(WHILE.INSTANCE, LEFTWHILEPAREN.INSTANCE);
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new RIGHTWHILEPAREN());
+    this.addToPeekModule(RIGHTWHILEPAREN.INSTANCE);
 
     final Statement body = node.getBody();
     if (null != body) {
@@ -2601,7 +2606,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final WildcardType node) {
-    this.addToPeekModule(new QUESTION());
+    this.addToPeekModule(QUESTION.INSTANCE);
     return false;
   }
 
@@ -2610,20 +2615,20 @@ public class JavaFileVisitor extends ASTVisitor {
   public boolean visit(final YieldStatement node) {
 
     if(!node.isImplicit()) {
-      this.addToPeekModule(new YIELD());
+      this.addToPeekModule(YIELD.INSTANCE);
     }
 
     node.getExpression()
         .accept(this);
 
-    this.addToPeekModule(new YIELDSTATEMENTSEMICOLON());
+    this.addToPeekModule(YIELDSTATEMENTSEMICOLON.INSTANCE);
 
     return false;
   }
 
   @Override
   public boolean visit(CaseDefaultExpression node) {
-    this.addToPeekModule(new DEFAULT());
+    this.addToPeekModule(DEFAULT.INSTANCE);
     return false;
   }
 
@@ -2636,7 +2641,7 @@ public class JavaFileVisitor extends ASTVisitor {
       ((Pattern) patterns.getFirst()).accept(this);
 
       for (int index = 1; index < patterns.size(); index++) {
-        this.addToPeekModule(new SWITCHCASECOMMA());
+        this.addToPeekModule(SWITCHCASECOMMA.INSTANCE);
         ((Pattern) patterns.get(index)).accept(this);
       }
     }
@@ -2650,7 +2655,7 @@ public class JavaFileVisitor extends ASTVisitor {
     final Pattern pattern = node.getPattern();
     pattern.accept(this);
 
-    this.addToPeekModule(new WHEN());
+    this.addToPeekModule(WHEN.INSTANCE);
 
     final Expression expression = node.getExpression();
     expression.accept(this);
@@ -2709,7 +2714,7 @@ public class JavaFileVisitor extends ASTVisitor {
 
   @Override
   public boolean visit(final NullPattern node) {
-    this.addToPeekModule(new NULL());
+    this.addToPeekModule(NULL.INSTANCE);
     return false;
   }
 
@@ -2718,18 +2723,18 @@ public class JavaFileVisitor extends ASTVisitor {
     final Type patternType = node.getPatternType();
     patternType.accept(this);
 
-    this.addToPeekModule(new LEFTRECORDPATTERNPAREN());
+    this.addToPeekModule(LEFTRECORDPATTERNPAREN.INSTANCE);
 
     final List<?> patterns = node.patterns();
     if (null != patterns && !patterns.isEmpty()) {
       ((Pattern) patterns.getFirst()).accept(this);
       for (int index = 1; index < patterns.size(); index++) {
-        this.addToPeekModule(new VARIABLEDECLARATIONCOMMA());
+        this.addToPeekModule(VARIABLEDECLARATIONCOMMA.INSTANCE);
         ((Pattern) patterns.get(index)).accept(this);
       }
     }
 
-    this.addToPeekModule(new RIGHTRECORDPATTERNPAREN());
+    this.addToPeekModule(RIGHTRECORDPATTERNPAREN.INSTANCE);
 
     return false;
   }
@@ -2744,9 +2749,9 @@ public class JavaFileVisitor extends ASTVisitor {
     final String stringValue = node.getStringValue();
     final ASTNode nodeValue = node.getNodeValue();
     if (null != stringValue) {
-      this.addToPeekModule(new ASSIGN(), new STRINGLITERAL(stringValue));
+      this.addToPeekModule(ASSIGN.INSTANCE, new STRINGLITERAL(stringValue));
     } else if (null != nodeValue) {
-      this.addToPeekModule(new ASSIGN());
+      this.addToPeekModule(ASSIGN.INSTANCE);
       nodeValue.accept(this);
     }
 
@@ -2765,12 +2770,12 @@ public class JavaFileVisitor extends ASTVisitor {
       return;
     }
 
-    this.addToPeekModule(new TO());
+    this.addToPeekModule(TO.INSTANCE);
 
     this.contexts.push(PACKAGENAME.class);
     ((Name) modules.getFirst()).accept(this);
     for (int index = 1; index < modules.size(); index++) {
-      this.addToPeekModule(new COMMA());
+      this.addToPeekModule(COMMA.INSTANCE);
       ((Name) modules.get(index)).accept(this);
     }
     final Class<?> moduleContext = this.contexts.pop();
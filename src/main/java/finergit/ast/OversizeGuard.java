@@ -0,0 +1,98 @@
+package finergit.ast;
+
+import java.util.Map;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.ToolFactory;
+import org.eclipse.jdt.core.compiler.IScanner;
+import org.eclipse.jdt.core.compiler.ITerminalSymbols;
+import org.eclipse.jdt.core.compiler.InvalidInputException;
+import finergit.FinerGitConfig;
+
+/**
+ * 構文解析に時間がかかりすぎるJavaファイルを，構文解析の前に検出するクラス．
+ * ファイルサイズ，トークン数，括弧のネストの深さの上限を検査する．トークン数とネストの深さは字句解析のみで求めるため，構文解析よりも十分に速い．
+ * 括弧のネストの深さは，JavaFileVisitor が再帰で辿るASTの深さの目安として用いる．
+ */
+public class OversizeGuard {
+
+  private final long maxFileSize;
+  private final int maxTokens;
+  private final int maxNestingDepth;
+  private final String sourceLevel;
+  private final String complianceLevel;
+
+  public OversizeGuard(final FinerGitConfig config) {
+    this.maxFileSize = config.getMaxFileSize();
+    this.maxTokens = config.getMaxTokens();
+    this.maxNestingDepth = config.getMaxNestingDepth();
+    final Map<String, String> options = config.getJavaVersion()
+        .getOptions();
+    this.sourceLevel = options.get(JavaCore.COMPILER_SOURCE);
+    this.complianceLevel = options.get(JavaCore.COMPILER_COMPLIANCE);
+  }
+
+  /**
+   * いずれかの上限が設定されている場合に true を返す．
+   */
+  public boolean isEnabled() {
+    return 0 < this.maxFileSize || 0 < this.maxTokens || 0 < this.maxNestingDepth;
+  }
+
+  /**
+   * ファイルサイズ（バイト数）が上限を超えている場合はその理由を返し，そうでなければ null を返す．
+   */
+  public String checkSize(final long size) {
+    if (0 < this.maxFileSize && this.maxFileSize < size) {
+      return size + " bytes > " + this.maxFileSize;
+    }
+    return null;
+  }
+
+  /**
+   * トークン数または括弧のネストの深さが上限を超えている場合はその理由を返し，そうでなければ null を返す．
+   * 字句解析に失敗した場合は，構文解析での判断に任せるために null を返す．
+   */
+  public String checkText(final String text) {
+    if (this.maxTokens <= 0 && this.maxNestingDepth <= 0) {
+      return null;
+    }
+
+    final IScanner scanner =
+        ToolFactory.createScanner(false, false, false, this.sourceLevel, this.complianceLevel);
+    scanner.setSource(text.toCharArray());
+    int tokens = 0;
+    int depth = 0;
+    try {
+      while (true) {
+        final int token = scanner.getNextToken();
+        switch (token) {
+          case ITerminalSymbols.TokenNameEOF:
+            return null;
+          case ITerminalSymbols.TokenNameLPAREN:
+          case ITerminalSymbols.TokenNameLBRACE:
+          case ITerminalSymbols.TokenNameLBRACKET: {
+            depth++;
+            if (0 < this.maxNestingDepth && this.maxNestingDepth < depth) {
+              return "nesting depth > " + this.maxNestingDepth;
+            }
+            break;
+          }
+          case ITerminalSymbols.TokenNameRPAREN:
+          case ITerminalSymbols.TokenNameRBRACE:
+          case ITerminalSymbols.TokenNameRBRACKET: {
+            depth = Math.max(0, depth - 1);
+            break;
+          }
+          default:
+            break;
+        }
+        tokens++;
+        if (0 < this.maxTokens && this.maxTokens < tokens) {
+          return "tokens > " + this.maxTokens;
+        }
+      }
+    } catch (final InvalidInputException e) {
+      return null;
+    }
+  }
+}
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ABSTRACT extends JavaToken {
 
+  public static final ABSTRACT INSTANCE = new ABSTRACT();
+
   public ABSTRACT() {
     super("abstract");
   }
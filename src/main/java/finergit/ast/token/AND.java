@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class AND extends JavaToken {
 
+  public static final AND INSTANCE = new AND();
+
   public AND() {
     super("&");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class AND2 extends JavaToken {
 
+  public static final AND2 INSTANCE = new AND2();
+
   public AND2() {
     super("and");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ANDAND extends JavaToken {
 
+  public static final ANDAND INSTANCE = new ANDAND();
+
   public ANDAND() {
     super("&&");
   }
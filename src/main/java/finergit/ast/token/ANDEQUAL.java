@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ANDEQUAL extends JavaToken {
 
+  public static final ANDEQUAL INSTANCE = new ANDEQUAL();
+
   public ANDEQUAL() {
     super("&=");
   }
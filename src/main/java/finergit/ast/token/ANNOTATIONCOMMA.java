@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class ANNOTATIONCOMMA extends COMMA {
 
+  public static final ANNOTATIONCOMMA INSTANCE = new ANNOTATIONCOMMA();
 }
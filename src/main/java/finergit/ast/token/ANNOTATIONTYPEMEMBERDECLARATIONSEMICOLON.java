@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class ANNOTATIONTYPEMEMBERDECLARATIONSEMICOLON extends SEMICOLON {
 
+  public static final ANNOTATIONTYPEMEMBERDECLARATIONSEMICOLON INSTANCE = new ANNOTATIONTYPEMEMBERDECLARATIONSEMICOLON();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class ARRAYINITIALIZERCOMMA extends COMMA {
 
+  public static final ARRAYINITIALIZERCOMMA INSTANCE = new ARRAYINITIALIZERCOMMA();
 }
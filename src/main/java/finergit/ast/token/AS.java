@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class AS extends JavaToken {
 
+  public static final AS INSTANCE = new AS();
+
   public AS() {
     super("as");
   }
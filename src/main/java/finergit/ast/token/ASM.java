@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ASM extends JavaToken {
 
+  public static final ASM INSTANCE = new ASM();
+
   public ASM() {
     super("asm");
   }
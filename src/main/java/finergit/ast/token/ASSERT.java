@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ASSERT extends JavaToken {
 
+  public static final ASSERT INSTANCE = new ASSERT();
+
   public ASSERT() {
     super("assert");
   }
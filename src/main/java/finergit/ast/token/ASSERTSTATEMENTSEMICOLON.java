@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class ASSERTSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final ASSERTSTATEMENTSEMICOLON INSTANCE = new ASSERTSTATEMENTSEMICOLON();
 }
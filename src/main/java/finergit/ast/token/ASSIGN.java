@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ASSIGN extends JavaToken {
 
+  public static final ASSIGN INSTANCE = new ASSIGN();
+
   public ASSIGN() {
     super("=");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class AUTO extends JavaToken {
 
+  public static final AUTO INSTANCE = new AUTO();
+
   public AUTO() {
     super("auto");
   }
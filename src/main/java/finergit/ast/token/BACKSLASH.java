@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class BACKSLASH extends JavaToken {
 
+  public static final BACKSLASH INSTANCE = new BACKSLASH();
+
   public BACKSLASH() {
     super("\\");
   }
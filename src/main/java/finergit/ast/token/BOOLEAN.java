@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class BOOLEAN extends JavaToken {
 
+  public static final BOOLEAN INSTANCE = new BOOLEAN();
+
   public BOOLEAN() {
     super("boolean");
   }
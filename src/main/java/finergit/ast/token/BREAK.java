@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class BREAK extends JavaToken {
 
+  public static final BREAK INSTANCE = new BREAK();
+
   public BREAK() {
     super("break");
   }
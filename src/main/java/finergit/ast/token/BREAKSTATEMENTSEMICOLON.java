@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class BREAKSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final BREAKSTATEMENTSEMICOLON INSTANCE = new BREAKSTATEMENTSEMICOLON();
 }
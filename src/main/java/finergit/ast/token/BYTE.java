@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class BYTE extends JavaToken {
 
+  public static final BYTE INSTANCE = new BYTE();
+
   public BYTE() {
     super("byte");
   }
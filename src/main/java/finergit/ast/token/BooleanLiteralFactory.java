@@ -6,9 +6,9 @@ public class BooleanLiteralFactory {
   public static JavaToken create(final String name) {
     switch (name) {
       case "true":
-        return new TRUE();
+        return TRUE.INSTANCE;
       case "false":
-        return new FALSE();
+        return FALSE.INSTANCE;
       default:
         System.err.println("error happens at BoolanLiteralFactory#create(String): " + name);
         return null;
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class CASE extends JavaToken {
 
+  public static final CASE INSTANCE = new CASE();
+
   public CASE() {
     super("case");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class CATCH extends JavaToken {
 
+  public static final CATCH INSTANCE = new CATCH();
+
   public CATCH() {
     super("catch");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class CHAR extends JavaToken {
 
+  public static final CHAR INSTANCE = new CHAR();
+
   public CHAR() {
     super("char");
   }
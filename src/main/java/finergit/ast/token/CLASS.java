@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class CLASS extends JavaToken {
 
+  public static final CLASS INSTANCE = new CLASS();
+
   public CLASS() {
     super("class");
   }
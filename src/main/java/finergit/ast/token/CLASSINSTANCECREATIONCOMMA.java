@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class CLASSINSTANCECREATIONCOMMA extends COMMA {
 
+  public static final CLASSINSTANCECREATIONCOMMA INSTANCE = new CLASSINSTANCECREATIONCOMMA();
 }
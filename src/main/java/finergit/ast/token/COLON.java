@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class COLON extends JavaToken {
 
+  public static final COLON INSTANCE = new COLON();
+
   public COLON() {
     super(":");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class COMMA extends JavaToken {
 
+  public static final COMMA INSTANCE = new COMMA();
+
   public COMMA() {
     super(",");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class CONST extends JavaToken {
 
+  public static final CONST INSTANCE = new CONST();
+
   public CONST() {
     super("const");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class CONSTRUCTORINVOCATIONCOMMA extends COMMA {
 
+  public static final CONSTRUCTORINVOCATIONCOMMA INSTANCE = new CONSTRUCTORINVOCATIONCOMMA();
 }
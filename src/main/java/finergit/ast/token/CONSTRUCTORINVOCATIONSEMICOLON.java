@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class CONSTRUCTORINVOCATIONSEMICOLON extends SEMICOLON {
 
+  public static final CONSTRUCTORINVOCATIONSEMICOLON INSTANCE = new CONSTRUCTORINVOCATIONSEMICOLON();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class CONTINUE extends JavaToken {
 
+  public static final CONTINUE INSTANCE = new CONTINUE();
+
   public CONTINUE() {
     super("continue");
   }
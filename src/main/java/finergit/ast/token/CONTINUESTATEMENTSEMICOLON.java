@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class CONTINUESTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final CONTINUESTATEMENTSEMICOLON INSTANCE = new CONTINUESTATEMENTSEMICOLON();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DECREMENT extends JavaToken {
 
+  public static final DECREMENT INSTANCE = new DECREMENT();
+
   public DECREMENT() {
     super("--");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DEF extends JavaToken {
 
+  public static final DEF INSTANCE = new DEF();
+
   public DEF() {
     super("def");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DEFAULT extends JavaToken {
 
+  public static final DEFAULT INSTANCE = new DEFAULT();
+
   public DEFAULT() {
     super("default");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DEL extends JavaToken {
 
+  public static final DEL INSTANCE = new DEL();
+
   public DEL() {
     super("del");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class DIMENSIONCOMMA extends COMMA {
 
+  public static final DIMENSIONCOMMA INSTANCE = new DIMENSIONCOMMA();
 }
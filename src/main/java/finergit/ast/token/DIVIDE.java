@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DIVIDE extends JavaToken {
 
+  public static final DIVIDE INSTANCE = new DIVIDE();
+
   public DIVIDE() {
     super("/");
   }
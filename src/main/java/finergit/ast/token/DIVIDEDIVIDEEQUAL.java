@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DIVIDEDIVIDEEQUAL extends JavaToken {
 
+  public static final DIVIDEDIVIDEEQUAL INSTANCE = new DIVIDEDIVIDEEQUAL();
+
   public DIVIDEDIVIDEEQUAL() {
     super("//=");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DIVIDEEQUAL extends JavaToken {
 
+  public static final DIVIDEEQUAL INSTANCE = new DIVIDEEQUAL();
+
   public DIVIDEEQUAL() {
     super("/=");
   }
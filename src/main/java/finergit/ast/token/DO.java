@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DO extends JavaToken {
 
+  public static final DO INSTANCE = new DO();
+
   public DO() {
     super("do");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class DOSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final DOSTATEMENTSEMICOLON INSTANCE = new DOSTATEMENTSEMICOLON();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DOT extends JavaToken {
 
+  public static final DOT INSTANCE = new DOT();
+
   public DOT() {
     super(".");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class DOUBLE extends JavaToken {
 
+  public static final DOUBLE INSTANCE = new DOUBLE();
+
   public DOUBLE() {
     super("double");
   }
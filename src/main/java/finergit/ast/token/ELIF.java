@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ELIF extends JavaToken {
 
+  public static final ELIF INSTANCE = new ELIF();
+
   public ELIF() {
     super("elif");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ELSE extends JavaToken {
 
+  public static final ELSE INSTANCE = new ELSE();
+
   public ELSE() {
     super("else");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class EMPTYSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final EMPTYSTATEMENTSEMICOLON INSTANCE = new EMPTYSTATEMENTSEMICOLON();
 }
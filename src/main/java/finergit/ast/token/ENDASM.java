@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ENDASM extends JavaToken {
 
+  public static final ENDASM INSTANCE = new ENDASM();
+
   public ENDASM() {
     super("endasm");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ENTRY extends JavaToken {
 
+  public static final ENTRY INSTANCE = new ENTRY();
+
   public ENTRY() {
     super("entry");
   }
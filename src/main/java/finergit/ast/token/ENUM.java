@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class ENUM extends JavaToken {
 
+  public static final ENUM INSTANCE = new ENUM();
+
   public ENUM() {
     super("enum");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class ENUMCOMMA extends COMMA {
 
+  public static final ENUMCOMMA INSTANCE = new ENUMCOMMA();
 }
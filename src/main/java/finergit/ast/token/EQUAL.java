@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EQUAL extends JavaToken {
 
+  public static final EQUAL INSTANCE = new EQUAL();
+
   public EQUAL() {
     super("==");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EXCEPT extends JavaToken {
 
+  public static final EXCEPT INSTANCE = new EXCEPT();
+
   public EXCEPT() {
     super("except");
   }
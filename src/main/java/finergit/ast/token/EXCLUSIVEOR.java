@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EXCLUSIVEOR extends JavaToken {
 
+  public static final EXCLUSIVEOR INSTANCE = new EXCLUSIVEOR();
+
   public EXCLUSIVEOR() {
     super("^");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EXCLUSIVEOREQUAL extends JavaToken {
 
+  public static final EXCLUSIVEOREQUAL INSTANCE = new EXCLUSIVEOREQUAL();
+
   public EXCLUSIVEOREQUAL() {
     super("^=");
   }
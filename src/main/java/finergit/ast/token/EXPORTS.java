@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EXPORTS extends JavaToken {
 
+  public static final EXPORTS INSTANCE = new EXPORTS();
+
   public EXPORTS() {
     super("exports");
   }
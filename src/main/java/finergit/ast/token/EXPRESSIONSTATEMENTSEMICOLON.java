@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class EXPRESSIONSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final EXPRESSIONSTATEMENTSEMICOLON INSTANCE = new EXPRESSIONSTATEMENTSEMICOLON();
 }
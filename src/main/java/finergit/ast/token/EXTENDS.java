@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EXTENDS extends JavaToken {
 
+  public static final EXTENDS INSTANCE = new EXTENDS();
+
   public EXTENDS() {
     super("extends");
   }
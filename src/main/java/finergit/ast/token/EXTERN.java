@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class EXTERN extends JavaToken {
 
+  public static final EXTERN INSTANCE = new EXTERN();
+
   public EXTERN() {
     super("extern");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FALSE extends JavaToken {
 
+  public static final FALSE INSTANCE = new FALSE();
+
   public FALSE() {
     super("false");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FALSE2 extends JavaToken {
 
+  public static final FALSE2 INSTANCE = new FALSE2();
+
   public FALSE2() {
     super("False");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class FIELDDECLARATIONCOMMA extends COMMA {
 
+  public static final FIELDDECLARATIONCOMMA INSTANCE = new FIELDDECLARATIONCOMMA();
 }
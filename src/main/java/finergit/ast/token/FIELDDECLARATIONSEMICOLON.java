@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class FIELDDECLARATIONSEMICOLON extends SEMICOLON {
 
+  public static final FIELDDECLARATIONSEMICOLON INSTANCE = new FIELDDECLARATIONSEMICOLON();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FINAL extends JavaToken {
 
+  public static final FINAL INSTANCE = new FINAL();
+
   public FINAL() {
     super("final");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FINALLY extends JavaToken {
 
+  public static final FINALLY INSTANCE = new FINALLY();
+
   public FINALLY() {
     super("finally");
   }
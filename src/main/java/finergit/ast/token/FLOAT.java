@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FLOAT extends JavaToken {
 
+  public static final FLOAT INSTANCE = new FLOAT();
+
   public FLOAT() {
     super("float");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FOR extends JavaToken {
 
+  public static final FOR INSTANCE = new FOR();
+
   public FOR() {
     super("for");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class FORCONDITIONSEMICOLON extends SEMICOLON {
 
+  public static final FORCONDITIONSEMICOLON INSTANCE = new FORCONDITIONSEMICOLON();
 }
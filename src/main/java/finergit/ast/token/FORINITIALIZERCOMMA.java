@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class FORINITIALIZERCOMMA extends COMMA {
 
+  public static final FORINITIALIZERCOMMA INSTANCE = new FORINITIALIZERCOMMA();
 }
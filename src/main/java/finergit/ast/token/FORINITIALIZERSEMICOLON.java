@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class FORINITIALIZERSEMICOLON extends SEMICOLON {
 
+  public static final FORINITIALIZERSEMICOLON INSTANCE = new FORINITIALIZERSEMICOLON();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class FORUPDATERCOMMA extends COMMA {
 
+  public static final FORUPDATERCOMMA INSTANCE = new FORUPDATERCOMMA();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class FROM extends JavaToken {
 
+  public static final FROM INSTANCE = new FROM();
+
   public FROM() {
     super("from");
   }
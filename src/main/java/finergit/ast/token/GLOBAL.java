@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class GLOBAL extends JavaToken {
 
+  public static final GLOBAL INSTANCE = new GLOBAL();
+
   public GLOBAL() {
     super("global");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class GOTO extends JavaToken {
 
+  public static final GOTO INSTANCE = new GOTO();
+
   public GOTO() {
     super("goto");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class GREAT extends JavaToken {
 
+  public static final GREAT INSTANCE = new GREAT();
+
   public GREAT() {
     super(">");
   }
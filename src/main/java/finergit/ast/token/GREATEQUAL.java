@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class GREATEQUAL extends JavaToken {
 
+  public static final GREATEQUAL INSTANCE = new GREATEQUAL();
+
   public GREATEQUAL() {
     super(">=");
   }
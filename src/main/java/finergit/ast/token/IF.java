@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class IF extends JavaToken {
 
+  public static final IF INSTANCE = new IF();
+
   public IF() {
     super("if");
   }
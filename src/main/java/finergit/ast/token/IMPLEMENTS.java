@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class IMPLEMENTS extends JavaToken {
 
+  public static final IMPLEMENTS INSTANCE = new IMPLEMENTS();
+
   public IMPLEMENTS() {
     super("implements");
   }
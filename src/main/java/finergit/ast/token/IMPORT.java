@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class IMPORT extends JavaToken {
 
+  public static final IMPORT INSTANCE = new IMPORT();
+
   public IMPORT() {
     super("import");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class IN extends JavaToken {
 
+  public static final IN INSTANCE = new IN();
+
   public IN() {
     super("in");
   }
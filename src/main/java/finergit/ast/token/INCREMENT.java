@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class INCREMENT extends JavaToken {
 
+  public static final INCREMENT INSTANCE = new INCREMENT();
+
   public INCREMENT() {
     super("++");
   }
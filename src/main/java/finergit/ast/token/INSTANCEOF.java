@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class INSTANCEOF extends JavaToken {
 
+  public static final INSTANCEOF INSTANCE = new INSTANCEOF();
+
   public INSTANCEOF() {
     super("instanceof");
   }
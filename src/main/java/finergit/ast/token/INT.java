@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class INT extends JavaToken {
 
+  public static final INT INSTANCE = new INT();
+
   public INT() {
     super("int");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class INTERFACE extends JavaToken {
 
+  public static final INTERFACE INSTANCE = new INTERFACE();
+
   public INTERFACE() {
     super("interface");
   }
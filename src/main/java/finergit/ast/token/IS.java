@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class IS extends JavaToken {
 
+  public static final IS INSTANCE = new IS();
+
   public IS() {
     super("is");
   }
@@ -1,25 +1,59 @@
 package finergit.ast.token;
 
+/**
+ * 字句を表すクラス．字句は不変であり，固定の文字列をもつ字句クラスは INSTANCE を共有して使う．
+ */
 public abstract class JavaToken {
 
+  /**
+   * メソッドの境界を表す字句のカテゴリ．"--method-token-included" が false の場合に出力されない．
+   */
+  public static final int METHOD_BOUNDARY = 1;
+
+  /**
+   * 字句の種類．種類名とカテゴリは字句クラスごとに一度だけ計算される．
+   */
+  public record Kind(String label, int categories) {
+  }
+
+  private static final ClassValue<Kind> KINDS = new ClassValue<>() {
+
+    @Override
+    protected Kind computeValue(final Class<?> type) {
+      return new Kind(type.getSimpleName(), getCategories(type));
+    }
+  };
+
   final public String value;
-  public int line;
-  public int index;
 
   JavaToken(final String value) {
     this.value = value;
-    this.line = 0;
-    this.index = 0;
+  }
+
+  /**
+   * 字句の種類を返す．種類は字句クラスごとに決まるため，各字句には持たせず表から引く．
+   */
+  final public Kind kind() {
+    return KINDS.get(this.getClass());
+  }
+
+  final public boolean is(final int category) {
+    return 0 != (this.kind()
+        .categories() & category);
   }
 
   final public String toLine(final boolean tokenTypeIncluded) {
-    final StringBuilder text = new StringBuilder();
-    text.append(this.value);
-    if (tokenTypeIncluded) {
-      text.append("\t");
-      text.append(this.getClass()
-          .getSimpleName());
+    return tokenTypeIncluded ? this.value + "\t" + this.kind()
+        .label() : this.value;
+  }
+
+  private static int getCategories(final Class<?> type) {
+    int categories = 0;
+    if (LEFTMETHODPAREN.class == type || RIGHTMETHODPAREN.class == type
+        || LEFTMETHODBRACKET.class == type || RIGHTMETHODBRACKET.class == type
+        || METHODDECLARATIONSEMICOLON.class == type) {
+      categories |= METHOD_BOUNDARY;
     }
-    return text.toString();
+    return categories;
   }
 }
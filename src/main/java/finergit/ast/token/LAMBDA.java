@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LAMBDA extends JavaToken {
 
+  public static final LAMBDA INSTANCE = new LAMBDA();
+
   public LAMBDA() {
     super("lambda");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LAMBDAEXPRESSIONCOMMA extends COMMA {
 
+  public static final LAMBDAEXPRESSIONCOMMA INSTANCE = new LAMBDAEXPRESSIONCOMMA();
 }
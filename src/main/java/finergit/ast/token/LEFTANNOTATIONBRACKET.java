@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTANNOTATIONBRACKET extends LEFTBRACKET {
 
+  public static final LEFTANNOTATIONBRACKET INSTANCE = new LEFTANNOTATIONBRACKET();
 }
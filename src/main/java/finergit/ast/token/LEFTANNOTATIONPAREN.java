@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTANNOTATIONPAREN extends LEFTPAREN {
 
+  public static final LEFTANNOTATIONPAREN INSTANCE = new LEFTANNOTATIONPAREN();
 }
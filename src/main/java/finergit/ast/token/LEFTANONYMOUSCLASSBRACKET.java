@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTANONYMOUSCLASSBRACKET extends LEFTBRACKET {
 
+  public static final LEFTANONYMOUSCLASSBRACKET INSTANCE = new LEFTANONYMOUSCLASSBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTARRAYINITIALIZERBRACKET extends LEFTBRACKET {
 
+  public static final LEFTARRAYINITIALIZERBRACKET INSTANCE = new LEFTARRAYINITIALIZERBRACKET();
 }
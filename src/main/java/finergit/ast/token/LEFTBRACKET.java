@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LEFTBRACKET extends JavaToken {
 
+  public static final LEFTBRACKET INSTANCE = new LEFTBRACKET();
+
   public LEFTBRACKET() {
     super("{");
   }
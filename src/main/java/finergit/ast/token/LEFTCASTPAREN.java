@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class LEFTCASTPAREN extends LEFTPAREN {
 
+  public static final LEFTCASTPAREN INSTANCE = new LEFTCASTPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTCATCHCLAUSEBRACKET extends LEFTBRACKET {
 
+  public static final LEFTCATCHCLAUSEBRACKET INSTANCE = new LEFTCATCHCLAUSEBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTCATCHCLAUSEPAREN extends LEFTPAREN {
 
+  public static final LEFTCATCHCLAUSEPAREN INSTANCE = new LEFTCATCHCLAUSEPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTCLASSBRACKET extends LEFTBRACKET {
 
+  public static final LEFTCLASSBRACKET INSTANCE = new LEFTCLASSBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTCLASSINSTANCECREATIONPAREN extends LEFTPAREN {
 
+  public static final LEFTCLASSINSTANCECREATIONPAREN INSTANCE = new LEFTCLASSINSTANCECREATIONPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTCONSTRUCTORINVOCATIONPAREN extends LEFTPAREN {
 
+  public static final LEFTCONSTRUCTORINVOCATIONPAREN INSTANCE = new LEFTCONSTRUCTORINVOCATIONPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTDOBRACKET extends LEFTBRACKET {
 
+  public static final LEFTDOBRACKET INSTANCE = new LEFTDOBRACKET();
 }
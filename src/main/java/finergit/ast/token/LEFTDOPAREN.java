@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTDOPAREN extends LEFTPAREN {
 
+  public static final LEFTDOPAREN INSTANCE = new LEFTDOPAREN();
 }
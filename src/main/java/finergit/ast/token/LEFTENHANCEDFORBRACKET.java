@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTENHANCEDFORBRACKET extends LEFTBRACKET {
 
+  public static final LEFTENHANCEDFORBRACKET INSTANCE = new LEFTENHANCEDFORBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTENHANCEDFORPAREN extends LEFTPAREN {
 
+  public static final LEFTENHANCEDFORPAREN INSTANCE = new LEFTENHANCEDFORPAREN();
 }
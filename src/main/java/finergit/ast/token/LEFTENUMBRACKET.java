@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTENUMBRACKET extends LEFTBRACKET {
 
+  public static final LEFTENUMBRACKET INSTANCE = new LEFTENUMBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTENUMPAREN extends LEFTPAREN {
 
+  public static final LEFTENUMPAREN INSTANCE = new LEFTENUMPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTFORBRACKET extends LEFTBRACKET {
 
+  public static final LEFTFORBRACKET INSTANCE = new LEFTFORBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTFORPAREN extends LEFTPAREN {
 
+  public static final LEFTFORPAREN INSTANCE = new LEFTFORPAREN();
 }
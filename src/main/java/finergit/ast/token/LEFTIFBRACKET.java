@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTIFBRACKET extends LEFTBRACKET {
 
+  public static final LEFTIFBRACKET INSTANCE = new LEFTIFBRACKET();
 }
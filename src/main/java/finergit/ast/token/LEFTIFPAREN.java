@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTIFPAREN extends LEFTPAREN {
 
+  public static final LEFTIFPAREN INSTANCE = new LEFTIFPAREN();
 }
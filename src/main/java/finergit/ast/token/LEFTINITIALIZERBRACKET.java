@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTINITIALIZERBRACKET extends LEFTBRACKET {
 
+  public static final LEFTINITIALIZERBRACKET INSTANCE = new LEFTINITIALIZERBRACKET();
 }
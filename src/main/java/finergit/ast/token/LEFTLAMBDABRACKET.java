@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTLAMBDABRACKET extends LEFTBRACKET {
 
+  public static final LEFTLAMBDABRACKET INSTANCE = new LEFTLAMBDABRACKET();
 }
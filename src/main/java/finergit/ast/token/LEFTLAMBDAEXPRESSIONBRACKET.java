@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTLAMBDAEXPRESSIONBRACKET extends LEFTBRACKET {
 
+  public static final LEFTLAMBDAEXPRESSIONBRACKET INSTANCE = new LEFTLAMBDAEXPRESSIONBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTLAMBDAEXPRESSIONPAREN extends LEFTPAREN {
 
+  public static final LEFTLAMBDAEXPRESSIONPAREN INSTANCE = new LEFTLAMBDAEXPRESSIONPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTMETHODBRACKET extends LEFTBRACKET {
 
+  public static final LEFTMETHODBRACKET INSTANCE = new LEFTMETHODBRACKET();
 }
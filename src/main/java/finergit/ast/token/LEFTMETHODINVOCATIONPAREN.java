@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTMETHODINVOCATIONPAREN extends LEFTPAREN {
 
+  public static final LEFTMETHODINVOCATIONPAREN INSTANCE = new LEFTMETHODINVOCATIONPAREN();
 }
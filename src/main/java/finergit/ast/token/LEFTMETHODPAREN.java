@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTMETHODPAREN extends LEFTPAREN {
 
+  public static final LEFTMETHODPAREN INSTANCE = new LEFTMETHODPAREN();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LEFTPAREN extends JavaToken {
 
+  public static final LEFTPAREN INSTANCE = new LEFTPAREN();
+
   public LEFTPAREN() {
     super("(");
   }
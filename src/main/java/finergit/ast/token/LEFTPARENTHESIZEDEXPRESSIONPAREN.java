@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTPARENTHESIZEDEXPRESSIONPAREN extends LEFTPAREN {
 
+  public static final LEFTPARENTHESIZEDEXPRESSIONPAREN INSTANCE = new LEFTPARENTHESIZEDEXPRESSIONPAREN();
 }
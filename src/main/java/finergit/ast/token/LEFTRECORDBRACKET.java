@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class LEFTRECORDBRACKET extends LEFTBRACKET {
 
+  public static final LEFTRECORDBRACKET INSTANCE = new LEFTRECORDBRACKET();
 }
@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class LEFTRECORDPAREN extends LEFTPAREN {
 
+  public static final LEFTRECORDPAREN INSTANCE = new LEFTRECORDPAREN();
 }
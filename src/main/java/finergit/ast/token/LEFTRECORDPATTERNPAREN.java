@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class LEFTRECORDPATTERNPAREN extends LEFTPAREN {
 
+  public static final LEFTRECORDPATTERNPAREN INSTANCE = new LEFTRECORDPATTERNPAREN();
 }
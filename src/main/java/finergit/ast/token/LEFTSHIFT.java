@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LEFTSHIFT extends JavaToken {
 
+  public static final LEFTSHIFT INSTANCE = new LEFTSHIFT();
+
   public LEFTSHIFT() {
     super("<<");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LEFTSHIFTEQUAL extends JavaToken {
 
+  public static final LEFTSHIFTEQUAL INSTANCE = new LEFTSHIFTEQUAL();
+
   public LEFTSHIFTEQUAL() {
     super("<<=");
   }
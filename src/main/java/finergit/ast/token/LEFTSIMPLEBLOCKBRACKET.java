@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTSIMPLEBLOCKBRACKET extends LEFTBRACKET {
 
+  public static final LEFTSIMPLEBLOCKBRACKET INSTANCE = new LEFTSIMPLEBLOCKBRACKET();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LEFTSQUAREBRACKET extends JavaToken {
 
+  public static final LEFTSQUAREBRACKET INSTANCE = new LEFTSQUAREBRACKET();
+
   public LEFTSQUAREBRACKET() {
     super("[");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTSUPERCONSTRUCTORINVOCATIONPAREN extends LEFTPAREN {
 
+  public static final LEFTSUPERCONSTRUCTORINVOCATIONPAREN INSTANCE = new LEFTSUPERCONSTRUCTORINVOCATIONPAREN();
 }
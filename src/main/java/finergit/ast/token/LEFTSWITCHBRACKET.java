@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTSWITCHBRACKET extends LEFTBRACKET {
 
+  public static final LEFTSWITCHBRACKET INSTANCE = new LEFTSWITCHBRACKET();
 }
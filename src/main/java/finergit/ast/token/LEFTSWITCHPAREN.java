@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTSWITCHPAREN extends LEFTPAREN {
 
+  public static final LEFTSWITCHPAREN INSTANCE = new LEFTSWITCHPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTSYNCHRONIZEDBRACKET extends LEFTBRACKET {
 
+  public static final LEFTSYNCHRONIZEDBRACKET INSTANCE = new LEFTSYNCHRONIZEDBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTSYNCHRONIZEDPAREN extends LEFTPAREN {
 
+  public static final LEFTSYNCHRONIZEDPAREN INSTANCE = new LEFTSYNCHRONIZEDPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTTRYBRACKET extends LEFTBRACKET {
 
+  public static final LEFTTRYBRACKET INSTANCE = new LEFTTRYBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTTRYPAREN extends LEFTPAREN {
 
+  public static final LEFTTRYPAREN INSTANCE = new LEFTTRYPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTWHILEBRACKET extends LEFTBRACKET {
 
+  public static final LEFTWHILEBRACKET INSTANCE = new LEFTWHILEBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class LEFTWHILEPAREN extends LEFTPAREN {
 
+  public static final LEFTWHILEPAREN INSTANCE = new LEFTWHILEPAREN();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LESS extends JavaToken {
 
+  public static final LESS INSTANCE = new LESS();
+
   public LESS() {
     super("<");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LESSEQUAL extends JavaToken {
 
+  public static final LESSEQUAL INSTANCE = new LESSEQUAL();
+
   public LESSEQUAL() {
     super("<=");
   }
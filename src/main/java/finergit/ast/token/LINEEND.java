@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LINEEND extends JavaToken {
 
+  public static final LINEEND INSTANCE = new LINEEND();
+
   public LINEEND() {
     super("");
   }
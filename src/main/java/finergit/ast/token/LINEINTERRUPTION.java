@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LINEINTERRUPTION extends JavaToken {
 
+  public static final LINEINTERRUPTION INSTANCE = new LINEINTERRUPTION();
+
   public LINEINTERRUPTION() {
     super("");
   }
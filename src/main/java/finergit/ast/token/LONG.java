@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class LONG extends JavaToken {
 
+  public static final LONG INSTANCE = new LONG();
+
   public LONG() {
     super("long");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class METHODDECLARATIONPARAMETERCOMMA extends COMMA {
 
+  public static final METHODDECLARATIONPARAMETERCOMMA INSTANCE = new METHODDECLARATIONPARAMETERCOMMA();
 }
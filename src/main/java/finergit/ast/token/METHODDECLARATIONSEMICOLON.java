@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class METHODDECLARATIONSEMICOLON extends SEMICOLON {
 
+  public static final METHODDECLARATIONSEMICOLON INSTANCE = new METHODDECLARATIONSEMICOLON();
 }
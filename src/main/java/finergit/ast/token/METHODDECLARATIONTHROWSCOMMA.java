@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class METHODDECLARATIONTHROWSCOMMA extends COMMA {
 
+  public static final METHODDECLARATIONTHROWSCOMMA INSTANCE = new METHODDECLARATIONTHROWSCOMMA();
 }
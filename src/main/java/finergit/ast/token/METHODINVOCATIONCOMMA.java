@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class METHODINVOCATIONCOMMA extends COMMA {
 
+  public static final METHODINVOCATIONCOMMA INSTANCE = new METHODINVOCATIONCOMMA();
 }
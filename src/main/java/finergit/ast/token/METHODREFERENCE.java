@@ -3,6 +3,8 @@ package finergit.ast.token;
 
 public class METHODREFERENCE extends JavaToken {
 
+  public static final METHODREFERENCE INSTANCE = new METHODREFERENCE();
+
   public METHODREFERENCE() {
     super("::");
   }
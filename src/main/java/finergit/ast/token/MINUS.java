@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class MINUS extends JavaToken {
 
+  public static final MINUS INSTANCE = new MINUS();
+
   public MINUS() {
     super("-");
   }
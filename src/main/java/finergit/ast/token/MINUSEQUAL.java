@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class MINUSEQUAL extends JavaToken {
 
+  public static final MINUSEQUAL INSTANCE = new MINUSEQUAL();
+
   public MINUSEQUAL() {
     super("-=");
   }
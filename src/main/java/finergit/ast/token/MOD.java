@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class MOD extends JavaToken {
 
+  public static final MOD INSTANCE = new MOD();
+
   public MOD() {
     super("%");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class MODEQUAL extends JavaToken {
 
+  public static final MODEQUAL INSTANCE = new MODEQUAL();
+
   public MODEQUAL() {
     super("%=");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class MODULE extends JavaToken {
 
+  public static final MODULE INSTANCE = new MODULE();
+
   public MODULE() {
     super("module");
   }
@@ -5,25 +5,25 @@ public class ModifierFactory {
   public static JavaToken create(final String modifierName) {
     switch (modifierName) {
       case "abstract":
-        return new ABSTRACT();
+        return ABSTRACT.INSTANCE;
       case "final":
-        return new FINAL();
+        return FINAL.INSTANCE;
       case "native":
-        return new NATIVE();
+        return NATIVE.INSTANCE;
       case "private":
-        return new PRIVATE();
+        return PRIVATE.INSTANCE;
       case "protected":
-        return new PROTECTED();
+        return PROTECTED.INSTANCE;
       case "public":
-        return new PUBLIC();
+        return PUBLIC.INSTANCE;
       case "static":
-        return new STATIC();
+        return STATIC.INSTANCE;
       case "synchronized":
-        return new SYNCHRONIZED();
+        return SYNCHRONIZED.INSTANCE;
       case "transient":
-        return new TRANSIENT();
+        return TRANSIENT.INSTANCE;
       case "volatile":
-        return new VOLATILE();
+        return VOLATILE.INSTANCE;
       default:
         return new ANNOTATION(modifierName);
       //assert false : "error happend at ModifierFactor#create(String): " + modifierName;
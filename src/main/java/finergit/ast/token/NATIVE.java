@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NATIVE extends JavaToken {
 
+  public static final NATIVE INSTANCE = new NATIVE();
+
   public NATIVE() {
     super("native");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NEW extends JavaToken {
 
+  public static final NEW INSTANCE = new NEW();
+
   public NEW() {
     super("new");
   }
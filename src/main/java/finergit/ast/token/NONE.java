@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NONE extends JavaToken {
 
+  public static final NONE INSTANCE = new NONE();
+
   public NONE() {
     super("None");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NONLOCAL extends JavaToken {
 
+  public static final NONLOCAL INSTANCE = new NONLOCAL();
+
   public NONLOCAL() {
     super("nonlocal");
   }
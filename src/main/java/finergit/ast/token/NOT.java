@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NOT extends JavaToken {
 
+  public static final NOT INSTANCE = new NOT();
+
   public NOT() {
     super("!");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NOT2 extends JavaToken {
 
+  public static final NOT2 INSTANCE = new NOT2();
+
   public NOT2() {
     super("not");
   }
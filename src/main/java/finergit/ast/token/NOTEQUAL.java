@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NOTEQUAL extends JavaToken {
 
+  public static final NOTEQUAL INSTANCE = new NOTEQUAL();
+
   public NOTEQUAL() {
     super("!=");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NOTEQUAL2 extends JavaToken {
 
+  public static final NOTEQUAL2 INSTANCE = new NOTEQUAL2();
+
   public NOTEQUAL2() {
     super("<>");
   }
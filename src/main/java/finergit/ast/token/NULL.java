@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NULL extends JavaToken {
 
+  public static final NULL INSTANCE = new NULL();
+
   public NULL() {
     super("null");
   }
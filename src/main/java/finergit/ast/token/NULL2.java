@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class NULL2 extends JavaToken {
 
+  public static final NULL2 INSTANCE = new NULL2();
+
   public NULL2() {
     super("NULL");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class OPEN extends JavaToken {
 
+  public static final OPEN INSTANCE = new OPEN();
+
   public OPEN() {
     super("open");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class OPENS extends JavaToken {
 
+  public static final OPENS INSTANCE = new OPENS();
+
   public OPENS() {
     super("opens");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class OR extends JavaToken {
 
+  public static final OR INSTANCE = new OR();
+
   public OR() {
     super("|");
   }
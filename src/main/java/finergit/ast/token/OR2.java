@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class OR2 extends JavaToken {
 
+  public static final OR2 INSTANCE = new OR2();
+
   public OR2() {
     super("or");
   }
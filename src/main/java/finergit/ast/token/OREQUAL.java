@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class OREQUAL extends JavaToken {
 
+  public static final OREQUAL INSTANCE = new OREQUAL();
+
   public OREQUAL() {
     super("|=");
   }
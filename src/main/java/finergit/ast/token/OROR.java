@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class OROR extends JavaToken {
 
+  public static final OROR INSTANCE = new OROR();
+
   public OROR() {
     super("||");
   }
@@ -6,67 +6,67 @@ public class OperatorFactory {
   public static JavaToken create(final String name) {
     switch (name) {
       case "+":
-        return new PLUS();
+        return PLUS.INSTANCE;
       case "+=":
-        return new PLUSEQUAL();
+        return PLUSEQUAL.INSTANCE;
       case "++":
-        return new INCREMENT();
+        return INCREMENT.INSTANCE;
       case "-":
-        return new MINUS();
+        return MINUS.INSTANCE;
       case "-=":
-        return new MINUSEQUAL();
+        return MINUSEQUAL.INSTANCE;
       case "--":
-        return new DECREMENT();
+        return DECREMENT.INSTANCE;
       case "*":
-        return new STAR();
+        return STAR.INSTANCE;
       case "*=":
-        return new STAREQUAL();
+        return STAREQUAL.INSTANCE;
       case "/":
-        return new DIVIDE();
+        return DIVIDE.INSTANCE;
       case "/=":
-        return new DIVIDEEQUAL();
+        return DIVIDEEQUAL.INSTANCE;
       case "%":
-        return new MOD();
+        return MOD.INSTANCE;
       case "%=":
-        return new MODEQUAL();
+        return MODEQUAL.INSTANCE;
       case "<<":
-        return new LEFTSHIFT();
+        return LEFTSHIFT.INSTANCE;
       case "<<=":
-        return new LEFTSHIFTEQUAL();
+        return LEFTSHIFTEQUAL.INSTANCE;
       case ">>":
-        return new RIGHTSHIFT();
+        return RIGHTSHIFT.INSTANCE;
       case ">>=":
-        return new RIGHTSHIFTEQUAL();
+        return RIGHTSHIFTEQUAL.INSTANCE;
       case ">>>":
-        return new RIGHTSHIFT2();
+        return RIGHTSHIFT2.INSTANCE;
       case ">>>=":
-        return new RIGHTSHIFTEQUAL2();
+        return RIGHTSHIFTEQUAL2.INSTANCE;
       case "<":
-        return new LESS();
+        return LESS.INSTANCE;
       case "<=":
-        return new LESSEQUAL();
+        return LESSEQUAL.INSTANCE;
       case ">":
-        return new GREAT();
+        return GREAT.INSTANCE;
       case ">=":
-        return new GREATEQUAL();
+        return GREATEQUAL.INSTANCE;
       case "==":
-        return new EQUAL();
+        return EQUAL.INSTANCE;
       case "!=":
-        return new NOTEQUAL();
+        return NOTEQUAL.INSTANCE;
       case "^":
-        return new EXCLUSIVEOR();
+        return EXCLUSIVEOR.INSTANCE;
       case "&":
-        return new AND();
+        return AND.INSTANCE;
       case "&&":
-        return new ANDAND();
+        return ANDAND.INSTANCE;
       case "|":
-        return new OR();
+        return OR.INSTANCE;
       case "||":
-        return new OROR();
+        return OROR.INSTANCE;
       case "~":
-        return new TILDA();
+        return TILDA.INSTANCE;
       case "!":
-        return new NOT();
+        return NOT.INSTANCE;
       default:
         System.err.println("error happend at create(String): " + name);
         return null;
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PACKAGE extends JavaToken {
 
+  public static final PACKAGE INSTANCE = new PACKAGE();
+
   public PACKAGE() {
     super("package");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class PARAMETERIZEDTYPECOMMA extends COMMA {
 
+  public static final PARAMETERIZEDTYPECOMMA INSTANCE = new PARAMETERIZEDTYPECOMMA();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PASS extends JavaToken {
 
+  public static final PASS INSTANCE = new PASS();
+
   public PASS() {
     super("pass");
   }
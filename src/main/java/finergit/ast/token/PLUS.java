@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PLUS extends JavaToken {
 
+  public static final PLUS INSTANCE = new PLUS();
+
   public PLUS() {
     super("+");
   }
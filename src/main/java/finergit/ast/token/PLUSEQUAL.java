@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PLUSEQUAL extends JavaToken {
 
+  public static final PLUSEQUAL INSTANCE = new PLUSEQUAL();
+
   public PLUSEQUAL() {
     super("+=");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PRIVATE extends JavaToken {
 
+  public static final PRIVATE INSTANCE = new PRIVATE();
+
   public PRIVATE() {
     super("private");
   }
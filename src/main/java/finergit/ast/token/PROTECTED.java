@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PROTECTED extends JavaToken {
 
+  public static final PROTECTED INSTANCE = new PROTECTED();
+
   public PROTECTED() {
     super("protected");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PROVIDES extends JavaToken {
 
+  public static final PROVIDES INSTANCE = new PROVIDES();
+
   public PROVIDES() {
     super("provides");
   }
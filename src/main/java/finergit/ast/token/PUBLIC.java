@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class PUBLIC extends JavaToken {
 
+  public static final PUBLIC INSTANCE = new PUBLIC();
+
   public PUBLIC() {
     super("public");
   }
@@ -6,23 +6,23 @@ public class PrimitiveTypeFactory {
   public static JavaToken create(final String name) {
     switch (name) {
       case "boolean":
-        return new BOOLEAN();
+        return BOOLEAN.INSTANCE;
       case "byte":
-        return new BYTE();
+        return BYTE.INSTANCE;
       case "char":
-        return new CHAR();
+        return CHAR.INSTANCE;
       case "double":
-        return new DOUBLE();
+        return DOUBLE.INSTANCE;
       case "float":
-        return new FLOAT();
+        return FLOAT.INSTANCE;
       case "int":
-        return new INT();
+        return INT.INSTANCE;
       case "long":
-        return new LONG();
+        return LONG.INSTANCE;
       case "short":
-        return new SHORT();
+        return SHORT.INSTANCE;
       case "void":
-        return new VOID();
+        return VOID.INSTANCE;
       default:
         System.out.println("error happend at getPrimitiveTypeToken(String): " + name);
         return null;
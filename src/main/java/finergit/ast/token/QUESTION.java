@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class QUESTION extends JavaToken {
 
+  public static final QUESTION INSTANCE = new QUESTION();
+
   public QUESTION() {
     super("?");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RAISE extends JavaToken {
 
+  public static final RAISE INSTANCE = new RAISE();
+
   public RAISE() {
     super("raise");
   }
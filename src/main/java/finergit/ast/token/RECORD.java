@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RECORD extends JavaToken {
 
+  public static final RECORD INSTANCE = new RECORD();
+
   public RECORD() {
     super("record");
   }
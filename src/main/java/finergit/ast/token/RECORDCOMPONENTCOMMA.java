@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class RECORDCOMPONENTCOMMA extends COMMA {
 
+  public static final RECORDCOMPONENTCOMMA INSTANCE = new RECORDCOMPONENTCOMMA();
 }
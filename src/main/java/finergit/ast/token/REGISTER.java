@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class REGISTER extends JavaToken {
 
+  public static final REGISTER INSTANCE = new REGISTER();
+
   public REGISTER() {
     super("register");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class REQUIRES extends JavaToken {
 
+  public static final REQUIRES INSTANCE = new REQUIRES();
+
   public REQUIRES() {
     super("requires");
   }
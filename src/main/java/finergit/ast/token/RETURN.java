@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RETURN extends JavaToken {
 
+  public static final RETURN INSTANCE = new RETURN();
+
   public RETURN() {
     super("return");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RETURNSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final RETURNSTATEMENTSEMICOLON INSTANCE = new RETURNSTATEMENTSEMICOLON();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTANNOTATIONBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTANNOTATIONBRACKET INSTANCE = new RIGHTANNOTATIONBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTANNOTATIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTANNOTATIONPAREN INSTANCE = new RIGHTANNOTATIONPAREN();
 }
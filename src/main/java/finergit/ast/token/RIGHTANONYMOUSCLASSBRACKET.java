@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTANONYMOUSCLASSBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTANONYMOUSCLASSBRACKET INSTANCE = new RIGHTANONYMOUSCLASSBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTARRAYINITIALIZERBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTARRAYINITIALIZERBRACKET INSTANCE = new RIGHTARRAYINITIALIZERBRACKET();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTARROW extends JavaToken {
 
+  public static final RIGHTARROW INSTANCE = new RIGHTARROW();
+
   public RIGHTARROW() {
     super("->");
   }
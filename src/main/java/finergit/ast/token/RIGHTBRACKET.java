@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTBRACKET extends JavaToken {
 
+  public static final RIGHTBRACKET INSTANCE = new RIGHTBRACKET();
+
   public RIGHTBRACKET() {
     super("}");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTCASTPAREN extends RIGHTPAREN {
 
+  public static final RIGHTCASTPAREN INSTANCE = new RIGHTCASTPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTCATCHCLAUSEBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTCATCHCLAUSEBRACKET INSTANCE = new RIGHTCATCHCLAUSEBRACKET();
 }
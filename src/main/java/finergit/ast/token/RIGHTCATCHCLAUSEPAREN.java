@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTCATCHCLAUSEPAREN extends RIGHTPAREN {
 
+  public static final RIGHTCATCHCLAUSEPAREN INSTANCE = new RIGHTCATCHCLAUSEPAREN();
 }
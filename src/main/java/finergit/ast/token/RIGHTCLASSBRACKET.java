@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTCLASSBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTCLASSBRACKET INSTANCE = new RIGHTCLASSBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTCLASSINSTANCECREATIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTCLASSINSTANCECREATIONPAREN INSTANCE = new RIGHTCLASSINSTANCECREATIONPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTCONSTRUCTORINVOCATIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTCONSTRUCTORINVOCATIONPAREN INSTANCE = new RIGHTCONSTRUCTORINVOCATIONPAREN();
 }
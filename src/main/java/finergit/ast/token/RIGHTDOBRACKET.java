@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTDOBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTDOBRACKET INSTANCE = new RIGHTDOBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTDOPAREN extends RIGHTPAREN {
 
+  public static final RIGHTDOPAREN INSTANCE = new RIGHTDOPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTENHANCEDFORBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTENHANCEDFORBRACKET INSTANCE = new RIGHTENHANCEDFORBRACKET();
 }
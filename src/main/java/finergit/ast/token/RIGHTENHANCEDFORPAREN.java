@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTENHANCEDFORPAREN extends RIGHTPAREN {
 
+  public static final RIGHTENHANCEDFORPAREN INSTANCE = new RIGHTENHANCEDFORPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTENUMBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTENUMBRACKET INSTANCE = new RIGHTENUMBRACKET();
 }
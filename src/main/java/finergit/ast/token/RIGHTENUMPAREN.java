@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTENUMPAREN extends RIGHTPAREN {
 
+  public static final RIGHTENUMPAREN INSTANCE = new RIGHTENUMPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTFORBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTFORBRACKET INSTANCE = new RIGHTFORBRACKET();
 }
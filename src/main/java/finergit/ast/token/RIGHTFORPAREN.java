@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTFORPAREN extends RIGHTPAREN {
 
+  public static final RIGHTFORPAREN INSTANCE = new RIGHTFORPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTIFBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTIFBRACKET INSTANCE = new RIGHTIFBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTIFPAREN extends RIGHTPAREN {
 
+  public static final RIGHTIFPAREN INSTANCE = new RIGHTIFPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTINITIALIZERBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTINITIALIZERBRACKET INSTANCE = new RIGHTINITIALIZERBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTLAMBDABRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTLAMBDABRACKET INSTANCE = new RIGHTLAMBDABRACKET();
 }
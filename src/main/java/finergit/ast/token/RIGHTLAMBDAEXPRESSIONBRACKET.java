@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTLAMBDAEXPRESSIONBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTLAMBDAEXPRESSIONBRACKET INSTANCE = new RIGHTLAMBDAEXPRESSIONBRACKET();
 }
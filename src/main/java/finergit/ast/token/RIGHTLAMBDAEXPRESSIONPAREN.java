@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTLAMBDAEXPRESSIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTLAMBDAEXPRESSIONPAREN INSTANCE = new RIGHTLAMBDAEXPRESSIONPAREN();
 }
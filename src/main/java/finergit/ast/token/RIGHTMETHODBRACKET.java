@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTMETHODBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTMETHODBRACKET INSTANCE = new RIGHTMETHODBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTMETHODINVOCATIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTMETHODINVOCATIONPAREN INSTANCE = new RIGHTMETHODINVOCATIONPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTMETHODPAREN extends RIGHTPAREN {
 
+  public static final RIGHTMETHODPAREN INSTANCE = new RIGHTMETHODPAREN();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTPAREN extends JavaToken {
 
+  public static final RIGHTPAREN INSTANCE = new RIGHTPAREN();
+
   public RIGHTPAREN() {
     super(")");
   }
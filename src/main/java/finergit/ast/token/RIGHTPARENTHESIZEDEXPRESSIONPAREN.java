@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTPARENTHESIZEDEXPRESSIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTPARENTHESIZEDEXPRESSIONPAREN INSTANCE = new RIGHTPARENTHESIZEDEXPRESSIONPAREN();
 }
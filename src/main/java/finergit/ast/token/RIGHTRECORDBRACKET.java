@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class RIGHTRECORDBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTRECORDBRACKET INSTANCE = new RIGHTRECORDBRACKET();
 }
@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class RIGHTRECORDPAREN extends RIGHTPAREN {
 
+  public static final RIGHTRECORDPAREN INSTANCE = new RIGHTRECORDPAREN();
 }
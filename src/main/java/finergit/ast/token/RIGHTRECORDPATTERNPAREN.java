@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class RIGHTRECORDPATTERNPAREN extends RIGHTPAREN {
 
+  public static final RIGHTRECORDPATTERNPAREN INSTANCE = new RIGHTRECORDPATTERNPAREN();
 }
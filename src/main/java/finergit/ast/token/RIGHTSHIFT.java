@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTSHIFT extends JavaToken {
 
+  public static final RIGHTSHIFT INSTANCE = new RIGHTSHIFT();
+
   public RIGHTSHIFT() {
     super(">>");
   }
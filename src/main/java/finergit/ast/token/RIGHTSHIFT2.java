@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTSHIFT2 extends JavaToken {
 
+  public static final RIGHTSHIFT2 INSTANCE = new RIGHTSHIFT2();
+
   public RIGHTSHIFT2() {
     super(">>>");
   }
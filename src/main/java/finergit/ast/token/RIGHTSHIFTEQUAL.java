@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTSHIFTEQUAL extends JavaToken {
 
+  public static final RIGHTSHIFTEQUAL INSTANCE = new RIGHTSHIFTEQUAL();
+
   public RIGHTSHIFTEQUAL() {
     super(">>=");
   }
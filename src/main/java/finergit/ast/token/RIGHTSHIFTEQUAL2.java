@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTSHIFTEQUAL2 extends JavaToken {
 
+  public static final RIGHTSHIFTEQUAL2 INSTANCE = new RIGHTSHIFTEQUAL2();
+
   public RIGHTSHIFTEQUAL2() {
     super(">>>=");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTSIMPLEBLOCKBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTSIMPLEBLOCKBRACKET INSTANCE = new RIGHTSIMPLEBLOCKBRACKET();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class RIGHTSQUAREBRACKET extends JavaToken {
 
+  public static final RIGHTSQUAREBRACKET INSTANCE = new RIGHTSQUAREBRACKET();
+
   public RIGHTSQUAREBRACKET() {
     super("]");
   }
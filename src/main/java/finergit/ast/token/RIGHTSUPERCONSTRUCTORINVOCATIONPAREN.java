@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTSUPERCONSTRUCTORINVOCATIONPAREN extends RIGHTPAREN {
 
+  public static final RIGHTSUPERCONSTRUCTORINVOCATIONPAREN INSTANCE = new RIGHTSUPERCONSTRUCTORINVOCATIONPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTSWITCHBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTSWITCHBRACKET INSTANCE = new RIGHTSWITCHBRACKET();
 }
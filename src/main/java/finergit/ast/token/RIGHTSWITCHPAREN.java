@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTSWITCHPAREN extends RIGHTPAREN {
 
+  public static final RIGHTSWITCHPAREN INSTANCE = new RIGHTSWITCHPAREN();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTSYNCHRONIZEDBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTSYNCHRONIZEDBRACKET INSTANCE = new RIGHTSYNCHRONIZEDBRACKET();
 }
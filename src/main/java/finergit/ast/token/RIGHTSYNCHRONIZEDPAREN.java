@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTSYNCHRONIZEDPAREN extends RIGHTPAREN {
 
+  public static final RIGHTSYNCHRONIZEDPAREN INSTANCE = new RIGHTSYNCHRONIZEDPAREN();
 }
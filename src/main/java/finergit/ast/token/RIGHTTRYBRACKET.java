@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTTRYBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTTRYBRACKET INSTANCE = new RIGHTTRYBRACKET();
 }
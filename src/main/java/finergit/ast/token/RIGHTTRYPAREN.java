@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTTRYPAREN extends RIGHTPAREN {
 
+  public static final RIGHTTRYPAREN INSTANCE = new RIGHTTRYPAREN();
 }
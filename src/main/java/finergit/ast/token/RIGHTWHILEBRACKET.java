@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTWHILEBRACKET extends RIGHTBRACKET {
 
+  public static final RIGHTWHILEBRACKET INSTANCE = new RIGHTWHILEBRACKET();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class RIGHTWHILEPAREN extends RIGHTPAREN {
 
+  public static final RIGHTWHILEPAREN INSTANCE = new RIGHTWHILEPAREN();
 }
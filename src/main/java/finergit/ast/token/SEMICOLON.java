@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SEMICOLON extends JavaToken {
 
+  public static final SEMICOLON INSTANCE = new SEMICOLON();
+
   public SEMICOLON() {
     super(";");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SHARP extends JavaToken {
 
+  public static final SHARP INSTANCE = new SHARP();
+
   public SHARP() {
     super("#");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SHORT extends JavaToken {
 
+  public static final SHORT INSTANCE = new SHORT();
+
   public SHORT() {
     super("short");
   }
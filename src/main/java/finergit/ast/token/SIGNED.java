@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SIGNED extends JavaToken {
 
+  public static final SIGNED INSTANCE = new SIGNED();
+
   public SIGNED() {
     super("signed");
   }
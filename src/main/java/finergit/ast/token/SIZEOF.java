@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SIZEOF extends JavaToken {
 
+  public static final SIZEOF INSTANCE = new SIZEOF();
+
   public SIZEOF() {
     super("sizeof");
   }
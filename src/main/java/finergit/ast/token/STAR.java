@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class STAR extends JavaToken {
 
+  public static final STAR INSTANCE = new STAR();
+
   public STAR() {
     super("*");
   }
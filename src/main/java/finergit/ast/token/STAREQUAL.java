@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class STAREQUAL extends JavaToken {
 
+  public static final STAREQUAL INSTANCE = new STAREQUAL();
+
   public STAREQUAL() {
     super("*=");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class STARSTAREQUAL extends JavaToken {
 
+  public static final STARSTAREQUAL INSTANCE = new STARSTAREQUAL();
+
   public STARSTAREQUAL() {
     super("**=");
   }
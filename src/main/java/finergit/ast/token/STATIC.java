@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class STATIC extends JavaToken {
 
+  public static final STATIC INSTANCE = new STATIC();
+
   public STATIC() {
     super("static");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class STRICTFP extends JavaToken {
 
+  public static final STRICTFP INSTANCE = new STRICTFP();
+
   public STRICTFP() {
     super("strictfp");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class STRUCT extends JavaToken {
 
+  public static final STRUCT INSTANCE = new STRUCT();
+
   public STRUCT() {
     super("struct");
   }
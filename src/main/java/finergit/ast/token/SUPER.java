@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SUPER extends JavaToken {
 
+  public static final SUPER INSTANCE = new SUPER();
+
   public SUPER() {
     super("super");
   }
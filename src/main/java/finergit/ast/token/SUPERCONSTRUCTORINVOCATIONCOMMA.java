@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class SUPERCONSTRUCTORINVOCATIONCOMMA extends COMMA {
 
+  public static final SUPERCONSTRUCTORINVOCATIONCOMMA INSTANCE = new SUPERCONSTRUCTORINVOCATIONCOMMA();
 }
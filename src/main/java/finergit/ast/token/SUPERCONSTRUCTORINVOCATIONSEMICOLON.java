@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class SUPERCONSTRUCTORINVOCATIONSEMICOLON extends SEMICOLON {
 
+  public static final SUPERCONSTRUCTORINVOCATIONSEMICOLON INSTANCE = new SUPERCONSTRUCTORINVOCATIONSEMICOLON();
 }
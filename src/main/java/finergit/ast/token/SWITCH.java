@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SWITCH extends JavaToken {
 
+  public static final SWITCH INSTANCE = new SWITCH();
+
   public SWITCH() {
     super("switch");
   }
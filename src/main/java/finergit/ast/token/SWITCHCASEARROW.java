@@ -3,6 +3,8 @@ package finergit.ast.token;
 
 public class SWITCHCASEARROW extends JavaToken {
 
+  public static final SWITCHCASEARROW INSTANCE = new SWITCHCASEARROW();
+
   public SWITCHCASEARROW() {
     super("->");
   }
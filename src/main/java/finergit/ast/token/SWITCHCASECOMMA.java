@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class SWITCHCASECOMMA extends COMMA {
 
+  public static final SWITCHCASECOMMA INSTANCE = new SWITCHCASECOMMA();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class SYNCHRONIZED extends JavaToken {
 
+  public static final SYNCHRONIZED INSTANCE = new SYNCHRONIZED();
+
   public SYNCHRONIZED() {
     super("synchronized");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TAB extends JavaToken {
 
+  public static final TAB INSTANCE = new TAB();
+
   public TAB() {
     super("\t");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class THIS extends JavaToken {
 
+  public static final THIS INSTANCE = new THIS();
+
   public THIS() {
     super("this");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class THROW extends JavaToken {
 
+  public static final THROW INSTANCE = new THROW();
+
   public THROW() {
     super("throw");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class THROWS extends JavaToken {
 
+  public static final THROWS INSTANCE = new THROWS();
+
   public THROWS() {
     super("throws");
   }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class THROWSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final THROWSTATEMENTSEMICOLON INSTANCE = new THROWSTATEMENTSEMICOLON();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TILDA extends JavaToken {
 
+  public static final TILDA INSTANCE = new TILDA();
+
   public TILDA() {
     super("~");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TO extends JavaToken {
 
+  public static final TO INSTANCE = new TO();
+
   public TO() {
     super("to");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TRANSIENT extends JavaToken {
 
+  public static final TRANSIENT INSTANCE = new TRANSIENT();
+
   public TRANSIENT() {
     super("transient");
   }
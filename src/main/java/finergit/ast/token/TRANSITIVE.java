@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TRANSITIVE extends JavaToken {
 
+  public static final TRANSITIVE INSTANCE = new TRANSITIVE();
+
   public TRANSITIVE() {
     super("transitive");
   }
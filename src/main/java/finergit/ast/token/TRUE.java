@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TRUE extends JavaToken {
 
+  public static final TRUE INSTANCE = new TRUE();
+
   public TRUE() {
     super("true");
   }
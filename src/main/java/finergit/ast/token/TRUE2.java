@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TRUE2 extends JavaToken {
 
+  public static final TRUE2 INSTANCE = new TRUE2();
+
   public TRUE2() {
     super("True");
   }
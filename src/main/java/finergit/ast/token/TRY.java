@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TRY extends JavaToken {
 
+  public static final TRY INSTANCE = new TRY();
+
   public TRY() {
     super("try");
   }
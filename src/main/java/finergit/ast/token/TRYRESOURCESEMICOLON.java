@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class TRYRESOURCESEMICOLON extends SEMICOLON {
 
+  public static final TRYRESOURCESEMICOLON INSTANCE = new TRYRESOURCESEMICOLON();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class TYPEDECLARATIONCOMMA extends COMMA {
 
+  public static final TYPEDECLARATIONCOMMA INSTANCE = new TYPEDECLARATIONCOMMA();
 }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class TYPEDEF extends JavaToken {
 
+  public static final TYPEDEF INSTANCE = new TYPEDEF();
+
   public TYPEDEF() {
     super("typedef");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class UNION extends JavaToken {
 
+  public static final UNION INSTANCE = new UNION();
+
   public UNION() {
     super("union");
   }
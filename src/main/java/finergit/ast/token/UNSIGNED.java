@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class UNSIGNED extends JavaToken {
 
+  public static final UNSIGNED INSTANCE = new UNSIGNED();
+
   public UNSIGNED() {
     super("unsigned");
   }
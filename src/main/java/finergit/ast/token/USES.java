@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class USES extends JavaToken {
 
+  public static final USES INSTANCE = new USES();
+
   public USES() {
     super("uses");
   }
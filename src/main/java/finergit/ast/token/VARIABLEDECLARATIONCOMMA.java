@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class VARIABLEDECLARATIONCOMMA extends COMMA {
 
+  public static final VARIABLEDECLARATIONCOMMA INSTANCE = new VARIABLEDECLARATIONCOMMA();
 }
@@ -3,4 +3,5 @@ package finergit.ast.token;
 
 public class VARIABLEDECLARATIONSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final VARIABLEDECLARATIONSTATEMENTSEMICOLON INSTANCE = new VARIABLEDECLARATIONSTATEMENTSEMICOLON();
 }
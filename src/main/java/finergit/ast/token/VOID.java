@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class VOID extends JavaToken {
 
+  public static final VOID INSTANCE = new VOID();
+
   public VOID() {
     super("void");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class VOLATILE extends JavaToken {
 
+  public static final VOLATILE INSTANCE = new VOLATILE();
+
   public VOLATILE() {
     super("volatile");
   }
@@ -3,6 +3,8 @@ package finergit.ast.token;
 
 public class VariableArity extends JavaToken {
 
+  public static final VariableArity INSTANCE = new VariableArity();
+
   public VariableArity() {
     super("...");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class WHEN extends JavaToken {
 
+  public static final WHEN INSTANCE = new WHEN();
+
   public WHEN() {
     super("when");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class WHILE extends JavaToken {
 
+  public static final WHILE INSTANCE = new WHILE();
+
   public WHILE() {
     super("while");
   }
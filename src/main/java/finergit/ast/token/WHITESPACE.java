@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class WHITESPACE extends JavaToken {
 
+  public static final WHITESPACE INSTANCE = new WHITESPACE();
+
   public WHITESPACE() {
     super(" ");
   }
@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class WITH extends JavaToken {
 
+  public static final WITH INSTANCE = new WITH();
+
   public WITH() {
     super("with");
   }
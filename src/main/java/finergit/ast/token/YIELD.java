@@ -2,6 +2,8 @@ package finergit.ast.token;
 
 public class YIELD extends JavaToken {
 
+  public static final YIELD INSTANCE = new YIELD();
+
   public YIELD() {
     super("yield");
   }
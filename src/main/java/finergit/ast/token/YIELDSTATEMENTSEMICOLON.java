@@ -2,4 +2,5 @@ package finergit.ast.token;
 
 public class YIELDSTATEMENTSEMICOLON extends SEMICOLON {
 
+  public static final YIELDSTATEMENTSEMICOLON INSTANCE = new YIELDSTATEMENTSEMICOLON();
 }
@@ -0,0 +1,93 @@
+package finergit.util;
+
+import java.util.Arrays;
+
+/**
+ * 再利用可能なバイト列バッファ．文字列は中間の byte[] を作らずに UTF-8 で直接書き込まれる．
+ */
+public class ByteArrayBuilder {
+
+  private byte[] buffer;
+  private int length;
+
+  public ByteArrayBuilder() {
+    this(8192);
+  }
+
+  public ByteArrayBuilder(final int capacity) {
+    this.buffer = new byte[capacity];
+    this.length = 0;
+  }
+
+  public ByteArrayBuilder append(final byte b) {
+    this.ensureCapacity(this.length + 1);
+    this.buffer[this.length++] = b;
+    return this;
+  }
+
+  public ByteArrayBuilder append(final byte[] bytes) {
+    this.ensureCapacity(this.length + bytes.length);
+    System.arraycopy(bytes, 0, this.buffer, this.length, bytes.length);
+    this.length += bytes.length;
+    return this;
+  }
+
+  /**
+   * 文字列を UTF-8 で書き込む．対になっていないサロゲートは '?' として書き込む（String#getBytes と同じ）．
+   */
+  public ByteArrayBuilder appendUtf8(final CharSequence text) {
+    final int size = text.length();
+    this.ensureCapacity(this.length + size * 3);
+    for (int index = 0; index < size; index++) {
+      final char c = text.charAt(index);
+      if (c < 0x80) {
+        this.buffer[this.length++] = (byte) c;
+      } else if (c < 0x800) {
+        this.buffer[this.length++] = (byte) (0xc0 | (c >> 6));
+        this.buffer[this.length++] = (byte) (0x80 | (c & 0x3f));
+      } else if (Character.isSurrogate(c)) {
+        final char next = index + 1 < size ? text.charAt(index + 1) : 0;
+        if (Character.isHighSurrogate(c) && Character.isLowSurrogate(next)) {
+          final int codePoint = Character.toCodePoint(c, next);
+          this.buffer[this.length++] = (byte) (0xf0 | (codePoint >> 18));
+          this.buffer[this.length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+          this.buffer[this.length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+          this.buffer[this.length++] = (byte) (0x80 | (codePoint & 0x3f));
+          index++;
+        } else {
+          this.buffer[this.length++] = '?';
+        }
+      } else {
+        this.buffer[this.length++] = (byte) (0xe0 | (c >> 12));
+        this.buffer[this.length++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+        this.buffer[this.length++] = (byte) (0x80 | (c & 0x3f));
+      }
+    }
+    return this;
+  }
+
+  public void reset() {
+    this.length = 0;
+  }
+
+  public int length() {
+    return this.length;
+  }
+
+  /**
+   * 内部のバッファをそのまま返す．有効なのは先頭から length() バイトまで．
+   */
+  public byte[] getBuffer() {
+    return this.buffer;
+  }
+
+  public byte[] toByteArray() {
+    return Arrays.copyOf(this.buffer, this.length);
+  }
+
+  private void ensureCapacity(final int capacity) {
+    if (this.buffer.length < capacity) {
+      this.buffer = Arrays.copyOf(this.buffer, Math.max(capacity, this.buffer.length * 2));
+    }
+  }
+}
@@ -0,0 +1,120 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlobCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static ObjectId getId(final int index) {
+    return ObjectId.fromString(String.format("%040x", index));
+  }
+
+  private static List<BlobCache.Module> getModules(final int index) {
+    return List.of(new BlobCache.Module("A" + index + ".cjava", getId(100 + index)),
+        new BlobCache.Module("A" + index + "#m().mjava", getId(200 + index)));
+  }
+
+  @Test
+  public void storeAndLoadTest() throws Exception {
+    final Path directory = this.folder.getRoot()
+        .toPath();
+    final BlobCache cache = new BlobCache(directory, "fingerprint", 10);
+    cache.put(getId(1), "A1.java", getModules(1));
+    cache.put(getId(2), "A2.java", getModules(2));
+    cache.store();
+    assertThat(directory.resolve("fingerprint")).isRegularFile();
+    assertThat(directory.resolve("fingerprint.tmp")).doesNotExist();
+
+    final BlobCache loadedCache = new BlobCache(directory, "fingerprint", 10);
+    loadedCache.load();
+    assertThat(loadedCache.contains(getId(1), "A1.java")).isTrue();
+    assertThat(loadedCache.contains(getId(1), "B1.java")).isFalse();
+    assertThat(loadedCache.get(getId(1), "A1.java", id -> true)).isEqualTo(getModules(1));
+    assertThat(loadedCache.get(getId(2), "A2.java", id -> true)).isEqualTo(getModules(2));
+    assertThat(loadedCache.get(getId(3), "A3.java", id -> true)).isNull();
+    assertThat(loadedCache.getHits()).isEqualTo(2L);
+    assertThat(loadedCache.getMisses()).isEqualTo(1L);
+  }
+
+  @Test
+  public void evictionTest() throws Exception {
+    final BlobCache cache = new BlobCache(null, "fingerprint", 2);
+    cache.put(getId(1), "A1.java", getModules(1));
+    cache.put(getId(2), "A2.java", getModules(2));
+
+    // 最も長く参照されていないエントリから捨てられる
+    assertThat(cache.get(getId(1), "A1.java", id -> true)).isNotNull();
+    cache.put(getId(3), "A3.java", getModules(3));
+    assertThat(cache.contains(getId(1), "A1.java")).isTrue();
+    assertThat(cache.contains(getId(2), "A2.java")).isFalse();
+    assertThat(cache.contains(getId(3), "A3.java")).isTrue();
+  }
+
+  @Test
+  public void unavailableModulesTest() throws Exception {
+    final Path directory = this.folder.getRoot()
+        .toPath();
+    final BlobCache cache = new BlobCache(directory, "fingerprint", 10);
+    cache.put(getId(1), "A1.java", getModules(1));
+    cache.store();
+
+    // 生成された blob が出力先にないエントリは捨てられる
+    final BlobCache loadedCache = new BlobCache(directory, "fingerprint", 10);
+    loadedCache.load();
+    final ObjectId missingId = getModules(1).get(1)
+        .id();
+    assertThat(loadedCache.get(getId(1), "A1.java", id -> !missingId.equals(id))).isNull();
+    assertThat(loadedCache.contains(getId(1), "A1.java")).isFalse();
+    assertThat(loadedCache.getMisses()).isEqualTo(1L);
+
+    // この実行で加えたエントリは確認しない
+    cache.put(getId(2), "A2.java", getModules(2));
+    assertThat(cache.get(getId(2), "A2.java", id -> false)).isEqualTo(getModules(2));
+  }
+
+  @Test
+  public void fingerprintMismatchTest() throws Exception {
+    final Path directory = this.folder.getRoot()
+        .toPath();
+    final BlobCache cache = new BlobCache(directory, "fingerprint1", 10);
+    cache.put(getId(1), "A1.java", getModules(1));
+    cache.store();
+
+    // 設定が異なるキャッシュは読み込まない
+    final BlobCache otherCache = new BlobCache(directory, "fingerprint2", 10);
+    otherCache.load();
+    assertThat(otherCache.contains(getId(1), "A1.java")).isFalse();
+    assertThat(otherCache.merge(directory)).isZero();
+  }
+
+  @Test
+  public void mergeTest() throws Exception {
+    final Path shardDirectory = this.folder.newFolder()
+        .toPath();
+    final BlobCache shardCache = new BlobCache(shardDirectory, "fingerprint", 10);
+    shardCache.put(getId(1), "A1.java", getModules(1));
+    shardCache.put(getId(2), "A2.java", getModules(2));
+    shardCache.store();
+    Files.writeString(shardDirectory.resolve("fingerprint"), "broken line\n",
+        StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+    // 壊れた行は無視して，既存のエントリに加える
+    final BlobCache cache = new BlobCache(null, "fingerprint", 10);
+    cache.put(getId(3), "A3.java", getModules(3));
+    assertThat(cache.merge(shardDirectory)).isEqualTo(2);
+    assertThat(cache.get(getId(1), "A1.java", id -> true)).isEqualTo(getModules(1));
+    assertThat(cache.get(getId(2), "A2.java", id -> true)).isEqualTo(getModules(2));
+    assertThat(cache.get(getId(3), "A3.java", id -> true)).isEqualTo(getModules(3));
+  }
+}
@@ -0,0 +1,120 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlobPackWriterTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Repository createRepository() throws IOException {
+    final Repository repository =
+        FileRepositoryBuilder.create(new File(this.folder.getRoot(), ".git"));
+    repository.create();
+    return repository;
+  }
+
+  private static byte[] getContent(final int index) {
+    return ("module " + index + "\n").getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static int countPacks(final Repository repository) {
+    final File[] packs = new File(repository.getDirectory(), "objects/pack")
+        .listFiles((directory, name) -> name.endsWith(".pack"));
+    return null == packs ? 0 : packs.length;
+  }
+
+  @Test
+  public void concurrentWriteTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final BlobPackWriter writer = new BlobPackWriter(repository, Long.MAX_VALUE);
+      final ExecutorService executor = Executors.newFixedThreadPool(4);
+      final List<CompletableFuture<ObjectId>> futures = new ArrayList<>();
+      try {
+        for (int index = 0; index < 1000; index++) {
+          final byte[] content = getContent(index);
+          futures.add(CompletableFuture.supplyAsync(() -> {
+            try {
+              return writer.write(content);
+            } catch (final IOException e) {
+              throw new RuntimeException(e);
+            }
+          }, executor));
+        }
+        for (final CompletableFuture<ObjectId> future : futures) {
+          future.get();
+        }
+      } finally {
+        executor.shutdown();
+      }
+      writer.close();
+
+      // 書き込んだスレッドの数を超える pack は作られず，close() の後はすべて読める
+      assertThat(writer.getWrittenPacks()).isBetween(1, 4);
+      assertThat(countPacks(repository)).isEqualTo(writer.getWrittenPacks());
+      try (final ObjectReader reader = repository.newObjectReader()) {
+        for (int index = 0; index < futures.size(); index++) {
+          final ObjectId id = futures.get(index)
+              .get();
+          assertThat(reader.open(id, Constants.OBJ_BLOB)
+              .getBytes()).isEqualTo(getContent(index));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void rolloverTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final byte[] content = new byte[100];
+      final List<ObjectId> ids = new ArrayList<>();
+      try (final BlobPackWriter writer = new BlobPackWriter(repository, 250L)) {
+        for (int index = 0; index < 7; index++) {
+          content[0] = (byte) index;
+          ids.add(writer.write(content.clone()));
+        }
+
+        // 上限に達した pack は，close() を待たずに書き出されて読める
+        assertThat(writer.getWrittenPacks()).isEqualTo(2);
+        assertThat(repository.getObjectDatabase()
+            .has(ids.get(0))).isTrue();
+        assertThat(repository.getObjectDatabase()
+            .has(ids.get(6))).isFalse();
+      }
+      assertThat(countPacks(repository)).isEqualTo(3);
+      try (final ObjectReader reader = repository.newObjectReader()) {
+        for (int index = 0; index < ids.size(); index++) {
+          assertThat(reader.open(ids.get(index))
+              .getBytes()[0]).isEqualTo((byte) index);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void writeAfterCloseTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final BlobPackWriter writer = new BlobPackWriter(repository, Long.MAX_VALUE);
+      writer.close();
+      assertThat(writer.getWrittenPacks()).isZero();
+      assertThatThrownBy(() -> writer.write(getContent(0))).isInstanceOf(IOException.class);
+    }
+  }
+}
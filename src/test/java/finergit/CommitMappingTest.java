@@ -0,0 +1,62 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import org.eclipse.jgit.lib.ObjectId;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CommitMappingTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private static ObjectId getId(final int index) {
+    return ObjectId.fromString(String.format("%040x", index));
+  }
+
+  @Test
+  public void writeAndReadTest() throws Exception {
+    final CommitMapping commitMapping = new CommitMapping(this.folder.getRoot()
+        .toPath());
+    final Map<ObjectId, ObjectId> mapping = Map.of(getId(1), getId(11), getId(2), getId(12));
+    commitMapping.write(mapping);
+    assertThat(commitMapping.exists()).isTrue();
+    assertThat(commitMapping.read()).isEqualTo(mapping);
+
+    // 壊れた行は無視する
+    Files.writeString(commitMapping.path, "broken line\n", StandardCharsets.UTF_8,
+        StandardOpenOption.APPEND);
+    assertThat(commitMapping.read()).isEqualTo(mapping);
+  }
+
+  @Test
+  public void replaceTest() throws Exception {
+    final CommitMapping commitMapping = new CommitMapping(this.folder.getRoot()
+        .toPath());
+    commitMapping.write(Map.of(getId(1), getId(11)));
+
+    // 以前の書き出しで残った一時ファイルがあっても，一時ファイルを経由して置き換える
+    final Path tmpPath = commitMapping.path.resolveSibling(CommitMapping.FILE_NAME + ".tmp");
+    Files.writeString(tmpPath, "stale", StandardCharsets.UTF_8);
+    final Map<ObjectId, ObjectId> mapping = Map.of(getId(1), getId(21), getId(3), getId(23));
+    commitMapping.write(mapping);
+    assertThat(tmpPath).doesNotExist();
+    assertThat(commitMapping.read()).isEqualTo(mapping);
+  }
+
+  @Test
+  public void missingFileTest() throws Exception {
+    final CommitMapping commitMapping = new CommitMapping(this.folder.getRoot()
+        .toPath());
+    assertThat(commitMapping.exists()).isFalse();
+    assertThatThrownBy(commitMapping::read).isInstanceOf(NoSuchFileException.class);
+  }
+}
@@ -0,0 +1,121 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.junit.Test;
+import finergit.ast.FinerJavaFileBuilder;
+
+public class ConversionPipelineTest {
+
+  private static final ObjectId ID_A = ObjectId.fromString(String.format("%040x", 1));
+  private static final ObjectId ID_B = ObjectId.fromString(String.format("%040x", 2));
+
+  private static final Map<ObjectId, String> TEXTS = Map.of( //
+      ID_A, "class A { void a() {} }", //
+      ID_B, "class B { void b() {} }");
+
+  private final Map<ObjectId, byte[]> blobs = new ConcurrentHashMap<>();
+
+  private byte[] read(final ObjectId id) {
+    return TEXTS.get(id)
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private ObjectId write(final byte[] content) {
+    final ObjectId id = new ObjectInserter.Formatter().idFor(Constants.OBJ_BLOB, content);
+    this.blobs.put(id, content);
+    return id;
+  }
+
+  @Test
+  public void submitTest() throws Exception {
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(new FinerGitConfig());
+    final ConversionStats stats = new ConversionStats();
+    try (final ConversionPipeline pipeline = new ConversionPipeline(this::read,
+        builder::getFinerJavaModules, stats, new ModuleCache(100), 2, 10)) {
+      final CompletableFuture<List<BlobCache.Module>> futureA =
+          pipeline.submit(ID_A, "src/A.java", this::write);
+      final CompletableFuture<List<BlobCache.Module>> futureB =
+          pipeline.submit(ID_B, "src/B.java", this::write);
+
+      // 各ファイルの結果は，投入したファイルから生成されたモジュールになる
+      final List<BlobCache.Module> modulesA = futureA.join();
+      final List<BlobCache.Module> modulesB = futureB.join();
+      assertThat(modulesA).extracting(BlobCache.Module::fileName)
+          .containsExactly("A#void_a().mjava");
+      assertThat(modulesB).extracting(BlobCache.Module::fileName)
+          .containsExactly("B#void_b().mjava");
+      for (final BlobCache.Module module : modulesA) {
+        assertThat(this.blobs).containsKey(module.id());
+      }
+      final int written = this.blobs.size();
+      assertThat(stats.cachedModules.sum()).isZero();
+
+      // 同じファイル名で同じ字句列のモジュールは，書き込まずに同じ blob を再利用する
+      final List<BlobCache.Module> modulesC = pipeline.submit(ID_A, "other/A.java", this::write)
+          .join();
+      assertThat(modulesC).isEqualTo(modulesA);
+      assertThat(this.blobs).hasSize(written);
+      assertThat(stats.cachedModules.sum()).isEqualTo(modulesA.size());
+    }
+  }
+
+  @Test
+  public void notConvertedTest() throws Exception {
+    try (final ConversionPipeline pipeline = new ConversionPipeline(this::read,
+        (path, text) -> null, new ConversionStats(), new ModuleCache(100), 1, 10)) {
+      assertThat(pipeline.submit(ID_A, "A.java", this::write)
+          .join()).isNull();
+      assertThat(this.blobs).isEmpty();
+    }
+  }
+
+  @Test
+  public void parseFailureTest() throws Exception {
+    try (final ConversionPipeline pipeline = new ConversionPipeline(this::read,
+        (path, text) -> {
+          throw new ParseExecutor.ParseFailure("timed out");
+        }, new ConversionStats(), new ModuleCache(100), 1, 10)) {
+      final CompletableFuture<List<BlobCache.Module>> future =
+          pipeline.submit(ID_A, "A.java", this::write);
+      assertThatThrownBy(future::join).isInstanceOf(CompletionException.class)
+          .hasCauseInstanceOf(ParseExecutor.ParseFailure.class);
+      assertThat(this.blobs).isEmpty();
+    }
+  }
+
+  @Test
+  public void capacityTest() throws Exception {
+    final CountDownLatch release = new CountDownLatch(1);
+    try (final ConversionPipeline pipeline = new ConversionPipeline(this::read,
+        (path, text) -> {
+          release.await();
+          return null;
+        }, new ConversionStats(), new ModuleCache(100), 1, 1)) {
+      final CompletableFuture<List<BlobCache.Module>> first =
+          pipeline.submit(ID_A, "A.java", this::write);
+
+      // 処理中のファイル数が上限に達している間は，投入が待たされる
+      final CompletableFuture<CompletableFuture<List<BlobCache.Module>>> second =
+          CompletableFuture.supplyAsync(() -> pipeline.submit(ID_B, "B.java", this::write));
+      Thread.sleep(200L);
+      assertThat(second).isNotDone();
+
+      release.countDown();
+      assertThat(first.join()).isNull();
+      assertThat(second.get(10L, TimeUnit.SECONDS)
+          .join()).isNull();
+    }
+  }
+}
@@ -1,6 +1,8 @@
 package finergit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.file.Paths;
+import java.util.List;
 import java.util.Map;
 import org.eclipse.jdt.core.JavaCore;
 import org.junit.Test;
@@ -123,4 +125,30 @@ public class FinerGitConfigTest {
     config.setJavaVersion("25");
     assertThat(config.getJavaVersion()).isEqualTo(JavaVersion.V1_25);
   }
+
+  @Test
+  public void testTargetConfigs() {
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setSrcPath("src");
+    config.setDesPath("des");
+    config.setReportPath("report.json");
+    config.addShardPath("shard");
+    config.addTargetSpec("'out/with space' --token-type-included true");
+    config.addTargetSpec("\"out/typed\" --report \"typed report.json\"");
+
+    final List<FinerGitConfig> targetConfigs = config.getTargetConfigs();
+    assertThat(targetConfigs).hasSize(2);
+    final FinerGitConfig target0 = targetConfigs.get(0);
+    assertThat(target0.getDesPath()).isEqualTo(Paths.get("out/with space")
+        .toAbsolutePath());
+    assertThat(target0.isTokenTypeIncluded()).isTrue();
+
+    // 統計情報の出力先とシャードの取り込みは引き継がず，出力先ごとに指定されたもののみを使う
+    assertThat(target0.getReportPath()).isNull();
+    assertThat(target0.getShardPaths()).isEmpty();
+    final FinerGitConfig target1 = targetConfigs.get(1);
+    assertThat(target1.getReportPath()).isEqualTo(Paths.get("typed report.json")
+        .toAbsolutePath());
+    assertThat(config.getShardPaths()).hasSize(1);
+  }
 }
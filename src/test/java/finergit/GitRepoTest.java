@@ -0,0 +1,62 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class GitRepoTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void pruneRefsWithAnnotatedTagTest() throws Exception {
+    final GitRepo repo = new GitRepo(this.folder.getRoot()
+        .toPath());
+    assertThat(repo.create()).isTrue();
+    final Repository repository = repo.getRepository();
+    try (final Git git = new Git(repository)) {
+      final RevCommit commit0 = git.commit()
+          .setAllowEmpty(true)
+          .setMessage("commit0")
+          .call();
+      final RevCommit commit1 = git.commit()
+          .setAllowEmpty(true)
+          .setMessage("commit1")
+          .call();
+      final ObjectId tag = git.tag()
+          .setName("v1")
+          .setAnnotated(true)
+          .setMessage("tag")
+          .setObjectId(commit1)
+          .call()
+          .getObjectId();
+      final HeadSelection selection = HeadSelection.resolve(repository, "v1");
+      assertThat(selection.refName).isEqualTo(Constants.R_TAGS + "v1");
+
+      // タグを辿ると変換後のコミットを指している場合は，注釈付きタグのまま残す
+      assertThat(repo.pruneRefs(selection, commit1)).isTrue();
+      final Ref tagRef = repository.exactRef(Constants.R_TAGS + "v1");
+      assertThat(tagRef.getObjectId()).isEqualTo(tag);
+      assertThat(repository.exactRef(Constants.HEAD)
+          .getObjectId()).isEqualTo(commit1);
+      assertThat(repository.getRefDatabase()
+          .getRefs()).extracting(Ref::getName)
+              .containsExactlyInAnyOrder(Constants.HEAD, Constants.R_TAGS + "v1");
+
+      // 別のコミットを指している場合は，変換後のコミットに向ける
+      assertThat(repo.pruneRefs(selection, commit0)).isTrue();
+      assertThat(repository.exactRef(Constants.R_TAGS + "v1")
+          .getObjectId()).isEqualTo(commit0);
+      assertThat(repository.exactRef(Constants.HEAD)
+          .getObjectId()).isEqualTo(commit0);
+    }
+  }
+}
@@ -0,0 +1,323 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import org.eclipse.jgit.diff.DiffEntry.ChangeType;
+import org.eclipse.jgit.lib.CommitBuilder;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.FileMode;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectInserter;
+import org.eclipse.jgit.lib.PersonIdent;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.TreeFormatter;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MethodIndexTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private Repository createRepository() throws IOException {
+    final Repository repository =
+        FileRepositoryBuilder.create(new File(this.folder.getRoot(), ".git"));
+    repository.create();
+    return repository;
+  }
+
+  // ルートディレクトリに引数のファイルのみを持つコミットを作る
+  private static ObjectId commit(final Repository repository, final Map<String, String> files,
+      final ObjectId... parents) throws IOException {
+    try (final ObjectInserter inserter = repository.newObjectInserter()) {
+      final TreeFormatter tree = new TreeFormatter();
+      for (final Map.Entry<String, String> file : new TreeMap<>(files).entrySet()) {
+        tree.append(file.getKey(), FileMode.REGULAR_FILE, inserter.insert(Constants.OBJ_BLOB,
+            file.getValue()
+                .getBytes(StandardCharsets.UTF_8)));
+      }
+      final PersonIdent person = new PersonIdent("finergit", "finergit@example.com");
+      final CommitBuilder commit = new CommitBuilder();
+      commit.setTreeId(inserter.insert(tree));
+      commit.setParentIds(parents);
+      commit.setAuthor(person);
+      commit.setCommitter(person);
+      commit.setMessage("commit");
+      final ObjectId id = inserter.insert(commit);
+      inserter.flush();
+      return id;
+    }
+  }
+
+  private static void setBranch(final Repository repository, final String name,
+      final ObjectId id) throws IOException {
+    final RefUpdate update = repository.updateRef(Constants.R_HEADS + name);
+    update.setNewObjectId(id);
+    update.forceUpdate();
+  }
+
+  private Path buildIndex(final Repository repository) throws IOException {
+    final Path file = repository.getDirectory()
+        .toPath()
+        .resolve(MethodIndex.PATH);
+    MethodIndex.build(repository, file);
+    return file;
+  }
+
+  // 1行1トークンのメソッドファイルの内容を作る
+  private static String method(final String... tokens) {
+    return String.join("\n", tokens) + "\n";
+  }
+
+  private static List<ChangeType> getKinds(final List<MethodIndex.Change> changes) {
+    return changes.stream()
+        .map(MethodIndex.Change::kind)
+        .collect(Collectors.toList());
+  }
+
+  @Test
+  public void addModifyDeleteTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId commit0 = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\n}\n", //
+          "B#void_b().mjava", "void\nb\n(\n)\n{\n}\n", //
+          "Z#void_z().mjava", "void\nz\n(\n)\n{\n}\n"));
+      final ObjectId commit1 = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\nx\n(\n)\n;\n}\n", //
+          "B#void_b().mjava", "void\nb\n(\n)\n{\n}\n", //
+          "Z#void_z().mjava", "void\nz\n(\n)\n{\n}\n"), commit0);
+      final ObjectId commit2 = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\nx\n(\n)\n;\n}\n", //
+          "B#void_b().mjava", "void\nb\n(\n)\n{\n}\n"), commit1);
+      setBranch(repository, "master", commit2);
+      final Path file = this.buildIndex(repository);
+
+      // 索引の最初と最後のパスも取り出せる
+      final List<MethodIndex.Change> changesA = MethodIndex.query(file, "A#void_a().mjava");
+      assertThat(getKinds(changesA)).containsExactly(ChangeType.ADD, ChangeType.MODIFY);
+      assertThat(changesA.get(0)
+          .commit()).isEqualTo(commit0);
+      assertThat(changesA.get(1)
+          .commit()).isEqualTo(commit1);
+      assertThat(getKinds(MethodIndex.query(file, "B#void_b().mjava")))
+          .containsExactly(ChangeType.ADD);
+      final List<MethodIndex.Change> changesZ = MethodIndex.query(file, "Z#void_z().mjava");
+      assertThat(getKinds(changesZ)).containsExactly(ChangeType.ADD, ChangeType.DELETE);
+      assertThat(changesZ.get(1)
+          .commit()).isEqualTo(commit2);
+      assertThat(changesZ.get(1)
+          .blob()).isEqualTo(ObjectId.zeroId());
+
+      // 索引に含まれないパスは，前後のパスに関わらず変更を持たない
+      assertThat(MethodIndex.query(file, "0#void_a().mjava")).isEmpty();
+      assertThat(MethodIndex.query(file, "M#void_m().mjava")).isEmpty();
+      assertThat(MethodIndex.query(file, "ZZ#void_z().mjava")).isEmpty();
+    }
+  }
+
+  @Test
+  public void largeIndexTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final Map<String, String> files = new TreeMap<>();
+      for (int index = 0; index < 500; index++) {
+        files.put(String.format("Foo#void_method%04d().mjava", index),
+            "void\nmethod" + index + "\n(\n)\n{\n}\n");
+      }
+      final ObjectId commit0 = commit(repository, files);
+      files.put("Foo#void_method0000().mjava", "void\nmethod0\n(\n)\n{\nx\n;\n}\n");
+      files.put("Foo#void_method0499().mjava", "void\nmethod499\n(\n)\n{\nx\n;\n}\n");
+      final ObjectId commit1 = commit(repository, files, commit0);
+      setBranch(repository, "master", commit1);
+      final Path file = this.buildIndex(repository);
+      assertThat(Files.size(file)).isGreaterThan(8192L * 4);
+
+      // 二分探索で絞り込んだ範囲の境界にあるパスも，索引の先頭と末尾のパスも取り出せる
+      for (int index = 0; index < 500; index++) {
+        final List<MethodIndex.Change> changes =
+            MethodIndex.query(file, String.format("Foo#void_method%04d().mjava", index));
+        if (0 == index || 499 == index) {
+          assertThat(getKinds(changes)).containsExactly(ChangeType.ADD, ChangeType.MODIFY);
+        } else {
+          assertThat(getKinds(changes)).containsExactly(ChangeType.ADD);
+        }
+      }
+      assertThat(MethodIndex.query(file, "Foo#void_method0250a().mjava")).isEmpty();
+      assertThat(MethodIndex.query(file, "Zoo#void_method().mjava")).isEmpty();
+    }
+  }
+
+  @Test
+  public void mergeTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId root = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\n}\n"));
+      final ObjectId main = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\nx\n;\n}\n"), root);
+      final ObjectId side = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\n}\n", //
+          "B#void_b().mjava", "void\nb\n(\n)\n{\n}\n"), root);
+      final ObjectId merge = commit(repository, Map.of(//
+          "A#void_a().mjava", "void\na\n(\n)\n{\nx\n;\n}\n", //
+          "B#void_b().mjava", "void\nb\n(\n)\n{\ny\n;\n}\n"), main, side);
+      setBranch(repository, "master", merge);
+      final Path file = this.buildIndex(repository);
+
+      // 片方の親と同じ内容のファイルは，マージでは変更されていない
+      final List<MethodIndex.Change> changesA = MethodIndex.query(file, "A#void_a().mjava");
+      assertThat(getKinds(changesA)).containsExactly(ChangeType.ADD, ChangeType.MODIFY);
+      assertThat(changesA.get(1)
+          .commit()).isEqualTo(main);
+
+      // 最初の親にはないが別の親にあるファイルを変えたマージは，追加ではなく変更とする
+      final List<MethodIndex.Change> changesB = MethodIndex.query(file, "B#void_b().mjava");
+      assertThat(getKinds(changesB)).containsExactly(ChangeType.ADD, ChangeType.MODIFY);
+      assertThat(changesB.get(0)
+          .commit()).isEqualTo(side);
+      assertThat(changesB.get(1)
+          .commit()).isEqualTo(merge);
+    }
+  }
+
+  @Test
+  public void renameTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId commit0 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("void", "a", "(", ")", "{", "x", "(", ")", ";", "}"), //
+          "A#void_m().mjava", method("void", "m", "(", ")", "{", "y", "(", ")", ";", "}")));
+      final ObjectId commit1 = commit(repository, Map.of(//
+          "A#void_b().mjava", method("void", "b", "(", ")", "{", "x", "(", ")", ";", "}"), //
+          "B#void_m().mjava", method("void", "m", "(", ")", "{", "y", "(", ")", ";", "}")),
+          commit0);
+      setBranch(repository, "master", commit1);
+      final Path file = this.buildIndex(repository);
+
+      // 本体が同じメソッドの名前の変更と，別のクラスへの移動
+      final List<MethodIndex.Change> changesB = MethodIndex.query(file, "A#void_b().mjava");
+      assertThat(getKinds(changesB)).containsExactly(ChangeType.RENAME);
+      assertThat(changesB.get(0)
+          .source()).isEqualTo("A#void_a().mjava");
+      final List<MethodIndex.Change> changesM = MethodIndex.query(file, "B#void_m().mjava");
+      assertThat(getKinds(changesM)).containsExactly(ChangeType.RENAME);
+      assertThat(changesM.get(0)
+          .source()).isEqualTo("A#void_m().mjava");
+      assertThat(getKinds(MethodIndex.query(file, "A#void_a().mjava")))
+          .containsExactly(ChangeType.ADD, ChangeType.DELETE);
+    }
+  }
+
+  @Test
+  public void ambiguousRenameTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId commit0 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("void", "a", "(", ")", "{", "}"), //
+          "A#void_b().mjava", method("void", "b", "(", ")", "{", "}"), //
+          "A#void_x().mjava", method("void", "x", "(", ")", "{", "z", ";", "}")));
+      final ObjectId commit1 = commit(repository, Map.of(//
+          "A#void_c().mjava", method("void", "c", "(", ")", "{", "}"), //
+          "A#void_d().mjava", method("void", "d", "(", ")", "{", "}"), //
+          "A#void_y().mjava", method("void", "y", "(", ")", "{", "z", ";", "}"), //
+          "B#void_y().mjava", method("void", "y", "(", ")", "{", "z", ";", "}")), commit0);
+      setBranch(repository, "master", commit1);
+      final Path file = this.buildIndex(repository);
+
+      // 同じトークン列のファイルが削除側か追加側に複数ある場合は，どれとも対応付けない
+      for (final String path : List.of("A#void_c().mjava", "A#void_d().mjava",
+          "A#void_y().mjava", "B#void_y().mjava")) {
+        assertThat(getKinds(MethodIndex.query(file, path))).containsExactly(ChangeType.ADD);
+      }
+    }
+  }
+
+  @Test
+  public void renameWithAnnotationTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId commit0 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("@", "Deprecated", "(", "since", "=", "\"1\"", ")", "void",
+              "a", "(", ")", "{", "}"), //
+          "A#void_b().mjava", method("@", "SuppressWarnings", "(", "\"x\"", ")", "void", "b",
+              "(", ")", "{", "}")));
+      final ObjectId commit1 = commit(repository, Map.of(//
+          "A#void_c().mjava", method("@", "Deprecated", "(", "since", "=", "\"1\"", ")", "void",
+              "c", "(", ")", "{", "}"), //
+          "A#void_d().mjava", method("@", "SuppressWarnings", "(", "\"y\"", ")", "void", "d",
+              "(", ")", "{", "}")), commit0);
+      setBranch(repository, "master", commit1);
+      final Path file = this.buildIndex(repository);
+
+      // アノテーションの引数の括弧はメソッド名の目印にせず，引数が異なるメソッドは対応付けない
+      final List<MethodIndex.Change> changesC = MethodIndex.query(file, "A#void_c().mjava");
+      assertThat(getKinds(changesC)).containsExactly(ChangeType.RENAME);
+      assertThat(changesC.get(0)
+          .source()).isEqualTo("A#void_a().mjava");
+      assertThat(getKinds(MethodIndex.query(file, "A#void_d().mjava")))
+          .containsExactly(ChangeType.ADD);
+    }
+  }
+
+  @Test
+  public void renameWithTokenTypeTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId commit0 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("void\tVOID", "a\tMETHODNAME", "(\tLEFTMETHODPAREN",
+              ")\tRIGHTMETHODPAREN", "{\tLEFTMETHODBRACKET", "}\tRIGHTMETHODBRACKET")));
+      final ObjectId commit1 = commit(repository, Map.of(//
+          "A#void_b().mjava", method("void\tVOID", "b\tMETHODNAME", "(\tLEFTMETHODPAREN",
+              ")\tRIGHTMETHODPAREN", "{\tLEFTMETHODBRACKET", "}\tRIGHTMETHODBRACKET")),
+          commit0);
+      setBranch(repository, "master", commit1);
+      final Path file = this.buildIndex(repository);
+
+      // "--token-type-included" の出力でも，トークンの種類を除いて対応付ける
+      final List<MethodIndex.Change> changes = MethodIndex.query(file, "A#void_b().mjava");
+      assertThat(getKinds(changes)).containsExactly(ChangeType.RENAME);
+      assertThat(changes.get(0)
+          .source()).isEqualTo("A#void_a().mjava");
+    }
+  }
+
+  @Test
+  public void followingRenamesTest() throws Exception {
+    try (final Repository repository = this.createRepository()) {
+      final ObjectId commit0 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("void", "a", "(", ")", "{", "}")));
+      final ObjectId commit1 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("void", "a", "(", ")", "{", "x", ";", "}")), commit0);
+      final ObjectId commit2 = commit(repository, Map.of(//
+          "A#void_b().mjava", method("void", "b", "(", ")", "{", "x", ";", "}")), commit1);
+      final ObjectId commit3 = commit(repository, Map.of(//
+          "B#void_b().mjava", method("void", "b", "(", ")", "{", "x", ";", "}")), commit2);
+      final ObjectId commit4 = commit(repository, Map.of(//
+          "A#void_a().mjava", method("void", "a", "(", ")", "{", "}"), //
+          "B#void_b().mjava", method("void", "b", "(", ")", "{", "y", ";", "}")), commit3);
+      setBranch(repository, "master", commit4);
+      final Path file = this.buildIndex(repository);
+
+      // 2回の名前の変更と移動を遡り，名前の変更後に同じパスに追加された別のメソッドは含めない
+      final List<MethodIndex.Change> changes =
+          MethodIndex.queryFollowingRenames(file, "B#void_b().mjava");
+      assertThat(getKinds(changes)).containsExactly(ChangeType.ADD, ChangeType.MODIFY,
+          ChangeType.RENAME, ChangeType.RENAME, ChangeType.MODIFY);
+      assertThat(changes.stream()
+          .map(MethodIndex.Change::commit)
+          .collect(Collectors.toList())).containsExactly(commit0, commit1, commit2, commit3,
+              commit4);
+      assertThat(changes.stream()
+          .map(MethodIndex.Change::path)
+          .collect(Collectors.toList())).containsExactly("A#void_a().mjava",
+              "A#void_a().mjava", "A#void_b().mjava", "B#void_b().mjava", "B#void_b().mjava");
+      assertThat(getKinds(MethodIndex.query(file, "B#void_b().mjava")))
+          .containsExactly(ChangeType.RENAME, ChangeType.MODIFY);
+    }
+  }
+}
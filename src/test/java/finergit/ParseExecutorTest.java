@@ -0,0 +1,102 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public class ParseExecutorTest {
+
+  @Test
+  public void callTest() throws Exception {
+    try (final ParseExecutor executor = new ParseExecutor(1)) {
+      assertThat(executor.call(() -> "parsed", 1000L)).isEqualTo("parsed");
+      assertThat(executor.call(() -> "parsed", 0L)).isEqualTo("parsed");
+      assertThatThrownBy(() -> executor.call(() -> {
+        throw new StackOverflowError();
+      }, 1000L)).isInstanceOf(ParseExecutor.ParseFailure.class)
+          .hasMessageContaining("StackOverflowError");
+    }
+  }
+
+  @Test
+  public void timeoutTest() throws Exception {
+    try (final ParseExecutor executor = new ParseExecutor(1)) {
+      final CountDownLatch release = new CountDownLatch(1);
+      assertThatThrownBy(() -> executor.call(() -> {
+        release.await();
+        return "parsed";
+      }, 100L)).isInstanceOf(ParseExecutor.ParseFailure.class)
+          .hasMessageContaining("timed out");
+
+      // 放棄した変換が終わるまではスレッドが1つ追加され，他の変換は待たされない
+      assertThat(executor.getPoolSize()).isEqualTo(2);
+      assertThat(executor.call(() -> "next", 1000L)).isEqualTo("next");
+
+      release.countDown();
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+      while (1 != executor.getPoolSize() && System.nanoTime() < deadline) {
+        Thread.sleep(10L);
+      }
+      assertThat(executor.getPoolSize()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void waitingInQueueIsNotTimedTest() throws Exception {
+    try (final ParseExecutor executor = new ParseExecutor(1)) {
+      final CountDownLatch running = new CountDownLatch(1);
+      final CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> {
+        try {
+          return executor.call(() -> {
+            running.countDown();
+            Thread.sleep(500L);
+            return "first";
+          }, 5000L);
+        } catch (final ParseExecutor.ParseFailure e) {
+          return e.getMessage();
+        }
+      });
+      running.await();
+
+      // 唯一のスレッドが塞がっている間は待ち行列で待つが，その時間は上限に数えない
+      assertThat(executor.call(() -> "second", 100L)).isEqualTo("second");
+      assertThat(first.get()).isEqualTo("first");
+      assertThat(executor.getPoolSize()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void closeTest() throws Exception {
+    final ParseExecutor executor = new ParseExecutor(1);
+    final CountDownLatch running = new CountDownLatch(1);
+    final CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture.runAsync(() -> {
+      try {
+        executor.call(() -> {
+          running.countDown();
+          release.await();
+          return null;
+        }, 0L);
+      } catch (final ParseExecutor.ParseFailure e) {
+        // 終了時の割り込みによる失敗は無視する
+      }
+    });
+    running.await();
+    final CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> {
+      try {
+        return executor.call(() -> "queued", 100L);
+      } catch (final ParseExecutor.ParseFailure e) {
+        return e.getMessage();
+      }
+    });
+    Thread.sleep(100L);
+
+    // 未着手のまま終了した変換は，待ち続けずに失敗する
+    executor.close();
+    assertThat(queued.get(10L, TimeUnit.SECONDS)).contains("closed");
+    release.countDown();
+  }
+}
@@ -0,0 +1,68 @@
+package finergit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.Test;
+
+public class PathFilterTest {
+
+  @Test
+  public void emptyFilterAcceptsAll() {
+    final PathFilter filter = new PathFilter();
+    assertThat(filter.isEmpty()).isTrue();
+    assertThat(filter.accepts("src/main/java/Foo.java")).isTrue();
+    assertThat(filter.acceptsDirectory("src/main")).isTrue();
+  }
+
+  @Test
+  public void includeTest() {
+    final PathFilter filter =
+        new PathFilter(Arrays.asList("src/main/**"), Collections.emptyList());
+    assertThat(filter.accepts("src/main/java/Foo.java")).isTrue();
+    assertThat(filter.accepts("/src/main/Foo.java")).isTrue();
+    assertThat(filter.accepts("src/test/java/FooTest.java")).isFalse();
+    assertThat(filter.accepts("Foo.java")).isFalse();
+
+    assertThat(filter.acceptsDirectory("src")).isTrue();
+    assertThat(filter.acceptsDirectory("src/main/java")).isTrue();
+    assertThat(filter.acceptsDirectory("src/test")).isFalse();
+    assertThat(filter.acceptsDirectory("docs")).isFalse();
+  }
+
+  @Test
+  public void excludeTest() {
+    final PathFilter filter = new PathFilter(Collections.emptyList(),
+        Arrays.asList("**/generated/**", "**/*Test.java", "vendor"));
+    assertThat(filter.accepts("src/Foo.java")).isTrue();
+    assertThat(filter.accepts("src/generated/Foo.java")).isFalse();
+    assertThat(filter.accepts("generated/Foo.java")).isFalse();
+    assertThat(filter.accepts("src/FooTest.java")).isFalse();
+    assertThat(filter.accepts("FooTest.java")).isFalse();
+
+    assertThat(filter.acceptsDirectory("src")).isTrue();
+    assertThat(filter.acceptsDirectory("src/generated")).isFalse();
+    assertThat(filter.acceptsDirectory("generated")).isFalse();
+    assertThat(filter.acceptsDirectory("vendor")).isFalse();
+    assertThat(filter.acceptsDirectory("src/vendor")).isTrue();
+  }
+
+  @Test
+  public void globSyntaxTest() {
+    assertThat(PathFilter.toPattern("*.java")
+        .matcher("Foo.java")
+        .matches()).isTrue();
+    assertThat(PathFilter.toPattern("*.java")
+        .matcher("a/Foo.java")
+        .matches()).isFalse();
+    assertThat(PathFilter.toPattern("Fo?.{java,kt}")
+        .matcher("Foo.kt")
+        .matches()).isTrue();
+    assertThat(PathFilter.toPattern("[!A]*.java")
+        .matcher("Abc.java")
+        .matches()).isFalse();
+    assertThat(PathFilter.toPattern("a.b")
+        .matcher("axb")
+        .matches()).isFalse();
+  }
+}
@@ -1,6 +1,7 @@
 package finergit.ast;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -9,6 +10,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.junit.Test;
 import finergit.FinerGitConfig;
+import finergit.util.ByteArrayBuilder;
 
 public class FinerJavaFileBuilderTest {
 
@@ -569,4 +571,171 @@ public class FinerJavaFileBuilderTest {
     assertThat(moduleNames).containsExactlyInAnyOrder("EscapeRout.cjava",
         "EscapeRout#public_void_main(String[]).mjava");
   }
+
+  @Test
+  public void writeToTest01() throws Exception {
+    final Path targetPath = Paths.get("src/test/resources/finergit/ast/token/Literal.java");
+    final String text = String.join(System.lineSeparator(), Files.readAllLines(targetPath));
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setClassFileGenerated("true");
+    config.setTokenTypeIncluded("true");
+    config.setMethodTokenIncluded("false");
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(config);
+    final List<FinerJavaModule> modules = builder.getFinerJavaModules(targetPath.toString(), text);
+
+    assertThat(modules).isNotEmpty();
+    for (final FinerJavaModule module : modules) {
+      final String expected =
+          String.join(System.lineSeparator(), module.getLines()) + System.lineSeparator();
+      final ByteArrayBuilder buffer = new ByteArrayBuilder(1);
+      module.writeTo(buffer);
+      assertThat(buffer.toByteArray()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  public void recoverSyntaxErrorsTest01() throws Exception {
+    final String text = "class Broken {" + System.lineSeparator() + //
+        "  void method01() { int a = 1; }" + System.lineSeparator() + //
+        "  void method02() { int b = ; }" + System.lineSeparator() + //
+        "  void method03() { int c = 3; }" + System.lineSeparator() + //
+        "}";
+
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(new FinerGitConfig());
+    assertThat(builder.getFinerJavaModules("Broken.java", text)).isEmpty();
+
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setSyntaxErrorRecovered("true");
+    final FinerJavaFileBuilder recoveringBuilder = new FinerJavaFileBuilder(config);
+    final Set<String> moduleNames = recoveringBuilder.getFinerJavaModules("Broken.java", text)
+        .stream()
+        .map(m -> m.getFileName())
+        .collect(Collectors.toSet());
+    assertThat(moduleNames).containsExactlyInAnyOrder("Broken#void_method01().mjava",
+        "Broken#void_method03().mjava");
+  }
+
+  @Test
+  public void recoverSyntaxErrorsTest02() throws Exception {
+    // メソッドの外に構文エラーがある場合は復元しない
+    final String text = "class Broken {" + System.lineSeparator() + //
+        "  int field = ;" + System.lineSeparator() + //
+        "  void method01() { int a = 1; }" + System.lineSeparator() + //
+        "}";
+
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setSyntaxErrorRecovered("true");
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(config);
+    assertThat(builder.getFinerJavaModules("Broken.java", text)).isEmpty();
+  }
+
+  @Test
+  public void multipleTargetsTest01() throws Exception {
+    // 構文解析を共有して生成したモジュールは，設定ごとに別々に生成したものと同じになる
+    final String text = "class Target {" + System.lineSeparator() + //
+        "  int field01 = 1;" + System.lineSeparator() + //
+        "  void method01() { int a = field01; }" + System.lineSeparator() + //
+        "}";
+
+    final FinerGitConfig typedConfig = new FinerGitConfig();
+    typedConfig.setTokenTypeIncluded("true");
+    final FinerGitConfig untokenizedConfig = new FinerGitConfig();
+    untokenizedConfig.setTokenized("false");
+    final FinerGitConfig classConfig = new FinerGitConfig();
+    classConfig.setClassFileGenerated("true");
+    final List<FinerGitConfig> configs =
+        List.of(new FinerGitConfig(), typedConfig, untokenizedConfig, classConfig);
+
+    final List<List<FinerJavaModule>> sharedModules =
+        new FinerJavaFileBuilder(configs.get(0)).getFinerJavaModules("Target.java", text,
+            configs);
+    assertThat(sharedModules).hasSize(configs.size());
+    for (int index = 0; index < configs.size(); index++) {
+      final FinerGitConfig config = configs.get(index);
+      final List<FinerJavaModule> modules =
+          new FinerJavaFileBuilder(config).getFinerJavaModules("Target.java", text);
+      assertThat(sharedModules.get(index)).hasSameSizeAs(modules);
+      for (int m = 0; m < modules.size(); m++) {
+        final ByteArrayBuilder expected = new ByteArrayBuilder();
+        modules.get(m)
+            .writeTo(expected);
+        final ByteArrayBuilder actual = new ByteArrayBuilder();
+        sharedModules.get(index)
+            .get(m)
+            .writeTo(actual, config);
+        assertThat(sharedModules.get(index)
+            .get(m)
+            .getFileName(config)).isEqualTo(modules.get(m)
+                .getFileName());
+        assertThat(actual.toByteArray()).isEqualTo(expected.toByteArray());
+      }
+    }
+  }
+
+  @Test
+  public void tokenHashTest01() throws Exception {
+    final String text0 = "class A { void a() { x(); } void b() { y(); } }";
+    final String text1 = "class A { void a() { x(); } void b() { y(); z(); } }";
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(new FinerGitConfig());
+    final List<FinerJavaModule> modules0 = builder.getFinerJavaModules("A.java", text0);
+    final List<FinerJavaModule> modules1 = builder.getFinerJavaModules("A.java", text1);
+
+    // 字句列が同じモジュールのみハッシュ値が一致する
+    for (int index = 0; index < modules0.size(); index++) {
+      final FinerJavaModule module0 = modules0.get(index);
+      final FinerJavaModule module1 = modules1.get(index);
+      final boolean isSameTokens = module0.getLines()
+          .equals(module1.getLines());
+      assertThat(module0.getTokenHash()
+          .equals(module1.getTokenHash())).isEqualTo(isSameTokens);
+    }
+    assertThat(modules0.stream()
+        .filter(m -> m.name.equals("void_a()"))
+        .findFirst()
+        .get()
+        .getTokenHash()).isEqualTo(modules1.stream()
+            .filter(m -> m.name.equals("void_a()"))
+            .findFirst()
+            .get()
+            .getTokenHash());
+
+    // ダミーのモジュールから字句とともに移したハッシュ値は，字句を1つずつ加えた場合と一致する
+    for (final FinerJavaModule module : modules0) {
+      final FinerJavaModule copy = new FinerJavaMethod(module.name, null, new FinerGitConfig());
+      module.getTokens()
+          .forEach(copy::addToken);
+      assertThat(copy.getTokenHash()).isEqualTo(module.getTokenHash());
+    }
+  }
+
+  @Test
+  public void getUnparsedModulesTest01() throws Exception {
+    final String text = "class A {\r\n  void a() {\n    x(;\n  }\n}";
+    final FinerGitConfig config = new FinerGitConfig();
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(config);
+    final List<FinerJavaModule> modules = builder.getUnparsedModules("src/pkg/A.java", text);
+
+    // 構文エラーがあっても，元のファイルの各行をそのまま持つ1つのファイルモジュールになる
+    assertThat(modules).hasSize(1);
+    final FinerJavaModule module = modules.get(0);
+    assertThat(module.getFileName()).isEqualTo("A.pjava");
+    assertThat(module.getDirectory()).isEqualTo(Paths.get("src/pkg"));
+    assertThat(module.getLines()).containsExactly("class A {", "  void a() {", "    x(;", "  }",
+        "}");
+  }
+
+  @Test
+  public void getUnparsedModulesTest02() throws Exception {
+    final String text = "class A {\n\n}\n\n\n";
+    final FinerGitConfig config = new FinerGitConfig();
+    final FinerJavaFileBuilder builder = new FinerJavaFileBuilder(config);
+    final List<FinerJavaModule> modules = builder.getUnparsedModules("A.java", text);
+
+    // 末尾の空行も含めて各行が残り，最後の改行の後には行を作らない
+    assertThat(modules.get(0)
+        .getLines()).containsExactly("class A {", "", "}", "", "");
+    assertThat(builder.getUnparsedModules("A.java", "")
+        .get(0)
+        .getLines()).isEmpty();
+  }
 }
@@ -0,0 +1,64 @@
+package finergit.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import org.junit.Test;
+import finergit.FinerGitConfig;
+
+public class OversizeGuardTest {
+
+  @Test
+  public void isEnabledTest() {
+    final FinerGitConfig config = new FinerGitConfig();
+    assertThat(new OversizeGuard(config).isEnabled()).isFalse();
+    config.setMaxTokens(10);
+    assertThat(new OversizeGuard(config).isEnabled()).isTrue();
+  }
+
+  @Test
+  public void checkSizeTest() {
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setMaxFileSize(100L);
+    final OversizeGuard guard = new OversizeGuard(config);
+    assertThat(guard.checkSize(100L)).isNull();
+    assertThat(guard.checkSize(101L)).isEqualTo("101 bytes > 100");
+  }
+
+  @Test
+  public void checkTokensTest() {
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setMaxTokens(7);
+    final OversizeGuard guard = new OversizeGuard(config);
+
+    // 空白とコメントは字句に数えない
+    assertThat(guard.checkText("class A { /* comment */ int a ; }")).isNull();
+    assertThat(guard.checkText("class A { int a ; int b ; }")).isEqualTo("tokens > 7");
+  }
+
+  @Test
+  public void checkNestingDepthTest() {
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setMaxNestingDepth(3);
+    final OversizeGuard guard = new OversizeGuard(config);
+
+    // 閉じた括弧の分だけ浅くなるため，兄弟の括弧は深さを増やさない
+    assertThat(guard.checkText("class A { void a() { } void b() { x[0] = 1; } }")).isNull();
+    assertThat(guard.checkText("class A { void a() { x(y(1)); } }"))
+        .isEqualTo("nesting depth > 3");
+    assertThat(guard.checkText("class A { int[] a = { { { 1 } } }; }"))
+        .isEqualTo("nesting depth > 3");
+  }
+
+  @Test
+  public void lexerFailureTest() {
+    final FinerGitConfig config = new FinerGitConfig();
+    config.setMaxTokens(5);
+    final OversizeGuard guard = new OversizeGuard(config);
+
+    // 字句解析に失敗した場合は，構文解析での判断に任せるために上限を超えたとはしない
+    assertThat(guard.checkText("class A { \"unterminated\n; int a ; }")).isNull();
+
+    // 失敗する前に上限を超えた場合は，上限を超えたとする
+    assertThat(guard.checkText("class A { int a ; String s = \"unterminated\n; }"))
+        .isEqualTo("tokens > 5");
+  }
+}